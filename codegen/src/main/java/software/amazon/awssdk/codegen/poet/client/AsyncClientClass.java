@@ -311,13 +311,18 @@ public final class AsyncClientClass extends AsyncClientInterface {
 
     @Override
     protected void addCloseMethod(TypeSpec.Builder type) {
-        MethodSpec method = MethodSpec.methodBuilder("close")
-                                      .addAnnotation(Override.class)
-                                      .addModifiers(PUBLIC)
-                                      .addStatement("$N.close()", "clientHandler")
-                                      .build();
+        MethodSpec.Builder method = MethodSpec.methodBuilder("close")
+                                              .addAnnotation(Override.class)
+                                              .addModifiers(PUBLIC);
+
+        if (model.getEndpointOperation().isPresent()) {
+            // Cancel the endpoint refreshes scheduled on the scheduler shared by all clients
+            method.beginControlFlow("if (endpointDiscoveryCache != null)")
+                  .addStatement("endpointDiscoveryCache.close()")
+                  .endControlFlow();
+        }
 
-        type.addMethod(method);
+        type.addMethod(method.addStatement("$N.close()", "clientHandler").build());
     }
 
     @Override
@@ -371,13 +371,18 @@ public class SyncClientClass extends SyncClientInterface {
 
     @Override
     protected void addCloseMethod(TypeSpec.Builder type) {
-        MethodSpec method = MethodSpec.methodBuilder("close")
-                                      .addAnnotation(Override.class)
-                                      .addModifiers(PUBLIC)
-                                      .addStatement("$N.close()", "clientHandler")
-                                      .build();
+        MethodSpec.Builder method = MethodSpec.methodBuilder("close")
+                                              .addAnnotation(Override.class)
+                                              .addModifiers(PUBLIC);
 
-        type.addMethod(method);
+        if (model.getEndpointOperation().isPresent()) {
+            // Cancel the endpoint refreshes scheduled on the scheduler shared by all clients
+            method.beginControlFlow("if (endpointDiscoveryCache != null)")
+                  .addStatement("endpointDiscoveryCache.close()")
+                  .endControlFlow();
+        }
+
+        type.addMethod(method.addStatement("$N.close()", "clientHandler").build());
     }
 
     @Override
@@ -590,6 +590,9 @@ final class DefaultEndpointDiscoveryTestAsyncClient implements EndpointDiscovery
 
     @Override
     public void close() {
+        if (endpointDiscoveryCache != null) {
+            endpointDiscoveryCache.close();
+        }
         clientHandler.close();
     }
 }
@@ -521,6 +521,9 @@ final class DefaultEndpointDiscoveryTestClient implements EndpointDiscoveryTestC
 
     @Override
     public void close() {
+        if (endpointDiscoveryCache != null) {
+            endpointDiscoveryCache.close();
+        }
         clientHandler.close();
     }
 }
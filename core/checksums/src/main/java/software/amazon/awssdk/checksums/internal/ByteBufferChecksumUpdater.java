@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Updates a {@link Checksum} with the content of a {@link ByteBuffer} without copying it when possible.
+ *
+ * <p>Buffers backed by an accessible array are passed to {@link Checksum#update(byte[], int, int)}. Other buffers, such as
+ * direct buffers, are passed to {@code Checksum.update(ByteBuffer)} on Java 9 and above. There, {@link java.util.zip.CRC32} and
+ * {@code java.util.zip.CRC32C} compute the CRC directly from native memory using the JDK intrinsics, and
+ * {@link SdkCrc64NvmeChecksum} reads it in place. On Java 8 the content is copied to the heap in blocks.
+ */
+@SdkInternalApi
+final class ByteBufferChecksumUpdater {
+    private static final int COPY_BLOCK_SIZE = 8 * 1024;
+
+    private static final MethodHandle JDK_UPDATE = findJdkUpdate();
+
+    private ByteBufferChecksumUpdater() {
+    }
+
+    /**
+     * Updates the checksum with the remaining bytes of the buffer, and moves its position to its limit.
+     */
+    static void update(Checksum checksum, ByteBuffer buffer) {
+        int pos = buffer.position();
+        int limit = buffer.limit();
+        if (pos >= limit) {
+            return;
+        }
+
+        if (buffer.hasArray()) {
+            checksum.update(buffer.array(), buffer.arrayOffset() + pos, limit - pos);
+            buffer.position(limit);
+        } else if (JDK_UPDATE != null) {
+            invokeJdkUpdate(checksum, buffer);
+        } else if (checksum instanceof SdkCrc64NvmeChecksum) {
+            ((SdkCrc64NvmeChecksum) checksum).update(buffer);
+        } else {
+            byte[] block = new byte[Math.min(limit - pos, COPY_BLOCK_SIZE)];
+            while (buffer.hasRemaining()) {
+                int length = Math.min(buffer.remaining(), block.length);
+                buffer.get(block, 0, length);
+                checksum.update(block, 0, length);
+            }
+        }
+    }
+
+    private static void invokeJdkUpdate(Checksum checksum, ByteBuffer buffer) {
+        try {
+            JDK_UPDATE.invokeExact(checksum, buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to update checksum", t);
+        }
+    }
+
+    private static MethodHandle findJdkUpdate() {
+        try {
+            return MethodHandles.publicLookup()
+                                .findVirtual(Checksum.class, "update", MethodType.methodType(void.class, ByteBuffer.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
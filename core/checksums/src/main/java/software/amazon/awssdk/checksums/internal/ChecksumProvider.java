@@ -35,7 +35,8 @@ import software.amazon.awssdk.utils.Lazy;
  *     <li>SDK-based CRC32C (fallback)</li>
  * </ul>
  *
- * <p>Supports CRT-based implementations for CRC64NVME and XXHASH algorithms (using AWS CRT library).</p>
+ * <p>Supports CRT-based implementations for CRC64NVME (with an SDK-based fallback) and XXHASH algorithms (using AWS CRT
+ * library).</p>
  *
  * <p>For internal use only ({@link SdkInternalApi}).</p>
  */
@@ -104,25 +105,25 @@ public final class ChecksumProvider {
     }
 
     /**
-     * Creates an instance of the CRT-based CRC64NVME checksum using AWS's CRT library.
-     * <p>
-     * Attempts to load the `CRC64NVME` implementation specified by `CRT_CRC64NVME_PATH` and, if successful,
-     * wraps it in {@link CrcCloneOnMarkChecksum}. Throws a {@link RuntimeException} if `CRC64NVME` is unavailable.
-     * </p>
+     * Creates a CRC64NVME checksum. Uses the CRT-based implementation if the AWS CRT library is on the classpath, and the
+     * SDK-based implementation otherwise.
      *
      * @return An {@link SdkChecksum} instance for CRC64NVME.
-     * @throws IllegalStateException if instantiation fails.
-     * @throws RuntimeException if the `CRC64NVME` implementation is not available.
      */
-    static SdkChecksum crc64NvmeCrtImplementation() {
-
-        if (!isCrc64NvmeAvailable.getValue()) {
-            throw new RuntimeException(
-                "Could not load " + CRT_CRC64NVME_PATH + ". Add dependency on '" + CRT_MODULE
-                + "' module to enable CRC64NVME feature.");
+    static SdkChecksum crc64NvmeImplementation() {
+        if (isCrc64NvmeAvailable.getValue()) {
+            return new CrcCloneOnMarkChecksum(new CRC64NVME());
         }
+        return createSdkBasedCrc64Nvme();
+    }
 
-        return new CrcCloneOnMarkChecksum(new CRC64NVME());
+    /**
+     * Creates an instance of the SDK-based CRC64NVME checksum.
+     *
+     * @return An SdkChecksum instance.
+     */
+    static SdkChecksum createSdkBasedCrc64Nvme() {
+        return new CrcCloneOnMarkChecksum(SdkCrc64NvmeChecksum.create());
     }
 
     /**
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.checksums.internal;
 
 
+import java.nio.ByteBuffer;
 import java.util.zip.CRC32;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.checksums.SdkChecksum;
@@ -52,6 +53,11 @@ public final class Crc32Checksum implements SdkChecksum {
         crc32.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        crc32.update(buffer);
+    }
+
     @Override
     public long getValue() {
         return crc32.getValue();
@@ -17,6 +17,7 @@ package software.amazon.awssdk.checksums.internal;
 
 import static software.amazon.awssdk.utils.NumericUtils.longToByte;
 
+import java.nio.ByteBuffer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.checksums.SdkChecksum;
 
@@ -29,7 +30,11 @@ public final class Crc64NvmeChecksum implements SdkChecksum {
     private final SdkChecksum sdkChecksum;
 
     public Crc64NvmeChecksum() {
-        this.sdkChecksum = ChecksumProvider.crc64NvmeCrtImplementation();
+        this(ChecksumProvider.crc64NvmeImplementation());
+    }
+
+    Crc64NvmeChecksum(SdkChecksum sdkChecksum) {
+        this.sdkChecksum = sdkChecksum;
     }
 
     @Override
@@ -52,6 +57,11 @@ public final class Crc64NvmeChecksum implements SdkChecksum {
         this.sdkChecksum.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        this.sdkChecksum.update(buffer);
+    }
+
     @Override
     public long getValue() {
         return sdkChecksum.getValue();
@@ -32,17 +32,35 @@ public final class CrcCombineChecksumUtil {
 
     public static final int CRC_SIZE = 32;
 
+    /**
+     * Matrix {@code i} applies {@code 2^i} zero bits to a CRC. The first three are only used to derive the others, so 64
+     * matrices cover any data length up to {@code 2^61} bytes.
+     */
+    private static final int MATRIX_COUNT = 64;
+
     private CrcCombineChecksumUtil() {
     }
 
     /**
-     * Generates the combine matrices for CRC calculations.
+     * Generates the combine matrices for 32-bit CRC calculations.
      *
      * @param polynomial The CRC polynomial.
      * @return A 2D array representing the combine matrices.
      */
     public static long[][] generateCombineMatrices(long polynomial) {
-        long[][] combineMatrices = new long[CRC_SIZE][CRC_SIZE];
+        return generateCombineMatrices(polynomial, CRC_SIZE);
+    }
+
+    /**
+     * Generates the combine matrices for CRC calculations.
+     *
+     * @param polynomial The reflected CRC polynomial.
+     * @param crcSize The width of the CRC in bits, e.g. 32 for CRC32C or 64 for CRC64NVME.
+     * @return A 2D array representing the combine matrices.
+     */
+    public static long[][] generateCombineMatrices(long polynomial, int crcSize) {
+        Validate.isTrue(crcSize > 0 && crcSize <= Long.SIZE, "crcSize must be between 1 and 64");
+        long[][] combineMatrices = new long[MATRIX_COUNT][crcSize];
         initializeFirstMatrix(combineMatrices, polynomial);
         deriveRemainingMatrices(combineMatrices);
         return combineMatrices;
@@ -103,7 +121,7 @@ public final class CrcCombineChecksumUtil {
             if ((vector & 1) != 0) {
                 sum ^= l;
             }
-            vector >>= 1;
+            vector >>>= 1;
         }
         return sum;
     }
@@ -111,7 +129,7 @@ public final class CrcCombineChecksumUtil {
     private static void initializeFirstMatrix(long[][] combineMatrices, long polynomial) {
         combineMatrices[0][0] = polynomial;
         long row = 1;
-        for (int i = 1; i < CRC_SIZE; i++) {
+        for (int i = 1; i < combineMatrices[0].length; i++) {
             combineMatrices[0][i] = row;
             row <<= 1;
         }
@@ -123,8 +141,8 @@ public final class CrcCombineChecksumUtil {
      * @param combineMatrices The combine matrices to be derived.
      */
     private static void deriveRemainingMatrices(long[][] combineMatrices) {
-        for (int i = 0; i < CRC_SIZE - 1; i++) {
-            for (int j = 0; j < CRC_SIZE; j++) {
+        for (int i = 0; i < combineMatrices.length - 1; i++) {
+            for (int j = 0; j < combineMatrices[i].length; j++) {
                 combineMatrices[i + 1][j] = gf2MatrixTimes(combineMatrices[i], combineMatrices[i][j]);
             }
         }
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.checksums.internal;
 
+import java.nio.ByteBuffer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.checksums.internal.DigestAlgorithm.CloseableMessageDigest;
@@ -50,6 +51,11 @@ public class DigestAlgorithmChecksum implements SdkChecksum {
         digest.messageDigest().update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        digest.messageDigest().update(buffer);
+    }
+
     @Override
     public long getValue() {
         throw new UnsupportedOperationException("Use getChecksumBytes() instead.");
@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Pure Java implementation of CRC64NVME, used when the AWS CRT is not on the classpath.
+ *
+ * <p>The CRC is computed eight bytes at a time with the slicing-by-8 algorithm, using the same table layout as
+ * {@link SdkCrc32CChecksum}. The tables are generated from the reflected polynomial when the class is loaded. Buffers without
+ * an accessible array are read in place with {@link ByteBuffer#getLong(int)} rather than being copied to the heap first.
+ */
+@SdkInternalApi
+public final class SdkCrc64NvmeChecksum implements Checksum, Cloneable {
+
+    private static final long POLYNOMIAL = 0x9A6C9329AC4BC9B5L;
+
+    private static final long[][] COMBINE_MATRICES = CrcCombineChecksumUtil.generateCombineMatrices(POLYNOMIAL, Long.SIZE);
+
+    private static final long[] T = generateTables();
+
+    private static final int T8_0_START = 0;
+    private static final int T8_1_START = 256;
+    private static final int T8_2_START = 2 * 256;
+    private static final int T8_3_START = 3 * 256;
+    private static final int T8_4_START = 4 * 256;
+    private static final int T8_5_START = 5 * 256;
+    private static final int T8_6_START = 6 * 256;
+    private static final int T8_7_START = 7 * 256;
+
+    /**
+     * the current CRC value, bit-flipped
+     */
+    private long crc;
+
+    private SdkCrc64NvmeChecksum() {
+        reset();
+    }
+
+    private SdkCrc64NvmeChecksum(long crc) {
+        this.crc = crc;
+    }
+
+    public static SdkCrc64NvmeChecksum create() {
+        return new SdkCrc64NvmeChecksum();
+    }
+
+    /**
+     * Combines the CRCs of two parts. Please refer {@link CrcCombineChecksumUtil#combine(long, long, long, long[][])}
+     *
+     * @param crc1 The CRC of the first part.
+     * @param crc2 The CRC of the second part.
+     * @param originalLengthOfCrc2 The length of the second part's CRC before combining.
+     * @return The combined CRC.
+     */
+    public static long combine(long crc1, long crc2, long originalLengthOfCrc2) {
+        return CrcCombineChecksumUtil.combine(crc1, crc2, originalLengthOfCrc2, COMBINE_MATRICES);
+    }
+
+    @Override
+    public long getValue() {
+        return ~crc;
+    }
+
+    @Override
+    public void reset() {
+        crc = -1L;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        long localCrc = crc;
+
+        while (len > 7) {
+            localCrc ^= (b[off] & 0xffL)
+                        | (b[off + 1] & 0xffL) << 8
+                        | (b[off + 2] & 0xffL) << 16
+                        | (b[off + 3] & 0xffL) << 24
+                        | (b[off + 4] & 0xffL) << 32
+                        | (b[off + 5] & 0xffL) << 40
+                        | (b[off + 6] & 0xffL) << 48
+                        | (b[off + 7] & 0xffL) << 56;
+            localCrc = slice8(localCrc);
+            off += 8;
+            len -= 8;
+        }
+
+        for (int index = 0; index < len; index++) {
+            localCrc = (localCrc >>> 8) ^ T[T8_0_START + (int) ((localCrc ^ b[off]) & 0xff)];
+            off++;
+        }
+
+        crc = localCrc;
+    }
+
+    @Override
+    public void update(int b) {
+        crc = (crc >>> 8) ^ T[T8_0_START + (int) ((crc ^ b) & 0xff)];
+    }
+
+    /**
+     * Updates the CRC with the remaining bytes of the buffer, and moves its position to its limit. This overrides
+     * {@code Checksum.update(ByteBuffer)} on Java 9 and above.
+     */
+    public void update(ByteBuffer buffer) {
+        int pos = buffer.position();
+        int limit = buffer.limit();
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + pos, limit - pos);
+            buffer.position(limit);
+            return;
+        }
+
+        ByteBuffer littleEndian = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        long localCrc = crc;
+        while (limit - pos > 7) {
+            localCrc = slice8(localCrc ^ littleEndian.getLong(pos));
+            pos += 8;
+        }
+        while (pos < limit) {
+            localCrc = (localCrc >>> 8) ^ T[T8_0_START + (int) ((localCrc ^ littleEndian.get(pos)) & 0xff)];
+            pos++;
+        }
+        crc = localCrc;
+        buffer.position(limit);
+    }
+
+    @Override
+    public SdkCrc64NvmeChecksum clone() {
+        return new SdkCrc64NvmeChecksum(crc);
+    }
+
+    private static long slice8(long value) {
+        return T[T8_7_START + (int) (value & 0xff)]
+               ^ T[T8_6_START + (int) ((value >>> 8) & 0xff)]
+               ^ T[T8_5_START + (int) ((value >>> 16) & 0xff)]
+               ^ T[T8_4_START + (int) ((value >>> 24) & 0xff)]
+               ^ T[T8_3_START + (int) ((value >>> 32) & 0xff)]
+               ^ T[T8_2_START + (int) ((value >>> 40) & 0xff)]
+               ^ T[T8_1_START + (int) ((value >>> 48) & 0xff)]
+               ^ T[T8_0_START + (int) (value >>> 56)];
+    }
+
+    /**
+     * Table k maps a byte to the CRC of that byte followed by k zero bytes.
+     */
+    private static long[] generateTables() {
+        long[] tables = new long[8 * 256];
+        for (int i = 0; i < 256; i++) {
+            long entry = i;
+            for (int bit = 0; bit < 8; bit++) {
+                entry = (entry & 1) != 0 ? (entry >>> 1) ^ POLYNOMIAL : entry >>> 1;
+            }
+            tables[i] = entry;
+        }
+        for (int table = 1; table < 8; table++) {
+            for (int i = 0; i < 256; i++) {
+                long previous = tables[(table - 1) * 256 + i];
+                tables[table * 256 + i] = (previous >>> 8) ^ tables[(int) (previous & 0xff)];
+            }
+        }
+        return tables;
+    }
+}
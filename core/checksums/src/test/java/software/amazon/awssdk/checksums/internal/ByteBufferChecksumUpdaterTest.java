@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
+
+class ByteBufferChecksumUpdaterTest {
+    private static final byte[] DATA = randomBytes(20_003);
+
+    private static Stream<ChecksumAlgorithm> algorithms() {
+        return Stream.of(DefaultChecksumAlgorithm.CRC32,
+                         DefaultChecksumAlgorithm.CRC32C,
+                         DefaultChecksumAlgorithm.CRC64NVME,
+                         DefaultChecksumAlgorithm.SHA256);
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithms")
+    void update_directBuffer_matchesArrayUpdate(ChecksumAlgorithm algorithm) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DATA.length);
+        buffer.put(DATA);
+        buffer.flip();
+
+        assertUpdateMatchesArrayUpdate(algorithm, buffer);
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithms")
+    void update_slicedHeapBuffer_matchesArrayUpdate(ChecksumAlgorithm algorithm) {
+        byte[] padded = new byte[DATA.length + 10];
+        System.arraycopy(DATA, 0, padded, 5, DATA.length);
+        ByteBuffer buffer = ByteBuffer.wrap(padded, 5, DATA.length).slice();
+
+        assertUpdateMatchesArrayUpdate(algorithm, buffer);
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithms")
+    void update_readOnlyBuffer_matchesArrayUpdate(ChecksumAlgorithm algorithm) {
+        assertUpdateMatchesArrayUpdate(algorithm, ByteBuffer.wrap(DATA).asReadOnlyBuffer());
+    }
+
+    private static void assertUpdateMatchesArrayUpdate(ChecksumAlgorithm algorithm, ByteBuffer buffer) {
+        SdkChecksum fromArray = SdkChecksum.forAlgorithm(algorithm);
+        fromArray.update(DATA, 0, DATA.length);
+
+        SdkChecksum fromBuffer = SdkChecksum.forAlgorithm(algorithm);
+        fromBuffer.update(buffer);
+
+        assertThat(fromBuffer.getChecksumBytes()).isEqualTo(fromArray.getChecksumBytes());
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(7).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SdkImplementedCrc64NvmeChecksumTest extends Crc64NvmeChecksumTest {
+
+    @BeforeEach
+    @Override
+    public void setUp() {
+        sdkChecksum = new Crc64NvmeChecksum(ChecksumProvider.createSdkBasedCrc64Nvme());
+    }
+
+    @Test
+    void checkValue_matchesReferenceValue() {
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        checksum.update("123456789".getBytes(StandardCharsets.UTF_8), 0, 9);
+
+        assertThat(checksum.getValue()).isEqualTo(0xAE8B14860A799888L);
+    }
+
+    @Test
+    void updateDirectByteBuffer_matchesArrayUpdate() {
+        byte[] data = randomBytes(1021);
+        SdkCrc64NvmeChecksum fromArray = SdkCrc64NvmeChecksum.create();
+        fromArray.update(data, 0, data.length);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length + 3);
+        direct.position(3);
+        direct.put(data);
+        direct.position(3);
+        SdkCrc64NvmeChecksum fromBuffer = SdkCrc64NvmeChecksum.create();
+        fromBuffer.update(direct);
+
+        assertThat(fromBuffer.getValue()).isEqualTo(fromArray.getValue());
+        assertThat(direct.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void combine_partChecksums_matchesWholeChecksum() {
+        byte[] data = randomBytes(10_000);
+        int split = 4_099;
+
+        SdkCrc64NvmeChecksum whole = SdkCrc64NvmeChecksum.create();
+        whole.update(data, 0, data.length);
+        SdkCrc64NvmeChecksum first = SdkCrc64NvmeChecksum.create();
+        first.update(data, 0, split);
+        SdkCrc64NvmeChecksum second = SdkCrc64NvmeChecksum.create();
+        second.update(data, split, data.length - split);
+
+        assertThat(SdkCrc64NvmeChecksum.combine(first.getValue(), second.getValue(), data.length - split))
+            .isEqualTo(whole.getValue());
+    }
+
+    @Test
+    void combine_partsLargerThanTwoGigabytes_isAssociative() {
+        long crc1 = 0x0123456789ABCDEFL;
+        long crc2 = 0x7EDCBA9876543210L;
+        long crc3 = 0x5A5A5A5AA5A5A5A5L;
+        long length2 = 3L << 30;
+        long length3 = (5L << 30) + 7;
+
+        long leftFirst = SdkCrc64NvmeChecksum.combine(SdkCrc64NvmeChecksum.combine(crc1, crc2, length2), crc3, length3);
+        long rightFirst = SdkCrc64NvmeChecksum.combine(crc1, SdkCrc64NvmeChecksum.combine(crc2, crc3, length3),
+                                                       length2 + length3);
+
+        assertThat(leftFirst).isEqualTo(rightFirst);
+    }
+
+    @Test
+    void clone_copiesCurrentValue() {
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        checksum.update("ab".getBytes(StandardCharsets.UTF_8), 0, 2);
+        SdkCrc64NvmeChecksum clone = checksum.clone();
+        checksum.update('c');
+        clone.update('c');
+
+        assertThat(clone.getValue()).isEqualTo(checksum.getValue()).isEqualTo(0x05E5CABB3FC1FAEBL);
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.SystemSetting;
+
+/**
+ * System settings that tune the AWS signers.
+ */
+@SdkInternalApi
+public enum SignerSystemSetting implements SystemSetting {
+    /**
+     * The maximum number of SigV4 signing keys kept in the process-wide signing key cache. A signing key is derived per
+     * secret access key, region and service, and is only reused on the UTC day it was derived for. The default of 1024, used
+     * when this is unset or not a positive integer, covers applications that sign for many credentials, regions and services
+     * at once while keeping the cache well below a megabyte. Applications that rotate through more combinations than this
+     * can raise it to avoid re-deriving keys.
+     */
+    AWS_SIGV4_SIGNING_KEY_CACHE_SIZE("aws.sigv4SigningKeyCacheSize", null);
+
+    private final String systemProperty;
+    private final String defaultValue;
+
+    SignerSystemSetting(String systemProperty, String defaultValue) {
+        this.systemProperty = systemProperty;
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public String property() {
+        return systemProperty;
+    }
+
+    @Override
+    public String environmentVariable() {
+        return name();
+    }
+
+    @Override
+    public String defaultValue() {
+        return defaultValue;
+    }
+}
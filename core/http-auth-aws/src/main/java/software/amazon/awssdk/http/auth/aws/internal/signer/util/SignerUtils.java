@@ -41,7 +41,6 @@ import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Pair;
-import software.amazon.awssdk.utils.cache.FifoCache;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
@@ -52,8 +51,12 @@ public final class SignerUtils {
 
     private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
 
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(300);
+    /**
+     * See {@link SignerSystemSetting#AWS_SIGV4_SIGNING_KEY_CACHE_SIZE} for why this is the default.
+     */
+    private static final int DEFAULT_SIGNING_KEY_CACHE_SIZE = 1024;
+
+    private static final SigningKeyCache SIGNING_KEY_CACHE = SigningKeyCache.create(resolveSigningKeyCacheSize());
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd").withZone(ZoneId.of("UTC"));
@@ -99,11 +102,20 @@ public final class SignerUtils {
      * Get the signing key based on the given credentials and a credential-scope
      */
     public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
-        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getRegion(), credentialScope.getService());
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
+        return deriveSigningKey(credentials, credentialScope, SIGNING_KEY_CACHE);
+    }
 
-        if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
-            return signerKey.getSigningKey();
+    /**
+     * Get the signing key based on the given credentials and a credential-scope, using the given cache of derived keys.
+     */
+    public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope,
+                                          SigningKeyCache cache) {
+        byte[] cachedKey = cache.get(credentials.secretAccessKey(),
+                                     credentialScope.getRegion(),
+                                     credentialScope.getService(),
+                                     credentialScope.getInstant());
+        if (cachedKey != null) {
+            return cachedKey;
         }
 
         LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
@@ -112,14 +124,42 @@ public final class SignerUtils {
                                           credentialScope.getDate(),
                                           credentialScope.getRegion(),
                                           credentialScope.getService());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(credentialScope.getInstant(), signingKey));
+        cache.put(credentials.secretAccessKey(),
+                  credentialScope.getRegion(),
+                  credentialScope.getService(),
+                  credentialScope.getInstant(),
+                  signingKey);
         return signingKey;
     }
 
-    private static String createSigningCacheKeyName(AwsCredentialsIdentity credentials,
-                                                    String regionName,
-                                                    String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
+    /**
+     * The cache used by {@link #deriveSigningKey(AwsCredentialsIdentity, CredentialScope)}.
+     */
+    public static SigningKeyCache signingKeyCache() {
+        return SIGNING_KEY_CACHE;
+    }
+
+    /**
+     * Resolve the signing key cache size from {@link SignerSystemSetting#AWS_SIGV4_SIGNING_KEY_CACHE_SIZE}, falling back to
+     * the default when the configured value is not a positive integer.
+     */
+    static int resolveSigningKeyCacheSize() {
+        Optional<String> configured = SignerSystemSetting.AWS_SIGV4_SIGNING_KEY_CACHE_SIZE.getNonDefaultStringValue();
+        if (!configured.isPresent()) {
+            return DEFAULT_SIGNING_KEY_CACHE_SIZE;
+        }
+        try {
+            int size = Integer.parseInt(configured.get().trim());
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the warning below
+        }
+        LOG.warn(() -> String.format("Ignoring invalid %s value '%s'; it must be a positive integer. Using %d instead.",
+                                     SignerSystemSetting.AWS_SIGV4_SIGNING_KEY_CACHE_SIZE.property(), configured.get(),
+                                     DEFAULT_SIGNING_KEY_CACHE_SIZE));
+        return DEFAULT_SIGNING_KEY_CACHE_SIZE;
     }
 
     private static byte[] newSigningKey(AwsCredentialsIdentity credentials,
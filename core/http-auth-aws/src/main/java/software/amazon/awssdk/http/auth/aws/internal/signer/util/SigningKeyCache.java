@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded, lock-free cache of derived SigV4 signing keys.
+ * <p>
+ * The cache is organized as a set-associative table: a (secret key, region, service) triple hashes to one set of
+ * {@link #WAYS} slots, and only that set is probed on lookup. Lookups do not allocate a composite key and never block;
+ * writes replace a single slot with a volatile store. A cached key is only returned when it was derived for the same UTC
+ * day as the requested signing instant, so keys expire naturally when the credential scope date rolls over.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+
+    /**
+     * The number of slots probed per lookup.
+     */
+    static final int WAYS = 4;
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int setMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private SigningKeyCache(int capacity) {
+        Validate.isPositive(capacity, "capacity");
+        int sets = Integer.highestOneBit(Math.max(1, (capacity + WAYS - 1) / WAYS));
+        if (sets * WAYS < capacity) {
+            sets <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+    }
+
+    /**
+     * Create a cache that can hold at least {@code capacity} signing keys.
+     */
+    public static SigningKeyCache create(int capacity) {
+        return new SigningKeyCache(capacity);
+    }
+
+    /**
+     * Return a copy of the cached signing key for the given secret, region and service, or null if no key derived for the
+     * same day as {@code signingInstant} is cached.
+     */
+    public byte[] get(String secretAccessKey, String region, String service, Instant signingInstant) {
+        int hash = hash(secretAccessKey, region, service);
+        int base = (hash & setMask) * WAYS;
+        for (int i = 0; i < WAYS; i++) {
+            Entry entry = slots.get(base + i);
+            if (entry != null
+                && entry.hash == hash
+                && entry.matches(secretAccessKey, region, service)
+                && entry.signerKey.isValidForDate(signingInstant)) {
+                hits.increment();
+                return entry.signerKey.getSigningKey();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Cache the signing key derived for the given secret, region, service and signing instant. An existing entry for the same
+     * triple is replaced; otherwise an empty or expired slot in the set is used, or a random slot is evicted.
+     */
+    public void put(String secretAccessKey, String region, String service, Instant signingInstant, byte[] signingKey) {
+        int hash = hash(secretAccessKey, region, service);
+        int base = (hash & setMask) * WAYS;
+        Entry newEntry = new Entry(hash, secretAccessKey, region, service, new SignerKey(signingInstant, signingKey));
+
+        int victim = -1;
+        for (int i = 0; i < WAYS; i++) {
+            Entry entry = slots.get(base + i);
+            if (entry != null && entry.hash == hash && entry.matches(secretAccessKey, region, service)) {
+                victim = i;
+                break;
+            }
+            if (victim < 0 && (entry == null || !entry.signerKey.isValidForDate(signingInstant))) {
+                victim = i;
+            }
+        }
+
+        if (victim < 0) {
+            victim = ThreadLocalRandom.current().nextInt(WAYS);
+        }
+
+        slots.set(base + victim, newEntry);
+    }
+
+    /**
+     * The number of lookups that returned a cached signing key.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of lookups that did not find a usable signing key.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The maximum number of signing keys this cache can hold.
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    private static int hash(String secretAccessKey, String region, String service) {
+        int h = secretAccessKey.hashCode();
+        h = 31 * h + region.hashCode();
+        h = 31 * h + service.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry {
+        private final int hash;
+        private final String secretAccessKey;
+        private final String region;
+        private final String service;
+        private final SignerKey signerKey;
+
+        private Entry(int hash, String secretAccessKey, String region, String service, SignerKey signerKey) {
+            this.hash = hash;
+            this.secretAccessKey = secretAccessKey;
+            this.region = region;
+            this.service = service;
+            this.signerKey = signerKey;
+        }
+
+        private boolean matches(String secretAccessKey, String region, String service) {
+            return this.secretAccessKey.equals(secretAccessKey)
+                   && this.region.equals(region)
+                   && this.service.equals(service);
+        }
+    }
+}
@@ -26,10 +26,12 @@ import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -38,6 +40,29 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 
 public class SignerUtilsTest {
 
+    @AfterEach
+    void clearSigningKeyCacheSize() {
+        System.clearProperty(SignerSystemSetting.AWS_SIGV4_SIGNING_KEY_CACHE_SIZE.property());
+    }
+
+    @Test
+    void resolveSigningKeyCacheSize_notConfigured_usesDefault() {
+        assertThat(SignerUtils.resolveSigningKeyCacheSize()).isEqualTo(1024);
+    }
+
+    @Test
+    void resolveSigningKeyCacheSize_configured_usesConfiguredValue() {
+        System.setProperty(SignerSystemSetting.AWS_SIGV4_SIGNING_KEY_CACHE_SIZE.property(), "4096");
+        assertThat(SignerUtils.resolveSigningKeyCacheSize()).isEqualTo(4096);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "many"})
+    void resolveSigningKeyCacheSize_invalidValue_usesDefault(String value) {
+        System.setProperty(SignerSystemSetting.AWS_SIGV4_SIGNING_KEY_CACHE_SIZE.property(), value);
+        assertThat(SignerUtils.resolveSigningKeyCacheSize()).isEqualTo(1024);
+    }
+
     @Test
     void computeAndMoveContentLength_decodedContentLengthPresent_shouldNotInvokeNewStream() {
         SdkHttpRequest.Builder request = SdkHttpRequest.builder()
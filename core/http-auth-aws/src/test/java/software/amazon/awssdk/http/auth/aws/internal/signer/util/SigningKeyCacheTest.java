@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+public class SigningKeyCacheTest {
+    private static final Instant NOW = Instant.parse("2020-03-03T12:00:00Z");
+    private static final byte[] KEY = {1, 2, 3};
+
+    @Test
+    public void get_emptyCache_returnsNullAndCountsMiss() {
+        SigningKeyCache cache = SigningKeyCache.create(16);
+
+        assertThat(cache.get("secret", "us-east-1", "s3", NOW)).isNull();
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    public void get_afterPut_returnsCopyOfKeyAndCountsHit() {
+        SigningKeyCache cache = SigningKeyCache.create(16);
+        cache.put("secret", "us-east-1", "s3", NOW, KEY);
+
+        byte[] cached = cache.get("secret", "us-east-1", "s3", NOW);
+        assertThat(cached).containsExactly(KEY);
+        cached[0] = 42;
+        assertThat(cache.get("secret", "us-east-1", "s3", NOW)).containsExactly(KEY);
+        assertThat(cache.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_differentRegionOrService_misses() {
+        SigningKeyCache cache = SigningKeyCache.create(16);
+        cache.put("secret", "us-east-1", "s3", NOW, KEY);
+
+        assertThat(cache.get("secret", "us-west-2", "s3", NOW)).isNull();
+        assertThat(cache.get("secret", "us-east-1", "sqs", NOW)).isNull();
+        assertThat(cache.get("other", "us-east-1", "s3", NOW)).isNull();
+    }
+
+    @Test
+    public void get_dateRolledOver_misses() {
+        SigningKeyCache cache = SigningKeyCache.create(16);
+        cache.put("secret", "us-east-1", "s3", NOW, KEY);
+
+        assertThat(cache.get("secret", "us-east-1", "s3", Instant.parse("2020-03-04T00:00:00Z"))).isNull();
+    }
+
+    @Test
+    public void put_sameTriple_replacesExistingEntry() {
+        SigningKeyCache cache = SigningKeyCache.create(16);
+        Instant tomorrow = Instant.parse("2020-03-04T00:00:00Z");
+        cache.put("secret", "us-east-1", "s3", NOW, KEY);
+        cache.put("secret", "us-east-1", "s3", tomorrow, new byte[] {9});
+
+        assertThat(cache.get("secret", "us-east-1", "s3", tomorrow)).containsExactly(9);
+        assertThat(cache.get("secret", "us-east-1", "s3", NOW)).isNull();
+    }
+
+    @Test
+    public void put_moreTenantsThanCapacity_cacheStaysBounded() {
+        SigningKeyCache cache = SigningKeyCache.create(8);
+        for (int i = 0; i < 100; i++) {
+            cache.put("secret" + i, "us-east-1", "s3", NOW, KEY);
+        }
+
+        int cached = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.get("secret" + i, "us-east-1", "s3", NOW) != null) {
+                cached++;
+            }
+        }
+        assertThat(cached).isPositive().isLessThanOrEqualTo(cache.capacity());
+    }
+
+    @Test
+    public void create_capacityRoundedUpToWholeSets() {
+        assertThat(SigningKeyCache.create(1).capacity()).isEqualTo(SigningKeyCache.WAYS);
+        assertThat(SigningKeyCache.create(300).capacity()).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    public void create_nonPositiveCapacity_throws() {
+        assertThatThrownBy(() -> SigningKeyCache.create(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
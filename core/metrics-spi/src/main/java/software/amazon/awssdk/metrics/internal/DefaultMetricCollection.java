@@ -24,23 +24,38 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricRecord;
 import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Lazy;
 import software.amazon.awssdk.utils.ToString;
 
 @SdkInternalApi
 public final class DefaultMetricCollection implements MetricCollection {
     private final String name;
-    private final Map<SdkMetric<?>, List<MetricRecord<?>>> metrics;
+    private final Lazy<Map<SdkMetric<?>, List<MetricRecord<?>>>> metrics;
     private final List<MetricCollection> children;
     private final Instant creationTime;
 
     public DefaultMetricCollection(String name, Map<SdkMetric<?>,
         List<MetricRecord<?>>> metrics, List<MetricCollection> children) {
+        this(name, Lazy.withValue(new HashMap<>(metrics)), children);
+    }
+
+    /**
+     * Create a collection whose records are created by the given supplier the first time they are read.
+     */
+    DefaultMetricCollection(String name, Supplier<Map<SdkMetric<?>, List<MetricRecord<?>>>> metrics,
+                            List<MetricCollection> children) {
+        this(name, new Lazy<>(metrics), children);
+    }
+
+    private DefaultMetricCollection(String name, Lazy<Map<SdkMetric<?>, List<MetricRecord<?>>>> metrics,
+                                    List<MetricCollection> children) {
         this.name = name;
-        this.metrics = new HashMap<>(metrics);
+        this.metrics = metrics;
         this.children = children != null ? new ArrayList<>(children) : Collections.emptyList();
         this.creationTime = Instant.now();
     }
@@ -53,6 +68,7 @@ public final class DefaultMetricCollection implements MetricCollection {
     @SuppressWarnings("unchecked")
     @Override
     public <T> List<T> metricValues(SdkMetric<T> metric) {
+        Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = this.metrics.getValue();
         if (metrics.containsKey(metric)) {
             List<MetricRecord<?>> metricRecords = metrics.get(metric);
             List<?> values = metricRecords.stream()
@@ -75,7 +91,7 @@ public final class DefaultMetricCollection implements MetricCollection {
 
     @Override
     public Iterator<MetricRecord<?>> iterator() {
-        return metrics.values().stream()
+        return metrics.getValue().values().stream()
                       .flatMap(List::stream)
                       .iterator();
     }
@@ -84,7 +100,7 @@ public final class DefaultMetricCollection implements MetricCollection {
     public String toString() {
         return ToString.builder("MetricCollection")
                        .add("name", name)
-                       .add("metrics", metrics.values().stream().flatMap(List::stream).collect(toList()))
+                       .add("metrics", metrics.getValue().values().stream().flatMap(List::stream).collect(toList()))
                        .add("children", children)
                        .build();
     }
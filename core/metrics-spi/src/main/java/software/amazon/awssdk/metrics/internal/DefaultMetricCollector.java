@@ -16,6 +16,8 @@
 package software.amazon.awssdk.metrics.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,13 +31,41 @@ import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
+/**
+ * The default {@link MetricCollector}, created for every API call, attempt and HTTP request when metrics are enabled.
+ *
+ * <p>Values of metrics created with {@link SdkMetric#create} are stored in an array indexed by {@link DefaultSdkMetric#id()},
+ * so reporting a metric that is reported once per request (the common case) is an array store. {@link MetricRecord}s are
+ * only created when a publisher reads the {@link MetricCollection} returned by {@link #collect()}.
+ */
 @SdkInternalApi
 public final class DefaultMetricCollector implements MetricCollector {
     private static final Logger log = Logger.loggerFor(DefaultMetricCollector.class);
+
+    /**
+     * Stored in place of a null value, since an empty slot means that the metric was not reported.
+     */
+    private static final Object NULL_VALUE = new Object();
+
     private final String name;
-    private final Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = new LinkedHashMap<>();
     private final List<MetricCollector> children = new ArrayList<>();
 
+    /**
+     * The values of the reported {@link DefaultSdkMetric}s, indexed by {@link DefaultSdkMetric#id()}. A slot holds the value
+     * itself, or {@link Values} if the metric was reported more than once. Created on the first report.
+     */
+    private Object[] slots;
+
+    /**
+     * The values of reported metrics that are not {@link DefaultSdkMetric}s, in the same format as {@link #slots}.
+     */
+    private Map<SdkMetric<?>, Object> otherMetrics;
+
+    /**
+     * The reported metrics, in the order they were first reported.
+     */
+    private final List<SdkMetric<?>> reportedMetrics = new ArrayList<>();
+
     public DefaultMetricCollector(String name) {
         this.name = name;
     }
@@ -47,8 +77,16 @@ public final class DefaultMetricCollector implements MetricCollector {
 
     @Override
     public synchronized <T> void reportMetric(SdkMetric<T> metric, T data) {
-        metrics.computeIfAbsent(metric, (m) -> new ArrayList<>())
-               .add(new DefaultMetricRecord<>(metric, data));
+        Object value = data == null ? NULL_VALUE : data;
+        Object current = get(metric);
+        if (current == null) {
+            set(metric, value);
+            reportedMetrics.add(metric);
+        } else if (current instanceof Values) {
+            ((Values) current).add(value);
+        } else {
+            set(metric, new Values(current, value));
+        }
     }
 
     @Override
@@ -64,7 +102,8 @@ public final class DefaultMetricCollector implements MetricCollector {
                 .map(MetricCollector::collect)
                 .collect(Collectors.toList());
 
-        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, metrics, collectedChildren);
+        Snapshot snapshot = snapshot();
+        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, snapshot::toRecords, collectedChildren);
 
         log.debug(() -> "Collected metrics records: " + metricRecords);
         return metricRecords;
@@ -76,8 +115,98 @@ public final class DefaultMetricCollector implements MetricCollector {
     }
 
     @Override
-    public String toString() {
+    public synchronized String toString() {
         return ToString.builder("DefaultMetricCollector")
-            .add("metrics", metrics).build();
+            .add("metrics", snapshot().toRecords()).build();
+    }
+
+    private Object get(SdkMetric<?> metric) {
+        if (metric instanceof DefaultSdkMetric) {
+            int id = ((DefaultSdkMetric<?>) metric).id();
+            return slots != null && id < slots.length ? slots[id] : null;
+        }
+        return otherMetrics != null ? otherMetrics.get(metric) : null;
+    }
+
+    private void set(SdkMetric<?> metric, Object value) {
+        if (metric instanceof DefaultSdkMetric) {
+            int id = ((DefaultSdkMetric<?>) metric).id();
+            if (slots == null || id >= slots.length) {
+                // Metrics are created when their class is loaded, so this is sized once for nearly all collectors.
+                int length = Math.max(id + 1, DefaultSdkMetric.metricCount());
+                slots = slots == null ? new Object[length] : Arrays.copyOf(slots, length);
+            }
+            slots[id] = value;
+        } else {
+            if (otherMetrics == null) {
+                otherMetrics = new HashMap<>();
+            }
+            otherMetrics.put(metric, value);
+        }
+    }
+
+    /**
+     * Copies the reported values, so that they can be turned into records later without holding the lock.
+     */
+    private Snapshot snapshot() {
+        int size = reportedMetrics.size();
+        SdkMetric<?>[] metrics = reportedMetrics.toArray(new SdkMetric<?>[size]);
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            Object value = get(metrics[i]);
+            values[i] = value instanceof Values ? new Values((Values) value) : value;
+        }
+        return new Snapshot(metrics, values);
+    }
+
+    /**
+     * The values of a metric that was reported more than once.
+     */
+    private static final class Values extends ArrayList<Object> {
+        private static final long serialVersionUID = 1L;
+
+        private Values(Object first, Object second) {
+            super(4);
+            add(first);
+            add(second);
+        }
+
+        private Values(Values values) {
+            super(values);
+        }
+    }
+
+    private static final class Snapshot {
+        private final SdkMetric<?>[] metrics;
+
+        /**
+         * The value of each metric, or a copy of its {@link Values} if it was reported more than once.
+         */
+        private final Object[] values;
+
+        private Snapshot(SdkMetric<?>[] metrics, Object[] values) {
+            this.metrics = metrics;
+            this.values = values;
+        }
+
+        private Map<SdkMetric<?>, List<MetricRecord<?>>> toRecords() {
+            Map<SdkMetric<?>, List<MetricRecord<?>>> records = new LinkedHashMap<>(metrics.length * 2);
+            for (int i = 0; i < metrics.length; i++) {
+                List<MetricRecord<?>> metricRecords = records.computeIfAbsent(metrics[i], m -> new ArrayList<>(1));
+                if (values[i] instanceof Values) {
+                    for (Object value : (Values) values[i]) {
+                        metricRecords.add(record(metrics[i], value));
+                    }
+                } else {
+                    metricRecords.add(record(metrics[i], values[i]));
+                }
+            }
+            return records;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> MetricRecord<T> record(SdkMetric<T> metric, Object value) {
+            return new DefaultMetricRecord<>(metric, value == NULL_VALUE ? null : (T) value);
+        }
     }
 }
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -33,7 +34,9 @@ import software.amazon.awssdk.utils.Validate;
 @SdkInternalApi
 public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements SdkMetric<T> {
     private static final ConcurrentHashMap<SdkMetric<?>, Boolean> SDK_METRICS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
 
+    private final int id;
     private final String name;
     private final Class<T> clzz;
     private final Set<MetricCategory> categories;
@@ -46,6 +49,22 @@ public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements Sd
         this.level = Validate.notNull(level, "level must not be null");
         Validate.notEmpty(categories, "categories must not be empty");
         this.categories = EnumSet.copyOf(categories);
+        this.id = NEXT_ID.getAndIncrement();
+    }
+
+    /**
+     * @return A small number that is unique to this metric, used by {@link DefaultMetricCollector} to store the reported
+     * values in an array.
+     */
+    int id() {
+        return id;
+    }
+
+    /**
+     * @return An upper bound of the {@link #id()} of all metrics created so far.
+     */
+    static int metricCount() {
+        return NEXT_ID.get();
     }
 
     /**
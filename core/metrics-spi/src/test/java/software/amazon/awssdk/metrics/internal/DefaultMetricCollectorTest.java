@@ -17,6 +17,16 @@ package software.amazon.awssdk.metrics.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.AfterClass;
 import org.junit.Rule;
@@ -30,6 +40,7 @@ import software.amazon.awssdk.metrics.SdkMetric;
 
 public class DefaultMetricCollectorTest {
     private static final SdkMetric<Integer> M1 = SdkMetric.create("m1", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<String> M2 = SdkMetric.create("m2", String.class, MetricLevel.INFO, MetricCategory.CORE);
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -70,4 +81,111 @@ public class DefaultMetricCollectorTest {
         MetricCollection collected = parent.collect();
         assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
     }
+
+    @Test
+    public void testCollect_recordsAreInReportOrder() {
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(M2, "a");
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(M2, "b");
+
+        List<Object> values = new ArrayList<>();
+        collector.collect().forEach(r -> values.add(r.value()));
+
+        assertThat(values).containsExactly("a", "b", 1);
+    }
+
+    @Test
+    public void testCollect_nullValue_isRecorded() {
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(M2, null);
+
+        MetricCollection collect = collector.collect();
+
+        assertThat(collect.metricValues(M2)).containsExactly((String) null);
+        assertThat(collect.metricValues(M1)).isEmpty();
+    }
+
+    @Test
+    public void testCollect_metricNotCreatedBySdk_isRecorded() {
+        SdkMetric<Integer> custom = new CustomMetric();
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(custom, 1);
+        collector.reportMetric(M1, 2);
+        collector.reportMetric(custom, 3);
+
+        MetricCollection collect = collector.collect();
+
+        assertThat(collect.metricValues(custom)).containsExactly(1, 3);
+        assertThat(collect.metricValues(M1)).containsExactly(2);
+    }
+
+    @Test
+    public void testCollect_laterReports_notInCollection() {
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(M1, 2);
+
+        MetricCollection collect = collector.collect();
+        collector.reportMetric(M1, 3);
+        collector.reportMetric(M2, "a");
+
+        assertThat(collect.metricValues(M1)).containsExactly(1, 2);
+        assertThat(collect.metricValues(M2)).isEmpty();
+    }
+
+    @Test
+    public void testReportMetric_concurrentReports_allRecorded() throws Exception {
+        int threads = 4;
+        int reportsPerThread = 10_000;
+        MetricCollector collector = MetricCollector.create("collector");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * reportsPerThread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < reportsPerThread; i++) {
+                        collector.reportMetric(M1, offset + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(collector.collect().metricValues(M1))
+            .containsExactlyInAnyOrderElementsOf(IntStream.range(0, threads * reportsPerThread)
+                                                          .boxed()
+                                                          .collect(Collectors.toList()));
+    }
+
+    private static final class CustomMetric implements SdkMetric<Integer> {
+        @Override
+        public String name() {
+            return "custom";
+        }
+
+        @Override
+        public Set<MetricCategory> categories() {
+            return Collections.singleton(MetricCategory.CUSTOM);
+        }
+
+        @Override
+        public MetricLevel level() {
+            return MetricLevel.INFO;
+        }
+
+        @Override
+        public Class<Integer> valueClass() {
+            return Integer.class;
+        }
+    }
 }
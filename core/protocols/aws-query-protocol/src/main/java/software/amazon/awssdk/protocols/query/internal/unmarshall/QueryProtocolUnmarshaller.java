@@ -67,9 +67,11 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         .build();
 
     private final boolean hasResultWrapper;
+    private final StaxQueryUnmarshaller streamingUnmarshaller;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.streamingUnmarshaller = new StaxQueryUnmarshaller(hasResultWrapper, newContext());
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
@@ -83,6 +85,18 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
+        if (response.content().isPresent()) {
+            return streamingUnmarshaller.unmarshall(sdkPojo, response.content().get());
+        }
+        return Pair.of(unmarshall(sdkPojo, (XmlElement) null, response), new HashMap<>());
+    }
+
+    /**
+     * Unmarshalls the response by first parsing it into an {@link XmlElement} tree. Responses are normally unmarshalled by
+     * streaming through {@link StaxQueryUnmarshaller}; this path is kept for comparison and as a fallback.
+     */
+    <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshallFromDom(SdkPojo sdkPojo,
+                                                                              SdkHttpFullResponse response) {
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
@@ -102,11 +116,14 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     XmlElement resultRoot,
                                                     SdkHttpFullResponse response) {
-        QueryUnmarshallerContext unmarshallerContext = QueryUnmarshallerContext.builder()
-                                                                               .registry(UNMARSHALLER_REGISTRY)
-                                                                               .protocolUnmarshaller(this)
-                                                                               .build();
-        return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
+        return (TypeT) unmarshall(newContext(), sdkPojo, resultRoot);
+    }
+
+    private QueryUnmarshallerContext newContext() {
+        return QueryUnmarshallerContext.builder()
+                                       .registry(UNMARSHALLER_REGISTRY)
+                                       .protocolUnmarshaller(this)
+                                       .build();
     }
 
     private Map<String, String> parseMetadata(XmlElement document) {
@@ -126,7 +143,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return c.elementName().equals("RequestId") ? AWS_REQUEST_ID : c.elementName();
     }
 
-    private SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
+    SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
         if (root != null) {
             for (SdkField<?> field : sdkPojo.sdkFields()) {
                 if (field.containsTrait(PayloadTrait.class, TraitType.PAYLOAD_TRAIT)
@@ -0,0 +1,555 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.protocols.core.StringToInstant;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls AWS/Query and EC2 responses by binding values directly from an {@link XMLStreamReader} into the SDK POJO
+ * builders, without first building an {@link XmlElement} tree for the whole document.
+ * <p>
+ * The behavior mirrors the {@link XmlElement} based path in {@link QueryProtocolUnmarshaller}: the first occurrence of a
+ * non-flattened member wins, flattened lists and maps collect every occurrence, unknown elements are skipped, and the text
+ * of an element is its last run of character data. Elements that are bound to more than one field of the same structure
+ * are buffered as {@link XmlElement}s and handed to the registered {@link QueryUnmarshaller}s.
+ */
+@SdkInternalApi
+public final class StaxQueryUnmarshaller {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY =
+        ThreadLocal.withInitial(StaxQueryUnmarshaller::createXmlInputFactory);
+
+    private static final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> SIMPLE_TYPES;
+
+    private static final Map<Class<?>, FieldIndex> FIELD_INDEX_CACHE = new ConcurrentHashMap<>();
+
+    static {
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypes = new HashMap<>();
+        simpleTypes.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        simpleTypes.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        simpleTypes.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        simpleTypes.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        simpleTypes.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        simpleTypes.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        simpleTypes.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        simpleTypes.put(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()));
+        simpleTypes.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        SIMPLE_TYPES = Collections.unmodifiableMap(simpleTypes);
+    }
+
+    private final boolean hasResultWrapper;
+    private final QueryUnmarshallerContext context;
+
+    StaxQueryUnmarshaller(boolean hasResultWrapper, QueryUnmarshallerContext context) {
+        this.hasResultWrapper = hasResultWrapper;
+        this.context = context;
+    }
+
+    /**
+     * Unmarshall the response document into the given POJO builder.
+     *
+     * @param sdkPojo Builder of the response POJO.
+     * @param content Response content.
+     * @return Pair of the built POJO and the response metadata.
+     */
+    @SuppressWarnings("unchecked")
+    public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo, InputStream content) {
+        Map<String, String> metadata = new HashMap<>();
+        LookaheadInputStream stream = new LookaheadInputStream(content);
+        try {
+            if (stream.peek() == -1) {
+                return Pair.of((TypeT) build(sdkPojo), metadata);
+            }
+
+            XMLStreamReader reader = FACTORY.get().createXMLStreamReader(stream);
+            try {
+                if (!nextStartElement(reader)) {
+                    return Pair.of((TypeT) build(sdkPojo), metadata);
+                }
+                SdkPojo result = hasResultWrapper ? readWrappedDocument(reader, sdkPojo, metadata)
+                                                  : readPojo(reader, sdkPojo, metadata);
+                return Pair.of((TypeT) result, metadata);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Reads a document whose first child element is the result, followed by response metadata.
+     */
+    private SdkPojo readWrappedDocument(XMLStreamReader reader, SdkPojo sdkPojo, Map<String, String> metadata)
+            throws XMLStreamException {
+        SdkPojo result = null;
+        while (nextChild(reader)) {
+            if (result == null) {
+                result = readResult(reader, sdkPojo, metadata);
+            } else if (!readMetadata(reader, metadata)) {
+                skipElement(reader);
+            }
+        }
+        return result == null ? build(sdkPojo) : result;
+    }
+
+    /**
+     * Reads the first child of a wrapped document. Responses without output members have no result element, in which case
+     * the first child is the response metadata; like the DOM path it is then used both as the result and as metadata.
+     */
+    private SdkPojo readResult(XMLStreamReader reader, SdkPojo sdkPojo, Map<String, String> metadata)
+            throws XMLStreamException {
+        String name = reader.getLocalName();
+        if (!"ResponseMetadata".equals(name) && !"requestId".equals(name)) {
+            return readPojo(reader, sdkPojo, null);
+        }
+        XmlElement element = readElement(reader);
+        if ("requestId".equals(name)) {
+            metadata.put(AWS_REQUEST_ID, element.textContent());
+        } else {
+            element.children().forEach(c -> metadata.put("RequestId".equals(c.elementName()) ? AWS_REQUEST_ID
+                                                                                            : c.elementName(),
+                                                          c.textContent()));
+        }
+        return context.protocolUnmarshaller().unmarshall(context, sdkPojo, element);
+    }
+
+    /**
+     * Reads the current element into the given POJO builder and builds it. When {@code metadata} is non-null the element is
+     * the document root and any response metadata found among its children is collected.
+     */
+    @SuppressWarnings("unchecked")
+    private SdkPojo readPojo(XMLStreamReader reader, SdkPojo sdkPojo, Map<String, String> metadata)
+            throws XMLStreamException {
+        FieldIndex index = fieldIndex(sdkPojo);
+        List<SdkField<?>> fields = index.fields;
+        boolean[] seen = new boolean[fields.size()];
+        Object[] flattened = null;
+        Map<String, List<XmlElement>> buffered = null;
+
+        while (nextChild(reader)) {
+            String name = reader.getLocalName();
+            int[] positions = index.positionsByName.get(name);
+
+            if (metadata != null && "requestId".equals(name)) {
+                String requestId = readText(reader);
+                metadata.put(AWS_REQUEST_ID, requestId);
+                if (positions != null && positions.length == 1 && isSimple(fields.get(positions[0]))) {
+                    setSimple(fields.get(positions[0]), sdkPojo, requestId, seen, positions[0]);
+                }
+                continue;
+            }
+            if (metadata != null && readMetadata(reader, metadata)) {
+                continue;
+            }
+            if (positions == null) {
+                skipElement(reader);
+                continue;
+            }
+            if (positions.length > 1) {
+                if (buffered == null) {
+                    buffered = new HashMap<>();
+                }
+                buffered.computeIfAbsent(name, n -> new ArrayList<>()).add(readElement(reader));
+                continue;
+            }
+
+            int position = positions[0];
+            SdkField<Object> field = (SdkField<Object>) fields.get(position);
+            if (isFlattened(field)) {
+                if (flattened == null) {
+                    flattened = new Object[fields.size()];
+                }
+                flattened[position] = readFlattenedMember(reader, field, flattened[position]);
+                continue;
+            }
+            if (seen[position]) {
+                skipElement(reader);
+                continue;
+            }
+            seen[position] = true;
+            field.set(sdkPojo, readValue(reader, field));
+        }
+
+        if (flattened != null) {
+            for (int i = 0; i < flattened.length; i++) {
+                if (flattened[i] != null) {
+                    ((SdkField<Object>) fields.get(i)).set(sdkPojo, flattened[i]);
+                }
+            }
+        }
+        if (buffered != null) {
+            buffered.forEach((name, elements) -> {
+                for (int position : index.positionsByName.get(name)) {
+                    SdkField<Object> field = (SdkField<Object>) fields.get(position);
+                    QueryUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(),
+                                                                                     field.marshallingType());
+                    field.set(sdkPojo, unmarshaller.unmarshall(context, elements, field));
+                }
+            });
+        }
+        return build(sdkPojo);
+    }
+
+    /**
+     * Reads the value of the current element according to the type of the given field.
+     */
+    private Object readValue(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        MarshallingType<?> type = field.marshallingType();
+        StringToValueConverter.StringToValue<?> simpleType = SIMPLE_TYPES.get(type);
+        if (simpleType != null) {
+            return convert(simpleType, readText(reader), field);
+        }
+        if (type == MarshallingType.SDK_POJO) {
+            return readPojo(reader, field.constructor().get(), null);
+        }
+        if (type == MarshallingType.LIST) {
+            return readList(reader, field);
+        }
+        if (type == MarshallingType.MAP) {
+            return readMap(reader, field);
+        }
+        if (type == MarshallingType.NULL) {
+            skipElement(reader);
+            return null;
+        }
+        throw SdkClientException.create("Unable to unmarshall field of type " + type);
+    }
+
+    private List<Object> readList(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        ListTrait listTrait = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT);
+        SdkField<?> memberField = listTrait.memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        if (listTrait.isFlattened()) {
+            list.add(readValue(reader, memberField));
+            return list;
+        }
+        // Like the DOM unmarshaller, every direct child is a member regardless of its name, since EC2 does not always
+        // model member names correctly.
+        while (nextChild(reader)) {
+            list.add(readValue(reader, memberField));
+        }
+        return list;
+    }
+
+    private Map<String, Object> readMap(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        MapTrait mapTrait = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT);
+        Map<String, Object> map = new HashMap<>();
+        if (mapTrait.isFlattened()) {
+            readMapEntry(reader, mapTrait, map);
+            return map;
+        }
+        while (nextChild(reader)) {
+            if ("entry".equals(reader.getLocalName())) {
+                readMapEntry(reader, mapTrait, map);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    private void readMapEntry(XMLStreamReader reader, MapTrait mapTrait, Map<String, Object> map)
+            throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        boolean valueSeen = false;
+        while (nextChild(reader)) {
+            String name = reader.getLocalName();
+            if (key == null && name.equals(mapTrait.keyLocationName())) {
+                key = readText(reader);
+            } else if (!valueSeen && name.equals(mapTrait.valueLocationName())) {
+                value = readValue(reader, mapTrait.valueFieldInfo());
+                valueSeen = true;
+            } else {
+                skipElement(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    /**
+     * Adds one occurrence of a flattened list or map to the value accumulated so far for its field.
+     */
+    @SuppressWarnings("unchecked")
+    private Object readFlattenedMember(XMLStreamReader reader, SdkField<?> field, Object accumulated)
+            throws XMLStreamException {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            List<Object> list = accumulated == null ? new ArrayList<>() : (List<Object>) accumulated;
+            ListTrait listTrait = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT);
+            list.add(readValue(reader, listTrait.memberFieldInfo()));
+            return list;
+        }
+        Map<String, Object> map = accumulated == null ? new HashMap<>() : (Map<String, Object>) accumulated;
+        readMapEntry(reader, field.getTrait(MapTrait.class, TraitType.MAP_TRAIT), map);
+        return map;
+    }
+
+    /**
+     * Collects the response metadata if the current element is the {@code ResponseMetadata} element.
+     *
+     * @return True if the element was consumed as metadata.
+     */
+    private boolean readMetadata(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        String name = reader.getLocalName();
+        if ("ResponseMetadata".equals(name)) {
+            while (nextChild(reader)) {
+                String key = reader.getLocalName();
+                metadata.put("RequestId".equals(key) ? AWS_REQUEST_ID : key, readText(reader));
+            }
+            return true;
+        }
+        if ("requestId".equals(name)) {
+            metadata.put(AWS_REQUEST_ID, readText(reader));
+            return true;
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setSimple(SdkField<?> field, SdkPojo sdkPojo, String text, boolean[] seen, int position) {
+        if (!seen[position]) {
+            seen[position] = true;
+            ((SdkField<Object>) field).set(sdkPojo, convert(SIMPLE_TYPES.get(field.marshallingType()), text, field));
+        }
+    }
+
+    private static boolean isSimple(SdkField<?> field) {
+        return SIMPLE_TYPES.containsKey(field.marshallingType());
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            return field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).isFlattened();
+        }
+        if (field.marshallingType() == MarshallingType.MAP) {
+            return field.getTrait(MapTrait.class, TraitType.MAP_TRAIT).isFlattened();
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object convert(StringToValueConverter.StringToValue<?> stringToValue, String text, SdkField<?> field) {
+        return ((StringToValueConverter.StringToValue<Object>) stringToValue).convert(text, (SdkField<Object>) field);
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    /**
+     * Advances to the first start element of the document.
+     */
+    private static boolean nextStartElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Advances to the next direct child of the current element.
+     *
+     * @return True if the reader is positioned on the start of a child element, false if it reached the end of the current
+     * element.
+     */
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Skips the current element, including all of its children.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == 0) {
+                    return;
+                }
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads the text of the current element and advances to its end. Like the DOM parser, the text of an element is its last
+     * run of character data; text inside child elements is ignored.
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = "";
+        String run = null;
+        StringBuilder runBuilder = null;
+        int depth = 0;
+        while (true) {
+            int event = reader.next();
+            if (isCharacters(event)) {
+                if (depth == 0) {
+                    if (run == null) {
+                        run = reader.getText();
+                    } else {
+                        if (runBuilder == null) {
+                            runBuilder = new StringBuilder(run);
+                        }
+                        runBuilder.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                }
+                continue;
+            }
+
+            if (depth == 0 && run != null) {
+                text = runBuilder == null ? run : runBuilder.toString();
+                run = null;
+                runBuilder = null;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == 0) {
+                    return text;
+                }
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads the current element, including all of its children, into an {@link XmlElement}.
+     */
+    private static XmlElement readElement(XMLStreamReader reader) throws XMLStreamException {
+        XmlElement.Builder builder = XmlElement.builder().elementName(reader.getLocalName());
+        if (reader.getAttributeCount() > 0) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String prefix = reader.getAttributePrefix(i) == null ? "" : reader.getAttributePrefix(i);
+                attributes.put(prefix + ":" + reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+            builder.attributes(attributes);
+        }
+
+        StringBuilder run = null;
+        while (true) {
+            int event = reader.next();
+            if (isCharacters(event)) {
+                if (run == null) {
+                    run = new StringBuilder();
+                }
+                run.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                continue;
+            }
+            if (run != null) {
+                builder.textContent(run.toString());
+                run = null;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                builder.addChildElement(readElement(reader));
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return builder.build();
+            }
+        }
+    }
+
+    private static boolean isCharacters(int event) {
+        return event == XMLStreamConstants.CHARACTERS
+               || event == XMLStreamConstants.CDATA
+               || event == XMLStreamConstants.SPACE;
+    }
+
+    private static FieldIndex fieldIndex(SdkPojo sdkPojo) {
+        FieldIndex index = FIELD_INDEX_CACHE.get(sdkPojo.getClass());
+        if (index == null) {
+            index = FIELD_INDEX_CACHE.computeIfAbsent(sdkPojo.getClass(), c -> new FieldIndex(sdkPojo.sdkFields()));
+        }
+        return index;
+    }
+
+    /**
+     * Disables certain dangerous features that attempt to automatically fetch DTDs
+     *
+     * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
+     */
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * The fields of a POJO, indexed by the name of the element they are unmarshalled from.
+     */
+    private static final class FieldIndex {
+        private final List<SdkField<?>> fields;
+        private final Map<String, int[]> positionsByName;
+
+        private FieldIndex(List<SdkField<?>> fields) {
+            this.fields = fields;
+            this.positionsByName = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                String name = fields.get(i).unmarshallLocationName();
+                if (name == null) {
+                    continue;
+                }
+                int[] existing = positionsByName.get(name);
+                int[] positions = existing == null ? new int[1] : Arrays.copyOf(existing, existing.length + 1);
+                positions[positions.length - 1] = i;
+                positionsByName.put(name, positions);
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.awscore.util.AwsHeader;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class StaxQueryUnmarshallerTest {
+
+    private static final QueryProtocolUnmarshaller WRAPPED = QueryProtocolUnmarshaller.builder().hasResultWrapper(true).build();
+    private static final QueryProtocolUnmarshaller UNWRAPPED = QueryProtocolUnmarshaller.builder().build();
+
+    private static Stream<Arguments> documents() {
+        return Stream.of(
+            Arguments.of(WRAPPED, "<OpResponse><OpResult><name>foo</name><count>42</count></OpResult>"
+                                  + "<ResponseMetadata><RequestId>req-1</RequestId></ResponseMetadata></OpResponse>"),
+            Arguments.of(WRAPPED, "<OpResponse><ResponseMetadata><RequestId>req-1</RequestId></ResponseMetadata>"
+                                  + "</OpResponse>"),
+            Arguments.of(WRAPPED, "<OpResponse/>"),
+            Arguments.of(UNWRAPPED, "<OpResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">"
+                                    + "<requestId>req-2</requestId>"
+                                    + "<itemSet><item>a</item><other>b</other></itemSet>"
+                                    + "<tag>x</tag><unknown><name>ignored</name></unknown><tag>y</tag>"
+                                    + "<child><name>nested</name><child><count>7</count></child></child>"
+                                    + "</OpResponse>"),
+            Arguments.of(UNWRAPPED, "<OpResponse><name>first</name><name>second</name>"
+                                    + "<itemSet><item>a</item></itemSet><itemSet><item>b</item></itemSet></OpResponse>"),
+            Arguments.of(UNWRAPPED, "<OpResponse><name>a&amp;b<![CDATA[<c>]]></name><itemSet/></OpResponse>"),
+            Arguments.of(UNWRAPPED, "<OpResponse><name>\n  </name><child/></OpResponse>"),
+            Arguments.of(UNWRAPPED, "<OpResponse><alias>dup</alias></OpResponse>"),
+            Arguments.of(UNWRAPPED, ""));
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    public void unmarshall_matchesDomUnmarshaller(QueryProtocolUnmarshaller unmarshaller, String xml) {
+        Pair<TestPojo, Map<String, String>> streamed = unmarshaller.unmarshall(new TestPojo(), response(xml));
+        Pair<TestPojo, Map<String, String>> dom = unmarshaller.unmarshallFromDom(new TestPojo(), response(xml));
+
+        assertThat(streamed.left()).usingRecursiveComparison().isEqualTo(dom.left());
+        assertThat(streamed.right()).isEqualTo(dom.right());
+    }
+
+    @Test
+    public void unmarshall_wrappedResponse_bindsResultAndMetadata() {
+        Pair<TestPojo, Map<String, String>> result =
+            WRAPPED.unmarshall(new TestPojo(), response("<OpResponse><OpResult><name>foo</name><count>42</count>"
+                                                        + "</OpResult><ResponseMetadata><RequestId>req-1</RequestId>"
+                                                        + "</ResponseMetadata></OpResponse>"));
+
+        assertThat(result.left().name).isEqualTo("foo");
+        assertThat(result.left().count).isEqualTo(42);
+        assertThat(result.right()).containsEntry(AwsHeader.AWS_REQUEST_ID, "req-1");
+    }
+
+    @Test
+    public void unmarshall_unwrappedResponse_collectsListsAndNestedStructs() {
+        Pair<TestPojo, Map<String, String>> result =
+            UNWRAPPED.unmarshall(new TestPojo(), response("<OpResponse><requestId>req-2</requestId>"
+                                                          + "<itemSet><item>a</item><item>b</item></itemSet>"
+                                                          + "<tag>x</tag><tag>y</tag>"
+                                                          + "<child><name>nested</name></child></OpResponse>"));
+
+        assertThat(result.left().items).isEqualTo(Arrays.asList("a", "b"));
+        assertThat(result.left().tags).isEqualTo(Arrays.asList("x", "y"));
+        assertThat(result.left().child.name).isEqualTo("nested");
+        assertThat(result.right()).containsEntry(AwsHeader.AWS_REQUEST_ID, "req-2");
+    }
+
+    @Test
+    public void unmarshall_malformedXml_throwsSdkClientException() {
+        assertThatThrownBy(() -> UNWRAPPED.unmarshall(new TestPojo(), response("<OpResponse><name>foo</OpResponse>")))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Could not parse XML response");
+    }
+
+    private static SdkHttpFullResponse response(String xml) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                  .build();
+    }
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+        private static final SdkField<String> NAME = SdkField.builder(MarshallingType.STRING)
+                                                             .memberName("name")
+                                                             .getter(p -> ((TestPojo) p).name)
+                                                             .setter((p, v) -> ((TestPojo) p).name = v)
+                                                             .traits(location("name"))
+                                                             .build();
+
+        private static final SdkField<String> ALIAS = SdkField.builder(MarshallingType.STRING)
+                                                              .memberName("alias")
+                                                              .getter(p -> ((TestPojo) p).alias)
+                                                              .setter((p, v) -> ((TestPojo) p).alias = v)
+                                                              .traits(location("alias"))
+                                                              .build();
+
+        private static final SdkField<String> ALIAS_COPY = SdkField.builder(MarshallingType.STRING)
+                                                                   .memberName("aliasCopy")
+                                                                   .getter(p -> ((TestPojo) p).aliasCopy)
+                                                                   .setter((p, v) -> ((TestPojo) p).aliasCopy = v)
+                                                                   .traits(location("alias"))
+                                                                   .build();
+
+        private static final SdkField<Integer> COUNT = SdkField.builder(MarshallingType.INTEGER)
+                                                               .memberName("count")
+                                                               .getter(p -> ((TestPojo) p).count)
+                                                               .setter((p, v) -> ((TestPojo) p).count = v)
+                                                               .traits(location("count"))
+                                                               .build();
+
+        private static final SdkField<List<String>> ITEMS =
+            SdkField.<List<String>>builder(MarshallingType.LIST)
+                    .memberName("items")
+                    .getter(p -> ((TestPojo) p).items)
+                    .setter((p, v) -> ((TestPojo) p).items = v)
+                    .traits(location("itemSet"),
+                            ListTrait.builder()
+                                     .memberLocationName("item")
+                                     .memberFieldInfo(stringMember("item"))
+                                     .build())
+                    .build();
+
+        private static final SdkField<List<String>> TAGS =
+            SdkField.<List<String>>builder(MarshallingType.LIST)
+                    .memberName("tags")
+                    .getter(p -> ((TestPojo) p).tags)
+                    .setter((p, v) -> ((TestPojo) p).tags = v)
+                    .traits(location("tag"),
+                            ListTrait.builder()
+                                     .memberLocationName("tag")
+                                     .memberFieldInfo(stringMember("tag"))
+                                     .isFlattened(true)
+                                     .build())
+                    .build();
+
+        private static final SdkField<TestPojo> CHILD = SdkField.<TestPojo>builder(MarshallingType.SDK_POJO)
+                                                                .memberName("child")
+                                                                .getter(p -> ((TestPojo) p).child)
+                                                                .setter((p, v) -> ((TestPojo) p).child = v)
+                                                                .constructor(TestPojo::new)
+                                                                .traits(location("child"))
+                                                                .build();
+
+        private static final List<SdkField<?>> FIELDS = Arrays.asList(NAME, ALIAS, ALIAS_COPY, COUNT, ITEMS, TAGS, CHILD);
+
+        private String name;
+        private String alias;
+        private String aliasCopy;
+        private Integer count;
+        private List<String> items;
+        private List<String> tags;
+        private TestPojo child;
+
+        private static LocationTrait location(String name) {
+            return LocationTrait.builder()
+                                .location(MarshallLocation.PAYLOAD)
+                                .locationName(name)
+                                .unmarshallLocationName(name)
+                                .build();
+        }
+
+        private static SdkField<String> stringMember(String name) {
+            return SdkField.builder(MarshallingType.STRING)
+                           .traits(location(name))
+                           .build();
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+    }
+}
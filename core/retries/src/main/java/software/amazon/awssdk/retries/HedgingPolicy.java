@@ -0,0 +1,250 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * A policy to send a second, hedged attempt of a request when the first attempt did not receive a response after a delay. The
+ * response received first is used, and the other attempt is cancelled. This reduces the tail latency caused by slow attempts
+ * that do not fail, at the cost of sending more requests.
+ * <p>
+ * Only operations that are safe to send twice should be hedged, which is why the operations must be listed explicitly with
+ * {@link Builder#idempotentOperations(Collection)}. Each hedged attempt costs {@link Builder#tokenCost(Integer)} tokens from the
+ * retry quota of the retry strategy, the same quota consumed by retries, so that hedging stops when the service is failing
+ * instead of amplifying the load on it. Like the cost of a retry, the tokens are returned to the quota when the request
+ * succeeds.
+ * <p>
+ * The delay is either fixed, or derived from a percentile of the latencies of the first attempts observed by the client, e.g.
+ * hedging after the observed p95 latency hedges about 5% of the requests. Each client keeps track of its own latencies, so a
+ * policy can be shared between clients.
+ *
+ * <p>Example Usage
+ * <pre>
+ * HedgingPolicy hedgingPolicy =
+ *     HedgingPolicy.builder()
+ *                  .idempotentOperations(Arrays.asList("GetItem", "Query"))
+ *                  .delay(Duration.ofMillis(20))
+ *                  .delayPercentile(95.0)
+ *                  .build();
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class HedgingPolicy implements ToCopyableBuilder<HedgingPolicy.Builder, HedgingPolicy> {
+    private static final int DEFAULT_TOKEN_COST = 5;
+
+    private final Set<String> idempotentOperations;
+    private final Duration delay;
+    private final Double delayPercentile;
+    private final int tokenCost;
+
+    private HedgingPolicy(BuilderImpl builder) {
+        this.idempotentOperations = Collections.unmodifiableSet(new HashSet<>(builder.idempotentOperations));
+        this.delay = Validate.isPositive(builder.delay, "delay");
+        this.delayPercentile = builder.delayPercentile;
+        if (delayPercentile != null) {
+            Validate.isTrue(delayPercentile > 0 && delayPercentile < 100,
+                            "delayPercentile must be between 0 and 100, exclusive, but was %s", delayPercentile);
+        }
+        this.tokenCost = builder.tokenCost != null ? Validate.isNotNegative(builder.tokenCost, "tokenCost")
+                                                   : DEFAULT_TOKEN_COST;
+    }
+
+    /**
+     * Returns whether requests of the given operation may be hedged.
+     */
+    public boolean isHedgeable(String operationName) {
+        return operationName != null && idempotentOperations.contains(operationName);
+    }
+
+    /**
+     * The names of the operations that may be hedged.
+     */
+    public Set<String> idempotentOperations() {
+        return idempotentOperations;
+    }
+
+    /**
+     * How long to wait for a response to the first attempt before sending a hedged attempt, when no percentile is configured
+     * or not enough latencies have been observed yet.
+     */
+    public Duration delay() {
+        return delay;
+    }
+
+    /**
+     * The percentile of the observed latencies after which requests are hedged, if configured.
+     */
+    public Optional<Double> delayPercentile() {
+        return Optional.ofNullable(delayPercentile);
+    }
+
+    /**
+     * The number of tokens taken from the retry quota for each hedged attempt.
+     */
+    public int tokenCost() {
+        return tokenCost;
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new BuilderImpl(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgingPolicy that = (HedgingPolicy) o;
+
+        if (tokenCost != that.tokenCost) {
+            return false;
+        }
+        if (!idempotentOperations.equals(that.idempotentOperations)) {
+            return false;
+        }
+        if (!delay.equals(that.delay)) {
+            return false;
+        }
+        return delayPercentile != null ? delayPercentile.equals(that.delayPercentile) : that.delayPercentile == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = idempotentOperations.hashCode();
+        result = 31 * result + delay.hashCode();
+        result = 31 * result + (delayPercentile != null ? delayPercentile.hashCode() : 0);
+        result = 31 * result + tokenCost;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingPolicy")
+                       .add("idempotentOperations", idempotentOperations)
+                       .add("delay", delay)
+                       .add("delayPercentile", delayPercentile)
+                       .add("tokenCost", tokenCost)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, HedgingPolicy> {
+        /**
+         * The names of the operations that may be hedged, e.g. {@code GetItem}. Operations not listed are never hedged.
+         */
+        Builder idempotentOperations(Collection<String> idempotentOperations);
+
+        /**
+         * Adds an operation that may be hedged.
+         */
+        Builder addIdempotentOperation(String idempotentOperation);
+
+        /**
+         * How long to wait for a response to the first attempt before sending a hedged attempt. When
+         * {@link #delayPercentile(Double)} is configured, this delay is only used until enough latencies have been observed.
+         * This is required.
+         */
+        Builder delay(Duration delay);
+
+        /**
+         * Hedge requests that take longer than this percentile of the observed latencies, e.g. {@code 95.0}. By default, the
+         * fixed {@link #delay(Duration)} is used.
+         */
+        Builder delayPercentile(Double delayPercentile);
+
+        /**
+         * The number of tokens taken from the retry quota for each hedged attempt. Defaults to 5, the cost of a retry.
+         */
+        Builder tokenCost(Integer tokenCost);
+
+        @Override
+        HedgingPolicy build();
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private final Set<String> idempotentOperations = new HashSet<>();
+        private Duration delay;
+        private Double delayPercentile;
+        private Integer tokenCost;
+
+        private BuilderImpl() {
+        }
+
+        private BuilderImpl(HedgingPolicy policy) {
+            this.idempotentOperations.addAll(policy.idempotentOperations);
+            this.delay = policy.delay;
+            this.delayPercentile = policy.delayPercentile;
+            this.tokenCost = policy.tokenCost;
+        }
+
+        @Override
+        public Builder idempotentOperations(Collection<String> idempotentOperations) {
+            this.idempotentOperations.clear();
+            this.idempotentOperations.addAll(idempotentOperations);
+            return this;
+        }
+
+        @Override
+        public Builder addIdempotentOperation(String idempotentOperation) {
+            this.idempotentOperations.add(idempotentOperation);
+            return this;
+        }
+
+        @Override
+        public Builder delay(Duration delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        @Override
+        public Builder delayPercentile(Double delayPercentile) {
+            this.delayPercentile = delayPercentile;
+            return this;
+        }
+
+        @Override
+        public Builder tokenCost(Integer tokenCost) {
+            this.tokenCost = tokenCost;
+            return this;
+        }
+
+        @Override
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -47,7 +47,7 @@ import software.amazon.awssdk.utils.Validate;
  * tailor the behavior to its needs.
  */
 @SdkInternalApi
-public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
+public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy, HedgingAwareRetryStrategy {
 
     protected final Logger log;
     protected final List<Predicate<Throwable>> retryPredicates;
@@ -146,6 +146,42 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
         return RecordSuccessResponse.create(refreshedToken);
     }
 
+    /**
+     * Takes the cost of a hedged attempt from the same token bucket used for retries, so that requests are not hedged when
+     * retries are not allowed either.
+     *
+     * @see HedgingAwareRetryStrategy#tryAcquireHedgingCapacity(RetryToken, int)
+     */
+    @Override
+    public final boolean tryAcquireHedgingCapacity(RetryToken token, int cost) {
+        DefaultRetryToken retryToken = asDefaultRetryToken(token);
+        TokenBucket tokenBucket = tokenBucketStore.tokenBucketForScope(retryToken.scope());
+        AcquireResponse acquireResponse = tokenBucket.tryAcquire(cost);
+        log.debug(() -> String.format("Hedged attempt %s (cost: %d, capacity: %d/%d)",
+                                      acquireResponse.acquisitionFailed() ? "not sent" : "token acquired",
+                                      cost,
+                                      acquireResponse.capacityRemaining(),
+                                      acquireResponse.maxCapacity()));
+        return !acquireResponse.acquisitionFailed();
+    }
+
+    /**
+     * Returns the cost of a hedged attempt to the token bucket once the request succeeded, the same way
+     * {@link #recordSuccess(RecordSuccessRequest)} returns the cost of a retry.
+     *
+     * @see HedgingAwareRetryStrategy#releaseHedgingCapacity(RetryToken, int)
+     */
+    @Override
+    public final void releaseHedgingCapacity(RetryToken token, int cost) {
+        DefaultRetryToken retryToken = asDefaultRetryToken(token);
+        TokenBucket tokenBucket = tokenBucketStore.tokenBucketForScope(retryToken.scope());
+        ReleaseResponse releaseResponse = tokenBucket.release(cost);
+        log.debug(() -> String.format("Hedged request succeeded (released: %d, capacity: %d/%d)",
+                                      releaseResponse.capacityReleased(),
+                                      releaseResponse.currentCapacity(),
+                                      releaseResponse.maxCapacity()));
+    }
+
     @Override
     public int maxAttempts() {
         return maxAttempts;
@@ -0,0 +1,46 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.retries.HedgingPolicy;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+
+/**
+ * Identify a {@link RetryStrategy} whose retry quota can also be used to send hedged attempts, see {@link HedgingPolicy}.
+ */
+@SdkProtectedApi
+public interface HedgingAwareRetryStrategy extends RetryStrategy {
+
+    /**
+     * Tries to take the given number of tokens from the retry quota of the scope of the token, to send a hedged attempt.
+     *
+     * @param token the token acquired for the request to hedge
+     * @param cost the number of tokens to take
+     * @return true if the tokens were taken and the hedged attempt can be sent, false if there is not enough capacity
+     */
+    boolean tryAcquireHedgingCapacity(RetryToken token, int cost);
+
+    /**
+     * Returns tokens taken by {@link #tryAcquireHedgingCapacity(RetryToken, int)} to the retry quota of the scope of the token,
+     * after the hedged request succeeded. This mirrors how the capacity taken by a retry is returned when the request succeeds.
+     *
+     * @param token the token acquired for the hedged request
+     * @param cost the number of tokens to return
+     */
+    void releaseHedgingCapacity(RetryToken token, int cost);
+}
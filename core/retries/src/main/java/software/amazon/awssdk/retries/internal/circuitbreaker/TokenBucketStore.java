@@ -19,7 +19,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.utils.Validate;
-import software.amazon.awssdk.utils.cache.lru.LruCache;
+import software.amazon.awssdk.utils.cache.ConcurrentLruCache;
 
 /**
  * A store to keep token buckets per scope.
@@ -29,14 +29,14 @@ public final class TokenBucketStore {
     private static final int DEFAULT_MAX_TOKENS = 500;
     private static final int MAX_ENTRIES = 128;
     private final int tokenBucketMaxCapacity;
-    private final LruCache<String, TokenBucket> scopeToTokenBucket;
+    private final ConcurrentLruCache<String, TokenBucket> scopeToTokenBucket;
 
     @SuppressWarnings("serial")
     private TokenBucketStore(Builder builder) {
         this.tokenBucketMaxCapacity = builder.tokenBucketMaxCapacity;
-        this.scopeToTokenBucket = LruCache.<String, TokenBucket>builder(x -> new TokenBucket(tokenBucketMaxCapacity))
-                                          .maxSize(MAX_ENTRIES)
-                                          .build();
+        this.scopeToTokenBucket = ConcurrentLruCache.<String, TokenBucket>builder(x -> new TokenBucket(tokenBucketMaxCapacity))
+                                                    .maxSize(MAX_ENTRIES)
+                                                    .build();
     }
 
     /**
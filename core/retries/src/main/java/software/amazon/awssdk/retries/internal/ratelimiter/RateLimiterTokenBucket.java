@@ -31,6 +31,11 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
  * using an {@link AtomicReference}. This class is converted to {@link TransientState} when the state needs to be mutated and
  * converted back to a {@link PersistentState} and stored using {@link AtomicReference#compareAndSet(Object, Object)}.
  *
+ * <p>{@link #tryAcquire()} is called by every request, so it is kept cheap when many threads share a bucket: it does not write
+ * the state at all until the first throttling response enables the rate limiting, and afterwards only replaces the token
+ * count and refill timestamp, sharing the {@link RateState} that is only recomputed on responses. This keeps the window
+ * between reading and swapping the state short, so that concurrent callers rarely have to retry.
+ *
  * <p>The algorithm used is adapted from the network congestion avoidance algorithm
  * <a href="https://en.wikipedia.org/wiki/CUBIC_TCP">CUBIC</a>.
  */
@@ -50,8 +55,25 @@ public class RateLimiterTokenBucket {
      * callers need to wait until enough tokens are refilled.
      */
     public RateLimiterAcquireResponse tryAcquire() {
-        StateUpdate<Duration> update = updateState(ts -> ts.tokenBucketAcquire(clock, 1.0));
-        return RateLimiterAcquireResponse.create(update.result);
+        return RateLimiterAcquireResponse.create(acquire(1.0));
+    }
+
+    private Duration acquire(double amount) {
+        PersistentState current;
+        PersistentState updated;
+        double waitTime;
+        do {
+            current = stateReference.get();
+            if (!current.rate.enabled) {
+                return Duration.ZERO;
+            }
+            double timestamp = clock.time();
+            double capacity = current.refilledCapacity(timestamp);
+            waitTime = capacity < amount ? (amount - capacity) / current.rate.fillRate : 0.0;
+            updated = new PersistentState(current.rate, capacity - amount, true, timestamp);
+        } while (!stateReference.compareAndSet(current, updated));
+
+        return Duration.ofNanos((long) (waitTime * 1_000_000_000.0));
     }
 
     /**
@@ -139,41 +161,24 @@ public class RateLimiterTokenBucket {
         private double newTokenBucketRate;
 
         private TransientState(PersistentState state) {
-            this.fillRate = state.fillRate;
-            this.maxCapacity = state.maxCapacity;
+            RateState rate = state.rate;
+            this.fillRate = rate.fillRate;
+            this.maxCapacity = rate.maxCapacity;
             this.currentCapacity = state.currentCapacity;
             this.lastTimestampIsSet = state.lastTimestampIsSet;
             this.lastTimestamp = state.lastTimestamp;
-            this.enabled = state.enabled;
-            this.measuredTxRate = state.measuredTxRate;
-            this.lastTxRateBucket = state.lastTxRateBucket;
-            this.requestCount = state.requestCount;
-            this.lastMaxRate = state.lastMaxRate;
-            this.lastThrottleTime = state.lastThrottleTime;
-            this.timeWindow = state.timeWindow;
-            this.newTokenBucketRate = state.newTokenBucketRate;
+            this.enabled = rate.enabled;
+            this.measuredTxRate = rate.measuredTxRate;
+            this.lastTxRateBucket = rate.lastTxRateBucket;
+            this.requestCount = rate.requestCount;
+            this.lastMaxRate = rate.lastMaxRate;
+            this.lastThrottleTime = rate.lastThrottleTime;
+            this.timeWindow = rate.timeWindow;
+            this.newTokenBucketRate = rate.newTokenBucketRate;
         }
 
         PersistentState toPersistent() {
-            return new PersistentState(this);
-        }
-
-        /**
-         * Acquire tokens from the bucket. If the bucket contains enough capacity to satisfy the request, this method will return
-         * a {@link Duration#ZERO} value, otherwise it will return the amount of time the callers need to wait until enough tokens
-         * are refilled.
-         */
-        Duration tokenBucketAcquire(RateLimiterClock clock, double amount) {
-            if (!this.enabled) {
-                return Duration.ZERO;
-            }
-            refill(clock);
-            double waitTime = 0.0;
-            if (this.currentCapacity < amount) {
-                waitTime = (amount - this.currentCapacity) / this.fillRate;
-            }
-            this.currentCapacity -= amount;
-            return Duration.ofNanos((long) (waitTime * 1_000_000_000.0));
+            return new PersistentState(new RateState(this), currentCapacity, lastTimestampIsSet, lastTimestamp);
         }
 
         /**
@@ -249,12 +254,57 @@ public class RateLimiterTokenBucket {
         }
     }
 
+    /**
+     * The state of the token bucket: the tokens currently available and when they were last refilled, along with the
+     * {@link RateState} that determines how fast they are refilled.
+     */
     static final class PersistentState {
-        private final double fillRate;
-        private final double maxCapacity;
+        private final RateState rate;
         private final double currentCapacity;
         private final boolean lastTimestampIsSet;
         private final double lastTimestamp;
+
+        private PersistentState() {
+            this(new RateState(), 0, false, 0);
+        }
+
+        private PersistentState(RateState rate, double currentCapacity, boolean lastTimestampIsSet, double lastTimestamp) {
+            this.rate = rate;
+            this.currentCapacity = currentCapacity;
+            this.lastTimestampIsSet = lastTimestampIsSet;
+            this.lastTimestamp = lastTimestamp;
+        }
+
+        TransientState toTransient() {
+            return new TransientState(this);
+        }
+
+        /**
+         * Returns the capacity after refilling the bucket up to the given timestamp, see {@link TransientState#refill}.
+         */
+        double refilledCapacity(double timestamp) {
+            if (!lastTimestampIsSet) {
+                return currentCapacity;
+            }
+            double fillAmount = (timestamp - lastTimestamp) * rate.fillRate;
+            return Math.min(rate.maxCapacity, currentCapacity + fillAmount);
+        }
+
+        public double fillRate() {
+            return rate.fillRate;
+        }
+
+        public double measuredTxRate() {
+            return rate.measuredTxRate;
+        }
+    }
+
+    /**
+     * The state of the CUBIC rate estimation, only updated after a response.
+     */
+    static final class RateState {
+        private final double fillRate;
+        private final double maxCapacity;
         private final boolean enabled;
         private final double measuredTxRate;
         private final double lastTxRateBucket;
@@ -264,12 +314,9 @@ public class RateLimiterTokenBucket {
         private final double timeWindow;
         private final double newTokenBucketRate;
 
-        private PersistentState() {
+        private RateState() {
             this.fillRate = 0;
             this.maxCapacity = 0;
-            this.currentCapacity = 0;
-            this.lastTimestampIsSet = false;
-            this.lastTimestamp = 0;
             this.enabled = false;
             this.measuredTxRate = 0;
             this.lastTxRateBucket = 0;
@@ -280,12 +327,9 @@ public class RateLimiterTokenBucket {
             this.newTokenBucketRate = 0;
         }
 
-        PersistentState(TransientState state) {
+        private RateState(TransientState state) {
             this.fillRate = state.fillRate;
             this.maxCapacity = state.maxCapacity;
-            this.currentCapacity = state.currentCapacity;
-            this.lastTimestampIsSet = state.lastTimestampIsSet;
-            this.lastTimestamp = state.lastTimestamp;
             this.enabled = state.enabled;
             this.measuredTxRate = state.measuredTxRate;
             this.lastTxRateBucket = state.lastTxRateBucket;
@@ -295,17 +339,5 @@ public class RateLimiterTokenBucket {
             this.timeWindow = state.timeWindow;
             this.newTokenBucketRate = state.newTokenBucketRate;
         }
-
-        TransientState toTransient() {
-            return new TransientState(this);
-        }
-
-        public double fillRate() {
-            return fillRate;
-        }
-
-        public double measuredTxRate() {
-            return measuredTxRate;
-        }
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.internal.HedgingAwareRetryStrategy;
+
+class HedgingPolicyTest {
+
+    @Test
+    void isHedgeable_onlyListedOperations() {
+        HedgingPolicy policy = HedgingPolicy.builder()
+                                            .idempotentOperations(Arrays.asList("GetItem", "Query"))
+                                            .addIdempotentOperation("HeadObject")
+                                            .delay(Duration.ofMillis(10))
+                                            .build();
+
+        assertThat(policy.isHedgeable("GetItem")).isTrue();
+        assertThat(policy.isHedgeable("HeadObject")).isTrue();
+        assertThat(policy.isHedgeable("PutItem")).isFalse();
+        assertThat(policy.isHedgeable(null)).isFalse();
+    }
+
+    @Test
+    void toBuilder_copiesAllSettings() {
+        HedgingPolicy policy = HedgingPolicy.builder()
+                                            .addIdempotentOperation("GetItem")
+                                            .delay(Duration.ofMillis(10))
+                                            .delayPercentile(95.0)
+                                            .tokenCost(2)
+                                            .build();
+
+        HedgingPolicy copy = policy.toBuilder().build();
+
+        assertThat(copy).isEqualTo(policy).hasSameHashCodeAs(policy);
+        assertThat(copy.delay()).isEqualTo(Duration.ofMillis(10));
+        assertThat(copy.delayPercentile()).contains(95.0);
+        assertThat(copy.tokenCost()).isEqualTo(2);
+        assertThat(policy.toBuilder().delayPercentile(null).build()).isNotEqualTo(policy);
+    }
+
+    @Test
+    void build_invalidConfiguration_throws() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HedgingPolicy.builder().delay(Duration.ofMillis(1)).delayPercentile(100.0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HedgingPolicy.builder().delay(Duration.ofMillis(1)).tokenCost(-1).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tryAcquireHedgingCapacity_takesTokensFromRetryQuota() {
+        HedgingAwareRetryStrategy strategy = (HedgingAwareRetryStrategy) StandardRetryStrategy.builder().build();
+        RetryToken token = strategy.acquireInitialToken(AcquireInitialTokenRequest.create("scope")).token();
+
+        int hedges = 0;
+        while (strategy.tryAcquireHedgingCapacity(token, 5)) {
+            hedges++;
+        }
+
+        assertThat(hedges).isEqualTo(100);
+        RetryToken otherScope = strategy.acquireInitialToken(AcquireInitialTokenRequest.create("other")).token();
+        assertThat(strategy.tryAcquireHedgingCapacity(otherScope, 5)).isTrue();
+    }
+
+    @Test
+    void releaseHedgingCapacity_returnsTokensToRetryQuota() {
+        HedgingAwareRetryStrategy strategy = (HedgingAwareRetryStrategy) StandardRetryStrategy.builder().build();
+        RetryToken token = strategy.acquireInitialToken(AcquireInitialTokenRequest.create("scope")).token();
+        while (strategy.tryAcquireHedgingCapacity(token, 5)) {
+            // Drain the retry quota
+        }
+
+        strategy.releaseHedgingCapacity(token, 5);
+
+        assertThat(strategy.tryAcquireHedgingCapacity(token, 5)).isTrue();
+        assertThat(strategy.tryAcquireHedgingCapacity(token, 5)).isFalse();
+    }
+}
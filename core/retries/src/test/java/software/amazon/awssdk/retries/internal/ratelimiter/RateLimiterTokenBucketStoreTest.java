@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.ratelimiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.within;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTokenBucketStoreTest {
+
+    @Test
+    void tokenBucketForScope_sameScope_returnsSameBucket() {
+        RateLimiterTokenBucketStore store = RateLimiterTokenBucketStore.builder().build();
+
+        assertThat(store.tokenBucketForScope("table-a")).isSameAs(store.tokenBucketForScope("table-a"));
+        assertThat(store.tokenBucketForScope("table-a")).isNotSameAs(store.tokenBucketForScope("table-b"));
+    }
+
+    @Test
+    void tryAcquire_throttlingInOneScope_doesNotDelayOtherScopes() {
+        RateLimiterTokenBucketStore store = RateLimiterTokenBucketStore.builder().clock(() -> 1.0).build();
+        RateLimiterTokenBucket throttled = store.tokenBucketForScope("hot-partition");
+        throttled.updateRateAfterThrottling();
+
+        assertThat(throttled.tryAcquire().delay()).isGreaterThan(Duration.ZERO);
+        assertThat(store.tokenBucketForScope("other-table").tryAcquire().delay()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void tryAcquire_beforeAnyThrottling_doesNotDelay() {
+        RateLimiterTokenBucket bucket = RateLimiterTokenBucketStore.builder().clock(() -> 1.0).build()
+                                                                   .tokenBucketForScope("scope");
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(bucket.tryAcquire().delay()).isEqualTo(Duration.ZERO);
+        }
+    }
+
+    @Test
+    void tryAcquire_concurrentCallers_everyTokenIsAccountedFor() throws Exception {
+        int threads = 16;
+        int acquiresPerThread = 1_000;
+        RateLimiterTokenBucket bucket = RateLimiterTokenBucketStore.builder().clock(() -> 1.0).build()
+                                                                   .tokenBucketForScope("scope");
+        double fillRate = bucket.updateRateAfterThrottling().fillRate();
+        Duration firstDelay = bucket.tryAcquire().delay();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < acquiresPerThread; i++) {
+                        bucket.tryAcquire();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // The clock does not move, so each acquire adds exactly one token worth of delay to the next one.
+        double lastDelaySeconds = bucket.tryAcquire().delay().toNanos() / 1_000_000_000.0;
+        double firstDelaySeconds = firstDelay.toNanos() / 1_000_000_000.0;
+        assertThat(lastDelaySeconds - firstDelaySeconds).isCloseTo((threads * acquiresPerThread + 1) / fillRate,
+                                                                   within(0.001));
+    }
+}
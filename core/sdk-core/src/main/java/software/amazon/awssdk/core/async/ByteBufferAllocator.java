@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.async;
+
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.internal.async.HeapByteBufferAllocator;
+import software.amazon.awssdk.core.internal.async.PooledByteBufferAllocator;
+
+/**
+ * Allocates the {@link ByteBuffer}s the SDK uses to stage request and response data internally, such as the buffer that
+ * accumulates a partial chunk while an async request body is being re-chunked for checksum trailers or compression.
+ *
+ * <p>Every buffer returned by {@link #allocate(int)} is owned by the caller until it is passed to {@link #release(ByteBuffer)}.
+ * The SDK only allocates buffers from this allocator whose lifetime it controls, and always releases them. Buffers that are
+ * handed to a {@link org.reactivestreams.Subscriber} or returned to the caller are never allocated from it, because the SDK has
+ * no way of knowing when the receiver is done with them.
+ *
+ * <p>Configure an allocator for a client with
+ * {@link software.amazon.awssdk.core.client.config.ClientOverrideConfiguration.Builder#byteBufferAllocator(ByteBufferAllocator)}.
+ * By default, {@link #heap()} is used.
+ *
+ * <p>Implementations must be thread safe.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ByteBufferAllocator {
+
+    /**
+     * Allocate a buffer with at least {@code capacity} bytes of space. The returned buffer has a position of 0 and a limit of
+     * {@code capacity}. Its content is undefined.
+     *
+     * @param capacity The number of bytes the buffer must be able to hold.
+     * @return A buffer that is owned by the caller until it is released.
+     */
+    ByteBuffer allocate(int capacity);
+
+    /**
+     * Return a buffer previously returned by {@link #allocate(int)} to this allocator. The caller must not read from or write
+     * to the buffer, or any view of it, after calling this method, and must not release the same buffer more than once.
+     *
+     * @param buffer The buffer to release.
+     */
+    void release(ByteBuffer buffer);
+
+    /**
+     * An allocator that allocates a new heap buffer for every request and leaves released buffers to the garbage collector.
+     * This is the default allocator.
+     */
+    static ByteBufferAllocator heap() {
+        return HeapByteBufferAllocator.INSTANCE;
+    }
+
+    /**
+     * An allocator that recycles released direct buffers, retaining up to 64 MiB of idle buffers.
+     *
+     * @see #pooled(long)
+     */
+    static ByteBufferAllocator pooled() {
+        return PooledByteBufferAllocator.builder().build();
+    }
+
+    /**
+     * An allocator that recycles released direct buffers. Requests are rounded up to the next power of two between 4 KiB and
+     * 1 MiB, and each size is pooled separately. Larger requests are served with unpooled heap buffers.
+     *
+     * <p>When the logger for {@code software.amazon.awssdk.core.internal.async.PooledByteBufferAllocator} is at debug level
+     * when the allocator is created, it also tracks every outstanding buffer and logs a warning, including the stack trace of
+     * the allocation, for buffers that are garbage collected without being released.
+     *
+     * @param maxRetainedBytes The maximum number of bytes held by idle buffers. Buffers released beyond this limit are left to
+     * the garbage collector.
+     */
+    static ByteBufferAllocator pooled(long maxRetainedBytes) {
+        return PooledByteBufferAllocator.builder().maxRetainedBytes(maxRetainedBytes).build();
+    }
+}
@@ -20,6 +20,7 @@ import static java.util.Collections.emptyMap;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITIONAL_HTTP_HEADERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_TIMEOUT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.BYTE_BUFFER_ALLOCATOR;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.COMPRESSION_CONFIGURATION;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_COMPRESSION_CONFIGURATION;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_RETRY_CONFIGURATOR;
@@ -56,6 +57,7 @@ import software.amazon.awssdk.annotations.ToBuilderIgnoreField;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkPlugin;
+import software.amazon.awssdk.core.async.ByteBufferAllocator;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
@@ -122,6 +124,7 @@ public final class ClientOverrideConfiguration
         options.add(CONFIGURED_RETRY_CONFIGURATOR);
         options.add(CONFIGURED_RETRY_MODE);
         options.add(USER_AGENT_APP_ID);
+        options.add(BYTE_BUFFER_ALLOCATOR);
         CLIENT_OVERRIDE_OPTIONS = Collections.unmodifiableSet(options);
 
         Set<ClientOption<?>> resolvedOptions = new HashSet<>();
@@ -391,6 +394,15 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(config.option(USER_AGENT_APP_ID));
     }
 
+    /**
+     * The allocator of the buffers the SDK uses to stage request data internally.
+     *
+     * @see Builder#byteBufferAllocator(ByteBufferAllocator)
+     */
+    public Optional<ByteBufferAllocator> byteBufferAllocator() {
+        return Optional.ofNullable(config.option(BYTE_BUFFER_ALLOCATOR));
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ClientOverrideConfiguration")
@@ -406,6 +418,7 @@ public final class ClientOverrideConfiguration
                        .add("scheduledExecutorService", scheduledExecutorService().orElse(null))
                        .add("compressionConfiguration", compressionConfiguration().orElse(null))
                        .add("appId", appId().orElse(null))
+                       .add("byteBufferAllocator", byteBufferAllocator().orElse(null))
                        .build();
     }
 
@@ -778,6 +791,25 @@ public final class ClientOverrideConfiguration
          * The appId for this client. See {@link SdkClientOption#USER_AGENT_APP_ID}.
          */
         String appId();
+
+        /**
+         * Configure the allocator of the buffers the SDK uses to stage request data internally, such as the buffer that
+         * accumulates a partial chunk while an async request body is re-chunked for checksum trailers or compression.
+         *
+         * <p>By default, {@link ByteBufferAllocator#heap()} is used. Clients that send many streaming requests can use
+         * {@link ByteBufferAllocator#pooled()} to recycle these buffers instead of allocating new ones for every request. The
+         * allocator may be shared across clients.
+         *
+         * @see ByteBufferAllocator
+         */
+        Builder byteBufferAllocator(ByteBufferAllocator byteBufferAllocator);
+
+        /**
+         * The allocator of the buffers the SDK uses to stage request data internally.
+         *
+         * @see #byteBufferAllocator(ByteBufferAllocator)
+         */
+        ByteBufferAllocator byteBufferAllocator();
     }
 
     /**
@@ -1121,6 +1153,17 @@ public final class ClientOverrideConfiguration
             return this;
         }
 
+        @Override
+        public ByteBufferAllocator byteBufferAllocator() {
+            return config.option(BYTE_BUFFER_ALLOCATOR);
+        }
+
+        @Override
+        public Builder byteBufferAllocator(ByteBufferAllocator byteBufferAllocator) {
+            config.option(BYTE_BUFFER_ALLOCATOR, byteBufferAllocator);
+            return this;
+        }
+
         @Override
         public ClientOverrideConfiguration build() {
             return new ClientOverrideConfiguration(config.build(), resolvedConfig.build());
@@ -21,6 +21,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import software.amazon.awssdk.annotations.SdkAdvancedApi;
 import software.amazon.awssdk.annotations.SdkAdvancedApi.Usage;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.retries.HedgingPolicy;
 
 /**
  * A collection of advanced options that can be configured on an async AWS client via
@@ -77,6 +78,20 @@ public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedAsyncClientOption<Boolean> CRT_MEMORY_BUFFER_DISABLED =
         new SdkAdvancedAsyncClientOption<>(Boolean.class);
 
+    /**
+     * Configure a {@link HedgingPolicy} to send a second attempt of requests to idempotent operations that did not receive a
+     * response after a delay, and use whichever response is received first. This reduces the tail latency of reads, at the cost
+     * of sending more requests.
+     * <p>
+     * Only the first attempt of a request is hedged, and only for operations that do not stream their request body. Hedged
+     * attempts take tokens from the retry quota of the client's retry strategy, and are not sent when the retry strategy is not
+     * one of the SDK's retry strategies.
+     * <p>
+     * By default, requests are not hedged.
+     */
+    public static final SdkAdvancedAsyncClientOption<HedgingPolicy> HEDGING_POLICY =
+        new SdkAdvancedAsyncClientOption<>(HedgingPolicy.class);
+
     private SdkAdvancedAsyncClientOption(Class<T> valueClass) {
         super(valueClass);
     }
@@ -28,6 +28,7 @@ import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.core.ServiceConfiguration;
+import software.amazon.awssdk.core.async.ByteBufferAllocator;
 import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
@@ -391,6 +392,14 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<String> USER_AGENT_APP_ID = new SdkClientOption<>(String.class);
 
+    /**
+     * The allocator of the buffers the SDK uses to stage request data internally.
+     *
+     * @see ClientOverrideConfiguration.Builder#byteBufferAllocator(ByteBufferAllocator)
+     */
+    public static final SdkClientOption<ByteBufferAllocator> BYTE_BUFFER_ALLOCATOR =
+        new SdkClientOption<>(ByteBufferAllocator.class);
+
     /**
      * Option to specify a reference to the SDK client in use.
      */
@@ -16,25 +16,92 @@
 package software.amazon.awssdk.core.endpointdiscovery;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.CacheStats;
 
+/**
+ * Caches the endpoints discovered for each access key and cache key.
+ * <p>
+ * Only one discovery call is made at a time for each key: concurrent requests for a key that is being discovered share the
+ * same call. Endpoints that are in use are refreshed in the background before they expire, so that requests keep using the
+ * cached endpoint instead of waiting for discovery. An expired endpoint is still returned while it is refreshed.
+ * <p>
+ * When the cache holds more than its maximum size, the endpoints that expire first are evicted.
+ * <p>
+ * The refreshes are scheduled on a scheduler shared by all caches by default, so the cache must be {@link #close() closed}
+ * when the client that owns it is closed.
+ */
 @SdkProtectedApi
-public final class EndpointDiscoveryRefreshCache {
-    private final Map<String, EndpointDiscoveryEndpoint> cache = new ConcurrentHashMap<>();
+public final class EndpointDiscoveryRefreshCache implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(EndpointDiscoveryRefreshCache.class);
+
+    private static final Duration TEMPORARY_ENDPOINT_TTL = Duration.ofSeconds(60);
+    private static final Duration DEFAULT_REFRESH_AHEAD_TIME = Duration.ofSeconds(60);
+    private static final int DEFAULT_MAX_SIZE = 1_000;
+
+    /**
+     * Schedules the refresh of the endpoints of all caches. It only starts discovery calls, which are asynchronous, so a single
+     * thread is enough.
+     */
+    private static final ScheduledThreadPoolExecutor SHARED_SCHEDULER =
+        new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().threadNamePrefix("sdk-endpoint-discovery-refresh")
+                                                                     .daemonThreads(true)
+                                                                     .build());
+
+    static {
+        // Ensure that cancelling a refresh actually removes it from the queue.
+        SHARED_SCHEDULER.setRemoveOnCancelPolicy(true);
+    }
+
+    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<EndpointDiscoveryEndpoint>> inFlightDiscoveries = new ConcurrentHashMap<>();
 
     private final EndpointDiscoveryCacheLoader client;
+    private final ScheduledExecutorService scheduler;
+    private final Duration refreshAheadTime;
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshNanos = new LongAdder();
 
-    private EndpointDiscoveryRefreshCache(EndpointDiscoveryCacheLoader client) {
-        this.client = client;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private EndpointDiscoveryRefreshCache(Builder builder) {
+        this.client = Validate.paramNotNull(builder.client, "client");
+        this.scheduler = builder.scheduler != null ? builder.scheduler : SHARED_SCHEDULER;
+        this.refreshAheadTime = builder.refreshAheadTime != null
+                                ? Validate.isNotNegative(builder.refreshAheadTime, "refreshAheadTime")
+                                : DEFAULT_REFRESH_AHEAD_TIME;
+        this.maxSize = builder.maxSize != null ? Validate.isPositive(builder.maxSize, "maxSize") : DEFAULT_MAX_SIZE;
     }
 
     public static EndpointDiscoveryRefreshCache create(EndpointDiscoveryCacheLoader client) {
-        return new EndpointDiscoveryRefreshCache(client);
+        return builder(client).build();
+    }
+
+    public static Builder builder(EndpointDiscoveryCacheLoader client) {
+        return new Builder(client);
     }
 
     /**
@@ -45,33 +112,34 @@ public final class EndpointDiscoveryRefreshCache {
      * @return The endpoint to use for this request
      */
     public URI get(String accessKey, EndpointDiscoveryRequest request) {
-
         String key = getKey(accessKey, request);
-        EndpointDiscoveryEndpoint endpoint = cache.get(key);
+        CacheEntry entry = cache.get(key);
 
-        if (endpoint == null && request.required()) {
-            return cache.computeIfAbsent(key, k -> getAndJoin(request)).endpoint();
+        if (entry == null && request.required()) {
+            misses.increment();
+            return getAndJoin(key, request).endpoint();
         }
-        return returnCachedOrDefaultEndpoint(key, endpoint, request);
+        return returnCachedOrDefaultEndpoint(key, entry, request);
     }
 
     public CompletableFuture<URI> getAsync(String accessKey, EndpointDiscoveryRequest request) {
         String key = getKey(accessKey, request);
-        EndpointDiscoveryEndpoint endpoint = cache.get(key);
+        CacheEntry entry = cache.get(key);
 
         // If a service call needs to be made to discover endpoint
         // a completable future for the service call is returned, unblocking I/O
         // and then completed asynchronously
-        if (endpoint == null && request.required()) {
+        if (entry == null && request.required()) {
+            misses.increment();
             return discoverEndpointHandler(key, request);
         }
         // In the event of a cache hit, i.e. service call not required, defer to the synchronous code path method.
-        return CompletableFuture.completedFuture(returnCachedOrDefaultEndpoint(key, endpoint, request));
+        return CompletableFuture.completedFuture(returnCachedOrDefaultEndpoint(key, entry, request));
     }
 
-    private EndpointDiscoveryEndpoint getAndJoin(EndpointDiscoveryRequest request) {
+    private EndpointDiscoveryEndpoint getAndJoin(String key, EndpointDiscoveryRequest request) {
         try {
-            return discoverEndpoint(request).get();
+            return discoverAndCache(key, request).get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw EndpointDiscoveryFailedException.create(e);
@@ -80,16 +148,47 @@ public final class EndpointDiscoveryRefreshCache {
         }
     }
 
-    private void refreshCacheAsync(EndpointDiscoveryRequest request, String key) {
-        discoverEndpoint(request).thenApply(v -> cache.put(key, v));
-    }
-
     public CompletableFuture<EndpointDiscoveryEndpoint> discoverEndpoint(EndpointDiscoveryRequest request) {
         return client.discoverEndpoint(request);
     }
 
     public void evict(String key) {
-        cache.remove(key);
+        CacheEntry entry = cache.remove(key);
+        if (entry != null) {
+            entry.cancelRefresh();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache. A refresh is any discovery call that updated the cache, and the
+     * refresh time is the time spent waiting for those calls.
+     */
+    public CacheStats stats() {
+        return CacheStats.builder()
+                         .hitCount(hits.sum())
+                         .missCount(misses.sum())
+                         .evictionCount(evictions.sum())
+                         .refreshCount(refreshes.sum())
+                         .totalRefreshTime(Duration.ofNanos(refreshNanos.sum()))
+                         .build();
+    }
+
+    /**
+     * Cancels the scheduled refreshes of the cached endpoints and stops scheduling new ones. Endpoints that are already cached
+     * are still returned, but are no longer refreshed before they expire.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        cache.values().forEach(CacheEntry::cancelRefresh);
+        inFlightDiscoveries.clear();
+    }
+
+    @SdkTestInternalApi
+    int size() {
+        return cache.size();
     }
 
     private String getKey(String accessKey, EndpointDiscoveryRequest request) {
@@ -107,39 +206,241 @@ public final class EndpointDiscoveryRefreshCache {
     }
 
     private CompletableFuture<URI> discoverEndpointHandler(String key, EndpointDiscoveryRequest request) {
-        return discoverEndpoint(request).handle(
+        return discoverAndCache(key, request).handle(
             (endpointDiscoveryEndpoint, throwable) -> {
                 if (throwable != null) {
                     throw EndpointDiscoveryFailedException.create(throwable.getCause());
                 }
-                return cache.computeIfAbsent(
-                    key, k -> endpointDiscoveryEndpoint
-                ).endpoint();
+                return endpointDiscoveryEndpoint.endpoint();
             });
     }
 
-    private URI returnCachedOrDefaultEndpoint(String key, EndpointDiscoveryEndpoint endpoint, EndpointDiscoveryRequest request) {
-        EndpointDiscoveryEndpoint tempEndpoint = EndpointDiscoveryEndpoint.builder()
-                                                                          .endpoint(request.defaultEndpoint())
-                                                                          .expirationTime(Instant.now().plusSeconds(60))
-                                                                          .build();
-
-        if (endpoint == null) {
-            EndpointDiscoveryEndpoint previousValue = cache.putIfAbsent(key, tempEndpoint);
+    private URI returnCachedOrDefaultEndpoint(String key, CacheEntry entry, EndpointDiscoveryRequest request) {
+        if (entry == null) {
+            misses.increment();
+            CacheEntry tempEntry = new CacheEntry(EndpointDiscoveryEndpoint.builder()
+                                                                           .endpoint(request.defaultEndpoint())
+                                                                           .expirationTime(temporaryExpirationTime())
+                                                                           .build(),
+                                                  request);
+            tempEntry.markUsed();
+            CacheEntry previousValue = cache.putIfAbsent(key, tempEntry);
             if (previousValue != null) {
                 // Someone else primed the cache. Use that endpoint (which may be temporary).
-                return previousValue.endpoint();
+                return previousValue.endpoint.endpoint();
             }
             // We primed the cache with the temporary endpoint. Kick off discovery in the background.
-            refreshCacheAsync(request, key);
-            return tempEndpoint.endpoint();
+            evictIfNeeded();
+            discoverAndCache(key, request);
+            return tempEntry.endpoint.endpoint();
         }
 
+        hits.increment();
+        entry.markUsed();
+        EndpointDiscoveryEndpoint endpoint = entry.endpoint;
         if (endpoint.expirationTime().isBefore(Instant.now())) {
-            cache.put(key, endpoint.toBuilder().expirationTime(Instant.now().plusSeconds(60)).build());
-            refreshCacheAsync(request, key);
+            // Keep using the expired endpoint while it is refreshed, and only retry discovery after a delay if it fails.
+            CacheEntry extended = new CacheEntry(endpoint.toBuilder().expirationTime(temporaryExpirationTime()).build(),
+                                                 request);
+            extended.markUsed();
+            if (cache.replace(key, entry, extended)) {
+                discoverAndCache(key, request);
+            }
         }
 
         return endpoint.endpoint();
     }
+
+    /**
+     * Discovers the endpoint for the key and caches it, or returns the discovery already in progress for the key. The returned
+     * future is shared, so callers must not complete or cancel it.
+     */
+    private CompletableFuture<EndpointDiscoveryEndpoint> discoverAndCache(String key, EndpointDiscoveryRequest request) {
+        CompletableFuture<EndpointDiscoveryEndpoint> discovery = inFlightDiscoveries.get(key);
+        if (discovery != null) {
+            return discovery;
+        }
+        CompletableFuture<EndpointDiscoveryEndpoint> newDiscovery = new CompletableFuture<>();
+        discovery = inFlightDiscoveries.putIfAbsent(key, newDiscovery);
+        if (discovery != null) {
+            return discovery;
+        }
+
+        long startNanos = System.nanoTime();
+        CompletableFuture<EndpointDiscoveryEndpoint> serviceCall;
+        try {
+            serviceCall = discoverEndpoint(request);
+        } catch (Throwable t) {
+            serviceCall = CompletableFutureUtils.failedFuture(t);
+        }
+        serviceCall.whenComplete((endpoint, throwable) -> {
+            try {
+                if (throwable == null) {
+                    refreshes.increment();
+                    refreshNanos.add(System.nanoTime() - startNanos);
+                    put(key, new CacheEntry(endpoint, request));
+                } else {
+                    log.debug(() -> "Failed to discover the endpoint for an endpoint discovery cache key.", throwable);
+                }
+            } finally {
+                // Removed after the new endpoint is cached, so that a concurrent request sees either this discovery or its
+                // result.
+                inFlightDiscoveries.remove(key, newDiscovery);
+            }
+            if (throwable == null) {
+                newDiscovery.complete(endpoint);
+            } else {
+                newDiscovery.completeExceptionally(throwable);
+            }
+        });
+        return newDiscovery;
+    }
+
+    private void put(String key, CacheEntry entry) {
+        CacheEntry previous = cache.put(key, entry);
+        if (previous != null) {
+            previous.cancelRefresh();
+            if (previous.used) {
+                entry.markUsed();
+            }
+        }
+        scheduleRefresh(key, entry);
+        evictIfNeeded();
+    }
+
+    /**
+     * Schedules the refresh of the entry before it expires. If the entry was not used by then, it is not refreshed, and is
+     * discovered again the next time it is used.
+     */
+    private void scheduleRefresh(String key, CacheEntry entry) {
+        Duration timeToExpiration = Duration.between(Instant.now(), entry.endpoint.expirationTime());
+        if (timeToExpiration.isNegative() || timeToExpiration.isZero() || timeToExpiration.toDays() > 7) {
+            return;
+        }
+
+        // Endpoints that live for less than twice the refresh-ahead time are refreshed half-way through their lifetime.
+        Duration delay = timeToExpiration.minus(refreshAheadTime);
+        Duration halfLife = timeToExpiration.dividedBy(2);
+        if (delay.compareTo(halfLife) < 0) {
+            delay = halfLife;
+        }
+
+        if (closed.get()) {
+            return;
+        }
+
+        try {
+            entry.refreshTask = scheduler.schedule(() -> refresh(key, entry), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.debug(() -> "Failed to schedule the refresh of a discovered endpoint.", e);
+        }
+
+        // The cache may have been closed before the task was set on the entry, so close() may not have cancelled it.
+        if (closed.get()) {
+            entry.cancelRefresh();
+        }
+    }
+
+    private void refresh(String key, CacheEntry entry) {
+        if (!closed.get() && entry.used && cache.get(key) == entry) {
+            entry.used = false;
+            discoverAndCache(key, entry.request);
+        }
+    }
+
+    /**
+     * Evicts the entries that expire first until the cache is back to its maximum size. Entries are only added when an endpoint
+     * is discovered, so scanning the cache here does not affect the cost of lookups.
+     */
+    private void evictIfNeeded() {
+        while (cache.size() > maxSize) {
+            Map.Entry<String, CacheEntry> victim = null;
+            for (Map.Entry<String, CacheEntry> candidate : cache.entrySet()) {
+                if (victim == null || candidate.getValue().endpoint.expirationTime()
+                                               .isBefore(victim.getValue().endpoint.expirationTime())) {
+                    victim = candidate;
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            if (cache.remove(victim.getKey(), victim.getValue())) {
+                victim.getValue().cancelRefresh();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static Instant temporaryExpirationTime() {
+        return Instant.now().plus(TEMPORARY_ENDPOINT_TTL);
+    }
+
+    private static final class CacheEntry {
+        private final EndpointDiscoveryEndpoint endpoint;
+        private final EndpointDiscoveryRequest request;
+
+        /**
+         * Whether the endpoint was returned by the cache since it was cached or last refreshed.
+         */
+        private volatile boolean used;
+        private volatile ScheduledFuture<?> refreshTask;
+
+        private CacheEntry(EndpointDiscoveryEndpoint endpoint, EndpointDiscoveryRequest request) {
+            this.endpoint = endpoint;
+            this.request = request;
+        }
+
+        private void markUsed() {
+            // Avoid writing to the shared entry on every hit.
+            if (!used) {
+                used = true;
+            }
+        }
+
+        private void cancelRefresh() {
+            ScheduledFuture<?> task = refreshTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final EndpointDiscoveryCacheLoader client;
+        private ScheduledExecutorService scheduler;
+        private Duration refreshAheadTime;
+        private Integer maxSize;
+
+        private Builder(EndpointDiscoveryCacheLoader client) {
+            this.client = client;
+        }
+
+        /**
+         * The scheduler used to refresh endpoints before they expire. Defaults to a single daemon thread shared by all caches.
+         */
+        public Builder scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * How long before its expiration an endpoint that is in use is refreshed. Defaults to 60 seconds.
+         */
+        public Builder refreshAheadTime(Duration refreshAheadTime) {
+            this.refreshAheadTime = refreshAheadTime;
+            return this;
+        }
+
+        /**
+         * The maximum number of endpoints in the cache. Defaults to 1000.
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public EndpointDiscoveryRefreshCache build() {
+            return new EndpointDiscoveryRefreshCache(this);
+        }
+    }
 }
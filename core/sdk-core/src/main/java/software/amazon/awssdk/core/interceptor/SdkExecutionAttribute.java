@@ -70,6 +70,19 @@ public class SdkExecutionAttribute {
 
     public static final ExecutionAttribute<String> OPERATION_NAME = new ExecutionAttribute<>("OperationName");
 
+    /**
+     * The scope passed to the retry strategy when acquiring the initial retry token of a request. Requests with different
+     * scopes use separate retry quotas and, with the adaptive retry strategy, separate client-side rate limits, so that
+     * throttling of one resource does not slow down requests to other resources. When not set, all requests of a client share
+     * one scope.
+     * <p>
+     * The scope can be set per request with {@code RequestOverrideConfiguration.Builder#putExecutionAttribute}, or derived from
+     * the request in {@code ExecutionInterceptor#beforeExecution}, e.g. from the {@link #OPERATION_NAME} or the name of the
+     * table or bucket being accessed. Keep the number of distinct scopes small: the retry strategies only keep the state of a
+     * bounded number of recently used scopes.
+     */
+    public static final ExecutionAttribute<String> RETRY_SCOPE = new ExecutionAttribute<>("RetryScope");
+
     /**
      * The {@link MetricCollector} associated with the overall API call.
      */
@@ -23,6 +23,7 @@ import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.create
 import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.createChunk;
 
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
@@ -31,6 +32,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.ByteBufferAllocator;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.exception.SdkException;
@@ -58,6 +60,7 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
     private final String trailerHeader;
     private final long totalBytes;
     private final PayloadChecksumStore payloadChecksumStore;
+    private final ByteBufferAllocator allocator;
 
     private ChecksumCalculatingAsyncRequestBody(DefaultBuilder builder) {
 
@@ -70,6 +73,7 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         this.trailerHeader = builder.trailerHeader;
         this.totalBytes = initTotalBytes(wrapped, builder.contentLengthHeader);
         this.payloadChecksumStore = builder.checksumStore != null ? builder.checksumStore : NoOpPayloadChecksumStore.create();
+        this.allocator = builder.allocator != null ? builder.allocator : ByteBufferAllocator.heap();
     }
 
     static long initTotalBytes(AsyncRequestBody wrapped, Long contentLengthHeader) {
@@ -124,6 +128,13 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         ChecksumCalculatingAsyncRequestBody.Builder contentLengthHeader(Long contentLengthHeader);
 
         ChecksumCalculatingAsyncRequestBody.Builder checksumStore(PayloadChecksumStore checksumStore);
+
+        /**
+         * Optional. Sets the allocator of the buffer that holds a partial chunk. Default is {@link ByteBufferAllocator#heap()}.
+         * @param allocator the allocator to take the buffer from.
+         * @return This builder for method chaining.
+         */
+        ChecksumCalculatingAsyncRequestBody.Builder allocator(ByteBufferAllocator allocator);
     }
 
     private static final class DefaultBuilder implements ChecksumCalculatingAsyncRequestBody.Builder {
@@ -133,6 +144,7 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         private String trailerHeader;
         private Long contentLengthHeader;
         private PayloadChecksumStore checksumStore;
+        private ByteBufferAllocator allocator;
 
         @Override
         public ChecksumCalculatingAsyncRequestBody build() {
@@ -168,6 +180,12 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
             this.checksumStore = checksumStore;
             return this;
         }
+
+        @Override
+        public Builder allocator(ByteBufferAllocator allocator) {
+            this.allocator = allocator;
+            return this;
+        }
     }
 
     @Override
@@ -198,14 +216,15 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
             sdkChecksum.reset();
         }
 
-        SynchronousChunkBuffer synchronousChunkBuffer = new SynchronousChunkBuffer(totalBytes);
+        SynchronousChunkBuffer synchronousChunkBuffer = new SynchronousChunkBuffer(totalBytes, allocator);
         alwaysInvokeOnNext(wrapped.flatMapIterable(synchronousChunkBuffer::buffer))
                  .subscribe(new ChecksumCalculatingSubscriber(s,
                                                               algorithm,
                                                               sdkChecksum,
                                                               payloadChecksumStore,
                                                               trailerHeader,
-                                                              totalBytes));
+                                                              totalBytes,
+                                                              synchronousChunkBuffer));
     }
 
     private SdkPublisher<ByteBuffer> alwaysInvokeOnNext(SdkPublisher<ByteBuffer> source) {
@@ -221,6 +240,7 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         private final String trailerHeader;
         private byte[] checksumBytes;
         private final AtomicLong remainingBytes;
+        private final SynchronousChunkBuffer chunkBuffer;
         private Subscription subscription;
 
         ChecksumCalculatingSubscriber(Subscriber<? super ByteBuffer> wrapped,
@@ -228,19 +248,33 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
                                       SdkChecksum checksum,
                                       PayloadChecksumStore checksumStore,
                                       String trailerHeader,
-                                      long totalBytes) {
+                                      long totalBytes,
+                                      SynchronousChunkBuffer chunkBuffer) {
             this.wrapped = wrapped;
             this.algorithm = algorithm;
             this.checksum = checksum;
             this.checksumStore = checksumStore;
             this.trailerHeader = trailerHeader;
             this.remainingBytes = new AtomicLong(totalBytes);
+            this.chunkBuffer = chunkBuffer;
         }
 
         @Override
         public void onSubscribe(Subscription subscription) {
             this.subscription = subscription;
-            wrapped.onSubscribe(subscription);
+            wrapped.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                    // Neither onError nor onComplete follows a cancel, so give the buffered partial chunk back here.
+                    chunkBuffer.discard();
+                }
+            });
         }
 
         @Override
@@ -292,24 +326,47 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
         @Override
         public void onError(Throwable t) {
+            chunkBuffer.discard();
             wrapped.onError(t);
         }
 
         @Override
         public void onComplete() {
+            chunkBuffer.discard();
             wrapped.onComplete();
         }
     }
 
     private static final class SynchronousChunkBuffer {
         private final ChunkBuffer chunkBuffer;
-
-        SynchronousChunkBuffer(long totalBytes) {
-            this.chunkBuffer = ChunkBuffer.builder().bufferSize(DEFAULT_ASYNC_CHUNK_SIZE).totalBytes(totalBytes).build();
+        private volatile boolean discarded;
+
+        SynchronousChunkBuffer(long totalBytes, ByteBufferAllocator allocator) {
+            this.chunkBuffer = ChunkBuffer.builder()
+                                          .bufferSize(DEFAULT_ASYNC_CHUNK_SIZE)
+                                          .totalBytes(totalBytes)
+                                          .allocator(allocator)
+                                          .build();
         }
 
         private Iterable<ByteBuffer> buffer(ByteBuffer bytes) {
-            return chunkBuffer.split(bytes);
+            if (discarded) {
+                return Collections.emptyList();
+            }
+            Iterable<ByteBuffer> chunks = chunkBuffer.split(bytes);
+            if (discarded) {
+                // Discarded while splitting, so the partial chunk buffered by this call would never be released.
+                chunkBuffer.discardBufferedData();
+            }
+            return chunks;
+        }
+
+        /**
+         * Releases the buffered partial chunk, if any, and stops buffering. Safe to call more than once.
+         */
+        private void discard() {
+            discarded = true;
+            chunkBuffer.discardBufferedData();
         }
     }
 
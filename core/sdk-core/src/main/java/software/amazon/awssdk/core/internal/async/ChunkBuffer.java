@@ -24,24 +24,29 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.ByteBufferAllocator;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
 
 /**
  * Class that will buffer incoming BufferBytes to chunks of bufferSize.
  * If totalBytes is not provided, i.e. content-length is unknown, {@link #getBufferedData()} should be used in the Subscriber's
  * {@code onComplete()} to check for a final chunk that is smaller than the chunk size, and send if present.
+ * <p>
+ * The buffer that accumulates a partial chunk is only held while it contains data. It is taken from the configured
+ * {@link ByteBufferAllocator} when data first needs to be buffered, and released as soon as the buffered data is emitted.
  */
 @SdkInternalApi
 public final class ChunkBuffer {
     private final AtomicLong transferredBytes;
-    private final ByteBuffer currentBuffer;
+    private final ByteBufferAllocator allocator;
     private final int chunkSize;
     private final Long totalBytes;
+    private ByteBuffer currentBuffer;
 
-    private ChunkBuffer(Long totalBytes, Integer bufferSize) {
+    private ChunkBuffer(Long totalBytes, Integer bufferSize, ByteBufferAllocator allocator) {
         int chunkSize = bufferSize != null ? bufferSize : DEFAULT_ASYNC_CHUNK_SIZE;
         this.chunkSize = chunkSize;
-        this.currentBuffer = ByteBuffer.allocate(chunkSize);
+        this.allocator = allocator != null ? allocator : ByteBufferAllocator.heap();
         this.totalBytes = totalBytes;
         this.transferredBytes = new AtomicLong(0);
     }
@@ -63,7 +68,7 @@ public final class ChunkBuffer {
         List<ByteBuffer> byteBuffers = new ArrayList<>();
 
         // If current buffer is not empty, fill the buffer first.
-        if (currentBuffer.position() != 0) {
+        if (bufferedBytes() != 0) {
             fillCurrentBuffer(inputByteBuffer);
 
             if (isCurrentBufferFull()) {
@@ -84,7 +89,18 @@ public final class ChunkBuffer {
     }
 
     private boolean isCurrentBufferFull() {
-        return currentBuffer.position() == chunkSize;
+        return bufferedBytes() == chunkSize;
+    }
+
+    private int bufferedBytes() {
+        return currentBuffer == null ? 0 : currentBuffer.position();
+    }
+
+    private ByteBuffer currentBuffer() {
+        if (currentBuffer == null) {
+            currentBuffer = allocator.allocate(chunkSize);
+        }
+        return currentBuffer;
     }
 
     /**
@@ -95,7 +111,9 @@ public final class ChunkBuffer {
         while (inputByteBuffer.hasRemaining()) {
             if (inputByteBuffer.remaining() < chunkSize || wouldExceedTotalByte(numTransferredBytes)) {
                 limitBufferToTotalBytes(inputByteBuffer, numTransferredBytes);
-                currentBuffer.put(inputByteBuffer);
+                if (inputByteBuffer.hasRemaining()) {
+                    currentBuffer().put(inputByteBuffer);
+                }
                 break;
             }
 
@@ -126,10 +144,10 @@ public final class ChunkBuffer {
     }
 
     /**
-     * Retrieve the current buffered data.
+     * Retrieve the current buffered data, and release the buffer that held it.
      */
-    public Optional<ByteBuffer> getBufferedData() {
-        int remainingBytesInBuffer = currentBuffer.position();
+    public synchronized Optional<ByteBuffer> getBufferedData() {
+        int remainingBytesInBuffer = bufferedBytes();
 
         if (remainingBytesInBuffer == 0) {
             return Optional.empty();
@@ -139,16 +157,29 @@ public final class ChunkBuffer {
         currentBuffer.flip();
         bufferedChunk.put(currentBuffer);
         bufferedChunk.flip();
+        allocator.release(currentBuffer);
+        currentBuffer = null;
         return Optional.of(bufferedChunk);
     }
 
+    /**
+     * Drop the current buffered data, if any, and release the buffer that held it. Used when the stream terminates with an
+     * error, and the buffered data will never be retrieved.
+     */
+    public synchronized void discardBufferedData() {
+        if (currentBuffer != null) {
+            allocator.release(currentBuffer);
+            currentBuffer = null;
+        }
+    }
+
     private boolean isLastChunk() {
         if (totalBytes == null) {
             return false;
         }
 
         long remainingBytes = totalBytes - transferredBytes.get();
-        return remainingBytes != 0 && remainingBytes == currentBuffer.position();
+        return remainingBytes != 0 && remainingBytes == bufferedBytes();
     }
 
     private void addCurrentBufferToIterable(List<ByteBuffer> byteBuffers) {
@@ -162,11 +193,11 @@ public final class ChunkBuffer {
             }
             byteBuffers.add(chunk);
             transferredBytes.addAndGet(chunk.remaining());
-            currentBuffer.clear();
         }
     }
 
     private void fillCurrentBuffer(ByteBuffer inputByteBuffer) {
+        ByteBuffer currentBuffer = currentBuffer();
         while (currentBuffer.position() < chunkSize) {
             if (!inputByteBuffer.hasRemaining()) {
                 break;
@@ -191,16 +222,22 @@ public final class ChunkBuffer {
         Builder bufferSize(int bufferSize);
 
         Builder totalBytes(long totalBytes);
+
+        /**
+         * The allocator of the buffer that holds a partial chunk. Defaults to {@link ByteBufferAllocator#heap()}.
+         */
+        Builder allocator(ByteBufferAllocator allocator);
     }
 
     private static final class DefaultBuilder implements Builder {
 
         private Integer bufferSize;
         private Long totalBytes;
+        private ByteBufferAllocator allocator;
 
         @Override
         public ChunkBuffer build() {
-            return new ChunkBuffer(totalBytes, bufferSize);
+            return new ChunkBuffer(totalBytes, bufferSize, allocator);
         }
 
         @Override
@@ -214,5 +251,11 @@ public final class ChunkBuffer {
             this.totalBytes = totalBytes;
             return this;
         }
+
+        @Override
+        public Builder allocator(ByteBufferAllocator allocator) {
+            this.allocator = allocator;
+            return this;
+        }
     }
 }
@@ -21,8 +21,10 @@ import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.Optional;
 import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.ByteBufferAllocator;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.internal.compression.Compressor;
 import software.amazon.awssdk.utils.Validate;
@@ -47,6 +49,7 @@ public class CompressionAsyncRequestBody implements AsyncRequestBody {
         int chunkSize = builder.chunkSize != null ? builder.chunkSize : DEFAULT_CHUNK_SIZE;
         this.chunkBuffer = ChunkBuffer.builder()
                                       .bufferSize(chunkSize)
+                                      .allocator(builder.allocator)
                                       .build();
     }
 
@@ -118,6 +121,13 @@ public class CompressionAsyncRequestBody implements AsyncRequestBody {
          * @return This builder for method chaining.
          */
         Builder chunkSize(Integer chunkSize);
+
+        /**
+         * Sets the allocator of the buffer that holds a partial chunk. Default is {@link ByteBufferAllocator#heap()}.
+         * @param allocator
+         * @return This builder for method chaining.
+         */
+        Builder allocator(ByteBufferAllocator allocator);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -125,6 +135,7 @@ public class CompressionAsyncRequestBody implements AsyncRequestBody {
         private AsyncRequestBody asyncRequestBody;
         private Compressor compressor;
         private Integer chunkSize;
+        private ByteBufferAllocator allocator;
 
         @Override
         public CompressionAsyncRequestBody build() {
@@ -148,18 +159,53 @@ public class CompressionAsyncRequestBody implements AsyncRequestBody {
             this.chunkSize = chunkSize;
             return this;
         }
+
+        @Override
+        public Builder allocator(ByteBufferAllocator allocator) {
+            this.allocator = allocator;
+            return this;
+        }
     }
 
     private final class SplittingSubscriber extends DelegatingSubscriber<ByteBuffer, Iterable<ByteBuffer>> {
+        private volatile boolean cancelled;
 
         protected SplittingSubscriber(Subscriber<? super Iterable<ByteBuffer>> subscriber) {
             super(subscriber);
         }
 
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            super.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                    subscription.cancel();
+                    // Neither onError nor onComplete follows a cancel, so give the buffered partial chunk back here.
+                    chunkBuffer.discardBufferedData();
+                }
+            });
+        }
+
         @Override
         public void onNext(ByteBuffer byteBuffer) {
             Iterable<ByteBuffer> buffers = chunkBuffer.split(byteBuffer);
+            if (cancelled) {
+                // Cancelled while splitting, so the partial chunk buffered by this call would never be released.
+                chunkBuffer.discardBufferedData();
+            }
             subscriber.onNext(buffers);
         }
+
+        @Override
+        public void onError(Throwable t) {
+            chunkBuffer.discardBufferedData();
+            super.onError(t);
+        }
     }
 }
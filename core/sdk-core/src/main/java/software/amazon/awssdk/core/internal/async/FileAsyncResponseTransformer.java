@@ -57,6 +57,7 @@ import software.amazon.awssdk.utils.Validate;
 public final class FileAsyncResponseTransformer<ResponseT> implements AsyncResponseTransformer<ResponseT, ResponseT> {
     private static final Logger log = Logger.loggerFor(FileAsyncResponseTransformer.class);
     private final Path path;
+    private final AsynchronousFileChannel sharedChannel;
     private volatile AsynchronousFileChannel fileChannel;
     private volatile CompletableFuture<Void> cf;
     private volatile ResponseT response;
@@ -71,10 +72,28 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         this(path, fileConfiguration, determineFilePositionToWrite(path, fileConfiguration));
     }
 
+    /**
+     * Create a transformer that writes to a channel owned by the caller, at the position configured in the given
+     * {@code WRITE_TO_POSITION} configuration. The channel is never closed by this transformer.
+     */
+    FileAsyncResponseTransformer(Path path, FileTransformerConfiguration fileConfiguration,
+                                 AsynchronousFileChannel sharedChannel) {
+        this(path, fileConfiguration, determineFilePositionToWrite(path, fileConfiguration),
+             Validate.paramNotNull(sharedChannel, "sharedChannel"));
+        Validate.isTrue(fileConfiguration.fileWriteOption() == WRITE_TO_POSITION,
+                        "A shared channel can only be used with WRITE_TO_POSITION");
+    }
+
     private FileAsyncResponseTransformer(Path path, FileTransformerConfiguration fileTransformerConfiguration, long position) {
+        this(path, fileTransformerConfiguration, position, null);
+    }
+
+    private FileAsyncResponseTransformer(Path path, FileTransformerConfiguration fileTransformerConfiguration, long position,
+                                         AsynchronousFileChannel sharedChannel) {
         this.path = path;
         this.configuration = fileTransformerConfiguration;
         this.position = position;
+        this.sharedChannel = sharedChannel;
     }
 
     FileTransformerConfiguration config() {
@@ -141,7 +160,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     public CompletableFuture<ResponseT> prepare() {
         cf = new CompletableFuture<>();
         cf.whenComplete((r, t) -> {
-            if (t != null && fileChannel != null) {
+            if (t != null && fileChannel != null && sharedChannel == null) {
                 runAndLogError(log.logger(),
                                String.format("Failed to close the file %s, resource may be leaked", path),
                                () -> fileChannel.close());
@@ -159,9 +178,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
         try {
             // onStream may be called multiple times so reset the file channel every time
-            this.fileChannel = createChannel(path);
+            this.fileChannel = sharedChannel != null ? sharedChannel : createChannel(path);
             publisher.subscribe(new FileSubscriber(this.fileChannel, path, cf, this::exceptionOccurred,
-                                                   position));
+                                                   position, sharedChannel == null));
         } catch (Throwable e) {
             exceptionOccurred(e);
         }
@@ -170,7 +189,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     @Override
     public void exceptionOccurred(Throwable throwable) {
         try {
-            if (fileChannel != null) {
+            if (fileChannel != null && sharedChannel == null) {
                 runAndLogError(log.logger(),
                                String.format("Failed to close the file %s, resource may be leaked", path),
                                () -> fileChannel.close());
@@ -204,6 +223,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         private final Path path;
         private final CompletableFuture<Void> future;
         private final Consumer<Throwable> onErrorMethod;
+        private final boolean closeChannelOnComplete;
         private final Object closeLock = new Object();
 
         private volatile boolean writeInProgress = false;
@@ -212,11 +232,17 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
                        Consumer<Throwable> onErrorMethod, long startingPosition) {
+            this(fileChannel, path, future, onErrorMethod, startingPosition, true);
+        }
+
+        FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
+                       Consumer<Throwable> onErrorMethod, long startingPosition, boolean closeChannelOnComplete) {
             this.fileChannel = fileChannel;
             this.path = path;
             this.future = future;
             this.onErrorMethod = onErrorMethod;
             this.position = new AtomicLong(startingPosition);
+            this.closeChannelOnComplete = closeChannelOnComplete;
         }
 
         @Override
@@ -291,7 +317,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         private void close() {
             try {
-                if (fileChannel != null) {
+                if (fileChannel != null && closeChannelOnComplete) {
                     invokeSafely(fileChannel::close);
                 }
                 log.trace(() -> "Completing File async transformer future future");
@@ -15,9 +15,17 @@
 
 package software.amazon.awssdk.core.internal.async;
 
+import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
+
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
@@ -28,22 +36,39 @@ import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.ContentRangeParser;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * A publisher of {@link FileAsyncResponseTransformer} that uses the Content-Range header of a {@link SdkResponse} to write to the
  * offset defined in the range of the Content-Range. Correspond to the {@link SplittingTransformer} for non-linear write cases.
+ * <p>
+ * Once the target file exists, all parts write through a single {@link AsynchronousFileChannel} that is opened once, extended
+ * to the full object size from the Content-Range header, and closed when the subscription is cancelled or fails. Parts write
+ * their buffers at their own offset as they arrive, so they are neither buffered nor ordered.
  */
 @SdkInternalApi
 public class FileAsyncResponseTransformerPublisher<T extends SdkResponse>
     implements SdkPublisher<AsyncResponseTransformer<T, T>> {
+    private static final Logger log = Logger.loggerFor(FileAsyncResponseTransformerPublisher.class);
 
     private final Path path;
     private final FileTransformerConfiguration initialConfig;
     private Subscriber<?> subscriber;
     private final AtomicLong transformerCount;
 
+    /**
+     * Guards {@link #sharedChannel} and {@link #closed}.
+     */
+    private final Object channelLock = new Object();
+
+    /**
+     * The channel shared by all parts written at a position, opened on first use.
+     */
+    private AsynchronousFileChannel sharedChannel;
+    private boolean closed;
+
 
     public FileAsyncResponseTransformerPublisher(FileAsyncResponseTransformer<?> responseTransformer) {
         this.path = Validate.paramNotNull(responseTransformer.path(), "path");
@@ -71,6 +96,52 @@ public class FileAsyncResponseTransformerPublisher<T extends SdkResponse>
 
     private void onCancel() {
         subscriber = null;
+        closeSharedChannel();
+    }
+
+    /**
+     * Returns the channel shared by the parts, opening it and extending the file to {@code fileSize} bytes on first use.
+     */
+    private AsynchronousFileChannel sharedChannel(OptionalLong fileSize) throws IOException {
+        synchronized (channelLock) {
+            if (closed) {
+                throw new IllegalStateException("The download to " + path + " has already completed or failed");
+            }
+            if (sharedChannel == null) {
+                if (fileSize.isPresent()) {
+                    preallocate(fileSize.getAsLong());
+                }
+                sharedChannel = AsynchronousFileChannel.open(path,
+                                                             Collections.singleton(StandardOpenOption.WRITE),
+                                                             initialConfig.executorService().orElse(null));
+            }
+            return sharedChannel;
+        }
+    }
+
+    /**
+     * Extends the file to its final size up front, so that parts written out of order do not each grow the file. This is a
+     * single synchronous write of the last byte, done before the asynchronous channel is opened so that no thread waits on an
+     * asynchronous write.
+     */
+    private void preallocate(long fileSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            if (fileSize > channel.size()) {
+                channel.write(ByteBuffer.allocate(1), fileSize - 1);
+            }
+        }
+    }
+
+    private void closeSharedChannel() {
+        synchronized (channelLock) {
+            closed = true;
+            if (sharedChannel != null) {
+                runAndLogError(log.logger(),
+                               String.format("Failed to close the file %s, resource may be leaked", path),
+                               sharedChannel::close);
+                sharedChannel = null;
+            }
+        }
     }
 
     /**
@@ -132,7 +203,17 @@ public class FileAsyncResponseTransformerPublisher<T extends SdkResponse>
                 return;
             }
 
-            this.delegate = getDelegateTransformer(contentRangePair.get().left());
+            try {
+                this.delegate = getDelegateTransformer(contentRangePair.get().left(),
+                                                       ContentRangeParser.totalBytes(contentRange));
+            } catch (IOException | RuntimeException e) {
+                if (subscriber != null) {
+                    handleError(e);
+                } else {
+                    future.completeExceptionally(e);
+                }
+                return;
+            }
             CompletableFuture<T> delegateFuture = delegate.prepare();
             CompletableFutureUtils.forwardResultTo(delegateFuture, future);
             CompletableFutureUtils.forwardExceptionTo(future, delegateFuture);
@@ -142,10 +223,12 @@ public class FileAsyncResponseTransformerPublisher<T extends SdkResponse>
 
         private void handleError(Throwable e) {
             subscriber.onError(e);
+            closeSharedChannel();
             future.completeExceptionally(e);
         }
 
-        private AsyncResponseTransformer<T, T> getDelegateTransformer(Long startAt) {
+        private AsyncResponseTransformer<T, T> getDelegateTransformer(Long startAt, OptionalLong totalBytes)
+                throws IOException {
             if (transformerCount.get() == 0 &&
                 initialConfig.fileWriteOption() != FileTransformerConfiguration.FileWriteOption.WRITE_TO_POSITION) {
                 // On the first request we need to maintain the same config so
@@ -158,14 +241,16 @@ public class FileAsyncResponseTransformerPublisher<T extends SdkResponse>
                     FileTransformerConfiguration newConfig = initialConfig.copy(c -> c
                         .fileWriteOption(FileTransformerConfiguration.FileWriteOption.WRITE_TO_POSITION)
                         .position(startAt));
-                    return AsyncResponseTransformer.toFile(path, newConfig);
+                    return new FileAsyncResponseTransformer<>(path, newConfig, sharedChannel(totalBytes));
                 }
                 case WRITE_TO_POSITION: {
                     long initialOffset = initialConfig.position();
                     FileTransformerConfiguration newConfig = initialConfig.copy(c -> c
                         .fileWriteOption(FileTransformerConfiguration.FileWriteOption.WRITE_TO_POSITION)
                         .position(initialOffset + startAt));
-                    return AsyncResponseTransformer.toFile(path, newConfig);
+                    OptionalLong fileSize = totalBytes.isPresent() ? OptionalLong.of(initialOffset + totalBytes.getAsLong())
+                                                                   : totalBytes;
+                    return new FileAsyncResponseTransformer<>(path, newConfig, sharedChannel(fileSize));
                 }
                 // As per design specification, APPEND mode is not supported for non-serial operations
                 case CREATE_OR_APPEND_TO_EXISTING:
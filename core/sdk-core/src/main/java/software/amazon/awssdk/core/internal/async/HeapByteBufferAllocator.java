@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.ByteBufferAllocator;
+
+/**
+ * The default {@link ByteBufferAllocator}, which behaves exactly like {@link ByteBuffer#allocate(int)}.
+ */
+@SdkInternalApi
+public final class HeapByteBufferAllocator implements ByteBufferAllocator {
+    public static final HeapByteBufferAllocator INSTANCE = new HeapByteBufferAllocator();
+
+    private HeapByteBufferAllocator() {
+    }
+
+    @Override
+    public ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocate(capacity);
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+    }
+
+    @Override
+    public String toString() {
+        return "HeapByteBufferAllocator";
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.async.ByteBufferAllocator;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link ByteBufferAllocator} that recycles direct buffers.
+ *
+ * <p>Requests are rounded up to a power of two between {@link #MIN_POOLED_CAPACITY} and {@link #MAX_POOLED_CAPACITY}, and
+ * idle buffers of each size are kept in their own lock-free queue. The total capacity of idle buffers is bounded by
+ * {@code maxRetainedBytes}; buffers released beyond that are dropped. Requests larger than {@link #MAX_POOLED_CAPACITY} are
+ * served with heap buffers, which are never pooled.
+ *
+ * <p>When leak detection is enabled, every outstanding buffer is tracked with a {@link WeakReference}. A buffer that becomes
+ * unreachable before it is released is reported, with the stack trace of its allocation, the next time the allocator is used.
+ * Releasing a buffer that is not outstanding (a double release, or a buffer from elsewhere) is reported and the buffer is not
+ * pooled. Leak detection is enabled by default when debug logging is enabled for this class.
+ */
+@SdkInternalApi
+public final class PooledByteBufferAllocator implements ByteBufferAllocator {
+    static final int MIN_POOLED_CAPACITY = 4 * 1024;
+    static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+
+    private static final Logger log = Logger.loggerFor(PooledByteBufferAllocator.class);
+    private static final long DEFAULT_MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_CAPACITY);
+    private static final int MAX_SHIFT = Integer.numberOfTrailingZeros(MAX_POOLED_CAPACITY);
+
+    private final Queue<ByteBuffer>[] pools;
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final long maxRetainedBytes;
+    private final LeakDetector leakDetector;
+
+    @SuppressWarnings("unchecked")
+    private PooledByteBufferAllocator(Builder builder) {
+        this.maxRetainedBytes = Validate.isNotNegative(builder.maxRetainedBytes, "maxRetainedBytes");
+        this.leakDetector = builder.leakDetection ? new LeakDetector() : null;
+        this.pools = new Queue[MAX_SHIFT - MIN_SHIFT + 1];
+        for (int i = 0; i < pools.length; i++) {
+            pools[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public ByteBuffer allocate(int capacity) {
+        Validate.isNotNegative(capacity, "capacity");
+        if (capacity > MAX_POOLED_CAPACITY) {
+            return ByteBuffer.allocate(capacity);
+        }
+
+        int sizeClass = sizeClass(capacity);
+        ByteBuffer buffer = pools[sizeClass].poll();
+        if (buffer != null) {
+            retainedBytes.addAndGet(-buffer.capacity());
+            buffer.clear();
+        } else {
+            buffer = ByteBuffer.allocateDirect(MIN_POOLED_CAPACITY << sizeClass);
+        }
+        buffer.limit(capacity);
+
+        if (leakDetector != null) {
+            leakDetector.track(buffer);
+        }
+        return buffer;
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || !isPooledCapacity(buffer.capacity())) {
+            return;
+        }
+
+        if (leakDetector != null && !leakDetector.untrack(buffer)) {
+            return;
+        }
+
+        int capacity = buffer.capacity();
+        if (retainedBytes.addAndGet(capacity) > maxRetainedBytes) {
+            retainedBytes.addAndGet(-capacity);
+            return;
+        }
+        pools[sizeClass(capacity)].offer(buffer);
+    }
+
+    @SdkTestInternalApi
+    long retainedBytes() {
+        return retainedBytes.get();
+    }
+
+    @SdkTestInternalApi
+    int leakedBuffers() {
+        return leakDetector == null ? 0 : leakDetector.reportLeaks();
+    }
+
+    private static int sizeClass(int capacity) {
+        int shift = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+        return Math.max(shift, MIN_SHIFT) - MIN_SHIFT;
+    }
+
+    private static boolean isPooledCapacity(int capacity) {
+        return Integer.bitCount(capacity) == 1 && capacity >= MIN_POOLED_CAPACITY && capacity <= MAX_POOLED_CAPACITY;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("PooledByteBufferAllocator")
+                       .add("maxRetainedBytes", maxRetainedBytes)
+                       .add("retainedBytes", retainedBytes.get())
+                       .add("leakDetection", leakDetector != null)
+                       .build();
+    }
+
+    /**
+     * Tracks outstanding buffers by identity without keeping them reachable. {@link ByteBuffer#hashCode()} depends on the
+     * buffer content, so trackers are bucketed by {@link System#identityHashCode(Object)} instead.
+     */
+    private static final class LeakDetector {
+        private final ReferenceQueue<ByteBuffer> collected = new ReferenceQueue<>();
+        private final Map<Integer, List<Tracker>> outstanding = new HashMap<>();
+
+        void track(ByteBuffer buffer) {
+            reportLeaks();
+            Tracker tracker = new Tracker(buffer, collected);
+            synchronized (outstanding) {
+                outstanding.computeIfAbsent(tracker.identity, i -> new ArrayList<>(1)).add(tracker);
+            }
+        }
+
+        boolean untrack(ByteBuffer buffer) {
+            reportLeaks();
+            int identity = System.identityHashCode(buffer);
+            synchronized (outstanding) {
+                List<Tracker> trackers = outstanding.get(identity);
+                if (trackers != null) {
+                    Iterator<Tracker> iterator = trackers.iterator();
+                    while (iterator.hasNext()) {
+                        Tracker tracker = iterator.next();
+                        if (tracker.get() == buffer) {
+                            iterator.remove();
+                            removeIfEmpty(identity, trackers);
+                            tracker.clear();
+                            return true;
+                        }
+                    }
+                }
+            }
+            log.warn(() -> "A buffer was released that is not outstanding. It was either released more than once or not "
+                           + "allocated by this allocator, and will not be pooled.", new IllegalStateException());
+            return false;
+        }
+
+        int reportLeaks() {
+            int leaks = 0;
+            Tracker tracker;
+            while ((tracker = (Tracker) collected.poll()) != null) {
+                boolean removed;
+                synchronized (outstanding) {
+                    List<Tracker> trackers = outstanding.get(tracker.identity);
+                    removed = trackers != null && trackers.remove(tracker);
+                    if (removed) {
+                        removeIfEmpty(tracker.identity, trackers);
+                    }
+                }
+                if (removed) {
+                    leaks++;
+                    Tracker leaked = tracker;
+                    log.warn(() -> "A buffer was garbage collected without being released to the allocator. This is a bug in "
+                                   + "the code that allocated it.", leaked.allocationSite);
+                }
+            }
+            return leaks;
+        }
+
+        private void removeIfEmpty(int identity, List<Tracker> trackers) {
+            if (trackers.isEmpty()) {
+                outstanding.remove(identity);
+            }
+        }
+    }
+
+    private static final class Tracker extends WeakReference<ByteBuffer> {
+        private final int identity;
+        private final Throwable allocationSite;
+
+        Tracker(ByteBuffer buffer, ReferenceQueue<ByteBuffer> queue) {
+            super(buffer, queue);
+            this.identity = System.identityHashCode(buffer);
+            this.allocationSite = new Throwable("Buffer allocated here");
+        }
+    }
+
+    public static final class Builder {
+        private long maxRetainedBytes = DEFAULT_MAX_RETAINED_BYTES;
+        private boolean leakDetection = log.logger().isDebugEnabled();
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum total capacity of idle buffers held by the pool. Defaults to 64 MiB.
+         */
+        public Builder maxRetainedBytes(long maxRetainedBytes) {
+            this.maxRetainedBytes = maxRetainedBytes;
+            return this;
+        }
+
+        /**
+         * Whether to track outstanding buffers and report leaks. Defaults to whether debug logging is enabled for this class.
+         */
+        public Builder leakDetection(boolean leakDetection) {
+            this.leakDetection = leakDetection;
+            return this;
+        }
+
+        public PooledByteBufferAllocator build() {
+            return new PooledByteBufferAllocator(this);
+        }
+    }
+}
@@ -201,7 +201,7 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
                                 .then(() -> new CompressRequestStage(httpClientDependencies))
                                 .then(AuthSchemeResolutionStage::new)
                                 .then(EndpointResolutionStage::new)
-                                .then(() -> new HttpChecksumStage(ClientType.ASYNC))
+                                .then(() -> new HttpChecksumStage(ClientType.ASYNC, httpClientDependencies))
                                 .then(ApplyUserAgentStage::new)
                                 .then(MakeRequestImmutableStage::new)
                                 .then(RequestPipelineBuilder
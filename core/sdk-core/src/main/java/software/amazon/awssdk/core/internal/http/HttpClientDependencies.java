@@ -19,10 +19,13 @@ import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.internal.http.async.LatencyPercentileTracker;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.retries.HedgingPolicy;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -38,10 +41,34 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private final ClockSkewAdjuster clockSkewAdjuster;
     private final SdkClientConfiguration clientConfiguration;
 
+    /**
+     * Latencies observed by this client, used to compute the hedging delay when the {@link HedgingPolicy} is configured with a
+     * delay percentile.
+     */
+    private final LatencyPercentileTracker hedgingLatencyTracker;
+
     private HttpClientDependencies(Builder builder) {
         this.sdkClientTime = builder.sdkClientTime != null ? builder.sdkClientTime : new SdkClientTime();
         this.clockSkewAdjuster = builder.clockSkewAdjuster != null ? builder.clockSkewAdjuster : new ClockSkewAdjuster();
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
+        this.hedgingLatencyTracker = resolveHedgingLatencyTracker(builder.hedgingLatencyTracker, clientConfiguration);
+    }
+
+    /**
+     * Keep the latencies observed so far when the configuration is overridden for a request, unless the override changes the
+     * percentile being tracked.
+     */
+    private static LatencyPercentileTracker resolveHedgingLatencyTracker(LatencyPercentileTracker tracker,
+                                                                         SdkClientConfiguration clientConfiguration) {
+        HedgingPolicy hedgingPolicy = clientConfiguration.option(SdkAdvancedAsyncClientOption.HEDGING_POLICY);
+        Double percentile = hedgingPolicy == null ? null : hedgingPolicy.delayPercentile().orElse(null);
+        if (percentile == null) {
+            return null;
+        }
+        if (tracker != null && tracker.percentile() == percentile) {
+            return tracker;
+        }
+        return new LatencyPercentileTracker(percentile);
     }
 
     public static Builder builder() {
@@ -73,6 +100,13 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         sdkClientTime.setTimeOffset(timeOffset);
     }
 
+    /**
+     * @return The latencies observed by this client for hedging, or null if the hedging delay is not a percentile.
+     */
+    public LatencyPercentileTracker hedgingLatencyTracker() {
+        return hedgingLatencyTracker;
+    }
+
     public Builder toBuilder() {
         return new Builder(this);
     }
@@ -89,6 +123,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         private SdkClientTime sdkClientTime;
         private ClockSkewAdjuster clockSkewAdjuster;
         private SdkClientConfiguration clientConfiguration;
+        private LatencyPercentileTracker hedgingLatencyTracker;
 
         private Builder() {
         }
@@ -97,6 +132,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             this.sdkClientTime = from.sdkClientTime;
             this.clientConfiguration = from.clientConfiguration;
             this.clockSkewAdjuster = from.clockSkewAdjuster;
+            this.hedgingLatencyTracker = from.hedgingLatencyTracker;
         }
 
         public Builder clockSkewAdjuster(ClockSkewAdjuster clockSkewAdjuster) {
@@ -0,0 +1,329 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.retries.HedgingPolicy;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Executes an HTTP request, and sends the same request a second time if no response headers were received after the delay of
+ * the {@link HedgingPolicy}. The first attempt to receive response headers wins: its response is forwarded to the response
+ * handler and the other attempt is cancelled.
+ * <p>
+ * An attempt that fails before any attempt won is not reported while the other attempt may still succeed. If both attempts fail,
+ * the failure of the last one is reported. The request content must be replayable, since it is sent by both attempts.
+ * <p>
+ * The returned future completes with the future of the winning attempt. If a hedged attempt was sent and the winning attempt
+ * received a successful response, the capacity taken for the hedged attempt is released.
+ */
+@SdkInternalApi
+public final class HedgingAsyncHttpExecution {
+    private static final Logger log = Logger.loggerFor(HedgingAsyncHttpExecution.class);
+
+    private final SdkAsyncHttpClient httpClient;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final HedgingPolicy hedgingPolicy;
+    private final LatencyPercentileTracker latencyTracker;
+    private final HedgingCapacity hedgingCapacity;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private final Object lock = new Object();
+
+    private Function<SdkAsyncHttpResponseHandler, AsyncExecuteRequest> hedgeRequestFactory;
+    private SdkAsyncHttpResponseHandler responseHandler;
+    private long startNanos;
+
+    // Guarded by lock
+    private Attempt primary;
+    private Attempt hedge;
+    private Attempt winner;
+    private boolean winnerSuccessful;
+    private ScheduledFuture<?> hedgeTimer;
+
+    /**
+     * @param latencyTracker the latencies observed by the client, used to compute the hedging delay, or null if the delay of the
+     * policy is fixed
+     * @param hedgingCapacity the retry capacity needed to send a hedged attempt
+     */
+    public HedgingAsyncHttpExecution(SdkAsyncHttpClient httpClient,
+                                     ScheduledExecutorService scheduledExecutor,
+                                     HedgingPolicy hedgingPolicy,
+                                     LatencyPercentileTracker latencyTracker,
+                                     HedgingCapacity hedgingCapacity) {
+        this.httpClient = httpClient;
+        this.scheduledExecutor = scheduledExecutor;
+        this.hedgingPolicy = hedgingPolicy;
+        this.latencyTracker = latencyTracker;
+        this.hedgingCapacity = hedgingCapacity;
+    }
+
+    /**
+     * Executes the request, creating the request of the first attempt and of the hedged attempt with the given factories. The
+     * factories are separate so that the request content of the hedged attempt can be excluded from the request metrics, which
+     * are recorded by the first attempt.
+     */
+    public CompletableFuture<Void> execute(Function<SdkAsyncHttpResponseHandler, AsyncExecuteRequest> primaryRequestFactory,
+                                           Function<SdkAsyncHttpResponseHandler, AsyncExecuteRequest> hedgeRequestFactory,
+                                           SdkAsyncHttpResponseHandler responseHandler) {
+        this.hedgeRequestFactory = hedgeRequestFactory;
+        this.responseHandler = responseHandler;
+        this.startNanos = System.nanoTime();
+
+        Attempt firstAttempt = new Attempt();
+        synchronized (lock) {
+            primary = firstAttempt;
+        }
+        firstAttempt.start(primaryRequestFactory);
+
+        Duration delay = hedgeDelay();
+        synchronized (lock) {
+            if (winner == null) {
+                hedgeTimer = scheduledExecutor.schedule(this::sendHedge, delay.toNanos(), NANOSECONDS);
+            }
+        }
+
+        // Forward the cancellation of the request to the attempts.
+        result.whenComplete((r, t) -> {
+            if (t != null) {
+                cancelAll();
+            }
+        });
+        return result;
+    }
+
+    private Duration hedgeDelay() {
+        long percentileNanos = latencyTracker == null ? -1 : latencyTracker.percentileNanos();
+        return percentileNanos < 0 ? hedgingPolicy.delay() : Duration.ofNanos(percentileNanos);
+    }
+
+    private void sendHedge() {
+        Attempt hedgeAttempt;
+        synchronized (lock) {
+            if (winner != null || primary.failed || result.isDone() || !hedgingCapacity.tryAcquire()) {
+                return;
+            }
+            hedgeAttempt = new Attempt();
+            hedge = hedgeAttempt;
+        }
+        log.debug(() -> "No response received after the hedging delay, sending a hedged attempt.");
+        hedgeAttempt.start(hedgeRequestFactory);
+    }
+
+    private void onHeaders(Attempt attempt, SdkHttpResponse headers) {
+        Attempt loser;
+        synchronized (lock) {
+            if (winner != null) {
+                return;
+            }
+            winner = attempt;
+            winnerSuccessful = headers.isSuccessful();
+            loser = attempt == primary ? hedge : primary;
+            cancelHedgeTimer();
+        }
+        if (latencyTracker != null) {
+            latencyTracker.record(System.nanoTime() - startNanos);
+        }
+        if (loser != null) {
+            loser.cancel();
+        }
+        responseHandler.onHeaders(headers);
+    }
+
+    private void onStream(Attempt attempt, Publisher<ByteBuffer> stream) {
+        if (isWinner(attempt)) {
+            responseHandler.onStream(stream);
+        } else {
+            stream.subscribe(new CancellingSubscriber());
+        }
+    }
+
+    private void onFailure(Attempt attempt, Throwable error) {
+        synchronized (lock) {
+            if (attempt.failed) {
+                return;
+            }
+            attempt.failed = true;
+            if (winner == null) {
+                Attempt other = attempt == primary ? hedge : primary;
+                if (other != null && !other.failed) {
+                    log.debug(() -> "Hedged request attempt failed, waiting for the other attempt.", error);
+                    return;
+                }
+                winner = attempt;
+                cancelHedgeTimer();
+            } else if (winner != attempt) {
+                return;
+            }
+        }
+        responseHandler.onError(error);
+    }
+
+    private void onComplete(Attempt attempt, Throwable error) {
+        if (error != null) {
+            onFailure(attempt, error);
+        }
+        if (isWinner(attempt)) {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                releaseHedgingCapacityIfSuccessful();
+                result.complete(null);
+            }
+        }
+    }
+
+    private void releaseHedgingCapacityIfSuccessful() {
+        boolean release;
+        synchronized (lock) {
+            release = hedge != null && winnerSuccessful;
+        }
+        if (release) {
+            hedgingCapacity.release();
+        }
+    }
+
+    private boolean isWinner(Attempt attempt) {
+        synchronized (lock) {
+            return winner == attempt;
+        }
+    }
+
+    private void cancelHedgeTimer() {
+        if (hedgeTimer != null) {
+            hedgeTimer.cancel(false);
+        }
+    }
+
+    private void cancelAll() {
+        Attempt first;
+        Attempt second;
+        synchronized (lock) {
+            cancelHedgeTimer();
+            first = primary;
+            second = hedge;
+        }
+        if (first != null) {
+            first.cancel();
+        }
+        if (second != null) {
+            second.cancel();
+        }
+    }
+
+    private final class Attempt implements SdkAsyncHttpResponseHandler {
+        // Guarded by lock
+        private boolean failed;
+        private boolean cancelled;
+        private CompletableFuture<Void> future;
+
+        void start(Function<SdkAsyncHttpResponseHandler, AsyncExecuteRequest> requestFactory) {
+            CompletableFuture<Void> attemptFuture;
+            try {
+                attemptFuture = httpClient.execute(requestFactory.apply(this));
+            } catch (Throwable t) {
+                onComplete(this, t);
+                return;
+            }
+            boolean cancelNow;
+            synchronized (lock) {
+                future = attemptFuture;
+                cancelNow = cancelled;
+            }
+            if (cancelNow) {
+                attemptFuture.cancel(true);
+            }
+            attemptFuture.whenComplete((r, t) -> onComplete(this, t));
+        }
+
+        void cancel() {
+            CompletableFuture<Void> attemptFuture;
+            synchronized (lock) {
+                cancelled = true;
+                attemptFuture = future;
+            }
+            if (attemptFuture != null) {
+                attemptFuture.cancel(true);
+            }
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            HedgingAsyncHttpExecution.this.onHeaders(this, headers);
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            HedgingAsyncHttpExecution.this.onStream(this, stream);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            onFailure(this, error);
+        }
+    }
+
+    /**
+     * The retry capacity that funds hedged attempts.
+     */
+    public interface HedgingCapacity {
+        /**
+         * Acquires the capacity needed to send a hedged attempt, returning false if there is not enough.
+         */
+        boolean tryAcquire();
+
+        /**
+         * Returns the capacity acquired by {@link #tryAcquire()}, after the hedged request succeeded.
+         */
+        void release();
+    }
+
+    /**
+     * Releases the response stream of the attempt that lost.
+     */
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
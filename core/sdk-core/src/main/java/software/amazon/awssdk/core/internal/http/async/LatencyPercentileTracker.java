@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Estimates a percentile of recently recorded latencies.
+ * <p>
+ * Latencies are counted in a histogram with eight buckets per power of two, so that the estimate is within 12.5% of the actual
+ * value. Recording a latency only increments two counters. The percentile is recomputed every {@link #RECOMPUTE_INTERVAL}
+ * samples, and the counts are halved every {@link #DECAY_INTERVAL} samples so that the estimate follows changes in latency.
+ * <p>
+ * One tracker is kept per client, see {@link software.amazon.awssdk.core.internal.http.HttpClientDependencies}, since the
+ * latencies of different clients are not comparable.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class LatencyPercentileTracker {
+    static final int MIN_SAMPLES = 100;
+    static final int RECOMPUTE_INTERVAL = 100;
+    static final int DECAY_INTERVAL = 10_000;
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = Long.SIZE * SUB_BUCKETS;
+
+    private final double percentile;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong samples = new AtomicLong();
+    private volatile long percentileNanos = -1;
+
+    public LatencyPercentileTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * The percentile estimated by this tracker, between 0 and 100.
+     */
+    public double percentile() {
+        return percentile;
+    }
+
+    public void record(long latencyNanos) {
+        counts.incrementAndGet(bucket(latencyNanos));
+        long count = samples.incrementAndGet();
+        if (count % RECOMPUTE_INTERVAL == 0 && count >= MIN_SAMPLES) {
+            percentileNanos = computePercentile();
+        }
+        if (count % DECAY_INTERVAL == 0) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.getAndUpdate(i, c -> c / 2);
+            }
+        }
+    }
+
+    /**
+     * Returns the estimated percentile in nanoseconds, or -1 if not enough latencies have been recorded yet.
+     */
+    public long percentileNanos() {
+        return percentileNanos;
+    }
+
+    private long computePercentile() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(BUCKETS - 1);
+    }
+
+    static int bucket(long latencyNanos) {
+        long value = Math.max(latencyNanos, 0);
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = bucket % SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
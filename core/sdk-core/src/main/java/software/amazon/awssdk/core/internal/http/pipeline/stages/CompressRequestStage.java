@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
+import static software.amazon.awssdk.core.client.config.SdkClientOption.BYTE_BUFFER_ALLOCATOR;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.COMPRESSION_CONFIGURATION;
 
 import java.io.IOException;
@@ -27,6 +28,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.async.ByteBufferAllocator;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
@@ -52,9 +54,11 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
     private static final String COMPRESSION_HEADER = "Content-encoding";
     private static final int MIN_COMPRESSION_SIZE_LIMIT = 10_485_760;
     private final CompressionConfiguration compressionConfig;
+    private final ByteBufferAllocator allocator;
 
     public CompressRequestStage(HttpClientDependencies dependencies) {
         compressionConfig = dependencies.clientConfiguration().option(COMPRESSION_CONFIGURATION);
+        allocator = dependencies.clientConfiguration().option(BYTE_BUFFER_ALLOCATOR);
     }
 
     @Override
@@ -84,6 +88,7 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
             context.requestProvider(CompressionAsyncRequestBody.builder()
                                                                .asyncRequestBody(context.requestProvider())
                                                                .compressor(compressor)
+                                                               .allocator(allocator)
                                                                .build());
         }
 
@@ -20,6 +20,7 @@ import static software.amazon.awssdk.core.HttpChecksumConstant.CONTENT_SHA_256_F
 import static software.amazon.awssdk.core.HttpChecksumConstant.DEFAULT_ASYNC_CHUNK_SIZE;
 import static software.amazon.awssdk.core.HttpChecksumConstant.HEADER_FOR_TRAILER_REFERENCE;
 import static software.amazon.awssdk.core.HttpChecksumConstant.SIGNING_METHOD;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.BYTE_BUFFER_ALLOCATOR;
 import static software.amazon.awssdk.core.interceptor.SdkExecutionAttribute.RESOLVED_CHECKSUM_SPECS;
 import static software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute.AUTH_SCHEMES;
 import static software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute.CHECKSUM_STORE;
@@ -39,12 +40,14 @@ import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
 import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.ByteBufferAllocator;
 import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.ChecksumSpecs;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.async.ChecksumCalculatingAsyncRequestBody;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToRequestPipeline;
 import software.amazon.awssdk.core.internal.io.AwsUnsignedChunkedEncodingInputStream;
@@ -68,9 +71,15 @@ public class HttpChecksumStage implements MutableRequestToRequestPipeline {
     private static final ChecksumAlgorithm DEFAULT_ALGORITHM = DefaultChecksumAlgorithm.CRC32;
 
     private final ClientType clientType;
+    private final ByteBufferAllocator allocator;
 
     public HttpChecksumStage(ClientType clientType) {
+        this(clientType, null);
+    }
+
+    public HttpChecksumStage(ClientType clientType, HttpClientDependencies dependencies) {
         this.clientType = clientType;
+        this.allocator = dependencies == null ? null : dependencies.clientConfiguration().option(BYTE_BUFFER_ALLOCATOR);
     }
 
     @Override
@@ -250,7 +259,8 @@ public class HttpChecksumStage implements MutableRequestToRequestPipeline {
                                                        .asyncRequestBody(context.requestProvider())
                                                        .algorithm(checksumSpecs.algorithmV2())
                                                        .checksumStore(getPayloadChecksumStore(context.executionAttributes()))
-                                                       .trailerHeader(checksumSpecs.headerName());
+                                                       .trailerHeader(checksumSpecs.headerName())
+                                                       .allocator(allocator);
                 Optional<Long> maybeContentLengthHeader = request.firstMatchingHeader("Content-Length")
                                                                  .map(Long::parseLong);
                 maybeContentLengthHeader.ifPresent(checksumBodyBuilder::contentLengthHeader);
@@ -38,12 +38,15 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.FilterTransformingAsyncHttpResponseHandler;
+import software.amazon.awssdk.core.internal.http.async.HedgingAsyncHttpExecution;
+import software.amazon.awssdk.core.internal.http.async.LatencyPercentileTracker;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
@@ -60,6 +63,10 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.retries.HedgingPolicy;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.internal.HedgingAwareRetryStrategy;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -77,6 +84,9 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private final Executor futureCompletionExecutor;
     private final ScheduledExecutorService timeoutExecutor;
     private final Duration apiCallAttemptTimeout;
+    private final HedgingPolicy hedgingPolicy;
+    private final LatencyPercentileTracker hedgingLatencyTracker;
+    private final RetryStrategy retryStrategy;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
                                      HttpClientDependencies dependencies) {
@@ -86,6 +96,9 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.hedgingPolicy = dependencies.clientConfiguration().option(SdkAdvancedAsyncClientOption.HEDGING_POLICY);
+        this.hedgingLatencyTracker = dependencies.hedgingLatencyTracker();
+        this.retryStrategy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_STRATEGY);
     }
 
     @Override
@@ -153,7 +166,10 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                        .getAttribute(SDK_HTTP_EXECUTION_ATTRIBUTES));
         }
 
-        CompletableFuture<Void> httpClientFuture = doExecuteHttpRequest(context, executeRequestBuilder, responseHandler);
+        // A hedged attempt sends the untracked content, so that the request body is only counted once in the metrics.
+        SdkHttpContentPublisher hedgeContentPublisher = shouldHedge(context) ? basePublisher : null;
+        CompletableFuture<Void> httpClientFuture = doExecuteHttpRequest(context, executeRequestBuilder, responseHandler,
+                                                                        hedgeContentPublisher);
 
         TimeoutTracker timeoutTracker = setupAttemptTimer(responseFuture, context);
         context.apiCallAttemptTimeoutTracker(timeoutTracker);
@@ -197,16 +213,31 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
     private CompletableFuture<Void> doExecuteHttpRequest(RequestExecutionContext context,
                                                          AsyncExecuteRequest.Builder executeRequestBuilder,
-                                                         TransformingAsyncResponseHandler<Response<OutputT>> responseHandler) {
+                                                         TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
+                                                         SdkHttpContentPublisher hedgeContentPublisher) {
         MetricCollector metricCollector = context.attemptMetricCollector();
         ReadMetricsTrackingResponseHandler<Response<OutputT>> wrappedResponseHandler =
             new ReadMetricsTrackingResponseHandler<>(responseHandler, context);
 
-        AsyncExecuteRequest executeRequest = executeRequestBuilder.responseHandler(wrappedResponseHandler)
-                                                                  .build();
-
         long startTime = MetricUtils.resetApiCallAttemptStartNanoTime(context);
-        CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
+        CompletableFuture<Void> httpClientFuture;
+        if (hedgeContentPublisher != null) {
+            RetryToken retryToken = context.executionAttributes().getAttribute(InternalCoreExecutionAttribute.RETRY_TOKEN);
+            HedgingAsyncHttpExecution hedgingExecution = new HedgingAsyncHttpExecution(
+                sdkAsyncHttpClient,
+                timeoutExecutor,
+                hedgingPolicy,
+                hedgingLatencyTracker,
+                new RetryQuotaHedgingCapacity((HedgingAwareRetryStrategy) retryStrategy, retryToken, hedgingPolicy.tokenCost()));
+            // The hedged request is built after the first one, so the builder can be reused.
+            httpClientFuture = hedgingExecution.execute(
+                handler -> executeRequestBuilder.responseHandler(handler).build(),
+                handler -> executeRequestBuilder.responseHandler(handler).requestContentPublisher(hedgeContentPublisher).build(),
+                wrappedResponseHandler);
+        } else {
+            httpClientFuture = sdkAsyncHttpClient.execute(executeRequestBuilder.responseHandler(wrappedResponseHandler)
+                                                                               .build());
+        }
 
         CompletableFuture<Void> result = httpClientFuture.whenComplete((r, t) -> {
             long d = System.nanoTime() - startTime;
@@ -219,6 +250,24 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         return result;
     }
 
+    /**
+     * Only the first attempt of requests to operations marked as idempotent by the {@link HedgingPolicy} is hedged, when the
+     * request content can be sent twice and the retry strategy can account for the hedged attempt.
+     */
+    private boolean shouldHedge(RequestExecutionContext context) {
+        if (hedgingPolicy == null
+            || context.requestProvider() != null
+            || !(retryStrategy instanceof HedgingAwareRetryStrategy)
+            || isFullDuplex(context.executionAttributes())) {
+            return false;
+        }
+        ExecutionAttributes executionAttributes = context.executionAttributes();
+        Integer attempt = executionAttributes.getAttribute(InternalCoreExecutionAttribute.EXECUTION_ATTEMPT);
+        return (attempt == null || attempt == 1)
+               && executionAttributes.getAttribute(InternalCoreExecutionAttribute.RETRY_TOKEN) != null
+               && hedgingPolicy.isHedgeable(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+    }
+
     private boolean isFullDuplex(ExecutionAttributes executionAttributes) {
         return executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX) != null &&
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
@@ -295,6 +344,31 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         }
     }
 
+    /**
+     * Funds hedged attempts with the retry quota of the scope of the request's retry token.
+     */
+    private static final class RetryQuotaHedgingCapacity implements HedgingAsyncHttpExecution.HedgingCapacity {
+        private final HedgingAwareRetryStrategy retryStrategy;
+        private final RetryToken retryToken;
+        private final int tokenCost;
+
+        private RetryQuotaHedgingCapacity(HedgingAwareRetryStrategy retryStrategy, RetryToken retryToken, int tokenCost) {
+            this.retryStrategy = retryStrategy;
+            this.retryToken = retryToken;
+            this.tokenCost = tokenCost;
+        }
+
+        @Override
+        public boolean tryAcquire() {
+            return retryStrategy.tryAcquireHedgingCapacity(retryToken, tokenCost);
+        }
+
+        @Override
+        public void release() {
+            retryStrategy.releaseHedgingCapacity(retryToken, tokenCost);
+        }
+    }
+
     /**
      * Wraps an {@link SdkHttpContentPublisher} with write throughput tracking.
      */
@@ -31,6 +31,7 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -60,6 +61,7 @@ public final class RetryableStageHelper {
     public static final String SDK_RETRY_INFO_HEADER = "amz-sdk-request";
     public static final ExecutionAttribute<Duration> LAST_BACKOFF_DELAY_DURATION =
         new ExecutionAttribute<>("LastBackoffDuration");
+    private static final String DEFAULT_RETRY_SCOPE = "GLOBAL";
 
     private final SdkHttpFullRequest request;
     private final boolean isLongPollingOperation;
@@ -106,7 +108,9 @@ public final class RetryableStageHelper {
      * value is {@link AdaptiveRetryStrategy}.
      */
     public Duration acquireInitialToken() {
-        String scope = "GLOBAL";
+        String scope = context.executionAttributes()
+                              .getOptionalAttribute(SdkExecutionAttribute.RETRY_SCOPE)
+                              .orElse(DEFAULT_RETRY_SCOPE);
         AcquireInitialTokenRequest acquireRequest = AcquireInitialTokenRequest.create(scope);
         AcquireInitialTokenResponse acquireResponse = retryStrategy().acquireInitialToken(acquireRequest);
         RetryToken retryToken = acquireResponse.token();
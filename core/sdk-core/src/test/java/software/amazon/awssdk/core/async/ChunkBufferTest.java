@@ -349,4 +349,80 @@ class ChunkBufferTest {
             ByteBuffer.wrap(inputString.substring(troublePosition, troublePosition + totalBytes).getBytes())
         );
     }
+
+    @Test
+    void allocator_partialChunksAcrossInputs_releasesScratchBufferOnceEmitted() {
+        int chunkSize = 4096;
+        int totalBytes = 10_000;
+        CountingAllocator allocator = new CountingAllocator();
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder()
+                                             .totalBytes(totalBytes)
+                                             .bufferSize(chunkSize)
+                                             .allocator(allocator)
+                                             .build();
+
+        byte[] input = RandomStringUtils.randomAscii(totalBytes).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer actualFullBuffer = ByteBuffer.allocate(totalBytes);
+        for (int offset = 0; offset < totalBytes; offset += 3000) {
+            ByteBuffer inputBuffer = ByteBuffer.wrap(input, offset, Math.min(3000, totalBytes - offset));
+            chunkBuffer.split(inputBuffer).forEach(b -> {
+                assertThat(b.isDirect()).isFalse();
+                actualFullBuffer.put(b);
+            });
+        }
+
+        assertThat(chunkBuffer.getBufferedData()).isEmpty();
+        assertThat(allocator.allocated.get()).isPositive();
+        assertThat(allocator.released.get()).isEqualTo(allocator.allocated.get());
+        actualFullBuffer.flip();
+        assertThat(actualFullBuffer).isEqualByComparingTo(ByteBuffer.wrap(input));
+    }
+
+    @Test
+    void allocator_alignedChunks_doesNotAllocateScratchBuffer() {
+        CountingAllocator allocator = new CountingAllocator();
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder()
+                                             .totalBytes(8192)
+                                             .bufferSize(4096)
+                                             .allocator(allocator)
+                                             .build();
+
+        Iterable<ByteBuffer> buffers = chunkBuffer.split(ByteBuffer.wrap(new byte[8192]));
+
+        assertThat(buffers).hasSize(2);
+        assertThat(allocator.allocated.get()).isZero();
+    }
+
+    @Test
+    void allocator_discardBufferedData_releasesScratchBuffer() {
+        CountingAllocator allocator = new CountingAllocator();
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder()
+                                             .bufferSize(4096)
+                                             .allocator(allocator)
+                                             .build();
+
+        chunkBuffer.split(ByteBuffer.wrap(new byte[100]));
+        assertThat(allocator.allocated.get()).isOne();
+        assertThat(allocator.released.get()).isZero();
+
+        chunkBuffer.discardBufferedData();
+        assertThat(allocator.released.get()).isOne();
+        assertThat(chunkBuffer.getBufferedData()).isEmpty();
+    }
+
+    private static final class CountingAllocator implements ByteBufferAllocator {
+        private final AtomicInteger allocated = new AtomicInteger();
+        private final AtomicInteger released = new AtomicInteger();
+
+        @Override
+        public ByteBuffer allocate(int capacity) {
+            allocated.incrementAndGet();
+            return ByteBuffer.allocateDirect(capacity);
+        }
+
+        @Override
+        public void release(ByteBuffer buffer) {
+            released.incrementAndGet();
+        }
+    }
 }
@@ -19,21 +19,33 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.cache.CacheStats;
 
 public class EndpointDiscoveryRefreshCacheTest {
 
     private EndpointDiscoveryRefreshCache endpointDiscoveryRefreshCache;
     private EndpointDiscoveryCacheLoader mockClient;
     private static final URI testURI = URI.create("test_endpoint");
+    private static final URI discoveredURI = URI.create("discovered_endpoint");
     private static final String requestCacheKey = "request_cache_key";
     private static final String accessKey = "access_cache_key";
 
@@ -89,4 +101,153 @@ public class EndpointDiscoveryRefreshCacheTest {
 
     }
 
+    @Test
+    public void getAsync_concurrentRequiredMisses_shareOneDiscovery() throws Exception {
+        CompletableFuture<EndpointDiscoveryEndpoint> discovery = new CompletableFuture<>();
+        when(mockClient.discoverEndpoint(any())).thenReturn(discovery);
+        EndpointDiscoveryRequest request = requiredRequest();
+
+        CompletableFuture<URI> first = endpointDiscoveryRefreshCache.getAsync(accessKey, request);
+        CompletableFuture<URI> second = endpointDiscoveryRefreshCache.getAsync(accessKey, request);
+        first.cancel(true);
+        discovery.complete(endpoint(discoveredURI, Instant.now().plus(Duration.ofMinutes(10))));
+
+        assertThat(second.get()).isEqualTo(discoveredURI);
+        assertThat(endpointDiscoveryRefreshCache.get(accessKey, request)).isEqualTo(discoveredURI);
+        verify(mockClient, times(1)).discoverEndpoint(any());
+    }
+
+    @Test
+    public void get_expiredEndpoint_returnsStaleEndpointAndRefreshesOnce() {
+        when(mockClient.discoverEndpoint(any()))
+            .thenReturn(CompletableFuture.completedFuture(endpoint(testURI, Instant.now().minusSeconds(1))))
+            .thenReturn(new CompletableFuture<>());
+        EndpointDiscoveryRequest request = requiredRequest();
+
+        assertThat(endpointDiscoveryRefreshCache.get(accessKey, request)).isEqualTo(testURI);
+        assertThat(endpointDiscoveryRefreshCache.get(accessKey, request)).isEqualTo(testURI);
+        assertThat(endpointDiscoveryRefreshCache.get(accessKey, request)).isEqualTo(testURI);
+
+        verify(mockClient, times(2)).discoverEndpoint(any());
+    }
+
+    @Test
+    public void get_usedEndpoint_isRefreshedBeforeExpiration() {
+        List<Runnable> refreshTasks = new ArrayList<>();
+        EndpointDiscoveryRefreshCache cache = cacheWithScheduler(refreshTasks);
+        when(mockClient.discoverEndpoint(any()))
+            .thenReturn(CompletableFuture.completedFuture(endpoint(testURI, Instant.now().plus(Duration.ofMinutes(10)))))
+            .thenReturn(CompletableFuture.completedFuture(endpoint(discoveredURI, Instant.now().plus(Duration.ofMinutes(10)))));
+        EndpointDiscoveryRequest request = requiredRequest();
+
+        assertThat(cache.get(accessKey, request)).isEqualTo(testURI);
+        assertThat(refreshTasks).hasSize(1);
+        assertThat(cache.get(accessKey, request)).isEqualTo(testURI);
+
+        refreshTasks.get(0).run();
+
+        assertThat(cache.get(accessKey, request)).isEqualTo(discoveredURI);
+        assertThat(refreshTasks).hasSize(2);
+        verify(mockClient, times(2)).discoverEndpoint(any());
+    }
+
+    @Test
+    public void get_unusedEndpoint_isNotRefreshed() {
+        List<Runnable> refreshTasks = new ArrayList<>();
+        EndpointDiscoveryRefreshCache cache = cacheWithScheduler(refreshTasks);
+        when(mockClient.discoverEndpoint(any()))
+            .thenReturn(CompletableFuture.completedFuture(endpoint(testURI, Instant.now().plus(Duration.ofMinutes(10)))));
+
+        assertThat(cache.get(accessKey, requiredRequest())).isEqualTo(testURI);
+        refreshTasks.get(0).run();
+        refreshTasks.get(0).run();
+
+        verify(mockClient, times(1)).discoverEndpoint(any());
+    }
+
+    @Test
+    public void get_moreKeysThanMaxSize_evictsEndpointsThatExpireFirst() {
+        EndpointDiscoveryRefreshCache cache = EndpointDiscoveryRefreshCache.builder(mockClient).maxSize(2).build();
+        when(mockClient.discoverEndpoint(any()))
+            .thenReturn(CompletableFuture.completedFuture(endpoint(testURI, Instant.now().plus(Duration.ofMinutes(1)))))
+            .thenReturn(CompletableFuture.completedFuture(endpoint(testURI, Instant.now().plus(Duration.ofMinutes(3)))))
+            .thenReturn(CompletableFuture.completedFuture(endpoint(testURI, Instant.now().plus(Duration.ofMinutes(2)))));
+
+        cache.get("first", requiredRequest());
+        cache.get("second", requiredRequest());
+        cache.get("third", requiredRequest());
+        cache.get("second", requiredRequest());
+        cache.get("third", requiredRequest());
+
+        assertThat(cache.size()).isEqualTo(2);
+        CacheStats stats = cache.stats();
+        assertThat(stats.evictionCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(3);
+        assertThat(stats.hitCount()).isEqualTo(2);
+        assertThat(stats.refreshCount()).isEqualTo(3);
+        verify(mockClient, times(3)).discoverEndpoint(any());
+    }
+
+    @Test
+    public void close_cancelsScheduledRefreshes_andNoRefreshRunsAfterClose() {
+        List<Runnable> refreshTasks = new ArrayList<>();
+        List<ScheduledFuture<?>> refreshFutures = new ArrayList<>();
+        EndpointDiscoveryRefreshCache cache = cacheWithScheduler(refreshTasks, refreshFutures);
+        when(mockClient.discoverEndpoint(any()))
+            .thenReturn(CompletableFuture.completedFuture(endpoint(testURI, Instant.now().plus(Duration.ofMinutes(10)))));
+        EndpointDiscoveryRequest request = requiredRequest();
+
+        cache.get(accessKey, request);
+        cache.get(accessKey, request);
+        cache.close();
+
+        verify(refreshFutures.get(0)).cancel(false);
+
+        // A refresh that was already running when the cache was closed must not discover the endpoint again.
+        refreshTasks.get(0).run();
+        verify(mockClient, times(1)).discoverEndpoint(any());
+    }
+
+    @Test
+    public void close_discoveryCompletesAfterClose_doesNotScheduleRefresh() {
+        List<Runnable> refreshTasks = new ArrayList<>();
+        EndpointDiscoveryRefreshCache cache = cacheWithScheduler(refreshTasks);
+        CompletableFuture<EndpointDiscoveryEndpoint> discovery = new CompletableFuture<>();
+        when(mockClient.discoverEndpoint(any())).thenReturn(discovery);
+
+        CompletableFuture<URI> endpoint = cache.getAsync(accessKey, requiredRequest());
+        cache.close();
+        discovery.complete(endpoint(discoveredURI, Instant.now().plus(Duration.ofMinutes(10))));
+
+        assertThat(endpoint.join()).isEqualTo(discoveredURI);
+        assertThat(refreshTasks).isEmpty();
+    }
+
+    private EndpointDiscoveryRefreshCache cacheWithScheduler(List<Runnable> refreshTasks) {
+        return cacheWithScheduler(refreshTasks, new ArrayList<>());
+    }
+
+    private EndpointDiscoveryRefreshCache cacheWithScheduler(List<Runnable> refreshTasks,
+                                                             List<ScheduledFuture<?>> refreshFutures) {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(i -> {
+            refreshTasks.add(i.getArgument(0));
+            ScheduledFuture<?> future = mock(ScheduledFuture.class);
+            refreshFutures.add(future);
+            return future;
+        });
+        return EndpointDiscoveryRefreshCache.builder(mockClient).scheduler(scheduler).build();
+    }
+
+    private static EndpointDiscoveryRequest requiredRequest() {
+        return EndpointDiscoveryRequest.builder()
+                                       .required(true)
+                                       .defaultEndpoint(testURI)
+                                       .cacheKey(requestCacheKey)
+                                       .build();
+    }
+
+    private static EndpointDiscoveryEndpoint endpoint(URI uri, Instant expirationTime) {
+        return EndpointDiscoveryEndpoint.builder().endpoint(uri).expirationTime(expirationTime).build();
+    }
 }
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.core.internal.async;
 
+import static software.amazon.awssdk.core.HttpChecksumConstant.DEFAULT_ASYNC_CHUNK_SIZE;
+
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -366,12 +368,96 @@ public class ChecksumCalculatingAsyncRequestBodyTest {
         assertThat(store.getChecksumValue(DefaultChecksumAlgorithm.CRC32)).isEqualTo(BinaryUtils.fromBase64(expectedChecksum));
     }
 
+    @Test
+    void subscribe_cancelledWithPartialChunkBuffered_releasesScratchBufferToAllocator() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().build();
+        ChecksumCalculatingAsyncRequestBody checksumBody =
+            ChecksumCalculatingAsyncRequestBody.builder()
+                                               .contentLengthHeader(1000L)
+                                               .trailerHeader("x-amz-checksum-crc32")
+                                               .algorithm(DefaultChecksumAlgorithm.CRC32)
+                                               .asyncRequestBody(new UnfinishedPublisher(new byte[100], 1000))
+                                               .allocator(allocator)
+                                               .build();
+
+        Subscription subscription = subscribeAndRequest(checksumBody);
+        assertThat(allocator.retainedBytes()).isZero();
+
+        subscription.cancel();
+        assertThat(allocator.retainedBytes()).isEqualTo(DEFAULT_ASYNC_CHUNK_SIZE);
+
+        // Cancelling again must not release the buffer twice.
+        subscription.cancel();
+        assertThat(allocator.retainedBytes()).isEqualTo(DEFAULT_ASYNC_CHUNK_SIZE);
+    }
+
+    static Subscription subscribeAndRequest(Publisher<ByteBuffer> publisher) {
+        Subscription[] subscription = new Subscription[1];
+        publisher.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription[0] = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return subscription[0];
+    }
+
     private static String toString(Publisher<ByteBuffer> publisher) {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         Flowable.fromPublisher(publisher).blockingForEach(chunk -> baos.write(BinaryUtils.copyAllBytesFrom(chunk)));
         return new String(baos.toByteArray(), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Publishes the given bytes on the first request and then never completes, like a body whose source stalls.
+     */
+    static class UnfinishedPublisher implements AsyncRequestBody {
+        private final byte[] bytes;
+        private final long contentLength;
+
+        UnfinishedPublisher(byte[] bytes, long contentLength) {
+            this.bytes = bytes;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                private boolean published;
+
+                @Override
+                public void request(long n) {
+                    if (!published) {
+                        published = true;
+                        subscriber.onNext(ByteBuffer.wrap(bytes));
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(contentLength);
+        }
+    }
+
     static class EmptyBufferPublisher implements AsyncRequestBody {
 
         private final ByteBuffer[] buffers = new ByteBuffer[2];
@@ -41,6 +41,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncRequestBody.BodyType;
 import software.amazon.awssdk.core.internal.compression.Compressor;
@@ -196,6 +197,24 @@ public final class CompressionAsyncRequestBodyTest {
         return decompressedData;
     }
 
+    @Test
+    public void cancelledWithPartialChunkBuffered_releasesScratchBufferToAllocator() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().build();
+        AsyncRequestBody body = new ChecksumCalculatingAsyncRequestBodyTest.UnfinishedPublisher(new byte[100], 1000);
+        AsyncRequestBody provider = CompressionAsyncRequestBody.builder()
+                                                               .compressor(compressor)
+                                                               .asyncRequestBody(body)
+                                                               .chunkSize(4096)
+                                                               .allocator(allocator)
+                                                               .build();
+
+        Subscription subscription = ChecksumCalculatingAsyncRequestBodyTest.subscribeAndRequest(provider);
+        assertThat(allocator.retainedBytes()).isZero();
+
+        subscription.cancel();
+        assertThat(allocator.retainedBytes()).isEqualTo(4096);
+    }
+
     private static AsyncRequestBody customAsyncRequestBodyWithoutContentLength(byte[] content) {
         return new AsyncRequestBody() {
             @Override
@@ -382,4 +382,56 @@ class FileAsyncResponseTransformerPublisherTest {
         assertThat(exception.get()).hasMessageContaining("Content range header is missing");
     }
 
-}
\ No newline at end of file
+    @Test
+    void multipleTransformers_shouldPreallocateFileAndShareChannelUntilCancelled() throws Exception {
+        AsyncResponseTransformer<SdkResponse, SdkResponse> initialTransformer = AsyncResponseTransformer.toFile(testFile);
+        FileAsyncResponseTransformerPublisher<SdkResponse> publisher =
+            new FileAsyncResponseTransformerPublisher<>((FileAsyncResponseTransformer<SdkResponse>) initialTransformer);
+
+        List<AsyncResponseTransformer<SdkResponse, SdkResponse>> transformers = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        publisher.subscribe(new Subscriber<AsyncResponseTransformer<SdkResponse, SdkResponse>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+                s.request(3);
+            }
+
+            @Override
+            public void onNext(AsyncResponseTransformer<SdkResponse, SdkResponse> transformer) {
+                transformers.add(transformer);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail("Unexpected error with exception: " + t.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                // unused for test
+            }
+        });
+        assertThat(transformers).hasSize(3);
+
+        CompletableFuture<SdkResponse> first = transformers.get(0).prepare();
+        transformers.get(0).onResponse(createMockResponseWithRange("bytes 0-9/100"));
+        transformers.get(0).onStream(createMockPublisherWithData(new byte[10]));
+        assertThat(first).succeedsWithin(5, TimeUnit.SECONDS);
+
+        CompletableFuture<SdkResponse> second = transformers.get(1).prepare();
+        transformers.get(1).onResponse(createMockResponseWithRange("bytes 90-99/100"));
+        assertThat(Files.size(testFile)).isEqualTo(100);
+
+        byte[] lastPart = new byte[10];
+        Arrays.fill(lastPart, (byte) 7);
+        transformers.get(1).onStream(createMockPublisherWithData(lastPart));
+        assertThat(second).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(Arrays.copyOfRange(Files.readAllBytes(testFile), 90, 100)).isEqualTo(lastPart);
+
+        subscription.get().cancel();
+        CompletableFuture<SdkResponse> third = transformers.get(2).prepare();
+        transformers.get(2).onResponse(createMockResponseWithRange("bytes 10-19/100"));
+        assertThat(third).failsWithin(5, TimeUnit.SECONDS);
+    }
+}
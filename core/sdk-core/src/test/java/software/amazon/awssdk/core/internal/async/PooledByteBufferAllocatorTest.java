@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PooledByteBufferAllocatorTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4096, 4097, 128 * 1024, 1024 * 1024})
+    void allocate_pooledCapacity_returnsDirectBufferRoundedUpToPowerOfTwo(int capacity) {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().build();
+
+        ByteBuffer buffer = allocator.allocate(capacity);
+
+        assertThat(buffer.isDirect()).isTrue();
+        assertThat(buffer.position()).isZero();
+        assertThat(buffer.limit()).isEqualTo(capacity);
+        assertThat(Integer.bitCount(buffer.capacity())).isEqualTo(1);
+        assertThat(buffer.capacity()).isGreaterThanOrEqualTo(Math.max(capacity, PooledByteBufferAllocator.MIN_POOLED_CAPACITY))
+                                     .isLessThan(Math.max(capacity, PooledByteBufferAllocator.MIN_POOLED_CAPACITY) * 2);
+    }
+
+    @Test
+    void allocate_largerThanMaxPooledCapacity_returnsHeapBufferThatIsNotPooled() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().build();
+
+        ByteBuffer buffer = allocator.allocate(PooledByteBufferAllocator.MAX_POOLED_CAPACITY + 1);
+        allocator.release(buffer);
+
+        assertThat(buffer.isDirect()).isFalse();
+        assertThat(buffer.capacity()).isEqualTo(PooledByteBufferAllocator.MAX_POOLED_CAPACITY + 1);
+        assertThat(allocator.retainedBytes()).isZero();
+    }
+
+    @Test
+    void allocate_negativeCapacity_throws() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().build();
+
+        assertThatThrownBy(() -> allocator.allocate(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void allocate_afterRelease_reusesBufferAndResetsIt() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().build();
+        ByteBuffer first = allocator.allocate(10_000);
+        first.put(new byte[100]);
+
+        allocator.release(first);
+        assertThat(allocator.retainedBytes()).isEqualTo(first.capacity());
+
+        ByteBuffer second = allocator.allocate(9_000);
+        assertThat(second).isSameAs(first);
+        assertThat(second.position()).isZero();
+        assertThat(second.limit()).isEqualTo(9_000);
+        assertThat(allocator.retainedBytes()).isZero();
+    }
+
+    @Test
+    void allocate_differentSizeClass_doesNotReuseBuffer() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().build();
+        ByteBuffer small = allocator.allocate(4096);
+        allocator.release(small);
+
+        assertThat(allocator.allocate(8192)).isNotSameAs(small);
+    }
+
+    @Test
+    void release_beyondMaxRetainedBytes_dropsBuffer() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().maxRetainedBytes(8192).build();
+        ByteBuffer first = allocator.allocate(4096);
+        ByteBuffer second = allocator.allocate(4096);
+        ByteBuffer third = allocator.allocate(4096);
+
+        allocator.release(first);
+        allocator.release(second);
+        allocator.release(third);
+
+        assertThat(allocator.retainedBytes()).isEqualTo(8192);
+    }
+
+    @Test
+    void release_bufferNotFromAllocator_isIgnored() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().build();
+
+        allocator.release(ByteBuffer.allocate(4096));
+        allocator.release(ByteBuffer.allocateDirect(5000));
+
+        assertThat(allocator.retainedBytes()).isZero();
+    }
+
+    @Test
+    void release_twiceWithLeakDetection_pooledOnce() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().leakDetection(true).build();
+        ByteBuffer buffer = allocator.allocate(4096);
+
+        allocator.release(buffer);
+        allocator.release(buffer);
+
+        assertThat(allocator.retainedBytes()).isEqualTo(4096);
+        assertThat(allocator.allocate(4096)).isSameAs(buffer);
+        assertThat(allocator.allocate(4096)).isNotSameAs(buffer);
+    }
+
+    @Test
+    void release_directBufferNotFromAllocatorWithLeakDetection_isNotPooled() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().leakDetection(true).build();
+
+        allocator.release(ByteBuffer.allocateDirect(4096));
+
+        assertThat(allocator.retainedBytes()).isZero();
+    }
+
+    @Test
+    void leakDetection_releasedBuffers_areNotReported() {
+        PooledByteBufferAllocator allocator = PooledByteBufferAllocator.builder().leakDetection(true).build();
+        for (int i = 0; i < 100; i++) {
+            allocator.release(allocator.allocate(4096));
+        }
+
+        System.gc();
+
+        assertThat(allocator.leakedBuffers()).isZero();
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.retries.HedgingPolicy;
+
+class HedgingAsyncHttpExecutionTest {
+    private static final SdkHttpResponse RESPONSE = SdkHttpResponse.builder().statusCode(200).build();
+
+    private SdkAsyncHttpClient httpClient;
+    private ScheduledExecutorService scheduledExecutor;
+    private ScheduledFuture<?> hedgeTimer;
+    private SdkAsyncHttpResponseHandler responseHandler;
+    private HedgingPolicy hedgingPolicy;
+    private AtomicBoolean hasCapacity;
+    private AtomicInteger releasedCapacity;
+    private LatencyPercentileTracker latencyTracker;
+    private List<SdkAsyncHttpResponseHandler> attemptHandlers;
+    private List<CompletableFuture<Void>> attemptFutures;
+
+    @BeforeEach
+    void setup() {
+        httpClient = mock(SdkAsyncHttpClient.class);
+        scheduledExecutor = mock(ScheduledExecutorService.class);
+        hedgeTimer = mock(ScheduledFuture.class);
+        responseHandler = mock(SdkAsyncHttpResponseHandler.class);
+        hedgingPolicy = HedgingPolicy.builder().delay(Duration.ofMillis(50)).build();
+        hasCapacity = new AtomicBoolean(true);
+        releasedCapacity = new AtomicInteger();
+        latencyTracker = null;
+        attemptHandlers = new ArrayList<>();
+        attemptFutures = new ArrayList<>();
+
+        when(scheduledExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+            .thenAnswer(i -> hedgeTimer);
+        when(httpClient.execute(any(AsyncExecuteRequest.class))).thenAnswer(i -> {
+            AsyncExecuteRequest request = i.getArgument(0);
+            attemptHandlers.add(request.responseHandler());
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            attemptFutures.add(future);
+            return future;
+        });
+    }
+
+    @Test
+    void execute_primaryRespondsBeforeDelay_doesNotSendHedge() {
+        CompletableFuture<Void> result = execute();
+
+        attemptHandlers.get(0).onHeaders(RESPONSE);
+        attemptFutures.get(0).complete(null);
+
+        verify(hedgeTimer).cancel(false);
+        verify(responseHandler).onHeaders(RESPONSE);
+        assertThat(result).isCompleted();
+        assertThat(attemptHandlers).hasSize(1);
+    }
+
+    @Test
+    void execute_noResponseAfterDelay_sendsHedgeAndCancelsSlowerAttempt() {
+        CompletableFuture<Void> result = execute();
+        hedgeTask().run();
+
+        assertThat(attemptHandlers).hasSize(2);
+        attemptHandlers.get(1).onHeaders(RESPONSE);
+        attemptHandlers.get(0).onHeaders(RESPONSE);
+
+        assertThat(attemptFutures.get(0)).isCancelled();
+        assertThat(result).isNotDone();
+        attemptFutures.get(1).complete(null);
+
+        verify(responseHandler).onHeaders(RESPONSE);
+        verify(responseHandler, never()).onError(any());
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    void execute_noHedgingCapacity_doesNotSendHedge() {
+        hasCapacity.set(false);
+        CompletableFuture<Void> result = execute();
+        hedgeTask().run();
+
+        assertThat(attemptHandlers).hasSize(1);
+        attemptHandlers.get(0).onHeaders(RESPONSE);
+        attemptFutures.get(0).complete(null);
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    void execute_primaryFailsBeforeHedge_reportsFailure() {
+        IOException failure = new IOException("failed");
+        CompletableFuture<Void> result = execute();
+
+        attemptHandlers.get(0).onError(failure);
+        attemptFutures.get(0).completeExceptionally(failure);
+        hedgeTask().run();
+
+        assertThat(attemptHandlers).hasSize(1);
+        verify(responseHandler).onError(failure);
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    @Test
+    void execute_primaryFailsAfterHedge_waitsForHedge() {
+        IOException failure = new IOException("failed");
+        CompletableFuture<Void> result = execute();
+        hedgeTask().run();
+
+        attemptHandlers.get(0).onError(failure);
+        attemptFutures.get(0).completeExceptionally(failure);
+        verify(responseHandler, never()).onError(any());
+        assertThat(result).isNotDone();
+
+        attemptHandlers.get(1).onHeaders(RESPONSE);
+        attemptFutures.get(1).complete(null);
+        verify(responseHandler).onHeaders(RESPONSE);
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    void execute_bothAttemptsFail_reportsLastFailure() {
+        IOException primaryFailure = new IOException("primary");
+        IOException hedgeFailure = new IOException("hedge");
+        CompletableFuture<Void> result = execute();
+        hedgeTask().run();
+
+        attemptFutures.get(0).completeExceptionally(primaryFailure);
+        attemptFutures.get(1).completeExceptionally(hedgeFailure);
+
+        verify(responseHandler, never()).onError(primaryFailure);
+        verify(responseHandler).onError(hedgeFailure);
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    @Test
+    void execute_resultCancelled_cancelsAllAttempts() {
+        CompletableFuture<Void> result = execute();
+        hedgeTask().run();
+
+        result.cancel(true);
+
+        assertThat(attemptFutures.get(0)).isCancelled();
+        assertThat(attemptFutures.get(1)).isCancelled();
+    }
+
+    @Test
+    void execute_hedgedRequestSucceeds_releasesHedgingCapacity() {
+        CompletableFuture<Void> result = execute();
+        hedgeTask().run();
+
+        attemptHandlers.get(1).onHeaders(RESPONSE);
+        attemptFutures.get(1).complete(null);
+
+        assertThat(result).isCompleted();
+        assertThat(releasedCapacity).hasValue(1);
+    }
+
+    @Test
+    void execute_hedgedRequestReceivesErrorResponse_keepsHedgingCapacity() {
+        CompletableFuture<Void> result = execute();
+        hedgeTask().run();
+
+        attemptHandlers.get(0).onHeaders(SdkHttpResponse.builder().statusCode(503).build());
+        attemptFutures.get(0).complete(null);
+
+        assertThat(result).isCompleted();
+        assertThat(releasedCapacity).hasValue(0);
+    }
+
+    @Test
+    void execute_noHedgeSent_doesNotReleaseHedgingCapacity() {
+        execute();
+
+        attemptHandlers.get(0).onHeaders(RESPONSE);
+        attemptFutures.get(0).complete(null);
+
+        assertThat(releasedCapacity).hasValue(0);
+    }
+
+    @Test
+    void execute_hedge_sendsRequestFromHedgeRequestFactory() {
+        SdkHttpContentPublisher primaryContent = mock(SdkHttpContentPublisher.class);
+        SdkHttpContentPublisher hedgeContent = mock(SdkHttpContentPublisher.class);
+        List<AsyncExecuteRequest> requests = new ArrayList<>();
+        when(httpClient.execute(any(AsyncExecuteRequest.class))).thenAnswer(i -> {
+            requests.add(i.getArgument(0));
+            return new CompletableFuture<>();
+        });
+
+        newExecution().execute(handler -> request(handler, primaryContent), handler -> request(handler, hedgeContent),
+                               responseHandler);
+        hedgeTask().run();
+
+        assertThat(requests).extracting(AsyncExecuteRequest::requestContentPublisher).containsExactly(primaryContent,
+                                                                                                      hedgeContent);
+    }
+
+    @Test
+    void execute_percentileDelay_usesLatenciesRecordedByTracker() {
+        latencyTracker = new LatencyPercentileTracker(50.0);
+        for (int i = 0; i < LatencyPercentileTracker.MIN_SAMPLES; i++) {
+            latencyTracker.record(Duration.ofSeconds(1).toNanos());
+        }
+
+        execute();
+
+        verify(scheduledExecutor).schedule(any(Runnable.class), eq(latencyTracker.percentileNanos()), eq(TimeUnit.NANOSECONDS));
+    }
+
+    private CompletableFuture<Void> execute() {
+        return newExecution().execute(handler -> request(handler, null), handler -> request(handler, null), responseHandler);
+    }
+
+    private HedgingAsyncHttpExecution newExecution() {
+        HedgingAsyncHttpExecution.HedgingCapacity hedgingCapacity = new HedgingAsyncHttpExecution.HedgingCapacity() {
+            @Override
+            public boolean tryAcquire() {
+                return hasCapacity.get();
+            }
+
+            @Override
+            public void release() {
+                releasedCapacity.incrementAndGet();
+            }
+        };
+        return new HedgingAsyncHttpExecution(httpClient, scheduledExecutor, hedgingPolicy, latencyTracker, hedgingCapacity);
+    }
+
+    private static AsyncExecuteRequest request(SdkAsyncHttpResponseHandler handler, SdkHttpContentPublisher content) {
+        return AsyncExecuteRequest.builder().responseHandler(handler).requestContentPublisher(content).build();
+    }
+
+    private Runnable hedgeTask() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduledExecutor).schedule(task.capture(), eq(Duration.ofMillis(50).toNanos()), eq(TimeUnit.NANOSECONDS));
+        return task.getValue();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LatencyPercentileTrackerTest {
+
+    @Test
+    void percentileNanos_notEnoughLatenciesRecorded_isUnknown() {
+        LatencyPercentileTracker tracker = new LatencyPercentileTracker(90.0);
+
+        for (int i = 0; i < LatencyPercentileTracker.MIN_SAMPLES - 1; i++) {
+            tracker.record(Duration.ofMillis(100).toNanos());
+        }
+
+        assertThat(tracker.percentileNanos()).isEqualTo(-1);
+    }
+
+    @Test
+    void percentileNanos_estimatesPercentileOfRecordedLatencies() {
+        LatencyPercentileTracker tracker = new LatencyPercentileTracker(90.0);
+
+        for (int i = 1; i <= 1_000; i++) {
+            tracker.record(Duration.ofMillis(i % 100 + 1).toNanos());
+        }
+
+        // The histogram buckets are within 12.5% of the recorded values
+        assertThat(Duration.ofNanos(tracker.percentileNanos())).isBetween(Duration.ofMillis(90), Duration.ofMillis(102));
+    }
+}
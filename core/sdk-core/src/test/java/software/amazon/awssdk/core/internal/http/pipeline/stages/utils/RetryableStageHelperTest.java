@@ -33,11 +33,13 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
 import software.amazon.awssdk.retries.api.AcquireInitialTokenResponse;
 import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
 import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
@@ -161,6 +163,52 @@ public class RetryableStageHelperTest {
         }
     }
 
+    @ParameterizedTest(name = "RETRY_SCOPE = {0}, expected = {1}")
+    @MethodSource("retryScopeTestParams")
+    void acquireInitialToken_usesRetryScopeAttribute(String attribute, String expected) {
+        SdkHttpFullRequest httpRequest = SdkHttpFullRequest.builder()
+                                                           .method(SdkHttpMethod.GET)
+                                                           .uri(URI.create("https://my-service.amazonaws.com"))
+                                                           .build();
+
+        ExecutionAttributes.Builder attributes = ExecutionAttributes.builder();
+        if (attribute != null) {
+            attributes.put(SdkExecutionAttribute.RETRY_SCOPE, attribute);
+        }
+
+        ExecutionContext executionContext = ExecutionContext.builder().executionAttributes(attributes.build()).build();
+
+        RequestExecutionContext requestExecutionContext = RequestExecutionContext.builder()
+                                                                                 .originalRequest(mock(SdkRequest.class))
+                                                                                 .executionContext(executionContext)
+                                                                                 .build();
+
+        RetryStrategy retryStrategy = mock(RetryStrategy.class);
+
+        SdkClientConfiguration clientConfig = SdkClientConfiguration.builder()
+                                                                    .option(SdkClientOption.RETRY_STRATEGY, retryStrategy)
+                                                                    .build();
+
+        HttpClientDependencies dependencies = HttpClientDependencies.builder()
+                                                                    .clientConfiguration(clientConfig)
+                                                                    .build();
+
+        RetryableStageHelper helper = new RetryableStageHelper(httpRequest,
+                                                               requestExecutionContext,
+                                                               dependencies);
+
+        AcquireInitialTokenResponse mockAcquireResponse = mock(AcquireInitialTokenResponse.class);
+        when(mockAcquireResponse.token()).thenReturn(mock(RetryToken.class));
+        when(mockAcquireResponse.delay()).thenReturn(Duration.ZERO);
+        ArgumentCaptor<AcquireInitialTokenRequest> acquireRequestCaptor =
+            ArgumentCaptor.forClass(AcquireInitialTokenRequest.class);
+        when(retryStrategy.acquireInitialToken(acquireRequestCaptor.capture())).thenReturn(mockAcquireResponse);
+
+        helper.acquireInitialToken();
+
+        assertThat(acquireRequestCaptor.getValue().scope()).isEqualTo(expected);
+    }
+
     private static Stream<Arguments> longPollingValueTestParams() {
         return Stream.of(
             // Absent should default to false
@@ -170,6 +218,14 @@ public class RetryableStageHelperTest {
         );
     }
 
+    private static Stream<Arguments> retryScopeTestParams() {
+        return Stream.of(
+            // Absent should default to a single scope for the client
+            Arguments.of(null, "GLOBAL"),
+            Arguments.of("my-table", "my-table")
+        );
+    }
+
     private static Stream<Arguments> refreshBackoffTestParams() {
         return Stream.of(
             Arguments.of(null, Duration.ofSeconds(1)),
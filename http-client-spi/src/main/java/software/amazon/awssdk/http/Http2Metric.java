@@ -42,6 +42,13 @@ public final class Http2Metric {
     public static final SdkMetric<Integer> REMOTE_STREAM_WINDOW_SIZE_IN_BYTES =
         metric("RemoteStreamWindowSize", Integer.class, MetricLevel.TRACE);
 
+    /**
+     * The number of open streams on one of the HTTP/2 connections to the endpoint of this request, when the request started.
+     * One value is reported for each connection, which shows how the requests are spread across the connections.
+     */
+    public static final SdkMetric<Integer> CONNECTION_OPEN_STREAMS =
+        metric("ConnectionOpenStreams", Integer.class, MetricLevel.TRACE);
+
     private Http2Metric() {
     }
 
@@ -29,11 +29,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private final Long maxStreams;
     private final Integer initialWindowSize;
     private final Duration healthCheckPingPeriod;
+    private final Integer minWarmConnections;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.minWarmConnections = builder.minWarmConnections;
     }
 
     /**
@@ -57,6 +59,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return healthCheckPingPeriod;
     }
 
+    /**
+     * @return The minimum number of HTTP/2 connections kept open to each endpoint.
+     */
+    public Integer minWarmConnections() {
+        return minWarmConnections;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -78,6 +87,10 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
+        if (minWarmConnections != null ? !minWarmConnections.equals(that.minWarmConnections) : that.minWarmConnections != null) {
+            return false;
+        }
+
         return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
 
     }
@@ -86,6 +99,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (minWarmConnections != null ? minWarmConnections.hashCode() : 0);
         return result;
     }
 
@@ -127,12 +141,25 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder healthCheckPingPeriod(Duration healthCheckPingPeriod);
+
+        /**
+         * Sets the minimum number of HTTP/2 connections kept open to each endpoint. Once the client has connected to an
+         * endpoint, it opens the missing connections in the background, and replaces them when they are closed, so that
+         * requests don't wait for a new connection after a period of low traffic. Warm connections are kept alive by the
+         * {@link #healthCheckPingPeriod(Duration) health check} {@code PING} frames, and are not closed when idle. Defaults to
+         * 0.
+         *
+         * @param minWarmConnections The minimum number of connections to each endpoint.
+         * @return This builder for method chaining.
+         */
+        Builder minWarmConnections(Integer minWarmConnections);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private Integer minWarmConnections;
 
         private DefaultBuilder() {
         }
@@ -141,6 +168,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
+            this.minWarmConnections = http2Configuration.minWarmConnections;
         }
 
         @Override
@@ -173,6 +201,19 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             healthCheckPingPeriod(healthCheckPingPeriod);
         }
 
+        @Override
+        public Builder minWarmConnections(Integer minWarmConnections) {
+            if (minWarmConnections != null) {
+                Validate.isNotNegative(minWarmConnections, "minWarmConnections");
+            }
+            this.minWarmConnections = minWarmConnections;
+            return this;
+        }
+
+        public void setMinWarmConnections(Integer minWarmConnections) {
+            minWarmConnections(minWarmConnections);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
@@ -111,10 +111,12 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .maxStreams(maxStreams)
                                              .initialWindowSize(initialWindowSize)
                                              .healthCheckPingPeriod(resolveHealthCheckPingPeriod(http2Configuration))
+                                             .minWarmHttp2Connections(resolveMinWarmConnections(http2Configuration))
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(sslProvider)
                                              .proxyConfiguration(builder.proxyConfiguration)
                                              .useNonBlockingDnsResolver(builder.useNonBlockingDnsResolver)
+                                             .useShardedConnectionPool(builder.useShardedConnectionPool)
                                              .build();
     }
 
@@ -167,6 +169,14 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private SdkEventLoopGroup eventLoopGroup(DefaultBuilder builder) {
         Validate.isTrue(builder.eventLoopGroup == null || builder.eventLoopGroupBuilder == null,
                         "The eventLoopGroup and the eventLoopGroupFactory can't both be configured.");
+        if (builder.transportType != null) {
+            Validate.isTrue(builder.eventLoopGroup == null,
+                            "The eventLoopGroup and the transportType can't both be configured.");
+            SdkEventLoopGroup.Builder eventLoopGroupBuilder = builder.eventLoopGroupBuilder != null
+                                                              ? builder.eventLoopGroupBuilder
+                                                              : SdkEventLoopGroup.builder();
+            return SdkEventLoopGroup.create(eventLoopGroupBuilder, builder.transportType);
+        }
         return Either.fromNullable(builder.eventLoopGroup, builder.eventLoopGroupBuilder)
                      .map(e -> e.map(this::nonManagedEventLoopGroup, SdkEventLoopGroup.Builder::build))
                      .orElseGet(SharedSdkEventLoopGroup::get);
@@ -242,6 +252,13 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return null;
     }
 
+    private int resolveMinWarmConnections(Http2Configuration http2Configuration) {
+        if (http2Configuration == null || http2Configuration.minWarmConnections() == null) {
+            return 0;
+        }
+        return http2Configuration.minWarmConnections();
+    }
+
     private SdkEventLoopGroup nonManagedEventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
         return SdkEventLoopGroup.create(new NonManagedEventLoopGroup(eventLoopGroup.eventLoopGroup()),
                                         eventLoopGroup.channelFactory());
@@ -558,6 +575,36 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure whether the maximum number of concurrent connections and pending connection acquires to each endpoint are
+         * tracked per event loop. False by default, in which case every acquire and release of a connection to an endpoint
+         * runs on a single event loop, which can become a bottleneck at high request rates.
+         * <p>
+         * When enabled, each event loop acquires and releases connections without handing off to another thread. Acquires
+         * waiting for a connection are queued on the event loop they were made from, and run by the first event loop that
+         * releases a connection. {@link #maxConcurrency(Integer)} and {@link #maxPendingConnectionAcquires(Integer)} are
+         * still enforced across all event loops.
+         *
+         * @param useShardedConnectionPool whether to track the connection limits per event loop.
+         * @return the builder for method chaining.
+         */
+        Builder useShardedConnectionPool(Boolean useShardedConnectionPool);
+
+        /**
+         * Configure the Netty transport of the event loop group created for this client. If the transport is not available
+         * on this host, the next available transport is used, see {@link TransportType}. {@link TransportType#NIO} by default.
+         * <p>
+         * When set, the client creates and manages its own event loop group instead of using the event loop group shared by
+         * default by all clients. If an {@link #eventLoopGroupBuilder(SdkEventLoopGroup.Builder) event loop group builder} is
+         * configured, the transport is applied to a copy of that builder. It can't be combined with
+         * {@link #eventLoopGroup(SdkEventLoopGroup)}, whose transport is chosen by the caller.
+         *
+         * @param transportType the transport to use.
+         * @return the builder for method chaining.
+         * @see SdkEventLoopGroup.Builder#transportType(TransportType)
+         */
+        Builder transportType(TransportType transportType);
     }
 
     /**
@@ -576,6 +623,8 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration = ProxyConfiguration.builder().build();
         private Boolean useNonBlockingDnsResolver;
+        private Boolean useShardedConnectionPool;
+        private TransportType transportType;
         private ProtocolNegotiation protocolNegotiation;
 
         private DefaultBuilder() {
@@ -817,6 +866,26 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder useShardedConnectionPool(Boolean useShardedConnectionPool) {
+            this.useShardedConnectionPool = useShardedConnectionPool;
+            return this;
+        }
+
+        public void setUseShardedConnectionPool(Boolean useShardedConnectionPool) {
+            useShardedConnectionPool(useShardedConnectionPool);
+        }
+
+        @Override
+        public Builder transportType(TransportType transportType) {
+            this.transportType = transportType;
+            return this;
+        }
+
+        public void setTransportType(TransportType transportType) {
+            transportType(transportType);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
@@ -18,14 +18,12 @@ package software.amazon.awssdk.http.nio.netty;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
-import io.netty.channel.socket.nio.NioDatagramChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelResolver;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NativeTransports;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -81,8 +79,8 @@ public final class SdkEventLoopGroup {
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
         this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveSocketChannelFactory(builder);
-        this.datagramChannelFactory = resolveDatagramChannelFactory(builder);
+        this.channelFactory = resolveSocketChannelFactory(builder, eventLoopGroup);
+        this.datagramChannelFactory = resolveDatagramChannelFactory(builder, eventLoopGroup);
     }
 
     /**
@@ -136,38 +134,39 @@ public final class SdkEventLoopGroup {
         return new DefaultBuilder();
     }
 
+    /**
+     * Creates an instance of SdkEventLoopGroup from a copy of the given builder that uses the given transport, leaving the
+     * given builder unchanged.
+     */
+    static SdkEventLoopGroup create(Builder builder, TransportType transportType) {
+        DefaultBuilder defaultBuilder = Validate.isInstanceOf(DefaultBuilder.class, builder,
+                                                              "The transportType can't be applied to the eventLoopGroupBuilder "
+                                                              + "of type %s.", builder.getClass().getName());
+        return new DefaultBuilder(defaultBuilder).transportType(transportType).build();
+    }
+
     private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder) {
         int numThreads = Optional.ofNullable(builder.numberOfThreads).orElse(0);
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElseGet(() -> new ThreadFactoryBuilder()
                                                   .threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                   .build());
-        return new NioEventLoopGroup(numThreads, threadFactory);
-        /*
-        Need to investigate why epoll is raising channel inactive after successful response that causes
-        problems with retries.
-
-        if (Epoll.isAvailable() && isNotAwsLambda()) {
-            return new EpollEventLoopGroup(numThreads, resolveThreadFactory());
-        } else {
-
-        }*/
+        // NIO stays the default: epoll has been seen raising channel inactive after successful responses, which causes
+        // problems with retries, so the native transports are only used when selected.
+        TransportType transportType = NativeTransports.resolve(builder.transportType);
+        return NativeTransports.newEventLoopGroup(transportType, numThreads, threadFactory);
     }
 
-    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder) {
-        return builder.channelFactory;
+    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder,
+                                                                          EventLoopGroup eventLoopGroup) {
+        return builder.channelFactory != null ? builder.channelFactory
+                                              : ChannelResolver.resolveSocketChannelFactory(eventLoopGroup);
     }
 
-    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder) {
-        return builder.datagramChannelFactory;
-    }
-
-    private static ChannelFactory<? extends Channel> defaultSocketChannelFactory() {
-        return NioSocketChannel::new;
-    }
-
-    private static ChannelFactory<? extends DatagramChannel> defaultDatagramChannelFactory() {
-        return NioDatagramChannel::new;
+    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder,
+                                                                                    EventLoopGroup eventLoopGroup) {
+        return builder.datagramChannelFactory != null ? builder.datagramChannelFactory
+                                                      : ChannelResolver.resolveDatagramChannelFactory(eventLoopGroup);
     }
 
     /**
@@ -196,9 +195,18 @@ public final class SdkEventLoopGroup {
          */
         Builder threadFactory(ThreadFactory threadFactory);
 
+        /**
+         * The Netty transport used by the {@link EventLoopGroup}. If the transport is not available on this host, the next
+         * available transport is used, see {@link TransportType}. If not set, {@link TransportType#NIO} is used.
+         *
+         * @param transportType The transport to use.
+         * @return This builder for method chaining.
+         */
+        Builder transportType(TransportType transportType);
+
         /**
          * {@link ChannelFactory} to create socket channels used by the {@link EventLoopGroup}. If not set,
-         * NioSocketChannel is used.
+         * the socket channel of the {@link #transportType(TransportType) transport} is used, NioSocketChannel by default.
          *
          * @param channelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -207,7 +215,7 @@ public final class SdkEventLoopGroup {
 
         /**
          * {@link ChannelFactory} to create datagram channels used by the {@link EventLoopGroup}. If not set,
-         * NioDatagramChannel is used.
+         * the datagram channel of the {@link #transportType(TransportType) transport} is used, NioDatagramChannel by default.
          *
          * @param datagramChannelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -221,12 +229,21 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
-        private ChannelFactory<? extends Channel> channelFactory = defaultSocketChannelFactory();
-        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory = defaultDatagramChannelFactory();
+        private TransportType transportType;
+        private ChannelFactory<? extends Channel> channelFactory;
+        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory;
 
         private DefaultBuilder() {
         }
 
+        private DefaultBuilder(DefaultBuilder builder) {
+            this.numberOfThreads = builder.numberOfThreads;
+            this.threadFactory = builder.threadFactory;
+            this.transportType = builder.transportType;
+            this.channelFactory = builder.channelFactory;
+            this.datagramChannelFactory = builder.datagramChannelFactory;
+        }
+
         @Override
         public Builder numberOfThreads(Integer numberOfThreads) {
             this.numberOfThreads = numberOfThreads;
@@ -247,6 +264,16 @@ public final class SdkEventLoopGroup {
             threadFactory(threadFactory);
         }
 
+        @Override
+        public Builder transportType(TransportType transportType) {
+            this.transportType = transportType;
+            return this;
+        }
+
+        public void setTransportType(TransportType transportType) {
+            transportType(transportType);
+        }
+
         @Override
         public Builder channelFactory(ChannelFactory<? extends Channel> channelFactory) {
             this.channelFactory = channelFactory;
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The Netty transport used by the event loops of an {@link SdkEventLoopGroup} built by {@link SdkEventLoopGroup#builder()}.
+ *
+ * <p>The native transports need the matching Netty native library on the classpath, and are only available on Linux. If the
+ * selected transport is not available, for example because the library is missing or the kernel does not support it, the
+ * next transport in the order {@link #IO_URING}, {@link #EPOLL}, {@link #NIO} is used instead.
+ *
+ * @see SdkEventLoopGroup.Builder#transportType(TransportType)
+ * @see NettyNioAsyncHttpClient.Builder#transportType(TransportType)
+ */
+@SdkPublicApi
+public enum TransportType {
+    /**
+     * The Java NIO transport, which is available on all platforms. This is the default.
+     */
+    NIO,
+
+    /**
+     * The Linux epoll transport, from the {@code io.netty:netty-transport-native-epoll} artifact.
+     */
+    EPOLL,
+
+    /**
+     * The Linux io_uring transport, from the {@code io.netty.incubator:netty-incubator-transport-native-io_uring} artifact.
+     * It requires Linux kernel 5.9 or later. io_uring submits socket reads and writes in batches through queues shared with
+     * the kernel, which reduces the number of system calls made by the event loops when there are many connections.
+     */
+    IO_URING
+}
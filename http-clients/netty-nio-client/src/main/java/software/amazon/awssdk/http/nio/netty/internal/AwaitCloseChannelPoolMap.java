@@ -86,6 +86,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final BootstrapProvider bootstrapProvider;
     private final SslContextProvider sslContextProvider;
     private final Boolean useNonBlockingDnsResolver;
+    private final boolean useShardedConnectionPool;
+    private final int minWarmHttp2Connections;
 
     private AwaitCloseChannelPoolMap(Builder builder, Function<Builder, BootstrapProvider> createBootStrapProvider) {
         this.configuration = builder.configuration;
@@ -99,6 +101,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         this.bootstrapProvider = createBootStrapProvider.apply(builder);
         this.sslContextProvider = new SslContextProvider(configuration, protocol, protocolNegotiation, sslProvider);
         this.useNonBlockingDnsResolver = builder.useNonBlockingDnsResolver;
+        this.useShardedConnectionPool = Boolean.TRUE.equals(builder.useShardedConnectionPool);
+        this.minWarmHttp2Connections = builder.minWarmHttp2Connections;
     }
 
     private AwaitCloseChannelPoolMap(Builder builder) {
@@ -240,7 +244,9 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         SdkChannelPool sdkChannelPool = new HttpOrHttp2ChannelPool(channelPool,
                                                                    bootstrap.config().group(),
                                                                    configuration.maxConnections(),
-                                                                   configuration);
+                                                                   configuration,
+                                                                   useShardedConnectionPool,
+                                                                   minWarmHttp2Connections);
 
 
         sdkChannelPool = new ListenerInvokingChannelPool(bootstrap.config().group(), sdkChannelPool, Arrays.asList(
@@ -292,6 +298,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
         private Boolean useNonBlockingDnsResolver;
+        private Boolean useShardedConnectionPool;
+        private int minWarmHttp2Connections;
 
         private Builder() {
         }
@@ -351,6 +359,16 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder useShardedConnectionPool(Boolean useShardedConnectionPool) {
+            this.useShardedConnectionPool = useShardedConnectionPool;
+            return this;
+        }
+
+        public Builder minWarmHttp2Connections(int minWarmHttp2Connections) {
+            this.minWarmHttp2Connections = minWarmHttp2Connections;
+            return this;
+        }
+
         public AwaitCloseChannelPoolMap build() {
             return new AwaitCloseChannelPoolMap(this);
         }
@@ -15,16 +15,17 @@
 
 package software.amazon.awssdk.http.nio.netty.internal;
 
-import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
-
 import io.netty.channel.Channel;
 import io.netty.channel.pool.ChannelPool;
+import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.DefaultPromise;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import io.netty.util.concurrent.Promise;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
@@ -36,19 +37,24 @@ import software.amazon.awssdk.metrics.MetricCollector;
  *
  * <p>Specifically, this pool counts the number of channels acquired and then released from/to the underlying channel pool. It
  * will monitor for the underlying channels to be closed, and will remove them from the "idle" count.
+ *
+ * <p>The count is updated without locks, on the thread that acquires, releases or closes the channel: the idle state of each
+ * channel is moved with a compare-and-set on a channel attribute, and only the transitions into and out of the idle state
+ * update the count. Acquires and releases therefore stay on the event loop of the caller, which lets a sharded pool above this
+ * one acquire and release connections from every event loop concurrently.
  */
 @SdkInternalApi
 public class IdleConnectionCountingChannelPool implements SdkChannelPool {
     private static final NettyClientLogger log = NettyClientLogger.getLogger(IdleConnectionCountingChannelPool.class);
 
     /**
-     * The idle channel state for a specific channel. This should only be accessed from the {@link #executor}.
+     * The idle channel state for a specific channel. This is only updated with compare-and-set.
      */
     private static final AttributeKey<ChannelIdleState> CHANNEL_STATE =
         NettyUtils.getOrCreateAttributeKey("IdleConnectionCountingChannelPool.CHANNEL_STATE");
 
     /**
-     * The executor in which all updates to {@link #idleConnections} is performed.
+     * The executor of the promises created for callers that do not provide one.
      */
     private final EventExecutor executor;
 
@@ -58,10 +64,9 @@ public class IdleConnectionCountingChannelPool implements SdkChannelPool {
     private final ChannelPool delegatePool;
 
     /**
-     * The number of idle connections in the underlying channel pool. This value is only valid if accessed from the
-     * {@link #executor}.
+     * The number of idle connections in the underlying channel pool.
      */
-    private int idleConnections = 0;
+    private final AtomicInteger idleConnections = new AtomicInteger();
 
     public IdleConnectionCountingChannelPool(EventExecutor executor, ChannelPool delegatePool) {
         this.executor = executor;
@@ -75,7 +80,9 @@ public class IdleConnectionCountingChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> promise) {
-        Future<Channel> acquirePromise = delegatePool.acquire(executor.newPromise());
+        // The delegate promise notifies its listener on the thread that completes it, instead of handing off to an executor
+        // shared by every caller. The caller's promise then notifies the caller on its own executor.
+        Future<Channel> acquirePromise = delegatePool.acquire(ImmediateEventExecutor.INSTANCE.newPromise());
         acquirePromise.addListener(f -> {
             Throwable failure = acquirePromise.cause();
             if (failure != null) {
@@ -97,7 +104,8 @@ public class IdleConnectionCountingChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Void> release(Channel channel, Promise<Void> promise) {
-        channelReleased(channel).addListener(f -> delegatePool.release(channel, promise));
+        channelReleased(channel);
+        delegatePool.release(channel, promise);
         return promise;
     }
 
@@ -109,14 +117,12 @@ public class IdleConnectionCountingChannelPool implements SdkChannelPool {
     @Override
     public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
         CompletableFuture<Void> result = new CompletableFuture<>();
-        doInEventLoop(executor, () -> {
-            metrics.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, idleConnections);
+        try {
+            metrics.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, idleConnections.get());
             result.complete(null);
-        }).addListener(f -> {
-            if (!f.isSuccess()) {
-                result.completeExceptionally(f.cause());
-            }
-        });
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
         return result;
     }
 
@@ -131,103 +137,98 @@ public class IdleConnectionCountingChannelPool implements SdkChannelPool {
      * Invoked when a channel is acquired, marking it non-idle until it's closed or released.
      */
     private void channelAcquired(Channel channel) {
-        doInEventLoop(executor, () -> {
-            ChannelIdleState channelIdleState = getChannelIdleState(channel);
+        Attribute<ChannelIdleState> state = channel.attr(CHANNEL_STATE);
+        while (true) {
+            ChannelIdleState channelIdleState = state.get();
 
             if (channelIdleState == null) {
-                addUpdateIdleCountOnCloseListener(channel);
-                setChannelIdleState(channel, ChannelIdleState.NOT_IDLE);
-            } else {
-                switch (channelIdleState) {
-                    case IDLE:
-                        decrementIdleConnections();
-                        setChannelIdleState(channel, ChannelIdleState.NOT_IDLE);
-                        break;
-                    case CLOSED:
-                        break;
-                    case NOT_IDLE:
-                    default:
-                        log.warn(channel, () -> "Failed to update idle connection count metric on acquire, because the channel "
-                                                + "(" + channel + ") was in an unexpected state: " + channelIdleState);
+                if (state.compareAndSet(null, ChannelIdleState.NOT_IDLE)) {
+                    addUpdateIdleCountOnCloseListener(channel);
+                    return;
                 }
+                continue;
             }
-        });
+
+            switch (channelIdleState) {
+                case IDLE:
+                    if (state.compareAndSet(ChannelIdleState.IDLE, ChannelIdleState.NOT_IDLE)) {
+                        decrementIdleConnections();
+                        return;
+                    }
+                    break;
+                case CLOSED:
+                    return;
+                case NOT_IDLE:
+                default:
+                    log.warn(channel, () -> "Failed to update idle connection count metric on acquire, because the channel "
+                                            + "(" + channel + ") was in an unexpected state: " + channelIdleState);
+                    return;
+            }
+        }
     }
 
     /**
      * Invoked when a channel is released, marking it idle until it's acquired.
      */
-    private Future<?> channelReleased(Channel channel) {
-        return doInEventLoop(executor, () -> {
-            ChannelIdleState channelIdleState = getChannelIdleState(channel);
+    private void channelReleased(Channel channel) {
+        Attribute<ChannelIdleState> state = channel.attr(CHANNEL_STATE);
+        while (true) {
+            ChannelIdleState channelIdleState = state.get();
 
             if (channelIdleState == null) {
                 log.warn(channel,
                          () -> "Failed to update idle connection count metric on release, because the channel (" + channel +
                                ") was in an unexpected state: null");
-            } else {
-                switch (channelIdleState) {
-                    case NOT_IDLE:
+                return;
+            }
+
+            switch (channelIdleState) {
+                case NOT_IDLE:
+                    if (state.compareAndSet(ChannelIdleState.NOT_IDLE, ChannelIdleState.IDLE)) {
                         incrementIdleConnections();
-                        setChannelIdleState(channel, ChannelIdleState.IDLE);
-                        break;
-                    case CLOSED:
-                        break;
-                    case IDLE:
-                    default:
-                        log.warn(channel, () -> "Failed to update idle connection count metric on release, because the channel "
-                                                + "(" + channel + ") was in an unexpected state: " + channelIdleState);
-                }
+                        return;
+                    }
+                    break;
+                case CLOSED:
+                    return;
+                case IDLE:
+                default:
+                    log.warn(channel, () -> "Failed to update idle connection count metric on release, because the channel "
+                                            + "(" + channel + ") was in an unexpected state: " + channelIdleState);
+                    return;
             }
-        });
+        }
     }
 
     /**
      * Invoked when a channel is closed, ensure it is marked as non-idle.
      */
     private void channelClosed(Channel channel) {
-        doInEventLoop(executor, () -> {
-            ChannelIdleState channelIdleState = getChannelIdleState(channel);
-            setChannelIdleState(channel, ChannelIdleState.CLOSED);
-
-            if (channelIdleState != null) {
-                switch (channelIdleState) {
-                    case IDLE:
-                        decrementIdleConnections();
-                        break;
-                    case NOT_IDLE:
-                        break;
-                    default:
-                        log.warn(channel,
-                                 () -> "Failed to update idle connection count metric on close, because the channel (" + channel +
-                                       ") was in an unexpected state: " + channelIdleState);
-                }
+        ChannelIdleState channelIdleState = channel.attr(CHANNEL_STATE).getAndSet(ChannelIdleState.CLOSED);
+
+        if (channelIdleState != null) {
+            switch (channelIdleState) {
+                case IDLE:
+                    decrementIdleConnections();
+                    break;
+                case NOT_IDLE:
+                    break;
+                default:
+                    log.warn(channel,
+                             () -> "Failed to update idle connection count metric on close, because the channel (" + channel +
+                                   ") was in an unexpected state: " + channelIdleState);
             }
-        });
-    }
-
-    private ChannelIdleState getChannelIdleState(Channel channel) {
-        return channel.attr(CHANNEL_STATE).get();
+        }
     }
 
-    private void setChannelIdleState(Channel channel, ChannelIdleState newState) {
-        channel.attr(CHANNEL_STATE).set(newState);
-    }
-
-    /**
-     * Decrement the idle connection count. This must be invoked from the {@link #executor}.
-     */
     private void decrementIdleConnections() {
-        --idleConnections;
-        log.trace(null, () -> "Idle connection count decremented, now " + idleConnections);
+        int idle = idleConnections.decrementAndGet();
+        log.trace(null, () -> "Idle connection count decremented, now " + idle);
     }
 
-    /**
-     * Increment the idle connection count. This must be invoked from the {@link #executor}.
-     */
     private void incrementIdleConnections() {
-        ++idleConnections;
-        log.trace(null, () -> "Idle connection count incremented, now " + idleConnections);
+        int idle = idleConnections.incrementAndGet();
+        log.trace(null, () -> "Idle connection count incremented, now " + idle);
     }
 
     /**
@@ -39,6 +39,7 @@ import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import io.netty.util.concurrent.PromiseCombiner;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.time.Duration;
@@ -49,8 +50,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.Http2Metric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
@@ -64,8 +68,10 @@ import software.amazon.awssdk.utils.Validate;
  * {@link ChannelPool} implementation that handles multiplexed streams. Child channels are created
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
- * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections by
+ * picking the connection with the fewest outstanding streams, and when the max concurrency for every
+ * connection is reached then a new connection will be opened. Optionally, a minimum number of connections
+ * is opened in the background and kept open even when idle.
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -88,10 +94,44 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private static final AttributeKey<Boolean> RELEASED = NettyUtils.getOrCreateAttributeKey(
         "software.amazon.awssdk.http.nio.netty.internal.http2.Http2MultiplexedChannelPool.RELEASED");
 
+    /**
+     * How long to wait before the first retry after failing to open a warm connection. The delay doubles with each consecutive
+     * failed retry, up to {@link #MAX_WARM_CONNECTION_RETRY_DELAY_MILLIS}.
+     */
+    private static final long BASE_WARM_CONNECTION_RETRY_DELAY_MILLIS = 1_000;
+
+    /**
+     * The maximum delay between retries after failing to open a warm connection.
+     */
+    private static final long MAX_WARM_CONNECTION_RETRY_DELAY_MILLIS = 30_000;
+
+    /**
+     * How many consecutive retries to schedule after failing to open warm connections before giving up. Retries start again
+     * once a connection is opened successfully.
+     */
+    private static final int MAX_WARM_CONNECTION_RETRIES = 10;
+
     private final ChannelPool connectionPool;
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final int minWarmConnections;
+
+    /**
+     * The number of warm connections being opened, which are not in {@link #connections} yet.
+     */
+    private final AtomicInteger pendingWarmConnections = new AtomicInteger();
+
+    /**
+     * The number of warm connection retries scheduled since a warm connection was last opened successfully.
+     */
+    private final AtomicInteger warmConnectionRetries = new AtomicInteger();
+
+    /**
+     * The scheduled warm connection retry, if any. At most one retry is scheduled at a time, because a retry opens all of the
+     * missing warm connections.
+     */
+    private final AtomicReference<ScheduledFuture<?>> warmConnectionRetry = new AtomicReference<>();
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +141,22 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, 0);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param minWarmConnections The number of connections to keep open, see {@link #openWarmConnections()}.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                int minWarmConnections) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.minWarmConnections = minWarmConnections;
     }
 
     @SdkTestInternalApi
@@ -127,6 +179,12 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
+        MultiplexedChannelRecord leastLoaded = leastLoadedConnection();
+        if (leastLoaded != null && acquireStreamOnInitializedConnection(leastLoaded, promise)) {
+            return promise;
+        }
+
+        // The least loaded connection was filled up or closed concurrently, fall back to any connection with a free stream.
         for (MultiplexedChannelRecord multiplexedChannel : connections) {
             if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
                 return promise;
@@ -138,6 +196,122 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         return promise;
     }
 
+    /**
+     * @return The connection with the most streams available, i.e. the fewest outstanding streams, or null if no connection
+     * has a stream available.
+     */
+    private MultiplexedChannelRecord leastLoadedConnection() {
+        MultiplexedChannelRecord leastLoaded = null;
+        long mostAvailableStreams = 0;
+        for (MultiplexedChannelRecord multiplexedChannel : connections) {
+            long availableStreams = multiplexedChannel.availableStreams();
+            if (availableStreams > mostAvailableStreams) {
+                leastLoaded = multiplexedChannel;
+                mostAvailableStreams = availableStreams;
+            }
+        }
+        return leastLoaded;
+    }
+
+    /**
+     * Opens connections in the background until there are at least {@code minWarmConnections} connections. This is invoked
+     * whenever a request opens a new connection, and again whenever a connection is closed.
+     */
+    void openWarmConnections() {
+        while (!closed.get()) {
+            int pending = pendingWarmConnections.get();
+            int missing = minWarmConnections - connections.size() - pending;
+            if (missing <= 0) {
+                return;
+            }
+            // Reserve all of the missing connections before opening any of them, so that connection attempts that fail
+            // immediately don't make us loop here opening new ones.
+            if (pendingWarmConnections.compareAndSet(pending, pending + missing)) {
+                for (int i = 0; i < missing; i++) {
+                    openWarmConnection();
+                }
+                return;
+            }
+        }
+    }
+
+    private void openWarmConnection() {
+        Future<Channel> newConnectionAcquire = connectionPool.acquire();
+
+        newConnectionAcquire.addListener(f -> {
+            if (!newConnectionAcquire.isSuccess()) {
+                log.debug(null, () -> "Failed to open a warm HTTP/2 connection", newConnectionAcquire.cause());
+                warmConnectionFailed();
+                return;
+            }
+
+            Channel parentChannel = newConnectionAcquire.getNow();
+            try {
+                parentChannel.attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).set(this);
+                parentChannel.attr(PROTOCOL_FUTURE).get()
+                             .thenAccept(protocol -> cacheWarmConnection(parentChannel, protocol))
+                             .exceptionally(throwable -> failWarmConnection(parentChannel, throwable));
+            } catch (Throwable e) {
+                failWarmConnection(parentChannel, e);
+            }
+        });
+    }
+
+    private void cacheWarmConnection(Channel parentChannel, Protocol protocol) {
+        try {
+            MultiplexedChannelRecord multiplexedChannel = newMultiplexedChannelRecord(parentChannel, protocol);
+
+            // Before we cache the connection, make sure that exceptions on the connection will remove it from the cache.
+            parentChannel.pipeline().addLast(ReleaseOnExceptionHandler.INSTANCE);
+            connections.add(multiplexedChannel);
+            pendingWarmConnections.decrementAndGet();
+            warmConnectionRetries.set(0);
+
+            if (closed.get()) {
+                // We were closed while we were setting up. Make sure everything here is cleaned up properly.
+                closeAndReleaseParent(parentChannel);
+            }
+        } catch (Throwable e) {
+            failWarmConnection(parentChannel, e);
+        }
+    }
+
+    private Void failWarmConnection(Channel parentChannel, Throwable exception) {
+        log.debug(parentChannel, () -> "Failed to open a warm HTTP/2 connection, closing connection " + parentChannel,
+                  exception);
+        closeAndReleaseParent(parentChannel);
+        warmConnectionFailed();
+        return null;
+    }
+
+    private void warmConnectionFailed() {
+        pendingWarmConnections.decrementAndGet();
+        if (closed.get() || warmConnectionRetry.get() != null) {
+            return;
+        }
+
+        if (warmConnectionRetries.get() >= MAX_WARM_CONNECTION_RETRIES) {
+            log.debug(null, () -> "Failed to open warm HTTP/2 connections after " + MAX_WARM_CONNECTION_RETRIES
+                                  + " retries. Not retrying until a connection is opened successfully.");
+            return;
+        }
+
+        int retry = warmConnectionRetries.incrementAndGet();
+        long delayMillis = Math.min(BASE_WARM_CONNECTION_RETRY_DELAY_MILLIS << (retry - 1),
+                                    MAX_WARM_CONNECTION_RETRY_DELAY_MILLIS);
+        ScheduledFuture<?> scheduledRetry = eventLoopGroup.schedule(this::retryWarmConnections, delayMillis,
+                                                                    TimeUnit.MILLISECONDS);
+        if (!warmConnectionRetry.compareAndSet(null, scheduledRetry) || closed.get()) {
+            // Another failure scheduled a retry first, or we were closed while scheduling this one.
+            scheduledRetry.cancel(false);
+        }
+    }
+
+    private void retryWarmConnections() {
+        warmConnectionRetry.set(null);
+        openWarmConnections();
+    }
+
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
@@ -163,19 +337,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
 
     private void acquireStreamOnFreshConnection(Promise<Channel> promise, Channel parentChannel, Protocol protocol) {
         try {
-            Long maxStreams = parentChannel.attr(MAX_CONCURRENT_STREAMS).get();
-
-            Validate.isTrue(protocol == Protocol.HTTP2,
-                            "Protocol negotiated on connection (%s) was expected to be HTTP/2, but it "
-                            + "was %s.", parentChannel, Protocol.HTTP1_1);
-            Validate.isTrue(maxStreams != null,
-                            "HTTP/2 was negotiated on the connection (%s), but the maximum number of "
-                            + "streams was not initialized.", parentChannel);
-            Validate.isTrue(maxStreams > 0, "Maximum streams were not positive on channel (%s).", parentChannel);
-
-            MultiplexedChannelRecord multiplexedChannel = new MultiplexedChannelRecord(parentChannel, maxStreams,
-                                                                                       idleConnectionTimeout);
-            parentChannel.attr(MULTIPLEXED_CHANNEL).set(multiplexedChannel);
+            MultiplexedChannelRecord multiplexedChannel = newMultiplexedChannelRecord(parentChannel, protocol);
 
             Promise<Channel> streamPromise = parentChannel.eventLoop().newPromise();
 
@@ -199,6 +361,28 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         }
     }
 
+    private MultiplexedChannelRecord newMultiplexedChannelRecord(Channel parentChannel, Protocol protocol) {
+        Long maxStreams = parentChannel.attr(MAX_CONCURRENT_STREAMS).get();
+
+        Validate.isTrue(protocol == Protocol.HTTP2,
+                        "Protocol negotiated on connection (%s) was expected to be HTTP/2, but it "
+                        + "was %s.", parentChannel, Protocol.HTTP1_1);
+        Validate.isTrue(maxStreams != null,
+                        "HTTP/2 was negotiated on the connection (%s), but the maximum number of "
+                        + "streams was not initialized.", parentChannel);
+        Validate.isTrue(maxStreams > 0, "Maximum streams were not positive on channel (%s).", parentChannel);
+
+        MultiplexedChannelRecord multiplexedChannel = new MultiplexedChannelRecord(parentChannel, maxStreams,
+                                                                                   idleConnectionTimeout,
+                                                                                   this::canCloseIdleConnection);
+        parentChannel.attr(MULTIPLEXED_CHANNEL).set(multiplexedChannel);
+        return multiplexedChannel;
+    }
+
+    private boolean canCloseIdleConnection() {
+        return minWarmConnections == 0 || connections.size() > minWarmConnections;
+    }
+
     private void cacheConnectionForFutureStreams(Channel stream,
                                                  MultiplexedChannelRecord multiplexedChannel,
                                                  Promise<Channel> promise) {
@@ -216,6 +400,8 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         }
 
         promise.setSuccess(stream);
+        warmConnectionRetries.set(0);
+        openWarmConnections();
     }
 
     /**
@@ -352,7 +538,9 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             } else {
                 multiplexedChannel.closeChildChannels(cause);
             }
-            connections.remove(multiplexedChannel);
+            if (connections.remove(multiplexedChannel)) {
+                openWarmConnections();
+            }
         }
 
         parentChannel.close();
@@ -382,6 +570,11 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     @Override
     public void close() {
         if (closed.compareAndSet(false, true)) {
+            ScheduledFuture<?> scheduledRetry = warmConnectionRetry.getAndSet(null);
+            if (scheduledRetry != null) {
+                scheduledRetry.cancel(false);
+            }
+
             Future<?> closeCompleteFuture = doClose();
 
             try {
@@ -443,6 +636,9 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             } else {
                 try {
                     metrics.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, Math.toIntExact(m.getAvailableStreams()));
+                    for (long openStreams : m.getOpenStreamsPerConnection()) {
+                        metrics.reportMetric(Http2Metric.CONNECTION_OPEN_STREAMS, Math.toIntExact(openStreams));
+                    }
                     result.complete(null);
                 } catch (Exception e) {
                     result.completeExceptionally(e);
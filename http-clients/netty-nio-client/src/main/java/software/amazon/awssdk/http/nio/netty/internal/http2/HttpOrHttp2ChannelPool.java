@@ -34,6 +34,7 @@ import software.amazon.awssdk.http.nio.netty.internal.IdleConnectionCountingChan
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
+import software.amazon.awssdk.http.nio.netty.internal.utils.ShardedFixedChannelPool;
 import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
@@ -48,21 +49,44 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final EventLoop eventLoop;
     private final NettyConfiguration configuration;
+    private final boolean shardedAcquires;
+    private final int minWarmHttp2Connections;
 
     private boolean protocolImplPromiseInitializationStarted = false;
     private Promise<ChannelPool> protocolImplPromise;
-    private BetterFixedChannelPool protocolImpl;
+    private SdkChannelPool protocolImpl;
     private boolean closed;
 
+    /**
+     * The {@link #protocolImpl} when it's a {@link ShardedFixedChannelPool}, published once it can be used from any thread.
+     */
+    private volatile SdkChannelPool shardedProtocolImpl;
+
     public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
                                   EventLoopGroup group,
                                   int maxConcurrency,
                                   NettyConfiguration configuration) {
+        this(delegatePool, group, maxConcurrency, configuration, false, 0);
+    }
+
+    /**
+     * @param shardedAcquires Whether to enforce the max concurrency with a {@link ShardedFixedChannelPool}. Once the protocol
+     * is known, acquires and releases then go straight to it rather than through {@link #eventLoop}.
+     * @param minWarmHttp2Connections The number of connections to keep open if the protocol is HTTP/2.
+     */
+    public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
+                                  EventLoopGroup group,
+                                  int maxConcurrency,
+                                  NettyConfiguration configuration,
+                                  boolean shardedAcquires,
+                                  int minWarmHttp2Connections) {
         this.delegatePool = delegatePool;
         this.maxConcurrency = maxConcurrency;
         this.eventLoopGroup = group;
         this.eventLoop = group.next();
         this.configuration = configuration;
+        this.shardedAcquires = shardedAcquires;
+        this.minWarmHttp2Connections = minWarmHttp2Connections;
         this.protocolImplPromise = eventLoop.newPromise();
     }
 
@@ -73,6 +97,10 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> promise) {
+        SdkChannelPool shardedImpl = shardedProtocolImpl;
+        if (shardedImpl != null) {
+            return shardedImpl.acquire(promise);
+        }
         doInEventLoop(eventLoop, () -> acquire0(promise), promise);
         return promise;
     }
@@ -159,34 +187,46 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         if (Protocol.HTTP1_1 == protocol) {
             // For HTTP/1.1 we use a traditional channel pool without multiplexing
             SdkChannelPool idleConnectionMetricChannelPool = new IdleConnectionCountingChannelPool(eventLoop, delegatePool);
-            protocolImpl = BetterFixedChannelPool.builder()
-                                                 .channelPool(idleConnectionMetricChannelPool)
-                                                 .executor(eventLoop)
-                                                 .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
-                                                 .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
-                                                 .maxConnections(maxConcurrency)
-                                                 .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
-                                                 .build();
+            protocolImpl = maxConcurrencyChannelPool(idleConnectionMetricChannelPool);
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
-            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
-            protocolImpl = BetterFixedChannelPool.builder()
-                                                 .channelPool(h2Pool)
-                                                 .executor(eventLoop)
-                                                 .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
-                                                 .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
-                                                 .maxConnections(maxConcurrency)
-                                                 .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
-                                                 .build();
+            // Every connection allows at least one stream, so more than maxConcurrency warm connections would never be used.
+            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout,
+                                                                    Math.min(minWarmHttp2Connections, maxConcurrency));
+            protocolImpl = maxConcurrencyChannelPool(h2Pool);
         }
         // Give the channel back so it can be acquired again by protocolImpl
         // Await the release completion to ensure we do not unnecessarily acquire a second channel
         delegatePool.release(newChannel).addListener(runOrPropagate(protocolImplPromise, () -> {
+            if (shardedAcquires) {
+                shardedProtocolImpl = protocolImpl;
+            }
             protocolImplPromise.trySuccess(protocolImpl);
         }));
     }
 
+    private SdkChannelPool maxConcurrencyChannelPool(SdkChannelPool channelPool) {
+        if (shardedAcquires) {
+            return ShardedFixedChannelPool.builder()
+                                          .channelPool(channelPool)
+                                          .eventLoopGroup(eventLoopGroup)
+                                          .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
+                                          .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
+                                          .maxConnections(maxConcurrency)
+                                          .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                          .build();
+        }
+        return BetterFixedChannelPool.builder()
+                                     .channelPool(channelPool)
+                                     .executor(eventLoop)
+                                     .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
+                                     .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
+                                     .maxConnections(maxConcurrency)
+                                     .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                     .build();
+    }
+
     @Override
     public Future<Void> release(Channel channel) {
         return release(channel, eventLoop.newPromise());
@@ -194,6 +234,10 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Void> release(Channel channel, Promise<Void> promise) {
+        SdkChannelPool shardedImpl = shardedProtocolImpl;
+        if (shardedImpl != null) {
+            return shardedImpl.release(channel, promise);
+        }
         doInEventLoop(eventLoop,
             () -> release0(channel, promise),
                       promise);
@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
@@ -55,6 +56,7 @@ public class MultiplexedChannelRecord {
     private final Channel connection;
     private final long maxConcurrencyPerConnection;
     private final Long allowedIdleConnectionTimeMillis;
+    private final BooleanSupplier closeIfIdleAllowed;
 
     private final AtomicLong availableChildChannels;
     private volatile long lastReserveAttemptTimeMillis;
@@ -69,7 +71,19 @@ public class MultiplexedChannelRecord {
     private volatile int lastStreamId;
 
     MultiplexedChannelRecord(Channel connection, long maxConcurrencyPerConnection, Duration allowedIdleConnectionTime) {
+        this(connection, maxConcurrencyPerConnection, allowedIdleConnectionTime, () -> true);
+    }
+
+    /**
+     * @param closeIfIdleAllowed Checked before closing the connection once it has been idle for the allowed idle time, e.g. to
+     * keep a minimum number of connections open.
+     */
+    MultiplexedChannelRecord(Channel connection,
+                             long maxConcurrencyPerConnection,
+                             Duration allowedIdleConnectionTime,
+                             BooleanSupplier closeIfIdleAllowed) {
         this.connection = connection;
+        this.closeIfIdleAllowed = closeIfIdleAllowed;
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
         this.availableChildChannels = new AtomicLong(maxConcurrencyPerConnection);
         this.allowedIdleConnectionTimeMillis = allowedIdleConnectionTime == null ? null : allowedIdleConnectionTime.toMillis();
@@ -253,6 +267,11 @@ public class MultiplexedChannelRecord {
             return;
         }
 
+        // Don't close if the pool needs this connection to stay warm.
+        if (!closeIfIdleAllowed.getAsBoolean()) {
+            return;
+        }
+
         // Cut off new streams from being acquired from this connection by setting the number of available channels to 0.
         // This write may fail if a reservation has happened since we checked the lastReserveAttemptTime.
         if (!availableChildChannels.compareAndSet(maxConcurrencyPerConnection, 0)) {
@@ -279,6 +298,13 @@ public class MultiplexedChannelRecord {
         return connection;
     }
 
+    /**
+     * @return The number of streams that can currently be acquired on this connection, or 0 if it doesn't accept new streams.
+     */
+    long availableStreams() {
+        return state == RecordState.OPEN ? Math.max(availableChildChannels.get(), 0) : 0;
+    }
+
     private boolean claimStream() {
         lastReserveAttemptTimeMillis = System.currentTimeMillis();
         for (int attempt = 0; attempt < 5; ++attempt) {
@@ -308,7 +334,8 @@ public class MultiplexedChannelRecord {
         CompletableFuture<Metrics> result = new CompletableFuture<>();
         doInEventLoop(connection.eventLoop(), () -> {
             int streamCount = childChannels.size();
-            result.complete(new Metrics().setAvailableStreams(maxConcurrencyPerConnection - streamCount));
+            result.complete(new Metrics().setAvailableStreams(maxConcurrencyPerConnection - streamCount)
+                                         .addConnectionOpenStreams(streamCount));
         });
         return result;
     }
@@ -333,6 +360,7 @@ public class MultiplexedChannelRecord {
 
     public static class Metrics {
         private long availableStreams = 0;
+        private final List<Long> openStreamsPerConnection = new ArrayList<>();
 
         public long getAvailableStreams() {
             return availableStreams;
@@ -343,8 +371,21 @@ public class MultiplexedChannelRecord {
             return this;
         }
 
+        /**
+         * @return The number of open streams on each connection covered by these metrics.
+         */
+        public List<Long> getOpenStreamsPerConnection() {
+            return openStreamsPerConnection;
+        }
+
+        public Metrics addConnectionOpenStreams(long openStreams) {
+            this.openStreamsPerConnection.add(openStreams);
+            return this;
+        }
+
         public void add(Metrics rhs) {
             this.availableStreams += rhs.availableStreams;
+            this.openStreamsPerConnection.addAll(rhs.openStreamsPerConnection);
         }
     }
 }
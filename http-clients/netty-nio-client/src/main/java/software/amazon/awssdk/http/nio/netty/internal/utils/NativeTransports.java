@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.nio.netty.TransportType;
+import software.amazon.awssdk.utils.Lazy;
+
+/**
+ * Creates the {@link EventLoopGroup} for a {@link TransportType}, falling back to the next available transport when the
+ * requested one is not supported on this host.
+ *
+ * <p>The io_uring transport is an incubator module that the client does not depend on, so it is only accessed
+ * reflectively. The {@link ChannelResolver} resolves its channel types by class name in the same way.
+ */
+@SdkInternalApi
+public final class NativeTransports {
+    static final String IO_URING_CLASS = "io.netty.incubator.channel.uring.IOUring";
+    static final String IO_URING_EVENT_LOOP_GROUP_CLASS = "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+
+    private static final NettyClientLogger log = NettyClientLogger.getLogger(NativeTransports.class);
+
+    private static final Lazy<Boolean> IO_URING_AVAILABLE = new Lazy<>(NativeTransports::checkIoUringAvailable);
+    private static final Lazy<Boolean> EPOLL_AVAILABLE = new Lazy<>(NativeTransports::checkEpollAvailable);
+
+    private NativeTransports() {
+    }
+
+    /**
+     * Returns the transport to use for the requested one: the requested transport if it is available, and otherwise the next
+     * available transport in the order io_uring, epoll, NIO.
+     */
+    public static TransportType resolve(TransportType requested) {
+        return resolve(requested, IO_URING_AVAILABLE.getValue(), EPOLL_AVAILABLE.getValue());
+    }
+
+    @SdkTestInternalApi
+    static TransportType resolve(TransportType requested, boolean ioUringAvailable, boolean epollAvailable) {
+        if (requested == null || requested == TransportType.NIO) {
+            return TransportType.NIO;
+        }
+
+        if (requested == TransportType.IO_URING) {
+            if (ioUringAvailable) {
+                return TransportType.IO_URING;
+            }
+            log.debug(null, () -> "The io_uring transport is not available, falling back to "
+                                  + (epollAvailable ? "epoll" : "NIO"));
+        } else if (!epollAvailable) {
+            log.debug(null, () -> "The epoll transport is not available, falling back to NIO");
+        }
+        return epollAvailable ? TransportType.EPOLL : TransportType.NIO;
+    }
+
+    /**
+     * Creates an event loop group for the given transport, which must be available.
+     */
+    public static EventLoopGroup newEventLoopGroup(TransportType transportType, int numberOfThreads, ThreadFactory threadFactory) {
+        switch (transportType) {
+            case IO_URING:
+                return invokeSafely(() -> (EventLoopGroup) Class.forName(IO_URING_EVENT_LOOP_GROUP_CLASS)
+                                                                .getConstructor(int.class, ThreadFactory.class)
+                                                                .newInstance(numberOfThreads, threadFactory));
+            case EPOLL:
+                return new EpollEventLoopGroup(numberOfThreads, threadFactory);
+            case NIO:
+                return new NioEventLoopGroup(numberOfThreads, threadFactory);
+            default:
+                throw new IllegalArgumentException("Unknown transport type: " + transportType);
+        }
+    }
+
+    private static boolean checkIoUringAvailable() {
+        try {
+            Method isAvailable = Class.forName(IO_URING_CLASS).getMethod("isAvailable");
+            boolean available = (Boolean) isAvailable.invoke(null);
+            if (!available) {
+                log.debug(null, () -> "The io_uring transport is on the classpath but is not supported by this host");
+            }
+            return available;
+        } catch (ClassNotFoundException e) {
+            return false;
+        } catch (Throwable t) {
+            log.debug(null, () -> "Failed to check io_uring support", t);
+            return false;
+        }
+    }
+
+    private static boolean checkEpollAvailable() {
+        try {
+            return Epoll.isAvailable();
+        } catch (Throwable t) {
+            log.debug(null, () -> "Failed to check epoll support", t);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.internal.ObjectUtil;
+import io.netty.util.internal.ThrowableUtil;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
+import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool.AcquireTimeoutAction;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * {@link ChannelPool} implementation that enforces a maximum number of concurrent connections like
+ * {@link BetterFixedChannelPool}, without funneling every acquire and release through a single {@link EventExecutor}.
+ *
+ * <p>The leased and pending counts are global and updated with compare-and-set, so {@code maxConnections} and
+ * {@code maxPendingAcquires} are enforced across all threads. Acquires that can't get a connection are queued on the shard of
+ * the event loop they are made from, or on a round-robin shard when made from another thread. When a connection is released,
+ * the releasing event loop first runs the acquires pending on its own shard, and then steals the acquires pending on the
+ * other shards. The pending queues are lock-free, so no thread ever waits for another one.
+ */
+@SdkInternalApi
+public final class ShardedFixedChannelPool implements SdkChannelPool {
+    private static final IllegalStateException FULL_EXCEPTION = ThrowableUtil.unknownStackTrace(
+        new IllegalStateException("Too many outstanding acquire operations"),
+        ShardedFixedChannelPool.class, "acquire0(...)");
+    private static final TimeoutException TIMEOUT_EXCEPTION = ThrowableUtil.unknownStackTrace(
+        new TimeoutException("Acquire operation took longer than configured maximum time"),
+        ShardedFixedChannelPool.class, "onTimeout(...)");
+    static final IllegalStateException POOL_CLOSED_ON_RELEASE_EXCEPTION = ThrowableUtil.unknownStackTrace(
+        new IllegalStateException("ShardedFixedChannelPool was closed"),
+        ShardedFixedChannelPool.class, "release(...)");
+    static final IllegalStateException POOL_CLOSED_ON_ACQUIRE_EXCEPTION = ThrowableUtil.unknownStackTrace(
+        new IllegalStateException("ShardedFixedChannelPool was closed"),
+        ShardedFixedChannelPool.class, "acquire0(...)");
+    private static final AtomicIntegerFieldUpdater<AcquireTask> CLAIMED_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(AcquireTask.class, "claimed");
+
+    private final SdkChannelPool delegateChannelPool;
+    private final Shard[] shards;
+    private final AtomicInteger nextShard = new AtomicInteger();
+    private final AcquireTimeoutAction action;
+    private final long acquireTimeoutNanos;
+    private final int maxConnections;
+    private final int maxPendingAcquires;
+
+    private final AtomicInteger acquiredChannelCount = new AtomicInteger();
+
+    /**
+     * The number of pending acquires, counted before they are queued so that {@link #maxPendingAcquires} is enforced.
+     */
+    private final AtomicInteger pendingAcquireCount = new AtomicInteger();
+
+    /**
+     * The number of pending acquires, counted after they are queued. A thread that returns a connection and reads zero here
+     * is guaranteed that the acquire being queued will see the returned connection.
+     */
+    private final AtomicInteger queuedAcquireCount = new AtomicInteger();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private ShardedFixedChannelPool(Builder builder) {
+        if (builder.maxConnections < 1) {
+            throw new IllegalArgumentException("maxConnections: " + builder.maxConnections + " (expected: >= 1)");
+        }
+        if (builder.maxPendingAcquires < 1) {
+            throw new IllegalArgumentException("maxPendingAcquires: " + builder.maxPendingAcquires + " (expected: >= 1)");
+        }
+        if (builder.action == null && builder.acquireTimeoutMillis != -1) {
+            throw new NullPointerException("action");
+        }
+        if (builder.action != null && builder.acquireTimeoutMillis < 0) {
+            throw new IllegalArgumentException("acquireTimeoutMillis: " + builder.acquireTimeoutMillis + " (expected: >= 0)");
+        }
+        this.delegateChannelPool = builder.channelPool;
+        this.shards = createShards(ObjectUtil.checkNotNull(builder.eventLoopGroup, "eventLoopGroup"));
+        this.action = builder.action;
+        this.acquireTimeoutNanos = builder.action == null ? -1 : TimeUnit.MILLISECONDS.toNanos(builder.acquireTimeoutMillis);
+        this.maxConnections = builder.maxConnections;
+        this.maxPendingAcquires = builder.maxPendingAcquires;
+    }
+
+    private static Shard[] createShards(EventLoopGroup eventLoopGroup) {
+        List<Shard> shards = new ArrayList<>();
+        for (EventExecutor executor : eventLoopGroup) {
+            shards.add(new Shard(shards.size(), executor));
+        }
+        if (shards.isEmpty()) {
+            shards.add(new Shard(0, eventLoopGroup.next()));
+        }
+        return shards.toArray(new Shard[0]);
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return acquire(currentShard().executor.newPromise());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        try {
+            acquire0(currentShard(), promise);
+        } catch (Throwable cause) {
+            promise.tryFailure(cause);
+        }
+        return promise;
+    }
+
+    private void acquire0(Shard shard, Promise<Channel> promise) {
+        if (closed.get()) {
+            promise.setFailure(POOL_CLOSED_ON_ACQUIRE_EXCEPTION);
+            return;
+        }
+
+        if (tryIncrement(acquiredChannelCount, maxConnections)) {
+            // We need to create a new promise as we need to ensure the AcquireListener runs in the shard's EventLoop.
+            AcquireListener l = new AcquireListener(shard, promise);
+            l.acquired = true;
+            delegateChannelPool.acquire(shard.executor.<Channel>newPromise().addListener(l));
+            return;
+        }
+
+        if (!tryIncrement(pendingAcquireCount, maxPendingAcquires)) {
+            promise.setFailure(FULL_EXCEPTION);
+            return;
+        }
+
+        AcquireTask task = new AcquireTask(shard, promise);
+        shard.pendingAcquires.offer(task);
+        queuedAcquireCount.incrementAndGet();
+        if (acquireTimeoutNanos >= 0) {
+            task.timeoutFuture = shard.executor.schedule(() -> onTimeout(task), acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        }
+
+        // A connection may have been released after we failed to lease one and before the task was queued.
+        runPendingAcquires(shard);
+
+        if (closed.get()) {
+            // The pool was closed while the task was being queued, so close() may not have seen it.
+            failPendingAcquires();
+        }
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return release(channel, currentShard().executor.newPromise());
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        ObjectUtil.checkNotNull(promise, "promise");
+        Shard shard = currentShard();
+        Promise<Void> p = shard.executor.newPromise();
+        delegateChannelPool.release(channel, p.addListener(new FutureListener<Void>() {
+
+            @Override
+            public void operationComplete(Future<Void> future) throws Exception {
+                if (closed.get()) {
+                    // Since the pool is closed, we have no choice but to close the channel
+                    channel.close();
+                    promise.setFailure(POOL_CLOSED_ON_RELEASE_EXCEPTION);
+                    return;
+                }
+
+                if (future.isSuccess()) {
+                    decrementAndRunPendingAcquires(shard);
+                    promise.setSuccess(null);
+                } else {
+                    Throwable cause = future.cause();
+                    // Check if the exception was not because of we passed the Channel to the wrong pool.
+                    if (!(cause instanceof IllegalArgumentException)) {
+                        decrementAndRunPendingAcquires(shard);
+                    }
+                    promise.setFailure(future.cause());
+                }
+            }
+        }));
+        return promise;
+    }
+
+    @Override
+    public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
+        CompletableFuture<Void> delegateMetricResult = delegateChannelPool.collectChannelPoolMetrics(metrics);
+        metrics.reportMetric(HttpMetric.MAX_CONCURRENCY, maxConnections);
+        metrics.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pendingAcquireCount.get());
+        metrics.reportMetric(HttpMetric.LEASED_CONCURRENCY, acquiredChannelCount.get());
+        return delegateMetricResult;
+    }
+
+    private void decrementAndRunPendingAcquires(Shard shard) {
+        acquiredChannelCount.decrementAndGet();
+
+        // Run the pending acquires before notifying the original promise, so that an acquire made from its listener doesn't
+        // fail because of acquires that could already run.
+        runPendingAcquires(shard);
+    }
+
+    /**
+     * Leases connections to the pending acquires while connections are available, starting with the given shard.
+     */
+    private void runPendingAcquires(Shard localShard) {
+        while (queuedAcquireCount.get() > 0 && tryIncrement(acquiredChannelCount, maxConnections)) {
+            AcquireTask task = pollPendingAcquire(localShard);
+            if (task == null) {
+                // Another thread took the pending acquires, give the connection back and check again.
+                acquiredChannelCount.decrementAndGet();
+                continue;
+            }
+
+            task.cancelTimeout();
+            task.acquired = true;
+            delegateChannelPool.acquire(task.promise);
+        }
+    }
+
+    private AcquireTask pollPendingAcquire(Shard localShard) {
+        for (int i = 0; i < shards.length; i++) {
+            Queue<AcquireTask> pendingAcquires = shards[(localShard.index + i) % shards.length].pendingAcquires;
+            AcquireTask task;
+            while ((task = pendingAcquires.poll()) != null) {
+                if (claim(task)) {
+                    return task;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void onTimeout(AcquireTask task) {
+        if (!claim(task)) {
+            return;
+        }
+        task.shard.pendingAcquires.remove(task);
+
+        if (action == AcquireTimeoutAction.FAIL) {
+            // Fail the promise as we timed out.
+            task.promise.setFailure(TIMEOUT_EXCEPTION);
+        } else {
+            // Increment the acquire count and delegate to actually acquire a Channel which will create a new connection.
+            acquiredChannelCount.incrementAndGet();
+            task.acquired = true;
+            delegateChannelPool.acquire(task.promise);
+        }
+    }
+
+    /**
+     * Claims a pending acquire for the calling thread. Exactly one of the thread running it, the thread timing it out and the
+     * thread closing the pool succeeds.
+     */
+    private boolean claim(AcquireTask task) {
+        if (!CLAIMED_UPDATER.compareAndSet(task, 0, 1)) {
+            return false;
+        }
+        pendingAcquireCount.decrementAndGet();
+        queuedAcquireCount.decrementAndGet();
+        return true;
+    }
+
+    private Shard currentShard() {
+        for (Shard shard : shards) {
+            if (shard.executor.inEventLoop()) {
+                return shard;
+            }
+        }
+        return shards[(nextShard.getAndIncrement() & Integer.MAX_VALUE) % shards.length];
+    }
+
+    private static boolean tryIncrement(AtomicInteger count, int max) {
+        for (;;) {
+            int current = count.get();
+            if (current >= max) {
+                return false;
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static final class Shard {
+        private final int index;
+        private final EventExecutor executor;
+        private final Queue<AcquireTask> pendingAcquires = new ConcurrentLinkedQueue<>();
+
+        private Shard(int index, EventExecutor executor) {
+            this.index = index;
+            this.executor = executor;
+        }
+    }
+
+    // AcquireTask extends AcquireListener to reduce object creations and so GC pressure
+    private final class AcquireTask extends AcquireListener {
+        final Promise<Channel> promise;
+        volatile ScheduledFuture<?> timeoutFuture;
+        volatile int claimed;
+
+        AcquireTask(Shard shard, Promise<Channel> promise) {
+            super(shard, promise);
+            // We need to create a new promise as we need to ensure the AcquireListener runs in the shard's EventLoop.
+            this.promise = shard.executor.<Channel>newPromise().addListener(this);
+        }
+
+        void cancelTimeout() {
+            ScheduledFuture<?> f = timeoutFuture;
+            if (f != null) {
+                f.cancel(false);
+            }
+        }
+    }
+
+    private class AcquireListener implements FutureListener<Channel> {
+        final Shard shard;
+        private final Promise<Channel> originalPromise;
+        volatile boolean acquired;
+
+        AcquireListener(Shard shard, Promise<Channel> originalPromise) {
+            this.shard = shard;
+            this.originalPromise = originalPromise;
+        }
+
+        @Override
+        public void operationComplete(Future<Channel> future) throws Exception {
+            if (closed.get()) {
+                if (future.isSuccess()) {
+                    // Since the pool is closed, we have no choice but to close the channel
+                    future.getNow().close();
+                }
+                originalPromise.setFailure(POOL_CLOSED_ON_ACQUIRE_EXCEPTION);
+                return;
+            }
+
+            if (future.isSuccess()) {
+                originalPromise.setSuccess(future.getNow());
+            } else {
+                if (acquired) {
+                    decrementAndRunPendingAcquires(shard);
+                } else {
+                    runPendingAcquires(shard);
+                }
+
+                originalPromise.setFailure(future.cause());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            failPendingAcquires();
+            acquiredChannelCount.set(0);
+
+            // Ensure we dispatch this on another Thread as close can be called from an EventExecutor and we need
+            // to ensure we will not block in a EventExecutor.
+            GlobalEventExecutor.INSTANCE.execute(delegateChannelPool::close);
+        }
+    }
+
+    private void failPendingAcquires() {
+        for (Shard shard : shards) {
+            AcquireTask task;
+            while ((task = shard.pendingAcquires.poll()) != null) {
+                if (claim(task)) {
+                    task.cancelTimeout();
+                    task.promise.setFailure(new ClosedChannelException());
+                }
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private SdkChannelPool channelPool;
+        private EventLoopGroup eventLoopGroup;
+        private AcquireTimeoutAction action;
+        private long acquireTimeoutMillis = -1;
+        private int maxConnections;
+        private int maxPendingAcquires;
+
+        private Builder() {
+        }
+
+        public Builder channelPool(SdkChannelPool channelPool) {
+            this.channelPool = channelPool;
+            return this;
+        }
+
+        /**
+         * The event loops to shard the pending acquires on.
+         */
+        public Builder eventLoopGroup(EventLoopGroup eventLoopGroup) {
+            this.eventLoopGroup = eventLoopGroup;
+            return this;
+        }
+
+        public Builder acquireTimeoutAction(AcquireTimeoutAction action) {
+            this.action = action;
+            return this;
+        }
+
+        public Builder acquireTimeoutMillis(long acquireTimeoutMillis) {
+            this.acquireTimeoutMillis = acquireTimeoutMillis;
+            return this;
+        }
+
+        public Builder maxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        public Builder maxPendingAcquires(int maxPendingAcquires) {
+            this.maxPendingAcquires = maxPendingAcquires;
+            return this;
+        }
+
+        public ShardedFixedChannelPool build() {
+            return new ShardedFixedChannelPool(this);
+        }
+    }
+}
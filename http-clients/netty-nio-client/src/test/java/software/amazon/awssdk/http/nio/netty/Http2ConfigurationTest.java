@@ -89,4 +89,20 @@ public class Http2ConfigurationTest {
         expected.expect(IllegalArgumentException.class);
         Http2Configuration.builder().initialWindowSize(0);
     }
+
+    @Test
+    public void builder_minWarmConnections_nullValue_doesNotThrow() {
+        Http2Configuration.builder().minWarmConnections(null);
+    }
+
+    @Test
+    public void builder_minWarmConnections_0_doesNotThrow() {
+        assertThat(Http2Configuration.builder().minWarmConnections(0).build().minWarmConnections()).isZero();
+    }
+
+    @Test
+    public void builder_minWarmConnections_negative_throws() {
+        expected.expect(IllegalArgumentException.class);
+        Http2Configuration.builder().minWarmConnections(-1);
+    }
 }
@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
@@ -64,6 +65,69 @@ public class SdkEventLoopGroupTest {
         assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
     }
 
+    @Test
+    public void creatingUsingBuilder_defaultTransport_usesNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+            assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void creatingUsingBuilder_ioUringNotOnClasspath_fallsBackToEpollOrNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .transportType(TransportType.IO_URING)
+                                                               .build();
+        try {
+            if (Epoll.isAvailable()) {
+                assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(EpollEventLoopGroup.class);
+                assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(EpollSocketChannel.class);
+                assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(EpollDatagramChannel.class);
+            } else {
+                assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+                assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+                assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
+            }
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void creatingUsingBuilder_channelFactoryProvided_overridesTransportChannel() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .channelFactory(NioSocketChannel::new)
+                                                               .build();
+        try {
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void creatingWithTransportType_doesNotModifyBuilder() {
+        SdkEventLoopGroup.Builder builder = SdkEventLoopGroup.builder().numberOfThreads(1);
+        SdkEventLoopGroup withTransport = SdkEventLoopGroup.create(builder, TransportType.EPOLL);
+        SdkEventLoopGroup fromBuilder = builder.build();
+        try {
+            if (Epoll.isAvailable()) {
+                assertThat(withTransport.eventLoopGroup()).isInstanceOf(EpollEventLoopGroup.class);
+            }
+            assertThat(fromBuilder.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(fromBuilder.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+        } finally {
+            withTransport.eventLoopGroup().shutdownGracefully();
+            fromBuilder.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void notProvidingChannelFactory_unknownEventLoopGroup() {
         SdkEventLoopGroup.create(new DefaultEventLoopGroup());
@@ -20,7 +20,10 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import io.netty.util.concurrent.Promise;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -87,4 +90,21 @@ public class CancellableAcquireChannelPoolTest {
         verify(mockDelegatePool).release(eq(channel));
         assertThat(channel.closeFuture().isDone()).isTrue();
     }
+
+    @Test
+    public void acquire_delegateCompletesOffEventLoop_completesPromiseOnEventLoop() throws Exception {
+        when(mockDelegatePool.acquire(any(Promise.class))).thenAnswer((Answer<Promise>) invocationOnMock -> {
+            Promise p = invocationOnMock.getArgument(0, Promise.class);
+            p.setSuccess(channel);
+            return p;
+        });
+
+        CompletableFuture<Boolean> completedOnEventLoop = new CompletableFuture<>();
+        Promise<Channel> acquirePromise = ImmediateEventExecutor.INSTANCE.newPromise();
+        acquirePromise.addListener(f -> completedOnEventLoop.complete(eventExecutor.inEventLoop()));
+
+        cancellableAcquireChannelPool.acquire(acquirePromise);
+
+        assertThat(completedOnEventLoop.get(1, TimeUnit.SECONDS)).isTrue();
+    }
 }
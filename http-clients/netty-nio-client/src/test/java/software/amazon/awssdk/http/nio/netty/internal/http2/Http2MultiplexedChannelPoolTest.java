@@ -16,6 +16,8 @@
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
@@ -36,16 +38,24 @@ import io.netty.handler.codec.http2.Http2Stream;
 import io.netty.util.concurrent.DefaultPromise;
 import io.netty.util.concurrent.FailedFuture;
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
+import software.amazon.awssdk.http.Http2Metric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
 import software.amazon.awssdk.metrics.MetricCollection;
@@ -330,6 +340,141 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void acquire_shouldPickConnectionWithFewestOutstandingStreams() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+
+        try {
+            MultiplexedChannelRecord busyRecord = new MultiplexedChannelRecord(channel1, 3, null);
+            MultiplexedChannelRecord idleRecord = new MultiplexedChannelRecord(channel2, 3, null);
+            assertThat(busyRecord.acquireStream(channel1.eventLoop().newPromise())).isTrue();
+            assertThat(busyRecord.acquireStream(channel1.eventLoop().newPromise())).isTrue();
+            channel1.runPendingTasks();
+
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(connectionPool, loopGroup, new HashSet<>(Arrays.asList(busyRecord, idleRecord)),
+                                                null);
+
+            Channel stream = doAcquire(channel1, channel2, h2Pool);
+
+            assertThat(stream.parent()).isSameAs(channel2);
+            assertThat(busyRecord.availableStreams()).isEqualTo(1);
+            assertThat(idleRecord.availableStreams()).isEqualTo(2);
+            Mockito.verify(connectionPool, Mockito.never()).acquire();
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void metricsShouldReportOpenStreamsPerConnection() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            Promise<Channel> channel1Promise = new DefaultPromise<>(loopGroup.next());
+            Promise<Channel> channel2Promise = new DefaultPromise<>(loopGroup.next());
+            channel1Promise.setSuccess(channel1);
+            channel2Promise.setSuccess(channel2);
+            Mockito.when(connectionPool.acquire()).thenReturn(channel1Promise, channel2Promise);
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                                                 Collections.emptySet(), null);
+
+            doAcquire(channel1, channel2, h2Pool);
+            doAcquire(channel1, channel2, h2Pool);
+            doAcquire(channel1, channel2, h2Pool);
+
+            MetricCollection metrics = getMetrics(h2Pool);
+            assertThat(metrics.metricValues(Http2Metric.CONNECTION_OPEN_STREAMS)).containsExactlyInAnyOrder(2, 1);
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void openWarmConnections_shouldOpenConnectionsWithoutStreams() {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            Promise<Channel> channel1Promise = channel1.eventLoop().newPromise();
+            Promise<Channel> channel2Promise = channel2.eventLoop().newPromise();
+            channel1Promise.setSuccess(channel1);
+            channel2Promise.setSuccess(channel2);
+            Mockito.when(connectionPool.acquire()).thenReturn(channel1Promise, channel2Promise);
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup, null, 2);
+            h2Pool.openWarmConnections();
+
+            MetricCollection metrics = getMetrics(h2Pool);
+            assertThat(metrics.metricValues(Http2Metric.CONNECTION_OPEN_STREAMS)).containsExactly(0, 0);
+            assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(4);
+
+            // The warm connections are used, and already count towards the minimum.
+            doAcquire(channel1, channel2, h2Pool);
+            h2Pool.openWarmConnections();
+
+            Mockito.verify(connectionPool, Mockito.times(2)).acquire();
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void openWarmConnections_failing_retriesWithCappedBackoffAndGivesUp() {
+        ChannelPool connectionPool = mock(ChannelPool.class);
+        when(connectionPool.acquire()).thenAnswer(i -> new FailedFuture<>(ImmediateEventExecutor.INSTANCE, new IOException()));
+
+        EventLoopGroup eventLoopGroup = mock(EventLoopGroup.class);
+        List<Runnable> retries = new ArrayList<>();
+        List<Long> retryDelays = new ArrayList<>();
+        when(eventLoopGroup.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS))).thenAnswer(i -> {
+            retries.add(i.getArgument(0));
+            retryDelays.add(i.getArgument(1));
+            return mock(ScheduledFuture.class);
+        });
+
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, eventLoopGroup, null, 2);
+        h2Pool.openWarmConnections();
+        for (int i = 0; i < retries.size(); i++) {
+            retries.get(i).run();
+        }
+
+        assertThat(retryDelays).containsExactly(1_000L, 2_000L, 4_000L, 8_000L, 16_000L,
+                                                30_000L, 30_000L, 30_000L, 30_000L, 30_000L);
+        Mockito.verify(connectionPool, Mockito.times(2 * (retries.size() + 1))).acquire();
+    }
+
+    @Test
+    public void close_cancelsScheduledWarmConnectionRetry() {
+        ChannelPool connectionPool = mock(ChannelPool.class);
+        when(connectionPool.acquire()).thenAnswer(i -> new FailedFuture<>(ImmediateEventExecutor.INSTANCE, new IOException()));
+
+        EventLoopGroup eventLoopGroup = mock(EventLoopGroup.class);
+        ScheduledFuture<?> scheduledRetry = mock(ScheduledFuture.class);
+        Mockito.doReturn(scheduledRetry).when(eventLoopGroup).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        when(eventLoopGroup.next()).thenReturn(loopGroup.next());
+
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, eventLoopGroup, null, 1);
+        h2Pool.openWarmConnections();
+        h2Pool.close();
+
+        Mockito.verify(eventLoopGroup, Mockito.times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        Mockito.verify(scheduledRetry).cancel(false);
+    }
+
     private Channel doAcquire(EmbeddedChannel channel1, EmbeddedChannel channel2, Http2MultiplexedChannelPool h2Pool) {
         Future<Channel> acquire = h2Pool.acquire();
         acquire.awaitUninterruptibly();
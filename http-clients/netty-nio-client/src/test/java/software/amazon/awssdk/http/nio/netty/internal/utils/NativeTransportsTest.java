@@ -0,0 +1,47 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.http.nio.netty.TransportType;
+
+public class NativeTransportsTest {
+
+    private static Stream<Arguments> transports() {
+        return Stream.of(
+            Arguments.of(null, true, true, TransportType.NIO),
+            Arguments.of(TransportType.NIO, true, true, TransportType.NIO),
+            Arguments.of(TransportType.EPOLL, true, true, TransportType.EPOLL),
+            Arguments.of(TransportType.EPOLL, true, false, TransportType.NIO),
+            Arguments.of(TransportType.IO_URING, true, true, TransportType.IO_URING),
+            Arguments.of(TransportType.IO_URING, true, false, TransportType.IO_URING),
+            Arguments.of(TransportType.IO_URING, false, true, TransportType.EPOLL),
+            Arguments.of(TransportType.IO_URING, false, false, TransportType.NIO));
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    public void resolve_fallsBackToNextAvailableTransport(TransportType requested, boolean ioUringAvailable,
+                                                           boolean epollAvailable, TransportType expected) {
+        assertThat(NativeTransports.resolve(requested, ioUringAvailable, epollAvailable)).isEqualTo(expected);
+    }
+}
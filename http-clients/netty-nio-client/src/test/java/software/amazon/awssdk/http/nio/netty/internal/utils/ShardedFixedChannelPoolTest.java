@@ -0,0 +1,355 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.internal.IdleConnectionCountingChannelPool;
+import software.amazon.awssdk.http.nio.netty.internal.MockChannel;
+import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
+import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool.AcquireTimeoutAction;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class ShardedFixedChannelPoolTest {
+    private static EventLoopGroup eventLoopGroup;
+
+    private ShardedFixedChannelPool channelPool;
+    private SdkChannelPool delegatePool;
+
+    @BeforeClass
+    public static void setupClass() {
+        eventLoopGroup = new NioEventLoopGroup(4);
+    }
+
+    @AfterClass
+    public static void teardownClass() throws InterruptedException {
+        eventLoopGroup.shutdownGracefully().await();
+    }
+
+    @Before
+    public void setup() {
+        delegatePool = mock(SdkChannelPool.class);
+        Mockito.when(delegatePool.collectChannelPoolMetrics(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        channelPool = newChannelPool(10_000);
+    }
+
+    @After
+    public void teardown() {
+        channelPool.close();
+    }
+
+    @Test(timeout = 5_000)
+    public void metricCollectionHasCorrectValuesAfterAcquiresAndReleases() throws Exception {
+        List<Promise<Channel>> acquirePromises = Collections.synchronizedList(new ArrayList<>());
+        Mockito.when(delegatePool.acquire(isA(Promise.class))).thenAnswer(i -> {
+            Promise<Channel> promise = eventLoopGroup.next().newPromise();
+            acquirePromises.add(promise);
+            return promise;
+        });
+
+        List<Promise<Channel>> releasePromises = Collections.synchronizedList(new ArrayList<>());
+        Mockito.when(delegatePool.release(isA(Channel.class), isA(Promise.class))).thenAnswer(i -> {
+            Promise promise = i.getArgument(1, Promise.class);
+            releasePromises.add(promise);
+            return promise;
+        });
+
+        assertConnectionsCheckedOutAndPending(0, 0);
+
+        channelPool.acquire();
+        completePromise(acquirePromises, 0);
+        assertConnectionsCheckedOutAndPending(1, 0);
+
+        channelPool.acquire();
+        completePromise(acquirePromises, 1);
+        assertConnectionsCheckedOutAndPending(2, 0);
+
+        channelPool.acquire();
+        assertConnectionsCheckedOutAndPending(2, 1);
+
+        channelPool.acquire();
+        assertConnectionsCheckedOutAndPending(2, 2);
+
+        Future<Channel> f = channelPool.acquire();
+        assertConnectionsCheckedOutAndPending(2, 2);
+        assertThat(f.isSuccess()).isFalse();
+        assertThat(f.cause()).isInstanceOf(IllegalStateException.class);
+
+        channelPool.release(acquirePromises.get(1).getNow());
+        assertConnectionsCheckedOutAndPending(2, 2);
+
+        completePromise(releasePromises, 0);
+        completePromise(acquirePromises, 2);
+        assertConnectionsCheckedOutAndPending(2, 1);
+
+        channelPool.release(acquirePromises.get(2).getNow());
+        completePromise(releasePromises, 1);
+        completePromise(acquirePromises, 3);
+        assertConnectionsCheckedOutAndPending(2, 0);
+
+        channelPool.release(acquirePromises.get(0).getNow());
+        completePromise(releasePromises, 2);
+        assertConnectionsCheckedOutAndPending(1, 0);
+
+        channelPool.release(acquirePromises.get(3).getNow());
+        completePromise(releasePromises, 3);
+        assertConnectionsCheckedOutAndPending(0, 0);
+    }
+
+    @Test(timeout = 5_000)
+    public void releaseOnOneEventLoop_runsAcquirePendingOnAnotherEventLoop() throws Exception {
+        completeDelegateAcquiresAndReleasesImmediately();
+
+        EventExecutor first = eventLoopGroup.next();
+        EventExecutor second = eventLoopGroup.next();
+        assertThat(first).isNotSameAs(second);
+
+        Channel channel1 = acquireOn(first).get(1, TimeUnit.SECONDS);
+        Channel channel2 = acquireOn(first).get(1, TimeUnit.SECONDS);
+        Future<Channel> pending = acquireOn(second);
+        assertConnectionsCheckedOutAndPending(2, 1);
+
+        first.submit(() -> channelPool.release(channel1)).sync();
+
+        assertThat(pending.get(1, TimeUnit.SECONDS)).isNotNull();
+        assertConnectionsCheckedOutAndPending(2, 0);
+
+        channelPool.release(channel2).sync();
+        channelPool.release(pending.getNow()).sync();
+        assertConnectionsCheckedOutAndPending(0, 0);
+    }
+
+    @Test(timeout = 10_000)
+    public void concurrentAcquiresFromAllEventLoops_neverExceedMaxConnections() throws Exception {
+        channelPool.close();
+        int maxConnections = 3;
+        channelPool = ShardedFixedChannelPool.builder()
+                                             .channelPool(delegatePool)
+                                             .eventLoopGroup(eventLoopGroup)
+                                             .maxConnections(maxConnections)
+                                             .maxPendingAcquires(1_000)
+                                             .acquireTimeoutAction(AcquireTimeoutAction.FAIL)
+                                             .acquireTimeoutMillis(10_000)
+                                             .build();
+
+        AtomicInteger leased = new AtomicInteger();
+        AtomicInteger maxLeased = new AtomicInteger();
+        completeDelegateAcquiresAndReleasesImmediately();
+
+        int acquiresPerEventLoop = 100;
+        CountDownLatch done = new CountDownLatch(4 * acquiresPerEventLoop);
+        for (EventExecutor executor : eventLoopGroup) {
+            executor.execute(() -> {
+                for (int i = 0; i < acquiresPerEventLoop; i++) {
+                    channelPool.acquire().addListener((Future<Channel> f) -> {
+                        assertThat(f.isSuccess()).isTrue();
+                        int current = leased.incrementAndGet();
+                        maxLeased.accumulateAndGet(current, Math::max);
+                        leased.decrementAndGet();
+                        channelPool.release(f.getNow()).addListener(r -> done.countDown());
+                    });
+                }
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxLeased.get()).isLessThanOrEqualTo(maxConnections);
+        assertConnectionsCheckedOutAndPending(maxConnections, 0, 0);
+    }
+
+    @Test(timeout = 5_000)
+    public void pendingAcquireTimesOut_failsWithTimeoutException() throws Exception {
+        channelPool.close();
+        channelPool = newChannelPool(10);
+        completeDelegateAcquiresAndReleasesImmediately();
+
+        channelPool.acquire().sync();
+        channelPool.acquire().sync();
+        Future<Channel> pending = channelPool.acquire().await();
+
+        assertThat(pending.cause()).isInstanceOf(TimeoutException.class);
+        assertConnectionsCheckedOutAndPending(2, 0);
+    }
+
+    @Test(timeout = 5_000)
+    public void close_failsPendingAcquires() throws Exception {
+        completeDelegateAcquiresAndReleasesImmediately();
+
+        channelPool.acquire().sync();
+        channelPool.acquire().sync();
+        Future<Channel> pending = channelPool.acquire();
+
+        channelPool.close();
+
+        assertThat(pending.await().cause()).isSameAs(ShardedFixedChannelPool.POOL_CLOSED_ON_ACQUIRE_EXCEPTION);
+        assertThat(channelPool.acquire().cause()).isSameAs(ShardedFixedChannelPool.POOL_CLOSED_ON_ACQUIRE_EXCEPTION);
+    }
+
+    @Test(timeout = 5_000)
+    public void idleConnectionCountingDelegate_acquireAndReleaseOnShardNeverRunOnAnotherEventLoop() throws Exception {
+        channelPool.close();
+        List<String> offShardCalls = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<EventExecutor> currentShard = new AtomicReference<>();
+        Mockito.when(delegatePool.acquire(isA(Promise.class))).thenAnswer(i -> {
+            recordIfOffShard(currentShard.get(), "delegate acquire", offShardCalls);
+            Promise<Channel> promise = i.getArgument(0, Promise.class);
+            return promise.setSuccess(new MockChannel());
+        });
+        Mockito.when(delegatePool.release(isA(Channel.class), isA(Promise.class))).thenAnswer(i -> {
+            recordIfOffShard(currentShard.get(), "delegate release", offShardCalls);
+            Promise<Void> promise = i.getArgument(1, Promise.class);
+            return promise.setSuccess(null);
+        });
+
+        // The idle counting pool is given a single executor, which every shard used to hop to.
+        IdleConnectionCountingChannelPool idleCountingPool =
+            new IdleConnectionCountingChannelPool(eventLoopGroup.next(), delegatePool);
+        channelPool = ShardedFixedChannelPool.builder()
+                                             .channelPool(idleCountingPool)
+                                             .eventLoopGroup(eventLoopGroup)
+                                             .maxConnections(10)
+                                             .maxPendingAcquires(10)
+                                             .build();
+
+        int shards = 0;
+        for (EventExecutor shard : eventLoopGroup) {
+            currentShard.set(shard);
+            shards++;
+
+            Promise<Channel> acquirePromise = ImmediateEventExecutor.INSTANCE.newPromise();
+            acquirePromise.addListener(f -> recordIfOffShard(shard, "acquire completion", offShardCalls));
+            shard.submit(() -> channelPool.acquire(acquirePromise)).sync();
+            Channel channel = acquirePromise.get(1, TimeUnit.SECONDS);
+
+            Promise<Void> releasePromise = ImmediateEventExecutor.INSTANCE.newPromise();
+            releasePromise.addListener(f -> recordIfOffShard(shard, "release completion", offShardCalls));
+            shard.submit(() -> channelPool.release(channel, releasePromise)).sync();
+            releasePromise.get(1, TimeUnit.SECONDS);
+        }
+
+        assertThat(offShardCalls).isEmpty();
+
+        MetricCollector metricCollector = MetricCollector.create("foo");
+        channelPool.collectChannelPoolMetrics(metricCollector).get(5, TimeUnit.SECONDS);
+        assertThat(metricCollector.collect().metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(shards);
+    }
+
+    private ShardedFixedChannelPool newChannelPool(long acquireTimeoutMillis) {
+        return ShardedFixedChannelPool.builder()
+                                      .channelPool(delegatePool)
+                                      .eventLoopGroup(eventLoopGroup)
+                                      .maxConnections(2)
+                                      .maxPendingAcquires(2)
+                                      .acquireTimeoutAction(AcquireTimeoutAction.FAIL)
+                                      .acquireTimeoutMillis(acquireTimeoutMillis)
+                                      .build();
+    }
+
+    private void completeDelegateAcquiresAndReleasesImmediately() {
+        Mockito.when(delegatePool.acquire(isA(Promise.class))).thenAnswer(i -> {
+            Promise<Channel> promise = i.getArgument(0, Promise.class);
+            MockChannel channel = new MockChannel();
+            return promise.setSuccess(channel);
+        });
+        Mockito.when(delegatePool.release(isA(Channel.class), isA(Promise.class))).thenAnswer(i -> {
+            Promise<Void> promise = i.getArgument(1, Promise.class);
+            return promise.setSuccess(null);
+        });
+    }
+
+    private static void recordIfOffShard(EventExecutor shard, String call, List<String> offShardCalls) {
+        if (!shard.inEventLoop()) {
+            offShardCalls.add(call + " ran on " + Thread.currentThread().getName());
+        }
+    }
+
+    private Future<Channel> acquireOn(EventExecutor executor) throws Exception {
+        return executor.submit(() -> channelPool.acquire()).get(1, TimeUnit.SECONDS);
+    }
+
+    private void completePromise(List<Promise<Channel>> promises, int promiseIndex) throws Exception {
+        waitForPromise(promises, promiseIndex);
+
+        MockChannel channel = new MockChannel();
+        eventLoopGroup.next().register(channel);
+        promises.get(promiseIndex).setSuccess(channel);
+    }
+
+    private void waitForPromise(List<Promise<Channel>> promises, int promiseIndex) throws Exception {
+        while (promises.size() < promiseIndex + 1) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void assertConnectionsCheckedOutAndPending(int checkedOut, int pending) throws Exception {
+        assertConnectionsCheckedOutAndPending(2, checkedOut, pending);
+    }
+
+    private void assertConnectionsCheckedOutAndPending(int maxConnections, int checkedOut, int pending) throws Exception {
+        // Acquires and releases complete through listeners on the event loops, so wait for the counts to settle.
+        MetricCollection metrics = collectMetrics();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!hasCounts(metrics, checkedOut, pending) && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+            metrics = collectMetrics();
+        }
+
+        assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(maxConnections);
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(checkedOut);
+        assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(pending);
+    }
+
+    private boolean hasCounts(MetricCollection metrics, int checkedOut, int pending) {
+        return metrics.metricValues(HttpMetric.LEASED_CONCURRENCY).contains(checkedOut)
+               && metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES).contains(pending);
+    }
+
+    private MetricCollection collectMetrics() throws ExecutionException, InterruptedException, TimeoutException {
+        MetricCollector metricCollector = MetricCollector.create("foo");
+        channelPool.collectChannelPoolMetrics(metricCollector).get(5, TimeUnit.SECONDS);
+        return metricCollector.collect();
+    }
+}
@@ -60,6 +60,7 @@ import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
 import software.amazon.awssdk.services.cloudwatch.model.StatisticSet;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of {@link MetricPublisher} that aggregates and uploads metrics to Amazon CloudWatch on a periodic basis.
@@ -184,6 +185,8 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
     private static final Set<MetricCategory> DEFAULT_METRIC_CATEGORIES = Collections.singleton(MetricCategory.ALL);
     private static final MetricLevel DEFAULT_METRIC_LEVEL = MetricLevel.INFO;
     private static final Set<SdkMetric<?>> DEFAULT_DETAILED_METRICS = Collections.emptySet();
+    private static final int MIN_DETAILED_METRICS_PRECISION = 1;
+    private static final int MAX_DETAILED_METRICS_PRECISION = 5;
 
     /**
      * Whether {@link #close()} should call {@link CloudWatchAsyncClient#close()}. This is false when
@@ -227,7 +230,8 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
                                                                resolveDimensions(builder),
                                                                resolveMetricCategories(builder),
                                                                resolveMetricLevel(builder),
-                                                               resolveDetailedMetrics(builder));
+                                                               resolveDetailedMetrics(builder),
+                                                               resolveDetailedMetricsPrecision(builder));
         this.metricUploader = new MetricUploader(resolveClient(builder));
         this.maximumCallsPerUpload = resolveMaximumCallsPerUpload(builder);
 
@@ -256,6 +260,17 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         return builder.detailedMetrics == null ? DEFAULT_DETAILED_METRICS : new HashSet<>(builder.detailedMetrics);
     }
 
+    private Integer resolveDetailedMetricsPrecision(Builder builder) {
+        if (builder.detailedMetricsPrecision == null) {
+            return null;
+        }
+        int precision = builder.detailedMetricsPrecision;
+        Validate.isTrue(precision >= MIN_DETAILED_METRICS_PRECISION && precision <= MAX_DETAILED_METRICS_PRECISION,
+                        "detailedMetricsPrecision must be between %s and %s, but was %s.",
+                        MIN_DETAILED_METRICS_PRECISION, MAX_DETAILED_METRICS_PRECISION, precision);
+        return precision;
+    }
+
     private Set<SdkMetric<String>> resolveDimensions(Builder builder) {
         return builder.dimensions == null ? DEFAULT_DIMENSIONS : new HashSet<>(builder.dimensions);
     }
@@ -394,6 +409,7 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         private Collection<MetricCategory> metricCategories;
         private MetricLevel metricLevel;
         private Collection<SdkMetric<?>> detailedMetrics;
+        private Integer detailedMetricsPrecision;
         private BlockingQueue<Runnable> taskQueue;
 
         private Builder() {
@@ -575,9 +591,9 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
          * <p><b>Warning:</b> When {@code detailedMetrics} are enabled, all unique metric values are stored in memory until they
          * can be published to CloudWatch. A high {@code uploadFrequency} with multiple {@code detailedMetrics} enabled can
          * quickly consume heap memory while the values wait to be published to CloudWatch. In memory constrained environments, it
-         * is recommended to minimize the number of {@code detailedMetrics} configured on the publisher, or to upload metric data
-         * more frequently. As with all performance and resource concerns, profiling in a production-like environment is
-         * encouraged.
+         * is recommended to minimize the number of {@code detailedMetrics} configured on the publisher, to upload metric data
+         * more frequently, or to bound the number of stored values with {@link #detailedMetricsPrecision(Integer)}. As with all
+         * performance and resource concerns, profiling in a production-like environment is encouraged.
          *
          * <p>In addition to additional heap memory usage, detailed metrics can result in more requests being sent to CloudWatch,
          * which can also introduce additional usage cost. The {@link #maximumCallsPerUpload(Integer)} acts as a safeguard against
@@ -596,6 +612,27 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
             return detailedMetrics(Arrays.asList(detailedMetrics));
         }
 
+        /**
+         * Configure the precision, in significant decimal digits, of the values uploaded for
+         * {@link #detailedMetrics(Collection)}.
+         *
+         * <p>If this is not specified, every unique metric value is stored in memory and uploaded to CloudWatch. Latency
+         * metrics rarely repeat the same value, so memory usage and the number of values uploaded grow with the number of
+         * requests.
+         *
+         * <p>If this is specified, values are grouped into histogram buckets whose width is relative to the value, e.g. within
+         * 1% of each other when the precision is 2. The bucket's mean value and count are uploaded as one of the
+         * {@link MetricDatum#values()} and {@link MetricDatum#counts()}. The memory used for each metric and dimension
+         * combination is then bounded by the range of the values, no matter how many are published, and fewer values have to
+         * be uploaded. Percentiles in CloudWatch are accurate to within the configured precision.
+         *
+         * <p>The precision must be between 1 and 5.
+         */
+        public Builder detailedMetricsPrecision(Integer detailedMetricsPrecision) {
+            this.detailedMetricsPrecision = detailedMetricsPrecision;
+            return this;
+        }
+
         /**
          * Build a {@link CloudWatchMetricPublisher} using the configuration currently configured on this publisher.
          */
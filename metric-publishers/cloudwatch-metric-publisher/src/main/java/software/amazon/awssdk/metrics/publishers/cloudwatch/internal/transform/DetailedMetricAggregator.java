@@ -29,19 +29,48 @@ import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
 /**
  * An implementation of {@link MetricAggregator} that stores all values and counts for a given metric/dimension pair
  * until they can be added to a {@link MetricDatum}.
+ *
+ * <p>When a precision is configured, values are grouped into log-linear histogram buckets instead of being stored exactly:
+ * two values share a bucket when they have the same sign, the same binary exponent and the same leading
+ * {@code precisionBits} bits of mantissa. The relative width of a bucket is at most {@code 2^-precisionBits}, so the number
+ * of buckets, and the memory used by this aggregator, is bounded by the range of the values instead of by how many values are
+ * added. Each bucket is published as the mean of its values.
  */
 @SdkInternalApi
 class DetailedMetricAggregator implements MetricAggregator {
+    /**
+     * The number of bits in the mantissa of a {@code double}.
+     */
+    private static final int MANTISSA_BITS = 52;
+
     private final SdkMetric<?> metric;
     private final List<Dimension> dimensions;
     private final StandardUnit unit;
 
-    private final Map<Double, DetailedMetrics> metricDetails = new HashMap<>();
+    /**
+     * The number of mantissa bits used to bucket values, or -1 if values are stored exactly.
+     */
+    private final int precisionBits;
+
+    private final Map<Long, DetailedMetrics> metricDetails = new HashMap<>();
 
     DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
+        this(key, unit, -1);
+    }
+
+    DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit, int precisionBits) {
         this.metric = key.metric();
         this.dimensions = key.dimensions();
         this.unit = unit;
+        this.precisionBits = precisionBits;
+    }
+
+    /**
+     * Convert a number of significant decimal digits to the number of mantissa bits that give at least the same relative
+     * precision.
+     */
+    static int precisionBits(int significantDigits) {
+        return (int) Math.ceil(significantDigits * Math.log(10) / Math.log(2));
     }
 
     @Override
@@ -56,7 +85,15 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
-        metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value)).metricCount++;
+        metricDetails.computeIfAbsent(bucket(value), b -> new DetailedMetrics()).add(value);
+    }
+
+    private long bucket(double value) {
+        long bits = Double.doubleToLongBits(value);
+        if (precisionBits < 0) {
+            return bits;
+        }
+        return bits >> (MANTISSA_BITS - precisionBits);
     }
 
     @Override
@@ -69,15 +106,33 @@ class DetailedMetricAggregator implements MetricAggregator {
     }
 
     public static class DetailedMetrics {
-        private final double metricValue;
+        private double minValue;
+        private double maxValue;
+        private double sum;
         private int metricCount = 0;
 
-        private DetailedMetrics(double metricValue) {
-            this.metricValue = metricValue;
+        private DetailedMetrics() {
+        }
+
+        private void add(double value) {
+            if (metricCount == 0 || value < minValue) {
+                minValue = value;
+            }
+            if (metricCount == 0 || value > maxValue) {
+                maxValue = value;
+            }
+            sum += value;
+            metricCount++;
         }
 
+        /**
+         * The value that was added, or the mean of the values in this histogram bucket if they were not all the same.
+         */
         public double metricValue() {
-            return metricValue;
+            if (minValue == maxValue) {
+                return minValue;
+            }
+            return Math.max(minValue, Math.min(maxValue, sum / metricCount));
         }
 
         public int metricCount() {
@@ -82,8 +82,24 @@ public class MetricCollectionAggregator {
                                       Set<MetricCategory> metricCategories,
                                       MetricLevel metricLevel,
                                       Set<SdkMetric<?>> detailedMetrics) {
+        this(namespace, dimensions, metricCategories, metricLevel, detailedMetrics, null);
+    }
+
+    /**
+     * @param detailedMetricsPrecision The number of significant decimal digits kept for the values of detailed metrics, or
+     * null to keep every distinct value. See {@link DetailedMetricAggregator}.
+     */
+    public MetricCollectionAggregator(String namespace,
+                                      Set<SdkMetric<String>> dimensions,
+                                      Set<MetricCategory> metricCategories,
+                                      MetricLevel metricLevel,
+                                      Set<SdkMetric<?>> detailedMetrics,
+                                      Integer detailedMetricsPrecision) {
         this.namespace = namespace;
-        this.timeBucketedMetrics = new TimeBucketedMetrics(dimensions, metricCategories, metricLevel, detailedMetrics);
+        int precisionBits = detailedMetricsPrecision == null ? -1
+                                                             : DetailedMetricAggregator.precisionBits(detailedMetricsPrecision);
+        this.timeBucketedMetrics = new TimeBucketedMetrics(dimensions, metricCategories, metricLevel, detailedMetrics,
+                                                           precisionBits);
     }
 
     /**
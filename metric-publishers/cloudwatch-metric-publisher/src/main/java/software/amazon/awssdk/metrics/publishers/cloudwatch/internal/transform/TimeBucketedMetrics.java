@@ -80,17 +80,30 @@ class TimeBucketedMetrics {
      */
     private final boolean metricCategoriesContainsAll;
 
-
+    /**
+     * The number of mantissa bits used by {@link DetailedMetricAggregator}s to bucket values, or -1 if they store values
+     * exactly.
+     */
+    private final int detailedMetricsPrecisionBits;
 
     TimeBucketedMetrics(Set<SdkMetric<String>> dimensions,
                         Set<MetricCategory> metricCategories,
                         MetricLevel metricLevel,
                         Set<SdkMetric<?>> detailedMetrics) {
+        this(dimensions, metricCategories, metricLevel, detailedMetrics, -1);
+    }
+
+    TimeBucketedMetrics(Set<SdkMetric<String>> dimensions,
+                        Set<MetricCategory> metricCategories,
+                        MetricLevel metricLevel,
+                        Set<SdkMetric<?>> detailedMetrics,
+                        int detailedMetricsPrecisionBits) {
         this.dimensions = dimensions;
         this.detailedMetrics = detailedMetrics;
         this.metricCategories = metricCategories;
         this.metricLevel = metricLevel;
         this.metricCategoriesContainsAll = metricCategories.contains(MetricCategory.ALL);
+        this.detailedMetricsPrecisionBits = detailedMetricsPrecisionBits;
     }
 
     /**
@@ -168,7 +181,7 @@ class TimeBucketedMetrics {
         SdkMetric<?> metric = aggregatorKey.metric();
         StandardUnit metricUnit = unitFor(metric);
         if (detailedMetrics.contains(metric)) {
-            return new DetailedMetricAggregator(aggregatorKey, metricUnit);
+            return new DetailedMetricAggregator(aggregatorKey, metricUnit, detailedMetricsPrecisionBits);
         } else {
             return new SummaryMetricAggregator(aggregatorKey, metricUnit);
         }
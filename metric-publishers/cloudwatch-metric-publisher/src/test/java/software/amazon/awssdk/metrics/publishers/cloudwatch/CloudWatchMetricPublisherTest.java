@@ -16,6 +16,7 @@
 package software.amazon.awssdk.metrics.publishers.cloudwatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 
@@ -270,6 +271,34 @@ public class CloudWatchMetricPublisherTest {
         assertThat(availableConcurrency.statisticValues()).isNull();
     }
 
+    @Test
+    public void detailedMetricsPrecisionSettingIsHonored() {
+        try (CloudWatchMetricPublisher publisher = publisherBuilder.detailedMetrics(HttpMetric.AVAILABLE_CONCURRENCY)
+                                                                   .detailedMetricsPrecision(1)
+                                                                   .build()) {
+            for (int i = 1000; i < 2000; ++i) {
+                MetricCollector collector = newCollector();
+                collector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, i);
+                publisher.publish(new FixedTimeMetricCollection(collector.collect()));
+            }
+        }
+
+        MetricDatum availableConcurrency = getDatum(getPutMetricCall(), HttpMetric.AVAILABLE_CONCURRENCY);
+
+        // One significant digit is four bits of mantissa, so [1000, 2000) spans at most 16 buckets of [512, 1024) and
+        // 16 buckets of [1024, 2048).
+        assertThat(availableConcurrency.values()).hasSizeLessThanOrEqualTo(32);
+        assertThat(availableConcurrency.counts().stream().mapToDouble(Double::doubleValue).sum()).isEqualTo(1000.0);
+    }
+
+    @Test
+    public void detailedMetricsPrecisionOutOfRangeThrows() {
+        assertThatThrownBy(() -> publisherBuilder.detailedMetricsPrecision(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> publisherBuilder.detailedMetricsPrecision(6).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void taskQueueSettingIsHonored() {
         ArrayBlockingQueue<Runnable> customQueue = Mockito.spy(new ArrayBlockingQueue<>(128));
@@ -336,6 +336,65 @@ public class MetricCollectionAggregatorTest {
         });
     }
 
+    @Test
+    public void detailedMetricsWithPrecisionAreBucketed() {
+        MetricCollectionAggregator aggregator = aggregatorWithDetailedMetricsPrecision(2, HttpMetric.MAX_CONCURRENCY);
+        MetricCollector collector = collector();
+        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 1000);
+        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 1001);
+        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 1001);
+        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 1002);
+        collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 2000);
+        aggregator.addCollection(collectToFixedTime(collector));
+
+        assertThat(aggregator.getRequests()).hasOnlyOneElementSatisfying(request -> {
+            assertThat(request.metricData()).hasOnlyOneElementSatisfying(metricData -> {
+                assertThat(metricData.values()).hasSize(2);
+                for (int i = 0; i < metricData.values().size(); i++) {
+                    Double value = metricData.values().get(i);
+                    Double count = metricData.counts().get(i);
+                    switch (value.toString()) {
+                        case "1001.0":
+                            assertThat(count).isEqualTo(4.0);
+                            break;
+                        case "2000.0":
+                            assertThat(count).isEqualTo(1.0);
+                            break;
+                        default:
+                            fail();
+                    }
+                }
+            });
+        });
+    }
+
+    @Test
+    public void detailedMetricsWithPrecisionHaveBoundedValues() {
+        MetricCollectionAggregator aggregator = aggregatorWithDetailedMetricsPrecision(2, HttpMetric.MAX_CONCURRENCY);
+        int numValues = 100_000;
+        for (int i = 0; i < numValues; i++) {
+            MetricCollector collector = collector();
+            collector.reportMetric(HttpMetric.MAX_CONCURRENCY, 100_000 + i);
+            aggregator.addCollection(collectToFixedTime(collector));
+        }
+
+        List<PutMetricDataRequest> requests = aggregator.getRequests();
+
+        // Two significant digits is seven bits of mantissa, and the values span two powers of two.
+        List<Double> values = requests.stream()
+                                      .flatMap(r -> r.metricData().stream())
+                                      .flatMap(d -> d.values().stream())
+                                      .collect(Collectors.toList());
+        double totalCount = requests.stream()
+                                    .flatMap(r -> r.metricData().stream())
+                                    .flatMap(d -> d.counts().stream())
+                                    .mapToDouble(Double::doubleValue)
+                                    .sum();
+        assertThat(values).hasSizeLessThanOrEqualTo(2 * 128);
+        assertThat(values).allSatisfy(v -> assertThat(v).isBetween(100_000.0, 199_999.0));
+        assertThat(totalCount).isEqualTo(numValues);
+    }
+
     @Test
     public void metricsFromOtherCategoriesAreIgnored() {
         MetricCollectionAggregator aggregator = defaultAggregator();
@@ -427,6 +486,15 @@ public class MetricCollectionAggregatorTest {
                                               Stream.of(detailedMetrics).collect(Collectors.toSet()));
     }
 
+    private MetricCollectionAggregator aggregatorWithDetailedMetricsPrecision(int precision, SdkMetric<?>... detailedMetrics) {
+        return new MetricCollectionAggregator(DEFAULT_NAMESPACE,
+                                              DEFAULT_DIMENSIONS,
+                                              DEFAULT_CATEGORIES,
+                                              DEFAULT_METRIC_LEVEL,
+                                              Stream.of(detailedMetrics).collect(Collectors.toSet()),
+                                              precision);
+    }
+
     private MetricCollector collector() {
         return MetricCollector.create("test");
     }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.metrics.publishers.emf;
 
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -29,9 +30,11 @@ import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricLevel;
 import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.emf.internal.BatchingEmfMetricWriter;
 import software.amazon.awssdk.metrics.publishers.emf.internal.EmfMetricConfiguration;
 import software.amazon.awssdk.metrics.publishers.emf.internal.MetricEmfConverter;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * A metric publisher implementation that converts metrics into CloudWatch Embedded Metric Format (EMF).
@@ -52,6 +55,12 @@ import software.amazon.awssdk.utils.Logger;
  * monitoring and alerting.
  * </p>
  *
+ * <p>
+ * By default, metrics are converted and logged on the thread that publishes them, which for SDK clients is the thread that
+ * completes the request. With {@link Builder#publishAsynchronously(Boolean)}, they are queued instead, and a background
+ * thread periodically merges them into as few EMF log entries as possible.
+ * </p>
+ *
  * @snippet
  * // Create a EmfMetricLoggingPublisher using a custom namespace.
  * MetricPublisher emfMetricLoggingPublisher = EmfMetricLoggingPublisher.builder()
@@ -72,8 +81,17 @@ import software.amazon.awssdk.utils.Logger;
 public final class EmfMetricLoggingPublisher implements MetricPublisher {
 
     private static final Logger logger = Logger.loggerFor(EmfMetricLoggingPublisher.class);
+    private static final int DEFAULT_MAX_QUEUE_SIZE = 1024;
+    private static final Duration DEFAULT_FLUSH_FREQUENCY = Duration.ofSeconds(1);
+    private static final QueueFullPolicy DEFAULT_QUEUE_FULL_POLICY = QueueFullPolicy.DROP_NEWEST;
+
     private final MetricEmfConverter metricConverter;
 
+    /**
+     * The writer that converts and logs metrics in the background, or null if metrics are logged on the publishing thread.
+     */
+    private final BatchingEmfMetricWriter batchingWriter;
+
 
     private EmfMetricLoggingPublisher(Builder builder) {
         EmfMetricConfiguration config = new EmfMetricConfiguration.Builder()
@@ -86,6 +104,20 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
             .build();
 
         this.metricConverter = new MetricEmfConverter(config);
+        this.batchingWriter = Boolean.TRUE.equals(builder.publishAsynchronously) ? createBatchingWriter(builder) : null;
+    }
+
+    private BatchingEmfMetricWriter createBatchingWriter(Builder builder) {
+        int maxQueueSize = builder.maxQueueSize == null ? DEFAULT_MAX_QUEUE_SIZE
+                                                        : Validate.isPositive(builder.maxQueueSize, "maxQueueSize");
+        Duration flushFrequency = builder.flushFrequency == null ? DEFAULT_FLUSH_FREQUENCY
+                                                                 : Validate.isPositive(builder.flushFrequency, "flushFrequency");
+        Validate.isTrue(flushFrequency.toMillis() >= 1, "flushFrequency must be at least 1 millisecond, but was %s",
+                        flushFrequency);
+        QueueFullPolicy queueFullPolicy = builder.queueFullPolicy == null ? DEFAULT_QUEUE_FULL_POLICY
+                                                                          : builder.queueFullPolicy;
+        return new BatchingEmfMetricWriter(metricConverter, emfString -> logger.info(() -> emfString),
+                                           maxQueueSize, flushFrequency, queueFullPolicy);
     }
 
 
@@ -100,6 +132,10 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
             logger.warn(() -> "Null metric collection passed to the publisher");
             return;
         }
+        if (batchingWriter != null) {
+            batchingWriter.publish(metricCollection);
+            return;
+        }
         try {
             List<String> emfStrings = metricConverter.convertMetricCollectionToEmf(metricCollection);
             for (String emfString : emfStrings) {
@@ -111,11 +147,32 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
     }
 
     /**
-     * Closes this metric publisher. This implementation is empty as the EMF metric logging publisher
-     * does not maintain any resources that require explicit cleanup.
+     * Closes this metric publisher. When publishing asynchronously, this stops the background thread after logging the
+     * metrics that are still queued. Otherwise, the EMF metric logging publisher does not maintain any resources that require
+     * explicit cleanup.
      */
     @Override
     public void close() {
+        if (batchingWriter != null) {
+            batchingWriter.close();
+        }
+    }
+
+    /**
+     * What to do when metrics are published asynchronously, and the queue of metrics waiting to be logged is full.
+     *
+     * @see Builder#queueFullPolicy(QueueFullPolicy)
+     */
+    public enum QueueFullPolicy {
+        /**
+         * Drop the metric collection being published.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Drop the metric collection that has been queued the longest, and queue the one being published.
+         */
+        DROP_OLDEST
     }
 
     public static final class Builder {
@@ -125,6 +182,10 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
         private Collection<MetricCategory> metricCategories;
         private MetricLevel metricLevel;
         private PropertiesFactory propertiesFactory;
+        private Boolean publishAsynchronously;
+        private Integer maxQueueSize;
+        private Duration flushFrequency;
+        private QueueFullPolicy queueFullPolicy;
 
         private Builder() {
         }
@@ -241,6 +302,59 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
             return this;
         }
 
+        /**
+         * Configure whether metrics are converted to EMF and logged on a background thread.
+         *
+         * <p>If this is not specified, or is false, each {@link #publish(MetricCollection)} call converts and logs the metrics
+         * on the calling thread. For SDK clients, this is the thread that completes the request, so the time spent building
+         * the JSON and writing the log entry adds to the request latency.
+         *
+         * <p>If this is true, {@code publish} only adds the metrics to a bounded queue (see {@link #maxQueueSize(Integer)}),
+         * and a background thread logs them every {@link #flushFrequency(Duration)}. Metrics that share the same dimension
+         * values and custom properties are merged into one EMF log entry, with up to 100 values per metric. Metrics still
+         * queued when the publisher is {@link #close()}d are logged before it returns, so make sure to close the publisher,
+         * e.g. before an AWS Lambda function returns if metrics must not be lost.
+         */
+        public Builder publishAsynchronously(Boolean publishAsynchronously) {
+            this.publishAsynchronously = publishAsynchronously;
+            return this;
+        }
+
+        /**
+         * Configure the maximum number of metric collections waiting to be logged when
+         * {@link #publishAsynchronously(Boolean)} is enabled. When the queue is full, collections are dropped according to
+         * the {@link #queueFullPolicy(QueueFullPolicy)}, and the number of dropped collections is logged with the next flush,
+         * as the {@code DroppedMetricCollections} metric.
+         *
+         * <p>If this is not specified, 1024 is used.
+         */
+        public Builder maxQueueSize(Integer maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * Configure how often queued metrics are logged when {@link #publishAsynchronously(Boolean)} is enabled. Metrics are
+         * also logged early when the queue is half full. This must be at least 1 millisecond.
+         *
+         * <p>If this is not specified, 1 second is used.
+         */
+        public Builder flushFrequency(Duration flushFrequency) {
+            this.flushFrequency = flushFrequency;
+            return this;
+        }
+
+        /**
+         * Configure which metric collection is dropped when {@link #publishAsynchronously(Boolean)} is enabled and the queue
+         * is full.
+         *
+         * <p>If this is not specified, {@link QueueFullPolicy#DROP_NEWEST} is used.
+         */
+        public Builder queueFullPolicy(QueueFullPolicy queueFullPolicy) {
+            this.queueFullPolicy = queueFullPolicy;
+            return this;
+        }
+
         /**
          * Build a {@link EmfMetricLoggingPublisher} using the configuration currently configured on this publisher.
          */
@@ -0,0 +1,202 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.publishers.emf.EmfMetricLoggingPublisher.QueueFullPolicy;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Queues {@link MetricCollection}s and periodically converts them to EMF on a background thread, so that publishing only
+ * costs the caller an enqueue.
+ *
+ * <p>The queue is a {@link ConcurrentLinkedQueue} bounded by an atomic counter. When it is full, a collection is dropped
+ * according to the configured {@link QueueFullPolicy}. The number of dropped collections is logged, and written as a
+ * {@code DroppedMetricCollections} EMF metric, on the next flush. Each flush merges the queued collections into as few EMF
+ * documents as possible, see {@link MetricEmfConverter#convertMetricCollectionsToEmf}.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class BatchingEmfMetricWriter implements SdkAutoCloseable {
+    private static final Logger logger = Logger.loggerFor(BatchingEmfMetricWriter.class);
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final MetricEmfConverter metricConverter;
+    private final Consumer<String> emfLogger;
+    private final int maxQueueSize;
+    private final QueueFullPolicy queueFullPolicy;
+
+    private final Queue<MetricCollection> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * True when a flush was submitted because the queue was filling up, to avoid submitting one per published collection.
+     */
+    private final AtomicBoolean earlyFlushSubmitted = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * The single thread that flushes the queue. Flushes never run concurrently, because {@link MetricEmfConverter} is not
+     * thread safe.
+     */
+    private final ScheduledExecutorService flushExecutor;
+
+    public BatchingEmfMetricWriter(MetricEmfConverter metricConverter,
+                                   Consumer<String> emfLogger,
+                                   int maxQueueSize,
+                                   Duration flushFrequency,
+                                   QueueFullPolicy queueFullPolicy) {
+        this(metricConverter, emfLogger, maxQueueSize, flushFrequency, queueFullPolicy,
+             Executors.newSingleThreadScheduledExecutor(
+                 new ThreadFactoryBuilder().threadNamePrefix("emf-metric-logging-publisher").daemonThreads(true).build()));
+    }
+
+    @SdkTestInternalApi
+    BatchingEmfMetricWriter(MetricEmfConverter metricConverter,
+                            Consumer<String> emfLogger,
+                            int maxQueueSize,
+                            Duration flushFrequency,
+                            QueueFullPolicy queueFullPolicy,
+                            ScheduledExecutorService flushExecutor) {
+        this.metricConverter = metricConverter;
+        this.emfLogger = emfLogger;
+        this.maxQueueSize = maxQueueSize;
+        this.queueFullPolicy = queueFullPolicy;
+        this.flushExecutor = flushExecutor;
+
+        long flushFrequencyMillis = flushFrequency.toMillis();
+        flushExecutor.scheduleAtFixedRate(this::flushQuietly, flushFrequencyMillis, flushFrequencyMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue the collection to be written on the next flush, or drop a collection if the queue is full.
+     */
+    public void publish(MetricCollection metricCollection) {
+        if (closed.get()) {
+            logger.debug(() -> "Dropping metric collection published after the publisher was closed");
+            return;
+        }
+
+        if (!tryReserveQueueSlot()) {
+            droppedCount.incrementAndGet();
+            // The oldest collection is replaced, rather than dropped and re-added, so the size doesn't change. If the queue was
+            // emptied concurrently, the newest collection is dropped instead.
+            if (queueFullPolicy != QueueFullPolicy.DROP_OLDEST || queue.poll() == null) {
+                return;
+            }
+        }
+        queue.offer(metricCollection);
+
+        if (queueSize.get() >= maxQueueSize / 2 && earlyFlushSubmitted.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // We're shutting down, and close() flushes the queue.
+                earlyFlushSubmitted.set(false);
+            }
+        }
+    }
+
+    private boolean tryReserveQueueSlot() {
+        while (true) {
+            int size = queueSize.get();
+            if (size >= maxQueueSize) {
+                return false;
+            }
+            if (queueSize.compareAndSet(size, size + 1)) {
+                return true;
+            }
+        }
+    }
+
+    @SdkTestInternalApi
+    void flush() {
+        earlyFlushSubmitted.set(false);
+
+        List<MetricCollection> metricCollections = new ArrayList<>();
+        MetricCollection metricCollection;
+        while ((metricCollection = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            metricCollections.add(metricCollection);
+        }
+
+        if (!metricCollections.isEmpty()) {
+            for (String emfString : metricConverter.convertMetricCollectionsToEmf(metricCollections)) {
+                emfLogger.accept(emfString);
+            }
+        }
+
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            logger.warn(() -> "Dropped " + dropped + " metric collections because the EMF publishing queue was full. "
+                              + "Consider increasing the queue size or the flush frequency.");
+            emfLogger.accept(metricConverter.createDroppedMetricCollectionsEmf(dropped));
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.error(() -> "Failed to log metrics in EMF format", e);
+        }
+    }
+
+    /**
+     * Stop the background flushes, and write the collections that are still queued.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        flushExecutor.shutdown();
+        try {
+            if (flushExecutor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                flushQuietly();
+            } else {
+                logger.warn(() -> "Timed out waiting for the EMF publishing flush to finish, queued metrics were dropped.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn(() -> "Interrupted while waiting for the EMF publishing flush to finish, queued metrics were dropped.",
+                        e);
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics reported by the {@link software.amazon.awssdk.metrics.publishers.emf.EmfMetricLoggingPublisher} itself, rather
+ * than by the SDK clients it publishes metrics for.
+ */
+@SdkInternalApi
+public final class EmfMetricLoggingPublisherMetric {
+
+    /**
+     * The number of {@link software.amazon.awssdk.metrics.MetricCollection}s that an asynchronous publisher dropped because
+     * its queue was full. This is published without dimensions.
+     */
+    public static final SdkMetric<Long> DROPPED_METRIC_COLLECTIONS =
+        metric("DroppedMetricCollections", Long.class, MetricLevel.INFO);
+
+    private EmfMetricLoggingPublisherMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
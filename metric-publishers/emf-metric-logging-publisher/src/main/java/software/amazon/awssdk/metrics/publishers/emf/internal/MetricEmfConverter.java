@@ -19,18 +19,22 @@ import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricRecord;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.metrics.publishers.emf.PropertiesFactory;
@@ -113,6 +117,62 @@ public class MetricEmfConverter {
      * @return List of EMF-formatted metrics ready for CloudWatch
      */
     public List<String> convertMetricCollectionToEmf(MetricCollection metricCollection) {
+        Map<SdkMetric<?>, List<MetricRecord<?>>> aggregatedMetrics = aggregateMetrics(metricCollection);
+        Map<String, String> properties = resolveProperties(metricCollection);
+        return createEmfStrings(aggregatedMetrics, properties, dimensions);
+    }
+
+    /**
+     * Convert multiple metric collections into as few EMF strings as possible.
+     *
+     * <p>Collections with the same dimension values and custom properties are merged into one EMF document, with the values
+     * of each metric written as an array. A new document is started when a metric would have more than
+     * {@value #MAX_RECORD_SIZE} values, and documents with more than {@value #MAX_METRIC_NUM} metrics are split as in
+     * {@link #convertMetricCollectionToEmf(MetricCollection)}.
+     *
+     * @param metricCollections Collections of SDK metrics to be converted
+     * @return List of EMF-formatted metrics ready for CloudWatch
+     */
+    public List<String> convertMetricCollectionsToEmf(Collection<MetricCollection> metricCollections) {
+        Map<DocumentKey, List<Map<SdkMetric<?>, List<MetricRecord<?>>>>> documents = new LinkedHashMap<>();
+
+        for (MetricCollection metricCollection : metricCollections) {
+            Map<SdkMetric<?>, List<MetricRecord<?>>> aggregatedMetrics = aggregateMetrics(metricCollection);
+            DocumentKey key = new DocumentKey(dimensionValues(aggregatedMetrics), resolveProperties(metricCollection));
+
+            List<Map<SdkMetric<?>, List<MetricRecord<?>>>> keyDocuments = documents.computeIfAbsent(key, k -> new ArrayList<>());
+            Map<SdkMetric<?>, List<MetricRecord<?>>> document =
+                keyDocuments.isEmpty() ? null : keyDocuments.get(keyDocuments.size() - 1);
+            if (document == null || !fitsInDocument(document, aggregatedMetrics)) {
+                document = new HashMap<>();
+                keyDocuments.add(document);
+            }
+            mergeIntoDocument(document, aggregatedMetrics);
+        }
+
+        List<String> emfStrings = new ArrayList<>();
+        documents.forEach((key, keyDocuments) -> {
+            for (Map<SdkMetric<?>, List<MetricRecord<?>>> document : keyDocuments) {
+                emfStrings.addAll(createEmfStrings(document, key.properties, dimensions));
+            }
+        });
+        return emfStrings;
+    }
+
+    /**
+     * Create an EMF string, without dimensions, that reports how many metric collections were dropped by an asynchronous
+     * publisher.
+     */
+    public String createDroppedMetricCollectionsEmf(long droppedCount) {
+        MetricCollector collector = MetricCollector.create("EmfMetricLoggingPublisher");
+        collector.reportMetric(EmfMetricLoggingPublisherMetric.DROPPED_METRIC_COLLECTIONS, droppedCount);
+
+        Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = new HashMap<>();
+        collector.collect().forEach(r -> metrics.computeIfAbsent(r.metric(), m -> new ArrayList<>()).add(r));
+        return createEmfString(metrics, Collections.emptyMap(), Collections.emptyList());
+    }
+
+    private Map<SdkMetric<?>, List<MetricRecord<?>>> aggregateMetrics(MetricCollection metricCollection) {
         Map<SdkMetric<?>, List<MetricRecord<?>>> aggregatedMetrics = new HashMap<>();
 
         // Process metrics using level-order traversal
@@ -143,8 +203,43 @@ public class MetricEmfConverter {
             }
         }
 
-        Map<String, String> properties = resolveProperties(metricCollection);
-        return createEmfStrings(aggregatedMetrics, properties);
+        return aggregatedMetrics;
+    }
+
+    private Map<String, List<Object>> dimensionValues(Map<SdkMetric<?>, List<MetricRecord<?>>> aggregatedMetrics) {
+        Map<String, List<Object>> dimensionValues = new HashMap<>();
+        aggregatedMetrics.forEach((metric, records) -> {
+            if (isDimension(metric)) {
+                List<Object> values = new ArrayList<>(records.size());
+                records.forEach(r -> values.add(r.value()));
+                dimensionValues.put(metric.name(), values);
+            }
+        });
+        return dimensionValues;
+    }
+
+    private boolean fitsInDocument(Map<SdkMetric<?>, List<MetricRecord<?>>> document,
+                                   Map<SdkMetric<?>, List<MetricRecord<?>>> aggregatedMetrics) {
+        for (Map.Entry<SdkMetric<?>, List<MetricRecord<?>>> entry : aggregatedMetrics.entrySet()) {
+            List<MetricRecord<?>> documentRecords = document.get(entry.getKey());
+            if (!isDimension(entry.getKey()) && documentRecords != null
+                && documentRecords.size() + entry.getValue().size() > MAX_RECORD_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void mergeIntoDocument(Map<SdkMetric<?>, List<MetricRecord<?>>> document,
+                                   Map<SdkMetric<?>, List<MetricRecord<?>>> aggregatedMetrics) {
+        aggregatedMetrics.forEach((metric, records) -> {
+            if (isDimension(metric)) {
+                // All collections in a document have the same dimension values.
+                document.putIfAbsent(metric, records);
+            } else {
+                document.computeIfAbsent(metric, m -> new ArrayList<>()).addAll(records);
+            }
+        });
     }
 
     private Map<String, String> resolveProperties(MetricCollection metricCollection) {
@@ -207,7 +302,8 @@ public class MetricEmfConverter {
     }
 
     private List<String> createEmfStrings(Map<SdkMetric<?>, List<MetricRecord<?>>> aggregatedMetrics,
-                                          Map<String, String> properties) {
+                                          Map<String, String> properties,
+                                          List<String> dimensionNames) {
         List<String> emfStrings = new ArrayList<>();
         Map<SdkMetric<?>, List<MetricRecord<?>>> currentMetricBatch = new HashMap<>();
 
@@ -223,26 +319,27 @@ public class MetricEmfConverter {
             }
 
             if (currentMetricBatch.size() == MAX_METRIC_NUM) {
-                emfStrings.add(createEmfString(currentMetricBatch, properties));
+                emfStrings.add(createEmfString(currentMetricBatch, properties, dimensionNames));
                 currentMetricBatch = new HashMap<>();
             }
 
             currentMetricBatch.put(metric, records);
         }
 
-        emfStrings.add(createEmfString(currentMetricBatch, properties));
+        emfStrings.add(createEmfString(currentMetricBatch, properties, dimensionNames));
 
         return emfStrings;
     }
 
 
     private String createEmfString(Map<SdkMetric<?>, List<MetricRecord<?>>> metrics,
-                                    Map<String, String> properties) {
+                                    Map<String, String> properties,
+                                    List<String> dimensionNames) {
 
         JsonWriter jsonWriter = JsonWriter.create();
         jsonWriter.writeStartObject();
 
-        writeAwsObject(jsonWriter, metrics.keySet());
+        writeAwsObject(jsonWriter, metrics.keySet(), dimensionNames);
         writeMetricValues(jsonWriter, metrics);
         writeCustomProperties(jsonWriter, properties, metrics.keySet());
 
@@ -270,7 +367,7 @@ public class MetricEmfConverter {
         }
     }
 
-    private void writeAwsObject(JsonWriter jsonWriter, Set<SdkMetric<?>> metricNames) {
+    private void writeAwsObject(JsonWriter jsonWriter, Set<SdkMetric<?>> metricNames, List<String> dimensionNames) {
         jsonWriter.writeFieldName(AWS_METADATA_KEY);
         jsonWriter.writeStartObject();
 
@@ -280,34 +377,36 @@ public class MetricEmfConverter {
         jsonWriter.writeFieldName("LogGroupName");
         jsonWriter.writeValue(config.logGroupName());
 
-        writeCloudWatchMetricsArray(jsonWriter, metricNames);
+        writeCloudWatchMetricsArray(jsonWriter, metricNames, dimensionNames);
         jsonWriter.writeEndObject();
     }
 
-    private void writeCloudWatchMetricsArray(JsonWriter jsonWriter, Set<SdkMetric<?>> metricNames) {
+    private void writeCloudWatchMetricsArray(JsonWriter jsonWriter, Set<SdkMetric<?>> metricNames,
+                                             List<String> dimensionNames) {
         jsonWriter.writeFieldName("CloudWatchMetrics");
         jsonWriter.writeStartArray();
 
-        writeCloudWatchMetricsObjects(jsonWriter, metricNames);
+        writeCloudWatchMetricsObjects(jsonWriter, metricNames, dimensionNames);
         jsonWriter.writeEndArray();
     }
 
-    private void writeCloudWatchMetricsObjects(JsonWriter jsonWriter,  Set<SdkMetric<?>> metricNames) {
+    private void writeCloudWatchMetricsObjects(JsonWriter jsonWriter,  Set<SdkMetric<?>> metricNames,
+                                               List<String> dimensionNames) {
         jsonWriter.writeStartObject();
         jsonWriter.writeFieldName("Namespace");
         jsonWriter.writeValue(config.namespace());
 
-        writeDimensionSetArray(jsonWriter);
+        writeDimensionSetArray(jsonWriter, dimensionNames);
 
         writeMetricDefinitionArray(jsonWriter, metricNames);
         jsonWriter.writeEndObject();
     }
 
-    private void writeDimensionSetArray(JsonWriter jsonWriter) {
+    private void writeDimensionSetArray(JsonWriter jsonWriter, List<String> dimensionNames) {
         jsonWriter.writeFieldName("Dimensions");
         jsonWriter.writeStartArray();
         jsonWriter.writeStartArray();
-        for (String dimension : dimensions) {
+        for (String dimension : dimensionNames) {
             jsonWriter.writeValue(dimension);
         }
         jsonWriter.writeEndArray();
@@ -419,4 +518,34 @@ public class MetricEmfConverter {
     private boolean isSupportedLevel(MetricRecord<?> metricRecord) {
         return config.metricLevel().includesLevel(metricRecord.metric().level());
     }
+
+    /**
+     * Identifies the metric collections that can be merged into the same EMF document.
+     */
+    private static final class DocumentKey {
+        private final Map<String, List<Object>> dimensionValues;
+        private final Map<String, String> properties;
+
+        private DocumentKey(Map<String, List<Object>> dimensionValues, Map<String, String> properties) {
+            this.dimensionValues = dimensionValues;
+            this.properties = properties;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DocumentKey that = (DocumentKey) o;
+            return dimensionValues.equals(that.dimensionValues) && properties.equals(that.properties);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dimensionValues, properties);
+        }
+    }
 }
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.Level;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -188,10 +189,55 @@ public class EmfMetricLoggingPublisherTest extends LogCaptor.LogCaptorTestBase{
             .filter(e -> e.getLevel() == Level.INFO
                 && e.getMessage().getFormattedMessage().contains("\"_aws\":{"))
             .map(e -> e.getMessage().getFormattedMessage())
-            .collect(java.util.stream.Collectors.toList());
+            .collect(Collectors.toList());
 
         assertThat(emfLogs).hasSize(2);
         assertThat(emfLogs.get(0)).contains("\"InvocationCount\":\"1\"");
         assertThat(emfLogs.get(1)).contains("\"InvocationCount\":\"2\"");
     }
+
+    @Test
+    void publish_asynchronously_logsMergedMetricsOnClose() {
+        EmfMetricLoggingPublisher publisher = publisherBuilder.logGroupName("/aws/lambda/emfMetricTest")
+                                                              .publishAsynchronously(true)
+                                                              .flushFrequency(java.time.Duration.ofHours(1))
+                                                              .build();
+        for (int i = 0; i < 3; i++) {
+            MetricCollector metricCollector = MetricCollector.create("test");
+            metricCollector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, i);
+            publisher.publish(metricCollector.collect());
+        }
+        assertThat(emfLogs()).isEmpty();
+
+        publisher.close();
+
+        assertThat(emfLogs()).hasOnlyOneElementSatisfying(emf -> assertThat(emf).contains("\"AvailableConcurrency\":[0,1,2]"));
+    }
+
+    @Test
+    void build_asynchronouslyWithInvalidQueueSize_throwsException() {
+        assertThatThrownBy(() -> publisherBuilder.logGroupName("/aws/lambda/emfMetricTest")
+                                                 .publishAsynchronously(true)
+                                                 .maxQueueSize(0)
+                                                 .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void build_asynchronouslyWithSubMillisecondFlushFrequency_throwsException() {
+        assertThatThrownBy(() -> publisherBuilder.logGroupName("/aws/lambda/emfMetricTest")
+                                                 .publishAsynchronously(true)
+                                                 .flushFrequency(java.time.Duration.ofNanos(500_000))
+                                                 .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("flushFrequency");
+    }
+
+    private List<String> emfLogs() {
+        return loggedEvents().stream()
+                             .filter(e -> e.getLevel() == Level.INFO)
+                             .map(e -> e.getMessage().getFormattedMessage())
+                             .filter(m -> m.contains("\"_aws\":{"))
+                             .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.publishers.emf.EmfMetricLoggingPublisher.QueueFullPolicy;
+
+public class BatchingEmfMetricWriterTest {
+    private final EmfMetricConfiguration config = new EmfMetricConfiguration.Builder()
+                                                      .logGroupName("my_log_group_name")
+                                                      .build();
+    private final Clock fixedClock = Clock.fixed(Instant.ofEpochMilli(12345678), ZoneOffset.UTC);
+
+    private List<String> loggedEmf;
+    private ScheduledExecutorService flushExecutor;
+
+    @BeforeEach
+    void setUp() {
+        loggedEmf = new ArrayList<>();
+        flushExecutor = mock(ScheduledExecutorService.class);
+    }
+
+    @Test
+    void publish_doesNotLogUntilFlushed() {
+        BatchingEmfMetricWriter writer = writer(10, QueueFullPolicy.DROP_NEWEST);
+
+        writer.publish(collection("DynamoDB", "GetItem", 1));
+
+        assertThat(loggedEmf).isEmpty();
+        verify(flushExecutor).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void flush_sameDimensions_mergedIntoOneDocument() {
+        BatchingEmfMetricWriter writer = writer(10, QueueFullPolicy.DROP_NEWEST);
+        writer.publish(collection("DynamoDB", "GetItem", 1));
+        writer.publish(collection("DynamoDB", "GetItem", 2));
+        writer.publish(collection("DynamoDB", "GetItem", 3));
+
+        writer.flush();
+
+        assertThat(loggedEmf).hasSize(1);
+        assertThat(loggedEmf.get(0)).contains("\"ServiceId\":\"DynamoDB\"")
+                                    .contains("\"OperationName\":\"GetItem\"")
+                                    .contains("\"RetryCount\":[1,2,3]");
+    }
+
+    @Test
+    void flush_differentDimensions_separateDocuments() {
+        BatchingEmfMetricWriter writer = writer(10, QueueFullPolicy.DROP_NEWEST);
+        writer.publish(collection("DynamoDB", "GetItem", 1));
+        writer.publish(collection("DynamoDB", "PutItem", 2));
+        writer.publish(collection("DynamoDB", "GetItem", 3));
+
+        writer.flush();
+
+        assertThat(loggedEmf).hasSize(2);
+        assertThat(loggedEmf).anySatisfy(emf -> assertThat(emf).contains("\"OperationName\":\"GetItem\"")
+                                                               .contains("\"RetryCount\":[1,3]"));
+        assertThat(loggedEmf).anySatisfy(emf -> assertThat(emf).contains("\"OperationName\":\"PutItem\"")
+                                                               .contains("\"RetryCount\":2"));
+    }
+
+    @Test
+    void flush_moreThan100Values_splitIntoDocuments() {
+        BatchingEmfMetricWriter writer = writer(1000, QueueFullPolicy.DROP_NEWEST);
+        for (int i = 0; i < 150; i++) {
+            writer.publish(collection("DynamoDB", "GetItem", i));
+        }
+
+        writer.flush();
+
+        assertThat(loggedEmf).hasSize(2);
+        assertThat(loggedEmf.get(0)).contains("\"RetryCount\":[0,1,");
+        assertThat(loggedEmf.get(1)).contains("\"RetryCount\":[100,101,");
+    }
+
+    @Test
+    void publish_queueFullDropNewest_dropsPublishedCollectionAndReportsDroppedCount() {
+        BatchingEmfMetricWriter writer = writer(2, QueueFullPolicy.DROP_NEWEST);
+        writer.publish(collection("DynamoDB", "GetItem", 1));
+        writer.publish(collection("DynamoDB", "GetItem", 2));
+        writer.publish(collection("DynamoDB", "GetItem", 3));
+
+        writer.flush();
+
+        assertThat(loggedEmf).hasSize(2);
+        assertThat(loggedEmf.get(0)).contains("\"RetryCount\":[1,2]");
+        assertThat(loggedEmf.get(1)).contains("\"Dimensions\":[[]]")
+                                    .contains("\"DroppedMetricCollections\":1");
+    }
+
+    @Test
+    void publish_queueFullDropOldest_replacesOldestCollection() {
+        BatchingEmfMetricWriter writer = writer(2, QueueFullPolicy.DROP_OLDEST);
+        writer.publish(collection("DynamoDB", "GetItem", 1));
+        writer.publish(collection("DynamoDB", "GetItem", 2));
+        writer.publish(collection("DynamoDB", "GetItem", 3));
+
+        writer.flush();
+
+        assertThat(loggedEmf).hasSize(2);
+        assertThat(loggedEmf.get(0)).contains("\"RetryCount\":[2,3]");
+        assertThat(loggedEmf.get(1)).contains("\"DroppedMetricCollections\":1");
+    }
+
+    @Test
+    void flush_resetsQueueAndDroppedCount() {
+        BatchingEmfMetricWriter writer = writer(1, QueueFullPolicy.DROP_NEWEST);
+        writer.publish(collection("DynamoDB", "GetItem", 1));
+        writer.publish(collection("DynamoDB", "GetItem", 2));
+        writer.flush();
+        loggedEmf.clear();
+
+        writer.publish(collection("DynamoDB", "GetItem", 3));
+        writer.flush();
+
+        assertThat(loggedEmf).hasSize(1);
+        assertThat(loggedEmf.get(0)).contains("\"RetryCount\":3")
+                                    .doesNotContain("DroppedMetricCollections");
+    }
+
+    @Test
+    void publish_queueHalfFull_submitsOneEarlyFlush() {
+        BatchingEmfMetricWriter writer = writer(4, QueueFullPolicy.DROP_NEWEST);
+        for (int i = 0; i < 4; i++) {
+            writer.publish(collection("DynamoDB", "GetItem", i));
+        }
+
+        verify(flushExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void close_flushesQueuedCollections() throws InterruptedException {
+        when(flushExecutor.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        BatchingEmfMetricWriter writer = writer(10, QueueFullPolicy.DROP_NEWEST);
+        writer.publish(collection("DynamoDB", "GetItem", 1));
+
+        writer.close();
+        writer.publish(collection("DynamoDB", "GetItem", 2));
+
+        assertThat(loggedEmf).hasSize(1);
+        assertThat(loggedEmf.get(0)).contains("\"RetryCount\":1");
+        verify(flushExecutor).shutdown();
+    }
+
+    private BatchingEmfMetricWriter writer(int maxQueueSize, QueueFullPolicy queueFullPolicy) {
+        return new BatchingEmfMetricWriter(new MetricEmfConverter(config, fixedClock), loggedEmf::add, maxQueueSize,
+                                           Duration.ofMinutes(1), queueFullPolicy, flushExecutor);
+    }
+
+    private MetricCollection collection(String serviceId, String operationName, int retryCount) {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, serviceId);
+        collector.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        collector.reportMetric(CoreMetric.RETRY_COUNT, retryCount);
+        return collector.collect();
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.SimpleAnnotationValueVisitor8;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Generates expressions that create an instance of an annotation with the values it has in the source, so that the generated
+ * code can pass it to {@code GeneratedTableSchemas.attributeTagFor}, which creates its tag like {@code BeanTableSchema} does
+ * with the annotations it reads through reflection.
+ * <p>
+ * The instances implement {@code equals} and {@code hashCode} as specified by {@link Annotation}, so they are interchangeable
+ * with the instances returned by reflection.
+ */
+@SdkInternalApi
+final class AnnotationLiterals {
+    private static final TypeName ANNOTATION_CLASS =
+        ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Annotation.class));
+    private static final TypeName WILDCARD_CLASS =
+        ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class));
+
+    private AnnotationLiterals() {
+    }
+
+    static CodeBlock of(AnnotationMirror annotation) {
+        ClassName annotationType = ClassName.get((TypeElement) annotation.getAnnotationType().asElement());
+        TypeSpec.Builder literal = TypeSpec.anonymousClassBuilder("")
+                                           .addSuperinterface(annotationType)
+                                           .addMethod(MethodSpec.methodBuilder("annotationType")
+                                                                .addAnnotation(Override.class)
+                                                                .addModifiers(Modifier.PUBLIC)
+                                                                .returns(ANNOTATION_CLASS)
+                                                                .addStatement("return $T.class", annotationType)
+                                                                .build());
+
+        Map<ExecutableElement, AnnotationValue> values = AnnotationMirrors.valuesWithDefaults(annotation);
+        for (Map.Entry<ExecutableElement, AnnotationValue> value : values.entrySet()) {
+            ExecutableElement method = value.getKey();
+            MethodSpec.Builder member = MethodSpec.methodBuilder(method.getSimpleName().toString())
+                                                  .addAnnotation(Override.class)
+                                                  .addModifiers(Modifier.PUBLIC)
+                                                  .returns(TypeName.get(method.getReturnType()))
+                                                  .addStatement("return $L", value(value.getValue(), method.getReturnType()));
+            if (isGenericArray(method.getReturnType())) {
+                member.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                                                   .addMember("value", "$S", "unchecked")
+                                                   .build());
+            }
+            literal.addMethod(member.build());
+        }
+        return CodeBlock.of("$L", literal.addMethod(equalsMethod(annotationType, values.keySet()))
+                                         .addMethod(hashCodeMethod(values.keySet()))
+                                         .build());
+    }
+
+    /**
+     * Two annotations are equal if they have the same type and their members are equal, comparing arrays by their elements and
+     * floating point values by their bits.
+     */
+    private static MethodSpec equalsMethod(ClassName annotationType, Collection<ExecutableElement> members) {
+        MethodSpec.Builder equals = MethodSpec.methodBuilder("equals")
+                                              .addAnnotation(Override.class)
+                                              .addModifiers(Modifier.PUBLIC)
+                                              .returns(boolean.class)
+                                              .addParameter(Object.class, "o")
+                                              .beginControlFlow("if (this == o)")
+                                              .addStatement("return true")
+                                              .endControlFlow()
+                                              .beginControlFlow("if (!(o instanceof $T))", annotationType)
+                                              .addStatement("return false")
+                                              .endControlFlow();
+        if (members.isEmpty()) {
+            return equals.addStatement("return true").build();
+        }
+
+        CodeBlock.Builder comparisons = CodeBlock.builder();
+        for (ExecutableElement member : members) {
+            String name = member.getSimpleName().toString();
+            TypeMirror type = member.getReturnType();
+            comparisons.add(comparisons.isEmpty() ? "" : "\n&& ");
+            if (type.getKind() == TypeKind.ARRAY) {
+                comparisons.add("$T.equals($L(), that.$L())", Arrays.class, name, name);
+            } else if (type.getKind() == TypeKind.FLOAT) {
+                comparisons.add("$T.floatToIntBits($L()) == $T.floatToIntBits(that.$L())", Float.class, name, Float.class, name);
+            } else if (type.getKind() == TypeKind.DOUBLE) {
+                comparisons.add("$T.doubleToLongBits($L()) == $T.doubleToLongBits(that.$L())", Double.class, name, Double.class,
+                                name);
+            } else if (type.getKind().isPrimitive()) {
+                comparisons.add("$L() == that.$L()", name, name);
+            } else {
+                comparisons.add("$L().equals(that.$L())", name, name);
+            }
+        }
+        return equals.addStatement("$T that = ($T) o", annotationType, annotationType)
+                     .addStatement("return $L", comparisons.build())
+                     .build();
+    }
+
+    /**
+     * The hash code of an annotation is the sum of the hash codes of its members, each being {@code 127} times the hash code of
+     * the member name, XOR the hash code of the member value.
+     */
+    private static MethodSpec hashCodeMethod(Collection<ExecutableElement> members) {
+        MethodSpec.Builder hashCode = MethodSpec.methodBuilder("hashCode")
+                                                .addAnnotation(Override.class)
+                                                .addModifiers(Modifier.PUBLIC)
+                                                .returns(int.class);
+        if (members.isEmpty()) {
+            return hashCode.addStatement("return 0").build();
+        }
+
+        CodeBlock.Builder sum = CodeBlock.builder();
+        for (ExecutableElement member : members) {
+            String name = member.getSimpleName().toString();
+            TypeMirror type = member.getReturnType();
+            sum.add(sum.isEmpty() ? "" : "\n+ ");
+            if (type.getKind() == TypeKind.ARRAY) {
+                sum.add("(127 * $S.hashCode() ^ $T.hashCode($L()))", name, Arrays.class, name);
+            } else if (type.getKind().isPrimitive()) {
+                sum.add("(127 * $S.hashCode() ^ $T.hashCode($L()))", name, TypeName.get(type).box(), name);
+            } else {
+                sum.add("(127 * $S.hashCode() ^ $L().hashCode())", name, name);
+            }
+        }
+        return hashCode.addStatement("return $L", sum.build()).build();
+    }
+
+    /**
+     * Whether the type is an array of a parameterized type, such as {@code Class<? extends X>[]}, which can only be created
+     * with an unchecked cast.
+     */
+    private static boolean isGenericArray(TypeMirror type) {
+        if (type.getKind() != TypeKind.ARRAY) {
+            return false;
+        }
+        TypeMirror componentType = ((ArrayType) type).getComponentType();
+        return componentType.getKind() == TypeKind.DECLARED
+               && !((DeclaredType) componentType).getTypeArguments().isEmpty()
+               && !TypeName.get(componentType).equals(WILDCARD_CLASS);
+    }
+
+    private static CodeBlock value(AnnotationValue value, TypeMirror type) {
+        return value.accept(new ValueVisitor(), type);
+    }
+
+    private static final class ValueVisitor extends SimpleAnnotationValueVisitor8<CodeBlock, TypeMirror> {
+        @Override
+        public CodeBlock visitBoolean(boolean b, TypeMirror type) {
+            return CodeBlock.of("$L", b);
+        }
+
+        @Override
+        public CodeBlock visitByte(byte b, TypeMirror type) {
+            return CodeBlock.of("(byte) $L", b);
+        }
+
+        @Override
+        public CodeBlock visitChar(char c, TypeMirror type) {
+            return CodeBlock.of("(char) $L", (int) c);
+        }
+
+        @Override
+        public CodeBlock visitDouble(double d, TypeMirror type) {
+            return CodeBlock.of("$T.longBitsToDouble($LL)", Double.class, Double.doubleToRawLongBits(d));
+        }
+
+        @Override
+        public CodeBlock visitFloat(float f, TypeMirror type) {
+            return CodeBlock.of("$T.intBitsToFloat($L)", Float.class, Float.floatToRawIntBits(f));
+        }
+
+        @Override
+        public CodeBlock visitInt(int i, TypeMirror type) {
+            return CodeBlock.of("$L", i);
+        }
+
+        @Override
+        public CodeBlock visitLong(long i, TypeMirror type) {
+            return CodeBlock.of("$LL", i);
+        }
+
+        @Override
+        public CodeBlock visitShort(short s, TypeMirror type) {
+            return CodeBlock.of("(short) $L", s);
+        }
+
+        @Override
+        public CodeBlock visitString(String s, TypeMirror type) {
+            return CodeBlock.of("$S", s);
+        }
+
+        @Override
+        public CodeBlock visitType(TypeMirror t, TypeMirror type) {
+            return CodeBlock.of("$T.class", TypeName.get(t));
+        }
+
+        @Override
+        public CodeBlock visitEnumConstant(VariableElement c, TypeMirror type) {
+            return CodeBlock.of("$T.$L", TypeName.get(c.asType()), c.getSimpleName());
+        }
+
+        @Override
+        public CodeBlock visitAnnotation(AnnotationMirror a, TypeMirror type) {
+            return of(a);
+        }
+
+        /**
+         * Generic arrays cannot be created, so arrays of {@code Class<? extends X>} are created as arrays of {@code Class<?>}
+         * and cast to the member type. The member method suppresses the unchecked warning.
+         */
+        @Override
+        public CodeBlock visitArray(List<? extends AnnotationValue> values, TypeMirror type) {
+            TypeMirror componentType = ((ArrayType) type).getComponentType();
+            CodeBlock.Builder array = CodeBlock.builder();
+            if (isGenericArray(type)) {
+                array.add("($T) new $T {", TypeName.get(type), ArrayTypeName.of(WILDCARD_CLASS));
+            } else {
+                array.add("new $T {", TypeName.get(type));
+            }
+            for (int i = 0; i < values.size(); i++) {
+                array.add(i == 0 ? "" : ", ").add(values.get(i).accept(this, componentType));
+            }
+            return array.add("}").build();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Reads annotations from the source model, where their values are {@link AnnotationValue}s rather than the objects returned by
+ * reflection.
+ */
+@SdkInternalApi
+final class AnnotationMirrors {
+    private AnnotationMirrors() {
+    }
+
+    static boolean isOfType(AnnotationMirror annotation, String annotationName) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName);
+    }
+
+    static AnnotationMirror find(Element element, String annotationName) {
+        return element.getAnnotationMirrors()
+                      .stream()
+                      .filter(a -> isOfType(a, annotationName))
+                      .findFirst()
+                      .orElse(null);
+    }
+
+    /**
+     * Returns all the values of the annotation, including the default values of the elements it does not set, in declaration
+     * order.
+     */
+    static Map<ExecutableElement, AnnotationValue> valuesWithDefaults(AnnotationMirror annotation) {
+        Map<ExecutableElement, AnnotationValue> values = new LinkedHashMap<>();
+        for (ExecutableElement method : annotationMethods(annotation)) {
+            AnnotationValue value = annotation.getElementValues().get(method);
+            values.put(method, value != null ? value : method.getDefaultValue());
+        }
+        return values;
+    }
+
+    /**
+     * Returns the value of an element of the annotation, or its default value.
+     */
+    static Object value(AnnotationMirror annotation, String elementName) {
+        return valuesWithDefaults(annotation).entrySet()
+                                             .stream()
+                                             .filter(e -> e.getKey().getSimpleName().contentEquals(elementName))
+                                             .map(e -> e.getValue() == null ? null : e.getValue().getValue())
+                                             .findFirst()
+                                             .orElse(null);
+    }
+
+    /**
+     * Returns the value of a {@code Class} element of the annotation.
+     */
+    static TypeMirror classValue(AnnotationMirror annotation, String elementName) {
+        return (TypeMirror) value(annotation, elementName);
+    }
+
+    /**
+     * Returns the value of a {@code Class[]} element of the annotation.
+     */
+    @SuppressWarnings("unchecked")
+    static List<TypeMirror> classArrayValue(AnnotationMirror annotation, String elementName) {
+        List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) value(annotation, elementName);
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        return values.stream().map(v -> (TypeMirror) v.getValue()).collect(Collectors.toList());
+    }
+
+    /**
+     * Replaces the container annotations of repeated annotations with the annotations they contain, like
+     * {@code AnnotationUtils.expandAnnotations} does at runtime.
+     */
+    @SuppressWarnings("unchecked")
+    static List<AnnotationMirror> expand(List<? extends AnnotationMirror> annotations) {
+        List<AnnotationMirror> expanded = new ArrayList<>();
+        for (AnnotationMirror annotation : annotations) {
+            ExecutableElement valueMethod = annotationMethods(annotation)
+                .stream()
+                .filter(m -> m.getSimpleName().contentEquals("value"))
+                .findFirst()
+                .orElse(null);
+
+            if (valueMethod != null && isAnnotationArray(valueMethod.getReturnType())) {
+                Object contained = valuesWithDefaults(annotation).get(valueMethod).getValue();
+                ((List<? extends AnnotationValue>) contained).forEach(v -> expanded.add((AnnotationMirror) v.getValue()));
+            } else {
+                expanded.add(annotation);
+            }
+        }
+        return expanded;
+    }
+
+    private static boolean isAnnotationArray(TypeMirror type) {
+        if (type.getKind() != TypeKind.ARRAY) {
+            return false;
+        }
+        TypeMirror componentType = ((ArrayType) type).getComponentType();
+        return componentType.getKind() == TypeKind.DECLARED
+               && ((DeclaredType) componentType).asElement().getKind() == ElementKind.ANNOTATION_TYPE;
+    }
+
+    private static List<ExecutableElement> annotationMethods(AnnotationMirror annotation) {
+        return ElementFilter.methodsIn(annotation.getAnnotationType().asElement().getEnclosedElements());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import com.squareup.javapoet.ClassName;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The names of the DynamoDB Enhanced Client types read by the processor or used by the generated code. The processor refers to
+ * them by name, so that it does not need the enhanced client on its own classpath. The generated code only uses public types,
+ * so that it keeps working with later releases of the enhanced client.
+ */
+@SdkInternalApi
+final class EnhancedClientNames {
+    private static final String PACKAGE = "software.amazon.awssdk.enhanced.dynamodb";
+    private static final String MAPPER_PACKAGE = PACKAGE + ".mapper";
+    private static final String ANNOTATIONS_PACKAGE = MAPPER_PACKAGE + ".annotations";
+
+    static final String DYNAMO_DB_BEAN = ANNOTATIONS_PACKAGE + ".DynamoDbBean";
+    static final String DYNAMO_DB_IMMUTABLE = ANNOTATIONS_PACKAGE + ".DynamoDbImmutable";
+    static final String DYNAMO_DB_ATTRIBUTE = ANNOTATIONS_PACKAGE + ".DynamoDbAttribute";
+    static final String DYNAMO_DB_CONVERTED_BY = ANNOTATIONS_PACKAGE + ".DynamoDbConvertedBy";
+    static final String DYNAMO_DB_FLATTEN = ANNOTATIONS_PACKAGE + ".DynamoDbFlatten";
+    static final String DYNAMO_DB_IGNORE = ANNOTATIONS_PACKAGE + ".DynamoDbIgnore";
+    static final String DYNAMO_DB_IGNORE_NULLS = ANNOTATIONS_PACKAGE + ".DynamoDbIgnoreNulls";
+    static final String DYNAMO_DB_PRESERVE_EMPTY_OBJECT = ANNOTATIONS_PACKAGE + ".DynamoDbPreserveEmptyObject";
+    static final String BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG = ANNOTATIONS_PACKAGE + ".BeanTableSchemaAttributeTag";
+    static final String TRANSIENT = "java.beans.Transient";
+
+    static final ClassName ENHANCED_TYPE = ClassName.get(PACKAGE, "EnhancedType");
+    static final ClassName TABLE_SCHEMA = ClassName.get(PACKAGE, "TableSchema");
+    static final ClassName STATIC_TABLE_SCHEMA = ClassName.get(MAPPER_PACKAGE, "StaticTableSchema");
+    static final ClassName STATIC_IMMUTABLE_TABLE_SCHEMA = ClassName.get(MAPPER_PACKAGE, "StaticImmutableTableSchema");
+    static final ClassName GENERATED_TABLE_SCHEMAS = ClassName.get(MAPPER_PACKAGE, "GeneratedTableSchemas");
+
+    private EnhancedClientNames() {
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_IGNORE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_IMMUTABLE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.TRANSIENT;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Finds the properties of annotated classes in the source model, following the same rules as {@code BeanTableSchema} and
+ * {@code ImmutableTableSchema} do with reflection at runtime.
+ */
+@SdkInternalApi
+final class ItemIntrospector {
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+    private static final String BUILD_METHOD = "build";
+    private static final String BUILDER_METHOD = "builder";
+    private static final String TO_BUILDER_METHOD = "toBuilder";
+
+    private final Elements elements;
+    private final Types types;
+    private final Set<String> objectMethodNames;
+
+    ItemIntrospector(ProcessingEnvironment processingEnv) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.objectMethodNames = new HashSet<>();
+        ElementFilter.methodsIn(elements.getTypeElement(Object.class.getName()).getEnclosedElements())
+                     .stream()
+                     .filter(m -> m.getModifiers().contains(Modifier.PUBLIC))
+                     .forEach(m -> objectMethodNames.add(m.getSimpleName().toString()));
+        this.objectMethodNames.add(TO_BUILDER_METHOD);
+    }
+
+    ItemModel introspect(TypeElement itemType) {
+        validateItemType(itemType);
+        AnnotationMirror immutable = AnnotationMirrors.find(itemType, DYNAMO_DB_IMMUTABLE);
+        return immutable != null ? introspectImmutable(itemType, immutable)
+                                 : introspectBean(itemType, AnnotationMirrors.find(itemType, DYNAMO_DB_BEAN));
+    }
+
+    private void validateItemType(TypeElement itemType) {
+        if (itemType.getKind() != ElementKind.CLASS && itemType.getKind() != ElementKind.INTERFACE) {
+            throw new ProcessingException(itemType, "Only classes can be annotated with @DynamoDbBean or @DynamoDbImmutable.");
+        }
+        if (!itemType.getTypeParameters().isEmpty()) {
+            throw new ProcessingException(itemType, "A table schema cannot be generated for a generic class. Use "
+                                                    + "TableSchema.fromClass() instead.");
+        }
+        if (itemType.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new ProcessingException(itemType, "A table schema cannot be generated for a private class.");
+        }
+        if (itemType.getNestingKind() == NestingKind.MEMBER && !itemType.getModifiers().contains(Modifier.STATIC)) {
+            throw new ProcessingException(itemType, "A table schema cannot be generated for an inner class, it must be static.");
+        }
+    }
+
+    private ItemModel introspectBean(TypeElement beanType, AnnotationMirror dynamoDbBean) {
+        if (beanType.getKind() != ElementKind.CLASS || beanType.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new ProcessingException(beanType, "A DynamoDb bean class must be a concrete class.");
+        }
+        if (!hasPublicNoArgConstructor(beanType)) {
+            throw new ProcessingException(beanType, "A DynamoDb bean class must have a public constructor that takes no "
+                                                    + "arguments.");
+        }
+
+        // Like java.beans.Introspector, properties are sorted by name.
+        Map<String, ExecutableElement> getters = new TreeMap<>();
+        Map<String, List<ExecutableElement>> setters = new LinkedHashMap<>();
+        for (ExecutableElement method : publicInstanceMethods(beanType)) {
+            String name = method.getSimpleName().toString();
+            int parameters = method.getParameters().size();
+            TypeMirror returnType = method.getReturnType();
+
+            if (parameters == 0 && name.length() > GET_PREFIX.length() && name.startsWith(GET_PREFIX)
+                && returnType.getKind() != TypeKind.VOID) {
+                getters.putIfAbsent(decapitalize(name.substring(GET_PREFIX.length())), method);
+            } else if (parameters == 0 && name.length() > IS_PREFIX.length() && name.startsWith(IS_PREFIX)
+                       && returnType.getKind() == TypeKind.BOOLEAN) {
+                // An "is" getter takes precedence over a "get" getter of the same property.
+                getters.put(decapitalize(name.substring(IS_PREFIX.length())), method);
+            } else if (parameters == 1 && name.length() > SET_PREFIX.length() && name.startsWith(SET_PREFIX)) {
+                setters.computeIfAbsent(decapitalize(name.substring(SET_PREFIX.length())), n -> new ArrayList<>()).add(method);
+            }
+        }
+
+        List<PropertyModel> properties = new ArrayList<>();
+        getters.forEach((name, getter) -> {
+            ExecutableElement setter = findBeanSetter(beanType, getter, setters.getOrDefault(name, new ArrayList<>()));
+            if (setter == null) {
+                return;
+            }
+            PropertyModel property = new PropertyModel(name, getter, setter, propertyAnnotations(getter, setter));
+            if (!property.hasAnnotation(DYNAMO_DB_IGNORE) && !property.hasAnnotation(TRANSIENT)) {
+                properties.add(property);
+            }
+        });
+
+        return ItemModel.bean(beanType,
+                              AnnotationMirrors.classArrayValue(dynamoDbBean, "converterProviders"),
+                              properties);
+    }
+
+    /**
+     * Finds the setter with a parameter of the type returned by the getter. Setters that return nothing are preferred over
+     * fluent setters that return the bean.
+     */
+    private ExecutableElement findBeanSetter(TypeElement beanType, ExecutableElement getter, List<ExecutableElement> setters) {
+        ExecutableElement fluentSetter = null;
+        for (ExecutableElement setter : setters) {
+            if (!types.isSameType(setter.getParameters().get(0).asType(), getter.getReturnType())) {
+                continue;
+            }
+            TypeMirror returnType = setter.getReturnType();
+            if (returnType.getKind() == TypeKind.VOID) {
+                return setter;
+            }
+            if (fluentSetter == null && types.isSameType(returnType, beanType.asType())) {
+                fluentSetter = setter;
+            }
+        }
+        return fluentSetter;
+    }
+
+    private ItemModel introspectImmutable(TypeElement immutableType, AnnotationMirror dynamoDbImmutable) {
+        TypeMirror builderMirror = AnnotationMirrors.classValue(dynamoDbImmutable, "builder");
+        if (builderMirror == null || builderMirror.getKind() != TypeKind.DECLARED) {
+            throw new ProcessingException(immutableType, "The builder of a DynamoDb immutable class must be a class.");
+        }
+        TypeElement builderType = (TypeElement) ((DeclaredType) builderMirror).asElement();
+        ExecutableElement staticBuilderMethod = findStaticBuilderMethod(immutableType, builderMirror);
+        if (staticBuilderMethod == null && (builderType.getKind() != ElementKind.CLASS
+                                            || builderType.getModifiers().contains(Modifier.ABSTRACT)
+                                            || !hasPublicNoArgConstructor(builderType))) {
+            throw new ProcessingException(immutableType, "A DynamoDb immutable class must have a public static builder() "
+                                                         + "method, or a builder class with a public constructor that "
+                                                         + "takes no arguments.");
+        }
+
+        Map<String, ExecutableElement> builderMethods = new LinkedHashMap<>();
+        for (ExecutableElement method : mappableMethods(builderType)) {
+            ExecutableElement previous = builderMethods.put(normalizeSetterName(method), method);
+            if (previous != null) {
+                throw new ProcessingException(method, "The builder of a DynamoDb immutable class has more than one method "
+                                                      + "for the same property.");
+            }
+        }
+
+        ExecutableElement buildMethod = builderMethods.remove(BUILD_METHOD);
+        if (buildMethod == null
+            || !buildMethod.getParameters().isEmpty()
+            || !types.isSameType(buildMethod.getReturnType(), immutableType.asType())) {
+            throw new ProcessingException(builderType, "An immutable builder class must have a public method named 'build()' "
+                                                       + "that takes no arguments and returns an instance of the immutable "
+                                                       + "class it builds");
+        }
+
+        List<PropertyModel> properties = new ArrayList<>();
+        for (ExecutableElement getter : mappableMethods(immutableType)) {
+            if (getter.getReturnType().getKind() == TypeKind.VOID || !getter.getParameters().isEmpty()) {
+                throw methodException(getter, "A method was found on the immutable class that does not appear to be a valid "
+                                              + "getter due to the return type being void or it having one or more "
+                                              + "parameters.");
+            }
+
+            String name = normalizeGetterName(getter);
+            ExecutableElement setter = builderMethods.remove(name);
+            if (setter == null || !isValidImmutableSetter(setter, getter, builderMirror)) {
+                throw methodException(getter, "A method was found on the immutable class that does not appear to have a "
+                                              + "matching setter on the builder class.");
+            }
+            properties.add(new PropertyModel(name, getter, setter, propertyAnnotations(getter, setter)));
+        }
+
+        if (!builderMethods.isEmpty()) {
+            throw methodException(builderMethods.values().iterator().next(),
+                                  "A method was found on the immutable class builder that does not appear to have a matching "
+                                  + "getter on the immutable class.");
+        }
+
+        return ItemModel.immutable(immutableType,
+                                   builderType,
+                                   staticBuilderMethod,
+                                   AnnotationMirrors.classArrayValue(dynamoDbImmutable, "converterProviders"),
+                                   properties);
+    }
+
+    private ExecutableElement findStaticBuilderMethod(TypeElement immutableType, TypeMirror builderType) {
+        return ElementFilter.methodsIn(immutableType.getEnclosedElements())
+                            .stream()
+                            .filter(m -> m.getSimpleName().contentEquals(BUILDER_METHOD)
+                                         && m.getParameters().isEmpty()
+                                         && m.getModifiers().contains(Modifier.PUBLIC)
+                                         && m.getModifiers().contains(Modifier.STATIC)
+                                         && types.isAssignable(builderType, m.getReturnType()))
+                            .findFirst()
+                            .orElse(null);
+    }
+
+    private boolean isValidImmutableSetter(ExecutableElement setter, ExecutableElement getter, TypeMirror builderType) {
+        if (setter.getParameters().size() != 1
+            || !types.isSameType(types.erasure(setter.getParameters().get(0).asType()),
+                                 types.erasure(getter.getReturnType()))) {
+            return false;
+        }
+        TypeMirror returnType = setter.getReturnType();
+        return returnType.getKind() == TypeKind.VOID || types.isAssignable(builderType, returnType);
+    }
+
+    private ProcessingException methodException(ExecutableElement method, String message) {
+        return new ProcessingException(method, message + " Use the @DynamoDbIgnore annotation on the method if you do not "
+                                               + "want it to be included in the TableSchema introspection. [Method = \""
+                                               + method.getEnclosingElement() + "." + method + "\"]");
+    }
+
+    /**
+     * The public instance methods that can be mapped, like {@code ImmutableIntrospector} finds them.
+     */
+    private List<ExecutableElement> mappableMethods(TypeElement type) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : publicInstanceMethods(type)) {
+            if (!objectMethodNames.contains(method.getSimpleName().toString())
+                && AnnotationMirrors.find(method, DYNAMO_DB_IGNORE) == null
+                && AnnotationMirrors.find(method, TRANSIENT) == null) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (method.getModifiers().contains(Modifier.PUBLIC)
+                && !method.getModifiers().contains(Modifier.STATIC)
+                && !((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName())) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private boolean hasPublicNoArgConstructor(TypeElement type) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements())
+                            .stream()
+                            .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+    }
+
+    private static List<AnnotationMirror> propertyAnnotations(ExecutableElement getter, ExecutableElement setter) {
+        List<AnnotationMirror> annotations = new ArrayList<>(AnnotationMirrors.expand(getter.getAnnotationMirrors()));
+        annotations.addAll(AnnotationMirrors.expand(setter.getAnnotationMirrors()));
+        return annotations;
+    }
+
+    private static String normalizeSetterName(ExecutableElement setter) {
+        String name = setter.getSimpleName().toString();
+        if (name.length() > SET_PREFIX.length() && name.startsWith(SET_PREFIX) && Character.isUpperCase(name.charAt(3))) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    private static String normalizeGetterName(ExecutableElement getter) {
+        String name = getter.getSimpleName().toString();
+        TypeMirror returnType = getter.getReturnType();
+        boolean isBoolean = returnType.getKind() == TypeKind.BOOLEAN || returnType.toString().equals(Boolean.class.getName());
+
+        if (name.length() > IS_PREFIX.length() && name.startsWith(IS_PREFIX) && Character.isUpperCase(name.charAt(2))
+            && isBoolean) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+        if (name.length() > GET_PREFIX.length() && name.startsWith(GET_PREFIX) && Character.isUpperCase(name.charAt(3))) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    /**
+     * Same as {@code java.beans.Introspector.decapitalize}.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.util.List;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A class annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable}, as seen by the table schema that is generated
+ * for it.
+ */
+@SdkInternalApi
+final class ItemModel {
+    private final TypeElement itemType;
+    private final TypeElement builderType;
+    private final ExecutableElement staticBuilderMethod;
+    private final List<TypeMirror> converterProviders;
+    private final List<PropertyModel> properties;
+
+    private ItemModel(TypeElement itemType,
+                      TypeElement builderType,
+                      ExecutableElement staticBuilderMethod,
+                      List<TypeMirror> converterProviders,
+                      List<PropertyModel> properties) {
+        this.itemType = itemType;
+        this.builderType = builderType;
+        this.staticBuilderMethod = staticBuilderMethod;
+        this.converterProviders = converterProviders;
+        this.properties = properties;
+    }
+
+    static ItemModel bean(TypeElement beanType, List<TypeMirror> converterProviders, List<PropertyModel> properties) {
+        return new ItemModel(beanType, null, null, converterProviders, properties);
+    }
+
+    static ItemModel immutable(TypeElement immutableType,
+                               TypeElement builderType,
+                               ExecutableElement staticBuilderMethod,
+                               List<TypeMirror> converterProviders,
+                               List<PropertyModel> properties) {
+        return new ItemModel(immutableType, builderType, staticBuilderMethod, converterProviders, properties);
+    }
+
+    TypeElement itemType() {
+        return itemType;
+    }
+
+    boolean isImmutable() {
+        return builderType != null;
+    }
+
+    /**
+     * The builder class of an immutable class, or null for a bean.
+     */
+    TypeElement builderType() {
+        return builderType;
+    }
+
+    /**
+     * The static {@code builder()} method of an immutable class, or null if the builder is created with its constructor.
+     */
+    ExecutableElement staticBuilderMethod() {
+        return staticBuilderMethod;
+    }
+
+    List<TypeMirror> converterProviders() {
+        return converterProviders;
+    }
+
+    List<PropertyModel> properties() {
+        return properties;
+    }
+}
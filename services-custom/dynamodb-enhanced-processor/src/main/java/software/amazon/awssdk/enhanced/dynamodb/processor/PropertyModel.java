@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.util.List;
+import java.util.Optional;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A property of an annotated class that is mapped to an attribute, or flattened into the item.
+ */
+@SdkInternalApi
+final class PropertyModel {
+    private final String name;
+    private final ExecutableElement getter;
+    private final ExecutableElement setter;
+    private final List<AnnotationMirror> annotations;
+
+    PropertyModel(String name, ExecutableElement getter, ExecutableElement setter, List<AnnotationMirror> annotations) {
+        this.name = name;
+        this.getter = getter;
+        this.setter = setter;
+        this.annotations = annotations;
+    }
+
+    /**
+     * The name of the property, derived from the name of its getter.
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * The name of the attribute the property is mapped to, which can be overridden with {@code @DynamoDbAttribute}.
+     */
+    String attributeName() {
+        return annotation(EnhancedClientNames.DYNAMO_DB_ATTRIBUTE)
+            .map(a -> (String) AnnotationMirrors.value(a, "value"))
+            .orElse(name);
+    }
+
+    ExecutableElement getter() {
+        return getter;
+    }
+
+    ExecutableElement setter() {
+        return setter;
+    }
+
+    TypeMirror type() {
+        return getter.getReturnType();
+    }
+
+    /**
+     * The annotations of the getter followed by the annotations of the setter, with repeated annotations taken out of their
+     * container annotation.
+     */
+    List<AnnotationMirror> annotations() {
+        return annotations;
+    }
+
+    /**
+     * Returns the annotation of the given type, looking at the getter before the setter.
+     */
+    Optional<AnnotationMirror> annotation(String annotationName) {
+        return annotations.stream()
+                          .filter(a -> AnnotationMirrors.isOfType(a, annotationName))
+                          .findFirst();
+    }
+
+    boolean hasAnnotation(String annotationName) {
+        return annotation(annotationName).isPresent();
+    }
+}
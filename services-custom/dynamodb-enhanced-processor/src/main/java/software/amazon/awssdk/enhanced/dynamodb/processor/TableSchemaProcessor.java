@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_IMMUTABLE;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Generates the table schema of classes annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable} at compile time.
+ *
+ * <p>For a class {@code Customer}, a class {@code CustomerTableSchema} is generated in the same package. Its
+ * {@code create()} method returns a {@code StaticTableSchema} equivalent to {@code TableSchema.fromClass(Customer.class)}, which
+ * reads and writes attributes through method references rather than reflection and lambda metafactories. This avoids the cost
+ * of introspecting the class the first time its schema is used, which dominates the cold start of short-lived applications:
+ *
+ * <pre>{@code
+ * DynamoDbTable<Customer> customers = enhancedClient.table("customers", CustomerTableSchema.create());
+ * }</pre>
+ *
+ * <p>To enable the processor, add {@code dynamodb-enhanced-processor} to the annotation processor path of the compiler. Use the
+ * same version as {@code dynamodb-enhanced}. The generated code only calls public APIs of the enhanced client, so compiled
+ * schemas keep working when the enhanced client is upgraded, but an older processor does not know about annotations added
+ * to newer versions of the enhanced client.
+ */
+@SdkPublicApi
+public final class TableSchemaProcessor extends AbstractProcessor {
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> supported = new HashSet<>();
+        supported.add(DYNAMO_DB_BEAN);
+        supported.add(DYNAMO_DB_IMMUTABLE);
+        return supported;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, ItemModel> items = new LinkedHashMap<>();
+        ItemIntrospector introspector = new ItemIntrospector(processingEnv);
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.INTERFACE) {
+                    continue;
+                }
+                TypeElement itemType = (TypeElement) element;
+                try {
+                    items.putIfAbsent(itemType, introspector.introspect(itemType));
+                } catch (ProcessingException e) {
+                    error(e);
+                }
+            }
+        }
+
+        if (items.isEmpty()) {
+            return false;
+        }
+
+        Map<TypeElement, Set<TypeElement>> references = new HashMap<>();
+        items.forEach((type, item) -> references.put(type, TableSchemaWriter.referencedItemClasses(item)));
+        TableSchemaWriter writer = new TableSchemaWriter(processingEnv.getElementUtils(), processingEnv.getTypeUtils(),
+                                                         (from, to) -> hasGeneratedSchema(items, to)
+                                                                       && !isReachable(references, to, from));
+
+        for (ItemModel item : items.values()) {
+            try {
+                writer.write(item).writeTo(processingEnv.getFiler());
+            } catch (ProcessingException e) {
+                error(e);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                         "Unable to write the table schema: " + e.getMessage(),
+                                                         item.itemType());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether a generated schema can be referred to: the class is processed in this round, or was generated in a previous
+     * round or compilation.
+     */
+    private boolean hasGeneratedSchema(Map<TypeElement, ItemModel> items, TypeElement itemType) {
+        return items.containsKey(itemType)
+               || processingEnv.getElementUtils()
+                               .getTypeElement(TableSchemaWriter.generatedClassName(itemType).canonicalName()) != null;
+    }
+
+    /**
+     * Whether the schema of {@code from} refers, directly or not, to the schema of {@code to}. Generated schemas that refer to
+     * each other would need each other during their static initialization, so the schemas of recursive classes are created
+     * through reflection like {@code BeanTableSchema} does, which supports them.
+     */
+    private static boolean isReachable(Map<TypeElement, Set<TypeElement>> references, TypeElement from, TypeElement to) {
+        Set<TypeElement> visited = new HashSet<>();
+        Deque<TypeElement> toVisit = new ArrayDeque<>();
+        toVisit.push(from);
+        while (!toVisit.isEmpty()) {
+            TypeElement current = toVisit.pop();
+            if (current.equals(to)) {
+                return true;
+            }
+            if (visited.add(current)) {
+                references.getOrDefault(current, Collections.emptySet()).forEach(toVisit::push);
+            }
+        }
+        return false;
+    }
+
+    private void error(ProcessingException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element());
+    }
+}
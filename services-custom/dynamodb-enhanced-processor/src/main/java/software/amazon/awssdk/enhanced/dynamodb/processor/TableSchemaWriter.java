@@ -0,0 +1,437 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_CONVERTED_BY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_FLATTEN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_IGNORE_NULLS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_IMMUTABLE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_PRESERVE_EMPTY_OBJECT;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.ENHANCED_TYPE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.GENERATED_TABLE_SCHEMAS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.STATIC_IMMUTABLE_TABLE_SCHEMA;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.STATIC_TABLE_SCHEMA;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.TABLE_SCHEMA;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Writes the class that creates the table schema of an annotated class. For a class {@code Customer}, the class is named
+ * {@code CustomerTableSchema} and is generated in the same package:
+ *
+ * <pre>{@code
+ * public final class CustomerTableSchema {
+ *     public static StaticTableSchema<Customer> create() { ... }
+ *
+ *     public static StaticTableSchema<Customer> createFlattened() { ... }
+ *
+ *     private static StaticTableSchema<Customer> create(boolean flattened) {
+ *         StaticTableSchema.Builder<Customer> builder =
+ *             StaticTableSchema.builder(Customer.class)
+ *                              .newItemSupplier(Customer::new)
+ *                              .attributeConverterProviders(new DefaultAttributeConverterProvider());
+ *         builder.addAttribute(String.class, a -> a.name("id")
+ *                                                  .getter(Customer::getId)
+ *                                                  .setter(Customer::setId)
+ *                                                  .addTag(GeneratedTableSchemas.attributeTagFor(...)));
+ *         return flattened ? GeneratedTableSchemas.buildFlattened(builder) : builder.build();
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>The generated code only calls public types of the enhanced client: the static schema builders, {@code TableSchema}, and
+ * {@code GeneratedTableSchemas} for what the static builders do not cover.
+ */
+@SdkInternalApi
+final class TableSchemaWriter {
+    private static final String GENERATED_CLASS_SUFFIX = "TableSchema";
+    private static final String[] GENERATED_ANNOTATIONS = {"javax.annotation.processing.Generated", "javax.annotation.Generated"};
+
+    private final Elements elements;
+    private final Types types;
+    private final BiPredicate<TypeElement, TypeElement> useGeneratedSchema;
+
+    /**
+     * @param useGeneratedSchema whether the schema of the first class should refer to the generated schema of the second class,
+     * rather than create it through reflection at runtime
+     */
+    TableSchemaWriter(Elements elements, Types types, BiPredicate<TypeElement, TypeElement> useGeneratedSchema) {
+        this.elements = elements;
+        this.types = types;
+        this.useGeneratedSchema = useGeneratedSchema;
+    }
+
+    /**
+     * The name of the class generated for an annotated class. The names of enclosing classes are part of it, so that nested
+     * classes with the same name do not conflict.
+     */
+    static ClassName generatedClassName(TypeElement itemType) {
+        ClassName itemClass = ClassName.get(itemType);
+        return ClassName.get(itemClass.packageName(), String.join("_", itemClass.simpleNames()) + GENERATED_CLASS_SUFFIX);
+    }
+
+    static boolean isItemClass(TypeElement type) {
+        return AnnotationMirrors.find(type, DYNAMO_DB_BEAN) != null || AnnotationMirrors.find(type, DYNAMO_DB_IMMUTABLE) != null;
+    }
+
+    /**
+     * Returns the annotated classes that the schema of the item refers to, as documents or flattened objects.
+     */
+    static Set<TypeElement> referencedItemClasses(ItemModel item) {
+        Set<TypeElement> referenced = new LinkedHashSet<>();
+        for (PropertyModel property : item.properties()) {
+            collectItemClasses(property.type(), referenced);
+        }
+        return referenced;
+    }
+
+    private static void collectItemClasses(TypeMirror type, Set<TypeElement> referenced) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        if (isItemClass(element)) {
+            referenced.add(element);
+        }
+        ((DeclaredType) type).getTypeArguments().forEach(t -> collectItemClasses(t, referenced));
+    }
+
+    JavaFile write(ItemModel item) {
+        TypeElement itemType = item.itemType();
+        ClassName itemClass = ClassName.get(itemType);
+        ClassName generatedClass = generatedClassName(itemType);
+        TypeName schemaType = item.isImmutable()
+                              ? ParameterizedTypeName.get(STATIC_IMMUTABLE_TABLE_SCHEMA, itemClass,
+                                                          ClassName.get(item.builderType()))
+                              : ParameterizedTypeName.get(STATIC_TABLE_SCHEMA, itemClass);
+
+        TypeSpec holder = TypeSpec.classBuilder("Holder")
+                                  .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                                  .addField(FieldSpec.builder(schemaType, "INSTANCE",
+                                                              Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                                                     .initializer("create(false)")
+                                                     .build())
+                                  .build();
+
+        MethodSpec create = MethodSpec.methodBuilder("create")
+                                      .addJavadoc("Returns the table schema of {@link $T}. It is created the first time this "
+                                                  + "method is called.\n", itemClass)
+                                      .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                                      .returns(schemaType)
+                                      .addStatement("return $N.INSTANCE", holder)
+                                      .build();
+
+        MethodSpec createFlattened = MethodSpec.methodBuilder("createFlattened")
+                                               .addJavadoc("Creates a new table schema of {@link $T}, to be flattened into the "
+                                                           + "schema of another class.\n", itemClass)
+                                               .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                                               .returns(schemaType)
+                                               .addStatement("return create(true)")
+                                               .build();
+
+        MethodSpec createSchema = MethodSpec.methodBuilder("create")
+                                            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                            .addParameter(TypeName.BOOLEAN, "flattened")
+                                            .returns(schemaType)
+                                            .addCode(item.isImmutable() ? immutableSchema(item) : beanSchema(item))
+                                            .build();
+
+        TypeSpec.Builder type = TypeSpec.classBuilder(generatedClass)
+                                        .addOriginatingElement(itemType)
+                                        .addJavadoc("The table schema of {@link $T}, generated at compile time from its "
+                                                    + "annotations.\n", itemClass)
+                                        .addModifiers(Modifier.FINAL)
+                                        .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                                        .addMethod(create)
+                                        .addMethod(createFlattened)
+                                        .addMethod(createSchema)
+                                        .addType(holder);
+        if (itemType.getModifiers().contains(Modifier.PUBLIC)) {
+            type.addModifiers(Modifier.PUBLIC);
+        }
+        generatedAnnotation().ifPresent(type::addAnnotation);
+
+        return JavaFile.builder(generatedClass.packageName(), type.build())
+                       .skipJavaLangImports(true)
+                       .build();
+    }
+
+    private Optional<AnnotationSpec> generatedAnnotation() {
+        for (String name : GENERATED_ANNOTATIONS) {
+            TypeElement generated = elements.getTypeElement(name);
+            if (generated != null) {
+                return Optional.of(AnnotationSpec.builder(ClassName.get(generated))
+                                                           .addMember("value", "$S", TableSchemaProcessor.class.getName())
+                                                           .build());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private CodeBlock beanSchema(ItemModel item) {
+        ClassName itemClass = ClassName.get(item.itemType());
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.add("$T builder =\n", ParameterizedTypeName.get(STATIC_TABLE_SCHEMA.nestedClass("Builder"), itemClass))
+            .indent().indent()
+            .add("$T.builder($T.class)\n", STATIC_TABLE_SCHEMA, itemClass)
+            .add(".newItemSupplier($T::new)\n", itemClass)
+            .add(".attributeConverterProviders($L);\n", converterProviders(item))
+            .unindent().unindent();
+        addProperties(code, item, itemClass);
+        return code.addStatement("return flattened ? $T.buildFlattened(builder) : builder.build()", GENERATED_TABLE_SCHEMAS)
+                   .build();
+    }
+
+    private CodeBlock immutableSchema(ItemModel item) {
+        ClassName itemClass = ClassName.get(item.itemType());
+        ClassName builderClass = ClassName.get(item.builderType());
+        ExecutableElement staticBuilderMethod = item.staticBuilderMethod();
+
+        CodeBlock newBuilder;
+        if (staticBuilderMethod == null) {
+            newBuilder = CodeBlock.of("$T::new", builderClass);
+        } else if (types.isSameType(staticBuilderMethod.getReturnType(), item.builderType().asType())) {
+            newBuilder = CodeBlock.of("$T::builder", itemClass);
+        } else {
+            newBuilder = CodeBlock.of("() -> ($T) $T.builder()", builderClass, itemClass);
+        }
+
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.add("$T builder =\n",
+                 ParameterizedTypeName.get(STATIC_IMMUTABLE_TABLE_SCHEMA.nestedClass("Builder"), itemClass, builderClass))
+            .indent().indent()
+            .add("$T.builder($T.class, $T.class)\n", STATIC_IMMUTABLE_TABLE_SCHEMA, itemClass, builderClass)
+            .add(".newItemBuilder($L, $T::build)\n", newBuilder, builderClass)
+            .add(".attributeConverterProviders($L);\n", converterProviders(item))
+            .unindent().unindent();
+        addProperties(code, item, builderClass);
+        // Indices are validated by the tables that use an immutable schema, flattening only matters to bean schemas.
+        return code.addStatement("return builder.build()").build();
+    }
+
+    private CodeBlock converterProviders(ItemModel item) {
+        CodeBlock.Builder providers = CodeBlock.builder();
+        List<TypeMirror> providerTypes = item.converterProviders();
+        for (int i = 0; i < providerTypes.size(); i++) {
+            providers.add(i == 0 ? "" : ", ").add("new $T()", TypeName.get(providerTypes.get(i)));
+        }
+        return providers.build();
+    }
+
+    private void addProperties(CodeBlock.Builder code, ItemModel item, ClassName setterClass) {
+        ClassName itemClass = ClassName.get(item.itemType());
+        boolean flattenedMap = false;
+
+        for (PropertyModel property : item.properties()) {
+            CodeBlock getter = CodeBlock.of("$T::$N", itemClass, property.getter().getSimpleName().toString());
+            CodeBlock setter = CodeBlock.of("$T::$N", setterClass, property.setter().getSimpleName().toString());
+
+            if (property.hasAnnotation(DYNAMO_DB_FLATTEN)) {
+                if (isMap(property.type())) {
+                    if (!isStringMap(property.type())) {
+                        throw new ProcessingException(property.getter(), "@DynamoDbFlatten on Map properties can only be "
+                                                                         + "applied to Map<String, String> attributes");
+                    }
+                    if (flattenedMap) {
+                        throw new ProcessingException(property.getter(), "Multiple @DynamoDbFlatten Map<String, String> "
+                                                                         + "properties found. Only one flattened map per "
+                                                                         + "class is supported.");
+                    }
+                    flattenedMap = true;
+                    code.addStatement("builder.flatten($S, $L, $L)", property.name(), getter, setter);
+                } else {
+                    code.addStatement("builder.flatten($L, $L, $L)", flattenedSchema(item, property), getter, setter);
+                }
+                continue;
+            }
+
+            CodeBlock.Builder attribute = CodeBlock.builder()
+                                                   .add("builder.addAttribute($L, a -> a.name($S)\n",
+                                                        attributeType(item, property), property.attributeName())
+                                                   .indent().indent()
+                                                   .add(".getter($L)\n", getter)
+                                                   .add(".setter($L)", setter);
+
+            property.annotation(DYNAMO_DB_CONVERTED_BY).ifPresent(convertedBy -> {
+                TypeMirror converter = AnnotationMirrors.classValue(convertedBy, "value");
+                attribute.add("\n.attributeConverter(new $T())", TypeName.get(converter));
+            });
+
+            for (AnnotationMirror annotation : property.annotations()) {
+                AnnotationMirror tag = AnnotationMirrors.find(annotation.getAnnotationType().asElement(),
+                                                              BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG);
+                if (tag != null) {
+                    attribute.add("\n.addTag($T.attributeTagFor($L))", GENERATED_TABLE_SCHEMAS,
+                                  AnnotationLiterals.of(annotation));
+                }
+            }
+
+            code.add(attribute.add(");\n").unindent().unindent().build());
+        }
+    }
+
+    private CodeBlock flattenedSchema(ItemModel item, PropertyModel property) {
+        TypeMirror type = property.type();
+        TypeElement flattened = type.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) type).asElement() : null;
+        if (flattened == null || !isItemClass(flattened)) {
+            throw new ProcessingException(property.getter(), "A @DynamoDbFlatten property must be a Map<String, String>, or a "
+                                                             + "class annotated with @DynamoDbBean or @DynamoDbImmutable.");
+        }
+        if (useGeneratedSchema.test(item.itemType(), flattened)) {
+            return CodeBlock.of("$T.createFlattened()", generatedClassName(flattened));
+        }
+        return CodeBlock.of("$T.flattenedTableSchema($T.class)", GENERATED_TABLE_SCHEMAS, ClassName.get(flattened));
+    }
+
+    /**
+     * The first argument of {@code addAttribute}: a class for simple types, or an {@code EnhancedType} otherwise.
+     */
+    private CodeBlock attributeType(ItemModel item, PropertyModel property) {
+        TypeMirror type = property.type();
+        if (type.getKind().isPrimitive()) {
+            return CodeBlock.of("$T.class", ClassName.get(types.boxedClass((PrimitiveType) type)));
+        }
+        if (type.getKind() == TypeKind.DECLARED
+            && ((DeclaredType) type).getTypeArguments().isEmpty()
+            && !isItemClass((TypeElement) ((DeclaredType) type).asElement())) {
+            return CodeBlock.of("$T.class", TypeName.get(type));
+        }
+        return enhancedType(item, property, type);
+    }
+
+    /**
+     * Creates the {@code EnhancedType} of a property type, using the schema of annotated classes for documents, like
+     * {@code BeanTableSchema.convertTypeToEnhancedType} does at runtime.
+     */
+    private CodeBlock enhancedType(ItemModel item, PropertyModel property, TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return CodeBlock.of("$T.of($T.class)", ENHANCED_TYPE, ClassName.get(types.boxedClass((PrimitiveType) type)));
+            case ARRAY:
+                validateConcrete(property, type);
+                return CodeBlock.of("$T.of($T.class)", ENHANCED_TYPE, TypeName.get(type));
+            case DECLARED:
+                return declaredEnhancedType(item, property, (DeclaredType) type);
+            default:
+                throw unsupportedType(property);
+        }
+    }
+
+    private CodeBlock declaredEnhancedType(ItemModel item, PropertyModel property, DeclaredType type) {
+        TypeElement element = (TypeElement) type.asElement();
+        List<? extends TypeMirror> typeArguments = type.getTypeArguments();
+
+        if (element.getQualifiedName().contentEquals(List.class.getName()) && typeArguments.size() == 1) {
+            return CodeBlock.of("$T.listOf($L)", ENHANCED_TYPE, enhancedType(item, property, typeArguments.get(0)));
+        }
+        if (isMap(type) && typeArguments.size() == 2) {
+            validateConcrete(property, typeArguments.get(0));
+            return CodeBlock.of("$T.mapOf($T.of($T.class), $L)", ENHANCED_TYPE, ENHANCED_TYPE,
+                                TypeName.get(types.erasure(typeArguments.get(0))),
+                                enhancedType(item, property, typeArguments.get(1)));
+        }
+        if (!typeArguments.isEmpty()) {
+            // Captures the type arguments through an anonymous subclass, like EnhancedType.of(Type) does with reflection.
+            validateConcrete(property, type);
+            return CodeBlock.of("$L", TypeSpec.anonymousClassBuilder("")
+                                              .superclass(ParameterizedTypeName.get(ENHANCED_TYPE, TypeName.get(type)))
+                                              .build());
+        }
+        if (isItemClass(element)) {
+            return CodeBlock.of("$T.documentOf($T.class, $L, b -> b.preserveEmptyObject($L).ignoreNulls($L))",
+                                ENHANCED_TYPE, ClassName.get(element), documentSchema(item, element),
+                                property.hasAnnotation(DYNAMO_DB_PRESERVE_EMPTY_OBJECT),
+                                property.hasAnnotation(DYNAMO_DB_IGNORE_NULLS));
+        }
+        return CodeBlock.of("$T.of($T.class)", ENHANCED_TYPE, ClassName.get(element));
+    }
+
+    private CodeBlock documentSchema(ItemModel item, TypeElement document) {
+        if (useGeneratedSchema.test(item.itemType(), document)) {
+            return CodeBlock.of("$T.create()", generatedClassName(document));
+        }
+        return CodeBlock.of("$T.fromClass($T.class)", TABLE_SCHEMA, ClassName.get(document));
+    }
+
+    private void validateConcrete(PropertyModel property, TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                ((DeclaredType) type).getTypeArguments().forEach(t -> validateConcrete(property, t));
+                return;
+            case ARRAY:
+                validateConcrete(property, ((ArrayType) type).getComponentType());
+                return;
+            default:
+                if (!type.getKind().isPrimitive()) {
+                    throw unsupportedType(property);
+                }
+        }
+    }
+
+    private ProcessingException unsupportedType(PropertyModel property) {
+        return new ProcessingException(property.getter(), "A table schema cannot be generated for a property of type "
+                                                          + property.type() + ". Type variables and wildcards are not "
+                                                          + "supported, use TableSchema.fromClass() instead.");
+    }
+
+    private boolean isMap(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+               && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(Map.class.getName());
+    }
+
+    private boolean isStringMap(TypeMirror type) {
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+        TypeMirror string = elements.getTypeElement(String.class.getName()).asType();
+        return typeArguments.size() == 2
+               && types.isSameType(typeArguments.get(0), string)
+               && types.isSameType(typeArguments.get(1), string);
+    }
+}
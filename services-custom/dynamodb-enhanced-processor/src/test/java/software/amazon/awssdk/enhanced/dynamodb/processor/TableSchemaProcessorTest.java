@@ -0,0 +1,399 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class TableSchemaProcessorTest {
+    private static final Pattern CLASS_NAME = Pattern.compile("class (\\w+)");
+
+    private static final String CUSTOMER =
+        "package test;\n"
+        + "import java.util.List;\n"
+        + "import java.util.Map;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbBean\n"
+        + "public class Customer {\n"
+        + "    private String id;\n"
+        + "    private String email;\n"
+        + "    private int visits;\n"
+        + "    private boolean active;\n"
+        + "    private List<String> tags;\n"
+        + "    private Map<String, Integer> counters;\n"
+        + "    private Address address;\n"
+        + "    private Audit audit;\n"
+        + "    private String ignored;\n"
+        + "    @DynamoDbPartitionKey @DynamoDbAttribute(\"customer_id\")\n"
+        + "    public String getId() { return id; }\n"
+        + "    public void setId(String id) { this.id = id; }\n"
+        + "    @DynamoDbSecondaryPartitionKey(indexNames = \"by-email\")\n"
+        + "    public String getEmail() { return email; }\n"
+        + "    public void setEmail(String email) { this.email = email; }\n"
+        + "    public int getVisits() { return visits; }\n"
+        + "    public void setVisits(int visits) { this.visits = visits; }\n"
+        + "    public boolean isActive() { return active; }\n"
+        + "    public void setActive(boolean active) { this.active = active; }\n"
+        + "    public List<String> getTags() { return tags; }\n"
+        + "    public void setTags(List<String> tags) { this.tags = tags; }\n"
+        + "    public Map<String, Integer> getCounters() { return counters; }\n"
+        + "    public void setCounters(Map<String, Integer> counters) { this.counters = counters; }\n"
+        + "    @DynamoDbIgnoreNulls\n"
+        + "    public Address getAddress() { return address; }\n"
+        + "    public void setAddress(Address address) { this.address = address; }\n"
+        + "    @DynamoDbFlatten\n"
+        + "    public Audit getAudit() { return audit; }\n"
+        + "    public void setAudit(Audit audit) { this.audit = audit; }\n"
+        + "    @DynamoDbIgnore\n"
+        + "    public String getIgnored() { return ignored; }\n"
+        + "    public void setIgnored(String ignored) { this.ignored = ignored; }\n"
+        + "}\n";
+
+    private static final String ADDRESS =
+        "package test;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbImmutable(builder = Address.Builder.class)\n"
+        + "public final class Address {\n"
+        + "    private final String city;\n"
+        + "    private Address(Builder b) { this.city = b.city; }\n"
+        + "    public String city() { return city; }\n"
+        + "    public static Builder builder() { return new Builder(); }\n"
+        + "    public static final class Builder {\n"
+        + "        private String city;\n"
+        + "        public Builder city(String city) { this.city = city; return this; }\n"
+        + "        public Address build() { return new Address(this); }\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String AUDIT =
+        "package test;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbBean\n"
+        + "public class Audit {\n"
+        + "    private String createdBy;\n"
+        + "    public String getCreatedBy() { return createdBy; }\n"
+        + "    public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }\n"
+        + "}\n";
+
+    private static final String NODE =
+        "package test;\n"
+        + "import java.util.List;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbBean\n"
+        + "public class Node {\n"
+        + "    private String id;\n"
+        + "    private List<Node> children;\n"
+        + "    @DynamoDbPartitionKey\n"
+        + "    public String getId() { return id; }\n"
+        + "    public void setId(String id) { this.id = id; }\n"
+        + "    public List<Node> getChildren() { return children; }\n"
+        + "    public void setChildren(List<Node> children) { this.children = children; }\n"
+        + "}\n";
+
+    private static final String RECORDING_TAG =
+        "package test;\n"
+        + "import java.lang.annotation.*;\n"
+        + "import java.util.*;\n"
+        + "import java.util.function.Consumer;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.*;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;\n"
+        + "public final class RecordingTag implements StaticAttributeTag {\n"
+        + "    public static final List<Annotation> RECORDED = new ArrayList<>();\n"
+        + "    @BeanTableSchemaAttributeTag(RecordingTag.class)\n"
+        + "    @Retention(RetentionPolicy.RUNTIME) @Target(ElementType.METHOD)\n"
+        + "    public @interface Recorded {\n"
+        + "        Class<? extends Number>[] types();\n"
+        + "        float weight() default 1.5f;\n"
+        + "        int[] sizes() default {1, 2};\n"
+        + "        String name() default \"x\";\n"
+        + "    }\n"
+        + "    public static StaticAttributeTag attributeTagFor(Recorded recorded) {\n"
+        + "        RECORDED.add(recorded);\n"
+        + "        return new RecordingTag();\n"
+        + "    }\n"
+        + "    public Consumer<StaticTableMetadata.Builder> modifyMetadata(String name, AttributeValueType type) {\n"
+        + "        return b -> { };\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String TAGGED =
+        "package test;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbBean\n"
+        + "public class Tagged {\n"
+        + "    private String id;\n"
+        + "    @DynamoDbPartitionKey\n"
+        + "    @RecordingTag.Recorded(types = {Integer.class, Long.class}, weight = 2.5f)\n"
+        + "    public String getId() { return id; }\n"
+        + "    public void setId(String id) { this.id = id; }\n"
+        + "}\n";
+
+    private static final String VERSIONED =
+        "package test;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbVersionAttribute;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "@DynamoDbBean\n"
+        + "public class Versioned {\n"
+        + "    private String id;\n"
+        + "    private Long version;\n"
+        + "    @DynamoDbPartitionKey\n"
+        + "    public String getId() { return id; }\n"
+        + "    public void setId(String id) { this.id = id; }\n"
+        + "    @DynamoDbVersionAttribute(startAt = 1)\n"
+        + "    public Long getVersion() { return version; }\n"
+        + "    public void setVersion(Long version) { this.version = version; }\n"
+        + "}\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void generatedBeanSchema_matchesReflectiveSchema() throws Exception {
+        Path classes = compile(CUSTOMER, ADDRESS, AUDIT).classes;
+
+        try (URLClassLoader loader = classLoader(classes)) {
+            Class<?> customerClass = loader.loadClass("test.Customer");
+            Object generated = loader.loadClass("test.CustomerTableSchema").getMethod("create").invoke(null);
+            TableSchema<Object> reflective = TableSchema.fromClass(cast(customerClass));
+
+            assertThat(generated).isInstanceOf(StaticTableSchema.class);
+            TableSchema<Object> schema = cast(generated);
+            assertThat(schema.attributeNames()).containsExactlyInAnyOrderElementsOf(reflective.attributeNames())
+                                               .contains("customer_id", "createdBy")
+                                               .doesNotContain("ignored");
+            assertThat(schema.tableMetadata().primaryPartitionKey()).isEqualTo("customer_id");
+            assertThat(schema.tableMetadata().indexPartitionKey("by-email")).isEqualTo("email");
+
+            Map<String, AttributeValue> item = sampleItem();
+            Object customer = schema.mapToItem(item);
+            assertThat(schema.itemToMap(customer, true)).isEqualTo(reflective.itemToMap(reflective.mapToItem(item), true));
+            assertThat(schema.itemToMap(customer, true)).isEqualTo(item);
+        }
+    }
+
+    @Test
+    void generatedImmutableSchema_usesStaticBuilder() throws Exception {
+        Compilation compilation = compile(CUSTOMER, ADDRESS, AUDIT);
+
+        assertThat(compilation.source("test/AddressTableSchema.java"))
+            .contains("StaticImmutableTableSchema.builder(Address.class, Address.Builder.class)")
+            .contains(".newItemBuilder(Address::builder, Address.Builder::build)")
+            .contains(".getter(Address::city)")
+            .contains(".setter(Address.Builder::city)");
+
+        try (URLClassLoader loader = classLoader(compilation.classes)) {
+            Object generated = loader.loadClass("test.AddressTableSchema").getMethod("create").invoke(null);
+            assertThat(generated).isInstanceOf(StaticImmutableTableSchema.class);
+            assertThat(cast(generated).attributeNames()).containsExactly("city");
+        }
+    }
+
+    @Test
+    void generatedSchema_referencesGeneratedSchemasOfNestedClasses() throws Exception {
+        String customerSchema = compile(CUSTOMER, ADDRESS, AUDIT).source("test/CustomerTableSchema.java");
+
+        assertThat(customerSchema).contains("AddressTableSchema.create()")
+                                  .contains("AuditTableSchema.createFlattened()")
+                                  .doesNotContain("fromClass");
+    }
+
+    @Test
+    void generatedSchema_onlyCallsPublicEnhancedClientApis() throws Exception {
+        Compilation compilation = compile(CUSTOMER, ADDRESS, AUDIT, VERSIONED);
+
+        for (String source : Arrays.asList("test/CustomerTableSchema.java", "test/AuditTableSchema.java",
+                                           "test/VersionedTableSchema.java")) {
+            assertThat(compilation.source(source)).doesNotContain(".internal.")
+                                                  .doesNotContain("ExecutionContext")
+                                                  .doesNotContain("TableSchemaFactory");
+        }
+        assertThat(compilation.source("test/VersionedTableSchema.java"))
+            .contains("GeneratedTableSchemas.attributeTagFor(");
+
+        try (URLClassLoader loader = classLoader(compilation.classes)) {
+            TableSchema<Object> generated = cast(loader.loadClass("test.VersionedTableSchema").getMethod("create").invoke(null));
+            TableSchema<Object> reflective = TableSchema.fromClass(cast(loader.loadClass("test.Versioned")));
+
+            assertThat(generated.tableMetadata().customMetadata())
+                .isNotEmpty()
+                .isEqualTo(reflective.tableMetadata().customMetadata());
+        }
+    }
+
+    @Test
+    void recursiveClass_createsNestedSchemaThroughReflection() throws Exception {
+        Compilation compilation = compile(NODE);
+
+        assertThat(compilation.source("test/NodeTableSchema.java")).contains("TableSchema.fromClass(Node.class)");
+        try (URLClassLoader loader = classLoader(compilation.classes)) {
+            Object generated = loader.loadClass("test.NodeTableSchema").getMethod("create").invoke(null);
+            assertThat(cast(generated).attributeNames()).containsExactlyInAnyOrder("id", "children");
+        }
+    }
+
+    @Test
+    void generatedAnnotation_equalsReflectiveAnnotation_andCompilesWithoutWarnings() throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Compilation compilation = compile(diagnostics, RECORDING_TAG, TAGGED);
+
+        assertThat(compilation.success).withFailMessage("Compilation failed: %s", diagnostics.getDiagnostics()).isTrue();
+        assertThat(diagnostics.getDiagnostics()).noneMatch(d -> d.getKind() != Diagnostic.Kind.NOTE
+                                                                && d.getSource() != null
+                                                                && d.getSource().getName().endsWith("TableSchema.java"));
+        try (URLClassLoader loader = classLoader(compilation.classes)) {
+            loader.loadClass("test.TaggedTableSchema").getMethod("create").invoke(null);
+            List<Annotation> recorded = cast(loader.loadClass("test.RecordingTag").getField("RECORDED").get(null));
+            Annotation generated = recorded.get(0);
+            Annotation reflective = loader.loadClass("test.Tagged").getMethod("getId").getAnnotation(generated.annotationType());
+
+            assertThat(generated.annotationType()).isEqualTo(reflective.annotationType());
+            assertThat(generated).isEqualTo(reflective);
+            assertThat(reflective).isEqualTo(generated);
+            assertThat(generated.hashCode()).isEqualTo(reflective.hashCode());
+        }
+    }
+
+    @Test
+    void invalidBean_reportsErrorOnClass() throws Exception {
+        String noConstructor =
+            "package test;\n"
+            + "@software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean\n"
+            + "public class NoConstructor {\n"
+            + "    public NoConstructor(String id) { }\n"
+            + "}\n";
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compileWithErrors(noConstructor);
+
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).getMessage(Locale.ROOT)).contains("public constructor that takes no");
+    }
+
+    private static Map<String, AttributeValue> sampleItem() {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("customer_id", AttributeValue.builder().s("id-1").build());
+        item.put("email", AttributeValue.builder().s("someone@example.com").build());
+        item.put("visits", AttributeValue.builder().n("3").build());
+        item.put("active", AttributeValue.builder().bool(true).build());
+        item.put("tags", AttributeValue.builder().l(AttributeValue.builder().s("a").build()).build());
+        item.put("counters", AttributeValue.builder()
+                                           .m(Collections.singletonMap("x", AttributeValue.builder().n("1").build()))
+                                           .build());
+        item.put("address", AttributeValue.builder()
+                                          .m(Collections.singletonMap("city", AttributeValue.builder().s("Seattle").build()))
+                                          .build());
+        item.put("createdBy", AttributeValue.builder().s("admin").build());
+        return item;
+    }
+
+    private Compilation compile(String... sources) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Compilation compilation = compile(diagnostics, sources);
+        assertThat(compilation.success).withFailMessage("Compilation failed: %s", diagnostics.getDiagnostics()).isTrue();
+        return compilation;
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compileWithErrors(String... sources) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertThat(compile(diagnostics, sources).success).isFalse();
+        return diagnostics.getDiagnostics().stream()
+                          .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                          .collect(Collectors.toList());
+    }
+
+    private Compilation compile(DiagnosticCollector<JavaFileObject> diagnostics, String... sources) throws IOException {
+        Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Path generatedDir = Files.createDirectories(tempDir.resolve("generated"));
+        Path classesDir = Files.createDirectories(tempDir.resolve("classes"));
+
+        List<File> sourceFiles = new ArrayList<>();
+        for (String source : sources) {
+            Matcher className = CLASS_NAME.matcher(source);
+            assertThat(className.find()).isTrue();
+            Path file = Files.createDirectories(sourceDir.resolve("test")).resolve(className.group(1) + ".java");
+            Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+            sourceFiles.add(file.toFile());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT,
+                                                                                   StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-Xlint:unchecked,rawtypes",
+                                                 "-classpath", System.getProperty("java.class.path"),
+                                                 "-d", classesDir.toString(),
+                                                 "-s", generatedDir.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                                                                 fileManager.getJavaFileObjectsFromFiles(sourceFiles));
+            task.setProcessors(Collections.singletonList(new TableSchemaProcessor()));
+            return new Compilation(task.call(), generatedDir, classesDir);
+        }
+    }
+
+    private static URLClassLoader classLoader(Path classes) throws IOException {
+        return new URLClassLoader(new URL[] {classes.toUri().toURL()}, TableSchemaProcessorTest.class.getClassLoader());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object object) {
+        return (T) object;
+    }
+
+    private static final class Compilation {
+        private final boolean success;
+        private final Path generated;
+        private final Path classes;
+
+        private Compilation(boolean success, Path generated, Path classes) {
+            this.success = success;
+            this.generated = generated;
+            this.classes = classes;
+        }
+
+        private String source(String path) throws IOException {
+            return new String(Files.readAllBytes(generated.resolve(path)), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -27,6 +27,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -796,6 +799,55 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with several segments at once, and publishes the pages of all the segments as they are retrieved.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and up to
+     * {@link ParallelScanEnhancedRequest#maxConcurrency()} of them are scanned at the same time. The publisher retrieves at
+     * most one page ahead of its subscriber for each segment being scanned. An optional read capacity budget limits the
+     * capacity consumed per second, and {@link ParallelScanPublisher#checkpoint()} records the progress of the scan so that
+     * it can be resumed with {@link ParallelScanEnhancedRequest.Builder#checkpoint(ParallelScanCheckpoint)}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPublisher<MyItem> publisher = mappedTable.parallelScan(ParallelScanEnhancedRequest.builder()
+     *                                                                                             .totalSegments(64)
+     *                                                                                             .build());
+     * publisher.items().subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan them.
+     * @return a publisher {@link ParallelScanPublisher} with the pages of all the segments (see {@link Page}).
+     */
+    default ParallelScanPublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table with several segments at once.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPublisher<MyItem> publisher =
+     *     mappedTable.parallelScan(r -> r.totalSegments(64).readCapacityUnitsPerSecond(500.0));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest} defining the segments and how to
+     * scan them.
+     * @return a publisher {@link ParallelScanPublisher} with the pages of all the segments (see {@link Page}).
+     */
+    default ParallelScanPublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
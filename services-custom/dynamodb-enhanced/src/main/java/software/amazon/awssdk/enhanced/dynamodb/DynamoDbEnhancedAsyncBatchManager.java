@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultDynamoDbEnhancedAsyncBatchManager;
+import software.amazon.awssdk.services.dynamodb.batchmanager.DynamoDbAsyncBatchManager;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Writes and reads single modelled items through a {@link DynamoDbAsyncBatchManager}, which combines the calls made for the
+ * same table within a short time into BatchWriteItem and BatchGetItem requests.
+ * <p>
+ * The items are mapped with the schema and the extensions of the table, as they are by {@link DynamoDbAsyncTable}. Writes
+ * that an extension adds a condition to, such as the version check of the versioned record extension, are not batched
+ * and are sent as PutItem or DeleteItem requests instead.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * DynamoDbAsyncBatchManager batchManager = dynamoDbAsyncClient.batchManager();
+ * DynamoDbEnhancedAsyncBatchManager enhancedBatchManager = DynamoDbEnhancedAsyncBatchManager.create(batchManager);
+ *
+ * CompletableFuture<Void> written = enhancedBatchManager.putItem(customerTable, customer);
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface DynamoDbEnhancedAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Creates an enhanced batch manager that sends its requests through the given batch manager. Closing the enhanced
+     * batch manager closes the given batch manager.
+     *
+     * @param batchManager The batch manager to send requests through.
+     * @return An enhanced batch manager.
+     */
+    static DynamoDbEnhancedAsyncBatchManager create(DynamoDbAsyncBatchManager batchManager) {
+        return DefaultDynamoDbEnhancedAsyncBatchManager.create(batchManager);
+    }
+
+    /**
+     * Puts a single item in the mapped table, as part of a BatchWriteItem request when possible.
+     *
+     * @param mappedTable The table to put the item in.
+     * @param item The item to put.
+     * @param <T> The modelled type of the table.
+     * @return A {@link CompletableFuture} that completes when the item has been written.
+     */
+    <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item);
+
+    /**
+     * Deletes a single item from the mapped table, as part of a BatchWriteItem request when possible.
+     *
+     * @param mappedTable The table to delete the item from.
+     * @param key The primary key of the item to delete.
+     * @param <T> The modelled type of the table.
+     * @return A {@link CompletableFuture} that completes when the item has been deleted.
+     */
+    <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTable, Key key);
+
+    /**
+     * Gets a single item from the mapped table, as part of a BatchGetItem request.
+     *
+     * @param mappedTable The table to get the item from.
+     * @param key The primary key of the item to get.
+     * @param <T> The modelled type of the table.
+     * @return A {@link CompletableFuture} of the item, or of null if the table has no item with the key.
+     */
+    <T> CompletableFuture<T> getItem(MappedTableResource<T> mappedTable, Key key);
+}
@@ -27,6 +27,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -777,6 +780,55 @@ public interface DynamoDbTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with several segments at once, and returns the pages of all the segments as they are retrieved.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, and up to
+     * {@link ParallelScanEnhancedRequest#maxConcurrency()} of them are scanned at the same time by background threads, which
+     * retrieve at most one page ahead of the iteration for each segment being scanned. An optional read capacity budget
+     * limits the capacity consumed per second, and {@link ParallelScanIterable#checkpoint()} records the progress of the
+     * scan so that it can be resumed with {@link ParallelScanEnhancedRequest.Builder#checkpoint(ParallelScanCheckpoint)}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanIterable<MyItem> results = mappedTable.parallelScan(ParallelScanEnhancedRequest.builder()
+     *                                                                                           .totalSegments(64)
+     *                                                                                           .build());
+     * results.items().forEach(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan them.
+     * @return an iterable {@link ParallelScanIterable} with the pages of all the segments (see {@link Page}).
+     */
+    default ParallelScanIterable<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table with several segments at once.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanIterable<MyItem> results =
+     *     mappedTable.parallelScan(r -> r.totalSegments(64).readCapacityUnitsPerSecond(500.0));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest} defining the segments and how to
+     * scan them.
+     * @return an iterable {@link ParallelScanIterable} with the pages of all the segments (see {@link Page}).
+     */
+    default ParallelScanIterable<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
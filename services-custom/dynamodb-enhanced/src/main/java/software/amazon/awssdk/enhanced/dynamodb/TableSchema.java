@@ -19,6 +19,8 @@ import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.document.DocumentTableSchema;
@@ -204,6 +206,35 @@ public interface TableSchema<T> {
         return TableSchemaFactory.fromClass(annotatedClass, ExecutionContext.ROOT);
     }
 
+    /**
+     * Builds the table schemas of classes that have been annotated with DynamoDb enhanced client annotations in parallel, so
+     * that later calls to {@link #fromClass(Class)}, {@link #fromBean(Class)} or {@link #fromImmutableClass(Class)} for these
+     * classes return without scanning them.
+     * <p>
+     * Table schemas built from annotated classes are shared by every enhanced client in the process, including the schemas of
+     * the nested classes they reference. Warming them up at application start up keeps the first request of each table from
+     * paying for the scan.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     * TableSchema.warmUp(Arrays.asList(Customer.class, Order.class), executorService).join();
+     * }
+     * </pre>
+     *
+     * @param annotatedClasses The classes that have been annotated with DynamoDb enhanced client annotations.
+     * @param executor The executor on which the table schemas are built, one task per class.
+     * @return A future that completes when every table schema is built, or completes exceptionally if any class could not be
+     * scanned.
+     */
+    static CompletableFuture<Void> warmUp(Collection<? extends Class<?>> annotatedClasses, Executor executor) {
+        CompletableFuture<?>[] futures = annotatedClasses.stream()
+                                                         .map(annotatedClass -> CompletableFuture.runAsync(
+                                                             () -> fromClass(annotatedClass), executor))
+                                                         .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures);
+    }
+
     /**
      * Takes a raw DynamoDb SDK representation of a record in a table and maps it to a Java object. A new object is
      * created to fulfil this operation.
@@ -17,6 +17,7 @@ package software.amazon.awssdk.enhanced.dynamodb.internal;
 
 import static software.amazon.awssdk.enhanced.dynamodb.internal.operations.UpdateItemOperation.NESTED_OBJECT_UPDATE;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -30,11 +31,13 @@ import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbExtensionContext;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.extensions.ReadModification;
+import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.ChainExtension;
 import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -48,6 +51,17 @@ public final class EnhancedClientUtils {
         '*', '.', '-', '#', '+', ':', '/', '(', ')', ' ',
         '&', '<', '>', '?', '=', '!', '@', '%', '$', '|').collect(Collectors.toSet());
     private static final Pattern NESTED_OBJECT_PATTERN = Pattern.compile(NESTED_OBJECT_UPDATE);
+    private static final ClassValue<Boolean> OVERRIDES_AFTER_READ = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> extensionClass) {
+            try {
+                return extensionClass.getMethod("afterRead", DynamoDbExtensionContext.AfterRead.class).getDeclaringClass()
+                       != DynamoDbEnhancedClientExtension.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
 
     private EnhancedClientUtils() {
 
@@ -109,7 +123,7 @@ public final class EnhancedClientUtils {
             return null;
         }
 
-        if (dynamoDbEnhancedClientExtension != null) {
+        if (dynamoDbEnhancedClientExtension != null && transformsReadItems(dynamoDbEnhancedClientExtension)) {
             ReadModification readModification = dynamoDbEnhancedClientExtension.afterRead(
                 DefaultDynamoDbExtensionContext.builder()
                                                .items(itemMap)
@@ -125,6 +139,18 @@ public final class EnhancedClientUtils {
         return tableSchema.mapToItem(itemMap);
     }
 
+    /**
+     * Returns true if the extension can transform the items read from the database. Extensions that do not override
+     * {@link DynamoDbEnhancedClientExtension#afterRead}, such as the default extensions, never do, so reading an item does not
+     * need to build an extension context for them.
+     */
+    public static boolean transformsReadItems(DynamoDbEnhancedClientExtension extension) {
+        if (extension instanceof ChainExtension) {
+            return ((ChainExtension) extension).transformsReadItems();
+        }
+        return OVERRIDES_AFTER_READ.get(extension.getClass());
+    }
+
     public static <ResponseT, ItemT> Page<ItemT> readAndTransformPaginatedItems(
         ResponseT response,
         TableSchema<ItemT> tableSchema,
@@ -136,13 +162,11 @@ public final class EnhancedClientUtils {
         Function<ResponseT, Integer> scannedCount,
         Function<ResponseT, ConsumedCapacity> consumedCapacity) {
 
-        List<ItemT> collect = getItems.apply(response)
-                                      .stream()
-                                      .map(itemMap -> readAndTransformSingleItem(itemMap,
-                                                                                 tableSchema,
-                                                                                 operationContext,
-                                                                                 dynamoDbEnhancedClientExtension))
-                                      .collect(Collectors.toList());
+        List<Map<String, AttributeValue>> items = getItems.apply(response);
+        List<ItemT> collect = new ArrayList<>(items.size());
+        for (Map<String, AttributeValue> itemMap : items) {
+            collect.add(readAndTransformSingleItem(itemMap, tableSchema, operationContext, dynamoDbEnhancedClientExtension));
+        }
 
         Page.Builder<ItemT> pageBuilder = Page.builder(tableSchema.itemType().rawClass())
                                               .items(collect)
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncBatchManager;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.GetItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.batchmanager.DynamoDbAsyncBatchManager;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultDynamoDbEnhancedAsyncBatchManager implements DynamoDbEnhancedAsyncBatchManager {
+    private final DynamoDbAsyncBatchManager batchManager;
+
+    private DefaultDynamoDbEnhancedAsyncBatchManager(DynamoDbAsyncBatchManager batchManager) {
+        this.batchManager = Validate.paramNotNull(batchManager, "batchManager");
+    }
+
+    public static DefaultDynamoDbEnhancedAsyncBatchManager create(DynamoDbAsyncBatchManager batchManager) {
+        return new DefaultDynamoDbEnhancedAsyncBatchManager(batchManager);
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item) {
+        PutItemEnhancedRequest<T> enhancedRequest =
+            PutItemEnhancedRequest.builder(mappedTable.tableSchema().itemType().rawClass()).item(item).build();
+        PutItemOperation<T> operation = PutItemOperation.create(enhancedRequest);
+        PutItemRequest request = operation.generateRequest(mappedTable.tableSchema(), operationContext(mappedTable),
+                                                           mappedTable.mapperExtension());
+        return batchManager.putItem(request).thenApply(response -> null);
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTable, Key key) {
+        DeleteItemOperation<T> operation = DeleteItemOperation.create(DeleteItemEnhancedRequest.builder().key(key).build());
+        DeleteItemRequest request = operation.generateRequest(mappedTable.tableSchema(), operationContext(mappedTable),
+                                                              mappedTable.mapperExtension());
+        // The old item is not returned to the caller, and asking for it would prevent the delete from being batched.
+        return batchManager.deleteItem(request.toBuilder().returnValues((String) null).build())
+                           .thenApply(response -> null);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getItem(MappedTableResource<T> mappedTable, Key key) {
+        GetItemOperation<T> operation = GetItemOperation.create(GetItemEnhancedRequest.builder().key(key).build());
+        OperationContext context = operationContext(mappedTable);
+        GetItemRequest request = operation.generateRequest(mappedTable.tableSchema(), context, mappedTable.mapperExtension());
+        return batchManager.getItem(request)
+                           .thenApply(response -> operation.transformResponse(response, mappedTable.tableSchema(), context,
+                                                                              mappedTable.mapperExtension())
+                                                           .attributes());
+    }
+
+    @Override
+    public void close() {
+        batchManager.close();
+    }
+
+    private static OperationContext operationContext(MappedTableResource<?> mappedTable) {
+        return DefaultOperationContext.create(mappedTable.tableName(), TableMetadata.primaryIndexName());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanIterable;
+
+/**
+ * Iterates over the pages of a {@link DefaultParallelScanPublisher}, requesting one page at a time and blocking until it is
+ * published.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultParallelScanIterable<T> implements ParallelScanIterable<T> {
+    private final DefaultParallelScanPublisher<T> publisher;
+    private final AtomicBoolean iterated = new AtomicBoolean();
+
+    private DefaultParallelScanIterable(DefaultParallelScanPublisher<T> publisher) {
+        this.publisher = publisher;
+    }
+
+    public static <T> DefaultParallelScanIterable<T> create(DefaultParallelScanPublisher<T> publisher) {
+        return new DefaultParallelScanIterable<>(publisher);
+    }
+
+    @Override
+    public Iterator<Page<T>> iterator() {
+        if (!iterated.compareAndSet(false, true)) {
+            throw new IllegalStateException("A parallel scan can only be iterated over once.");
+        }
+        PageIterator<T> iterator = new PageIterator<>();
+        publisher.subscribe(iterator);
+        return iterator;
+    }
+
+    @Override
+    public ParallelScanCheckpoint checkpoint() {
+        return publisher.checkpoint();
+    }
+
+    private static final class PageIterator<T> implements Iterator<Page<T>>, Subscriber<Page<T>> {
+        private static final Object COMPLETE = new Object();
+
+        private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+        private volatile Subscription subscription;
+        private Object next;
+        private boolean done;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(Page<T> page) {
+            signals.add(page);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            signals.add(t);
+        }
+
+        @Override
+        public void onComplete() {
+            signals.add(COMPLETE);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (done) {
+                return false;
+            }
+
+            // Requesting the next page records the previous one as consumed in the checkpoint.
+            subscription.request(1);
+            Object signal = takeSignal();
+            if (signal == COMPLETE) {
+                done = true;
+                return false;
+            }
+            if (signal instanceof Throwable) {
+                done = true;
+                Throwable failure = (Throwable) signal;
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                }
+                if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+                throw SdkClientException.create("The parallel scan failed.", failure);
+            }
+            next = signal;
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Page<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Page<T> page = (Page<T>) next;
+            next = null;
+            return page;
+        }
+
+        private Object takeSignal() {
+            try {
+                return signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                subscription.cancel();
+                done = true;
+                throw AbortedException.create("Thread was interrupted while waiting for the next page of the parallel scan.",
+                                              e);
+            }
+        }
+    }
+}
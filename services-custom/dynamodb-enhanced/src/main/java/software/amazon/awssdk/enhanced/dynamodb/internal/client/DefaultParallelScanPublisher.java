@@ -0,0 +1,410 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPublisher;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Scans the segments of a table concurrently and publishes their pages to a single subscriber.
+ * <p>
+ * Each segment being scanned has at most one page request in flight or one page waiting for demand, and the next page of a
+ * segment is requested once its previous page is published. Segments are started as others complete, so that at most
+ * {@code concurrency} segments are scanned at the same time. With a read capacity budget, the concurrency starts at one and
+ * grows by one each time a page is received while capacity remains, and page requests are delayed while the budget is
+ * used up.
+ * <p>
+ * All the signals to the subscriber are sent from the drain loop, which only one thread runs at a time.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultParallelScanPublisher<T> implements ParallelScanPublisher<T> {
+    private final int totalSegments;
+    private final int maxConcurrency;
+    private final BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<T>>> pageFetcher;
+    private final ReadCapacityBudget readCapacityBudget;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final Runnable onTermination;
+
+    private final Object lock = new Object();
+    private final Deque<Integer> pendingSegments = new ArrayDeque<>();
+    private final Map<Integer, Map<String, AttributeValue>> segmentStartKeys = new HashMap<>();
+    private final Set<Integer> completedSegments = new TreeSet<>();
+    private final Deque<SegmentPage<T>> readyPages = new ArrayDeque<>();
+    private final List<SegmentPage<T>> unacknowledgedPages = new ArrayList<>();
+    private Subscriber<? super Page<T>> subscriber;
+    private int activeSegments;
+    private int concurrency;
+    private long demand;
+    private boolean draining;
+    private Throwable failure;
+    private volatile boolean terminated;
+
+    private DefaultParallelScanPublisher(Builder<T> builder) {
+        this.totalSegments = Validate.paramNotNull(builder.totalSegments, "totalSegments");
+        this.maxConcurrency = Validate.paramNotNull(builder.maxConcurrency, "maxConcurrency");
+        this.pageFetcher = Validate.paramNotNull(builder.pageFetcher, "pageFetcher");
+        this.readCapacityBudget = builder.readCapacityUnitsPerSecond != null
+                                  ? new ReadCapacityBudget(builder.readCapacityUnitsPerSecond)
+                                  : null;
+        this.scheduledExecutor = readCapacityBudget != null
+                                 ? Validate.paramNotNull(builder.scheduledExecutor, "scheduledExecutor")
+                                 : builder.scheduledExecutor;
+        this.onTermination = builder.onTermination != null ? builder.onTermination : () -> { };
+        this.concurrency = readCapacityBudget != null ? 1 : maxConcurrency;
+
+        ParallelScanCheckpoint checkpoint = builder.checkpoint;
+        for (int segment = 0; segment < totalSegments; segment++) {
+            if (checkpoint != null && checkpoint.completedSegments().contains(segment)) {
+                completedSegments.add(segment);
+            } else {
+                pendingSegments.add(segment);
+            }
+        }
+        if (checkpoint != null) {
+            segmentStartKeys.putAll(checkpoint.segmentStartKeys());
+        }
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> s) {
+        boolean alreadySubscribed;
+        synchronized (lock) {
+            alreadySubscribed = subscriber != null;
+            if (!alreadySubscribed) {
+                subscriber = s;
+            }
+        }
+        if (alreadySubscribed) {
+            s.onSubscribe(new NoOpSubscription());
+            s.onError(new IllegalStateException("A parallel scan can only be subscribed to once."));
+            return;
+        }
+        s.onSubscribe(new ScanSubscription());
+
+        List<Runnable> pageRequests = new ArrayList<>();
+        synchronized (lock) {
+            startSegments(pageRequests);
+        }
+        pageRequests.forEach(Runnable::run);
+        drain();
+    }
+
+    @Override
+    public ParallelScanCheckpoint checkpoint() {
+        synchronized (lock) {
+            ParallelScanCheckpoint.Builder checkpoint = ParallelScanCheckpoint.builder().totalSegments(totalSegments);
+            segmentStartKeys.forEach(checkpoint::putSegmentStartKey);
+            completedSegments.forEach(checkpoint::addCompletedSegment);
+            return checkpoint.build();
+        }
+    }
+
+    /**
+     * Starts pending segments until the concurrency is reached. The page requests are collected rather than sent, so that
+     * they are sent once the lock is released.
+     */
+    private void startSegments(List<Runnable> pageRequests) {
+        while (!terminated && activeSegments < concurrency && !pendingSegments.isEmpty()) {
+            int segment = pendingSegments.poll();
+            Map<String, AttributeValue> startKey = segmentStartKeys.get(segment);
+            activeSegments++;
+            pageRequests.add(() -> requestPage(segment, startKey));
+        }
+    }
+
+    private void requestPage(int segment, Map<String, AttributeValue> startKey) {
+        if (terminated) {
+            return;
+        }
+
+        long delayNanos = readCapacityBudget != null ? readCapacityBudget.delayNanos() : 0;
+        if (delayNanos > 0) {
+            try {
+                scheduledExecutor.schedule(() -> requestPage(segment, startKey), delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                fail(e);
+            }
+            return;
+        }
+
+        CompletableFuture<Page<T>> pageFuture;
+        try {
+            pageFuture = pageFetcher.apply(segment, startKey);
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+        pageFuture.whenComplete((page, t) -> {
+            if (t != null) {
+                fail(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+            } else {
+                onPage(segment, page);
+            }
+        });
+    }
+
+    private void onPage(int segment, Page<T> page) {
+        List<Runnable> pageRequests = new ArrayList<>();
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+            readyPages.add(new SegmentPage<>(segment, page));
+            if (readCapacityBudget != null) {
+                readCapacityBudget.consume(consumedCapacityUnits(page));
+                if (concurrency < maxConcurrency && readCapacityBudget.hasCapacity()) {
+                    concurrency++;
+                    startSegments(pageRequests);
+                }
+            }
+        }
+        pageRequests.forEach(Runnable::run);
+        drain();
+    }
+
+    private void fail(Throwable t) {
+        synchronized (lock) {
+            if (failure == null) {
+                failure = t;
+            }
+        }
+        drain();
+    }
+
+    private void drain() {
+        synchronized (lock) {
+            if (draining || subscriber == null) {
+                return;
+            }
+            draining = true;
+        }
+
+        while (true) {
+            SegmentPage<T> next;
+            List<Runnable> pageRequests = new ArrayList<>();
+            synchronized (lock) {
+                if (terminated) {
+                    draining = false;
+                    return;
+                }
+                if (failure != null) {
+                    terminated = true;
+                    readyPages.clear();
+                    next = null;
+                } else if (demand > 0 && !readyPages.isEmpty()) {
+                    next = readyPages.poll();
+                    demand--;
+                    unacknowledgedPages.add(next);
+                    continueSegment(next, pageRequests);
+                } else if (readyPages.isEmpty() && activeSegments == 0 && pendingSegments.isEmpty()) {
+                    // Every page was published and has been passed to onNext, so they are all consumed.
+                    terminated = true;
+                    acknowledgePages();
+                    next = null;
+                } else {
+                    draining = false;
+                    return;
+                }
+            }
+
+            if (next == null) {
+                onTermination.run();
+                if (failure != null) {
+                    subscriber.onError(failure);
+                } else {
+                    subscriber.onComplete();
+                }
+                return;
+            }
+
+            pageRequests.forEach(Runnable::run);
+            subscriber.onNext(next.page);
+        }
+    }
+
+    /**
+     * Requests the page after a published page, or starts another segment if it was the last page of its segment.
+     */
+    private void continueSegment(SegmentPage<T> published, List<Runnable> pageRequests) {
+        Map<String, AttributeValue> lastEvaluatedKey = published.page.lastEvaluatedKey();
+        if (CollectionUtils.isNullOrEmpty(lastEvaluatedKey)) {
+            activeSegments--;
+            startSegments(pageRequests);
+        } else {
+            pageRequests.add(() -> requestPage(published.segment, lastEvaluatedKey));
+        }
+    }
+
+    /**
+     * Records the published pages as consumed in the checkpoint.
+     */
+    private void acknowledgePages() {
+        for (SegmentPage<T> page : unacknowledgedPages) {
+            Map<String, AttributeValue> lastEvaluatedKey = page.page.lastEvaluatedKey();
+            if (CollectionUtils.isNullOrEmpty(lastEvaluatedKey)) {
+                segmentStartKeys.remove(page.segment);
+                completedSegments.add(page.segment);
+            } else {
+                segmentStartKeys.put(page.segment, lastEvaluatedKey);
+            }
+        }
+        unacknowledgedPages.clear();
+    }
+
+    private static double consumedCapacityUnits(Page<?> page) {
+        if (page.consumedCapacity() == null || page.consumedCapacity().capacityUnits() == null) {
+            return 0;
+        }
+        return page.consumedCapacity().capacityUnits();
+    }
+
+    private final class ScanSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Demand must be positive, but was " + n));
+                return;
+            }
+            synchronized (lock) {
+                acknowledgePages();
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (lock) {
+                if (terminated) {
+                    return;
+                }
+                terminated = true;
+                readyPages.clear();
+            }
+            onTermination.run();
+        }
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    private static final class SegmentPage<T> {
+        private final int segment;
+        private final Page<T> page;
+
+        private SegmentPage(int segment, Page<T> page) {
+            this.segment = segment;
+            this.page = page;
+        }
+    }
+
+    public static final class Builder<T> {
+        private Integer totalSegments;
+        private Integer maxConcurrency;
+        private BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<T>>> pageFetcher;
+        private Double readCapacityUnitsPerSecond;
+        private ScheduledExecutorService scheduledExecutor;
+        private Runnable onTermination;
+        private ParallelScanCheckpoint checkpoint;
+
+        private Builder() {
+        }
+
+        public Builder<T> totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        public Builder<T> maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * The function that requests a page of a segment, given the segment and the primary key to start after, which is
+         * null for the first page.
+         */
+        public Builder<T> pageFetcher(
+            BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<T>>> pageFetcher) {
+            this.pageFetcher = pageFetcher;
+            return this;
+        }
+
+        public Builder<T> readCapacityUnitsPerSecond(Double readCapacityUnitsPerSecond) {
+            this.readCapacityUnitsPerSecond = readCapacityUnitsPerSecond;
+            return this;
+        }
+
+        /**
+         * The executor that delayed page requests are scheduled on, required with a read capacity budget.
+         */
+        public Builder<T> scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        /**
+         * Run once when the scan completes, fails or is cancelled.
+         */
+        public Builder<T> onTermination(Runnable onTermination) {
+            this.onTermination = onTermination;
+            return this;
+        }
+
+        public Builder<T> checkpoint(ParallelScanCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        public DefaultParallelScanPublisher<T> build() {
+            return new DefaultParallelScanPublisher<>(this);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A token bucket of read capacity units, refilled at a fixed rate and holding at most one second of capacity.
+ * <p>
+ * The capacity consumed by a request is only known from its response, so it is taken from the bucket after the fact and
+ * the bucket may go negative. Requests are then delayed until the bucket is refilled.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ReadCapacityBudget {
+    private final double unitsPerSecond;
+    private final LongSupplier nanoClock;
+    private double availableUnits;
+    private long lastRefillNanos;
+
+    ReadCapacityBudget(double unitsPerSecond) {
+        this(unitsPerSecond, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    ReadCapacityBudget(double unitsPerSecond, LongSupplier nanoClock) {
+        this.unitsPerSecond = unitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.availableUnits = unitsPerSecond;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Returns how long to wait before the next request, which is zero unless the budget is used up.
+     */
+    synchronized long delayNanos() {
+        refill();
+        return availableUnits >= 0 ? 0 : (long) (-availableUnits / unitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Whether capacity remains after the capacity consumed so far, meaning that more requests could be made.
+     */
+    synchronized boolean hasCapacity() {
+        refill();
+        return availableUnits > 0;
+    }
+
+    synchronized void consume(double units) {
+        refill();
+        availableUnits -= units;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double refilled = (now - lastRefillNanos) * unitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        availableUnits = Math.min(unitsPerSecond, availableUnits + refilled);
+        lastRefillNanos = now;
+    }
+}
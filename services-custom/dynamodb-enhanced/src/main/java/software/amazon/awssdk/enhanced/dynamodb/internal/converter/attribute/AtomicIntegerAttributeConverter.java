@@ -78,7 +78,7 @@ public final class AtomicIntegerAttributeConverter implements AttributeConverter
     @Override
     public AtomicInteger transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            return VISITOR.convertNumber(input.n());
         }
 
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
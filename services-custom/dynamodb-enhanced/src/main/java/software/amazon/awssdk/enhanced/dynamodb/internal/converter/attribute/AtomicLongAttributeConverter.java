@@ -78,7 +78,7 @@ public final class AtomicLongAttributeConverter implements AttributeConverter<At
     @Override
     public AtomicLong transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            return VISITOR.convertNumber(input.n());
         }
 
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
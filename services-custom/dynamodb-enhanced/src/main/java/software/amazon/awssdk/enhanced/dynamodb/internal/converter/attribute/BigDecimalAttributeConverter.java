@@ -75,7 +75,7 @@ public final class BigDecimalAttributeConverter implements AttributeConverter<Bi
     @Override
     public BigDecimal transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            return VISITOR.convertNumber(input.n());
         }
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
     }
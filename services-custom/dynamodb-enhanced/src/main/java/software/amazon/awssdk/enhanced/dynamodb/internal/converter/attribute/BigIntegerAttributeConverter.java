@@ -76,7 +76,7 @@ public final class BigIntegerAttributeConverter implements AttributeConverter<Bi
     @Override
     public BigInteger transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            return VISITOR.convertNumber(input.n());
         }
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
     }
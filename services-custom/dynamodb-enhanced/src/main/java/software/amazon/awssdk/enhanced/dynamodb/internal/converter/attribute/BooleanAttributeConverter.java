@@ -72,7 +72,7 @@ public final class BooleanAttributeConverter implements AttributeConverter<Boole
     @Override
     public Boolean transformTo(AttributeValue input) {
         if (input.bool() != null) {
-            return EnhancedAttributeValue.fromBoolean(input.bool()).convert(VISITOR);
+            return VISITOR.convertBoolean(input.bool());
         }
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
     }
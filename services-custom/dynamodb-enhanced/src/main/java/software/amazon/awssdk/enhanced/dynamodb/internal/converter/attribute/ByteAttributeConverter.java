@@ -61,7 +61,7 @@ public final class ByteAttributeConverter implements AttributeConverter<Byte>, P
     @Override
     public Byte transformTo(AttributeValue input) {
         if (input.b() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            return VISITOR.convertNumber(input.n());
         }
 
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
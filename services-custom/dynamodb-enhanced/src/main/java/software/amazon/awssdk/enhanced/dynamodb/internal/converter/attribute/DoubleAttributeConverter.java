@@ -79,7 +79,7 @@ public final class DoubleAttributeConverter implements AttributeConverter<Double
     public Double transformTo(AttributeValue input) {
         Double result;
         if (input.n() != null) {
-            result = EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            result = VISITOR.convertNumber(input.n());
         } else {
             result = EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
         }
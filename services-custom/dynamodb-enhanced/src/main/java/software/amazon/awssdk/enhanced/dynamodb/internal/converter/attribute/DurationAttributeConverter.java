@@ -86,7 +86,7 @@ public final class DurationAttributeConverter implements AttributeConverter<Dura
     @Override
     public Duration transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            return VISITOR.convertNumber(input.n());
         }
 
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
@@ -79,7 +79,7 @@ public final class FloatAttributeConverter implements AttributeConverter<Float>,
     public Float transformTo(AttributeValue input) {
         Float result;
         if (input.n() != null) {
-            result = EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            result = VISITOR.convertNumber(input.n());
         } else {
             result = EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
         }
@@ -75,7 +75,7 @@ public final class IntegerAttributeConverter implements AttributeConverter<Integ
     @Override
     public Integer transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(Visitor.INSTANCE);
+            return Visitor.INSTANCE.convertNumber(input.n());
         }
 
         return EnhancedAttributeValue.fromAttributeValue(input).convert(Visitor.INSTANCE);
@@ -152,6 +152,15 @@ public class ListAttributeConverter<T extends Collection<?>> implements Attribut
 
         @Override
         public T transformTo(AttributeValue input) {
+            if (input.hasL()) {
+                // Convert lists, the most common case, without wrapping the value and its elements
+                Collection<Object> result = (Collection<Object>) collectionConstructor.get();
+                for (AttributeValue element : input.l()) {
+                    result.add(elementConverter.transformTo(element));
+                }
+                return (T) result;
+            }
+
             return EnhancedAttributeValue.fromAttributeValue(input)
                                          .convert(new TypeConvertingVisitor<T>(type.rawClass(), ListAttributeConverter.class) {
                                              @Override
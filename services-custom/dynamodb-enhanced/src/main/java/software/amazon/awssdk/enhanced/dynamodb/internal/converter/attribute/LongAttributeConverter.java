@@ -75,7 +75,7 @@ public final class LongAttributeConverter implements AttributeConverter<Long>, P
     @Override
     public Long transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            return VISITOR.convertNumber(input.n());
         }
 
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
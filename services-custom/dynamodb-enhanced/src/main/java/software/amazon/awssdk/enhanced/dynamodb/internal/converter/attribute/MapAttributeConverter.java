@@ -168,6 +168,13 @@ public class MapAttributeConverter<T extends Map<?, ?>> implements AttributeConv
         }
 
         public T fromAttributeValue(AttributeValue input) {
+            if (input.hasM()) {
+                // Convert maps, the most common case, without wrapping the value
+                T result = mapConstructor.get();
+                input.m().forEach((k, v) -> result.put(keyConverter.fromString(k), valueConverter.transformTo(v)));
+                return result;
+            }
+
             return EnhancedAttributeValue.fromAttributeValue(input)
                                          .convert(new TypeConvertingVisitor<T>(Map.class, MapAttributeConverter.class) {
                                              @Override
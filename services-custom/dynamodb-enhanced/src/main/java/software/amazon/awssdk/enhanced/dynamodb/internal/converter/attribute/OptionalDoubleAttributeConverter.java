@@ -89,7 +89,7 @@ public final class OptionalDoubleAttributeConverter implements AttributeConverte
     public OptionalDouble transformTo(AttributeValue input) {
         OptionalDouble result;
         if (input.n() != null) {
-            result = EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            result = VISITOR.convertNumber(input.n());
         } else {
             result = EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
         }
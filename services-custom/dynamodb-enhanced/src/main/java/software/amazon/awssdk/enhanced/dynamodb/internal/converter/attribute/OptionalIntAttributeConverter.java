@@ -85,7 +85,7 @@ public final class OptionalIntAttributeConverter implements AttributeConverter<O
     @Override
     public OptionalInt transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            return VISITOR.convertNumber(input.n());
         }
 
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
@@ -85,7 +85,7 @@ public final class OptionalLongAttributeConverter implements AttributeConverter<
     @Override
     public OptionalLong transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            return VISITOR.convertNumber(input.n());
         }
 
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
@@ -70,7 +70,7 @@ public final class SdkNumberAttributeConverter implements AttributeConverter<Sdk
     @Override
     public SdkNumber transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
+            return VISITOR.convertNumber(input.n());
         }
         return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
     }
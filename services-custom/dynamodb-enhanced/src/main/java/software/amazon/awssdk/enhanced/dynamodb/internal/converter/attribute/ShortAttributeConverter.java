@@ -70,7 +70,7 @@ public final class ShortAttributeConverter implements AttributeConverter<Short>,
     @Override
     public Short transformTo(AttributeValue input) {
         if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(Visitor.INSTANCE);
+            return Visitor.INSTANCE.convertNumber(input.n());
         }
 
         return EnhancedAttributeValue.fromAttributeValue(input).convert(Visitor.INSTANCE);
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.enhanced.dynamodb.internal.extensions;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.Iterator;
@@ -27,6 +28,7 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbExtensionContext;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.extensions.ReadModification;
 import software.amazon.awssdk.enhanced.dynamodb.extensions.WriteModification;
+import software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils;
 import software.amazon.awssdk.enhanced.dynamodb.update.UpdateExpression;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
@@ -60,8 +62,17 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 public final class ChainExtension implements DynamoDbEnhancedClientExtension {
     private final Deque<DynamoDbEnhancedClientExtension> extensionChain;
 
+    // The extensions that can transform read items, in the order afterRead() calls them
+    private final List<DynamoDbEnhancedClientExtension> readExtensionChain;
+
     private ChainExtension(List<DynamoDbEnhancedClientExtension> extensions) {
         this.extensionChain = new ArrayDeque<>(extensions);
+        this.readExtensionChain = new ArrayList<>();
+        extensionChain.descendingIterator().forEachRemaining(extension -> {
+            if (EnhancedClientUtils.transformsReadItems(extension)) {
+                readExtensionChain.add(extension);
+            }
+        });
     }
 
     /**
@@ -160,7 +171,8 @@ public final class ChainExtension implements DynamoDbEnhancedClientExtension {
     public ReadModification afterRead(DynamoDbExtensionContext.AfterRead context) {
         Map<String, AttributeValue> transformedItem = null;
 
-        Iterator<DynamoDbEnhancedClientExtension> iterator = extensionChain.descendingIterator();
+        // Extensions that do not override afterRead() never transform the item, so they are skipped
+        Iterator<DynamoDbEnhancedClientExtension> iterator = readExtensionChain.iterator();
 
         while (iterator.hasNext()) {
             Map<String, AttributeValue> itemToTransform =
@@ -184,4 +196,11 @@ public final class ChainExtension implements DynamoDbEnhancedClientExtension {
                                .transformedItem(transformedItem)
                                .build();
     }
+
+    /**
+     * Returns true if any of the chained extensions can transform the items read from the database.
+     */
+    public boolean transformsReadItems() {
+        return !readExtensionChain.isEmpty();
+    }
 }
@@ -18,16 +18,24 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 
 /**
  * A cache that can store lazily initialized MetaTableSchema objects used by the TableSchema creation classes to
  * facilitate self-referencing recursive builds.
+ * <p>
+ * A cache belongs to a single build of a table schema and the schemas of the nested classes it builds. Once the build
+ * completes, every {@link MetaTableSchema} in the cache is initialized, and the schemas they hold are registered with the
+ * {@link TableSchemaRegistry}.
  */
 @SdkInternalApi
+@ThreadSafe
 @SuppressWarnings("unchecked")
 public class MetaTableSchemaCache {
-    private final Map<Class<?>, MetaTableSchema<?>> cacheMap = new HashMap<>();
+    private final Map<Class<?>, MetaTableSchema<?>> cacheMap = new ConcurrentHashMap<>();
 
     public <T> MetaTableSchema<T> getOrCreate(Class<T> mappedClass) {
         return (MetaTableSchema<T>) cacheMap().computeIfAbsent(
@@ -38,6 +46,19 @@ public class MetaTableSchemaCache {
         return Optional.ofNullable((MetaTableSchema<T>) cacheMap().get(mappedClass));
     }
 
+    /**
+     * Returns the concrete schemas of the initialized {@link MetaTableSchema}s, by class.
+     */
+    public Map<Class<?>, TableSchema<?>> initializedSchemas() {
+        Map<Class<?>, TableSchema<?>> initializedSchemas = new HashMap<>();
+        cacheMap().forEach((mappedClass, metaTableSchema) -> {
+            if (metaTableSchema.isInitialized()) {
+                initializedSchemas.put(mappedClass, metaTableSchema.concreteTableSchema());
+            }
+        });
+        return initializedSchemas;
+    }
+
     private Map<Class<?>, MetaTableSchema<?>> cacheMap() {
         return this.cacheMap;
     }
@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * The process-wide registry of the table schemas built from annotated classes, shared by all the enhanced clients.
+ * <p>
+ * Schemas are stored in a {@link ClassValue}, so reads are lock-free and a registered schema does not prevent its class from
+ * being unloaded. Nothing is locked while a schema is built: two threads that build the schema of the same class at the same
+ * time both build it, and the schema registered first is the one both use. Building schemas of different classes is never
+ * serialized.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class TableSchemaRegistry {
+    private static final TableSchemaRegistry INSTANCE = new TableSchemaRegistry();
+
+    private volatile ClassValue<AtomicReference<TableSchema<?>>> schemas = newSchemas();
+
+    private TableSchemaRegistry() {
+    }
+
+    public static TableSchemaRegistry instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the schema registered for the class, or null if none was registered yet.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TableSchema<T> get(Class<T> mappedClass) {
+        return (TableSchema<T>) schemas.get(mappedClass).get();
+    }
+
+    /**
+     * Registers the schema of a class unless one was registered already, and returns the schema that is registered.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TableSchema<T> register(Class<T> mappedClass, TableSchema<T> tableSchema) {
+        AtomicReference<TableSchema<?>> registered = schemas.get(mappedClass);
+        return registered.compareAndSet(null, tableSchema) ? tableSchema : (TableSchema<T>) registered.get();
+    }
+
+    /**
+     * Registers every schema built by a completed build, including the schemas of the nested classes it built, unless a
+     * schema was registered already for their class.
+     */
+    @SuppressWarnings("unchecked")
+    public void registerAll(MetaTableSchemaCache metaTableSchemaCache) {
+        metaTableSchemaCache.initializedSchemas()
+                            .forEach((mappedClass, tableSchema) -> register((Class<Object>) mappedClass,
+                                                                            (TableSchema<Object>) tableSchema));
+    }
+
+    @SdkTestInternalApi
+    public void clear() {
+        schemas = newSchemas();
+    }
+
+    private static ClassValue<AtomicReference<TableSchema<?>>> newSchemas() {
+        return new ClassValue<AtomicReference<TableSchema<?>>>() {
+            @Override
+            protected AtomicReference<TableSchema<?>> computeValue(Class<?> type) {
+                return new AtomicReference<>();
+            }
+        };
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultParallelScanIterable;
+import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultParallelScanPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Scans the segments of a table concurrently. Each page of a segment is requested with a {@link ScanOperation} for that
+ * segment and start key, and the pages are merged by a {@link DefaultParallelScanPublisher}.
+ */
+@SdkInternalApi
+public final class ParallelScanOperation<T> {
+    private static final int DEFAULT_MAX_CONCURRENCY = 16;
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final ParallelScanEnhancedRequest request;
+
+    private ParallelScanOperation(ParallelScanEnhancedRequest request) {
+        this.request = request;
+    }
+
+    public static <T> ParallelScanOperation<T> create(ParallelScanEnhancedRequest request) {
+        return new ParallelScanOperation<>(request);
+    }
+
+    public ParallelScanPublisher<T> executeAsync(TableSchema<T> tableSchema,
+                                                 String tableName,
+                                                 DynamoDbEnhancedClientExtension extension,
+                                                 DynamoDbAsyncClient dynamoDbAsyncClient) {
+        OperationContext context = DefaultOperationContext.create(tableName, TableMetadata.primaryIndexName());
+        BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<T>>> pageFetcher = (segment, startKey) -> {
+            ScanOperation<T> operation = segmentOperation(segment, startKey);
+            return dynamoDbAsyncClient.scan(operation.generateRequest(tableSchema, context, extension))
+                                      .thenApply(response -> operation.transformResponse(response, tableSchema, context,
+                                                                                         extension));
+        };
+
+        // The async client does not need threads of its own, except to delay page requests when the budget is used up.
+        ScheduledThreadPoolExecutor scheduledExecutor = request.readCapacityUnitsPerSecond() != null
+                                                        ? scheduledExecutor(1) : null;
+        return publisher(pageFetcher, scheduledExecutor);
+    }
+
+    public ParallelScanIterable<T> execute(TableSchema<T> tableSchema,
+                                           String tableName,
+                                           DynamoDbEnhancedClientExtension extension,
+                                           DynamoDbClient dynamoDbClient) {
+        OperationContext context = DefaultOperationContext.create(tableName, TableMetadata.primaryIndexName());
+        ScheduledThreadPoolExecutor scheduledExecutor = scheduledExecutor(maxConcurrency());
+        BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<T>>> pageFetcher =
+            (segment, startKey) -> CompletableFuture.supplyAsync(() -> {
+                ScanOperation<T> operation = segmentOperation(segment, startKey);
+                return operation.transformResponse(dynamoDbClient.scan(operation.generateRequest(tableSchema, context,
+                                                                                                 extension)),
+                                                   tableSchema, context, extension);
+            }, scheduledExecutor);
+
+        return DefaultParallelScanIterable.create(publisher(pageFetcher, scheduledExecutor));
+    }
+
+    private DefaultParallelScanPublisher<T> publisher(
+        BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<T>>> pageFetcher,
+        ScheduledThreadPoolExecutor scheduledExecutor) {
+
+        return DefaultParallelScanPublisher.<T>builder()
+                                           .totalSegments(request.totalSegments())
+                                           .maxConcurrency(maxConcurrency())
+                                           .readCapacityUnitsPerSecond(request.readCapacityUnitsPerSecond())
+                                           .checkpoint(request.checkpoint())
+                                           .pageFetcher(pageFetcher)
+                                           .scheduledExecutor(scheduledExecutor)
+                                           .onTermination(scheduledExecutor != null ? scheduledExecutor::shutdown : null)
+                                           .build();
+    }
+
+    private ScanOperation<T> segmentOperation(int segment, Map<String, AttributeValue> startKey) {
+        ScanEnhancedRequest.Builder segmentRequest = request.scanRequest()
+                                                            .toBuilder()
+                                                            .segment(segment)
+                                                            .totalSegments(request.totalSegments())
+                                                            .exclusiveStartKey(startKey);
+        // The read capacity budget is tracked with the capacity consumed by each page.
+        String returnConsumedCapacity = request.scanRequest().returnConsumedCapacityAsString();
+        if (request.readCapacityUnitsPerSecond() != null
+            && (returnConsumedCapacity == null || ReturnConsumedCapacity.NONE.toString().equals(returnConsumedCapacity))) {
+            segmentRequest.returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+        }
+        return ScanOperation.create(segmentRequest.build());
+    }
+
+    private int maxConcurrency() {
+        int maxConcurrency = request.maxConcurrency() != null ? request.maxConcurrency() : DEFAULT_MAX_CONCURRENCY;
+        return Math.min(maxConcurrency, request.totalSegments());
+    }
+
+    private static ScheduledThreadPoolExecutor scheduledExecutor(int threads) {
+        ScheduledThreadPoolExecutor executor =
+            new ScheduledThreadPoolExecutor(threads, new ThreadFactoryBuilder().threadNamePrefix("sdk-ddb-parallel-scan")
+                                                                               .daemonThreads(true)
+                                                                               .build());
+        // Threads are not kept alive by a scan that is abandoned rather than completed or cancelled.
+        executor.setKeepAliveTime(THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
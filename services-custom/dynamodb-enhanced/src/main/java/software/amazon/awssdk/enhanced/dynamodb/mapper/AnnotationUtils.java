@@ -18,15 +18,19 @@ package software.amazon.awssdk.enhanced.dynamodb.mapper;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;
 
 @SdkInternalApi
 final class AnnotationUtils {
+    private static final String ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME = "attributeTagFor";
 
     private AnnotationUtils() {
     }
@@ -75,4 +79,45 @@ final class AnnotationUtils {
             return Collections.emptyList();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * If the annotation is meta-annotated with {@link BeanTableSchemaAttributeTag}, creates the attribute tag it stands for by
+     * calling the standard named static method of the class the meta-annotation names, passing in the annotation.
+     */
+    static Optional<StaticAttributeTag> attributeTagFor(Annotation annotation) {
+        BeanTableSchemaAttributeTag beanTableSchemaAttributeTag =
+            annotation.annotationType().getAnnotation(BeanTableSchemaAttributeTag.class);
+
+        if (beanTableSchemaAttributeTag == null) {
+            return Optional.empty();
+        }
+
+        Class<?> tagClass = beanTableSchemaAttributeTag.value();
+
+        Method tagMethod;
+        try {
+            tagMethod = tagClass.getDeclaredMethod(ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
+                                                   annotation.annotationType());
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(
+                String.format("Could not find a static method named '%s' on class '%s' that returns " +
+                                  "an AttributeTag for annotation '%s'", ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
+                              tagClass, annotation.annotationType()), e);
+        }
+
+        if (!Modifier.isStatic(tagMethod.getModifiers())) {
+            throw new RuntimeException(
+                String.format("Could not find a static method named '%s' on class '%s' that returns " +
+                                  "an AttributeTag for annotation '%s'", ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
+                              tagClass, annotation.annotationType()));
+        }
+
+        try {
+            return Optional.of((StaticAttributeTag) tagMethod.invoke(null, annotation));
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(
+                String.format("Could not invoke method to create AttributeTag for annotation '%s' on class " +
+                                  "'%s'.", annotation.annotationType(), tagClass), e);
+        }
+    }
+}
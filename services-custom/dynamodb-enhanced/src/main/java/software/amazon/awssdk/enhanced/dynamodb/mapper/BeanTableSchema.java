@@ -25,18 +25,14 @@ import java.beans.Transient;
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.WeakHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -58,6 +54,7 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.BeanAttributeSet
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchemaCache;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.ObjectConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.TableSchemaRegistry;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
@@ -113,9 +110,6 @@ import software.amazon.awssdk.utils.StringUtils;
 @SdkPublicApi
 @ThreadSafe
 public final class BeanTableSchema<T> extends WrappedTableSchema<T, StaticTableSchema<T>> {
-    private static final Map<Class<?>, BeanTableSchema<?>> BEAN_TABLE_SCHEMA_CACHE =
-        Collections.synchronizedMap(new WeakHashMap<>());
-    private static final String ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME = "attributeTagFor";
 
     private BeanTableSchema(StaticTableSchema<T> staticTableSchema) {
         super(staticTableSchema);
@@ -171,14 +165,28 @@ public final class BeanTableSchema<T> extends WrappedTableSchema<T, StaticTableS
 
     private static <T> BeanTableSchema<T> create(BeanTableSchemaParams<T> params, ExecutionContext context) {
         if (context == ExecutionContext.ROOT) {
-            return (BeanTableSchema<T>) BEAN_TABLE_SCHEMA_CACHE.computeIfAbsent(params.beanClass(),
-                                                                               clz -> create(params,
-                                                                                             new MetaTableSchemaCache(),
-                                                                                             context));
+            BeanTableSchema<T> registeredTableSchema = registeredTableSchema(params.beanClass());
+            if (registeredTableSchema != null) {
+                return registeredTableSchema;
+            }
+
+            // Built without holding a lock, so schemas of different classes can be built concurrently. If another thread
+            // built the schema of this class in the meantime, the one registered first is used.
+            MetaTableSchemaCache metaTableSchemaCache = new MetaTableSchemaCache();
+            BeanTableSchema<T> newTableSchema = create(params, metaTableSchemaCache, context);
+            TableSchemaRegistry.instance().registerAll(metaTableSchemaCache);
+            registeredTableSchema = registeredTableSchema(params.beanClass());
+            return registeredTableSchema != null ? registeredTableSchema : newTableSchema;
         }
         return create(params, new MetaTableSchemaCache(), context);
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> BeanTableSchema<T> registeredTableSchema(Class<T> beanClass) {
+        TableSchema<T> registeredTableSchema = TableSchemaRegistry.instance().get(beanClass);
+        return registeredTableSchema instanceof BeanTableSchema ? (BeanTableSchema<T>) registeredTableSchema : null;
+    }
+
     private static <T> BeanTableSchema<T> create(BeanTableSchemaParams<T> params, MetaTableSchemaCache metaTableSchemaCache,
                                                  ExecutionContext context) {
         Class<T> beanClass = params.beanClass();
@@ -210,8 +218,16 @@ public final class BeanTableSchema<T> extends WrappedTableSchema<T, StaticTableS
             return metaTableSchema.get();
         }
 
-        // Otherwise: cache doesn't know about this class; create a new one from scratch
-        return create(BeanTableSchemaParams.builder(beanClass).lookup(lookup).build());
+        // Or: use the schema built by a previous build of another table schema
+        BeanTableSchema<T> registeredTableSchema = registeredTableSchema(beanClass);
+        if (registeredTableSchema != null) {
+            return registeredTableSchema;
+        }
+
+        // Otherwise: cache doesn't know about this class; create a new one from scratch as part of this build, so the
+        // schemas it references are built only once
+        return create(BeanTableSchemaParams.builder(beanClass).lookup(lookup).build(), metaTableSchemaCache,
+                      ExecutionContext.ROOT);
 
     }
 
@@ -473,44 +489,8 @@ public final class BeanTableSchema<T> extends WrappedTableSchema<T, StaticTableS
      */
     private static void addTagsToAttribute(StaticAttribute.Builder<?, ?> attributeBuilder,
                                            PropertyDescriptor propertyDescriptor) {
-
-        propertyAnnotations(propertyDescriptor).forEach(annotation -> {
-            BeanTableSchemaAttributeTag beanTableSchemaAttributeTag =
-                annotation.annotationType().getAnnotation(BeanTableSchemaAttributeTag.class);
-
-            if (beanTableSchemaAttributeTag != null) {
-                Class<?> tagClass = beanTableSchemaAttributeTag.value();
-
-                Method tagMethod;
-                try {
-                    tagMethod = tagClass.getDeclaredMethod(ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
-                                                           annotation.annotationType());
-                } catch (NoSuchMethodException e) {
-                    throw new RuntimeException(
-                        String.format("Could not find a static method named '%s' on class '%s' that returns " +
-                                          "an AttributeTag for annotation '%s'", ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
-                                      tagClass, annotation.annotationType()), e);
-                }
-
-                if (!Modifier.isStatic(tagMethod.getModifiers())) {
-                    throw new RuntimeException(
-                        String.format("Could not find a static method named '%s' on class '%s' that returns " +
-                                          "an AttributeTag for annotation '%s'", ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
-                                      tagClass, annotation.annotationType()));
-                }
-
-                StaticAttributeTag staticAttributeTag;
-                try {
-                    staticAttributeTag = (StaticAttributeTag) tagMethod.invoke(null, annotation);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new RuntimeException(
-                        String.format("Could not invoke method to create AttributeTag for annotation '%s' on class " +
-                                          "'%s'.", annotation.annotationType(), tagClass), e);
-                }
-
-                attributeBuilder.addTag(staticAttributeTag);
-            }
-        });
+        propertyAnnotations(propertyDescriptor).forEach(annotation -> AnnotationUtils.attributeTagFor(annotation)
+                                                                                      .ifPresent(attributeBuilder::addTag));
     }
 
     private static <R> Supplier<R> newObjectSupplierForClass(Class<R> clazz, MethodHandles.Lookup lookup) {
@@ -600,7 +580,7 @@ public final class BeanTableSchema<T> extends WrappedTableSchema<T, StaticTableS
 
     @SdkTestInternalApi
     static void clearSchemaCache() {
-        BEAN_TABLE_SCHEMA_CACHE.clear();
+        TableSchemaRegistry.instance().clear();
     }
 }
 
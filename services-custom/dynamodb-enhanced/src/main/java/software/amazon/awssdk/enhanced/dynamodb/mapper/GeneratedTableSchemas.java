@@ -0,0 +1,78 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper;
+
+import java.lang.annotation.Annotation;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.ExecutionContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;
+
+/**
+ * The entry points of the enhanced client that the table schemas generated at compile time by the
+ * {@code dynamodb-enhanced-processor} annotation processor call, besides the public schema builders. Generated schemas do not
+ * call internal classes of the enhanced client, so a schema compiled with one release keeps working with later releases of
+ * the enhanced client. Use the same version of the processor and of the enhanced client, so that every annotation the enhanced
+ * client supports is understood by the processor.
+ * <p>
+ * These methods are not intended to be called directly by applications.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class GeneratedTableSchemas {
+
+    private GeneratedTableSchemas() {
+    }
+
+    /**
+     * Creates the attribute tag of an annotation meta-annotated with {@link BeanTableSchemaAttributeTag}, like
+     * {@link BeanTableSchema} and {@link ImmutableTableSchema} do for the annotations of a property.
+     *
+     * @param annotation an annotation meta-annotated with {@link BeanTableSchemaAttributeTag}
+     * @return the attribute tag the annotation stands for
+     * @throws IllegalArgumentException if the annotation is not meta-annotated with {@link BeanTableSchemaAttributeTag}
+     */
+    public static StaticAttributeTag attributeTagFor(Annotation annotation) {
+        return AnnotationUtils.attributeTagFor(annotation).orElseThrow(
+            () -> new IllegalArgumentException("Annotation " + annotation.annotationType() + " is not annotated with @"
+                                               + BeanTableSchemaAttributeTag.class.getSimpleName()));
+    }
+
+    /**
+     * Creates the table schema of an annotated class through reflection, to be flattened into the schema of another class
+     * with {@link StaticTableSchema.Builder#flatten(TableSchema, java.util.function.Function, java.util.function.BiConsumer)}.
+     * Unlike {@link TableSchema#fromClass(Class)}, the schema is not cached and its indices are not validated on their own.
+     *
+     * @param annotatedClass a class annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable}
+     * @return a new table schema of the class
+     */
+    public static <T> TableSchema<T> flattenedTableSchema(Class<T> annotatedClass) {
+        return TableSchemaFactory.fromClass(annotatedClass, ExecutionContext.FLATTENED);
+    }
+
+    /**
+     * Builds a table schema to be flattened into the schema of another class. Unlike {@link StaticTableSchema.Builder#build()},
+     * the indices of the schema are not validated on their own, since the schema it is flattened into may complete them.
+     *
+     * @param builder the builder of the flattened schema
+     * @return the table schema
+     */
+    public static <T> StaticTableSchema<T> buildFlattened(StaticTableSchema.Builder<T> builder) {
+        return builder.build(ExecutionContext.FLATTENED);
+    }
+}
@@ -20,18 +20,14 @@ import static software.amazon.awssdk.enhanced.dynamodb.internal.DynamoDbEnhanced
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.WeakHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -58,6 +54,7 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchemaC
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.ObjectConstructor;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.ObjectGetterMethod;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.StaticGetterMethod;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.TableSchemaRegistry;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
@@ -111,9 +108,6 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPrese
 @SdkPublicApi
 @ThreadSafe
 public final class ImmutableTableSchema<T> extends WrappedTableSchema<T, StaticImmutableTableSchema<T, ?>> {
-    private static final String ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME = "attributeTagFor";
-    private static final Map<Class<?>, ImmutableTableSchema<?>> IMMUTABLE_TABLE_SCHEMA_CACHE =
-        Collections.synchronizedMap(new WeakHashMap<>());
 
     private ImmutableTableSchema(StaticImmutableTableSchema<T, ?> wrappedTableSchema) {
         super(wrappedTableSchema);
@@ -141,12 +135,28 @@ public final class ImmutableTableSchema<T> extends WrappedTableSchema<T, StaticI
 
     private static <T> ImmutableTableSchema<T> create(ImmutableTableSchemaParams<T> params, ExecutionContext context) {
         if (context == ExecutionContext.ROOT) {
-            return (ImmutableTableSchema<T>) IMMUTABLE_TABLE_SCHEMA_CACHE.computeIfAbsent(
-                params.immutableClass(), clz -> create(params, new MetaTableSchemaCache(), context));
+            ImmutableTableSchema<T> registeredTableSchema = registeredTableSchema(params.immutableClass());
+            if (registeredTableSchema != null) {
+                return registeredTableSchema;
+            }
+
+            // Built without holding a lock, so schemas of different classes can be built concurrently. If another thread
+            // built the schema of this class in the meantime, the one registered first is used.
+            MetaTableSchemaCache metaTableSchemaCache = new MetaTableSchemaCache();
+            ImmutableTableSchema<T> newTableSchema = create(params, metaTableSchemaCache, context);
+            TableSchemaRegistry.instance().registerAll(metaTableSchemaCache);
+            registeredTableSchema = registeredTableSchema(params.immutableClass());
+            return registeredTableSchema != null ? registeredTableSchema : newTableSchema;
         }
         return create(params, new MetaTableSchemaCache(), context);
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> ImmutableTableSchema<T> registeredTableSchema(Class<T> immutableClass) {
+        TableSchema<T> registeredTableSchema = TableSchemaRegistry.instance().get(immutableClass);
+        return registeredTableSchema instanceof ImmutableTableSchema ? (ImmutableTableSchema<T>) registeredTableSchema : null;
+    }
+
     /**
      * Scans an immutable class and builds an {@link ImmutableTableSchema} from it that can be used with the
      * {@link DynamoDbEnhancedClient}.
@@ -211,6 +221,12 @@ public final class ImmutableTableSchema<T> extends WrappedTableSchema<T, StaticI
             return metaTableSchema.get();
         }
 
+        // Or: use the schema built by a previous build of another table schema
+        ImmutableTableSchema<T> registeredTableSchema = registeredTableSchema(immutableClass);
+        if (registeredTableSchema != null) {
+            return registeredTableSchema;
+        }
+
         // Otherwise: cache doesn't know about this class; create a new one from scratch
         return create(ImmutableTableSchemaParams.builder(immutableClass).lookup(lookup).build(), metaTableSchemaCache,
                       ExecutionContext.ROOT);
@@ -386,44 +402,8 @@ public final class ImmutableTableSchema<T> extends WrappedTableSchema<T, StaticI
      */
     private static void addTagsToAttribute(ImmutableAttribute.Builder<?, ?, ?> attributeBuilder,
                                            ImmutablePropertyDescriptor propertyDescriptor) {
-
-        propertyAnnotations(propertyDescriptor).forEach(annotation -> {
-            BeanTableSchemaAttributeTag beanTableSchemaAttributeTag =
-                annotation.annotationType().getAnnotation(BeanTableSchemaAttributeTag.class);
-
-            if (beanTableSchemaAttributeTag != null) {
-                Class<?> tagClass = beanTableSchemaAttributeTag.value();
-
-                Method tagMethod;
-                try {
-                    tagMethod = tagClass.getDeclaredMethod(ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
-                                                           annotation.annotationType());
-                } catch (NoSuchMethodException e) {
-                    throw new RuntimeException(
-                        String.format("Could not find a static method named '%s' on class '%s' that returns " +
-                                          "an AttributeTag for annotation '%s'", ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
-                                      tagClass, annotation.annotationType()), e);
-                }
-
-                if (!Modifier.isStatic(tagMethod.getModifiers())) {
-                    throw new RuntimeException(
-                        String.format("Could not find a static method named '%s' on class '%s' that returns " +
-                                          "an AttributeTag for annotation '%s'", ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
-                                      tagClass, annotation.annotationType()));
-                }
-
-                StaticAttributeTag staticAttributeTag;
-                try {
-                    staticAttributeTag = (StaticAttributeTag) tagMethod.invoke(null, annotation);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new RuntimeException(
-                        String.format("Could not invoke method to create AttributeTag for annotation '%s' on class " +
-                                          "'%s'.", annotation.annotationType(), tagClass), e);
-                }
-
-                attributeBuilder.addTag(staticAttributeTag);
-            }
-        });
+        propertyAnnotations(propertyDescriptor).forEach(annotation -> AnnotationUtils.attributeTagFor(annotation)
+                                                                                      .ifPresent(attributeBuilder::addTag));
     }
 
     private static <T, R> Supplier<R> newObjectSupplier(ImmutableInfo<T> immutableInfo, Class<R> builderClass,
@@ -508,7 +488,7 @@ public final class ImmutableTableSchema<T> extends WrappedTableSchema<T, StaticI
 
     @SdkTestInternalApi
     static void clearSchemaCache() {
-        IMMUTABLE_TABLE_SCHEMA_CACHE.clear();
+        TableSchemaRegistry.instance().clear();
     }
 }
 
@@ -530,8 +530,10 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             builder = constructNewBuilder();
         }
 
-        Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = new LinkedHashMap<>();
-        Map<FlattenedMapperForMaps<T, B>, Map<String, String>> flattenedMapAttributeValues = new LinkedHashMap<>();
+        // Only allocated for items that contain flattened attributes, so mapping the items of a page does not allocate them
+        // for every item
+        Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = null;
+        Map<FlattenedMapperForMaps<T, B>, Map<String, String>> flattenedMapAttributeValues = null;
 
         for (Map.Entry<String, AttributeValue> entry : attributeMap.entrySet()) {
             String key = entry.getKey();
@@ -550,6 +552,10 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
                     FlattenedMapper<T, B, ?> flattenedMapper = this.flattenedObjectMappers.get(key);
 
                     if (flattenedMapper != null) {
+                        if (flattenedAttributeValuesMap == null) {
+                            flattenedAttributeValuesMap = new LinkedHashMap<>();
+                        }
+
                         Map<String, AttributeValue> flattenedAttributeValues = 
                             flattenedAttributeValuesMap.get(flattenedMapper);
                         
@@ -562,6 +568,10 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
 
                     } else {
                         if (flattenedMapMapper != null) {
+                            if (flattenedMapAttributeValues == null) {
+                                flattenedMapAttributeValues = new LinkedHashMap<>();
+                            }
+
                             Map<String, String> flattenedAttributeValues =
                                 flattenedMapAttributeValues.get(flattenedMapMapper);
 
@@ -578,23 +588,28 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
         }
 
         // Handle nested objects that may contain their own flattened maps
-        for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry : flattenedAttributeValuesMap.entrySet()) {
-            FlattenedMapper<T, B, ?> mapper = entry.getKey();
-
-            // Create a copy of attributes excluding parent schema attributes
-            Map<String, AttributeValue> nestedAttributes = new HashMap<>();
-            attributeMap.forEach((attributeName, value) -> {
-                if (!indexedMappers.containsKey(attributeName)) {
-                    nestedAttributes.put(attributeName, value);
-                }
-            });
+        if (flattenedAttributeValuesMap != null) {
+            for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry :
+                flattenedAttributeValuesMap.entrySet()) {
+                FlattenedMapper<T, B, ?> mapper = entry.getKey();
+
+                // Create a copy of attributes excluding parent schema attributes
+                Map<String, AttributeValue> nestedAttributes = new HashMap<>();
+                attributeMap.forEach((attributeName, value) -> {
+                    if (!indexedMappers.containsKey(attributeName)) {
+                        nestedAttributes.put(attributeName, value);
+                    }
+                });
 
-            builder = mapper.mapToItem(builder, this::constructNewBuilder, nestedAttributes);
+                builder = mapper.mapToItem(builder, this::constructNewBuilder, nestedAttributes);
+            }
         }
 
-        for (Map.Entry<FlattenedMapperForMaps<T, B>, Map<String, String>> entry :
-            flattenedMapAttributeValues.entrySet()) {
-            builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+        if (flattenedMapAttributeValues != null) {
+            for (Map.Entry<FlattenedMapperForMaps<T, B>, Map<String, String>> entry :
+                flattenedMapAttributeValues.entrySet()) {
+                builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+            }
         }
 
         return builder == null ? null : buildItemFunction.apply(builder);
@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The progress of a parallel scan, which can be used to resume the scan with
+ * {@link ParallelScanEnhancedRequest.Builder#checkpoint(ParallelScanCheckpoint)}.
+ * <p>
+ * Each segment of the scan is either not started, in progress or completed. A segment in progress records the primary key
+ * of the last item evaluated by the last page of the segment that was consumed, and is resumed from there. Segments that
+ * are not started are scanned from the beginning, and completed segments are not scanned again.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanCheckpoint {
+    private final int totalSegments;
+    private final Map<Integer, Map<String, AttributeValue>> segmentStartKeys;
+    private final Set<Integer> completedSegments;
+
+    private ParallelScanCheckpoint(Builder builder) {
+        this.totalSegments = Validate.paramNotNull(builder.totalSegments, "totalSegments");
+        this.segmentStartKeys = Collections.unmodifiableMap(new TreeMap<>(builder.segmentStartKeys));
+        this.completedSegments = Collections.unmodifiableSet(new TreeSet<>(builder.completedSegments));
+        segmentStartKeys.keySet().forEach(this::validateSegment);
+        completedSegments.forEach(this::validateSegment);
+    }
+
+    /**
+     * Creates a newly initialized builder for a checkpoint.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of segments of the scan.
+     */
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the primary key that each segment in progress resumes from, by segment.
+     */
+    public Map<Integer, Map<String, AttributeValue>> segmentStartKeys() {
+        return segmentStartKeys;
+    }
+
+    /**
+     * Returns the segments that were completely scanned.
+     */
+    public Set<Integer> completedSegments() {
+        return completedSegments;
+    }
+
+    /**
+     * Returns true if all the segments were completely scanned.
+     */
+    public boolean isComplete() {
+        return completedSegments.size() == totalSegments;
+    }
+
+    private void validateSegment(int segment) {
+        Validate.isTrue(segment >= 0 && segment < totalSegments, "Segment %s is not one of the %s segments of the scan.",
+                        segment, totalSegments);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanCheckpoint that = (ParallelScanCheckpoint) o;
+
+        if (totalSegments != that.totalSegments) {
+            return false;
+        }
+        if (!segmentStartKeys.equals(that.segmentStartKeys)) {
+            return false;
+        }
+        return completedSegments.equals(that.completedSegments);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = totalSegments;
+        result = 31 * result + segmentStartKeys.hashCode();
+        result = 31 * result + completedSegments.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelScanCheckpoint(totalSegments=" + totalSegments
+               + ", segmentStartKeys=" + segmentStartKeys
+               + ", completedSegments=" + completedSegments + ")";
+    }
+
+    /**
+     * A builder that is used to create a checkpoint, for example from a checkpoint that was persisted.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer totalSegments;
+        private final Map<Integer, Map<String, AttributeValue>> segmentStartKeys = new HashMap<>();
+        private final Set<Integer> completedSegments = new TreeSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * The number of segments of the scan.
+         *
+         * @param totalSegments the number of segments of the scan
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * Records a segment in progress, which resumes after the given primary key.
+         *
+         * @param segment the segment in progress
+         * @param exclusiveStartKey the primary key of the last item of the segment that was evaluated
+         * @return a builder of this type
+         */
+        public Builder putSegmentStartKey(int segment, Map<String, AttributeValue> exclusiveStartKey) {
+            Validate.paramNotNull(exclusiveStartKey, "exclusiveStartKey");
+            completedSegments.remove(segment);
+            segmentStartKeys.put(segment, Collections.unmodifiableMap(new HashMap<>(exclusiveStartKey)));
+            return this;
+        }
+
+        /**
+         * Records a segment that was completely scanned.
+         *
+         * @param segment the completed segment
+         * @return a builder of this type
+         */
+        public Builder addCompletedSegment(int segment) {
+            segmentStartKeys.remove(segment);
+            completedSegments.add(segment);
+            return this;
+        }
+
+        public ParallelScanCheckpoint build() {
+            return new ParallelScanCheckpoint(this);
+        }
+    }
+}
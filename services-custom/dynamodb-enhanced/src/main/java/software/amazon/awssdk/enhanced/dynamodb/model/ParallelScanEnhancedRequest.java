@@ -0,0 +1,258 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used to scan a DynamoDb table with several segments at once using the parallelScan() operation (such
+ * as {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)} or
+ * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}).
+ * <p>
+ * {@link Builder#totalSegments(Integer)} is required, all other parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+    private static final int MAX_TOTAL_SEGMENTS = 1_000_000;
+
+    private final Integer totalSegments;
+    private final Integer maxConcurrency;
+    private final Double readCapacityUnitsPerSecond;
+    private final ScanEnhancedRequest scanRequest;
+    private final ParallelScanCheckpoint checkpoint;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.totalSegments = Validate.paramNotNull(builder.totalSegments, "totalSegments");
+        Validate.isTrue(totalSegments > 0 && totalSegments <= MAX_TOTAL_SEGMENTS,
+                        "totalSegments must be between 1 and %s.", MAX_TOTAL_SEGMENTS);
+        this.maxConcurrency = Validate.isPositiveOrNull(builder.maxConcurrency, "maxConcurrency");
+        this.readCapacityUnitsPerSecond = Validate.isPositiveOrNull(builder.readCapacityUnitsPerSecond,
+                                                                    "readCapacityUnitsPerSecond");
+        this.scanRequest = builder.scanRequest != null ? builder.scanRequest : ScanEnhancedRequest.builder().build();
+        Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null
+                        && scanRequest.exclusiveStartKey() == null,
+                        "The segments and the start key of a parallel scan are managed by the parallel scan and cannot be "
+                        + "set on its scan request.");
+        this.checkpoint = builder.checkpoint;
+        if (checkpoint != null) {
+            Validate.isTrue(checkpoint.totalSegments() == totalSegments,
+                            "The checkpoint was taken from a scan of %s segments, and cannot resume a scan of %s segments.",
+                            checkpoint.totalSegments(), totalSegments);
+        }
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().totalSegments(totalSegments)
+                        .maxConcurrency(maxConcurrency)
+                        .readCapacityUnitsPerSecond(readCapacityUnitsPerSecond)
+                        .scanRequest(scanRequest)
+                        .checkpoint(checkpoint);
+    }
+
+    /**
+     * Returns the number of segments the table is divided into.
+     */
+    public Integer totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of segments scanned at the same time, or null if it doesn't exist.
+     */
+    public Integer maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the read capacity units per second that the scan may consume, or null if it doesn't exist.
+     */
+    public Double readCapacityUnitsPerSecond() {
+        return readCapacityUnitsPerSecond;
+    }
+
+    /**
+     * Returns the scan request that each segment is scanned with.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the checkpoint that the scan resumes from, or null if it doesn't exist.
+     */
+    public ParallelScanCheckpoint checkpoint() {
+        return checkpoint;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        if (!totalSegments.equals(that.totalSegments)) {
+            return false;
+        }
+        if (maxConcurrency != null ? !maxConcurrency.equals(that.maxConcurrency) : that.maxConcurrency != null) {
+            return false;
+        }
+        if (readCapacityUnitsPerSecond != null ? !readCapacityUnitsPerSecond.equals(that.readCapacityUnitsPerSecond)
+                                               : that.readCapacityUnitsPerSecond != null) {
+            return false;
+        }
+        if (!scanRequest.equals(that.scanRequest)) {
+            return false;
+        }
+        return checkpoint != null ? checkpoint.equals(that.checkpoint) : that.checkpoint == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = totalSegments.hashCode();
+        result = 31 * result + (maxConcurrency != null ? maxConcurrency.hashCode() : 0);
+        result = 31 * result + (readCapacityUnitsPerSecond != null ? readCapacityUnitsPerSecond.hashCode() : 0);
+        result = 31 * result + scanRequest.hashCode();
+        result = 31 * result + (checkpoint != null ? checkpoint.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer totalSegments;
+        private Integer maxConcurrency;
+        private Double readCapacityUnitsPerSecond;
+        private ScanEnhancedRequest scanRequest;
+        private ParallelScanCheckpoint checkpoint;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of segments the table is divided into. Each segment is scanned independently, and up to
+         * {@link #maxConcurrency(Integer)} segments are scanned at the same time.
+         * <p>
+         * The number of segments cannot change during a scan, so a scan that is resumed from a checkpoint must use the same
+         * number of segments as the scan the checkpoint was taken from. Choosing more segments than are scanned at the same
+         * time leaves room for the concurrency to grow.
+         *
+         * @param totalSegments the number of segments, between 1 and 1,000,000
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments that are scanned at the same time. Each segment that is being scanned has at most
+         * one page request in flight and one page waiting to be consumed.
+         * <p>
+         * By default, up to 16 segments, and no more than the total number of segments, are scanned at the same time.
+         *
+         * @param maxConcurrency the maximum number of segments scanned at the same time
+         * @return a builder of this type
+         */
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * The read capacity units per second that the scan may consume. When set, the scan starts with a single segment,
+         * and scans one more segment at a time while the capacity consumed stays below this budget, up to
+         * {@link #maxConcurrency(Integer)}. Once the budget is used up, the next page of any segment is requested only after
+         * the budget is replenished.
+         * <p>
+         * The consumed capacity is read from the scan responses, so the scan requests ask for the total consumed capacity
+         * unless the scan request already asks for it. By default, the scan is not limited by consumed capacity and
+         * {@link #maxConcurrency(Integer)} segments are scanned from the start.
+         *
+         * @param readCapacityUnitsPerSecond the read capacity units per second that the scan may consume
+         * @return a builder of this type
+         */
+        public Builder readCapacityUnitsPerSecond(Double readCapacityUnitsPerSecond) {
+            this.readCapacityUnitsPerSecond = readCapacityUnitsPerSecond;
+            return this;
+        }
+
+        /**
+         * The scan request that each segment is scanned with, defining for example its filter expression, projection or
+         * read consistency. Its segment, total segments and exclusive start key must not be set.
+         *
+         * @param scanRequest the scan request that each segment is scanned with
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * The scan request that each segment is scanned with, defining for example its filter expression, projection or
+         * read consistency. Its segment, total segments and exclusive start key must not be set.
+         *
+         * @param scanRequest a consumer of the builder of the scan request that each segment is scanned with
+         * @return a builder of this type
+         */
+        public Builder scanRequest(Consumer<ScanEnhancedRequest.Builder> scanRequest) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanRequest.accept(builder);
+            return scanRequest(builder.build());
+        }
+
+        /**
+         * A checkpoint of a previous scan to resume from, usually one returned by the {@code checkpoint()} method of the
+         * result of a scan that failed. Segments that the checkpoint records as completed are skipped, and segments in
+         * progress are resumed from the page after the last page that was consumed.
+         *
+         * @param checkpoint the checkpoint to resume from
+         * @return a builder of this type
+         */
+        public Builder checkpoint(ParallelScanCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
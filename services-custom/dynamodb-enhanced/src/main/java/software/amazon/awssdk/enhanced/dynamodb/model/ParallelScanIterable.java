@@ -0,0 +1,57 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * The result of a parallel scan, which iterates over the pages of all the segments of the scan as they are retrieved by
+ * background threads. Pages of the same segment are returned in order, and pages of different segments are interleaved.
+ * <p>
+ * The iterable can be iterated once, and retrieves at most one page ahead of the iteration for each segment that is being
+ * scanned. {@link #items()} and {@link #stream()} flatten or stream the pages.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * ParallelScanIterable<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(64));
+ * try {
+ *     results.items().forEach(item -> export(item));
+ * } catch (SdkException e) {
+ *     persist(results.checkpoint());
+ * }
+ * }
+ * </pre>
+ *
+ * @param <T> The modelled type of the object in a page.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ParallelScanIterable<T> extends PageIterable<T> {
+
+    /**
+     * Returns the progress of the scan, which can be used to resume it if it fails.
+     * <p>
+     * A page is recorded as consumed once the iteration moves past it, or once the scan completes. A scan resumed from the
+     * checkpoint may therefore return again the items of the page being iterated over when the checkpoint was taken, but
+     * never skips items.
+     *
+     * @return the progress of the scan
+     */
+    ParallelScanCheckpoint checkpoint();
+}
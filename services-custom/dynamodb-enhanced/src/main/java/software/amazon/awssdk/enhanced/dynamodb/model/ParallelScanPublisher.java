@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * The result of a parallel scan, which publishes the pages of all the segments of the scan as they are retrieved. Pages of
+ * the same segment are published in order, and pages of different segments are interleaved.
+ * <p>
+ * The publisher supports a single subscriber, and retrieves at most one page ahead of the subscriber for each segment that
+ * is being scanned. Subscribing to {@link #items()} flattens the pages into items.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * ParallelScanPublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(64));
+ * publisher.items()
+ *          .subscribe(item -> export(item))
+ *          .exceptionally(failure -> {
+ *              persist(publisher.checkpoint());
+ *              return null;
+ *          });
+ * }
+ * </pre>
+ *
+ * @param <T> The modelled type of the object in a page.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ParallelScanPublisher<T> extends PagePublisher<T> {
+
+    /**
+     * Returns the progress of the scan, which can be used to resume it if it fails.
+     * <p>
+     * A page is recorded as consumed once the subscriber requests more pages after it was published, or once the scan
+     * completes. A scan resumed from the checkpoint may therefore publish again the items of the last pages that were
+     * published before the checkpoint was taken, but never skips items.
+     *
+     * @return the progress of the scan
+     */
+    ParallelScanCheckpoint checkpoint();
+}
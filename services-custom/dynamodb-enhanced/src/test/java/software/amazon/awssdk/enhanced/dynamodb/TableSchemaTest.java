@@ -16,12 +16,22 @@
 package software.amazon.awssdk.enhanced.dynamodb;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -40,6 +50,8 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.ImplicitOrderBe
 import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.InvalidBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.MixedOrderingBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.MultiGSIBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.NestedBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.NestedImmutable;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.NonSequentialOrderBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.OrderPreservationBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleBean;
@@ -321,4 +333,58 @@ public class TableSchemaTest {
         exception.expectMessage("must all have explicit ordering");
         TableSchema.fromBean(MixedOrderingBean.class);
     }
+
+    @Test
+    public void fromClass_concurrentCalls_returnSameInstance() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<TableSchema<CommonTypesBean>>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> TableSchema.fromClass(CommonTypesBean.class)));
+            }
+
+            TableSchema<CommonTypesBean> first = futures.get(0).get();
+            for (Future<TableSchema<CommonTypesBean>> future : futures) {
+                assertThat(future.get()).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void warmUp_buildsSchemasReturnedByFromClass() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TableSchema.warmUp(Arrays.asList(NestedBean.class, NestedImmutable.class), executor).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(TableSchema.fromClass(NestedBean.class)).isSameAs(TableSchema.fromClass(NestedBean.class));
+        assertThat(TableSchema.fromBean(NestedBean.class)).isSameAs(TableSchema.fromClass(NestedBean.class));
+        assertThat(TableSchema.fromImmutableClass(NestedImmutable.class))
+            .isSameAs(TableSchema.fromClass(NestedImmutable.class));
+    }
+
+    @Test
+    public void warmUp_acceptsSetsAndListsOfSpecificClasses() {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(NestedBean.class, NestedImmutable.class));
+        List<Class<NestedBean>> beanClasses = Collections.singletonList(NestedBean.class);
+
+        assertThat(TableSchema.warmUp(classes, Runnable::run)).isCompleted();
+        assertThat(TableSchema.warmUp(beanClasses, Runnable::run)).isCompleted();
+    }
+
+    @Test
+    public void warmUp_emptyCollection_completes() {
+        assertThat(TableSchema.warmUp(Collections.emptyList(), Runnable::run)).isCompleted();
+    }
+
+    @Test
+    public void warmUp_unannotatedClass_completesExceptionally() {
+        assertThatThrownBy(() -> TableSchema.warmUp(Collections.singletonList(String.class), Runnable::run).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -230,6 +230,37 @@ public class ChainExtensionTest {
         inOrder.verifyNoMoreInteractions();
     }
 
+    @Test
+    public void afterRead_skipsExtensionsWithoutAfterRead() {
+        DynamoDbEnhancedClientExtension writeOnlyExtension = new DynamoDbEnhancedClientExtension() {
+        };
+        ChainExtension extension = ChainExtension.create(mockExtension1, writeOnlyExtension, mockExtension2);
+        ReadModification readModification1 = ReadModification.builder().build();
+        ReadModification readModification2 = ReadModification.builder().transformedItem(fakeItems.get(1)).build();
+        when(mockExtension1.afterRead(any(DynamoDbExtensionContext.AfterRead.class))).thenReturn(readModification1);
+        when(mockExtension2.afterRead(any(DynamoDbExtensionContext.AfterRead.class))).thenReturn(readModification2);
+
+        ReadModification result = extension.afterRead(getReadExtensionContext(0));
+
+        assertThat(result.transformedItem(), is(fakeItems.get(1)));
+        assertThat(extension.transformsReadItems(), is(true));
+
+        InOrder inOrder = Mockito.inOrder(mockExtension1, mockExtension2);
+        inOrder.verify(mockExtension2).afterRead(getReadExtensionContext(0));
+        inOrder.verify(mockExtension1).afterRead(getReadExtensionContext(1));
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void transformsReadItems_noExtensionsWithAfterRead_isFalse() {
+        ChainExtension extension = ChainExtension.create(new DynamoDbEnhancedClientExtension() {
+        }, new DynamoDbEnhancedClientExtension() {
+        });
+
+        assertThat(extension.transformsReadItems(), is(false));
+        assertThat(extension.afterRead(getReadExtensionContext(0)).transformedItem(), is(nullValue()));
+    }
+
     @Test
     public void afterRead_multipleExtensions_singleTransformation() {
         ChainExtension extension = ChainExtension.create(mockExtension1, mockExtension2, mockExtension3);
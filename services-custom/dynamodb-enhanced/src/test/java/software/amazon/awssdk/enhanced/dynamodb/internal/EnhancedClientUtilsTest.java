@@ -38,6 +38,8 @@ import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.extensions.ReadModification;
 import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
 import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort;
+import software.amazon.awssdk.enhanced.dynamodb.internal.client.ExtensionResolver;
+import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.ChainExtension;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
@@ -448,6 +450,34 @@ public class EnhancedClientUtilsTest {
             .isNotNull();
     }
 
+    @Test
+    public void transformsReadItems_extensionWithoutAfterRead_isFalse() {
+        assertThat(EnhancedClientUtils.transformsReadItems(new DynamoDbEnhancedClientExtension() {})).isFalse();
+    }
+
+    @Test
+    public void transformsReadItems_extensionWithAfterRead_isTrue() {
+        DynamoDbEnhancedClientExtension extension = new DynamoDbEnhancedClientExtension() {
+            @Override
+            public ReadModification afterRead(DynamoDbExtensionContext.AfterRead context) {
+                return ReadModification.builder().build();
+            }
+        };
+
+        assertThat(EnhancedClientUtils.transformsReadItems(extension)).isTrue();
+        assertThat(EnhancedClientUtils.transformsReadItems(ChainExtension.create(new DynamoDbEnhancedClientExtension() {},
+                                                                                 extension)))
+            .isTrue();
+    }
+
+    @Test
+    public void transformsReadItems_defaultExtensions_isFalse() {
+        DynamoDbEnhancedClientExtension extension =
+            ExtensionResolver.resolveExtensions(ExtensionResolver.defaultExtensions());
+
+        assertThat(EnhancedClientUtils.transformsReadItems(extension)).isFalse();
+    }
+
     @Test
     public void readAndTransformPaginatedItems_withAllFields_returnsCompletePage() {
         class TestResponse {
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncBatchManager;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.batchmanager.DynamoDbAsyncBatchManager;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultDynamoDbEnhancedAsyncBatchManagerTest {
+    private static final String TABLE_NAME = "table-name";
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    @Mock
+    private DynamoDbAsyncBatchManager mockBatchManager;
+
+    private DefaultDynamoDbAsyncTable<FakeItem> table;
+    private DynamoDbEnhancedAsyncBatchManager batchManager;
+
+    @Before
+    public void setUp() {
+        table = new DefaultDynamoDbAsyncTable<>(mockDynamoDbAsyncClient, null, FakeItem.getTableSchema(), TABLE_NAME);
+        batchManager = DynamoDbEnhancedAsyncBatchManager.create(mockBatchManager);
+    }
+
+    @Test
+    public void putItem_sendsMappedItemToBatchManager() {
+        when(mockBatchManager.putItem(any(PutItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+        FakeItem item = FakeItem.createUniqueFakeItem();
+
+        batchManager.putItem(table, item).join();
+
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(mockBatchManager).putItem(captor.capture());
+        assertThat(captor.getValue().tableName()).isEqualTo(TABLE_NAME);
+        assertThat(captor.getValue().item()).containsEntry("id", stringValue(item.getId()));
+    }
+
+    @Test
+    public void deleteItem_doesNotAskForOldItem() {
+        when(mockBatchManager.deleteItem(any(DeleteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(DeleteItemResponse.builder().build()));
+
+        batchManager.deleteItem(table, Key.builder().partitionValue("id-value").build()).join();
+
+        ArgumentCaptor<DeleteItemRequest> captor = ArgumentCaptor.forClass(DeleteItemRequest.class);
+        verify(mockBatchManager).deleteItem(captor.capture());
+        assertThat(captor.getValue().key()).isEqualTo(Collections.singletonMap("id", stringValue("id-value")));
+        assertThat(captor.getValue().returnValuesAsString()).isNull();
+    }
+
+    @Test
+    public void getItem_mapsReturnedItem() {
+        FakeItem item = FakeItem.createUniqueFakeItem();
+        when(mockBatchManager.getItem(any(GetItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                GetItemResponse.builder().item(FakeItem.getTableSchema().itemToMap(item, true)).build()));
+
+        FakeItem result = batchManager.getItem(table, Key.builder().partitionValue(item.getId()).build()).join();
+
+        assertThat(result).isEqualTo(item);
+    }
+
+    @Test
+    public void getItem_itemNotFound_returnsNull() {
+        when(mockBatchManager.getItem(any(GetItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(GetItemResponse.builder().build()));
+
+        assertThat(batchManager.getItem(table, Key.builder().partitionValue("id-value").build()).join()).isNull();
+    }
+
+    @Test
+    public void close_closesBatchManager() {
+        batchManager.close();
+
+        verify(mockBatchManager).close();
+    }
+}
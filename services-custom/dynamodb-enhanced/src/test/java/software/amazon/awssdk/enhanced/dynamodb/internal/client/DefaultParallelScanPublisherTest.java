@@ -0,0 +1,263 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class DefaultParallelScanPublisherTest {
+    private static final int TOTAL_SEGMENTS = 4;
+    private static final int PAGES_PER_SEGMENT = 3;
+
+    private ScheduledExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newScheduledThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void items_allSegmentsScanned_publishesEveryItemInSegmentOrder() {
+        DefaultParallelScanPublisher<String> publisher = publisher(asyncPages(), 2).build();
+
+        List<String> items = collect(publisher);
+
+        assertThat(items).containsExactlyInAnyOrderElementsOf(allItems());
+        for (int segment = 0; segment < TOTAL_SEGMENTS; segment++) {
+            String prefix = segment + "-";
+            List<String> segmentItems = new ArrayList<>();
+            items.stream().filter(item -> item.startsWith(prefix)).forEach(segmentItems::add);
+            assertThat(segmentItems).isSorted();
+        }
+        assertThat(publisher.checkpoint().isComplete()).isTrue();
+        assertThat(publisher.checkpoint().segmentStartKeys()).isEmpty();
+    }
+
+    @Test
+    void pageRequests_neverExceedMaxConcurrency() {
+        AtomicInteger maxInFlight = new AtomicInteger();
+        BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<String>>> pages = delayedPages(maxInFlight);
+
+        collect(publisher(pages, 2).build());
+
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void subscriberWithoutDemand_receivesNothingAndAtMostOnePageIsRequestedPerSegment() {
+        AtomicInteger requests = new AtomicInteger();
+        BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<String>>> pages = (segment, startKey) -> {
+            requests.incrementAndGet();
+            return CompletableFuture.completedFuture(page(segment, startKey));
+        };
+        ConcurrentLinkedQueue<Page<String>> received = new ConcurrentLinkedQueue<>();
+
+        publisher(pages, 2).build().subscribe(new Subscriber<Page<String>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+            }
+
+            @Override
+            public void onNext(Page<String> page) {
+                received.add(page);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertThat(received).isEmpty();
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void checkpoint_afterFailure_resumesWithoutSkippingItems() {
+        BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<String>>> failingPages =
+            (segment, startKey) -> {
+                if (segment == 2 && startKey != null) {
+                    CompletableFuture<Page<String>> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(new IllegalStateException("segment failed"));
+                    return failed;
+                }
+                return CompletableFuture.completedFuture(page(segment, startKey));
+            };
+        DefaultParallelScanPublisher<String> failingPublisher = publisher(failingPages, 1).build();
+        List<String> firstItems = Collections.synchronizedList(new ArrayList<>());
+
+        assertThatThrownBy(() -> failingPublisher.items().subscribe(firstItems::add).join())
+            .isInstanceOf(CompletionException.class)
+            .hasRootCauseMessage("segment failed");
+
+        ParallelScanCheckpoint checkpoint = failingPublisher.checkpoint();
+        assertThat(checkpoint.isComplete()).isFalse();
+        assertThat(checkpoint.completedSegments()).containsExactly(0, 1);
+        assertThat(checkpoint.segmentStartKeys()).doesNotContainKeys(0, 1, 3);
+
+        List<String> resumedItems = collect(publisher(asyncPages(), 1).checkpoint(checkpoint).build());
+
+        assertThat(resumedItems).doesNotContainAnyElementsOf(itemsOfSegment(0)).doesNotContainAnyElementsOf(itemsOfSegment(1));
+        Set<String> items = new HashSet<>(firstItems);
+        items.addAll(resumedItems);
+        assertThat(items).containsExactlyInAnyOrderElementsOf(allItems());
+    }
+
+    @Test
+    void checkpoint_allSegmentsCompleted_completesWithoutRequestingPages() {
+        ParallelScanCheckpoint.Builder checkpoint = ParallelScanCheckpoint.builder().totalSegments(TOTAL_SEGMENTS);
+        for (int segment = 0; segment < TOTAL_SEGMENTS; segment++) {
+            checkpoint.addCompletedSegment(segment);
+        }
+        AtomicInteger requests = new AtomicInteger();
+
+        List<String> items = collect(publisher((segment, startKey) -> {
+            requests.incrementAndGet();
+            return CompletableFuture.completedFuture(page(segment, startKey));
+        }, 2).checkpoint(checkpoint.build()).build());
+
+        assertThat(items).isEmpty();
+        assertThat(requests.get()).isZero();
+    }
+
+    @Test
+    void readCapacityBudget_startsWithOneSegmentAndGrowsWhileCapacityRemains() {
+        AtomicInteger maxInFlight = new AtomicInteger();
+        BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<String>>> pages = delayedPages(maxInFlight);
+
+        List<String> items = collect(publisher(pages, TOTAL_SEGMENTS).readCapacityUnitsPerSecond(1_000_000.0)
+                                                                    .scheduledExecutor(executor)
+                                                                    .build());
+
+        assertThat(items).containsExactlyInAnyOrderElementsOf(allItems());
+        assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(TOTAL_SEGMENTS);
+    }
+
+    @Test
+    void onTermination_runsOnceWhenScanCompletes() {
+        AtomicInteger terminations = new AtomicInteger();
+
+        collect(publisher(asyncPages(), 2).onTermination(terminations::incrementAndGet).build());
+
+        assertThat(terminations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_secondSubscriber_receivesError() {
+        DefaultParallelScanPublisher<String> publisher = publisher(asyncPages(), 2).build();
+        collect(publisher);
+
+        assertThatThrownBy(() -> publisher.subscribe(page -> { }).join())
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private DefaultParallelScanPublisher.Builder<String> publisher(
+        BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<String>>> pages, int maxConcurrency) {
+        return DefaultParallelScanPublisher.<String>builder()
+                                           .totalSegments(TOTAL_SEGMENTS)
+                                           .maxConcurrency(maxConcurrency)
+                                           .pageFetcher(pages);
+    }
+
+    private BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<String>>> asyncPages() {
+        return (segment, startKey) -> CompletableFuture.supplyAsync(() -> page(segment, startKey), executor);
+    }
+
+    /**
+     * Pages that are returned after a short delay, recording the highest number of page requests in flight at once.
+     */
+    private BiFunction<Integer, Map<String, AttributeValue>, CompletableFuture<Page<String>>> delayedPages(
+        AtomicInteger maxInFlight) {
+        AtomicInteger inFlight = new AtomicInteger();
+        return (segment, startKey) -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<Page<String>> page = new CompletableFuture<>();
+            executor.schedule(() -> {
+                inFlight.decrementAndGet();
+                page.complete(page(segment, startKey));
+            }, 5, TimeUnit.MILLISECONDS);
+            return page;
+        };
+    }
+
+    private static List<String> collect(DefaultParallelScanPublisher<String> publisher) {
+        List<String> items = Collections.synchronizedList(new ArrayList<>());
+        publisher.items().subscribe(items::add).join();
+        return items;
+    }
+
+    /**
+     * Segment s has pages 0 to PAGES_PER_SEGMENT - 1, and page p has the items "s-p-0" and "s-p-1". The last evaluated key
+     * of a page is its number.
+     */
+    private static Page<String> page(int segment, Map<String, AttributeValue> startKey) {
+        int pageNumber = startKey == null ? 0 : Integer.parseInt(startKey.get("page").n()) + 1;
+        List<String> items = Arrays.asList(segment + "-" + pageNumber + "-0", segment + "-" + pageNumber + "-1");
+        if (pageNumber == PAGES_PER_SEGMENT - 1) {
+            return Page.create(items);
+        }
+        return Page.create(items, Collections.singletonMap("page", AttributeValue.fromN(Integer.toString(pageNumber))));
+    }
+
+    private static List<String> allItems() {
+        List<String> items = new ArrayList<>();
+        for (int segment = 0; segment < TOTAL_SEGMENTS; segment++) {
+            items.addAll(itemsOfSegment(segment));
+        }
+        return items;
+    }
+
+    private static List<String> itemsOfSegment(int segment) {
+        List<String> items = new ArrayList<>();
+        for (int page = 0; page < PAGES_PER_SEGMENT; page++) {
+            items.add(segment + "-" + page + "-0");
+            items.add(segment + "-" + page + "-1");
+        }
+        return items;
+    }
+}
@@ -18,7 +18,9 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort;
 
 public class MetaTableSchemaCacheTest {
     private final MetaTableSchemaCache metaTableSchemaCache = new MetaTableSchemaCache();
@@ -43,4 +45,14 @@ public class MetaTableSchemaCacheTest {
 
         assertThat(metaTableSchemaCache.getOrCreate(FakeItem.class)).isSameAs(metaTableSchema);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void initializedSchemasOnlyContainsInitializedEntries() {
+        TableSchema<FakeItem> tableSchema = FakeItem.getTableSchema();
+        metaTableSchemaCache.getOrCreate(FakeItem.class).initialize(tableSchema);
+        metaTableSchemaCache.getOrCreate(FakeItemWithSort.class);
+
+        assertThat(metaTableSchemaCache.initializedSchemas()).containsOnlyKeys(FakeItem.class);
+        assertThat(metaTableSchemaCache.initializedSchemas().get(FakeItem.class)).isSameAs(tableSchema);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+public class TableSchemaRegistryTest {
+    private final TableSchemaRegistry registry = TableSchemaRegistry.instance();
+
+    @AfterEach
+    public void tearDown() {
+        registry.clear();
+    }
+
+    @Test
+    public void getUnregisteredClassReturnsNull() {
+        assertThat(registry.get(FakeItem.class)).isNull();
+    }
+
+    @Test
+    public void registerThenGet() {
+        TableSchema<FakeItem> tableSchema = FakeItem.getTableSchema();
+
+        assertThat(registry.register(FakeItem.class, tableSchema)).isSameAs(tableSchema);
+        assertThat(registry.get(FakeItem.class)).isSameAs(tableSchema);
+    }
+
+    @Test
+    public void registerKeepsFirstRegisteredSchema() {
+        TableSchema<FakeItem> first = MetaTableSchema.create(FakeItem.class);
+        TableSchema<FakeItem> second = MetaTableSchema.create(FakeItem.class);
+
+        registry.register(FakeItem.class, first);
+
+        assertThat(registry.register(FakeItem.class, second)).isSameAs(first);
+        assertThat(registry.get(FakeItem.class)).isSameAs(first);
+    }
+
+    @Test
+    public void registerAllRegistersOnlyInitializedSchemas() {
+        MetaTableSchemaCache metaTableSchemaCache = new MetaTableSchemaCache();
+        TableSchema<FakeItem> tableSchema = FakeItem.getTableSchema();
+        metaTableSchemaCache.getOrCreate(FakeItem.class).initialize(tableSchema);
+        metaTableSchemaCache.getOrCreate(FakeItemWithSort.class);
+
+        registry.registerAll(metaTableSchemaCache);
+
+        assertThat(registry.get(FakeItem.class)).isSameAs(tableSchema);
+        assertThat(registry.get(FakeItemWithSort.class)).isNull();
+    }
+
+    @Test
+    public void clearRemovesRegisteredSchemas() {
+        StaticTableSchema<FakeItemWithSort> tableSchema = FakeItemWithSort.getTableSchema();
+        registry.register(FakeItemWithSort.class, tableSchema);
+
+        registry.clear();
+
+        assertThat(registry.get(FakeItemWithSort.class)).isNull();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+class ParallelScanOperationTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final int TOTAL_SEGMENTS = 3;
+
+    private final ConcurrentLinkedQueue<ScanRequest> scanRequests = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void execute_scansEverySegmentWithTheScanRequest() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        when(client.scan(any(ScanRequest.class))).thenAnswer(invocation -> scan(invocation.getArgument(0)));
+
+        ParallelScanIterable<FakeItem> results =
+            ParallelScanOperation.<FakeItem>create(ParallelScanEnhancedRequest.builder()
+                                                                              .totalSegments(TOTAL_SEGMENTS)
+                                                                              .scanRequest(r -> r.consistentRead(true))
+                                                                              .build())
+                                 .execute(FakeItem.getTableSchema(), TABLE_NAME, null, client);
+
+        List<String> ids = results.items().stream().map(FakeItem::getId).collect(Collectors.toList());
+
+        assertThat(ids).containsExactlyInAnyOrder("0-0", "0-1", "1-0", "1-1", "2-0", "2-1");
+        assertThat(scanRequests).hasSize(2 * TOTAL_SEGMENTS)
+                                .allSatisfy(request -> {
+                                    assertThat(request.tableName()).isEqualTo(TABLE_NAME);
+                                    assertThat(request.totalSegments()).isEqualTo(TOTAL_SEGMENTS);
+                                    assertThat(request.consistentRead()).isTrue();
+                                    assertThat(request.returnConsumedCapacity()).isNull();
+                                });
+        assertThat(results.checkpoint().isComplete()).isTrue();
+    }
+
+    @Test
+    void executeAsync_withReadCapacityBudget_requestsConsumedCapacity() {
+        DynamoDbAsyncClient client = mock(DynamoDbAsyncClient.class);
+        when(client.scan(any(ScanRequest.class)))
+            .thenAnswer(invocation -> CompletableFuture.completedFuture(scan(invocation.getArgument(0))));
+
+        List<FakeItem> items = Collections.synchronizedList(new ArrayList<>());
+        ParallelScanOperation.<FakeItem>create(ParallelScanEnhancedRequest.builder()
+                                                                          .totalSegments(TOTAL_SEGMENTS)
+                                                                          .readCapacityUnitsPerSecond(1000.0)
+                                                                          .build())
+                             .executeAsync(FakeItem.getTableSchema(), TABLE_NAME, null, client)
+                             .items()
+                             .subscribe(items::add)
+                             .join();
+
+        assertThat(items).hasSize(2 * TOTAL_SEGMENTS);
+        assertThat(scanRequests).allSatisfy(
+            request -> assertThat(request.returnConsumedCapacity()).isEqualTo(ReturnConsumedCapacity.TOTAL));
+    }
+
+    @Test
+    void execute_fromCheckpoint_skipsCompletedSegmentsAndResumesStartedOnes() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        when(client.scan(any(ScanRequest.class))).thenAnswer(invocation -> scan(invocation.getArgument(0)));
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder()
+                                                                  .totalSegments(TOTAL_SEGMENTS)
+                                                                  .addCompletedSegment(0)
+                                                                  .putSegmentStartKey(1, lastEvaluatedKey(1))
+                                                                  .build();
+
+        List<String> ids = ParallelScanOperation.<FakeItem>create(ParallelScanEnhancedRequest.builder()
+                                                                                             .totalSegments(TOTAL_SEGMENTS)
+                                                                                             .checkpoint(checkpoint)
+                                                                                             .build())
+                                                .execute(FakeItem.getTableSchema(), TABLE_NAME, null, client)
+                                                .items()
+                                                .stream()
+                                                .map(FakeItem::getId)
+                                                .collect(Collectors.toList());
+
+        assertThat(ids).containsExactlyInAnyOrder("1-1", "2-0", "2-1");
+    }
+
+    @Test
+    void request_scanRequestWithSegment_throws() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(TOTAL_SEGMENTS)
+                                                            .scanRequest(ScanEnhancedRequest.builder()
+                                                                                            .segment(0)
+                                                                                            .totalSegments(2)
+                                                                                            .build())
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void request_checkpointOfOtherSegmentCount_throws() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder().totalSegments(TOTAL_SEGMENTS + 1).build();
+
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(TOTAL_SEGMENTS)
+                                                            .checkpoint(checkpoint)
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Each segment has two pages of one item, with the ids "segment-0" and "segment-1".
+     */
+    private ScanResponse scan(ScanRequest request) {
+        scanRequests.add(request);
+        int segment = request.segment();
+        boolean firstPage = !request.hasExclusiveStartKey();
+        FakeItem item = FakeItem.builder().id(segment + "-" + (firstPage ? 0 : 1)).build();
+        ScanResponse.Builder response = ScanResponse.builder()
+                                                    .items(FakeItem.getTableSchema().itemToMap(item, true))
+                                                    .count(1);
+        if (firstPage) {
+            response.lastEvaluatedKey(lastEvaluatedKey(segment));
+        }
+        return response.build();
+    }
+
+    private static Map<String, AttributeValue> lastEvaluatedKey(int segment) {
+        return Collections.singletonMap("id", AttributeValue.fromS(segment + "-0"));
+    }
+}
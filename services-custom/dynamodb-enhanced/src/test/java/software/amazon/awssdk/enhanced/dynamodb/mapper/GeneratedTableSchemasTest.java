@@ -0,0 +1,59 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.annotation.Annotation;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleBean;
+
+public class GeneratedTableSchemasTest {
+
+    @Test
+    public void attributeTagFor_tagAnnotation_createsTagOfAnnotation() throws Exception {
+        Annotation partitionKey = SimpleBean.class.getMethod("getId").getAnnotation(DynamoDbPartitionKey.class);
+
+        StaticAttributeTag tag = GeneratedTableSchemas.attributeTagFor(partitionKey);
+
+        StaticTableMetadata.Builder metadata = StaticTableMetadata.builder();
+        tag.modifyMetadata("id", AttributeValueType.S).accept(metadata);
+        assertThat(metadata.build().primaryPartitionKey()).isEqualTo("id");
+    }
+
+    @Test
+    public void attributeTagFor_annotationWithoutTag_throwsIllegalArgumentException() {
+        Annotation bean = SimpleBean.class.getAnnotation(DynamoDbBean.class);
+
+        assertThatThrownBy(() -> GeneratedTableSchemas.attributeTagFor(bean))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("DynamoDbBean");
+    }
+
+    @Test
+    public void flattenedTableSchema_createsNewSchemaOfClass() {
+        TableSchema<SimpleBean> flattened = GeneratedTableSchemas.flattenedTableSchema(SimpleBean.class);
+
+        assertThat(flattened.attributeNames()).isEqualTo(TableSchema.fromBean(SimpleBean.class).attributeNames());
+        assertThat(flattened).isNotSameAs(GeneratedTableSchemas.flattenedTableSchema(SimpleBean.class));
+    }
+}
@@ -901,6 +901,35 @@ public interface S3TransferManager extends SdkAutoCloseable {
          */
         Builder transferDirectoryMaxConcurrency(Integer transferDirectoryMaxConcurrency);
 
+        /**
+         * Specifies the maximum number of bytes that the files being uploaded by a single
+         * {@link S3TransferManager#uploadDirectory} call may have in flight at the same time. Every file in flight reserves its
+         * size from this budget, up to 32 MiB for files large enough to be uploaded in parts, since those only buffer a few parts
+         * at a time. Files smaller than 8 MiB are started before larger ones, while larger files are still started regularly
+         * so that they make progress. {@link #transferDirectoryMaxConcurrency(Integer)} still limits the number of files in
+         * flight.
+         * <p>
+         * Default to 2 GiB
+         *
+         * @param uploadDirectoryMaxBytesInFlight the maximum number of bytes in flight
+         * @return This builder for method chaining.
+         */
+        Builder uploadDirectoryMaxBytesInFlight(Long uploadDirectoryMaxBytesInFlight);
+
+        /**
+         * Specifies the maximum number of ListObjectsV2 requests that a single {@link S3TransferManager#downloadDirectory} call
+         * may have in flight at the same time. When greater than 1, the bucket is listed one common prefix at a time,
+         * concurrently, using the delimiter of the list objects request or "/" if it has none, and objects are
+         * downloaded in no particular order as soon as they are listed. This speeds up downloading directories with many keys
+         * spread across many prefixes. It does not change which objects are downloaded.
+         * <p>
+         * Default to 1, which lists the bucket one page at a time, in key order.
+         *
+         * @param downloadDirectoryListingMaxConcurrency the maximum number of list requests in flight
+         * @return This builder for method chaining.
+         */
+        Builder downloadDirectoryListingMaxConcurrency(Integer downloadDirectoryListingMaxConcurrency);
+
         /**
          * Builds an instance of {@link S3TransferManager} based on the settings supplied to this builder
          *
@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.config;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.transfer.s3.model.DownloadDirectoryRequest;
+import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configures the sync mode of an {@link UploadDirectoryRequest} or a {@link DownloadDirectoryRequest}. In sync mode, files
+ * and objects that have not changed since they were last transferred are skipped.
+ *
+ * <p>A file and an object are considered unchanged when they have the same size and:
+ * <ul>
+ *     <li>if a {@link Builder#manifest(Path) manifest} is configured and has an entry for the object key, the local
+ *     modification time and the object ETag are the ones recorded in the entry when the object was last transferred, or</li>
+ *     <li>otherwise, the copy at the destination was last modified no earlier than the source: for an upload, the object was
+ *     last modified at or after the modification time of the file; for a download, the file was last modified at or after
+ *     the object.</li>
+ * </ul>
+ *
+ * <p>Use {@link #builder()} to create a set of options.
+ */
+@SdkPublicApi
+public final class DirectorySyncConfiguration
+    implements ToCopyableBuilder<DirectorySyncConfiguration.Builder, DirectorySyncConfiguration> {
+
+    private final Path manifest;
+
+    private DirectorySyncConfiguration(DefaultBuilder builder) {
+        this.manifest = builder.manifest;
+    }
+
+    /**
+     * @return the optional manifest file
+     * @see Builder#manifest(Path)
+     */
+    public Optional<Path> manifest() {
+        return Optional.ofNullable(manifest);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        DirectorySyncConfiguration that = (DirectorySyncConfiguration) o;
+
+        return Objects.equals(manifest, that.manifest);
+    }
+
+    @Override
+    public int hashCode() {
+        return manifest != null ? manifest.hashCode() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DirectorySyncConfiguration")
+                       .add("manifest", manifest)
+                       .build();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    public static Class<? extends Builder> serializableBuilderClass() {
+        return DefaultBuilder.class;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, DirectorySyncConfiguration> {
+
+        /**
+         * Specifies a local manifest file recording the size, modification time and ETag of every file transferred by previous
+         * syncs. The manifest is created if it does not exist and is rewritten when the directory transfer completes. The whole
+         * manifest is read into memory for the duration of the directory transfer, so it takes as much heap as its size on
+         * disk: about 60 bytes plus the length of the key for every file, up to 2 GiB.
+         *
+         * <p>
+         * A manifest makes the comparison exact rather than based on timestamps, and detects objects that were overwritten
+         * with the same size since the last sync. The same manifest should only be used to sync the same directory and
+         * bucket.
+         *
+         * @param manifest the manifest file
+         * @return This builder for method chaining.
+         */
+        Builder manifest(Path manifest);
+
+        @Override
+        DirectorySyncConfiguration build();
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Path manifest;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(DirectorySyncConfiguration configuration) {
+            this.manifest = configuration.manifest;
+        }
+
+        @Override
+        public Builder manifest(Path manifest) {
+            this.manifest = manifest;
+            return this;
+        }
+
+        public void setManifest(Path manifest) {
+            manifest(manifest);
+        }
+
+        public Path getManifest() {
+            return manifest;
+        }
+
+        @Override
+        public DirectorySyncConfiguration build() {
+            return new DirectorySyncConfiguration(this);
+        }
+    }
+}
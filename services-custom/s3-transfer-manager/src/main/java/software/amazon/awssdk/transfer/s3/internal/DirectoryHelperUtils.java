@@ -59,4 +59,22 @@ final class DirectoryHelperUtils {
         return stripped.substring(1);
     }
 
+    /**
+     * Compare two object keys in the order S3 lists them, which is the order of their UTF-8 encodings, or equivalently of
+     * their code points. This differs from {@link String#compareTo(String)} for keys with supplementary characters.
+     */
+    static int compareKeys(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            if (ca != cb) {
+                return Integer.compare(ca, cb);
+            }
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
 }
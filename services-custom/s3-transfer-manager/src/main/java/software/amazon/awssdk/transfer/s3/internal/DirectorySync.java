@@ -0,0 +1,199 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.DirectorySyncConfiguration;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * The state of the sync of one directory transfer: decides whether a file and an object are unchanged, as described in
+ * {@link DirectorySyncConfiguration}, and records the files that were transferred or found unchanged so that the manifest, if
+ * any, can be rewritten when the transfer completes.
+ */
+@ThreadSafe
+@SdkInternalApi
+final class DirectorySync {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+
+    private final Path manifestPath;
+    private final SyncManifest manifest;
+    private final ConcurrentNavigableMap<String, SyncManifest.Entry> updatedEntries =
+        new ConcurrentSkipListMap<>(DirectoryHelperUtils::compareKeys);
+
+    private DirectorySync(Path manifestPath, SyncManifest manifest) {
+        this.manifestPath = manifestPath;
+        this.manifest = manifest;
+    }
+
+    static DirectorySync create(DirectorySyncConfiguration configuration) {
+        Path manifestPath = configuration.manifest().orElse(null);
+        return new DirectorySync(manifestPath, manifestPath == null ? null : SyncManifest.load(manifestPath));
+    }
+
+    /**
+     * Whether the file does not need to be uploaded because the object at its key has not changed since it was last uploaded.
+     */
+    boolean isUploadUnchanged(Path file, S3Object object) {
+        BasicFileAttributes attributes = readAttributes(file);
+        if (attributes == null || object.size() == null || object.size() != attributes.size()) {
+            return false;
+        }
+
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        SyncManifest.Entry entry = manifest == null ? null : manifest.get(object.key());
+        boolean unchanged;
+        if (entry != null) {
+            unchanged = matches(entry, attributes.size(), lastModified, object.eTag());
+        } else {
+            unchanged = object.lastModified() != null && object.lastModified().toEpochMilli() >= lastModified;
+        }
+
+        if (unchanged) {
+            log.debug(() -> "Skipping upload of " + file + " since " + object.key() + " is unchanged");
+            recordTransfer(object.key(), attributes.size(), lastModified, object.eTag());
+        }
+        return unchanged;
+    }
+
+    /**
+     * Whether the object does not need to be downloaded because the file at the destination has not changed since the object
+     * was last downloaded.
+     */
+    boolean isDownloadUnchanged(S3Object object, Path destination) {
+        BasicFileAttributes attributes = readAttributes(destination);
+        if (attributes == null || !attributes.isRegularFile() || object.size() == null || object.size() != attributes.size()) {
+            return false;
+        }
+
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        SyncManifest.Entry entry = manifest == null ? null : manifest.get(object.key());
+        boolean unchanged;
+        if (entry != null) {
+            unchanged = matches(entry, attributes.size(), lastModified, object.eTag());
+        } else {
+            unchanged = object.lastModified() != null && lastModified >= object.lastModified().toEpochMilli();
+        }
+
+        if (unchanged) {
+            log.debug(() -> "Skipping download of " + object.key() + " since " + destination + " is unchanged");
+            recordTransfer(object.key(), attributes.size(), lastModified, object.eTag());
+        }
+        return unchanged;
+    }
+
+    /**
+     * Rewrite the manifest, if any, with the entries of the previous manifest updated with the files recorded by this sync.
+     * Failing to write the manifest does not fail the transfer: the next sync compares the files it cannot match with the
+     * manifest again.
+     */
+    void writeManifest() {
+        if (manifestPath == null) {
+            return;
+        }
+        try {
+            SyncManifest.write(manifestPath, new MergingIterator(manifest.entries(), updatedEntries.values().iterator()));
+        } catch (RuntimeException e) {
+            log.warn(() -> "Failed to write the sync manifest " + manifestPath, e);
+        }
+    }
+
+    /**
+     * Record that the file was transferred to or from the object with the provided key and ETag.
+     *
+     * @param size the size of the file when it was transferred
+     * @param lastModified the last modified time of the file when it was transferred, in milliseconds since the epoch
+     */
+    void recordTransfer(String key, long size, long lastModified, String eTag) {
+        if (manifestPath != null) {
+            updatedEntries.put(key, new SyncManifest.Entry(key, size, lastModified, eTag));
+        }
+    }
+
+    private static boolean matches(SyncManifest.Entry entry, long size, long lastModified, String eTag) {
+        return entry.size() == size && entry.lastModified() == lastModified && entry.eTag() != null
+               && entry.eTag().equals(eTag);
+    }
+
+    static BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Merges two iterators of entries in key order, preferring the entry of {@code updated} when both have the same key.
+     */
+    private static final class MergingIterator implements Iterator<SyncManifest.Entry> {
+        private final Iterator<SyncManifest.Entry> previous;
+        private final Iterator<SyncManifest.Entry> updated;
+        private SyncManifest.Entry nextPrevious;
+        private SyncManifest.Entry nextUpdated;
+
+        private MergingIterator(Iterator<SyncManifest.Entry> previous, Iterator<SyncManifest.Entry> updated) {
+            this.previous = previous;
+            this.updated = updated;
+            this.nextPrevious = previous.hasNext() ? previous.next() : null;
+            this.nextUpdated = updated.hasNext() ? updated.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextPrevious != null || nextUpdated != null;
+        }
+
+        @Override
+        public SyncManifest.Entry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int cmp;
+            if (nextPrevious == null) {
+                cmp = 1;
+            } else if (nextUpdated == null) {
+                cmp = -1;
+            } else {
+                cmp = DirectoryHelperUtils.compareKeys(nextPrevious.key(), nextUpdated.key());
+            }
+
+            SyncManifest.Entry result;
+            if (cmp < 0) {
+                result = nextPrevious;
+            } else {
+                result = nextUpdated;
+                nextUpdated = updated.hasNext() ? updated.next() : null;
+            }
+            if (cmp <= 0) {
+                nextPrevious = previous.hasNext() ? previous.next() : null;
+            }
+            return result;
+        }
+    }
+}
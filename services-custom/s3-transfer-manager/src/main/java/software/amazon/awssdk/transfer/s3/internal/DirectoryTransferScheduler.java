@@ -0,0 +1,312 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link Subscriber} that schedules the transfers of a directory transfer against a budget shared by all of its files.
+ * <p>
+ * Unlike {@link AsyncBufferingSubscriber}, which starts items in the order they are published, this subscriber buffers a
+ * bounded window of upcoming items and chooses which one to start next:
+ * <ul>
+ *     <li>At most {@code maxConcurrentExecutions} transfers are in flight.</li>
+ *     <li>The sum of the reserved bytes of in-flight transfers stays within {@code maxBytesInFlight}. An item reserves its
+ *     size, capped at {@code maxBytesPerExecution} since a large file is transferred in parts and only buffers a few of them at
+ *     a time. An item larger than the whole budget is still started once nothing else is in flight.</li>
+ *     <li>Items smaller than {@code largeItemThreshold} are started first, because the fixed cost of a request dominates their
+ *     transfer time. Every {@value #LARGE_ITEM_INTERVAL}th start goes to a large item, so that large items make progress even
+ *     when there is a steady supply of small ones.</li>
+ * </ul>
+ * The number of buffered items, in flight or waiting, never exceeds twice {@code maxConcurrentExecutions}, so walking a
+ * directory with millions of files only holds a bounded number of them in memory.
+ *
+ * @param <T> Type of data requested
+ */
+@ThreadSafe
+@SdkInternalApi
+public class DirectoryTransferScheduler<T> implements Subscriber<T> {
+    static final int LARGE_ITEM_INTERVAL = 4;
+
+    private static final Logger log = Logger.loggerFor(DirectoryTransferScheduler.class);
+
+    private final CompletableFuture<Void> returnFuture;
+    private final BiFunction<T, QueueDepth, CompletableFuture<?>> consumer;
+    private final ToLongFunction<T> weigher;
+    private final int maxConcurrentExecutions;
+    private final long maxBytesInFlight;
+    private final long maxBytesPerExecution;
+    private final long largeItemThreshold;
+    private final Set<CompletableFuture<?>> requestsInFlight = ConcurrentHashMap.newKeySet();
+
+    private final Object lock = new Object();
+    private final Queue<Pending<T>> smallItems = new ArrayDeque<>();
+    private final Queue<Pending<T>> largeItems = new ArrayDeque<>();
+    private int numInFlight;
+    private long bytesInFlight;
+    private long numStarted;
+    private boolean upstreamDone;
+
+    private volatile boolean onErrorInvoked;
+    private volatile Subscription subscription;
+
+    public DirectoryTransferScheduler(BiFunction<T, QueueDepth, CompletableFuture<?>> consumer,
+                                      ToLongFunction<T> weigher,
+                                      CompletableFuture<Void> returnFuture,
+                                      int maxConcurrentExecutions,
+                                      long maxBytesInFlight,
+                                      long maxBytesPerExecution,
+                                      long largeItemThreshold) {
+        this.consumer = Validate.paramNotNull(consumer, "consumer");
+        this.weigher = Validate.paramNotNull(weigher, "weigher");
+        this.returnFuture = Validate.paramNotNull(returnFuture, "returnFuture");
+        this.maxConcurrentExecutions = Validate.isPositive(maxConcurrentExecutions, "maxConcurrentExecutions");
+        this.maxBytesInFlight = Validate.isPositive(maxBytesInFlight, "maxBytesInFlight");
+        this.maxBytesPerExecution = Validate.isPositive(maxBytesPerExecution, "maxBytesPerExecution");
+        this.largeItemThreshold = largeItemThreshold;
+
+        returnFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                requestsInFlight.forEach(f -> f.cancel(true));
+                // See AsyncBufferingSubscriber: do not cancel from within onError (Reactive Streams rule 2.3)
+                if (!onErrorInvoked) {
+                    synchronized (this) {
+                        if (subscription != null) {
+                            subscription.cancel();
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        Validate.paramNotNull(subscription, "subscription");
+        if (this.subscription != null) {
+            log.warn(() -> "The subscriber has already been subscribed. Cancelling the incoming subscription");
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(2L * maxConcurrentExecutions);
+    }
+
+    @Override
+    public void onNext(T item) {
+        // Reactive Streams rule 2.13: onNext must throw NullPointerException on a null element.
+        Validate.paramNotNull(item, "item");
+        long weight;
+        try {
+            weight = Math.max(0, weigher.applyAsLong(item));
+        } catch (Throwable t) {
+            synchronized (this) {
+                subscription.cancel();
+            }
+            onError(t);
+            return;
+        }
+
+        synchronized (lock) {
+            Pending<T> pending = new Pending<>(item, Math.min(weight, maxBytesPerExecution));
+            if (weight >= largeItemThreshold) {
+                largeItems.add(pending);
+            } else {
+                smallItems.add(pending);
+            }
+        }
+        startReadyItems();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        // Set before completing the future, see AsyncBufferingSubscriber#onError
+        onErrorInvoked = true;
+        returnFuture.completeExceptionally(t);
+        synchronized (lock) {
+            upstreamDone = true;
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (lock) {
+            upstreamDone = true;
+        }
+        startReadyItems();
+        checkForCompletion();
+    }
+
+    /**
+     * @return the current number of items waiting to be started, and of items in flight.
+     */
+    public QueueDepth queueDepth() {
+        synchronized (lock) {
+            return currentQueueDepth();
+        }
+    }
+
+    private void startReadyItems() {
+        if (returnFuture.isDone()) {
+            return;
+        }
+
+        List<Pending<T>> ready = new ArrayList<>();
+        List<QueueDepth> depths = new ArrayList<>();
+        synchronized (lock) {
+            Pending<T> next;
+            while (numInFlight < maxConcurrentExecutions && (next = pollNextFitting()) != null) {
+                numInFlight++;
+                bytesInFlight += next.reservedBytes;
+                numStarted++;
+                ready.add(next);
+                depths.add(currentQueueDepth());
+            }
+        }
+
+        for (int i = 0; i < ready.size(); i++) {
+            start(ready.get(i), depths.get(i));
+        }
+    }
+
+    /**
+     * Remove and return the next item to start, or null if there is none or if starting it would exceed the byte budget.
+     */
+    private Pending<T> pollNextFitting() {
+        boolean largeTurn = (numStarted + 1) % LARGE_ITEM_INTERVAL == 0;
+        Queue<Pending<T>> preferred = largeTurn ? largeItems : smallItems;
+        Queue<Pending<T>> other = largeTurn ? smallItems : largeItems;
+
+        if (fits(preferred.peek())) {
+            return preferred.poll();
+        }
+        if (fits(other.peek())) {
+            return other.poll();
+        }
+        return null;
+    }
+
+    private boolean fits(Pending<T> pending) {
+        return pending != null && (numInFlight == 0 || bytesInFlight + pending.reservedBytes <= maxBytesInFlight);
+    }
+
+    private void start(Pending<T> pending, QueueDepth queueDepth) {
+        CompletableFuture<?> currentRequest;
+        try {
+            currentRequest = consumer.apply(pending.item, queueDepth);
+        } catch (Throwable t) {
+            synchronized (this) {
+                subscription.cancel();
+            }
+            onError(t);
+            return;
+        }
+
+        requestsInFlight.add(currentRequest);
+
+        // See AsyncBufferingSubscriber#onNext: the cancellation of in-flight requests may have already happened.
+        if (returnFuture.isCompletedExceptionally()) {
+            currentRequest.cancel(true);
+        }
+        currentRequest.whenComplete((r, t) -> {
+            requestsInFlight.remove(currentRequest);
+            synchronized (lock) {
+                numInFlight--;
+                bytesInFlight -= pending.reservedBytes;
+            }
+            synchronized (this) {
+                subscription.request(1);
+            }
+            startReadyItems();
+            checkForCompletion();
+        });
+    }
+
+    private void checkForCompletion() {
+        boolean done;
+        synchronized (lock) {
+            done = upstreamDone && numInFlight == 0 && smallItems.isEmpty() && largeItems.isEmpty();
+        }
+        if (done) {
+            // This could get invoked multiple times, but it doesn't matter because future.complete is idempotent.
+            returnFuture.complete(null);
+        }
+    }
+
+    private QueueDepth currentQueueDepth() {
+        return new QueueDepth(smallItems.size() + largeItems.size(), numInFlight, bytesInFlight);
+    }
+
+    /**
+     * The state of the scheduler queues at a point in time.
+     */
+    public static final class QueueDepth {
+        private final int queued;
+        private final int inFlight;
+        private final long bytesInFlight;
+
+        QueueDepth(int queued, int inFlight, long bytesInFlight) {
+            this.queued = queued;
+            this.inFlight = inFlight;
+            this.bytesInFlight = bytesInFlight;
+        }
+
+        /**
+         * The number of items that were received and are waiting to be started.
+         */
+        public int queued() {
+            return queued;
+        }
+
+        /**
+         * The number of items in flight.
+         */
+        public int inFlight() {
+            return inFlight;
+        }
+
+        /**
+         * The bytes reserved by the items in flight.
+         */
+        public long bytesInFlight() {
+            return bytesInFlight;
+        }
+    }
+
+    private static final class Pending<T> {
+        private final T item;
+        private final long reservedBytes;
+
+        private Pending(T item, long reservedBytes) {
+            this.item = item;
+            this.reservedBytes = reservedBytes;
+        }
+    }
+}
@@ -17,11 +17,13 @@ package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collection;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -29,6 +31,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -104,23 +107,27 @@ public class DownloadDirectoryHelper {
 
         Queue<FailedFileDownload> failedFileDownloads = new ConcurrentLinkedQueue<>();
 
+        DirectorySync sync = downloadDirectoryRequest.syncConfiguration().map(DirectorySync::create).orElse(null);
+
         CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
         AsyncBufferingSubscriber<S3Object> asyncBufferingSubscriber =
             new AsyncBufferingSubscriber<>(downloadSingleFile(returnFuture, downloadDirectoryRequest, request,
-                                                              failedFileDownloads),
+                                                              failedFileDownloads, sync),
                                            allOfFutures,
                                            transferConfiguration.option(
                                                TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY
                                            ));
-        listObjectsHelper.listS3ObjectsRecursively(request)
-                         .filter(downloadDirectoryRequest.filter())
-                         .subscribe(asyncBufferingSubscriber);
+        listObjects(request).filter(downloadDirectoryRequest.filter())
+                            .subscribe(asyncBufferingSubscriber);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
 
         allOfFutures.whenComplete((r, t) -> {
             if (t != null) {
                 returnFuture.completeExceptionally(SdkClientException.create("Failed to send request", t));
             } else {
+                if (sync != null) {
+                    sync.writeManifest();
+                }
                 returnFuture.complete(CompletedDirectoryDownload.builder()
                                                                 .failedTransfers(failedFileDownloads)
                                                                 .build());
@@ -128,17 +135,27 @@ public class DownloadDirectoryHelper {
         });
     }
 
+    private SdkPublisher<S3Object> listObjects(ListObjectsV2Request request) {
+        int listingConcurrency = transferConfiguration.option(DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY);
+        if (listingConcurrency > 1) {
+            return listObjectsHelper.listS3ObjectsConcurrently(request, listingConcurrency);
+        }
+        return listObjectsHelper.listS3ObjectsRecursively(request);
+    }
+
     private Function<S3Object, CompletableFuture<?>> downloadSingleFile(
         CompletableFuture<CompletedDirectoryDownload> returnFuture,
         DownloadDirectoryRequest downloadDirectoryRequest,
         ListObjectsV2Request listRequest,
-        Queue<FailedFileDownload> failedFileDownloads) {
+        Queue<FailedFileDownload> failedFileDownloads,
+        DirectorySync sync) {
 
         return s3Object -> doDownloadSingleFile(returnFuture,
                                             downloadDirectoryRequest,
                                             failedFileDownloads,
                                             listRequest,
-                                            s3Object);
+                                            s3Object,
+                                            sync);
     }
 
     private Path determineDestinationPath(DownloadDirectoryRequest downloadDirectoryRequest,
@@ -165,7 +182,8 @@ public class DownloadDirectoryHelper {
         DownloadDirectoryRequest downloadDirectoryRequest,
         Collection<FailedFileDownload> failedFileDownloads,
         ListObjectsV2Request listRequest,
-        S3Object s3Object) {
+        S3Object s3Object,
+        DirectorySync sync) {
 
         if (returnFuture.isCompletedExceptionally()) {
             return CompletableFutureUtils.failedFuture(
@@ -176,6 +194,10 @@ public class DownloadDirectoryHelper {
 
         DownloadFileRequest downloadFileRequest = downloadFileRequest(downloadDirectoryRequest, s3Object, destinationPath);
 
+        if (sync != null && sync.isDownloadUnchanged(s3Object, downloadFileRequest.destination())) {
+            return CompletableFuture.completedFuture(null);
+        }
+
         try {
             log.debug(() -> "Sending download request " + downloadFileRequest);
             createParentDirectoriesIfNeeded(destinationPath);
@@ -188,6 +210,8 @@ public class DownloadDirectoryHelper {
                                                               .exception(t instanceof CompletionException ? t.getCause() : t)
                                                               .request(downloadFileRequest)
                                                               .build());
+                } else if (sync != null) {
+                    recordDownload(sync, s3Object, downloadFileRequest.destination(), r);
                 }
             });
             CompletableFutureUtils.forwardExceptionTo(future, executionFuture);
@@ -203,6 +227,15 @@ public class DownloadDirectoryHelper {
     }
 
 
+    private static void recordDownload(DirectorySync sync, S3Object s3Object, Path destination,
+                                       CompletedFileDownload completedDownload) {
+        BasicFileAttributes attributes = DirectorySync.readAttributes(destination);
+        if (attributes != null) {
+            String eTag = completedDownload.response().eTag() != null ? completedDownload.response().eTag() : s3Object.eTag();
+            sync.recordTransfer(s3Object.key(), attributes.size(), attributes.lastModifiedTime().toMillis(), eTag);
+        }
+    }
+
     private static String getRelativePath(FileSystem fileSystem, String delimiter, String key) {
         if (delimiter == null) {
             return key;
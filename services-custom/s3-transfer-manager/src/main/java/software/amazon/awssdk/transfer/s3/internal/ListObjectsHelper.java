@@ -55,6 +55,16 @@ public class ListObjectsHelper {
                                       .iteratorFunction(objectsIteratorFunction).isLastPage(false).build();
     }
 
+    /**
+     * Returns the same objects as {@link #listS3ObjectsRecursively(ListObjectsV2Request)}, in no particular order, by listing
+     * the common prefixes of the key space concurrently, with at most {@code maxConcurrency} pages in flight.
+     *
+     * @see ShardedListObjectsPublisher
+     */
+    public SdkPublisher<S3Object> listS3ObjectsConcurrently(ListObjectsV2Request firstRequest, int maxConcurrency) {
+        return new ShardedListObjectsPublisher(listObjectsFunction, firstRequest, maxConcurrency);
+    }
+
     private static final class S3ObjectsIteratorFunction implements Function<ListObjectsV2Response, Iterator<S3Object>> {
 
         @Override
@@ -0,0 +1,279 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.util.PaginatorUtils;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Publishes all objects matching a {@link ListObjectsV2Request} by listing shards of the key space concurrently.
+ * <p>
+ * Shards are the common prefixes returned for the request's delimiter, or for "/" if the request has none, so every page of a
+ * shard can discover more shards. Up to {@code maxConcurrency} pages are fetched at a time, and pages stop being fetched while
+ * more than {@code maxConcurrency} pages' worth of objects are waiting for downstream demand. Objects are published in no
+ * particular order.
+ * <p>
+ * The objects published are the same as those of {@link ListObjectsHelper#listS3ObjectsRecursively}: if the request has a
+ * delimiter, the object named after the prefix of each shard is skipped since it is a virtual directory; if it does not, only
+ * the object named after the prefix of the request is skipped.
+ */
+@ThreadSafe
+@SdkInternalApi
+final class ShardedListObjectsPublisher implements SdkPublisher<S3Object> {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+
+    /**
+     * The maximum number of keys returned in a ListObjectsV2 page.
+     */
+    private static final int MAX_KEYS_PER_PAGE = 1000;
+
+    private final Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> listObjectsFunction;
+    private final ListObjectsV2Request request;
+    private final String rootPrefix;
+    private final boolean hasDelimiter;
+    private final int maxConcurrency;
+    private final int maxBufferedObjects;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private final AtomicLong demand = new AtomicLong();
+    private final Queue<Page> completedPages = new ConcurrentLinkedQueue<>();
+    private volatile Throwable invalidRequest;
+    private volatile boolean cancelled;
+
+    /**
+     * The number of pending calls to {@link #drain()}. Only the call that increments it from zero drains, which serializes all
+     * access to the fields below.
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Deque<Shard> shards = new ArrayDeque<>();
+    private final Queue<S3Object> bufferedObjects = new ArrayDeque<>();
+    private Subscriber<? super S3Object> subscriber;
+    private int pagesInFlight;
+    private boolean done;
+
+    ShardedListObjectsPublisher(Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> listObjectsFunction,
+                                ListObjectsV2Request request,
+                                int maxConcurrency) {
+        this.listObjectsFunction = Validate.paramNotNull(listObjectsFunction, "listObjectsFunction");
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+        this.maxBufferedObjects = maxConcurrency * MAX_KEYS_PER_PAGE;
+        this.rootPrefix = request.prefix() == null ? "" : request.prefix();
+        this.hasDelimiter = request.delimiter() != null;
+        this.request = hasDelimiter ? request : request.toBuilder().delimiter(DEFAULT_DELIMITER).build();
+        this.shards.add(new Shard(rootPrefix, null));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super S3Object> s) {
+        if (!subscribed.compareAndSet(false, true)) {
+            s.onSubscribe(new NoOpSubscription());
+            s.onError(new IllegalStateException("This publisher only supports one subscriber"));
+            return;
+        }
+        subscriber = s;
+        s.onSubscribe(new ShardedSubscription());
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            if (!done) {
+                try {
+                    drainLoop();
+                } catch (Throwable t) {
+                    terminate(t);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainLoop() {
+        if (cancelled) {
+            terminate(null);
+            return;
+        }
+        if (invalidRequest != null) {
+            terminate(invalidRequest);
+            return;
+        }
+
+        Page page;
+        while ((page = completedPages.poll()) != null) {
+            pagesInFlight--;
+            if (page.error != null) {
+                terminate(page.error);
+                return;
+            }
+            addPage(page.shard, page.response);
+        }
+
+        long requested = demand.get();
+        long emitted = 0;
+        while (emitted != requested && !bufferedObjects.isEmpty() && !cancelled) {
+            subscriber.onNext(bufferedObjects.poll());
+            emitted++;
+        }
+        if (emitted != 0 && requested != Long.MAX_VALUE) {
+            demand.addAndGet(-emitted);
+        }
+
+        while (pagesInFlight < maxConcurrency && !shards.isEmpty() && bufferedObjects.size() < maxBufferedObjects
+               && !cancelled) {
+            fetchPage(shards.pollFirst());
+        }
+
+        if (pagesInFlight == 0 && shards.isEmpty() && bufferedObjects.isEmpty() && !cancelled) {
+            done = true;
+            subscriber.onComplete();
+        }
+    }
+
+    private void fetchPage(Shard shard) {
+        pagesInFlight++;
+        ListObjectsV2Request pageRequest = request.toBuilder()
+                                                  .prefix(shard.prefix)
+                                                  .continuationToken(shard.continuationToken)
+                                                  .build();
+        CompletableFuture<ListObjectsV2Response> future;
+        try {
+            future = listObjectsFunction.apply(pageRequest);
+        } catch (Throwable t) {
+            future = CompletableFutureUtils.failedFuture(t);
+        }
+        future.whenComplete((r, t) -> {
+            completedPages.add(new Page(shard, r, t));
+            drain();
+        });
+    }
+
+    private void addPage(Shard shard, ListObjectsV2Response response) {
+        for (S3Object object : response.contents()) {
+            if (isVirtualDirectory(shard, object)) {
+                log.debug(() -> "Skipping download for object (" + object.key() + ") since it is a virtual directory");
+            } else {
+                bufferedObjects.add(object);
+            }
+        }
+
+        // List the shards that were just discovered first, depth first, so that the number of shards waiting to be listed stays
+        // proportional to the depth of the key space rather than to its width.
+        if (PaginatorUtils.isOutputTokenAvailable(response.nextContinuationToken())) {
+            shards.addFirst(new Shard(shard.prefix, response.nextContinuationToken()));
+        }
+        List<CommonPrefix> commonPrefixes = response.commonPrefixes();
+        for (int i = commonPrefixes.size() - 1; i >= 0; i--) {
+            shards.addFirst(new Shard(commonPrefixes.get(i).prefix(), null));
+        }
+    }
+
+    private boolean isVirtualDirectory(Shard shard, S3Object object) {
+        return object.key().equals(rootPrefix) || hasDelimiter && object.key().equals(shard.prefix);
+    }
+
+    private void terminate(Throwable error) {
+        done = true;
+        shards.clear();
+        bufferedObjects.clear();
+        completedPages.clear();
+        if (error != null) {
+            subscriber.onError(error);
+        }
+    }
+
+    private final class ShardedSubscription implements Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Demand must be positive, but was " + n);
+            } else {
+                demand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    /**
+     * A prefix to list, and the continuation token of its next page, if it is not the first one.
+     */
+    private static final class Shard {
+        private final String prefix;
+        private final String continuationToken;
+
+        private Shard(String prefix, String continuationToken) {
+            this.prefix = prefix;
+            this.continuationToken = continuationToken;
+        }
+    }
+
+    private static final class Page {
+        private final Shard shard;
+        private final ListObjectsV2Response response;
+        private final Throwable error;
+
+        private Page(Shard shard, ListObjectsV2Response response, Throwable error) {
+            this.shard = shard;
+            this.response = response;
+            this.error = error;
+        }
+    }
+}
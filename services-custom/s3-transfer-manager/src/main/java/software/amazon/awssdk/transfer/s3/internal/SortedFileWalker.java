@@ -0,0 +1,189 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Iterates over the regular files of a directory tree in the order S3 lists the keys they are uploaded to.
+ * <p>
+ * The key of a file is its path relative to the root, with the name separator replaced by the delimiter. Siblings are sorted by
+ * their name, followed by the delimiter for directories, so that a directory is visited where its keys sort among the keys of
+ * its siblings. Only the entries of the directories on the path to the current file are held in memory.
+ * <p>
+ * The files visited are the ones {@link Files#walk} visits with the same maximum depth and options, and a loop of symbolic
+ * links fails the iteration with a {@link FileSystemLoopException} as it does for {@link Files#walk}.
+ */
+@NotThreadSafe
+@SdkInternalApi
+final class SortedFileWalker implements Iterator<Path> {
+    private final int maxDepth;
+    private final boolean followSymbolicLinks;
+    private final String delimiter;
+    private final LinkOption[] linkOptions;
+    private final Deque<DirectoryFrame> stack = new ArrayDeque<>();
+    private Path next;
+
+    SortedFileWalker(Path root, int maxDepth, boolean followSymbolicLinks, String delimiter) {
+        this.maxDepth = maxDepth;
+        this.followSymbolicLinks = followSymbolicLinks;
+        this.delimiter = delimiter;
+        this.linkOptions = followSymbolicLinks ? new LinkOption[0] : new LinkOption[] {LinkOption.NOFOLLOW_LINKS};
+        if (maxDepth > 0) {
+            stack.push(openDirectory(root, readAttributes(root), 0));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Path next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Path result = next;
+        next = null;
+        return result;
+    }
+
+    private Path advance() {
+        while (!stack.isEmpty()) {
+            DirectoryFrame frame = stack.peek();
+            if (!frame.children.hasNext()) {
+                stack.pop();
+                continue;
+            }
+
+            Child child = frame.children.next();
+            if (child.attributes.isDirectory()) {
+                if (frame.depth + 1 < maxDepth) {
+                    stack.push(openDirectory(child.path, child.attributes, frame.depth + 1));
+                }
+            } else if (child.attributes.isRegularFile()) {
+                return child.path;
+            }
+        }
+        return null;
+    }
+
+    private DirectoryFrame openDirectory(Path directory, BasicFileAttributes attributes, int depth) {
+        if (followSymbolicLinks) {
+            checkForLoop(directory, attributes);
+        }
+
+        List<Child> children = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                BasicFileAttributes childAttributes = readAttributes(path);
+                if (childAttributes != null) {
+                    String name = String.valueOf(path.getFileName());
+                    children.add(new Child(path, childAttributes, childAttributes.isDirectory() ? name + delimiter : name));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        children.sort((a, b) -> DirectoryHelperUtils.compareKeys(a.sortKey, b.sortKey));
+        return new DirectoryFrame(directory, attributes.fileKey(), depth, children.iterator());
+    }
+
+    private void checkForLoop(Path directory, BasicFileAttributes attributes) {
+        Object fileKey = attributes.fileKey();
+        for (DirectoryFrame ancestor : stack) {
+            boolean same;
+            if (fileKey != null && ancestor.fileKey != null) {
+                same = Objects.equals(fileKey, ancestor.fileKey);
+            } else {
+                try {
+                    same = Files.isSameFile(directory, ancestor.directory);
+                } catch (IOException e) {
+                    same = false;
+                }
+            }
+            if (same) {
+                throw new UncheckedIOException(new FileSystemLoopException(directory.toString()));
+            }
+        }
+    }
+
+    /**
+     * Read the attributes of a path, or of the link itself if it is a broken symbolic link, or return null if the path
+     * disappeared.
+     */
+    private BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, linkOptions);
+        } catch (IOException e) {
+            if (!followSymbolicLinks) {
+                return null;
+            }
+            try {
+                return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (IOException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static final class DirectoryFrame {
+        private final Path directory;
+        private final Object fileKey;
+        private final int depth;
+        private final Iterator<Child> children;
+
+        private DirectoryFrame(Path directory, Object fileKey, int depth, Iterator<Child> children) {
+            this.directory = directory;
+            this.fileKey = fileKey;
+            this.depth = depth;
+            this.children = children;
+        }
+    }
+
+    private static final class Child {
+        private final Path path;
+        private final BasicFileAttributes attributes;
+        private final String sortKey;
+
+        private Child(Path path, BasicFileAttributes attributes, String sortKey) {
+            this.path = path;
+            this.attributes = attributes;
+            this.sortKey = sortKey;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A read-only manifest of the files transferred by a directory sync, read from disk in a single buffer.
+ * <p>
+ * The file starts with a header holding a magic number, a version, the number of entries and the position of an index, then
+ * holds the entries in the order of {@link DirectoryHelperUtils#compareKeys}, followed by the index: the position of each
+ * entry. A lookup binary searches the index and compares the UTF-8 bytes of the keys in place, so it does not decode the keys
+ * it passes over. Every entry records the key, the size and last modified time of the local file, and the ETag of the object.
+ * <p>
+ * The manifest is read rather than memory-mapped: a mapping keeps the file open until the buffer is garbage collected, which
+ * on Windows makes {@link #write} fail to replace the file that was loaded.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SyncManifest {
+    static final int MAGIC = 0x53334d46;
+    static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 16;
+    private static final SyncManifest EMPTY = new SyncManifest(ByteBuffer.allocate(0), 0, HEADER_SIZE);
+
+    // Only accessed with absolute gets, which do not modify the buffer
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int indexPosition;
+
+    private SyncManifest(ByteBuffer buffer, int size, int indexPosition) {
+        this.buffer = buffer;
+        this.size = size;
+        this.indexPosition = indexPosition;
+    }
+
+    /**
+     * Read the manifest at the provided path, or return an empty manifest if there is no file at the path.
+     */
+    public static SyncManifest load(Path path) {
+        if (!Files.exists(path)) {
+            return EMPTY;
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw SdkClientException.create("The sync manifest " + path + " is larger than 2 GiB");
+            }
+            buffer = readFully(channel, (int) length);
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to read the sync manifest " + path, e);
+        }
+
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw SdkClientException.create("The file " + path + " is not a sync manifest");
+        }
+        return new SyncManifest(buffer, buffer.getInt(8), buffer.getInt(12));
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * @return the number of entries in the manifest
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the entry for the provided key, or null if there is none
+     */
+    public Entry get(String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int position = entryPosition(mid);
+            int cmp = compareKey(position, keyBytes);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return readEntry(position);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the entries of the manifest, in key order
+     */
+    public Iterator<Entry> entries() {
+        return new Iterator<Entry>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Entry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return readEntry(entryPosition(next++));
+            }
+        };
+    }
+
+    /**
+     * Write the provided entries, which must be in key order, to a new manifest replacing the file at the provided path. The
+     * manifest is written to a sibling file first and moved into place, so a failed write leaves the previous manifest intact.
+     */
+    public static void write(Path path, Iterator<Entry> entries) {
+        Path absolutePath = path.toAbsolutePath();
+        Path temp = absolutePath.resolveSibling(absolutePath.getFileName() + ".tmp");
+        try {
+            if (absolutePath.getParent() != null) {
+                Files.createDirectories(absolutePath.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeEntries(channel, entries);
+            }
+            try {
+                Files.move(temp, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to write the sync manifest " + path, e);
+        }
+    }
+
+    private static void writeEntries(FileChannel channel, Iterator<Entry> entries) throws IOException {
+        int[] positions = new int[64];
+        int count = 0;
+        long position = HEADER_SIZE;
+        String previousKey = null;
+
+        while (entries.hasNext()) {
+            Entry entry = entries.next();
+            Validate.isTrue(previousKey == null || DirectoryHelperUtils.compareKeys(previousKey, entry.key) < 0,
+                            "Manifest entries must be written in key order");
+            previousKey = entry.key;
+
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = checkedPosition(position);
+            position += writeFully(channel, encode(entry), position);
+        }
+
+        int indexPosition = checkedPosition(position);
+        ByteBuffer index = ByteBuffer.allocate(count * Integer.BYTES);
+        for (int i = 0; i < count; i++) {
+            index.putInt(positions[i]);
+        }
+        index.flip();
+        writeFully(channel, index, position);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(indexPosition).flip();
+        writeFully(channel, header, 0);
+    }
+
+    private static int checkedPosition(long position) {
+        if (position > Integer.MAX_VALUE) {
+            throw SdkClientException.create("The sync manifest cannot be larger than 2 GiB");
+        }
+        return (int) position;
+    }
+
+    private static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+        return written;
+    }
+
+    private static ByteBuffer encode(Entry entry) {
+        byte[] key = entry.key.getBytes(StandardCharsets.UTF_8);
+        byte[] eTag = entry.eTag == null ? new byte[0] : entry.eTag.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + key.length + 2 * Long.BYTES + Integer.BYTES + eTag.length);
+        buffer.putInt(key.length).put(key).putLong(entry.size).putLong(entry.lastModified).putInt(eTag.length).put(eTag);
+        buffer.flip();
+        return buffer;
+    }
+
+    private int entryPosition(int i) {
+        return buffer.getInt(indexPosition + i * Integer.BYTES);
+    }
+
+    private int compareKey(int position, byte[] key) {
+        int length = buffer.getInt(position);
+        int start = position + Integer.BYTES;
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(buffer.get(start + i) & 0xFF, key[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private Entry readEntry(int position) {
+        int keyLength = buffer.getInt(position);
+        int offset = position + Integer.BYTES;
+        String key = readString(offset, keyLength);
+        offset += keyLength;
+        long size = buffer.getLong(offset);
+        long lastModified = buffer.getLong(offset + Long.BYTES);
+        offset += 2 * Long.BYTES;
+        int eTagLength = buffer.getInt(offset);
+        String eTag = eTagLength == 0 ? null : readString(offset + Integer.BYTES, eTagLength);
+        return new Entry(key, size, lastModified, eTag);
+    }
+
+    private String readString(int position, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(position + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The state of a file and its object when they were last transferred.
+     */
+    public static final class Entry {
+        private final String key;
+        private final long size;
+        private final long lastModified;
+        private final String eTag;
+
+        public Entry(String key, long size, long lastModified, String eTag) {
+            this.key = Validate.paramNotNull(key, "key");
+            this.size = size;
+            this.lastModified = lastModified;
+            this.eTag = eTag;
+        }
+
+        /**
+         * @return the object key
+         */
+        public String key() {
+            return key;
+        }
+
+        /**
+         * @return the size of the file, which is also the size of the object
+         */
+        public long size() {
+            return size;
+        }
+
+        /**
+         * @return the last modified time of the local file, in milliseconds since the epoch
+         */
+        public long lastModified() {
+            return lastModified;
+        }
+
+        /**
+         * @return the ETag of the object, or null if it is unknown
+         */
+        public String eTag() {
+            return eTag;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("SyncManifest.Entry")
+                           .add("key", key)
+                           .add("size", size)
+                           .add("lastModified", lastModified)
+                           .add("eTag", eTag)
+                           .build();
+        }
+    }
+}
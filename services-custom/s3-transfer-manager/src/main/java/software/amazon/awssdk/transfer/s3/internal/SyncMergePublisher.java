@@ -0,0 +1,199 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Publishes the local items that need to be transferred to S3, by merging local items and a listing of the remote objects that
+ * are both sorted by key.
+ * <p>
+ * A local item is published if there is no remote object with the same key, or if {@code isUnchanged} returns false for the
+ * item and that object. Remote objects without a local item are ignored. Only one local item and one remote object are held at
+ * a time: the next remote object is requested once the local items have caught up with the current one, and the next local
+ * item is read once the current one has been delivered downstream. Once the local items are exhausted, the listing is
+ * cancelled.
+ * <p>
+ * Items that are out of order on either side are not matched and are published, so an ordering mismatch can only cause
+ * unnecessary transfers.
+ *
+ * @param <T> Type of the local items
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SyncMergePublisher<T> implements SdkPublisher<T> {
+    private final SdkPublisher<S3Object> remoteObjects;
+    private final Iterator<T> localItems;
+    private final Function<T, String> keyFunction;
+    private final BiPredicate<T, S3Object> isUnchanged;
+    private final SimplePublisher<T> output = new SimplePublisher<>();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * The number of pending calls to {@link #drain()}. Only the call that increments it from zero drains, which serializes all
+     * access to the fields below.
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+    private Subscription remoteSubscription;
+    private S3Object remote;
+    private boolean remoteDone;
+    private T local;
+    private boolean waitingForDelivery;
+    private volatile boolean done;
+
+    public SyncMergePublisher(SdkPublisher<S3Object> remoteObjects,
+                              Iterator<T> localItems,
+                              Function<T, String> keyFunction,
+                              BiPredicate<T, S3Object> isUnchanged) {
+        this.remoteObjects = Validate.paramNotNull(remoteObjects, "remoteObjects");
+        this.localItems = Validate.paramNotNull(localItems, "localItems");
+        this.keyFunction = Validate.paramNotNull(keyFunction, "keyFunction");
+        this.isUnchanged = Validate.paramNotNull(isUnchanged, "isUnchanged");
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        output.subscribe(subscriber);
+        if (subscribed.compareAndSet(false, true)) {
+            remoteObjects.subscribe(new RemoteObjectsSubscriber());
+        } else {
+            output.error(new IllegalStateException("This publisher only supports one subscriber"));
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            try {
+                drainLoop();
+            } catch (Throwable t) {
+                fail(t, true);
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private void drainLoop() {
+        while (!done && !waitingForDelivery) {
+            if (local == null) {
+                if (!localItems.hasNext()) {
+                    if (!remoteDone) {
+                        remoteSubscription.cancel();
+                    }
+                    done = true;
+                    output.complete();
+                    return;
+                }
+                local = localItems.next();
+            }
+
+            if (remote == null && !remoteDone) {
+                // Wait for the next remote object: the call to request(1) may deliver it synchronously, in which case the
+                // loop in drain() runs again.
+                remoteSubscription.request(1);
+                return;
+            }
+
+            T next;
+            if (remote == null) {
+                next = local;
+                local = null;
+            } else {
+                int cmp = DirectoryHelperUtils.compareKeys(keyFunction.apply(local), remote.key());
+                if (cmp > 0) {
+                    remote = null;
+                    continue;
+                }
+                next = cmp < 0 || !isUnchanged.test(local, remote) ? local : null;
+                local = null;
+                if (cmp == 0) {
+                    remote = null;
+                }
+            }
+
+            if (next != null) {
+                send(next);
+            }
+        }
+    }
+
+    private void send(T item) {
+        waitingForDelivery = true;
+        output.send(item).whenComplete((r, t) -> {
+            if (t != null) {
+                // The downstream subscriber cancelled or failed
+                fail(t, false);
+                return;
+            }
+            waitingForDelivery = false;
+            drain();
+        });
+    }
+
+    private void fail(Throwable t, boolean notifyDownstream) {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (remoteSubscription != null) {
+            remoteSubscription.cancel();
+        }
+        if (notifyDownstream) {
+            output.error(t);
+        }
+    }
+
+    private final class RemoteObjectsSubscriber implements Subscriber<S3Object> {
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            remoteSubscription = subscription;
+            drain();
+        }
+
+        @Override
+        public void onNext(S3Object s3Object) {
+            remote = s3Object;
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            remoteDone = true;
+            remoteSubscription = null;
+            fail(t, true);
+        }
+
+        @Override
+        public void onComplete() {
+            remoteDone = true;
+            drain();
+        }
+    }
+}
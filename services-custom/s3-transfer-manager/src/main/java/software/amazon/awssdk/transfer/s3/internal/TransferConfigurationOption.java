@@ -35,12 +35,19 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final TransferConfigurationOption<Integer> DIRECTORY_TRANSFER_MAX_CONCURRENCY =
         new TransferConfigurationOption<>("TransferDirectoryMaxConcurrency", Integer.class);
 
+    public static final TransferConfigurationOption<Long> UPLOAD_DIRECTORY_MAX_BYTES_IN_FLIGHT =
+        new TransferConfigurationOption<>("UploadDirectoryMaxBytesInFlight", Long.class);
+
+    public static final TransferConfigurationOption<Integer> DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY =
+        new TransferConfigurationOption<>("DownloadDirectoryListingMaxConcurrency", Integer.class);
+
     public static final TransferConfigurationOption<Executor> EXECUTOR =
         new TransferConfigurationOption<>("Executor", Executor.class);
 
     public static final String DEFAULT_DELIMITER = "/";
     public static final String DEFAULT_PREFIX = "";
     public static final int DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY = 100;
+    public static final long DEFAULT_UPLOAD_DIRECTORY_MAX_BYTES_IN_FLIGHT = 2L * 1024 * 1024 * 1024;
 
     private static final int DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH = Integer.MAX_VALUE;
 
@@ -49,6 +56,8 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
         .put(UPLOAD_DIRECTORY_MAX_DEPTH, DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH)
         .put(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS, false)
         .put(DIRECTORY_TRANSFER_MAX_CONCURRENCY, DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY)
+        .put(UPLOAD_DIRECTORY_MAX_BYTES_IN_FLIGHT, DEFAULT_UPLOAD_DIRECTORY_MAX_BYTES_IN_FLIGHT)
+        .put(DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY, 1)
         .build();
 
     private final String name;
@@ -16,8 +16,10 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.TRANSFER_MANAGER_DEFAULTS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_BYTES_IN_FLIGHT;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
 
 import java.util.concurrent.Executor;
@@ -44,6 +46,8 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         standardOptions.put(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS, builder.uploadDirectoryFollowSymbolicLinks);
         standardOptions.put(UPLOAD_DIRECTORY_MAX_DEPTH, builder.uploadDirectoryMaxDepth);
         standardOptions.put(DIRECTORY_TRANSFER_MAX_CONCURRENCY, builder.transferDirectoryMaxConcurrency);
+        standardOptions.put(UPLOAD_DIRECTORY_MAX_BYTES_IN_FLIGHT, builder.uploadDirectoryMaxBytesInFlight);
+        standardOptions.put(DOWNLOAD_DIRECTORY_LISTING_MAX_CONCURRENCY, builder.downloadDirectoryListingMaxConcurrency);
         finalizeExecutor(builder, standardOptions);
         options = standardOptions.build().merge(TRANSFER_MANAGER_DEFAULTS);
     }
@@ -100,6 +104,8 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
         private Integer transferDirectoryMaxConcurrency;
+        private Long uploadDirectoryMaxBytesInFlight;
+        private Integer downloadDirectoryListingMaxConcurrency;
         private Executor executor;
 
 
@@ -118,6 +124,16 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
             return this;
         }
 
+        public Builder uploadDirectoryMaxBytesInFlight(Long uploadDirectoryMaxBytesInFlight) {
+            this.uploadDirectoryMaxBytesInFlight = uploadDirectoryMaxBytesInFlight;
+            return this;
+        }
+
+        public Builder downloadDirectoryListingMaxConcurrency(Integer downloadDirectoryListingMaxConcurrency) {
+            this.downloadDirectoryListingMaxConcurrency = downloadDirectoryListingMaxConcurrency;
+            return this;
+        }
+
         public Builder executor(Executor executor) {
             this.executor = executor;
             return this;
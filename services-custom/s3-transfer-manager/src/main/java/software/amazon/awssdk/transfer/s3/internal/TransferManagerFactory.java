@@ -87,6 +87,8 @@ public final class TransferManagerFactory {
         transferConfigBuilder.uploadDirectoryFollowSymbolicLinks(tmBuilder.uploadDirectoryFollowSymbolicLinks);
         transferConfigBuilder.uploadDirectoryMaxDepth(tmBuilder.uploadDirectoryMaxDepth);
         transferConfigBuilder.transferDirectoryMaxConcurrency(tmBuilder.transferDirectoryMaxConcurrency);
+        transferConfigBuilder.uploadDirectoryMaxBytesInFlight(tmBuilder.uploadDirectoryMaxBytesInFlight);
+        transferConfigBuilder.downloadDirectoryListingMaxConcurrency(tmBuilder.downloadDirectoryListingMaxConcurrency);
         transferConfigBuilder.executor(tmBuilder.executor);
         return transferConfigBuilder.build();
     }
@@ -97,6 +99,8 @@ public final class TransferManagerFactory {
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
         private Integer transferDirectoryMaxConcurrency;
+        private Long uploadDirectoryMaxBytesInFlight;
+        private Integer downloadDirectoryListingMaxConcurrency;
 
         @Override
         public DefaultBuilder s3Client(S3AsyncClient s3AsyncClient) {
@@ -152,6 +156,34 @@ public final class TransferManagerFactory {
             return transferDirectoryMaxConcurrency;
         }
 
+        @Override
+        public DefaultBuilder uploadDirectoryMaxBytesInFlight(Long uploadDirectoryMaxBytesInFlight) {
+            this.uploadDirectoryMaxBytesInFlight = uploadDirectoryMaxBytesInFlight;
+            return this;
+        }
+
+        public void setUploadDirectoryMaxBytesInFlight(Long uploadDirectoryMaxBytesInFlight) {
+            uploadDirectoryMaxBytesInFlight(uploadDirectoryMaxBytesInFlight);
+        }
+
+        public Long getUploadDirectoryMaxBytesInFlight() {
+            return uploadDirectoryMaxBytesInFlight;
+        }
+
+        @Override
+        public DefaultBuilder downloadDirectoryListingMaxConcurrency(Integer downloadDirectoryListingMaxConcurrency) {
+            this.downloadDirectoryListingMaxConcurrency = downloadDirectoryListingMaxConcurrency;
+            return this;
+        }
+
+        public void setDownloadDirectoryListingMaxConcurrency(Integer downloadDirectoryListingMaxConcurrency) {
+            downloadDirectoryListingMaxConcurrency(downloadDirectoryListingMaxConcurrency);
+        }
+
+        public Integer getDownloadDirectoryListingMaxConcurrency() {
+            return downloadDirectoryListingMaxConcurrency;
+        }
+
         @Override
         public S3TransferManager build() {
             return createTransferManager(this);
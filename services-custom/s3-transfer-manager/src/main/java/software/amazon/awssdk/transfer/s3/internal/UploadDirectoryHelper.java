@@ -23,7 +23,9 @@ import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -32,9 +34,12 @@ import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryUpload;
+import software.amazon.awssdk.transfer.s3.internal.progress.TransferListenerInvoker;
+import software.amazon.awssdk.transfer.s3.internal.progress.TransferListenerScheduledContext;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileUpload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
@@ -55,13 +60,27 @@ import software.amazon.awssdk.utils.Validate;
 public class UploadDirectoryHelper {
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
 
+    /**
+     * Files of at least this size are uploaded in parts by default, and are scheduled after smaller files.
+     */
+    private static final long LARGE_FILE_THRESHOLD = 8L * 1024 * 1024;
+
+    /**
+     * The bytes a file uploaded in parts reserves from the directory budget: the default buffer of the multipart client, which
+     * holds four 8 MiB parts.
+     */
+    private static final long LARGE_FILE_MAX_BYTES_IN_FLIGHT = 4 * LARGE_FILE_THRESHOLD;
+
     private final TransferManagerConfiguration transferConfiguration;
+    private final ListObjectsHelper listObjectsHelper;
     private final Function<UploadFileRequest, FileUpload> uploadFunction;
 
     public UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
+                                 ListObjectsHelper listObjectsHelper,
                                  Function<UploadFileRequest, FileUpload> uploadFunction) {
 
         this.transferConfiguration = transferConfiguration;
+        this.listObjectsHelper = listObjectsHelper;
         this.uploadFunction = uploadFunction;
     }
 
@@ -90,23 +109,36 @@ public class UploadDirectoryHelper {
 
         Collection<FailedFileUpload> failedFileUploads = new ConcurrentLinkedQueue<>();
 
-        Stream<Path> stream = listFiles(directory, uploadDirectoryRequest);
-
-        SdkPublisher<Path> iterablePublisher = SdkPublisher.fromIterable(() -> stream.iterator())
-                                                           .doAfterOnCancel(() -> stream.close())
-                                                           .doAfterOnError(t -> stream.close())
-                                                           .doAfterOnComplete(() -> stream.close());
+        DirectorySync sync = uploadDirectoryRequest.syncConfiguration().map(DirectorySync::create).orElse(null);
+
+        SdkPublisher<UploadFileRequest> requestPublisher;
+        if (sync == null) {
+            Stream<Path> stream = listFiles(directory, uploadDirectoryRequest);
+            int nameCount = directory.getNameCount();
+            requestPublisher = SdkPublisher.fromIterable(() -> stream.iterator())
+                                           .map(path -> constructUploadRequest(uploadDirectoryRequest, nameCount, path))
+                                           .doAfterOnCancel(() -> stream.close())
+                                           .doAfterOnError(t -> stream.close())
+                                           .doAfterOnComplete(() -> stream.close());
+        } else {
+            requestPublisher = changedFiles(uploadDirectoryRequest, sync);
+        }
 
         CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
 
-        AsyncBufferingSubscriber<Path> bufferingSubscriber =
-            new AsyncBufferingSubscriber<>(path -> uploadSingleFile(uploadDirectoryRequest, failedFileUploads, path),
-                                           allOfFutures, 
-                                           transferConfiguration.option(
-                                               TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY
-                                           ));
-
-        iterablePublisher.subscribe(bufferingSubscriber);
+        DirectoryTransferScheduler<UploadFileRequest> scheduler =
+            new DirectoryTransferScheduler<>((request, queueDepth) -> uploadSingleFile(failedFileUploads, request, queueDepth,
+                                                                                       sync),
+                                             request -> fileSize(request.source()),
+                                             allOfFutures,
+                                             transferConfiguration.option(
+                                                 TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY),
+                                             transferConfiguration.option(
+                                                 TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_BYTES_IN_FLIGHT),
+                                             LARGE_FILE_MAX_BYTES_IN_FLIGHT,
+                                             LARGE_FILE_THRESHOLD);
+
+        requestPublisher.subscribe(scheduler);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
 
         allOfFutures.whenComplete((r, t) -> {
@@ -114,6 +146,9 @@ public class UploadDirectoryHelper {
                 returnFuture.completeExceptionally(SdkClientException.create("Failed to send request", t));
                 return;
             }
+            if (sync != null) {
+                sync.writeManifest();
+            }
             returnFuture.complete(CompletedDirectoryUpload.builder()
                                                           .failedTransfers(failedFileUploads)
                                                           .build());
@@ -134,11 +169,60 @@ public class UploadDirectoryHelper {
         }
     }
 
-    private CompletableFuture<CompletedFileUpload> uploadSingleFile(UploadDirectoryRequest uploadDirectoryRequest,
-                                                                    Collection<FailedFileUpload> failedFileUploads,
-                                                                    Path path) {
-        int nameCount = uploadDirectoryRequest.source().getNameCount();
-        UploadFileRequest uploadFileRequest = constructUploadRequest(uploadDirectoryRequest, nameCount, path);
+    /**
+     * Merge the files of the directory, in key order, with a listing of the objects under the prefix, and publish the upload
+     * requests of the files that changed.
+     */
+    private SdkPublisher<UploadFileRequest> changedFiles(UploadDirectoryRequest uploadDirectoryRequest, DirectorySync sync) {
+        Path directory = uploadDirectoryRequest.source();
+        String delimiter = delimiter(uploadDirectoryRequest);
+        String prefix = prefix(uploadDirectoryRequest, delimiter);
+        int nameCount = directory.getNameCount();
+
+        SortedFileWalker files =
+            new SortedFileWalker(directory,
+                                 transferConfiguration.resolveUploadDirectoryMaxDepth(uploadDirectoryRequest),
+                                 transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(uploadDirectoryRequest),
+                                 delimiter);
+        Iterator<UploadFileRequest> requests = new Iterator<UploadFileRequest>() {
+            @Override
+            public boolean hasNext() {
+                return files.hasNext();
+            }
+
+            @Override
+            public UploadFileRequest next() {
+                return constructUploadRequest(uploadDirectoryRequest, nameCount, files.next());
+            }
+        };
+
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                                                               .bucket(uploadDirectoryRequest.bucket())
+                                                               .prefix(prefix)
+                                                               .build();
+
+        return new SyncMergePublisher<>(listObjectsHelper.listS3ObjectsRecursively(listRequest),
+                                        requests,
+                                        request -> request.putObjectRequest().key(),
+                                        (request, s3Object) -> uploadDirectoryRequest.bucket()
+                                                                                     .equals(request.putObjectRequest().bucket())
+                                                               && sync.isUploadUnchanged(request.source(), s3Object));
+    }
+
+    private CompletableFuture<CompletedFileUpload> uploadSingleFile(Collection<FailedFileUpload> failedFileUploads,
+                                                                    UploadFileRequest uploadFileRequest,
+                                                                    DirectoryTransferScheduler.QueueDepth queueDepth,
+                                                                    DirectorySync sync) {
+        Path path = uploadFileRequest.source();
+        // Read before the upload starts, so that a file modified during its upload is not recorded as unchanged
+        BasicFileAttributes attributes = sync == null ? null : DirectorySync.readAttributes(path);
+        if (uploadFileRequest.transferListeners() != null && !uploadFileRequest.transferListeners().isEmpty()) {
+            new TransferListenerInvoker(uploadFileRequest.transferListeners())
+                .transferScheduled(new TransferListenerScheduledContext(uploadFileRequest,
+                                                                        queueDepth.queued(),
+                                                                        queueDepth.inFlight(),
+                                                                        queueDepth.bytesInFlight()));
+        }
         log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest, path));
         CompletableFuture<CompletedFileUpload> executionFuture = uploadFunction.apply(uploadFileRequest).completionFuture();
         CompletableFuture<CompletedFileUpload> future = executionFuture.whenComplete((r, t) -> {
@@ -147,6 +231,9 @@ public class UploadDirectoryHelper {
                                                       .exception(t instanceof CompletionException ? t.getCause() : t)
                                                       .request(uploadFileRequest)
                                                       .build());
+            } else if (attributes != null) {
+                sync.recordTransfer(uploadFileRequest.putObjectRequest().key(), attributes.size(),
+                                    attributes.lastModifiedTime().toMillis(), r.response().eTag());
             }
         });
         CompletableFutureUtils.forwardExceptionTo(future, executionFuture);
@@ -172,6 +259,16 @@ public class UploadDirectoryHelper {
         }
     }
 
+    private static long fileSize(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            // The upload of this file will report the failure, schedule it as a small file
+            log.debug(() -> "Failed to read the size of " + path, e);
+            return 0;
+        }
+    }
+
     private boolean isRegularFile(Path path, boolean followSymlinks) {
         if (followSymlinks) {
             return Files.isRegularFile(path);
@@ -205,17 +302,23 @@ public class UploadDirectoryHelper {
         return StringUtils.replace(relativePathName, separator, delimiter);
     }
 
+    private static String delimiter(UploadDirectoryRequest uploadDirectoryRequest) {
+        return uploadDirectoryRequest.s3Delimiter()
+                                     .filter(s -> !s.isEmpty())
+                                     .orElse(DEFAULT_DELIMITER);
+    }
+
+    private static String prefix(UploadDirectoryRequest uploadDirectoryRequest, String delimiter) {
+        return uploadDirectoryRequest.s3Prefix()
+                                     .map(s -> normalizePrefix(s, delimiter))
+                                     .orElse(DEFAULT_PREFIX);
+    }
+
     private UploadFileRequest constructUploadRequest(UploadDirectoryRequest uploadDirectoryRequest,
                                                      int directoryNameCount,
                                                      Path path) {
-        String delimiter =
-            uploadDirectoryRequest.s3Delimiter()
-                                  .filter(s -> !s.isEmpty())
-                                  .orElse(DEFAULT_DELIMITER);
-
-        String prefix = uploadDirectoryRequest.s3Prefix()
-                                              .map(s -> normalizePrefix(s, delimiter))
-                                              .orElse(DEFAULT_PREFIX);
+        String delimiter = delimiter(uploadDirectoryRequest);
+        String prefix = prefix(uploadDirectoryRequest, delimiter);
 
         String relativePathName = getRelativePathName(uploadDirectoryRequest.source(),
                                                       directoryNameCount,
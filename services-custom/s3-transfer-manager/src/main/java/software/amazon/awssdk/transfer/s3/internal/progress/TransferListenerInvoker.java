@@ -68,6 +68,11 @@ public class TransferListenerInvoker implements TransferListener {
         }
     }
 
+    @Override
+    public void transferScheduled(Context.TransferScheduled context) {
+        forEach(listener -> listener.transferScheduled(context));
+    }
+
     private void forEach(Consumer<TransferListener> action) {
         for (TransferListener listener : listeners) {
             runAndLogError(log.logger(), "Exception thrown in TransferListener, ignoring",
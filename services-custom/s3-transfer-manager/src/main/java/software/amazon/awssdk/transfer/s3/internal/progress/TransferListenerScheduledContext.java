@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.progress;
+
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.transfer.s3.model.TransferObjectRequest;
+import software.amazon.awssdk.transfer.s3.progress.TransferListener;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * An SDK-internal implementation of {@link TransferListener.Context.TransferScheduled}.
+ */
+@SdkInternalApi
+@Immutable
+public final class TransferListenerScheduledContext implements TransferListener.Context.TransferScheduled {
+    private final TransferObjectRequest request;
+    private final int queuedTransfers;
+    private final int inFlightTransfers;
+    private final long inFlightBytes;
+
+    public TransferListenerScheduledContext(TransferObjectRequest request, int queuedTransfers, int inFlightTransfers,
+                                            long inFlightBytes) {
+        this.request = request;
+        this.queuedTransfers = queuedTransfers;
+        this.inFlightTransfers = inFlightTransfers;
+        this.inFlightBytes = inFlightBytes;
+    }
+
+    @Override
+    public TransferObjectRequest request() {
+        return request;
+    }
+
+    @Override
+    public int queuedTransfers() {
+        return queuedTransfers;
+    }
+
+    @Override
+    public int inFlightTransfers() {
+        return inFlightTransfers;
+    }
+
+    @Override
+    public long inFlightBytes() {
+        return inFlightBytes;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("TransferListenerScheduledContext")
+                       .add("request", request)
+                       .add("queuedTransfers", queuedTransfers)
+                       .add("inFlightTransfers", inFlightTransfers)
+                       .add("inFlightBytes", inFlightBytes)
+                       .build();
+    }
+}
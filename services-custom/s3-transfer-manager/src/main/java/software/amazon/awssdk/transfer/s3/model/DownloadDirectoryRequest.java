@@ -18,11 +18,13 @@ package software.amazon.awssdk.transfer.s3.model;
 
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.DirectorySyncConfiguration;
 import software.amazon.awssdk.transfer.s3.config.DownloadFilter;
 import software.amazon.awssdk.transfer.s3.config.TransferRequestOverrideConfiguration;
 import software.amazon.awssdk.utils.ToString;
@@ -44,6 +46,7 @@ public final class DownloadDirectoryRequest
     private final DownloadFilter filter;
     private final Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
     private final Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+    private final DirectorySyncConfiguration syncConfiguration;
 
     public DownloadDirectoryRequest(DefaultBuilder builder) {
         this.destination = Validate.paramNotNull(builder.destination, "destination");
@@ -51,6 +54,7 @@ public final class DownloadDirectoryRequest
         this.filter = builder.filter;
         this.downloadFileRequestTransformer = builder.downloadFileRequestTransformer;
         this.listObjectsRequestTransformer = builder.listObjectsRequestTransformer;
+        this.syncConfiguration = builder.syncConfiguration;
     }
 
     /**
@@ -97,6 +101,14 @@ public final class DownloadDirectoryRequest
         return downloadFileRequestTransformer == null ? ignore -> { } : downloadFileRequestTransformer;
     }
 
+    /**
+     * @return the optional sync configuration, present if unchanged objects should be skipped
+     * @see Builder#syncConfiguration(DirectorySyncConfiguration)
+     */
+    public Optional<DirectorySyncConfiguration> syncConfiguration() {
+        return Optional.ofNullable(syncConfiguration);
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -133,6 +145,9 @@ public final class DownloadDirectoryRequest
         if (!Objects.equals(listObjectsRequestTransformer, that.listObjectsRequestTransformer)) {
             return false;
         }
+        if (!Objects.equals(syncConfiguration, that.syncConfiguration)) {
+            return false;
+        }
         return Objects.equals(filter, that.filter);
     }
 
@@ -143,6 +158,7 @@ public final class DownloadDirectoryRequest
         result = 31 * result + (filter != null ? filter.hashCode() : 0);
         result = 31 * result + (downloadFileRequestTransformer != null ? downloadFileRequestTransformer.hashCode() : 0);
         result = 31 * result + (listObjectsRequestTransformer != null ? listObjectsRequestTransformer.hashCode() : 0);
+        result = 31 * result + (syncConfiguration != null ? syncConfiguration.hashCode() : 0);
         return result;
     }
 
@@ -154,6 +170,7 @@ public final class DownloadDirectoryRequest
                        .add("filter", filter)
                        .add("downloadFileRequestTransformer", downloadFileRequestTransformer)
                        .add("listObjectsRequestTransformer", listObjectsRequestTransformer)
+                       .add("syncConfiguration", syncConfiguration)
                        .build();
     }
 
@@ -328,6 +345,28 @@ public final class DownloadDirectoryRequest
          */
         Builder listObjectsV2RequestTransformer(Consumer<ListObjectsV2Request.Builder> listObjectsV2RequestTransformer);
 
+        /**
+         * Enables sync mode: objects whose local file has not changed since the object was last downloaded are skipped. Each
+         * listed object is compared with its destination file as the listing is streamed, so the listing is never held in
+         * memory.
+         *
+         * @param syncConfiguration the sync configuration
+         * @return This builder for method chaining.
+         * @see DirectorySyncConfiguration
+         */
+        Builder syncConfiguration(DirectorySyncConfiguration syncConfiguration);
+
+        /**
+         * Enables sync mode. This is a convenience method that creates an instance of the {@link DirectorySyncConfiguration}
+         * builder, avoiding the need to create one manually via {@link DirectorySyncConfiguration#builder()}.
+         *
+         * @param syncConfiguration a consumer of the {@link DirectorySyncConfiguration} builder
+         * @return This builder for method chaining.
+         * @see #syncConfiguration(DirectorySyncConfiguration)
+         */
+        default Builder syncConfiguration(Consumer<DirectorySyncConfiguration.Builder> syncConfiguration) {
+            return syncConfiguration(DirectorySyncConfiguration.builder().applyMutation(syncConfiguration).build());
+        }
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -337,6 +376,7 @@ public final class DownloadDirectoryRequest
         private DownloadFilter filter;
         private Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
         private Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+        private DirectorySyncConfiguration syncConfiguration;
 
         private DefaultBuilder() {
         }
@@ -347,6 +387,7 @@ public final class DownloadDirectoryRequest
             this.filter = request.filter;
             this.downloadFileRequestTransformer = request.downloadFileRequestTransformer;
             this.listObjectsRequestTransformer = request.listObjectsRequestTransformer;
+            this.syncConfiguration = request.syncConfiguration;
         }
 
         @Override
@@ -403,6 +444,20 @@ public final class DownloadDirectoryRequest
             return filter;
         }
 
+        @Override
+        public Builder syncConfiguration(DirectorySyncConfiguration syncConfiguration) {
+            this.syncConfiguration = syncConfiguration;
+            return this;
+        }
+
+        public void setSyncConfiguration(DirectorySyncConfiguration syncConfiguration) {
+            syncConfiguration(syncConfiguration);
+        }
+
+        public DirectorySyncConfiguration getSyncConfiguration() {
+            return syncConfiguration;
+        }
+
         @Override
         public DownloadDirectoryRequest build() {
             return new DownloadDirectoryRequest(this);
@@ -24,6 +24,7 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.DirectorySyncConfiguration;
 import software.amazon.awssdk.transfer.s3.config.TransferRequestOverrideConfiguration;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -46,7 +47,7 @@ public final class UploadDirectoryRequest
     private final Boolean followSymbolicLinks;
     private final Integer maxDepth;
     private final Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
-
+    private final DirectorySyncConfiguration syncConfiguration;
 
     public UploadDirectoryRequest(DefaultBuilder builder) {
         this.source = Validate.paramNotNull(builder.source, "source");
@@ -56,6 +57,7 @@ public final class UploadDirectoryRequest
         this.followSymbolicLinks = builder.followSymbolicLinks;
         this.maxDepth = builder.maxDepth;
         this.uploadFileRequestTransformer = builder.uploadFileRequestTransformer;
+        this.syncConfiguration = builder.syncConfiguration;
     }
 
     /**
@@ -119,6 +121,14 @@ public final class UploadDirectoryRequest
         return uploadFileRequestTransformer == null ? ignore -> { } : uploadFileRequestTransformer;
     }
 
+    /**
+     * @return the optional sync configuration, present if unchanged files should be skipped
+     * @see Builder#syncConfiguration(DirectorySyncConfiguration)
+     */
+    public Optional<DirectorySyncConfiguration> syncConfiguration() {
+        return Optional.ofNullable(syncConfiguration);
+    }
+
 
     public static Builder builder() {
         return new DefaultBuilder();
@@ -162,6 +172,9 @@ public final class UploadDirectoryRequest
         if (!Objects.equals(uploadFileRequestTransformer, that.uploadFileRequestTransformer)) {
             return false;
         }
+        if (!Objects.equals(syncConfiguration, that.syncConfiguration)) {
+            return false;
+        }
         return Objects.equals(s3Delimiter, that.s3Delimiter);
     }
 
@@ -174,6 +187,7 @@ public final class UploadDirectoryRequest
         result = 31 * result + (followSymbolicLinks != null ? followSymbolicLinks.hashCode() : 0);
         result = 31 * result + (maxDepth != null ? maxDepth.hashCode() : 0);
         result = 31 * result + (uploadFileRequestTransformer != null ? uploadFileRequestTransformer.hashCode() : 0);
+        result = 31 * result + (syncConfiguration != null ? syncConfiguration.hashCode() : 0);
         return result;
     }
 
@@ -187,6 +201,7 @@ public final class UploadDirectoryRequest
                        .add("followSymbolicLinks", followSymbolicLinks)
                        .add("maxDepth", maxDepth)
                        .add("uploadFileRequestTransformer", uploadFileRequestTransformer)
+                       .add("syncConfiguration", syncConfiguration)
                        .build();
     }
 
@@ -331,7 +346,33 @@ public final class UploadDirectoryRequest
          */
         Builder uploadFileRequestTransformer(Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer);
 
+        /**
+         * Enables sync mode: files whose object under the destination key has not changed since the file was last uploaded are
+         * skipped. The objects under the destination prefix are listed once, while the directory is traversed, and compared
+         * with the files in key order; neither the listing nor the file tree is held in memory.
+         *
+         * <p>
+         * The comparison uses the key of the {@link PutObjectRequest} returned by
+         * {@link #uploadFileRequestTransformer(Consumer)}, so a transformer may rename objects. Files are visited in key order in
+         * sync mode.
+         *
+         * @param syncConfiguration the sync configuration
+         * @return This builder for method chaining.
+         * @see DirectorySyncConfiguration
+         */
+        Builder syncConfiguration(DirectorySyncConfiguration syncConfiguration);
 
+        /**
+         * Enables sync mode. This is a convenience method that creates an instance of the {@link DirectorySyncConfiguration}
+         * builder, avoiding the need to create one manually via {@link DirectorySyncConfiguration#builder()}.
+         *
+         * @param syncConfiguration a consumer of the {@link DirectorySyncConfiguration} builder
+         * @return This builder for method chaining.
+         * @see #syncConfiguration(DirectorySyncConfiguration)
+         */
+        default Builder syncConfiguration(Consumer<DirectorySyncConfiguration.Builder> syncConfiguration) {
+            return syncConfiguration(DirectorySyncConfiguration.builder().applyMutation(syncConfiguration).build());
+        }
 
         @Override
         UploadDirectoryRequest build();
@@ -347,6 +388,7 @@ public final class UploadDirectoryRequest
         private Boolean followSymbolicLinks;
         private Integer maxDepth;
         private Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
+        private DirectorySyncConfiguration syncConfiguration;
 
         private DefaultBuilder() {
         }
@@ -359,6 +401,7 @@ public final class UploadDirectoryRequest
             this.followSymbolicLinks = request.followSymbolicLinks;
             this.maxDepth = request.maxDepth;
             this.uploadFileRequestTransformer = request.uploadFileRequestTransformer;
+            this.syncConfiguration = request.syncConfiguration;
         }
 
         @Override
@@ -459,6 +502,20 @@ public final class UploadDirectoryRequest
             this.uploadFileRequestTransformer = uploadFileRequestTransformer;
         }
 
+        @Override
+        public Builder syncConfiguration(DirectorySyncConfiguration syncConfiguration) {
+            this.syncConfiguration = syncConfiguration;
+            return this;
+        }
+
+        public void setSyncConfiguration(DirectorySyncConfiguration syncConfiguration) {
+            syncConfiguration(syncConfiguration);
+        }
+
+        public DirectorySyncConfiguration getSyncConfiguration() {
+            return syncConfiguration;
+        }
+
         @Override
         public UploadDirectoryRequest build() {
             return new UploadDirectoryRequest(this);
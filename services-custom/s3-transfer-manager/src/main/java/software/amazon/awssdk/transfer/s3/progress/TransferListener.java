@@ -29,6 +29,7 @@ import software.amazon.awssdk.transfer.s3.model.CompletedObjectTransfer;
 import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.model.TransferObjectRequest;
 import software.amazon.awssdk.transfer.s3.model.TransferRequest;
+import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
 
 /**
@@ -165,6 +166,22 @@ public interface TransferListener {
     default void transferFailed(Context.TransferFailed context) {
     }
 
+    /**
+     * A file of a {@link S3TransferManager#uploadDirectory} transfer has been scheduled, and its transfer is about to be
+     * initiated. This method is called exactly once per file, before {@link #transferInitiated}, on the listeners of that
+     * file's request, which can be added through {@link UploadDirectoryRequest.Builder#uploadFileRequestTransformer}.
+     * <p>
+     * Available context attributes:
+     * <ol>
+     *     <li>{@link Context.TransferScheduled#request()}</li>
+     *     <li>{@link Context.TransferScheduled#queuedTransfers()}</li>
+     *     <li>{@link Context.TransferScheduled#inFlightTransfers()}</li>
+     *     <li>{@link Context.TransferScheduled#inFlightBytes()}</li>
+     * </ol>
+     */
+    default void transferScheduled(Context.TransferScheduled context) {
+    }
+
     /**
      * A wrapper class that groups together the different context interfaces that are exposed to {@link TransferListener}s.
      * <p>
@@ -273,5 +290,42 @@ public interface TransferListener {
              */
             Throwable exception();
         }
+
+        /**
+         * A file of a directory transfer has been scheduled.
+         * <p>
+         * Available context attributes:
+         * <ol>
+         *     <li>{@link TransferScheduled#request()}</li>
+         *     <li>{@link TransferScheduled#queuedTransfers()}</li>
+         *     <li>{@link TransferScheduled#inFlightTransfers()}</li>
+         *     <li>{@link TransferScheduled#inFlightBytes()}</li>
+         * </ol>
+         */
+        @Immutable
+        @ThreadSafe
+        @SdkPublicApi
+        @SdkPreviewApi
+        public interface TransferScheduled {
+            /**
+             * The {@link TransferRequest} of the scheduled file, i.e., the {@link UploadFileRequest}.
+             */
+            TransferObjectRequest request();
+
+            /**
+             * The number of files of the directory transfer that were found and are waiting to be scheduled.
+             */
+            int queuedTransfers();
+
+            /**
+             * The number of files of the directory transfer in flight, including this one.
+             */
+            int inFlightTransfers();
+
+            /**
+             * The number of bytes reserved by the files of the directory transfer in flight, including this one.
+             */
+            long inFlightBytes();
+        }
     }
 }
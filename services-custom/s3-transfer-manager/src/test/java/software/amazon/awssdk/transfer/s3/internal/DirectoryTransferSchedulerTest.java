@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.transfer.s3.internal.DirectoryTransferScheduler.QueueDepth;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+class DirectoryTransferSchedulerTest {
+    private static final long LARGE_ITEM_THRESHOLD = 100;
+
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private final Map<String, QueueDepth> depths = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private CompletableFuture<Void> returnFuture;
+    private SimplePublisher<String> publisher;
+    private DirectoryTransferScheduler<String> scheduler;
+
+    @BeforeEach
+    void setUp() {
+        returnFuture = new CompletableFuture<>();
+        publisher = new SimplePublisher<>();
+    }
+
+    @Test
+    void smallItemsPublishedLater_startBeforeLargeItem_untilLargeItemTurn() {
+        subscribe(2, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        send("s1:1", "s2:1", "large:1000", "s3:1", "s4:1", "s5:1");
+        assertThat(started).containsExactly("s1", "s2");
+
+        complete("s1");
+        assertThat(started).containsExactly("s1", "s2", "s3");
+
+        complete("s2");
+        assertThat(started).containsExactly("s1", "s2", "s3", "large");
+
+        complete("s3");
+        assertThat(started).containsExactly("s1", "s2", "s3", "large", "s4");
+    }
+
+    @Test
+    void itemsExceedingByteBudget_waitForBytesToBeReleased() {
+        subscribe(10, 100, Long.MAX_VALUE);
+
+        send("a:60", "b:30", "c:30", "d:10");
+        assertThat(started).containsExactly("a", "b");
+        assertThat(scheduler.queueDepth().inFlight()).isEqualTo(2);
+        assertThat(scheduler.queueDepth().bytesInFlight()).isEqualTo(90);
+        assertThat(scheduler.queueDepth().queued()).isEqualTo(2);
+
+        complete("a");
+        assertThat(started).containsExactly("a", "b", "c", "d");
+    }
+
+    @Test
+    void itemLargerThanByteBudget_startsWhenNothingElseIsInFlight() {
+        subscribe(10, 100, Long.MAX_VALUE);
+
+        send("a:10", "huge:1000");
+        assertThat(started).containsExactly("a");
+
+        complete("a");
+        assertThat(started).containsExactly("a", "huge");
+        assertThat(depths.get("huge").bytesInFlight()).isEqualTo(1000);
+    }
+
+    @Test
+    void largeItems_reserveAtMostMaxBytesPerExecution() {
+        subscribe(10, 100, 32);
+
+        send("a:1000", "b:1000", "c:1000", "d:1000");
+        assertThat(started).containsExactly("a", "b", "c");
+        assertThat(depths.get("c").bytesInFlight()).isEqualTo(96);
+    }
+
+    @Test
+    void allItemsComplete_shouldCompleteReturnFuture() throws Exception {
+        subscribe(3, 100, 50);
+
+        IntStream.range(0, 50).forEach(i -> publisher.send("item" + i + ":" + (i * 7 % 200)));
+        publisher.complete();
+
+        while (!returnFuture.isDone()) {
+            new ArrayList<>(inFlight.keySet()).forEach(this::complete);
+        }
+
+        returnFuture.get(5, TimeUnit.SECONDS);
+        assertThat(started).hasSize(50).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void consumerThrowsException_shouldCompleteReturnFutureExceptionally() {
+        RuntimeException exception = new RuntimeException("boom");
+        DirectoryTransferScheduler<String> scheduler =
+            new DirectoryTransferScheduler<>((item, depth) -> {
+                throw exception;
+            }, s -> 1L, returnFuture, 2, 100, 100, LARGE_ITEM_THRESHOLD);
+        publisher.subscribe(scheduler);
+
+        publisher.send("a:1");
+
+        assertThatThrownBy(() -> returnFuture.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                      .hasCause(exception);
+    }
+
+    @Test
+    void returnFutureCompletedExceptionally_shouldCancelInFlightRequests() {
+        subscribe(2, 100, 100);
+
+        send("a:1", "b:1");
+        returnFuture.completeExceptionally(new RuntimeException("cancelled"));
+
+        assertThat(inFlight.values()).hasSize(2).allSatisfy(f -> assertThat(f).isCancelled());
+    }
+
+    private void subscribe(int maxConcurrentExecutions, long maxBytesInFlight, long maxBytesPerExecution) {
+        scheduler = new DirectoryTransferScheduler<>((item, depth) -> {
+            String name = name(item);
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            inFlight.put(name, future);
+            depths.put(name, depth);
+            started.add(name);
+            return future;
+        }, DirectoryTransferSchedulerTest::weight, returnFuture, maxConcurrentExecutions, maxBytesInFlight,
+            maxBytesPerExecution, LARGE_ITEM_THRESHOLD);
+        publisher.subscribe(scheduler);
+    }
+
+    private void send(String... items) {
+        for (String item : items) {
+            publisher.send(item);
+        }
+    }
+
+    private void complete(String name) {
+        CompletableFuture<Void> future = inFlight.remove(name);
+        if (future != null) {
+            future.complete(null);
+        }
+    }
+
+    private static String name(String item) {
+        return item.substring(0, item.indexOf(':'));
+    }
+
+    private static long weight(String item) {
+        return Long.parseLong(item.substring(item.indexOf(':') + 1));
+    }
+}
@@ -18,7 +18,9 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +28,7 @@ import static software.amazon.awssdk.transfer.s3.util.S3ApiCallMockUtils.stubSuc
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
@@ -36,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -134,6 +138,63 @@ public class DownloadDirectoryHelperTest {
             "key2"));
     }
 
+    @Test
+    void downloadDirectory_listingConcurrencyConfigured_shouldListConcurrently() throws Exception {
+        when(listObjectsHelper.listS3ObjectsConcurrently(any(ListObjectsV2Request.class), eq(8)))
+            .thenReturn(SdkPublisher.adapt(Flowable.just(S3Object.builder().key("key1").build())));
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(newSuccessfulDownload());
+
+        DownloadDirectoryHelper helper = new DownloadDirectoryHelper(
+            TransferManagerConfiguration.builder().downloadDirectoryListingMaxConcurrency(8).build(),
+            listObjectsHelper,
+            singleDownloadFunction);
+
+        CompletedDirectoryDownload completedDirectoryDownload =
+            helper.downloadDirectory(DownloadDirectoryRequest.builder().destination(directory).bucket("bucket").build())
+                  .completionFuture()
+                  .get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryDownload.failedTransfers()).isEmpty();
+        verify(singleDownloadFunction).apply(any(DownloadFileRequest.class));
+        verify(listObjectsHelper, never()).listS3ObjectsRecursively(any(ListObjectsV2Request.class));
+    }
+
+    @Test
+    void downloadDirectory_syncMode_shouldOnlyDownloadChangedObjects() throws Exception {
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("unchanged"), "abc".getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("resized"), "abc".getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("updated"), "abc".getBytes(StandardCharsets.UTF_8));
+        Instant earlier = Instant.now().minus(Duration.ofHours(1));
+        Instant later = Instant.now().plus(Duration.ofHours(1));
+        Path manifest = fs.getPath("manifest");
+        stubSuccessfulListObjects(listObjectsHelper,
+                                  S3Object.builder().key("unchanged").size(3L).lastModified(earlier).eTag("e1").build(),
+                                  S3Object.builder().key("resized").size(4L).lastModified(earlier).eTag("e2").build(),
+                                  S3Object.builder().key("updated").size(3L).lastModified(later).eTag("e3").build(),
+                                  S3Object.builder().key("new").size(3L).lastModified(earlier).eTag("e4").build());
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenAnswer(i -> newSuccessfulDownload());
+
+        CompletedDirectoryDownload completedDirectoryDownload =
+            downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                              .destination(directory)
+                                                                              .bucket("bucket")
+                                                                              .syncConfiguration(c -> c.manifest(manifest))
+                                                                              .build())
+                                   .completionFuture()
+                                   .get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<DownloadFileRequest> argumentCaptor = ArgumentCaptor.forClass(DownloadFileRequest.class);
+        verify(singleDownloadFunction, times(3)).apply(argumentCaptor.capture());
+        assertThat(completedDirectoryDownload.failedTransfers()).isEmpty();
+        assertThat(argumentCaptor.getAllValues()).extracting(d -> d.getObjectRequest().key())
+                                                 .containsExactly("resized", "updated", "new");
+
+        SyncManifest.Entry entry = SyncManifest.load(manifest).get("unchanged");
+        assertThat(entry.eTag()).isEqualTo("e1");
+        assertThat(entry.size()).isEqualTo(3L);
+    }
+
     @Test
     void downloadDirectory_containsFolderObjects_shouldSkip() throws Exception {
         stubSuccessfulListObjects(listObjectsHelper, S3Object.builder().key("key1").size(10L).build(),
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -25,17 +26,23 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.CommonPrefix;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 class ListObjectsHelperTest {
     private Function<ListObjectsV2Request,
@@ -127,6 +134,99 @@ class ListObjectsHelperTest {
         assertThat(actualObjects).hasSize(10);
     }
 
+    @Test
+    void listS3ObjectsConcurrently_noDelimiter_shouldReturnSameObjectsAsFlatListing() {
+        FakeBucket bucket = new FakeBucket(2, "dir/", "dir/a", "dir/b/c", "dir/b/d/e", "dir/b/", "dir/f", "dir/g/h", "other");
+        ListObjectsV2Request request = ListObjectsV2Request.builder().bucket("bucket").prefix("dir/").build();
+
+        List<String> keys = new ArrayList<>();
+        new ListObjectsHelper(bucket).listS3ObjectsConcurrently(request, 3).subscribe(o -> keys.add(o.key())).join();
+
+        assertThat(keys).containsExactlyInAnyOrder("dir/a", "dir/b/c", "dir/b/d/e", "dir/b/", "dir/f", "dir/g/h");
+        assertThat(bucket.requests).allSatisfy(r -> assertThat(r.delimiter()).isEqualTo("/"));
+    }
+
+    @Test
+    void listS3ObjectsConcurrently_withDelimiter_shouldReturnSameObjectsAsRecursiveListing() {
+        FakeBucket bucket = new FakeBucket(2, "a", "b-", "b-c", "b-d-e", "b-d-f", "b-g", "h-i", "h-j-k");
+        ListObjectsV2Request request = ListObjectsV2Request.builder().bucket("bucket").delimiter("-").build();
+
+        List<S3Object> sequential = new ArrayList<>();
+        new ListObjectsHelper(bucket).listS3ObjectsRecursively(request).subscribe(sequential::add).join();
+        List<S3Object> concurrent = new ArrayList<>();
+        new ListObjectsHelper(bucket).listS3ObjectsConcurrently(request, 4).subscribe(concurrent::add).join();
+
+        assertThat(concurrent).extracting(S3Object::key).doesNotContain("b-").containsExactlyInAnyOrderElementsOf(
+            sequential.stream().map(S3Object::key).collect(Collectors.toList()));
+    }
+
+    @Test
+    void listS3ObjectsConcurrently_shouldBoundRequestsInFlight() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < 5; j++) {
+                keys.add(String.format("%02d/%02d/file", i, j));
+            }
+        }
+        FakeBucket bucket = new FakeBucket(3, keys.toArray(new String[0])).completeAsynchronously();
+
+        List<String> listed = Collections.synchronizedList(new ArrayList<>());
+        new ListObjectsHelper(bucket).listS3ObjectsConcurrently(ListObjectsV2Request.builder().bucket("bucket").build(), 4)
+                                     .subscribe(o -> listed.add(o.key())).join();
+
+        assertThat(listed).containsExactlyInAnyOrderElementsOf(keys);
+        assertThat(bucket.maxInFlight).hasValueLessThanOrEqualTo(4).hasValueGreaterThan(1);
+    }
+
+    @Test
+    void listS3ObjectsConcurrently_noDemand_shouldStopListing() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            keys.add(String.format("key%05d", i));
+        }
+        FakeBucket bucket = new FakeBucket(1000, keys.toArray(new String[0]));
+        List<S3Object> listed = new ArrayList<>();
+
+        new ListObjectsHelper(bucket).listS3ObjectsConcurrently(ListObjectsV2Request.builder().bucket("bucket").build(), 2)
+                                     .subscribe(new Subscriber<S3Object>() {
+                                         @Override
+                                         public void onSubscribe(Subscription s) {
+                                             s.request(1);
+                                         }
+
+                                         @Override
+                                         public void onNext(S3Object s3Object) {
+                                             listed.add(s3Object);
+                                         }
+
+                                         @Override
+                                         public void onError(Throwable t) {
+                                         }
+
+                                         @Override
+                                         public void onComplete() {
+                                         }
+                                     });
+
+        assertThat(listed).hasSize(1);
+        assertThat(bucket.requests.size()).isLessThan(5);
+    }
+
+    @Test
+    void listS3ObjectsConcurrently_requestFails_shouldFailPublisher() {
+        SdkClientException exception = SdkClientException.create("boom");
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class)))
+            .thenReturn(CompletableFuture.completedFuture(listObjectsV2Response(null, Arrays.asList(
+                CommonPrefix.builder().prefix("a/").build()), "1")))
+            .thenReturn(CompletableFutureUtils.failedFuture(exception));
+
+        CompletableFuture<Void> future =
+            listObjectsHelper.listS3ObjectsConcurrently(ListObjectsV2Request.builder().bucket("bucket").build(), 2)
+                             .subscribe(o -> { });
+
+        assertThatThrownBy(future::join).hasCause(exception);
+    }
+
     private ListObjectsV2Response listObjectsV2Response(String... keys) {
         return listObjectsV2Response(null, null, keys);
     }
@@ -141,4 +241,77 @@ class ListObjectsHelperTest {
                                     .contents(s3Objects)
                                     .build();
     }
+
+    /**
+     * Lists a fixed set of keys the way S3 does, returning at most {@code pageSize} objects and common prefixes per page.
+     */
+    private static final class FakeBucket implements Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> {
+        private final TreeSet<String> keys;
+        private final int pageSize;
+        private final List<ListObjectsV2Request> requests = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private boolean completeAsynchronously;
+
+        private FakeBucket(int pageSize, String... keys) {
+            this.keys = new TreeSet<>(Arrays.asList(keys));
+            this.pageSize = pageSize;
+        }
+
+        private FakeBucket completeAsynchronously() {
+            this.completeAsynchronously = true;
+            return this;
+        }
+
+        @Override
+        public CompletableFuture<ListObjectsV2Response> apply(ListObjectsV2Request request) {
+            requests.add(request);
+            if (!completeAsynchronously) {
+                return CompletableFuture.completedFuture(list(request));
+            }
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return list(request);
+            });
+        }
+
+        private ListObjectsV2Response list(ListObjectsV2Request request) {
+            String prefix = request.prefix() == null ? "" : request.prefix();
+            List<Object> entries = new ArrayList<>();
+            for (String key : keys.tailSet(prefix)) {
+                if (!key.startsWith(prefix)) {
+                    break;
+                }
+                int index = request.delimiter() == null ? -1 : key.indexOf(request.delimiter(), prefix.length());
+                if (index < 0) {
+                    entries.add(S3Object.builder().key(key).build());
+                    continue;
+                }
+                String commonPrefix = key.substring(0, index + request.delimiter().length());
+                if (entries.isEmpty() || !(entries.get(entries.size() - 1) instanceof String)
+                    || !entries.get(entries.size() - 1).equals(commonPrefix)) {
+                    entries.add(commonPrefix);
+                }
+            }
+
+            int start = request.continuationToken() == null ? 0 : Integer.parseInt(request.continuationToken());
+            int end = Math.min(entries.size(), start + pageSize);
+            List<Object> page = entries.subList(start, end);
+            return ListObjectsV2Response.builder()
+                                        .prefix(prefix)
+                                        .contents(page.stream().filter(S3Object.class::isInstance).map(S3Object.class::cast)
+                                                      .collect(Collectors.toList()))
+                                        .commonPrefixes(page.stream().filter(String.class::isInstance)
+                                                            .map(p -> CommonPrefix.builder().prefix((String) p).build())
+                                                            .collect(Collectors.toList()))
+                                        .nextContinuationToken(end < entries.size() ? String.valueOf(end) : null)
+                                        .build();
+        }
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SortedFileWalkerTest {
+    private FileSystem fs;
+    private Path root;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fs = Jimfs.newFileSystem(Configuration.unix());
+        root = fs.getPath("/root");
+        Files.createDirectories(root.resolve("a"));
+        Files.createDirectories(root.resolve("a/nested"));
+        Files.createDirectories(root.resolve("empty"));
+        Files.createFile(root.resolve("a-b"));
+        Files.createFile(root.resolve("a/c"));
+        Files.createFile(root.resolve("a/nested/d"));
+        Files.createFile(root.resolve("A"));
+        Files.createFile(root.resolve("b.txt"));
+        Files.createFile(root.resolve("😀"));
+        Files.createFile(root.resolve("｡"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fs.close();
+    }
+
+    @Test
+    void walk_shouldVisitFilesInKeyOrder() {
+        assertThat(walk(Integer.MAX_VALUE, false, "/"))
+            .containsExactly("A", "a-b", "a/c", "a/nested/d", "b.txt", "｡", "😀");
+    }
+
+    @Test
+    void walk_customDelimiter_shouldSortDirectoriesWithDelimiter() {
+        // With "+" as the delimiter, the keys of directory "a" start with "a+", which sorts before "a-b"
+        assertThat(walk(Integer.MAX_VALUE, false, "+"))
+            .containsExactly("A", "a/c", "a/nested/d", "a-b", "b.txt", "｡", "😀");
+    }
+
+    @Test
+    void walk_maxDepth_shouldOnlyVisitFilesUpToDepth() {
+        assertThat(walk(1, false, "/")).containsExactly("A", "a-b", "b.txt", "｡", "😀");
+        assertThat(walk(2, false, "/")).containsExactly("A", "a-b", "a/c", "b.txt", "｡", "😀");
+        assertThat(walk(0, false, "/")).isEmpty();
+    }
+
+    @Test
+    void walk_symbolicLinks_shouldOnlyBeFollowedIfRequested() throws IOException {
+        Files.createSymbolicLink(root.resolve("link"), root.resolve("a/nested"));
+        Files.createSymbolicLink(root.resolve("broken"), root.resolve("missing"));
+
+        assertThat(walk(Integer.MAX_VALUE, false, "/")).doesNotContain("link/d", "broken");
+        assertThat(walk(Integer.MAX_VALUE, true, "/")).contains("link/d").doesNotContain("broken");
+    }
+
+    @Test
+    void walk_symbolicLinkLoop_shouldThrow() throws IOException {
+        Files.createSymbolicLink(root.resolve("a/nested/loop"), root.resolve("a"));
+
+        assertThatThrownBy(() -> walk(Integer.MAX_VALUE, true, "/"))
+            .isInstanceOf(UncheckedIOException.class)
+            .hasCauseInstanceOf(FileSystemLoopException.class);
+    }
+
+    private List<String> walk(int maxDepth, boolean followSymbolicLinks, String delimiter) {
+        List<String> files = new ArrayList<>();
+        new SortedFileWalker(root, maxDepth, followSymbolicLinks, delimiter)
+            .forEachRemaining(p -> files.add(root.relativize(p).toString()));
+        return files;
+    }
+}
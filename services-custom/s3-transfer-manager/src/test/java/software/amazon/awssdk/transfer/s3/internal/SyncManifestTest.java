@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+class SyncManifestTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void load_noFile_shouldReturnEmptyManifest() {
+        SyncManifest manifest = SyncManifest.load(directory.resolve("missing"));
+
+        assertThat(manifest.size()).isZero();
+        assertThat(manifest.get("key")).isNull();
+        assertThat(manifest.entries()).isExhausted();
+    }
+
+    @Test
+    void get_shouldFindEveryWrittenEntry() {
+        Path path = directory.resolve("manifest");
+        List<SyncManifest.Entry> entries =
+            IntStream.range(0, 1000)
+                     .mapToObj(i -> new SyncManifest.Entry(String.format("dir/%04d", i), i, 1000L * i, i % 2 == 0 ? "e" + i : null))
+                     .collect(Collectors.toList());
+        SyncManifest.write(path, entries.iterator());
+
+        SyncManifest manifest = SyncManifest.load(path);
+
+        assertThat(manifest.size()).isEqualTo(1000);
+        for (SyncManifest.Entry expected : entries) {
+            SyncManifest.Entry actual = manifest.get(expected.key());
+            assertThat(actual.key()).isEqualTo(expected.key());
+            assertThat(actual.size()).isEqualTo(expected.size());
+            assertThat(actual.lastModified()).isEqualTo(expected.lastModified());
+            assertThat(actual.eTag()).isEqualTo(expected.eTag());
+        }
+        assertThat(manifest.get("dir/")).isNull();
+        assertThat(manifest.get("dir/1000")).isNull();
+        assertThat(manifest.get("dir/0001a")).isNull();
+    }
+
+    @Test
+    void entries_shouldBeInKeyOrder() {
+        Path path = directory.resolve("manifest");
+        // U+FF61 sorts before U+1F600 in UTF-8, but not in UTF-16
+        List<String> keys = Arrays.asList("a", "a-b", "a/b", "｡", "😀");
+        SyncManifest.write(path, keys.stream().map(k -> new SyncManifest.Entry(k, 0, 0, "e")).iterator());
+
+        List<String> read = new ArrayList<>();
+        SyncManifest.load(path).entries().forEachRemaining(e -> read.add(e.key()));
+
+        assertThat(read).isEqualTo(keys);
+        assertThat(SyncManifest.load(path).get("😀")).isNotNull();
+    }
+
+    @Test
+    void write_entriesOutOfOrder_shouldThrowAndKeepPreviousManifest() {
+        Path path = directory.resolve("manifest");
+        SyncManifest.write(path, Arrays.asList(new SyncManifest.Entry("a", 1, 1, "e")).iterator());
+
+        assertThatThrownBy(() -> SyncManifest.write(path, Arrays.asList(new SyncManifest.Entry("b", 1, 1, "e"),
+                                                                        new SyncManifest.Entry("a", 1, 1, "e")).iterator()))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(SyncManifest.load(path).get("a")).isNotNull();
+    }
+
+    @Test
+    void write_whileLoadedManifestIsInUse_shouldReplaceItAndKeepLoadedEntries() {
+        Path path = directory.resolve("manifest");
+        SyncManifest.write(path, Arrays.asList(new SyncManifest.Entry("a", 1, 1, "e1")).iterator());
+        SyncManifest loaded = SyncManifest.load(path);
+
+        // A sync reads the previous manifest while it writes the new one over the same path
+        SyncManifest.write(path, Arrays.asList(new SyncManifest.Entry("a", 2, 2, "e2")).iterator());
+
+        assertThat(loaded.get("a").eTag()).isEqualTo("e1");
+        assertThat(SyncManifest.load(path).get("a").eTag()).isEqualTo("e2");
+    }
+
+    @Test
+    void load_notAManifest_shouldThrow() throws Exception {
+        Path path = directory.resolve("manifest");
+        Files.write(path, "definitely not a manifest".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> SyncManifest.load(path)).isInstanceOf(SdkClientException.class)
+                                                         .hasMessageContaining("is not a sync manifest");
+    }
+}
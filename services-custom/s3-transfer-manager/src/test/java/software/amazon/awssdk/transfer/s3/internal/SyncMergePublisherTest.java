@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.reactivex.Flowable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+class SyncMergePublisherTest {
+
+    @Test
+    void merge_shouldPublishLocalItemsWithoutUnchangedRemoteObject() throws Exception {
+        List<String> published = merge(Arrays.asList("a", "b", "c", "e"),
+                                       Arrays.asList(object("b", "same"), object("c", "changed"), object("d", "same")));
+
+        assertThat(published).containsExactly("a", "c", "e");
+    }
+
+    @Test
+    void merge_noRemoteObjects_shouldPublishAllLocalItems() throws Exception {
+        assertThat(merge(Arrays.asList("a", "b"), Collections.emptyList())).containsExactly("a", "b");
+    }
+
+    @Test
+    void merge_localItemsExhausted_shouldCancelListing() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        SdkPublisher<S3Object> remote = SdkPublisher.adapt(Flowable.range(0, 10_000)
+                                                                   .map(i -> object(String.format("%05d", i), "same"))
+                                                                   .doOnCancel(() -> cancelled.set(true)));
+
+        List<String> published = collect(new SyncMergePublisher<>(remote, Arrays.asList("00001", "00002").iterator(),
+                                                                  s -> s, (s, o) -> "same".equals(o.eTag())));
+
+        assertThat(published).isEmpty();
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    void merge_longRunsOnEitherSide_shouldNotOverflowTheStack() throws Exception {
+        List<String> local = IntStream.range(0, 100_000).mapToObj(i -> String.format("a%06d", i)).collect(Collectors.toList());
+        local.add("c");
+        List<S3Object> remote = IntStream.range(0, 100_000)
+                                         .mapToObj(i -> object(String.format("b%06d", i), "same"))
+                                         .collect(Collectors.toList());
+        remote.add(object("c", "same"));
+
+        List<String> published = merge(local, remote);
+
+        assertThat(published).hasSize(100_000).doesNotContain("c");
+    }
+
+    @Test
+    void merge_listingFails_shouldFailPublisher() {
+        SdkPublisher<S3Object> remote = SdkPublisher.adapt(Flowable.error(new IllegalStateException("boom")));
+
+        assertThatThrownBy(() -> collect(new SyncMergePublisher<>(remote, Arrays.asList("a").iterator(), s -> s,
+                                                                  (s, o) -> false)))
+            .isInstanceOf(ExecutionException.class)
+            .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void merge_comparisonThrows_shouldFailPublisher() {
+        SdkPublisher<S3Object> remote = SdkPublisher.adapt(Flowable.just(object("a", "same")));
+
+        assertThatThrownBy(() -> collect(new SyncMergePublisher<>(remote, Arrays.asList("a").iterator(), s -> s, (s, o) -> {
+            throw new IllegalStateException("boom");
+        }))).isInstanceOf(ExecutionException.class).hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<String> merge(List<String> local, List<S3Object> remote) throws Exception {
+        return collect(new SyncMergePublisher<>(SdkPublisher.adapt(Flowable.fromIterable(remote)), local.iterator(), s -> s,
+                                                (s, o) -> "same".equals(o.eTag())));
+    }
+
+    private static List<String> collect(SdkPublisher<String> publisher) throws Exception {
+        List<String> published = new ArrayList<>();
+        CompletableFuture<Void> done = publisher.subscribe(published::add);
+        done.get(10, TimeUnit.SECONDS);
+        return published;
+    }
+
+    private static S3Object object(String key, String eTag) {
+        return S3Object.builder().key(key).eTag(eTag).build();
+    }
+}
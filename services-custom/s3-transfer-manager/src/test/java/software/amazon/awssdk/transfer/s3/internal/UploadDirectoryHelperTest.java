@@ -19,10 +19,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
@@ -31,6 +33,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -51,10 +54,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.multipart.PauseObservable;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.testutils.FileUtils;
 import software.amazon.awssdk.transfer.s3.config.TransferRequestOverrideConfiguration;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultFileUpload;
@@ -79,6 +85,7 @@ public class UploadDirectoryHelperTest {
     private static Path localDirectory;
     private Function<UploadFileRequest, FileUpload> singleUploadFunction;
     private UploadDirectoryHelper uploadDirectoryHelper;
+    private ListObjectsHelper listObjectsHelper;
 
     public static Collection<FileSystem> fileSystems() {
         return Arrays.asList(Jimfs.newFileSystem(Configuration.unix()),
@@ -105,8 +112,10 @@ public class UploadDirectoryHelperTest {
         Files.createFile(jimfs.getPath("test/2"));
 
         singleUploadFunction = mock(Function.class);
+        listObjectsHelper = mock(ListObjectsHelper.class);
 
-        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(), singleUploadFunction);
+        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(), listObjectsHelper,
+                                                          singleUploadFunction);
     }
 
     @AfterEach
@@ -322,6 +331,65 @@ public class UploadDirectoryHelperTest {
         assertThat(keys).containsOnly("bar.txt", "foo/1.txt", "foo/2.txt", "symlink/2.txt", "symlink2");
     }
 
+    @Test
+    void uploadDirectory_syncMode_shouldOnlyUploadChangedFiles() throws Exception {
+        Files.write(jimfs.getPath("test/3"), "abc".getBytes(StandardCharsets.UTF_8));
+        Instant later = Instant.now().plus(Duration.ofHours(1));
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.adapt(Flowable.just(S3Object.builder().key("prefix/1").size(0L).lastModified(later).build(),
+                                                         S3Object.builder().key("prefix/3").size(2L).lastModified(later).build(),
+                                                         S3Object.builder().key("prefix/4").size(0L).lastModified(later).build())));
+
+        ArgumentCaptor<UploadFileRequest> requestCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+        when(singleUploadFunction.apply(requestCaptor.capture())).thenAnswer(i -> completedUpload());
+
+        CompletedDirectoryUpload completedDirectoryUpload =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .s3Prefix("prefix")
+                                                                        .syncConfiguration(c -> { })
+                                                                        .build())
+                                 .completionFuture()
+                                 .get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryUpload.failedTransfers()).isEmpty();
+        assertThat(requestCaptor.getAllValues()).extracting(r -> r.putObjectRequest().key())
+                                                .containsExactly("prefix/2", "prefix/3");
+
+        ArgumentCaptor<ListObjectsV2Request> listCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(listObjectsHelper).listS3ObjectsRecursively(listCaptor.capture());
+        assertThat(listCaptor.getValue().bucket()).isEqualTo("bucket");
+        assertThat(listCaptor.getValue().prefix()).isEqualTo("prefix/");
+        assertThat(listCaptor.getValue().delimiter()).isNull();
+    }
+
+    @Test
+    void uploadDirectory_syncModeWithManifest_shouldRecordUploadsAndSkipThemNextTime() throws Exception {
+        Path manifest = jimfs.getPath("manifest");
+        Instant earlier = Instant.EPOCH;
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.adapt(Flowable.empty()))
+            .thenReturn(SdkPublisher.adapt(Flowable.just(
+                S3Object.builder().key("1").size(0L).lastModified(earlier).eTag("\"etag\"").build(),
+                S3Object.builder().key("2").size(0L).lastModified(earlier).eTag("\"other\"").build())));
+        ArgumentCaptor<UploadFileRequest> requestCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+        when(singleUploadFunction.apply(requestCaptor.capture())).thenAnswer(i -> completedUpload());
+
+        UploadDirectoryRequest request = UploadDirectoryRequest.builder()
+                                                               .source(directory)
+                                                               .bucket("bucket")
+                                                               .syncConfiguration(c -> c.manifest(manifest))
+                                                               .build();
+        uploadDirectoryHelper.uploadDirectory(request).completionFuture().get(5, TimeUnit.SECONDS);
+        assertThat(SyncManifest.load(manifest).get("1").eTag()).isEqualTo("\"etag\"");
+
+        // The objects were last modified before the files, but the manifest shows that 1 is unchanged since it was uploaded
+        uploadDirectoryHelper.uploadDirectory(request).completionFuture().get(5, TimeUnit.SECONDS);
+        assertThat(requestCaptor.getAllValues()).extracting(r -> r.putObjectRequest().key())
+                                                .containsExactly("1", "2", "2");
+    }
+
     @ParameterizedTest
     @MethodSource("fileSystems")
     void uploadDirectory_withPrefix_keysShouldHavePrefix(FileSystem fileSystem) {
@@ -464,7 +532,7 @@ public class UploadDirectoryHelperTest {
 
     private DefaultFileUpload completedUpload() {
         return new DefaultFileUpload(CompletableFuture.completedFuture(CompletedFileUpload.builder()
-                                                                                          .response(PutObjectResponse.builder().build())
+                                                                                          .response(PutObjectResponse.builder().eTag("\"etag\"").build())
                                                                                           .build()),
                                      new DefaultTransferProgress(DefaultTransferProgressSnapshot.builder()
                                                                                                 .transferredBytes(0L)
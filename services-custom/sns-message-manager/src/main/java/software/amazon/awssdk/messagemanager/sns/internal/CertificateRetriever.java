@@ -42,7 +42,7 @@ import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Lazy;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.Validate;
-import software.amazon.awssdk.utils.cache.lru.LruCache;
+import software.amazon.awssdk.utils.cache.ConcurrentLruCache;
 
 /**
  * Internal certificate retriever for SNS message validation.
@@ -60,7 +60,7 @@ public class CertificateRetriever implements SdkAutoCloseable {
     private final SdkHttpClient httpClient;
     private final String certCommonName;
     private final CertificateUrlValidator certUrlValidator;
-    private final LruCache<URI, PublicKey> certificateCache;
+    private final ConcurrentLruCache<URI, PublicKey> certificateCache;
 
     public CertificateRetriever(SdkHttpClient httpClient, String certHost, String certCommonName) {
         this(httpClient, certCommonName, new CertificateUrlValidator(certHost));
@@ -69,9 +69,9 @@ public class CertificateRetriever implements SdkAutoCloseable {
     CertificateRetriever(SdkHttpClient httpClient, String certCommonName, CertificateUrlValidator certificateUrlValidator) {
         this.httpClient = Validate.paramNotNull(httpClient, "httpClient");
         this.certCommonName = Validate.paramNotNull(certCommonName, "certCommonName");
-        this.certificateCache = LruCache.builder(this::fetchCertificate)
-                                        .maxSize(10)
-                                        .build();
+        this.certificateCache = ConcurrentLruCache.builder(this::fetchCertificate)
+                                                  .maxSize(10)
+                                                  .build();
         this.certUrlValidator = Validate.paramNotNull(certificateUrlValidator, "certificateUrlValidator");
     }
 
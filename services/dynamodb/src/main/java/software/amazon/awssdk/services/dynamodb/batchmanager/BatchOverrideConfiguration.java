@@ -0,0 +1,233 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.batchmanager;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration values for the {@link DynamoDbAsyncBatchManager} implementation used for controlling batch operations.
+ * All values are optional, and default values will be used if they are not specified.
+ */
+@SdkPublicApi
+public final class BatchOverrideConfiguration implements ToCopyableBuilder<BatchOverrideConfiguration.Builder,
+    BatchOverrideConfiguration> {
+
+    private final Integer maxWriteBatchSize;
+    private final Integer maxGetBatchSize;
+    private final Duration sendRequestFrequency;
+    private final Integer maxUnprocessedItemsRetries;
+    private final BackoffStrategy unprocessedItemsBackoffStrategy;
+
+    private BatchOverrideConfiguration(Builder builder) {
+        this.maxWriteBatchSize = Validate.isPositiveOrNull(builder.maxWriteBatchSize, "maxWriteBatchSize");
+        Validate.isTrue(this.maxWriteBatchSize == null || this.maxWriteBatchSize <= 25,
+                        "The maxWriteBatchSize must be less than or equal to 25. A BatchWriteItem request can contain up "
+                        + "to 25 puts and deletes.");
+        this.maxGetBatchSize = Validate.isPositiveOrNull(builder.maxGetBatchSize, "maxGetBatchSize");
+        Validate.isTrue(this.maxGetBatchSize == null || this.maxGetBatchSize <= 100,
+                        "The maxGetBatchSize must be less than or equal to 100. A BatchGetItem request can contain up to "
+                        + "100 keys.");
+        this.sendRequestFrequency = Validate.isPositiveOrNull(builder.sendRequestFrequency, "sendRequestFrequency");
+        this.maxUnprocessedItemsRetries = builder.maxUnprocessedItemsRetries;
+        Validate.isTrue(this.maxUnprocessedItemsRetries == null || this.maxUnprocessedItemsRetries >= 0,
+                        "The maxUnprocessedItemsRetries must not be negative.");
+        this.unprocessedItemsBackoffStrategy = builder.unprocessedItemsBackoffStrategy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of puts and deletes that can be batched together in a single {@link BatchWriteItemRequest}.
+     *         A batch can contain up to 25 writes. The default value is 25.
+     */
+    public Integer maxWriteBatchSize() {
+        return maxWriteBatchSize;
+    }
+
+    /**
+     * @return the maximum number of keys that can be batched together in a single {@link BatchGetItemRequest}. A batch can
+     *         contain up to 100 keys. The default value is 100.
+     */
+    public Integer maxGetBatchSize() {
+        return maxGetBatchSize;
+    }
+
+    /**
+     * @return the maximum duration an outgoing call waits for additional requests to the same table before being sent.
+     *         If the maximum batch size is reached before this duration, the batch will be sent immediately.
+     *         The default value is 50 milliseconds.
+     */
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    /**
+     * @return the maximum number of times that items returned as unprocessed by DynamoDB are sent again, before their
+     *         requests complete exceptionally. The default value is 8.
+     */
+    public Integer maxUnprocessedItemsRetries() {
+        return maxUnprocessedItemsRetries;
+    }
+
+    /**
+     * @return the strategy that computes the delay before unprocessed items are sent again. The default strategy waits for
+     *         an exponentially increasing delay with jitter, starting at 25 milliseconds and up to 2 seconds.
+     */
+    public BackoffStrategy unprocessedItemsBackoffStrategy() {
+        return unprocessedItemsBackoffStrategy;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder()
+            .maxWriteBatchSize(maxWriteBatchSize)
+            .maxGetBatchSize(maxGetBatchSize)
+            .sendRequestFrequency(sendRequestFrequency)
+            .maxUnprocessedItemsRetries(maxUnprocessedItemsRetries)
+            .unprocessedItemsBackoffStrategy(unprocessedItemsBackoffStrategy);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchOverrideConfiguration")
+                       .add("maxWriteBatchSize", maxWriteBatchSize)
+                       .add("maxGetBatchSize", maxGetBatchSize)
+                       .add("sendRequestFrequency", sendRequestFrequency)
+                       .add("maxUnprocessedItemsRetries", maxUnprocessedItemsRetries)
+                       .add("unprocessedItemsBackoffStrategy", unprocessedItemsBackoffStrategy)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchOverrideConfiguration that = (BatchOverrideConfiguration) o;
+        return Objects.equals(maxWriteBatchSize, that.maxWriteBatchSize)
+               && Objects.equals(maxGetBatchSize, that.maxGetBatchSize)
+               && Objects.equals(sendRequestFrequency, that.sendRequestFrequency)
+               && Objects.equals(maxUnprocessedItemsRetries, that.maxUnprocessedItemsRetries)
+               && Objects.equals(unprocessedItemsBackoffStrategy, that.unprocessedItemsBackoffStrategy);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(maxWriteBatchSize);
+        result = 31 * result + Objects.hashCode(maxGetBatchSize);
+        result = 31 * result + Objects.hashCode(sendRequestFrequency);
+        result = 31 * result + Objects.hashCode(maxUnprocessedItemsRetries);
+        result = 31 * result + Objects.hashCode(unprocessedItemsBackoffStrategy);
+        return result;
+    }
+
+    public static final class Builder implements CopyableBuilder<Builder, BatchOverrideConfiguration> {
+
+        private Integer maxWriteBatchSize;
+        private Integer maxGetBatchSize;
+        private Duration sendRequestFrequency;
+        private Integer maxUnprocessedItemsRetries;
+        private BackoffStrategy unprocessedItemsBackoffStrategy;
+
+        private Builder() {
+        }
+
+        /**
+         * Specifies the maximum number of puts and deletes that the batch manager will include in a single outbound
+         * {@link BatchWriteItemRequest}. A batch can contain up to 25 writes. The default value is 25.
+         *
+         * @param maxWriteBatchSize The maximum number of writes to be batched together in a single request.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxWriteBatchSize(Integer maxWriteBatchSize) {
+            this.maxWriteBatchSize = maxWriteBatchSize;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of keys that the batch manager will include in a single outbound
+         * {@link BatchGetItemRequest}. A batch can contain up to 100 keys. The default value is 100.
+         *
+         * @param maxGetBatchSize The maximum number of keys to be batched together in a single request.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxGetBatchSize(Integer maxGetBatchSize) {
+            this.maxGetBatchSize = maxGetBatchSize;
+            return this;
+        }
+
+        /**
+         * Specifies the frequency at which outbound batches are sent. This defines the maximum duration that an outbound
+         * batch is held open for additional requests to the same table before being sent. If the maximum batch size is reached
+         * before this duration, the batch will be sent immediately.
+         * Increasing the {@code sendRequestFrequency} gives more time for additional requests to be added to the batch, which
+         * can reduce the number of requests and increase throughput, at the cost of a higher average latency. The default
+         * value is 50 milliseconds.
+         *
+         * @param sendRequestFrequency The new value for the frequency at which outbound requests are sent.
+         * @return This Builder object for method chaining.
+         */
+        public Builder sendRequestFrequency(Duration sendRequestFrequency) {
+            this.sendRequestFrequency = sendRequestFrequency;
+            return this;
+        }
+
+        /**
+         * Specifies how many times the items that DynamoDB returns as unprocessed, usually because the throughput of the
+         * table was exceeded, are sent again before their requests complete exceptionally. The default value is 8.
+         *
+         * @param maxUnprocessedItemsRetries The maximum number of times unprocessed items are sent again.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxUnprocessedItemsRetries(Integer maxUnprocessedItemsRetries) {
+            this.maxUnprocessedItemsRetries = maxUnprocessedItemsRetries;
+            return this;
+        }
+
+        /**
+         * Specifies the strategy that computes the delay before unprocessed items are sent again. The attempt passed to the
+         * strategy is the attempt about to be made, starting at two for the first retry. The default strategy waits for an
+         * exponentially increasing delay with jitter, starting at 25 milliseconds and up to 2 seconds.
+         *
+         * @param unprocessedItemsBackoffStrategy The strategy that computes the delay before each retry.
+         * @return This Builder object for method chaining.
+         */
+        public Builder unprocessedItemsBackoffStrategy(BackoffStrategy unprocessedItemsBackoffStrategy) {
+            this.unprocessedItemsBackoffStrategy = unprocessedItemsBackoffStrategy;
+            return this;
+        }
+
+        @Override
+        public BatchOverrideConfiguration build() {
+            return new BatchOverrideConfiguration(this);
+        }
+    }
+}
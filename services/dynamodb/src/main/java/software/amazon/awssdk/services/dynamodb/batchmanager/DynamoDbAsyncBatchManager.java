@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.internal.batchmanager.DefaultDynamoDbAsyncBatchManager;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Batch manager for implementing automatic batching with a DynamoDB async client. Create an instance using
+ * {@link #builder()}, or with {@link DynamoDbAsyncClient#batchManager()}.
+ * <p>
+ * This manager buffers single-item requests and sends them to the service as
+ * {@link software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest}s of up to 25 puts and deletes, and
+ * {@link software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest}s of up to 100 keys. Requests are grouped by table,
+ * and sent when a batch is full or when the {@link BatchOverrideConfiguration#sendRequestFrequency()} elapses. Items that
+ * DynamoDB returns as unprocessed are sent again with a backoff, and the future of each request completes when its own item
+ * has been processed.
+ * <p>
+ * Requests that cannot be expressed in a batch, such as conditional writes, writes that return values, or reads with a
+ * projection, are sent directly with the client.
+ */
+@SdkPublicApi
+public interface DynamoDbAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Creates a builder for configuring and creating a {@link DynamoDbAsyncBatchManager}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultDynamoDbAsyncBatchManager.builder();
+    }
+
+    /**
+     * Buffers and batches {@link PutItemRequest}s, sending them as a
+     * {@link software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest}. Requests are grouped by table name and
+     * override configuration, and sent when the batch size or timeout is reached.
+     *
+     * @param request The PutItemRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutItemResponse}.
+     */
+    default CompletableFuture<PutItemResponse> putItem(PutItemRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches {@link PutItemRequest}s using a {@link Consumer} to configure the request, sending them as a
+     * {@link software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest}.
+     *
+     * @param request A {@link Consumer} to configure the PutItemRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutItemResponse}.
+     */
+    default CompletableFuture<PutItemResponse> putItem(Consumer<PutItemRequest.Builder> request) {
+        return putItem(PutItemRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Buffers and batches {@link DeleteItemRequest}s, sending them as a
+     * {@link software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest}. Deletes are batched with the puts to the
+     * same table.
+     *
+     * @param request The DeleteItemRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link DeleteItemResponse}.
+     */
+    default CompletableFuture<DeleteItemResponse> deleteItem(DeleteItemRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches {@link DeleteItemRequest}s using a {@link Consumer} to configure the request, sending them as a
+     * {@link software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest}.
+     *
+     * @param request A {@link Consumer} to configure the DeleteItemRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link DeleteItemResponse}.
+     */
+    default CompletableFuture<DeleteItemResponse> deleteItem(Consumer<DeleteItemRequest.Builder> request) {
+        return deleteItem(DeleteItemRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Buffers and batches {@link GetItemRequest}s, sending them as a
+     * {@link software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest}. Requests are grouped by table name,
+     * consistency and override configuration, and sent when the batch size or timeout is reached. Concurrent requests for the
+     * same key share a single read.
+     *
+     * @param request The GetItemRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link GetItemResponse}, without an item if none exists for the key.
+     */
+    default CompletableFuture<GetItemResponse> getItem(GetItemRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches {@link GetItemRequest}s using a {@link Consumer} to configure the request, sending them as a
+     * {@link software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest}.
+     *
+     * @param request A {@link Consumer} to configure the GetItemRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link GetItemResponse}.
+     */
+    default CompletableFuture<GetItemResponse> getItem(Consumer<GetItemRequest.Builder> request) {
+        return getItem(GetItemRequest.builder().applyMutation(request).build());
+    }
+
+    interface Builder {
+
+        /**
+         * Sets custom overrides for the BatchManager configuration.
+         *
+         * @param overrideConfiguration The configuration overrides.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Sets custom overrides for the BatchManager configuration using a {@link Consumer} to configure the overrides.
+         *
+         * @param overrideConfiguration A {@link Consumer} to configure the {@link BatchOverrideConfiguration}.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<BatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(BatchOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Sets the {@link DynamoDbAsyncClient} used to send the batches. This client must be closed by the caller.
+         *
+         * @param client The DynamoDbAsyncClient to use.
+         * @return This builder for method chaining.
+         * @throws NullPointerException If client is null.
+         */
+        Builder client(DynamoDbAsyncClient client);
+
+        /**
+         * Sets a custom {@link ScheduledExecutorService} for periodic buffer flushes and for the backoff between attempts to
+         * send unprocessed items. This executor must be closed by the caller.
+         *
+         * @param scheduledExecutor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link DynamoDbAsyncBatchManager} based on the supplied configurations.
+         *
+         * @return An initialized DynamoDbAsyncBatchManager.
+         */
+        DynamoDbAsyncBatchManager build();
+    }
+}
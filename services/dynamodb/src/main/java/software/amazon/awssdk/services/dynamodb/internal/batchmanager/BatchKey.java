@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.dynamodb.internal.batchmanager;
+
+import java.util.Objects;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * Identifies the requests that can be sent in the same batch: requests to the same table, with the same consistency and the
+ * same override configuration. The override configuration is compared with {@code equals}, so requests with different
+ * credentials or headers are never sent together.
+ */
+@SdkInternalApi
+@Immutable
+public final class BatchKey {
+    private final String tableName;
+    private final boolean consistentRead;
+    private final AwsRequestOverrideConfiguration overrideConfiguration;
+
+    private BatchKey(String tableName, boolean consistentRead, AwsRequestOverrideConfiguration overrideConfiguration) {
+        this.tableName = tableName;
+        this.consistentRead = consistentRead;
+        this.overrideConfiguration = overrideConfiguration;
+    }
+
+    public static BatchKey create(String tableName, AwsRequest request) {
+        return create(tableName, false, request);
+    }
+
+    public static BatchKey create(String tableName, boolean consistentRead, AwsRequest request) {
+        return new BatchKey(tableName, consistentRead, request.overrideConfiguration().orElse(null));
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BatchKey that = (BatchKey) o;
+        return consistentRead == that.consistentRead
+               && Objects.equals(tableName, that.tableName)
+               && Objects.equals(overrideConfiguration, that.overrideConfiguration);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(tableName);
+        result = 31 * result + Boolean.hashCode(consistentRead);
+        result = 31 * result + Objects.hashCode(overrideConfiguration);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchKey")
+                       .add("tableName", tableName)
+                       .add("consistentRead", consistentRead)
+                       .add("overrideConfiguration", overrideConfiguration)
+                       .build();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.internal.batchmanager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbResponse;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+final class BatchManagerUtils {
+    private static final String NONE = "NONE";
+    private static final String VALIDATION_EXCEPTION = "ValidationException";
+
+    private BatchManagerUtils() {
+    }
+
+    /**
+     * Whether an optional enum value of a request, such as its return values, asks for nothing that a batch cannot return.
+     */
+    static boolean isNone(String value) {
+        return value == null || NONE.equals(value);
+    }
+
+    /**
+     * Checks that every request of a batch has the batch key the batch was buffered under, since a batch is sent with the
+     * table name and the override configuration of its first request.
+     */
+    static <RequestT, ResponseT> void validateBatchKey(BatchKey batchKey,
+                                                       List<BatchingExecutionContext<RequestT, ResponseT>> batch,
+                                                       Function<RequestT, BatchKey> batchKeyOf) {
+        for (BatchingExecutionContext<RequestT, ResponseT> context : batch) {
+            BatchKey requestBatchKey = batchKeyOf.apply(context.request());
+            Validate.validState(batchKey.equals(requestBatchKey),
+                                "A request with batch key %s was buffered in the batch of %s", requestBatchKey, batchKey);
+        }
+    }
+
+    /**
+     * The override configuration of a batch request, with the user agent of the batch manager added to the one of the
+     * requests in the batch.
+     */
+    static AwsRequestOverrideConfiguration batchOverrideConfiguration(AwsRequest request) {
+        return request.overrideConfiguration()
+                      .map(overrideConfig -> overrideConfig.toBuilder()
+                                                           .applyMutation(RequestBatchManager.USER_AGENT_APPLIER)
+                                                           .build())
+                      .orElseGet(() -> AwsRequestOverrideConfiguration.builder()
+                                                                      .applyMutation(RequestBatchManager.USER_AGENT_APPLIER)
+                                                                      .build());
+    }
+
+    static Map<String, AttributeValue> project(Map<String, AttributeValue> item, Set<String> attributeNames) {
+        Map<String, AttributeValue> projected = new HashMap<>(attributeNames.size());
+        for (String attributeName : attributeNames) {
+            AttributeValue value = item.get(attributeName);
+            if (value != null) {
+                projected.put(attributeName, value);
+            }
+        }
+        return projected;
+    }
+
+    static <B extends DynamoDbResponse.Builder> B copyMetadata(B builder, DynamoDbResponse batchResponse) {
+        if (batchResponse.responseMetadata() != null) {
+            builder.responseMetadata(batchResponse.responseMetadata());
+        }
+        if (batchResponse.sdkHttpResponse() != null) {
+            builder.sdkHttpResponse(batchResponse.sdkHttpResponse());
+        }
+        return builder;
+    }
+
+    static boolean isValidationException(Throwable failure) {
+        return failure instanceof DynamoDbException
+               && ((DynamoDbException) failure).awsErrorDetails() != null
+               && VALIDATION_EXCEPTION.equals(((DynamoDbException) failure).awsErrorDetails().errorCode());
+    }
+
+    /**
+     * Sends the request of a batching context on its own, and completes its response with the outcome.
+     */
+    static <RequestT, ResponseT> CompletableFuture<Void> sendAndComplete(
+        Function<RequestT, CompletableFuture<ResponseT>> send, BatchingExecutionContext<RequestT, ResponseT> context) {
+
+        CompletableFuture<ResponseT> response;
+        try {
+            response = send.apply(context.request());
+        } catch (RuntimeException e) {
+            context.response().completeExceptionally(e);
+            return CompletableFuture.completedFuture(null);
+        }
+        return response.handle((r, t) -> {
+            if (t != null) {
+                context.response().completeExceptionally(t instanceof CompletionException && t.getCause() != null
+                                                         ? t.getCause() : t);
+            } else {
+                context.response().complete(r);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.internal.batchmanager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Maps a batchKey (ex. table name, override configuration) to a {@link RequestBatchBuffer}.
+ */
+@SdkInternalApi
+public final class BatchingMap<RequestT, ResponseT> {
+
+    private final int maxBatchKeys;
+    private final int maxBatchItems;
+    private final Map<BatchKey, RequestBatchBuffer<RequestT, ResponseT>> batchContextMap;
+
+    public BatchingMap(RequestBatchConfiguration configuration) {
+        this.batchContextMap = new ConcurrentHashMap<>();
+        this.maxBatchKeys = configuration.maxBatchKeys();
+        this.maxBatchItems = configuration.maxBatchItems();
+    }
+
+    public List<List<BatchingExecutionContext<RequestT, ResponseT>>> put(BatchKey batchKey,
+                                                                         Supplier<ScheduledFuture<?>> scheduleFlush,
+                                                                         BatchingExecutionContext<RequestT, ResponseT> context,
+                                                                         BiPredicate<RequestT, RequestT> conflicts) {
+        return batchContextMap.computeIfAbsent(batchKey, k -> {
+            if (batchContextMap.size() == maxBatchKeys) {
+                throw new IllegalStateException("Reached MaxBatchKeys of: " + maxBatchKeys);
+            }
+            return new RequestBatchBuffer<>(scheduleFlush.get(), maxBatchItems);
+        }).put(context, conflicts);
+    }
+
+    public void cancelAndReplaceScheduledFlush(BatchKey batchKey, ScheduledFuture<?> scheduledFlush) {
+        batchContextMap.get(batchKey).cancelAndReplaceScheduledFlush(scheduledFlush);
+    }
+
+    public void forEach(BiConsumer<BatchKey, RequestBatchBuffer<RequestT, ResponseT>> action) {
+        batchContextMap.forEach(action);
+    }
+
+    public List<BatchingExecutionContext<RequestT, ResponseT>> extractEntriesForScheduledFlush(BatchKey batchKey) {
+        return batchContextMap.get(batchKey).extractEntriesForScheduledFlush();
+    }
+
+    public void cancelScheduledFlush(BatchKey batchKey) {
+        batchContextMap.get(batchKey).cancelScheduledFlush();
+    }
+
+    public void clear() {
+        batchContextMap.values().forEach(RequestBatchBuffer::clear);
+        batchContextMap.clear();
+    }
+}
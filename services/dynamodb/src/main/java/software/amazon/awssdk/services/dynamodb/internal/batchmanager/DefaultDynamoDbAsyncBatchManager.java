@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.internal.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.dynamodb.batchmanager.DynamoDbAsyncBatchManager;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultDynamoDbAsyncBatchManager implements DynamoDbAsyncBatchManager {
+
+    private final WriteItemBatchManager writeItemBatchManager;
+
+    private final GetItemBatchManager getItemBatchManager;
+
+    private DefaultDynamoDbAsyncBatchManager(DefaultBuilder builder) {
+        DynamoDbAsyncClient client = Validate.notNull(builder.client, "client cannot be null");
+        ScheduledExecutorService scheduledExecutor = Validate.notNull(builder.scheduledExecutor,
+                                                                      "scheduledExecutor cannot be null");
+        this.writeItemBatchManager =
+            new WriteItemBatchManager(RequestBatchConfiguration.forWrites(builder.overrideConfiguration),
+                                      scheduledExecutor,
+                                      client);
+        this.getItemBatchManager =
+            new GetItemBatchManager(RequestBatchConfiguration.forGets(builder.overrideConfiguration),
+                                    scheduledExecutor,
+                                    client);
+    }
+
+    @Override
+    public CompletableFuture<PutItemResponse> putItem(PutItemRequest request) {
+        return writeItemBatchManager.batchRequest(request).thenApply(PutItemResponse.class::cast);
+    }
+
+    @Override
+    public CompletableFuture<DeleteItemResponse> deleteItem(DeleteItemRequest request) {
+        return writeItemBatchManager.batchRequest(request).thenApply(DeleteItemResponse.class::cast);
+    }
+
+    @Override
+    public CompletableFuture<GetItemResponse> getItem(GetItemRequest request) {
+        return getItemBatchManager.batchRequest(request);
+    }
+
+    public static DynamoDbAsyncBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public void close() {
+        writeItemBatchManager.close();
+        getItemBatchManager.close();
+    }
+
+    public static final class DefaultBuilder implements DynamoDbAsyncBatchManager.Builder {
+        private DynamoDbAsyncClient client;
+        private BatchOverrideConfiguration overrideConfiguration;
+        private ScheduledExecutorService scheduledExecutor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public DynamoDbAsyncBatchManager.Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public DynamoDbAsyncBatchManager.Builder client(DynamoDbAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public DynamoDbAsyncBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public DynamoDbAsyncBatchManager build() {
+            return new DefaultDynamoDbAsyncBatchManager(this);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+/**
+ * Batches {@link GetItemRequest}s to the same table with the same consistency into {@link BatchGetItemRequest}s. Requests for
+ * the same key in a batch share a single read, since DynamoDB rejects batches with duplicate keys.
+ */
+@SdkInternalApi
+public final class GetItemBatchManager extends RequestBatchManager<GetItemRequest, GetItemResponse> {
+
+    private final DynamoDbAsyncClient client;
+
+    public GetItemBatchManager(RequestBatchConfiguration batchConfiguration,
+                               ScheduledExecutorService scheduledExecutor,
+                               DynamoDbAsyncClient client) {
+        super(batchConfiguration, scheduledExecutor);
+        this.client = client;
+    }
+
+    /**
+     * Requests with a projection are sent on their own, since the items returned by a batch are matched to their requests
+     * through the key attributes, which a projection may leave out.
+     */
+    @Override
+    protected boolean isBatchable(GetItemRequest request) {
+        return request.projectionExpression() == null
+               && !request.hasAttributesToGet()
+               && !request.hasExpressionAttributeNames()
+               && BatchManagerUtils.isNone(request.returnConsumedCapacityAsString());
+    }
+
+    @Override
+    protected CompletableFuture<GetItemResponse> sendUnbatched(GetItemRequest request) {
+        return trackPending(client.getItem(request));
+    }
+
+    @Override
+    protected BatchKey getBatchKey(GetItemRequest request) {
+        return BatchKey.create(request.tableName(), Boolean.TRUE.equals(request.consistentRead()), request);
+    }
+
+    @Override
+    protected CompletableFuture<List<BatchingExecutionContext<GetItemRequest, GetItemResponse>>> batchAndSend(
+        BatchKey batchKey, List<BatchingExecutionContext<GetItemRequest, GetItemResponse>> batch) {
+
+        BatchManagerUtils.validateBatchKey(batchKey, batch, this::getBatchKey);
+        GetItemRequest firstRequest = batch.get(0).request();
+        String tableName = batchKey.tableName();
+        Map<Map<String, AttributeValue>, List<BatchingExecutionContext<GetItemRequest, GetItemResponse>>> contextsByKey =
+            groupByKey(batch);
+
+        KeysAndAttributes keys = KeysAndAttributes.builder()
+                                                  .keys(contextsByKey.keySet())
+                                                  .consistentRead(firstRequest.consistentRead())
+                                                  .build();
+
+        // Since requests are batched together according to a combination of their table name, consistency and
+        // overrideConfiguration, which was validated above, it is sufficient to retrieve the overrideConfiguration from the
+        // first request.
+        BatchGetItemRequest batchRequest =
+            BatchGetItemRequest.builder()
+                               .requestItems(Collections.singletonMap(tableName, keys))
+                               .overrideConfiguration(BatchManagerUtils.batchOverrideConfiguration(firstRequest))
+                               .build();
+
+        return client.batchGetItem(batchRequest)
+                     .thenApply(response -> completeProcessed(response, tableName, firstRequest.key().keySet(),
+                                                              contextsByKey));
+    }
+
+    private List<BatchingExecutionContext<GetItemRequest, GetItemResponse>> completeProcessed(
+        BatchGetItemResponse response,
+        String tableName,
+        Set<String> keyAttributeNames,
+        Map<Map<String, AttributeValue>, List<BatchingExecutionContext<GetItemRequest, GetItemResponse>>> contextsByKey) {
+
+        List<Map<String, AttributeValue>> items = response.hasResponses()
+                                                  ? response.responses().getOrDefault(tableName, Collections.emptyList())
+                                                  : Collections.emptyList();
+        boolean unmatchedItems = false;
+        for (Map<String, AttributeValue> item : items) {
+            List<BatchingExecutionContext<GetItemRequest, GetItemResponse>> contexts =
+                contextsByKey.remove(BatchManagerUtils.project(item, keyAttributeNames));
+            if (contexts == null) {
+                unmatchedItems = true;
+                continue;
+            }
+            GetItemResponse itemResponse = BatchManagerUtils.copyMetadata(GetItemResponse.builder().item(item), response)
+                                                            .build();
+            contexts.forEach(context -> context.response().complete(itemResponse));
+        }
+
+        List<BatchingExecutionContext<GetItemRequest, GetItemResponse>> unprocessed = new ArrayList<>();
+        KeysAndAttributes unprocessedKeys = response.hasUnprocessedKeys() ? response.unprocessedKeys().get(tableName) : null;
+        if (unprocessedKeys != null && unprocessedKeys.hasKeys()) {
+            for (Map<String, AttributeValue> key : unprocessedKeys.keys()) {
+                List<BatchingExecutionContext<GetItemRequest, GetItemResponse>> contexts = contextsByKey.remove(key);
+                if (contexts != null) {
+                    unprocessed.addAll(contexts);
+                } else {
+                    unmatchedItems = true;
+                }
+            }
+        }
+
+        if (unmatchedItems) {
+            // DynamoDB returned a key in another form than it was requested, e.g. a normalized number, so the remaining
+            // requests cannot be told to have no item. They are read on their own instead.
+            contextsByKey.values()
+                         .forEach(contexts -> contexts.forEach(c -> BatchManagerUtils.sendAndComplete(this::sendUnbatched, c)));
+        } else {
+            GetItemResponse noItem = BatchManagerUtils.copyMetadata(GetItemResponse.builder(), response).build();
+            contextsByKey.values().forEach(contexts -> contexts.forEach(c -> c.response().complete(noItem)));
+        }
+        return unprocessed;
+    }
+
+    @Override
+    protected void handleBatchFailure(List<BatchingExecutionContext<GetItemRequest, GetItemResponse>> batch,
+                                      Throwable failure) {
+        if (groupByKey(batch).size() > 1 && BatchManagerUtils.isValidationException(failure)) {
+            // A single invalid key fails the whole batch. Reading each key on its own completes every response with its
+            // own outcome.
+            batch.forEach(context -> BatchManagerUtils.sendAndComplete(this::sendUnbatched, context));
+            return;
+        }
+        super.handleBatchFailure(batch, failure);
+    }
+
+    private static Map<Map<String, AttributeValue>, List<BatchingExecutionContext<GetItemRequest, GetItemResponse>>>
+        groupByKey(List<BatchingExecutionContext<GetItemRequest, GetItemResponse>> batch) {
+
+        Map<Map<String, AttributeValue>, List<BatchingExecutionContext<GetItemRequest, GetItemResponse>>> contextsByKey =
+            new LinkedHashMap<>();
+        for (BatchingExecutionContext<GetItemRequest, GetItemResponse> context : batch) {
+            contextsByKey.computeIfAbsent(context.request().key(), k -> new ArrayList<>(1)).add(context);
+        }
+        return contextsByKey;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.BiPredicate;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The requests buffered for one batch key, in the order they were received.
+ */
+@SdkInternalApi
+public final class RequestBatchBuffer<RequestT, ResponseT> {
+    private final Object scheduledFlushLock = new Object();
+
+    private final List<BatchingExecutionContext<RequestT, ResponseT>> contexts;
+    private final int maxBatchItems;
+
+    /**
+     * The scheduled flush tasks associated with this batchBuffer.
+     */
+    private ScheduledFuture<?> scheduledFlush;
+
+    public RequestBatchBuffer(ScheduledFuture<?> scheduledFlush, int maxBatchItems) {
+        this.contexts = new ArrayList<>(maxBatchItems);
+        this.scheduledFlush = scheduledFlush;
+        this.maxBatchItems = maxBatchItems;
+    }
+
+    /**
+     * Adds a request to the buffer, and returns the batches that are ready to be sent. If a buffered request conflicts with
+     * the new one, such as two writes of the same item that cannot be part of the same batch, the buffered requests are
+     * returned as a batch before the new request is added. If the buffer then holds a full batch, it is returned as well.
+     */
+    public synchronized List<List<BatchingExecutionContext<RequestT, ResponseT>>> put(
+        BatchingExecutionContext<RequestT, ResponseT> context, BiPredicate<RequestT, RequestT> conflicts) {
+
+        List<List<BatchingExecutionContext<RequestT, ResponseT>>> readyBatches = Collections.emptyList();
+        for (BatchingExecutionContext<RequestT, ResponseT> buffered : contexts) {
+            if (conflicts.test(buffered.request(), context.request())) {
+                readyBatches = new ArrayList<>(2);
+                readyBatches.add(extractEntries(maxBatchItems));
+                break;
+            }
+        }
+
+        contexts.add(context);
+        if (contexts.size() >= maxBatchItems) {
+            if (readyBatches.isEmpty()) {
+                readyBatches = new ArrayList<>(1);
+            }
+            readyBatches.add(extractEntries(maxBatchItems));
+        }
+        return readyBatches;
+    }
+
+    public synchronized List<BatchingExecutionContext<RequestT, ResponseT>> extractEntriesForScheduledFlush() {
+        return extractEntries(maxBatchItems);
+    }
+
+    private List<BatchingExecutionContext<RequestT, ResponseT>> extractEntries(int maxEntries) {
+        if (contexts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<BatchingExecutionContext<RequestT, ResponseT>> batch = contexts.subList(0, Math.min(maxEntries, contexts.size()));
+        List<BatchingExecutionContext<RequestT, ResponseT>> extracted = new ArrayList<>(batch);
+        batch.clear();
+        return extracted;
+    }
+
+    public void cancelAndReplaceScheduledFlush(ScheduledFuture<?> scheduledFlush) {
+        // Locking the cancellation and replacement of the scheduledFlush ensures that there is only one active.
+        synchronized (scheduledFlushLock) {
+            if (this.scheduledFlush != null) {
+                cancelScheduledFlush();
+            }
+            this.scheduledFlush = scheduledFlush;
+        }
+    }
+
+    public void cancelScheduledFlush() {
+        synchronized (scheduledFlushLock) {
+            scheduledFlush.cancel(false);
+        }
+    }
+
+    public synchronized void clear() {
+        contexts.clear();
+    }
+}
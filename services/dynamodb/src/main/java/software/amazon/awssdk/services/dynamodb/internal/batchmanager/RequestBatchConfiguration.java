@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.internal.batchmanager;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.batchmanager.BatchOverrideConfiguration;
+
+@SdkInternalApi
+public final class RequestBatchConfiguration {
+
+    public static final int MAX_WRITE_BATCH_ITEMS = 25;
+    public static final int MAX_GET_BATCH_ITEMS = 100;
+    public static final int DEFAULT_MAX_BATCH_KEYS = 10000;
+    public static final Duration DEFAULT_SEND_REQUEST_FREQUENCY = Duration.ofMillis(50);
+    public static final int DEFAULT_MAX_UNPROCESSED_ITEMS_RETRIES = 8;
+    public static final BackoffStrategy DEFAULT_UNPROCESSED_ITEMS_BACKOFF_STRATEGY =
+        BackoffStrategy.exponentialDelayHalfJitter(Duration.ofMillis(25), Duration.ofSeconds(2));
+
+    private final int maxBatchItems;
+    private final int maxBatchKeys;
+    private final Duration sendRequestFrequency;
+    private final int maxUnprocessedItemsRetries;
+    private final BackoffStrategy unprocessedItemsBackoffStrategy;
+
+    private RequestBatchConfiguration(Builder builder) {
+        this.maxBatchItems = builder.maxBatchItems != null ? builder.maxBatchItems : MAX_WRITE_BATCH_ITEMS;
+        this.maxBatchKeys = builder.maxBatchKeys != null ? builder.maxBatchKeys : DEFAULT_MAX_BATCH_KEYS;
+        this.sendRequestFrequency = builder.sendRequestFrequency != null ? builder.sendRequestFrequency
+                                                                         : DEFAULT_SEND_REQUEST_FREQUENCY;
+        this.maxUnprocessedItemsRetries = builder.maxUnprocessedItemsRetries != null ? builder.maxUnprocessedItemsRetries
+                                                                                     : DEFAULT_MAX_UNPROCESSED_ITEMS_RETRIES;
+        this.unprocessedItemsBackoffStrategy = builder.unprocessedItemsBackoffStrategy != null
+                                               ? builder.unprocessedItemsBackoffStrategy
+                                               : DEFAULT_UNPROCESSED_ITEMS_BACKOFF_STRATEGY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The configuration of the batches of {@code BatchWriteItem} requests.
+     */
+    public static RequestBatchConfiguration forWrites(BatchOverrideConfiguration configuration) {
+        Builder builder = commonBuilder(configuration);
+        if (configuration != null) {
+            builder.maxBatchItems(configuration.maxWriteBatchSize());
+        }
+        return builder.build();
+    }
+
+    /**
+     * The configuration of the batches of {@code BatchGetItem} requests.
+     */
+    public static RequestBatchConfiguration forGets(BatchOverrideConfiguration configuration) {
+        Builder builder = commonBuilder(configuration).maxBatchItems(MAX_GET_BATCH_ITEMS);
+        if (configuration != null && configuration.maxGetBatchSize() != null) {
+            builder.maxBatchItems(configuration.maxGetBatchSize());
+        }
+        return builder.build();
+    }
+
+    private static Builder commonBuilder(BatchOverrideConfiguration configuration) {
+        if (configuration != null) {
+            return new Builder()
+                .sendRequestFrequency(configuration.sendRequestFrequency())
+                .maxUnprocessedItemsRetries(configuration.maxUnprocessedItemsRetries())
+                .unprocessedItemsBackoffStrategy(configuration.unprocessedItemsBackoffStrategy());
+        }
+        return new Builder();
+    }
+
+    public int maxBatchItems() {
+        return maxBatchItems;
+    }
+
+    public int maxBatchKeys() {
+        return maxBatchKeys;
+    }
+
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    public int maxUnprocessedItemsRetries() {
+        return maxUnprocessedItemsRetries;
+    }
+
+    public BackoffStrategy unprocessedItemsBackoffStrategy() {
+        return unprocessedItemsBackoffStrategy;
+    }
+
+    public static final class Builder {
+
+        private Integer maxBatchItems;
+        private Integer maxBatchKeys;
+        private Duration sendRequestFrequency;
+        private Integer maxUnprocessedItemsRetries;
+        private BackoffStrategy unprocessedItemsBackoffStrategy;
+
+        private Builder() {
+        }
+
+        public Builder maxBatchItems(Integer maxBatchItems) {
+            this.maxBatchItems = maxBatchItems;
+            return this;
+        }
+
+        public Builder maxBatchKeys(Integer maxBatchKeys) {
+            this.maxBatchKeys = maxBatchKeys;
+            return this;
+        }
+
+        public Builder sendRequestFrequency(Duration sendRequestFrequency) {
+            this.sendRequestFrequency = sendRequestFrequency;
+            return this;
+        }
+
+        public Builder maxUnprocessedItemsRetries(Integer maxUnprocessedItemsRetries) {
+            this.maxUnprocessedItemsRetries = maxUnprocessedItemsRetries;
+            return this;
+        }
+
+        public Builder unprocessedItemsBackoffStrategy(BackoffStrategy unprocessedItemsBackoffStrategy) {
+            this.unprocessedItemsBackoffStrategy = unprocessedItemsBackoffStrategy;
+            return this;
+        }
+
+        public RequestBatchConfiguration build() {
+            return new RequestBatchConfiguration(this);
+        }
+    }
+}
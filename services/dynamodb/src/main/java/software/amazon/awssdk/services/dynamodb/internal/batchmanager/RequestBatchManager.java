@@ -0,0 +1,208 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Buffers single-item requests by batch key, and sends them as batches when a batch is full or when the send request
+ * frequency elapses. The requests that the service leaves unprocessed are sent again as a batch of their own, after a backoff.
+ *
+ * @param <RequestT> the type of the single-item requests
+ * @param <ResponseT> the type of the single-item responses
+ */
+@SdkInternalApi
+public abstract class RequestBatchManager<RequestT, ResponseT> {
+
+    // abm stands for Automatic Batching Manager
+    public static final Consumer<AwsRequestOverrideConfiguration.Builder> USER_AGENT_APPLIER =
+        b -> b.addApiName(ApiName.builder().version("abm").name("hll").build());
+
+    protected final RequestBatchConfiguration batchConfiguration;
+
+    private final Duration sendRequestFrequency;
+    private final BatchingMap<RequestT, ResponseT> requestsAndResponsesMaps;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final Set<CompletableFuture<?>> pendingBatchResponses;
+    private final Set<CompletableFuture<ResponseT>> pendingResponses;
+
+    protected RequestBatchManager(RequestBatchConfiguration batchConfiguration,
+                                  ScheduledExecutorService scheduledExecutor) {
+        this.batchConfiguration = batchConfiguration;
+        this.sendRequestFrequency = batchConfiguration.sendRequestFrequency();
+        this.scheduledExecutor = Validate.notNull(scheduledExecutor, "Null scheduledExecutor");
+        this.pendingBatchResponses = ConcurrentHashMap.newKeySet();
+        this.pendingResponses = ConcurrentHashMap.newKeySet();
+        this.requestsAndResponsesMaps = new BatchingMap<>(batchConfiguration);
+    }
+
+    public CompletableFuture<ResponseT> batchRequest(RequestT request) {
+        if (!isBatchable(request)) {
+            return sendUnbatched(request);
+        }
+
+        CompletableFuture<ResponseT> response = new CompletableFuture<>();
+        pendingResponses.add(response);
+        response.whenComplete((r, t) -> pendingResponses.remove(response));
+
+        try {
+            BatchKey batchKey = getBatchKey(request);
+            // Add request and response to the map, scheduling a flush if necessary, and immediately flush the batches that
+            // are full or that would otherwise contain conflicting requests.
+            requestsAndResponsesMaps.put(batchKey,
+                                         () -> scheduleBufferFlush(batchKey),
+                                         new BatchingExecutionContext<>(request, response),
+                                         this::conflicts)
+                                    .forEach(batch -> manualFlushBuffer(batchKey, batch));
+        } catch (Exception e) {
+            response.completeExceptionally(e);
+        }
+
+        return response;
+    }
+
+    /**
+     * Whether the request can be sent as part of a batch. Requests that cannot are sent with {@link #sendUnbatched}.
+     */
+    protected abstract boolean isBatchable(RequestT request);
+
+    protected abstract CompletableFuture<ResponseT> sendUnbatched(RequestT request);
+
+    protected abstract BatchKey getBatchKey(RequestT request);
+
+    /**
+     * Whether two requests with the same batch key cannot be sent in the same batch.
+     */
+    protected boolean conflicts(RequestT bufferedRequest, RequestT request) {
+        return false;
+    }
+
+    /**
+     * Sends a batch, and completes the responses of the requests that the service processed.
+     *
+     * @return the requests that the service left unprocessed, to be sent again.
+     */
+    protected abstract CompletableFuture<List<BatchingExecutionContext<RequestT, ResponseT>>> batchAndSend(
+        BatchKey batchKey, List<BatchingExecutionContext<RequestT, ResponseT>> batch);
+
+    /**
+     * Completes the responses of a batch whose request failed as a whole. By default, all of them fail with the same error.
+     */
+    protected void handleBatchFailure(List<BatchingExecutionContext<RequestT, ResponseT>> batch, Throwable failure) {
+        batch.forEach(context -> context.response().completeExceptionally(failure));
+    }
+
+    /**
+     * Tracks a request sent outside of a batch, so that it is cancelled when this batch manager is closed.
+     */
+    protected <T> CompletableFuture<T> trackPending(CompletableFuture<T> future) {
+        pendingBatchResponses.add(future);
+        future.whenComplete((r, t) -> pendingBatchResponses.remove(future));
+        return future;
+    }
+
+    private void manualFlushBuffer(BatchKey batchKey, List<BatchingExecutionContext<RequestT, ResponseT>> batch) {
+        flushBuffer(batchKey, batch);
+        requestsAndResponsesMaps.cancelAndReplaceScheduledFlush(batchKey, scheduleBufferFlush(batchKey));
+    }
+
+    private void flushBuffer(BatchKey batchKey, List<BatchingExecutionContext<RequestT, ResponseT>> batch) {
+        if (!batch.isEmpty()) {
+            sendBatch(batchKey, batch, 1);
+        }
+    }
+
+    private void sendBatch(BatchKey batchKey, List<BatchingExecutionContext<RequestT, ResponseT>> batch, int attempt) {
+        CompletableFuture<List<BatchingExecutionContext<RequestT, ResponseT>>> pendingBatchingRequest;
+        try {
+            pendingBatchingRequest = trackPending(batchAndSend(batchKey, batch));
+        } catch (RuntimeException e) {
+            handleBatchFailure(batch, e);
+            return;
+        }
+
+        pendingBatchingRequest.whenComplete((unprocessed, exception) -> {
+            if (exception != null) {
+                handleBatchFailure(batch, unwrap(exception));
+            } else if (!unprocessed.isEmpty()) {
+                retryUnprocessed(batchKey, unprocessed, attempt + 1);
+            }
+        });
+    }
+
+    private void retryUnprocessed(BatchKey batchKey, List<BatchingExecutionContext<RequestT, ResponseT>> unprocessed,
+                                  int attempt) {
+        if (attempt > batchConfiguration.maxUnprocessedItemsRetries() + 1) {
+            SdkClientException exception =
+                SdkClientException.create("The item was not processed by DynamoDB after " + (attempt - 1) + " attempts. "
+                                          + "This usually means the provisioned throughput of the table was exceeded.");
+            unprocessed.forEach(context -> context.response().completeExceptionally(exception));
+            return;
+        }
+
+        Duration delay = batchConfiguration.unprocessedItemsBackoffStrategy().computeDelay(attempt);
+        try {
+            scheduledExecutor.schedule(() -> sendBatch(batchKey, unprocessed, attempt), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            handleBatchFailure(unprocessed, e);
+        }
+    }
+
+    private ScheduledFuture<?> scheduleBufferFlush(BatchKey batchKey) {
+        long periodMillis = sendRequestFrequency.toMillis();
+        return scheduledExecutor.scheduleAtFixedRate(() -> performScheduledFlush(batchKey), periodMillis, periodMillis,
+                                                     TimeUnit.MILLISECONDS);
+    }
+
+    private void performScheduledFlush(BatchKey batchKey) {
+        flushBuffer(batchKey, requestsAndResponsesMaps.extractEntriesForScheduledFlush(batchKey));
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    public void close() {
+        requestsAndResponsesMaps.forEach((batchKey, batchBuffer) -> {
+            requestsAndResponsesMaps.cancelScheduledFlush(batchKey);
+            List<BatchingExecutionContext<RequestT, ResponseT>> extractedEntries =
+                batchBuffer.extractEntriesForScheduledFlush();
+
+            while (!extractedEntries.isEmpty()) {
+                flushBuffer(batchKey, extractedEntries);
+                extractedEntries = batchBuffer.extractEntriesForScheduledFlush();
+            }
+        });
+        pendingBatchResponses.forEach(future -> future.cancel(true));
+        pendingResponses.forEach(future -> future.cancel(true));
+        requestsAndResponsesMaps.clear();
+    }
+}
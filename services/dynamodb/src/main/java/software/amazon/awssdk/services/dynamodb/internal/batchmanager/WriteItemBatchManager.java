@@ -0,0 +1,215 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbRequest;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Batches {@link PutItemRequest}s and {@link DeleteItemRequest}s to the same table into {@link BatchWriteItemRequest}s.
+ */
+@SdkInternalApi
+public final class WriteItemBatchManager extends RequestBatchManager<DynamoDbRequest, DynamoDbResponse> {
+
+    private final DynamoDbAsyncClient client;
+
+    /**
+     * The key attribute names of each table, learned from the keys of delete requests. They identify the item written by a
+     * put request, so that two writes of the same item are not sent in the same batch, which DynamoDB rejects.
+     */
+    private final Map<String, Set<String>> keyAttributeNames = new ConcurrentHashMap<>();
+
+    public WriteItemBatchManager(RequestBatchConfiguration batchConfiguration,
+                                 ScheduledExecutorService scheduledExecutor,
+                                 DynamoDbAsyncClient client) {
+        super(batchConfiguration, scheduledExecutor);
+        this.client = client;
+    }
+
+    @Override
+    public CompletableFuture<DynamoDbResponse> batchRequest(DynamoDbRequest request) {
+        if (request instanceof DeleteItemRequest && ((DeleteItemRequest) request).hasKey()) {
+            DeleteItemRequest delete = (DeleteItemRequest) request;
+            keyAttributeNames.putIfAbsent(delete.tableName(), Collections.unmodifiableSet(delete.key().keySet()));
+        }
+        return super.batchRequest(request);
+    }
+
+    @Override
+    protected boolean isBatchable(DynamoDbRequest request) {
+        if (request instanceof PutItemRequest) {
+            PutItemRequest put = (PutItemRequest) request;
+            return put.conditionExpression() == null
+                   && !put.hasExpected()
+                   && !put.hasExpressionAttributeNames()
+                   && !put.hasExpressionAttributeValues()
+                   && BatchManagerUtils.isNone(put.returnValuesAsString())
+                   && BatchManagerUtils.isNone(put.returnConsumedCapacityAsString())
+                   && BatchManagerUtils.isNone(put.returnItemCollectionMetricsAsString())
+                   && BatchManagerUtils.isNone(put.returnValuesOnConditionCheckFailureAsString());
+        }
+        DeleteItemRequest delete = (DeleteItemRequest) request;
+        return delete.conditionExpression() == null
+               && !delete.hasExpected()
+               && !delete.hasExpressionAttributeNames()
+               && !delete.hasExpressionAttributeValues()
+               && BatchManagerUtils.isNone(delete.returnValuesAsString())
+               && BatchManagerUtils.isNone(delete.returnConsumedCapacityAsString())
+               && BatchManagerUtils.isNone(delete.returnItemCollectionMetricsAsString())
+               && BatchManagerUtils.isNone(delete.returnValuesOnConditionCheckFailureAsString());
+    }
+
+    @Override
+    protected CompletableFuture<DynamoDbResponse> sendUnbatched(DynamoDbRequest request) {
+        CompletableFuture<? extends DynamoDbResponse> response = request instanceof PutItemRequest
+                                                                 ? client.putItem((PutItemRequest) request)
+                                                                 : client.deleteItem((DeleteItemRequest) request);
+        return trackPending(response.thenApply(DynamoDbResponse.class::cast));
+    }
+
+    @Override
+    protected BatchKey getBatchKey(DynamoDbRequest request) {
+        return BatchKey.create(tableName(request), request);
+    }
+
+    @Override
+    protected boolean conflicts(DynamoDbRequest bufferedRequest, DynamoDbRequest request) {
+        return writtenItem(bufferedRequest).equals(writtenItem(request));
+    }
+
+    /**
+     * Identifies the item written by a request: its key, or the whole item of a put request if the key attributes of the
+     * table are not known yet.
+     */
+    private Map<String, AttributeValue> writtenItem(DynamoDbRequest request) {
+        if (request instanceof DeleteItemRequest) {
+            return ((DeleteItemRequest) request).key();
+        }
+        PutItemRequest put = (PutItemRequest) request;
+        Set<String> keyNames = keyAttributeNames.get(put.tableName());
+        return keyNames == null ? put.item() : BatchManagerUtils.project(put.item(), keyNames);
+    }
+
+    @Override
+    protected CompletableFuture<List<BatchingExecutionContext<DynamoDbRequest, DynamoDbResponse>>> batchAndSend(
+        BatchKey batchKey, List<BatchingExecutionContext<DynamoDbRequest, DynamoDbResponse>> batch) {
+
+        BatchManagerUtils.validateBatchKey(batchKey, batch, this::getBatchKey);
+        String tableName = batchKey.tableName();
+        List<WriteRequest> writeRequests = new ArrayList<>(batch.size());
+        Map<WriteRequest, BatchingExecutionContext<DynamoDbRequest, DynamoDbResponse>> contextsByWrite = new HashMap<>();
+        for (BatchingExecutionContext<DynamoDbRequest, DynamoDbResponse> context : batch) {
+            WriteRequest writeRequest = toWriteRequest(context.request());
+            writeRequests.add(writeRequest);
+            contextsByWrite.put(writeRequest, context);
+        }
+
+        // Since requests are batched together according to a combination of their table name and overrideConfiguration,
+        // which was validated above, it is sufficient to retrieve the overrideConfiguration from the first request.
+        BatchWriteItemRequest batchRequest =
+            BatchWriteItemRequest.builder()
+                                 .requestItems(Collections.singletonMap(tableName, writeRequests))
+                                 .overrideConfiguration(BatchManagerUtils.batchOverrideConfiguration(batch.get(0).request()))
+                                 .build();
+
+        return client.batchWriteItem(batchRequest)
+                     .thenApply(response -> completeProcessed(response, tableName, contextsByWrite));
+    }
+
+    private static List<BatchingExecutionContext<DynamoDbRequest, DynamoDbResponse>> completeProcessed(
+        BatchWriteItemResponse response,
+        String tableName,
+        Map<WriteRequest, BatchingExecutionContext<DynamoDbRequest, DynamoDbResponse>> contextsByWrite) {
+
+        List<WriteRequest> unprocessedWrites = response.hasUnprocessedItems()
+                                               ? response.unprocessedItems().getOrDefault(tableName, Collections.emptyList())
+                                               : Collections.emptyList();
+
+        List<BatchingExecutionContext<DynamoDbRequest, DynamoDbResponse>> unprocessed = new ArrayList<>();
+        for (WriteRequest unprocessedWrite : unprocessedWrites) {
+            BatchingExecutionContext<DynamoDbRequest, DynamoDbResponse> context = contextsByWrite.remove(unprocessedWrite);
+            if (context == null) {
+                // The unprocessed item cannot be told apart from the processed ones, e.g. because DynamoDB normalized a number.
+                // Puts and deletes are idempotent, so all the remaining writes are sent again.
+                unprocessed.addAll(contextsByWrite.values());
+                return unprocessed;
+            }
+            unprocessed.add(context);
+        }
+
+        contextsByWrite.values().forEach(context -> context.response().complete(processedResponse(context.request(),
+                                                                                                  response)));
+        return unprocessed;
+    }
+
+    private static DynamoDbResponse processedResponse(DynamoDbRequest request, BatchWriteItemResponse batchResponse) {
+        DynamoDbResponse.Builder builder = request instanceof PutItemRequest ? PutItemResponse.builder()
+                                                                             : DeleteItemResponse.builder();
+        return BatchManagerUtils.copyMetadata(builder, batchResponse).build();
+    }
+
+    @Override
+    protected void handleBatchFailure(List<BatchingExecutionContext<DynamoDbRequest, DynamoDbResponse>> batch,
+                                      Throwable failure) {
+        if (batch.size() > 1 && BatchManagerUtils.isValidationException(failure)) {
+            // A single invalid write, or two writes of the same item, fail the whole batch. Sending each write on its own
+            // completes every response with its own outcome. They are sent one after the other to keep their order.
+            CompletableFuture<Void> previous = CompletableFuture.completedFuture(null);
+            for (BatchingExecutionContext<DynamoDbRequest, DynamoDbResponse> context : batch) {
+                previous = previous.thenCompose(ignored -> BatchManagerUtils.sendAndComplete(this::sendUnbatched, context));
+            }
+            return;
+        }
+        super.handleBatchFailure(batch, failure);
+    }
+
+    private static String tableName(DynamoDbRequest request) {
+        return request instanceof PutItemRequest ? ((PutItemRequest) request).tableName()
+                                                 : ((DeleteItemRequest) request).tableName();
+    }
+
+    private static WriteRequest toWriteRequest(DynamoDbRequest request) {
+        if (request instanceof PutItemRequest) {
+            return WriteRequest.builder()
+                               .putRequest(PutRequest.builder().item(((PutItemRequest) request).item()).build())
+                               .build();
+        }
+        return WriteRequest.builder()
+                           .deleteRequest(DeleteRequest.builder().key(((DeleteItemRequest) request).key()).build())
+                           .build();
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.dynamodb.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+class DynamoDbAsyncBatchManagerTest {
+    private static final String TABLE = "table";
+
+    private DynamoDbAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(DynamoDbAsyncClient.class);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void putItems_sameTable_sentAsOneBatchWriteItem() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        try (DynamoDbAsyncBatchManager batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(20)))) {
+            CompletableFuture<PutItemResponse> first = batchManager.putItem(put("1"));
+            CompletableFuture<PutItemResponse> second = batchManager.putItem(put("2"));
+            CompletableFuture<DeleteItemResponse> third = batchManager.deleteItem(r -> r.tableName(TABLE).key(key("3")));
+
+            CompletableFuture.allOf(first, second, third).join();
+        }
+
+        List<WriteRequest> writes = capturedWrites(1).get(0);
+        assertThat(writes).hasSize(3);
+        assertThat(writes.get(0).putRequest().item()).isEqualTo(item("1"));
+        assertThat(writes.get(2).deleteRequest().key()).isEqualTo(key("3"));
+    }
+
+    @Test
+    void putItems_fullBatch_sentWithoutWaitingForScheduledFlush() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        try (DynamoDbAsyncBatchManager batchManager = batchManager(c -> c.maxWriteBatchSize(2)
+                                                                         .sendRequestFrequency(Duration.ofHours(1)))) {
+            CompletableFuture<PutItemResponse> first = batchManager.putItem(put("1"));
+            CompletableFuture<PutItemResponse> second = batchManager.putItem(put("2"));
+
+            assertThat(first).isCompleted();
+            assertThat(second).isCompleted();
+        }
+    }
+
+    @Test
+    void unprocessedItems_sentAgainUntilProcessed() {
+        WriteRequest unprocessed = WriteRequest.builder().putRequest(PutRequest.builder().item(item("2")).build()).build();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                BatchWriteItemResponse.builder()
+                                      .unprocessedItems(Collections.singletonMap(TABLE, Collections.singletonList(unprocessed)))
+                                      .build()))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        try (DynamoDbAsyncBatchManager batchManager =
+                 batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(20))
+                                    .unprocessedItemsBackoffStrategy(BackoffStrategy.retryImmediately()))) {
+            CompletableFuture<PutItemResponse> first = batchManager.putItem(put("1"));
+            CompletableFuture<PutItemResponse> second = batchManager.putItem(put("2"));
+
+            CompletableFuture.allOf(first, second).join();
+        }
+
+        List<List<WriteRequest>> batches = capturedWrites(2);
+        assertThat(batches.get(0)).hasSize(2);
+        assertThat(batches.get(1)).containsExactly(unprocessed);
+    }
+
+    @Test
+    void unprocessedItems_retriesExhausted_failOnlyTheirRequests() {
+        WriteRequest unprocessed = WriteRequest.builder().putRequest(PutRequest.builder().item(item("2")).build()).build();
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                BatchWriteItemResponse.builder()
+                                      .unprocessedItems(Collections.singletonMap(TABLE, Collections.singletonList(unprocessed)))
+                                      .build()));
+
+        try (DynamoDbAsyncBatchManager batchManager =
+                 batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(20))
+                                    .maxUnprocessedItemsRetries(1)
+                                    .unprocessedItemsBackoffStrategy(BackoffStrategy.retryImmediately()))) {
+            CompletableFuture<PutItemResponse> first = batchManager.putItem(put("1"));
+            CompletableFuture<PutItemResponse> second = batchManager.putItem(put("2"));
+
+            first.join();
+            assertThatThrownBy(second::join).hasCauseInstanceOf(SdkClientException.class)
+                                            .hasMessageContaining("after 2 attempts");
+        }
+        verify(client, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void conditionalPut_sentWithoutBatching() {
+        when(client.putItem(any(PutItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+
+        try (DynamoDbAsyncBatchManager batchManager = batchManager(c -> { })) {
+            batchManager.putItem(put("1").toBuilder().conditionExpression("attribute_not_exists(id)").build()).join();
+        }
+
+        verify(client).putItem(any(PutItemRequest.class));
+        verify(client, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void batchRejectedAsInvalid_writesSentOnTheirOwn() {
+        DynamoDbException validationException =
+            (DynamoDbException) DynamoDbException.builder()
+                                                 .awsErrorDetails(AwsErrorDetails.builder()
+                                                                                 .errorCode("ValidationException")
+                                                                                 .build())
+                                                 .statusCode(400)
+                                                 .build();
+        CompletableFuture<BatchWriteItemResponse> failedBatch = new CompletableFuture<>();
+        failedBatch.completeExceptionally(validationException);
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(failedBatch);
+        CompletableFuture<PutItemResponse> failedPut = new CompletableFuture<>();
+        failedPut.completeExceptionally(validationException);
+        when(client.putItem(any(PutItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()))
+            .thenReturn(failedPut);
+
+        try (DynamoDbAsyncBatchManager batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(20)))) {
+            CompletableFuture<PutItemResponse> valid = batchManager.putItem(put("1"));
+            CompletableFuture<PutItemResponse> invalid = batchManager.putItem(put("2"));
+
+            valid.join();
+            assertThatThrownBy(invalid::join).isInstanceOf(CompletionException.class).hasCause(validationException);
+        }
+        verify(client, times(2)).putItem(any(PutItemRequest.class));
+    }
+
+    @Test
+    void putAfterDeleteOfSameKey_sentInSeparateBatches() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        try (DynamoDbAsyncBatchManager batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(20)))) {
+            CompletableFuture<DeleteItemResponse> delete = batchManager.deleteItem(r -> r.tableName(TABLE).key(key("1")));
+            CompletableFuture<PutItemResponse> put = batchManager.putItem(put("1"));
+
+            CompletableFuture.allOf(delete, put).join();
+        }
+
+        List<List<WriteRequest>> batches = capturedWrites(2);
+        assertThat(batches.get(0)).hasSize(1);
+        assertThat(batches.get(0).get(0).deleteRequest()).isNotNull();
+        assertThat(batches.get(1)).hasSize(1);
+        assertThat(batches.get(1).get(0).putRequest()).isNotNull();
+    }
+
+    @Test
+    void putItems_tableNameAndOverrideConfigurationCollidingAsString_sentInSeparateBatches() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        AwsRequestOverrideConfiguration overrideConfiguration =
+            AwsRequestOverrideConfiguration.builder().putHeader("x-tenant", "other").build();
+        // Concatenated without a separator, "orders" and the hash code of the override configuration equal this table name
+        String collidingTable = "orders" + overrideConfiguration.hashCode();
+
+        try (DynamoDbAsyncBatchManager batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(20)))) {
+            CompletableFuture<PutItemResponse> plain =
+                batchManager.putItem(r -> r.tableName(collidingTable).item(item("1")));
+            CompletableFuture<PutItemResponse> overridden =
+                batchManager.putItem(r -> r.tableName("orders").item(item("2")).overrideConfiguration(overrideConfiguration));
+
+            CompletableFuture.allOf(plain, overridden).join();
+        }
+
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(client, times(2)).batchWriteItem(captor.capture());
+        Map<String, BatchWriteItemRequest> requestsByTable =
+            captor.getAllValues().stream()
+                  .collect(Collectors.toMap(request -> request.requestItems().keySet().iterator().next(), r -> r));
+
+        assertThat(requestsByTable.get(collidingTable).requestItems().get(collidingTable)).hasSize(1);
+        assertThat(requestsByTable.get(collidingTable).overrideConfiguration().get().headers()).doesNotContainKey("x-tenant");
+        assertThat(requestsByTable.get("orders").requestItems().get("orders")).hasSize(1);
+        assertThat(requestsByTable.get("orders").overrideConfiguration().get().headers()).containsKey("x-tenant");
+    }
+
+    @Test
+    void getItems_sameKeySharesRead_missingItemCompletesWithoutItem() {
+        Map<String, AttributeValue> item = item("1");
+        when(client.batchGetItem(any(BatchGetItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                BatchGetItemResponse.builder()
+                                    .responses(Collections.singletonMap(TABLE, Collections.singletonList(item)))
+                                    .build()));
+
+        try (DynamoDbAsyncBatchManager batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(20)))) {
+            CompletableFuture<GetItemResponse> first = batchManager.getItem(r -> r.tableName(TABLE).key(key("1")));
+            CompletableFuture<GetItemResponse> second = batchManager.getItem(r -> r.tableName(TABLE).key(key("1")));
+            CompletableFuture<GetItemResponse> missing = batchManager.getItem(r -> r.tableName(TABLE).key(key("2")));
+
+            assertThat(first.join().item()).isEqualTo(item);
+            assertThat(second.join().item()).isEqualTo(item);
+            assertThat(missing.join().hasItem()).isFalse();
+        }
+
+        ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(client).batchGetItem(captor.capture());
+        assertThat(captor.getValue().requestItems().get(TABLE).keys()).containsExactly(key("1"), key("2"));
+        assertThat(captor.getValue().overrideConfiguration().get().apiNames())
+            .anySatisfy(apiName -> assertThat(apiName.name()).isEqualTo("hll"));
+    }
+
+    @Test
+    void getItems_unprocessedKeys_readAgain() {
+        when(client.batchGetItem(any(BatchGetItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                BatchGetItemResponse.builder()
+                                    .responses(Collections.singletonMap(TABLE, Collections.singletonList(item("1"))))
+                                    .unprocessedKeys(Collections.singletonMap(TABLE, KeysAndAttributes.builder()
+                                                                                                      .keys(key("2"))
+                                                                                                      .build()))
+                                    .build()))
+            .thenReturn(CompletableFuture.completedFuture(
+                BatchGetItemResponse.builder()
+                                    .responses(Collections.singletonMap(TABLE, Collections.singletonList(item("2"))))
+                                    .build()));
+
+        try (DynamoDbAsyncBatchManager batchManager =
+                 batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(20))
+                                    .unprocessedItemsBackoffStrategy(BackoffStrategy.retryImmediately()))) {
+            CompletableFuture<GetItemResponse> first = batchManager.getItem(r -> r.tableName(TABLE).key(key("1")));
+            CompletableFuture<GetItemResponse> second = batchManager.getItem(r -> r.tableName(TABLE).key(key("2")));
+
+            assertThat(first.join().item()).isEqualTo(item("1"));
+            assertThat(second.join().item()).isEqualTo(item("2"));
+        }
+        verify(client, times(2)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    void overrideConfiguration_batchSizesAboveServiceLimits_throw() {
+        assertThatThrownBy(() -> BatchOverrideConfiguration.builder().maxWriteBatchSize(26).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchOverrideConfiguration.builder().maxGetBatchSize(101).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DynamoDbAsyncBatchManager batchManager(Consumer<BatchOverrideConfiguration.Builder> config) {
+        return DynamoDbAsyncBatchManager.builder()
+                                        .client(client)
+                                        .scheduledExecutor(scheduledExecutor)
+                                        .overrideConfiguration(config)
+                                        .build();
+    }
+
+    private List<List<WriteRequest>> capturedWrites(int expectedBatches) {
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(client, times(expectedBatches)).batchWriteItem(captor.capture());
+        return captor.getAllValues().stream()
+                     .map(request -> request.requestItems().get(TABLE))
+                     .collect(Collectors.toList());
+    }
+
+    private static PutItemRequest put(String id) {
+        return PutItemRequest.builder().tableName(TABLE).item(item(id)).build();
+    }
+
+    private static Map<String, AttributeValue> key(String id) {
+        return Collections.singletonMap("id", AttributeValue.fromS(id));
+    }
+
+    private static Map<String, AttributeValue> item(String id) {
+        Map<String, AttributeValue> item = new HashMap<>(key(id));
+        item.put("value", AttributeValue.fromS("value-" + id));
+        return item;
+    }
+}
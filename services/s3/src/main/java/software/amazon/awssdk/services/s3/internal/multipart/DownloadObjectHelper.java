@@ -33,11 +33,18 @@ public class DownloadObjectHelper {
     private final S3AsyncClient s3AsyncClient;
     private final long bufferSizeInBytes;
     private final int maxInFlightParts;
+    private final boolean autoTuningEnabled;
 
     public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes, int maxInFlightParts) {
+        this(s3AsyncClient, bufferSizeInBytes, maxInFlightParts, false);
+    }
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes, int maxInFlightParts,
+                                boolean autoTuningEnabled) {
         this.s3AsyncClient = s3AsyncClient;
         this.bufferSizeInBytes = bufferSizeInBytes;
         this.maxInFlightParts = maxInFlightParts;
+        this.autoTuningEnabled = autoTuningEnabled;
     }
 
     public <T> CompletableFuture<T> downloadObject(
@@ -62,8 +69,15 @@ public class DownloadObjectHelper {
         GetObjectRequest getObjectRequest,
         AsyncResponseTransformer.SplitResult<GetObjectResponse, T> split,
         int maxInFlight) {
+        MultipartAutoTuner autoTuner = null;
+        if (autoTuningEnabled) {
+            MultipartAutoTuner tuner = MultipartAutoTuner.create("MultipartDownload", maxInFlight);
+            split.resultFuture().whenComplete((r, t) -> tuner.publishMetrics(s3AsyncClient, getObjectRequest));
+            autoTuner = tuner;
+        }
         ParallelMultipartDownloaderSubscriber subscriber = new ParallelMultipartDownloaderSubscriber(
-            s3AsyncClient, getObjectRequest, (CompletableFuture<GetObjectResponse>) split.resultFuture(), maxInFlight);
+            s3AsyncClient, getObjectRequest, (CompletableFuture<GetObjectResponse>) split.resultFuture(), maxInFlight,
+            autoTuner);
         split.publisher().subscribe(subscriber);
         return split.resultFuture();
     }
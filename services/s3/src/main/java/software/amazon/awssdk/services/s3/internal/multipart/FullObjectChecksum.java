@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.internal.CrcCombineFunction;
+import software.amazon.awssdk.checksums.internal.SdkCrc32CChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc32Checksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc64NvmeChecksum;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Derives the full-object checksum of a multipart upload from the CRCs of its parts.
+ *
+ * <p>Each part's CRC is computed by the flexible checksum stage of its own upload part request, so parts are checksummed
+ * concurrently, bounded by the number of parts in flight. S3 returns the validated value in the upload part response. Once all
+ * parts are uploaded, the part CRCs are combined in order with the {@link CrcCombineFunction} of the algorithm, which only
+ * needs the length of each part, so the object is never read a second time.
+ */
+@SdkInternalApi
+public final class FullObjectChecksum {
+    private static final Logger log = Logger.loggerFor(FullObjectChecksum.class);
+
+    private final ChecksumAlgorithm algorithm;
+    private final CrcCombineFunction combineFunction;
+    private final Function<CompletedPart, String> partChecksum;
+    private final int checksumSize;
+
+    private FullObjectChecksum(ChecksumAlgorithm algorithm,
+                               CrcCombineFunction combineFunction,
+                               Function<CompletedPart, String> partChecksum,
+                               int checksumSize) {
+        this.algorithm = algorithm;
+        this.combineFunction = combineFunction;
+        this.partChecksum = partChecksum;
+        this.checksumSize = checksumSize;
+    }
+
+    /**
+     * Returns the full-object checksum to compute for a multipart upload of the given request, or empty if the request already
+     * specifies a checksum value or uses an algorithm that does not support full-object checksums. CRC32 is used if the request
+     * does not specify an algorithm.
+     */
+    static Optional<FullObjectChecksum> forRequest(PutObjectRequest putObjectRequest) {
+        if (S3ChecksumUtils.checksumValueSpecified(putObjectRequest)) {
+            return Optional.empty();
+        }
+
+        ChecksumAlgorithm algorithm = putObjectRequest.checksumAlgorithm() == null ? ChecksumAlgorithm.CRC32
+                                                                                   : putObjectRequest.checksumAlgorithm();
+        switch (algorithm) {
+            case CRC32:
+                return Optional.of(new FullObjectChecksum(algorithm, SdkCrc32Checksum::combine,
+                                                          CompletedPart::checksumCRC32, Integer.BYTES));
+            case CRC32_C:
+                return Optional.of(new FullObjectChecksum(algorithm, SdkCrc32CChecksum::combine,
+                                                          CompletedPart::checksumCRC32C, Integer.BYTES));
+            case CRC64_NVME:
+                return Optional.of(new FullObjectChecksum(algorithm, SdkCrc64NvmeChecksum::combine,
+                                                          CompletedPart::checksumCRC64NVME, Long.BYTES));
+            default:
+                log.debug(() -> "Full object checksums are not supported for " + algorithm
+                                + ", the multipart upload will use a composite checksum");
+                return Optional.empty();
+        }
+    }
+
+    ChecksumAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Combines the checksums of the given parts, in part number order, into the base64-encoded checksum of the whole object.
+     *
+     * @param parts the completed parts, in ascending part number order
+     * @param partSize the size of every part but the last
+     * @param contentLength the size of the object
+     * @return the checksum of the object, or empty if a part has no checksum for the algorithm
+     */
+    Optional<String> combine(CompletedPart[] parts, long partSize, long contentLength) {
+        long combined = 0;
+        for (int i = 0; i < parts.length; i++) {
+            String encoded = parts[i] == null ? null : partChecksum.apply(parts[i]);
+            if (encoded == null) {
+                int partNumber = i + 1;
+                log.debug(() -> String.format("Part %d has no %s checksum, the full object checksum will be computed by S3",
+                                              partNumber, algorithm));
+                return Optional.empty();
+            }
+
+            long crc = toLong(BinaryUtils.fromBase64(encoded));
+            if (i == 0) {
+                combined = crc;
+            } else {
+                long partLength = i == parts.length - 1 ? contentLength - partSize * i : partSize;
+                combined = combineFunction.combine(combined, crc, partLength);
+            }
+        }
+        return Optional.of(BinaryUtils.toBase64(toBytes(combined)));
+    }
+
+    /**
+     * Returns a copy of the request with the given full-object checksum value set.
+     */
+    PutObjectRequest applyTo(PutObjectRequest putObjectRequest, String checksum) {
+        PutObjectRequest.Builder builder = putObjectRequest.toBuilder();
+        switch (algorithm) {
+            case CRC32:
+                builder.checksumCRC32(checksum);
+                break;
+            case CRC32_C:
+                builder.checksumCRC32C(checksum);
+                break;
+            case CRC64_NVME:
+                builder.checksumCRC64NVME(checksum);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported full object checksum algorithm: " + algorithm);
+        }
+        return builder.build();
+    }
+
+    private static long toLong(byte[] checksum) {
+        long value = 0;
+        for (byte b : checksum) {
+            value = value << 8 | b & 0xff;
+        }
+        return value;
+    }
+
+    private byte[] toBytes(long checksum) {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(checksum);
+        byte[] bytes = new byte[checksumSize];
+        System.arraycopy(buffer.array(), Long.BYTES - checksumSize, bytes, 0, checksumSize);
+        return bytes;
+    }
+}
@@ -71,6 +71,8 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     private final Map<Integer, CompletedPart> existingParts;
     private final PublisherListener<Long> progressListener;
     private final int maxInFlightParts;
+    private final MultipartAutoTuner autoTuner;
+    private final FullObjectChecksum fullObjectChecksum;
     private final Object subscriptionLock = new Object();
     private Subscription subscription;
     private volatile boolean isDone;
@@ -85,6 +87,14 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
             CompletableFuture<PutObjectResponse> returnFuture,
             MultipartUploadHelper multipartUploadHelper,
             int maxInFlightParts) {
+        this(mpuRequestContext, returnFuture, multipartUploadHelper, maxInFlightParts, null);
+    }
+
+    KnownContentLengthAsyncRequestBodySubscriber(MpuRequestContext mpuRequestContext,
+            CompletableFuture<PutObjectResponse> returnFuture,
+            MultipartUploadHelper multipartUploadHelper,
+            int maxInFlightParts,
+            MultipartAutoTuner autoTuner) {
         this.totalSize = mpuRequestContext.contentLength();
         this.partSize = mpuRequestContext.partSize();
         this.expectedNumParts = mpuRequestContext.expectedNumParts();
@@ -96,6 +106,8 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
         this.completedParts = new AtomicReferenceArray<>(expectedNumParts);
         this.multipartUploadHelper = multipartUploadHelper;
         this.maxInFlightParts = maxInFlightParts;
+        this.autoTuner = autoTuner;
+        this.fullObjectChecksum = mpuRequestContext.fullObjectChecksum();
         this.progressListener = putObjectRequest.overrideConfiguration()
                                                 .map(c -> c.executionAttributes()
                                                            .getAttribute(JAVA_PROGRESS_LISTENER))
@@ -138,7 +150,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
             return;
         }
         this.subscription = s;
-        s.request(maxInFlightParts);
+        s.request(maxInFlightParts());
         returnFuture.whenComplete((r, t) -> {
             if (t != null) {
                 s.cancel();
@@ -190,6 +202,8 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
         Consumer<CompletedPart> completedPartConsumer = completedPart -> completedParts.set(
             completedPart.partNumber() - 1,
             completedPart);
+        long partBytes = asyncRequestBody.contentLength().orElse(0L);
+        long partStartNanos = autoTuner == null ? 0 : autoTuner.partStarted();
         multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, completedPartConsumer, futures,
                                                               Pair.of(uploadRequest, asyncRequestBody), progressListener)
                              .whenComplete((r, t) -> {
@@ -202,9 +216,11 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                                      }
                                  } else {
                                      int inFlight = asyncRequestBodyInFlight.decrementAndGet();
-                                     if (!isDone && inFlight < maxInFlightParts) {
+                                     int limitIncrease = autoTuner == null
+                                                         ? 0 : autoTuner.onPartCompleted(partStartNanos, partBytes);
+                                     if (!isDone && inFlight < maxInFlightParts()) {
                                          synchronized (subscriptionLock) {
-                                             subscription.request(1);
+                                             subscription.request(1 + Math.max(0, limitIncrease));
                                          }
                                      }
                                      completeMultipartUploadIfFinished();
@@ -212,6 +228,10 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                              });
     }
 
+    private int maxInFlightParts() {
+        return autoTuner == null ? maxInFlightParts : autoTuner.inFlightPartsLimit();
+    }
+
     private Optional<SdkClientException> validatePart(AsyncRequestBody asyncRequestBody, int currentPartNum) {
         if (!asyncRequestBody.contentLength().isPresent()) {
             return Optional.of(MultipartUploadHelper.contentLengthMissingForPart(currentPartNum));
@@ -289,11 +309,24 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
             }
 
             completeMpuFuture = multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts,
-                                                                              putObjectRequest,
+                                                                              withFullObjectChecksum(parts),
                                                                               totalSize);
         }
     }
 
+    /**
+     * Adds the full-object checksum combined from the part checksums to the request, so that it is sent with the
+     * {@code ChecksumType=FULL_OBJECT} complete multipart upload request in the same way as a checksum supplied by the user.
+     */
+    private PutObjectRequest withFullObjectChecksum(CompletedPart[] parts) {
+        if (fullObjectChecksum == null) {
+            return putObjectRequest;
+        }
+        return fullObjectChecksum.combine(parts, partSize, totalSize)
+                                 .map(checksum -> fullObjectChecksum.applyTo(putObjectRequest, checksum))
+                                 .orElse(putObjectRequest);
+    }
+
     private CompletedPart[] mergeCompletedParts() {
         CompletedPart[] merged = new CompletedPart[expectedNumParts];
         int currPart = 1;
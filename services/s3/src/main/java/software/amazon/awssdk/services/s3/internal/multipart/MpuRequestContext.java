@@ -34,6 +34,7 @@ public class MpuRequestContext {
     private final String uploadId;
     private final Map<Integer, CompletedPart> existingParts;
     private final int expectedNumParts;
+    private final FullObjectChecksum fullObjectChecksum;
 
     protected MpuRequestContext(Builder builder) {
         this.request = builder.request;
@@ -44,6 +45,7 @@ public class MpuRequestContext {
         this.numPartsCompleted = builder.numPartsCompleted;
         this.expectedNumParts = Validate.paramNotNull(builder.expectedNumParts,
                                                       "expectedNumParts");
+        this.fullObjectChecksum = builder.fullObjectChecksum;
     }
 
     public static Builder builder() {
@@ -66,7 +68,8 @@ public class MpuRequestContext {
                && Objects.equals(partSize, that.partSize) 
                && Objects.equals(numPartsCompleted, that.numPartsCompleted)
                && Objects.equals(uploadId, that.uploadId) 
-               && Objects.equals(existingParts, that.existingParts);
+               && Objects.equals(existingParts, that.existingParts)
+               && Objects.equals(fullObjectChecksum, that.fullObjectChecksum);
     }
 
     @Override
@@ -78,6 +81,7 @@ public class MpuRequestContext {
         result = 31 * result + (partSize != null ? partSize.hashCode() : 0);
         result = 31 * result + (numPartsCompleted != null ? numPartsCompleted.hashCode() : 0);
         result = 31 * result + expectedNumParts;
+        result = 31 * result + (fullObjectChecksum != null ? fullObjectChecksum.hashCode() : 0);
         return result;
     }
 
@@ -109,6 +113,13 @@ public class MpuRequestContext {
         return existingParts;
     }
 
+    /**
+     * The full-object checksum to derive from the part checksums, or null if the upload does not compute one.
+     */
+    public FullObjectChecksum fullObjectChecksum() {
+        return fullObjectChecksum;
+    }
+
     public static final class Builder {
         private Pair<PutObjectRequest, AsyncRequestBody> request;
         private Long contentLength;
@@ -117,6 +128,7 @@ public class MpuRequestContext {
         private String uploadId;
         private Map<Integer, CompletedPart> existingParts;
         private Integer expectedNumParts;
+        private FullObjectChecksum fullObjectChecksum;
 
         private Builder() {
         }
@@ -156,6 +168,11 @@ public class MpuRequestContext {
             return this;
         }
 
+        public Builder fullObjectChecksum(FullObjectChecksum fullObjectChecksum) {
+            this.fullObjectChecksum = fullObjectChecksum;
+            return this;
+        }
+
         public MpuRequestContext build() {
             return new MpuRequestContext(this);
         }
@@ -0,0 +1,243 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.model.S3Request;
+import software.amazon.awssdk.services.s3.multipart.MultipartMetric;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Adjusts the number of concurrent part requests of a single multipart upload or download, based on the throughput and the
+ * latency of the parts as they complete.
+ * <p>
+ * The tuner works in rounds. A round ends once as many parts as the current limit have completed, so that every round
+ * measures roughly one full "wave" of concurrent requests. At the end of a round the aggregate throughput of the round is
+ * compared with the previous one:
+ * <ul>
+ *     <li>If throughput grew, the limit is increased, since the link is not saturated yet.</li>
+ *     <li>If throughput dropped, or the average part latency grew far above the lowest latency observed, the limit is
+ *     decreased. Latency growing without a throughput gain means requests are queueing, either on the link or while waiting
+ *     for a connection from the pool.</li>
+ *     <li>Otherwise the limit is kept, and increased again after a few stable rounds to probe for spare capacity.</li>
+ * </ul>
+ * The limit always stays between 1 and the configured maximum.
+ * <p>
+ * Each decision is reported to the given {@link MetricCollector} with the metrics of {@link MultipartMetric}.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class MultipartAutoTuner {
+    static final int DEFAULT_INITIAL_IN_FLIGHT_PARTS = 8;
+
+    private static final Logger log = Logger.loggerFor(MultipartAutoTuner.class);
+
+    /**
+     * The minimum throughput change between two rounds, relative to the previous round, treated as a gain or a loss.
+     */
+    private static final double THROUGHPUT_GAIN_THRESHOLD = 0.05;
+    private static final double THROUGHPUT_LOSS_THRESHOLD = 0.10;
+
+    /**
+     * Average part latency, as a multiple of the lowest round latency, above which requests are considered to be queueing.
+     */
+    private static final double LATENCY_INFLATION_THRESHOLD = 2.0;
+
+    /**
+     * The number of stable rounds after which the limit is increased to probe for spare capacity.
+     */
+    private static final int STABLE_ROUNDS_BEFORE_PROBE = 3;
+
+    private final int maxInFlightParts;
+    private final LongSupplier nanoClock;
+    private final MetricCollector metricCollector;
+
+    private volatile int inFlightPartsLimit;
+
+    private long roundStartNanos;
+    private long roundBytes;
+    private int roundParts;
+    private long roundLatencyNanos;
+    private double previousThroughput;
+    private long lowestAverageLatencyNanos = Long.MAX_VALUE;
+    private int stableRounds;
+
+    MultipartAutoTuner(int initialInFlightParts, int maxInFlightParts, MetricCollector metricCollector, LongSupplier nanoClock) {
+        Validate.isPositive(maxInFlightParts, "maxInFlightParts");
+        this.maxInFlightParts = maxInFlightParts;
+        this.inFlightPartsLimit = Math.max(1, Math.min(initialInFlightParts, maxInFlightParts));
+        this.metricCollector = Validate.paramNotNull(metricCollector, "metricCollector");
+        this.nanoClock = nanoClock;
+        this.roundStartNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Create a tuner for one multipart operation, bounded by {@code maxInFlightParts}.
+     */
+    public static MultipartAutoTuner create(String operationName, int maxInFlightParts) {
+        MetricCollector collector = MetricCollector.create(operationName);
+        collector.reportMetric(MultipartMetric.OPERATION_NAME, operationName);
+        return new MultipartAutoTuner(DEFAULT_INITIAL_IN_FLIGHT_PARTS, maxInFlightParts, collector, System::nanoTime);
+    }
+
+    /**
+     * The current maximum number of concurrent part requests.
+     */
+    public int inFlightPartsLimit() {
+        return inFlightPartsLimit;
+    }
+
+    /**
+     * The current time, to be passed back to {@link #onPartCompleted(long, long)} when the part completes.
+     */
+    public long partStarted() {
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Record a successfully completed part.
+     *
+     * @param startNanos the value returned by {@link #partStarted()} when the part request was sent.
+     * @param bytes the number of bytes transferred for this part.
+     * @return the change of the in-flight parts limit caused by this part, which is positive if the caller may now send more
+     * concurrent requests.
+     */
+    public synchronized int onPartCompleted(long startNanos, long bytes) {
+        long now = nanoClock.getAsLong();
+        long latency = Math.max(0, now - startNanos);
+        metricCollector.reportMetric(MultipartMetric.PART_DURATION, Duration.ofNanos(latency));
+
+        roundBytes += Math.max(0, bytes);
+        roundLatencyNanos += latency;
+        roundParts++;
+
+        int limit = inFlightPartsLimit;
+        if (roundParts < limit) {
+            return 0;
+        }
+
+        long elapsed = Math.max(1, now - roundStartNanos);
+        double throughput = roundBytes * 1_000_000_000.0 / elapsed;
+        long averageLatency = roundLatencyNanos / roundParts;
+        lowestAverageLatencyNanos = Math.min(lowestAverageLatencyNanos, averageLatency);
+
+        int newLimit = nextLimit(limit, throughput, averageLatency);
+
+        previousThroughput = throughput;
+        roundStartNanos = now;
+        roundBytes = 0;
+        roundLatencyNanos = 0;
+        roundParts = 0;
+
+        return updateLimit(limit, newLimit, throughput);
+    }
+
+    /**
+     * Publish the metrics collected so far to the publishers configured on the request or, if there are none, on the client.
+     */
+    public void publishMetrics(S3AsyncClient client, S3Request request) {
+        List<MetricPublisher> publishers = metricPublishers(client, request);
+        if (publishers.isEmpty()) {
+            return;
+        }
+
+        MetricCollection metrics = metricCollector.collect();
+        for (MetricPublisher publisher : publishers) {
+            try {
+                publisher.publish(metrics);
+            } catch (RuntimeException e) {
+                log.warn(() -> "Failed to publish multipart metrics", e);
+            }
+        }
+    }
+
+    MetricCollection collect() {
+        return metricCollector.collect();
+    }
+
+    private int nextLimit(int limit, double throughput, long averageLatency) {
+        if (previousThroughput == 0) {
+            return increase(limit);
+        }
+
+        if (throughput >= previousThroughput * (1 + THROUGHPUT_GAIN_THRESHOLD)) {
+            stableRounds = 0;
+            return increase(limit);
+        }
+
+        if (throughput <= previousThroughput * (1 - THROUGHPUT_LOSS_THRESHOLD)
+            || averageLatency > lowestAverageLatencyNanos * LATENCY_INFLATION_THRESHOLD) {
+            stableRounds = 0;
+            return decrease(limit);
+        }
+
+        if (++stableRounds >= STABLE_ROUNDS_BEFORE_PROBE) {
+            stableRounds = 0;
+            return increase(limit);
+        }
+        return limit;
+    }
+
+    private int increase(int limit) {
+        return Math.min(maxInFlightParts, limit + Math.max(1, limit / 2));
+    }
+
+    private static int decrease(int limit) {
+        return Math.max(1, limit - Math.max(1, limit / 4));
+    }
+
+    private int updateLimit(int oldLimit, int newLimit, double throughput) {
+        inFlightPartsLimit = newLimit;
+        metricCollector.reportMetric(MultipartMetric.IN_FLIGHT_PARTS_LIMIT, newLimit);
+        metricCollector.reportMetric(MultipartMetric.PART_THROUGHPUT, throughput);
+        if (newLimit != oldLimit) {
+            log.debug(() -> String.format("Adjusted in-flight parts limit from %d to %d, throughput: %.0f bytes/s",
+                                          oldLimit, newLimit, throughput));
+        }
+        return newLimit - oldLimit;
+    }
+
+    private static List<MetricPublisher> metricPublishers(S3AsyncClient client, S3Request request) {
+        List<MetricPublisher> publishers = request.overrideConfiguration()
+                                                  .map(c -> c.metricPublishers())
+                                                  .orElse(Collections.emptyList());
+        if (!publishers.isEmpty()) {
+            return publishers;
+        }
+        try {
+            return Optional.ofNullable(client.serviceClientConfiguration())
+                           .map(S3ServiceClientConfiguration::overrideConfiguration)
+                           .map(ClientOverrideConfiguration::metricPublishers)
+                           .orElse(Collections.emptyList());
+        } catch (UnsupportedOperationException e) {
+            // Custom client implementations are not required to expose their configuration
+            return Collections.emptyList();
+        }
+    }
+}
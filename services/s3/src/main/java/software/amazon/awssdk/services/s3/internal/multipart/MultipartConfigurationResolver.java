@@ -35,6 +35,8 @@ public final class MultipartConfigurationResolver {
     private final long apiCallBufferSize;
     private final long thresholdInBytes;
     private final int maxInFlightParts;
+    private final boolean autoTuningEnabled;
+    private final boolean fullObjectChecksumEnabled;
 
     public MultipartConfigurationResolver(MultipartConfiguration multipartConfiguration) {
         Validate.notNull(multipartConfiguration, "multipartConfiguration");
@@ -46,10 +48,13 @@ public final class MultipartConfigurationResolver {
         ParallelConfiguration parallelConfiguration = multipartConfiguration.parallelConfiguration();
         if (parallelConfiguration == null) {
             this.maxInFlightParts = DEFAULT_MAX_IN_FLIGHT_PARTS;
+            this.autoTuningEnabled = false;
         } else {
             this.maxInFlightParts = Validate.getOrDefault(multipartConfiguration.parallelConfiguration().maxInFlightParts(),
                                                           () -> DEFAULT_MAX_IN_FLIGHT_PARTS);
+            this.autoTuningEnabled = Boolean.TRUE.equals(parallelConfiguration.autoTuningEnabled());
         }
+        this.fullObjectChecksumEnabled = Boolean.TRUE.equals(multipartConfiguration.fullObjectChecksumEnabled());
     }
 
     public long minimalPartSizeInBytes() {
@@ -67,4 +72,12 @@ public final class MultipartConfigurationResolver {
     public int maxInFlightParts() {
         return maxInFlightParts;
     }
+
+    public boolean autoTuningEnabled() {
+        return autoTuningEnabled;
+    }
+
+    public boolean fullObjectChecksumEnabled() {
+        return fullObjectChecksumEnabled;
+    }
 }
@@ -15,11 +15,10 @@
 
 package software.amazon.awssdk.services.s3.internal.multipart;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
@@ -33,9 +32,9 @@ import software.amazon.awssdk.utils.Validate;
 public class MultipartDownloadResumeContext {
 
     /**
-     * Keeps track of complete parts in a list sorted in ascending order
+     * Keeps track of complete parts as a bitmap indexed by part number. Guarded by its own monitor.
      */
-    private final SortedSet<Integer> completedParts;
+    private final BitSet completedParts;
 
     /**
      * Keep track of the byte index to the last byte of the last completed part
@@ -53,18 +52,27 @@ public class MultipartDownloadResumeContext {
     private volatile GetObjectResponse response;
 
     public MultipartDownloadResumeContext() {
-        this(new ConcurrentSkipListSet<>(), 0L);
+        this(new ArrayList<>(), 0L);
     }
 
     public MultipartDownloadResumeContext(Collection<Integer> completedParts, Long bytesToLastCompletedParts) {
-        this.completedParts = new ConcurrentSkipListSet<>(Validate.notNull(
-            completedParts, "completedParts must not be null"));
+        this.completedParts = new BitSet();
+        Validate.notNull(completedParts, "completedParts must not be null").forEach(this::addCompletedPart);
         this.bytesToLastCompletedParts = new AtomicLong(Validate.notNull(
             bytesToLastCompletedParts, "bytesToLastCompletedParts must not be null"));
     }
 
+    /**
+     * @return the completed parts, in ascending order.
+     */
     public List<Integer> completedParts() {
-        return Arrays.asList(completedParts.toArray(new Integer[0]));
+        synchronized (completedParts) {
+            List<Integer> parts = new ArrayList<>(completedParts.cardinality());
+            for (int part = completedParts.nextSetBit(0); part >= 0; part = completedParts.nextSetBit(part + 1)) {
+                parts.add(part);
+            }
+            return parts;
+        }
     }
 
     public Long bytesToLastCompletedParts() {
@@ -72,7 +80,10 @@ public class MultipartDownloadResumeContext {
     }
 
     public void addCompletedPart(int partNumber) {
-        completedParts.add(partNumber);
+        Validate.isNotNegative(partNumber, "partNumber");
+        synchronized (completedParts) {
+            completedParts.set(partNumber);
+        }
     }
 
     public void addToBytesToLastCompletedParts(long bytes) {
@@ -102,23 +113,14 @@ public class MultipartDownloadResumeContext {
      *
      */
     public int highestSequentialCompletedPart() {
-        if (completedParts.isEmpty() || completedParts.first() != 1) {
-            return 0;
-        }
-        if (completedParts.size() == 1) {
-            return 1;
-        }
-
-        // for sequential operation, make sure we don't skip any non-completed part by returning the
-        // highest sequentially completed part
-        int previous = completedParts.first();
-        for (Integer i : completedParts) {
-            if (i - previous > 1) {
-                return previous;
+        synchronized (completedParts) {
+            if (!completedParts.get(1)) {
+                return 0;
             }
-            previous = i;
+            // for sequential operation, make sure we don't skip any non-completed part by returning the
+            // highest sequentially completed part
+            return completedParts.nextClearBit(1) - 1;
         }
-        return completedParts.last();
     }
 
     /**
@@ -131,13 +133,15 @@ public class MultipartDownloadResumeContext {
         if (totalParts == null) {
             return false;
         }
-        return completedParts.size() == totalParts;
+        synchronized (completedParts) {
+            return completedParts.cardinality() == totalParts;
+        }
     }
 
     @Override
     public String toString() {
         return ToString.builder("MultipartDownloadContext")
-                       .add("completedParts", completedParts)
+                       .add("completedParts", completedParts())
                        .add("bytesToLastCompletedParts", bytesToLastCompletedParts)
                        .build();
     }
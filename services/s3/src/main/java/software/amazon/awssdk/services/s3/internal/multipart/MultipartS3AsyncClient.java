@@ -70,7 +70,8 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
         this.minPartSizeInBytes = minPartSizeInBytes;
         mpuHelper = new UploadObjectHelper(delegate, resolver);
         copyObjectHelper = new CopyObjectHelper(delegate, minPartSizeInBytes, threshold);
-        downloadObjectHelper = new DownloadObjectHelper(delegate, apiCallBufferSize, maxInFlightParts);
+        downloadObjectHelper = new DownloadObjectHelper(delegate, apiCallBufferSize, maxInFlightParts,
+                                                        resolver.autoTuningEnabled());
         this.checksumEnabled = checksumEnabled;
     }
 
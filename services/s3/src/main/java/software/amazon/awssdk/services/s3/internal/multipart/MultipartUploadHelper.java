@@ -29,6 +29,7 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.listener.PublisherListener;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
@@ -68,7 +69,16 @@ public final class MultipartUploadHelper {
 
     CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(PutObjectRequest putObjectRequest,
                                                                            CompletableFuture<PutObjectResponse> returnFuture) {
+        return createMultipartUpload(putObjectRequest, false, returnFuture);
+    }
+
+    CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(PutObjectRequest putObjectRequest,
+                                                                           boolean fullObjectChecksum,
+                                                                           CompletableFuture<PutObjectResponse> returnFuture) {
         CreateMultipartUploadRequest request = SdkPojoConversionUtils.toCreateMultipartUploadRequest(putObjectRequest);
+        if (fullObjectChecksum) {
+            request = request.toBuilder().checksumType(ChecksumType.FULL_OBJECT).build();
+        }
         CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
             s3AsyncClient.createMultipartUpload(request);
 
@@ -56,6 +56,11 @@ public class ParallelMultipartDownloaderSubscriber
      */
     private final int maxInFlightParts;
 
+    /**
+     * Adjusts the maximum number of concurrent GetObject requests while parts complete, or null if auto tuning is disabled.
+     */
+    private final MultipartAutoTuner autoTuner;
+
     /**
      * The s3 client used to make the individual part requests
      */
@@ -155,10 +160,19 @@ public class ParallelMultipartDownloaderSubscriber
                                                  GetObjectRequest getObjectRequest,
                                                  CompletableFuture<GetObjectResponse> resultFuture,
                                                  int maxInFlightParts) {
+        this(s3, getObjectRequest, resultFuture, maxInFlightParts, null);
+    }
+
+    public ParallelMultipartDownloaderSubscriber(S3AsyncClient s3,
+                                                 GetObjectRequest getObjectRequest,
+                                                 CompletableFuture<GetObjectResponse> resultFuture,
+                                                 int maxInFlightParts,
+                                                 MultipartAutoTuner autoTuner) {
         this.s3 = s3;
         this.getObjectRequest = getObjectRequest;
         this.resultFuture = resultFuture;
         this.maxInFlightParts = maxInFlightParts;
+        this.autoTuner = autoTuner;
         this.initialCompletedParts = initialCompletedParts(getObjectRequest);
         this.completedParts = new AtomicInteger(initialCompletedParts.size());
 
@@ -198,7 +212,7 @@ public class ParallelMultipartDownloaderSubscriber
             return;
         }
         this.subscription = s;
-        subscription.request(maxInFlightParts);
+        subscription.request(maxInFlightParts());
     }
 
     @Override
@@ -241,7 +255,7 @@ public class ParallelMultipartDownloaderSubscriber
             return;
         }
 
-        if (inFlightRequests.size() >= maxInFlightParts) {
+        if (inFlightRequests.size() >= maxInFlightParts()) {
             pendingTransformers.offer(Pair.of(currentPartNum, asyncResponseTransformer));
             return;
         }
@@ -259,6 +273,7 @@ public class ParallelMultipartDownloaderSubscriber
         GetObjectRequest request = nextRequest(currentPartNumber);
         log.debug(() -> "Sending next request for part: " + currentPartNumber);
 
+        long partStartNanos = autoTuner == null ? 0 : autoTuner.partStarted();
         CompletableFuture<GetObjectResponse> response = s3.getObject(request, asyncResponseTransformer);
 
         inFlightRequests.put(currentPartNumber, response);
@@ -275,25 +290,28 @@ public class ParallelMultipartDownloaderSubscriber
 
             inFlightRequests.remove(currentPartNumber);
             completedParts.incrementAndGet();
+            int limitIncrease = autoTuner == null ? 0 : autoTuner.onPartCompleted(partStartNanos, partSize(res));
             MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
                                   .ifPresent(ctx -> ctx.addCompletedPart(currentPartNumber));
 
             if (completedParts.get() >= totalParts) {
+                // Cancel before completing the future, so that the publisher has released the file by the time the user
+                // observes the completed download.
+                synchronized (subscriptionLock) {
+                    subscription.cancel();
+                }
+
                 if (completedParts.get() > totalParts) {
                     resultFuture.completeExceptionally(new IllegalStateException("Total parts exceeded"));
                 } else {
                     updateResumeContextForCompletion(res);
                     resultFuture.complete(getObjectResponse);
                 }
-
-                synchronized (subscriptionLock) {
-                    subscription.cancel();
-                }
-
             } else {
                 processPendingTransformers(res.partsCount());
                 synchronized (subscriptionLock) {
-                    subscription.request(1);
+                    // When the limit was lowered, the extra demand is parked in pendingTransformers until parts complete
+                    subscription.request(1 + Math.max(0, limitIncrease));
                 }
             }
         });
@@ -375,6 +393,9 @@ public class ParallelMultipartDownloaderSubscriber
         log.debug(() -> "Error on part " + part, e);
         resultFuture.completeExceptionally(e);
         inFlightRequests.values().forEach(future -> future.cancel(true));
+        synchronized (subscriptionLock) {
+            subscription.cancel();
+        }
     }
 
     private void processPendingTransformers(int totalParts) {
@@ -407,7 +428,15 @@ public class ParallelMultipartDownloaderSubscriber
         if (pendingTransformers.isEmpty()) {
             return false;
         }
-        return maxInFlightParts - inFlightRequestsNum.get() > 0;
+        return maxInFlightParts() - inFlightRequests.size() > 0;
+    }
+
+    private int maxInFlightParts() {
+        return autoTuner == null ? maxInFlightParts : autoTuner.inFlightPartsLimit();
+    }
+
+    private static long partSize(GetObjectResponse response) {
+        return response.contentLength() == null ? 0 : response.contentLength();
     }
 
     @Override
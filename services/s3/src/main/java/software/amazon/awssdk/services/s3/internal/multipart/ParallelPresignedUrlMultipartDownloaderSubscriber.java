@@ -191,10 +191,10 @@ public class ParallelPresignedUrlMultipartDownloaderSubscriber
             }
 
             if (totalParts <= 1) {
-                resultFuture.complete(MultipartDownloadUtils.toFullObjectResponse(firstResponse));
                 synchronized (subscriptionLock) {
                     subscription.cancel();
                 }
+                resultFuture.complete(MultipartDownloadUtils.toFullObjectResponse(firstResponse));
                 return;
             }
 
@@ -262,10 +262,10 @@ public class ParallelPresignedUrlMultipartDownloaderSubscriber
             long totalComplete = completedParts.incrementAndGet();
 
             if (totalComplete == totalParts) {
-                resultFuture.complete(MultipartDownloadUtils.toFullObjectResponse(firstResponse));
                 synchronized (subscriptionLock) {
                     subscription.cancel();
                 }
+                resultFuture.complete(MultipartDownloadUtils.toFullObjectResponse(firstResponse));
             } else {
                 processPendingTransformers();
                 synchronized (subscriptionLock) {
@@ -53,7 +53,9 @@ public final class UploadObjectHelper {
                                                                                    partSizeInBytes,
                                                                                    multipartUploadThresholdInBytes,
                                                                                    apiCallBufferSize,
-                                                                                   maxInFlightParts);
+                                                                                   maxInFlightParts,
+                                                                                   resolver.autoTuningEnabled(),
+                                                                                   resolver.fullObjectChecksumEnabled());
         this.uploadWithUnknownContentLength = new UploadWithUnknownContentLengthHelper(s3AsyncClient,
                                                                                        partSizeInBytes,
                                                                                        multipartUploadThresholdInBytes,
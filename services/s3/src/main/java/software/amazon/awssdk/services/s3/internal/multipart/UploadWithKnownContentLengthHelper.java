@@ -51,12 +51,34 @@ public final class UploadWithKnownContentLengthHelper {
     private final long multipartUploadThresholdInBytes;
     private final MultipartUploadHelper multipartUploadHelper;
     private final int maxInFlightParts;
+    private final boolean autoTuningEnabled;
+    private final boolean fullObjectChecksumEnabled;
 
     public UploadWithKnownContentLengthHelper(S3AsyncClient s3AsyncClient,
                                               long partSizeInBytes,
                                               long multipartUploadThresholdInBytes,
                                               long maxMemoryUsageInBytes,
                                               int maxInFlightParts) {
+        this(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes, maxMemoryUsageInBytes, maxInFlightParts, false);
+    }
+
+    public UploadWithKnownContentLengthHelper(S3AsyncClient s3AsyncClient,
+                                              long partSizeInBytes,
+                                              long multipartUploadThresholdInBytes,
+                                              long maxMemoryUsageInBytes,
+                                              int maxInFlightParts,
+                                              boolean autoTuningEnabled) {
+        this(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes, maxMemoryUsageInBytes, maxInFlightParts,
+             autoTuningEnabled, false);
+    }
+
+    public UploadWithKnownContentLengthHelper(S3AsyncClient s3AsyncClient,
+                                              long partSizeInBytes,
+                                              long multipartUploadThresholdInBytes,
+                                              long maxMemoryUsageInBytes,
+                                              int maxInFlightParts,
+                                              boolean autoTuningEnabled,
+                                              boolean fullObjectChecksumEnabled) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = partSizeInBytes;
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -67,6 +89,8 @@ public final class UploadWithKnownContentLengthHelper {
         this.multipartUploadHelper = new MultipartUploadHelper(s3AsyncClient, multipartUploadThresholdInBytes,
                                                                maxMemoryUsageInBytes);
         this.maxInFlightParts = maxInFlightParts;
+        this.autoTuningEnabled = autoTuningEnabled;
+        this.fullObjectChecksumEnabled = fullObjectChecksumEnabled;
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
@@ -103,10 +127,17 @@ public final class UploadWithKnownContentLengthHelper {
         }
     }
 
-    private void initiateNewUpload(PutObjectRequest putObjectRequest, long contentLength, AsyncRequestBody asyncRequestBody,
+    private void initiateNewUpload(PutObjectRequest originalRequest, long contentLength, AsyncRequestBody asyncRequestBody,
                                    CompletableFuture<PutObjectResponse> returnFuture) {
+        FullObjectChecksum fullObjectChecksum = fullObjectChecksumEnabled
+                                                ? FullObjectChecksum.forRequest(originalRequest).orElse(null) : null;
+        // Every part must be checksummed with the algorithm of the full-object checksum
+        PutObjectRequest putObjectRequest =
+            fullObjectChecksum == null ? originalRequest
+                                       : originalRequest.toBuilder().checksumAlgorithm(fullObjectChecksum.algorithm()).build();
+
         CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
-            multipartUploadHelper.createMultipartUpload(putObjectRequest, returnFuture);
+            multipartUploadHelper.createMultipartUpload(putObjectRequest, fullObjectChecksum != null, returnFuture);
 
         createMultipartUploadFuture.whenComplete((createMultipartUploadResponse, throwable) -> {
             if (throwable != null) {
@@ -114,13 +145,14 @@ public final class UploadWithKnownContentLengthHelper {
             } else {
                 log.debug(() -> "Initiated a new multipart upload, uploadId: " + createMultipartUploadResponse.uploadId());
                 uploadFromBeginning(Pair.of(putObjectRequest, asyncRequestBody), contentLength, returnFuture,
-                                    createMultipartUploadResponse.uploadId());
+                                    createMultipartUploadResponse.uploadId(), fullObjectChecksum);
             }
         });
     }
 
     private void uploadFromBeginning(Pair<PutObjectRequest, AsyncRequestBody> request, long contentLength,
-                                     CompletableFuture<PutObjectResponse> returnFuture, String uploadId) {
+                                     CompletableFuture<PutObjectResponse> returnFuture, String uploadId,
+                                     FullObjectChecksum fullObjectChecksum) {
 
         long numPartsCompleted = 0;
         long partSize = genericMultipartHelper.calculateOptimalPartSizeFor(contentLength, partSizeInBytes);
@@ -141,6 +173,7 @@ public final class UploadWithKnownContentLengthHelper {
                                                                .uploadId(uploadId)
                                                                .numPartsCompleted(numPartsCompleted)
                                                                .expectedNumParts(partCount)
+                                                               .fullObjectChecksum(fullObjectChecksum)
                                                                .build();
 
         splitAndSubscribe(mpuRequestContext, returnFuture);
@@ -183,9 +216,16 @@ public final class UploadWithKnownContentLengthHelper {
     }
 
     private void splitAndSubscribe(MpuRequestContext mpuRequestContext, CompletableFuture<PutObjectResponse> returnFuture) {
+        MultipartAutoTuner autoTuner = null;
+        if (autoTuningEnabled) {
+            MultipartAutoTuner tuner = MultipartAutoTuner.create("MultipartUpload", maxInFlightParts);
+            returnFuture.whenComplete((r, t) -> tuner.publishMetrics(s3AsyncClient, mpuRequestContext.request().left()));
+            autoTuner = tuner;
+        }
+
         KnownContentLengthAsyncRequestBodySubscriber subscriber =
             new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext, returnFuture, multipartUploadHelper,
-                                                             maxInFlightParts);
+                                                             maxInFlightParts, autoTuner);
 
         attachSubscriberToObservable(subscriber, mpuRequestContext.request().left());
 
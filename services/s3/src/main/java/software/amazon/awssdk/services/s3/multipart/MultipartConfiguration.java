@@ -52,12 +52,14 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
     private final ParallelConfiguration parallelConfiguration;
+    private final Boolean fullObjectChecksumEnabled;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
         this.parallelConfiguration = builder.parallelConfiguration;
+        this.fullObjectChecksumEnabled = builder.fullObjectChecksumEnabled;
     }
 
     public static Builder builder() {
@@ -69,7 +71,8 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .fullObjectChecksumEnabled(fullObjectChecksumEnabled);
     }
 
     /**
@@ -110,6 +113,27 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.parallelConfiguration;
     }
 
+    /**
+     * Whether multipart uploads compute a full-object checksum from the checksums of their parts.
+     * <p>
+     * When enabled, a multipart upload of an object whose size is known is created with
+     * {@link software.amazon.awssdk.services.s3.model.ChecksumType#FULL_OBJECT ChecksumType=FULL_OBJECT}. The CRC of each part
+     * is computed while the part is uploaded, and the CRCs of all parts are combined into the CRC of the whole object, which is
+     * sent with the complete multipart upload request. The object is therefore read only once, and its checksum is the same as
+     * if it had been uploaded in a single request.
+     * <p>
+     * The algorithm is the {@link PutObjectRequest#checksumAlgorithm() checksum algorithm} of the request, or CRC32 if none is
+     * specified. Only CRC32, CRC32C and CRC64NVME support full-object checksums; requests using other algorithms, and requests
+     * that already specify a full-object checksum value, are uploaded as before.
+     * <p>
+     * Default value: false
+     *
+     * @return whether full-object checksums are enabled.
+     */
+    public Boolean fullObjectChecksumEnabled() {
+        return this.fullObjectChecksumEnabled;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -212,6 +236,21 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the configuration class
          */
         ParallelConfiguration parallelConfiguration();
+
+        /**
+         * Configures whether multipart uploads compute a full-object checksum by combining the checksums of their parts.
+         *
+         * @param fullObjectChecksumEnabled whether to enable full-object checksums.
+         * @return an instance of this builder.
+         * @see MultipartConfiguration#fullObjectChecksumEnabled()
+         */
+        Builder fullObjectChecksumEnabled(Boolean fullObjectChecksumEnabled);
+
+        /**
+         * Indicates whether multipart uploads compute a full-object checksum.
+         * @return whether full-object checksums are enabled.
+         */
+        Boolean fullObjectChecksumEnabled();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
@@ -219,6 +258,7 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
         private ParallelConfiguration parallelConfiguration;
+        private Boolean fullObjectChecksumEnabled;
 
         @Override
         public Builder thresholdInBytes(Long thresholdInBytes) {
@@ -271,6 +311,17 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder fullObjectChecksumEnabled(Boolean fullObjectChecksumEnabled) {
+            this.fullObjectChecksumEnabled = fullObjectChecksumEnabled;
+            return this;
+        }
+
+        @Override
+        public Boolean fullObjectChecksumEnabled() {
+            return fullObjectChecksumEnabled;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
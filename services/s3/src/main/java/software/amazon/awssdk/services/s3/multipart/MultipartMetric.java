@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics reported by the multipart S3 client when {@link ParallelConfiguration#autoTuningEnabled() auto tuning} is enabled.
+ * They are collected once per multipart upload or download and, once the operation completes, published to the metric
+ * publishers configured on the request, or on the client if the request does not configure any.
+ */
+@SdkPublicApi
+public final class MultipartMetric {
+
+    /**
+     * The name of the operation the metrics were collected for: {@code "MultipartUpload"} or {@code "MultipartDownload"}.
+     */
+    public static final SdkMetric<String> OPERATION_NAME =
+        metric("MultipartOperationName", String.class, MetricLevel.INFO);
+
+    /**
+     * The maximum number of concurrent part requests chosen by the auto tuner. A value is reported every time the tuner
+     * evaluates the parts that completed since its previous decision, whether or not the value changed.
+     */
+    public static final SdkMetric<Integer> IN_FLIGHT_PARTS_LIMIT =
+        metric("InFlightPartsLimit", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The aggregate throughput, in bytes per second, of the parts that completed between two decisions of the auto tuner.
+     */
+    public static final SdkMetric<Double> PART_THROUGHPUT =
+        metric("PartThroughput", Double.class, MetricLevel.INFO);
+
+    /**
+     * The time between sending a part request and its completion, including the time spent waiting for a connection.
+     */
+    public static final SdkMetric<Duration> PART_DURATION =
+        metric("PartDuration", Duration.class, MetricLevel.TRACE);
+
+    private MultipartMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
@@ -34,9 +34,11 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 public class ParallelConfiguration implements ToCopyableBuilder<ParallelConfiguration.Builder, ParallelConfiguration> {
 
     private final Integer maxInFlightParts;
+    private final Boolean autoTuningEnabled;
 
     public ParallelConfiguration(Builder builder) {
         this.maxInFlightParts = builder.maxInFlightParts;
+        this.autoTuningEnabled = builder.autoTuningEnabled;
     }
 
     public static Builder builder() {
@@ -58,13 +60,36 @@ public class ParallelConfiguration implements ToCopyableBuilder<ParallelConfigur
         return maxInFlightParts;
     }
 
+    /**
+     * Whether the number of concurrent part requests is tuned automatically while a multipart operation is in progress.
+     *
+     * <p>When enabled, the client starts with a small number of concurrent part requests and measures the throughput and
+     * latency of the parts as they complete. It keeps adding concurrent requests while doing so increases throughput, and
+     * removes them when throughput drops or the latency of individual parts grows, for example because requests are waiting
+     * for a connection from the HTTP connection pool. {@link #maxInFlightParts()} is used as the upper bound. The decisions
+     * are reported to the metric publishers configured on the client or request through
+     * {@link MultipartMetric}.
+     *
+     * <p>Auto tuning applies to multipart uploads of known content length, and to multipart downloads when the
+     * {@link AsyncResponseTransformer} supports parallel split.
+     *
+     * <p>Defaults to false.
+     *
+     * @return Whether the number of concurrent part requests is tuned automatically.
+     */
+    public Boolean autoTuningEnabled() {
+        return autoTuningEnabled;
+    }
+
     @Override
     public Builder toBuilder() {
-        return builder().maxInFlightParts(maxInFlightParts);
+        return builder().maxInFlightParts(maxInFlightParts)
+                        .autoTuningEnabled(autoTuningEnabled);
     }
 
     public static class Builder implements CopyableBuilder<Builder, ParallelConfiguration> {
         private int maxInFlightParts;
+        private Boolean autoTuningEnabled;
 
         public Builder maxInFlightParts(int maxInFlightParts) {
             this.maxInFlightParts = maxInFlightParts;
@@ -75,6 +100,21 @@ public class ParallelConfiguration implements ToCopyableBuilder<ParallelConfigur
             return maxInFlightParts;
         }
 
+        /**
+         * Configure whether the number of concurrent part requests is tuned automatically, using
+         * {@link #maxInFlightParts(int)} as the upper bound.
+         *
+         * @see ParallelConfiguration#autoTuningEnabled()
+         */
+        public Builder autoTuningEnabled(Boolean autoTuningEnabled) {
+            this.autoTuningEnabled = autoTuningEnabled;
+            return this;
+        }
+
+        public Boolean autoTuningEnabled() {
+            return autoTuningEnabled;
+        }
+
         @Override
         public ParallelConfiguration build() {
             return new ParallelConfiguration(this);
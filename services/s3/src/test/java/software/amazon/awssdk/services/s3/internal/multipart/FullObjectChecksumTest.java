@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+class FullObjectChecksumTest {
+    private static final int PART_SIZE = 4096;
+    private static final byte[] OBJECT = randomBytes(3 * PART_SIZE + 123);
+
+    private static Stream<Arguments> crcAlgorithms() {
+        return Stream.of(Arguments.of(ChecksumAlgorithm.CRC32, DefaultChecksumAlgorithm.CRC32),
+                         Arguments.of(ChecksumAlgorithm.CRC32_C, DefaultChecksumAlgorithm.CRC32C),
+                         Arguments.of(ChecksumAlgorithm.CRC64_NVME, DefaultChecksumAlgorithm.CRC64NVME));
+    }
+
+    @ParameterizedTest
+    @MethodSource("crcAlgorithms")
+    void combine_partChecksums_matchesChecksumOfWholeObject(ChecksumAlgorithm algorithm,
+                                                            software.amazon.awssdk.checksums.spi.ChecksumAlgorithm sdkAlgorithm) {
+        FullObjectChecksum fullObjectChecksum =
+            FullObjectChecksum.forRequest(PutObjectRequest.builder().checksumAlgorithm(algorithm).build()).get();
+
+        CompletedPart[] parts = new CompletedPart[4];
+        for (int i = 0; i < parts.length; i++) {
+            int offset = i * PART_SIZE;
+            String checksum = checksum(sdkAlgorithm, offset, Math.min(PART_SIZE, OBJECT.length - offset));
+            parts[i] = partWithChecksum(algorithm, checksum);
+        }
+
+        assertThat(fullObjectChecksum.combine(parts, PART_SIZE, OBJECT.length))
+            .contains(checksum(sdkAlgorithm, 0, OBJECT.length));
+    }
+
+    @ParameterizedTest
+    @MethodSource("crcAlgorithms")
+    void applyTo_setsChecksumValueOfAlgorithm(ChecksumAlgorithm algorithm,
+                                             software.amazon.awssdk.checksums.spi.ChecksumAlgorithm sdkAlgorithm) {
+        FullObjectChecksum fullObjectChecksum =
+            FullObjectChecksum.forRequest(PutObjectRequest.builder().checksumAlgorithm(algorithm).build()).get();
+
+        PutObjectRequest request = fullObjectChecksum.applyTo(PutObjectRequest.builder().build(), "checksumVal");
+
+        assertThat(request.getValueForField("Checksum" + algorithm, String.class)).contains("checksumVal");
+        assertThat(S3ChecksumUtils.checksumValueSpecified(request)).isTrue();
+    }
+
+    @Test
+    void combine_partWithoutChecksum_returnsEmpty() {
+        FullObjectChecksum fullObjectChecksum = FullObjectChecksum.forRequest(PutObjectRequest.builder().build()).get();
+        CompletedPart[] parts = {
+            CompletedPart.builder().partNumber(1).checksumCRC32(checksum(DefaultChecksumAlgorithm.CRC32, 0, PART_SIZE)).build(),
+            CompletedPart.builder().partNumber(2).build()
+        };
+
+        assertThat(fullObjectChecksum.combine(parts, PART_SIZE, 2 * PART_SIZE)).isEmpty();
+    }
+
+    @Test
+    void forRequest_noAlgorithm_usesCrc32() {
+        assertThat(FullObjectChecksum.forRequest(PutObjectRequest.builder().build()))
+            .hasValueSatisfying(c -> assertThat(c.algorithm()).isEqualTo(ChecksumAlgorithm.CRC32));
+    }
+
+    @Test
+    void forRequest_shaAlgorithm_returnsEmpty() {
+        assertThat(FullObjectChecksum.forRequest(PutObjectRequest.builder().checksumAlgorithm(ChecksumAlgorithm.SHA256).build()))
+            .isEmpty();
+    }
+
+    @Test
+    void forRequest_checksumValueSpecified_returnsEmpty() {
+        assertThat(FullObjectChecksum.forRequest(PutObjectRequest.builder().checksumCRC32("checksumVal").build())).isEmpty();
+    }
+
+    private static CompletedPart partWithChecksum(ChecksumAlgorithm algorithm, String checksum) {
+        CompletedPart.Builder builder = CompletedPart.builder();
+        switch (algorithm) {
+            case CRC32:
+                return builder.checksumCRC32(checksum).build();
+            case CRC32_C:
+                return builder.checksumCRC32C(checksum).build();
+            default:
+                return builder.checksumCRC64NVME(checksum).build();
+        }
+    }
+
+    private static String checksum(software.amazon.awssdk.checksums.spi.ChecksumAlgorithm algorithm, int offset, int length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(OBJECT, offset, length);
+        return BinaryUtils.toBase64(checksum.getChecksumBytes());
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(1).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.s3.multipart.MultipartMetric;
+
+class MultipartAutoTunerTest {
+    private static final long PART_SIZE = 8L * 1024 * 1024;
+    private static final long MB = 1024 * 1024;
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void onPartCompleted_linkNotSaturated_shouldGrowToMax() {
+        MultipartAutoTuner tuner = tuner(8, 50);
+
+        // Every connection gets 10 MB/s and the link never saturates
+        simulate(tuner, 10 * MB, Long.MAX_VALUE, 500);
+
+        assertThat(tuner.inFlightPartsLimit()).isEqualTo(50);
+    }
+
+    @Test
+    void onPartCompleted_linkSaturated_shouldSettleNearSaturationPoint() {
+        MultipartAutoTuner tuner = tuner(8, 50);
+
+        // Every connection gets 10 MB/s, the link is saturated with 10 concurrent parts
+        for (int i = 0; i < 20; i++) {
+            simulate(tuner, 10 * MB, 100 * MB, 50);
+            assertThat(tuner.inFlightPartsLimit()).isLessThan(30);
+        }
+        assertThat(tuner.inFlightPartsLimit()).isBetween(8, 24);
+    }
+
+    @Test
+    void onPartCompleted_throughputDrops_shouldDecreaseLimit() {
+        MultipartAutoTuner tuner = tuner(8, 50);
+        simulate(tuner, 10 * MB, Long.MAX_VALUE, 100);
+        int limitBeforeDrop = tuner.inFlightPartsLimit();
+
+        simulate(tuner, 1 * MB, 10 * MB, 200);
+
+        assertThat(tuner.inFlightPartsLimit()).isLessThan(limitBeforeDrop);
+    }
+
+    @Test
+    void create_initialLimitAboveMax_shouldUseMax() {
+        MultipartAutoTuner tuner = tuner(8, 4);
+        assertThat(tuner.inFlightPartsLimit()).isEqualTo(4);
+
+        simulate(tuner, 10 * MB, Long.MAX_VALUE, 100);
+
+        assertThat(tuner.inFlightPartsLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void onPartCompleted_shouldReportDecisionsAsMetrics() {
+        MultipartAutoTuner tuner = tuner(2, 50);
+
+        simulate(tuner, 10 * MB, Long.MAX_VALUE, 10);
+
+        MetricCollection metrics = tuner.collect();
+        assertThat(metrics.metricValues(MultipartMetric.PART_DURATION)).hasSize(10);
+        assertThat(metrics.metricValues(MultipartMetric.IN_FLIGHT_PARTS_LIMIT)).isNotEmpty()
+                                                                                 .allMatch(limit -> limit >= 2 && limit <= 50);
+        assertThat(metrics.metricValues(MultipartMetric.PART_THROUGHPUT)).allMatch(throughput -> throughput > 0);
+    }
+
+    private MultipartAutoTuner tuner(int initial, int max) {
+        return new MultipartAutoTuner(initial, max, MetricCollector.create("test"), clock::get);
+    }
+
+    /**
+     * Complete {@code parts} parts at steady state: with {@code limit} parts in flight sharing the link, each part takes
+     * {@code PART_SIZE / min(perConnection, link / limit)}, and one part completes every {@code latency / limit}.
+     */
+    private void simulate(MultipartAutoTuner tuner, long perConnectionBytesPerSecond, long linkBytesPerSecond, int parts) {
+        for (int i = 0; i < parts; i++) {
+            int limit = tuner.inFlightPartsLimit();
+            double partThroughput = Math.min(perConnectionBytesPerSecond, (double) linkBytesPerSecond / limit);
+            long latencyNanos = (long) (PART_SIZE / partThroughput * 1_000_000_000L);
+            clock.addAndGet(latencyNanos / limit);
+            tuner.onPartCompleted(clock.get() - latencyNanos, PART_SIZE);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -37,6 +38,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletionException;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -58,6 +60,7 @@ import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
 
 class MultipartClientChecksumTest {
     private static final WireMockServer wireMock = new WireMockServer(wireMockConfig().dynamicPort());
@@ -179,6 +182,52 @@ class MultipartClientChecksumTest {
             .hasMessageContaining("MD5 is not supported");
     }
 
+    @Test
+    public void multipartUpload_fullObjectChecksumEnabled_shouldCombinePartChecksumsAndAddChecksumTypeFullObject() {
+        // 16 MiB file, 8 MiB default part size
+        long partSize = FILE_SIZE / 2;
+        stubCreateMpuSuccessfulResponse();
+        stubCompleteMpuSuccessfulResponse();
+        String partChecksum = crc32OfZeros(partSize);
+        for (int i = 1; i <= 2; i++) {
+            wireMock.stubFor(put(urlEqualTo("/bucket/key?partNumber=" + i + "&uploadId=uploadId"))
+                                 .willReturn(aResponse()
+                                                 .withStatus(200)
+                                                 .withHeader("x-amz-checksum-crc32", partChecksum)
+                                                 .withBody("<Part><PartNumber>" + i +
+                                                           "</PartNumber><ETag>\"etag\"</ETag></Part>")));
+        }
+
+        try (S3AsyncClient fullObjectChecksumS3 =
+                 S3AsyncClient.builder()
+                              .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                              .endpointOverride(URI.create("http://localhost:" + wireMock.port()))
+                              .overrideConfiguration(c -> c.addExecutionInterceptor(checksumCapturingInterceptor))
+                              .region(Region.US_EAST_1)
+                              .multipartEnabled(true)
+                              .multipartConfiguration(c -> c.fullObjectChecksumEnabled(true))
+                              .forcePathStyle(true)
+                              .build()) {
+            fullObjectChecksumS3.putObject(putObjectRequestBuilder().build(), testFile).join();
+        }
+
+        assertThat(checksumCapturingInterceptor.createMpuChecksumAlgorithm).isEqualTo("CRC32");
+        assertThat(checksumCapturingInterceptor.uploadPartChecksumAlgorithm).isEqualTo("CRC32");
+        assertThat(checksumCapturingInterceptor.createMpuChecksumType).isEqualTo(ChecksumType.FULL_OBJECT.toString());
+        assertThat(checksumCapturingInterceptor.completeMpuChecksumType).isEqualTo(ChecksumType.FULL_OBJECT.toString());
+        assertThat(checksumCapturingInterceptor.completeMpuHeaders.get("x-amz-checksum-crc32"))
+            .containsExactly(crc32OfZeros(FILE_SIZE));
+    }
+
+    private static String crc32OfZeros(long length) {
+        CRC32 crc32 = new CRC32();
+        byte[] zeros = new byte[4096];
+        for (long remaining = length; remaining > 0; remaining -= zeros.length) {
+            crc32.update(zeros, 0, (int) Math.min(zeros.length, remaining));
+        }
+        return BinaryUtils.toBase64(ByteBuffer.allocate(Integer.BYTES).putInt((int) crc32.getValue()).array());
+    }
+
     private PutObjectRequest.Builder putObjectRequestBuilder() {
         return PutObjectRequest.builder().bucket("bucket").key("key");
     }
@@ -98,4 +98,40 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.maxInFlightParts()).isEqualTo(50);
     }
 
+
+    @Test
+    void resolveAutoTuningEnabled_valueNotProvided_shouldBeDisabled() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .parallelConfiguration(p -> p.maxInFlightParts(10))
+                                                                     .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.autoTuningEnabled()).isFalse();
+    }
+
+    @Test
+    void resolveAutoTuningEnabled_valueProvided_shouldHonor() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .parallelConfiguration(p -> p.maxInFlightParts(10)
+                                                                                                  .autoTuningEnabled(true))
+                                                                     .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.autoTuningEnabled()).isTrue();
+        assertThat(resolver.maxInFlightParts()).isEqualTo(10);
+    }
+
+    @Test
+    void resolveFullObjectChecksumEnabled_valueNotProvided_shouldBeDisabled() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder().build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.fullObjectChecksumEnabled()).isFalse();
+    }
+
+    @Test
+    void resolveFullObjectChecksumEnabled_valueProvided_shouldHonor() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .fullObjectChecksumEnabled(true)
+                                                                     .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.fullObjectChecksumEnabled()).isTrue();
+    }
 }
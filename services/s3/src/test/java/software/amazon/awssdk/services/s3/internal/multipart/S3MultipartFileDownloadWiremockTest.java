@@ -35,8 +35,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,12 +46,15 @@ import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.internal.multipart.utils.MultipartDownloadTestUtils;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.multipart.MultipartMetric;
 
 @WireMockTest
 class S3MultipartFileDownloadWiremockTest {
@@ -122,6 +127,53 @@ class S3MultipartFileDownloadWiremockTest {
         util.verifyCorrectAmountOfRequestsMade(numParts);
     }
 
+    @Test
+    void happyPath_multipartWithAutoTuning_shouldPublishTunerMetrics(WireMockRuntimeInfo wiremock) throws Exception {
+        int numParts = 12;
+        int partSize = 1024;
+        byte[] expectedBody = util.stubAllParts(testBucket, testKey, numParts, partSize);
+        List<MetricCollection> published = new CopyOnWriteArrayList<>();
+        MetricPublisher publisher = new MetricPublisher() {
+            @Override
+            public void publish(MetricCollection metricCollection) {
+                published.add(metricCollection);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try (S3AsyncClient autoTuningClient = S3AsyncClient.builder()
+                                                           .credentialsProvider(StaticCredentialsProvider.create(
+                                                               AwsBasicCredentials.create("key", "secret")))
+                                                           .region(Region.US_WEST_2)
+                                                           .endpointOverride(URI.create("http://localhost:"
+                                                                                        + wiremock.getHttpPort()))
+                                                           .multipartEnabled(true)
+                                                           .multipartConfiguration(c -> c.parallelConfiguration(
+                                                               p -> p.maxInFlightParts(4).autoTuningEnabled(true)))
+                                                           .overrideConfiguration(o -> o.addMetricPublisher(publisher))
+                                                           .forcePathStyle(true)
+                                                           .build()) {
+            CompletableFuture<GetObjectResponse> response =
+                autoTuningClient.getObject(b -> b.bucket(testBucket).key(testKey), AsyncResponseTransformer.toFile(testFile));
+
+            assertThat(response).succeedsWithin(Duration.of(10, ChronoUnit.SECONDS));
+        }
+
+        assertThat(Files.readAllBytes(testFile)).isEqualTo(expectedBody);
+        util.verifyCorrectAmountOfRequestsMade(numParts);
+        MetricCollection tunerMetrics = published.stream()
+                                                 .filter(m -> "MultipartDownload".equals(m.name()))
+                                                 .findFirst()
+                                                 .orElseThrow(AssertionError::new);
+        assertThat(tunerMetrics.metricValues(MultipartMetric.PART_DURATION)).hasSize(numParts - 1);
+        assertThat(tunerMetrics.metricValues(MultipartMetric.IN_FLIGHT_PARTS_LIMIT))
+            .isNotEmpty()
+            .allMatch(limit -> limit >= 1 && limit <= 4);
+    }
+
     @Test
     void errorOnFirstPart_nonRetryable() {
         stubFor(get(urlEqualTo(String.format("/%s/%s?partNumber=1", testBucket, testKey))).willReturn(
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -35,6 +36,28 @@ class MultipartDownloadResumeContextTest {
         assertThat(context.highestSequentialCompletedPart()).isEqualTo(expectedNextNonCompleted);
     }
 
+    @Test
+    void completedParts_addedOutOfOrder_returnedInAscendingOrderWithoutDuplicates() {
+        MultipartDownloadResumeContext context = new MultipartDownloadResumeContext(Arrays.asList(9, 3), 0L);
+        context.addCompletedPart(1);
+        context.addCompletedPart(3);
+        context.addCompletedPart(10000);
+
+        assertThat(context.completedParts()).containsExactly(1, 3, 9, 10000);
+    }
+
+    @Test
+    void isComplete_allPartsCompleted_true() {
+        MultipartDownloadResumeContext context = new MultipartDownloadResumeContext();
+        context.totalParts(3);
+        context.addCompletedPart(2);
+        context.addCompletedPart(1);
+        assertThat(context.isComplete()).isFalse();
+
+        context.addCompletedPart(3);
+        assertThat(context.isComplete()).isTrue();
+    }
+
     private static Stream<Arguments> source() {
         return Stream.of(
             Arguments.of(Arrays.asList(), 0),
@@ -17,20 +17,19 @@ package software.amazon.awssdk.checksums.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
 
 class CrtBasedChecksumTest {
 
     @Test
-    void createCrc64WithoutCrtDependency(){
-
-        RuntimeException runtimeException = assertThrows(RuntimeException.class, Crc64NvmeChecksum::new);
-        assertEquals("Could not load software.amazon.awssdk.crt.checksums.CRC64NVME. "
-        + "Add dependency on 'software.amazon.awssdk.crt:aws-crt' module to enable CRC64NVME feature.",
-                     runtimeException.getMessage());
+    void createCrc64WithoutCrtDependency_usesSdkImplementation(){
+        Crc64NvmeChecksum checksum = new Crc64NvmeChecksum();
+        checksum.update("abc".getBytes(StandardCharsets.UTF_8));
 
+        assertEquals("BeXKuz/B+us=", BinaryUtils.toBase64(checksum.getChecksumBytes()));
     }
 
     @Test
@@ -0,0 +1,211 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.s3benchmarks;
+
+import static software.amazon.awssdk.s3benchmarks.BenchmarkUtils.printOutResult;
+import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Options;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Compares static {@code maxInFlightParts} values with auto tuning for multipart downloads, against a local stand-in for S3
+ * whose bandwidth can be configured. The server serves a single multipart object through {@code GetObject?partNumber=N},
+ * limits the bandwidth of every connection and of the whole link, and adds a fixed time to first byte to every request.
+ * This makes the result repeatable and independent of the network of the host running the benchmark.
+ */
+public final class LocalMultipartAutoTuneBenchmark {
+    private static final Logger log = Logger.loggerFor(LocalMultipartAutoTuneBenchmark.class);
+
+    private static final Pattern PART_NUMBER = Pattern.compile("partNumber=(\\d+)");
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final int WRITE_CHUNK_SIZE = 64 * 1024;
+
+    private final long objectSize;
+    private final long partSize;
+    private final int iterations;
+    private final int maxConcurrency;
+    private final Throttle link;
+    private final long connectionBytesPerSecond;
+    private final long firstByteLatencyMillis;
+
+    private LocalMultipartAutoTuneBenchmark(CommandLine cmd) {
+        this.objectSize = Long.parseLong(cmd.getOptionValue("objectSizeInMB", "1024")) * MB;
+        this.partSize = Long.parseLong(cmd.getOptionValue("partSizeInMB", "8")) * MB;
+        this.iterations = Integer.parseInt(cmd.getOptionValue("iteration", "3"));
+        this.maxConcurrency = Integer.parseInt(cmd.getOptionValue("maxConcurrency", "100"));
+        this.link = new Throttle(Long.parseLong(cmd.getOptionValue("linkMBps", "200")) * MB);
+        this.connectionBytesPerSecond = Long.parseLong(cmd.getOptionValue("connectionMBps", "20")) * MB;
+        this.firstByteLatencyMillis = Long.parseLong(cmd.getOptionValue("firstByteLatencyMillis", "20"));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options options = new Options();
+        options.addOption(null, "objectSizeInMB", true, "Size of the served object, default: 1024");
+        options.addOption(null, "partSizeInMB", true, "Size of each part of the served object, default: 8");
+        options.addOption(null, "linkMBps", true, "Bandwidth of the whole link in MB/s, default: 200");
+        options.addOption(null, "connectionMBps", true, "Bandwidth of a single connection in MB/s, default: 20");
+        options.addOption(null, "firstByteLatencyMillis", true, "Time to first byte of every request, default: 20");
+        options.addOption(null, "maxConcurrency", true, "Max concurrency of the HTTP client, default: 100");
+        options.addOption(null, "iteration", true, "The number of iterations per configuration, default: 3");
+        options.addOption(null, "maxInFlightParts", true, "Comma separated static values to compare, default: 4,16,64");
+
+        CommandLine cmd = new DefaultParser().parse(options, args);
+        new LocalMultipartAutoTuneBenchmark(cmd).run(cmd.getOptionValue("maxInFlightParts", "4,16,64"));
+    }
+
+    private void run(String staticValues) throws Exception {
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(serverExecutor);
+        server.start();
+        Path file = Files.createTempFile("multipart-autotune", ".bin");
+        try {
+            URI endpoint = URI.create("http://localhost:" + server.getAddress().getPort());
+            for (String value : staticValues.split(",")) {
+                int maxInFlightParts = Integer.parseInt(value.trim());
+                runConfiguration(endpoint, file, maxInFlightParts, false);
+            }
+            runConfiguration(endpoint, file, maxConcurrency, true);
+        } finally {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void runConfiguration(URI endpoint, Path file, int maxInFlightParts, boolean autoTuning) throws Exception {
+        String name = autoTuning ? "Auto tuning, up to " + maxInFlightParts + " parts in flight"
+                                 : maxInFlightParts + " parts in flight";
+        FileTransformerConfiguration fileConfiguration =
+            FileTransformerConfiguration.builder()
+                                        .fileWriteOption(FileTransformerConfiguration.FileWriteOption.CREATE_OR_REPLACE_EXISTING)
+                                        .failureBehavior(FileTransformerConfiguration.FailureBehavior.DELETE)
+                                        .build();
+
+        try (S3AsyncClient client = S3AsyncClient.builder()
+                                                 .endpointOverride(endpoint)
+                                                 .forcePathStyle(true)
+                                                 .region(Region.US_EAST_1)
+                                                 .credentialsProvider(StaticCredentialsProvider.create(
+                                                     AwsBasicCredentials.create("akid", "skid")))
+                                                 .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                                                                                           .maxConcurrency(maxConcurrency))
+                                                 .multipartEnabled(true)
+                                                 .multipartConfiguration(c -> c.parallelConfiguration(
+                                                     p -> p.maxInFlightParts(maxInFlightParts)
+                                                           .autoTuningEnabled(autoTuning)))
+                                                 .build()) {
+            List<Double> latencies = new ArrayList<>();
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                client.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toFile(file, fileConfiguration))
+                      .join();
+                latencies.add((System.nanoTime() - start) / 1_000_000_000.0);
+            }
+            printOutResult(latencies, name, objectSize);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String query = exchange.getRequestURI().getQuery();
+            Matcher matcher = PART_NUMBER.matcher(query == null ? "" : query);
+            int partCount = (int) ((objectSize + partSize - 1) / partSize);
+            int partNumber = matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+            long start = (partNumber - 1) * partSize;
+            long length = Math.min(partSize, objectSize - start);
+
+            TimeUnit.MILLISECONDS.sleep(firstByteLatencyMillis);
+
+            exchange.getResponseHeaders().add("ETag", "\"etag\"");
+            exchange.getResponseHeaders().add("x-amz-mp-parts-count", String.valueOf(partCount));
+            exchange.getResponseHeaders().add("Content-Range",
+                                              String.format("bytes %d-%d/%d", start, start + length - 1, objectSize));
+            exchange.sendResponseHeaders(206, length);
+
+            Throttle connection = new Throttle(connectionBytesPerSecond);
+            byte[] chunk = new byte[WRITE_CHUNK_SIZE];
+            try (OutputStream body = exchange.getResponseBody()) {
+                long remaining = length;
+                while (remaining > 0) {
+                    int size = (int) Math.min(chunk.length, remaining);
+                    connection.acquire(size);
+                    link.acquire(size);
+                    body.write(chunk, 0, size);
+                    remaining -= size;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            log.debug(() -> "Failed to serve request", e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Limits the rate at which bytes are sent by reserving time slots on a shared timeline.
+     */
+    private static final class Throttle {
+        private final long bytesPerSecond;
+        private long nextFreeNanos = System.nanoTime();
+
+        private Throttle(long bytesPerSecond) {
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        private void acquire(int bytes) throws InterruptedException {
+            long availableAt;
+            synchronized (this) {
+                long now = System.nanoTime();
+                availableAt = Math.max(now, nextFreeNanos);
+                nextFreeNanos = availableAt + bytes * 1_000_000_000L / bytesPerSecond;
+            }
+            long waitNanos = availableAt - System.nanoTime();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+}
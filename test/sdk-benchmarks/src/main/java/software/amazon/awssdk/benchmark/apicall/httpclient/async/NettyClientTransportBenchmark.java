@@ -0,0 +1,150 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.async;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
+
+import io.netty.channel.Channel;
+import java.net.URI;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.benchmark.utils.MockH2Server;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.TransportType;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+
+/**
+ * Compares the netty client transports against local HTTP/1.1 and HTTP/2 servers.
+ *
+ * <p>The native epoll and io_uring transports are only available on Linux x86_64. The client silently falls back to the next
+ * available transport, so {@link #setup()} fails rather than measuring NIO again under another name.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+@BenchmarkMode(Mode.Throughput)
+public class NettyClientTransportBenchmark extends BaseNettyBenchmark {
+    private static final Map<TransportType, String> EXPECTED_CHANNEL_CLASSES = new EnumMap<>(TransportType.class);
+
+    static {
+        EXPECTED_CHANNEL_CLASSES.put(TransportType.NIO, "NioSocketChannel");
+        EXPECTED_CHANNEL_CLASSES.put(TransportType.EPOLL, "EpollSocketChannel");
+        EXPECTED_CHANNEL_CLASSES.put(TransportType.IO_URING, "IOUringSocketChannel");
+    }
+
+    @Param({"NIO", "EPOLL", "IO_URING"})
+    private String transportType;
+
+    @Param({"HTTP1_1", "HTTP2"})
+    private String protocol;
+
+    private MockServer h1Server;
+    private MockH2Server h2Server;
+    private SdkEventLoopGroup eventLoopGroup;
+    private SdkAsyncHttpClient sdkHttpClient;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        eventLoopGroup = SdkEventLoopGroup.builder()
+                                          .transportType(TransportType.valueOf(transportType))
+                                          .build();
+        verifyTransport(eventLoopGroup, TransportType.valueOf(transportType));
+
+        URI endpoint;
+        Protocol httpProtocol = Protocol.valueOf(protocol);
+        if (httpProtocol == Protocol.HTTP2) {
+            h2Server = new MockH2Server(false);
+            h2Server.start();
+            endpoint = h2Server.getHttpsUri();
+        } else {
+            h1Server = new MockServer();
+            h1Server.start();
+            endpoint = h1Server.getHttpUri();
+        }
+
+        sdkHttpClient = NettyNioAsyncHttpClient.builder()
+                                               .eventLoopGroup(eventLoopGroup)
+                                               .protocol(httpProtocol)
+                                               .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
+        client = ProtocolRestJsonAsyncClient.builder()
+                                            .credentialsProvider(() -> AwsBasicCredentials.create("foo", "bar"))
+                                            .endpointOverride(endpoint)
+                                            .httpClient(sdkHttpClient)
+                                            .region(Region.US_EAST_1)
+                                            .build();
+
+        // Making sure the request actually succeeds
+        client.allTypes().join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (h1Server != null) {
+            h1Server.stop();
+        }
+        if (h2Server != null) {
+            h2Server.stop();
+        }
+        sdkHttpClient.close();
+        client.close();
+        eventLoopGroup.eventLoopGroup().shutdownGracefully().await();
+    }
+
+    private static void verifyTransport(SdkEventLoopGroup eventLoopGroup, TransportType transportType) {
+        Channel channel = eventLoopGroup.channelFactory().newChannel();
+        String channelClass = channel.getClass().getSimpleName();
+        channel.unsafe().closeForcibly();
+
+        if (!channelClass.equals(EXPECTED_CHANNEL_CLASSES.get(transportType))) {
+            eventLoopGroup.eventLoopGroup().shutdownGracefully();
+            throw new IllegalStateException("The " + transportType + " transport is not available on this host, the client "
+                                            + "resolved " + channelClass + " instead of "
+                                            + EXPECTED_CHANNEL_CLASSES.get(transportType));
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(NettyClientTransportBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.core.async.ByteBufferAllocator;
+import software.amazon.awssdk.core.internal.async.ChunkBuffer;
+
+/**
+ * Measures the cost of re-chunking one request body, as done for every attempt of an async request with a checksum trailer
+ * or compression, with the heap and pooled allocators.
+ *
+ * <p>Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}, the bytes allocated per request body.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChunkBufferAllocationBenchmark {
+    private static final int CHUNK_SIZE = 128 * 1024;
+
+    @Param({"HEAP", "POOLED"})
+    private String allocatorType;
+
+    /**
+     * Request bodies smaller than a chunk are the common case for high request rates, and still needed a full chunk of
+     * scratch space before allocators were introduced.
+     */
+    @Param({"1024", "65536", "1048576"})
+    private int payloadSize;
+
+    /**
+     * The size of the buffers published by the request body, e.g. the default chunk size of a file request body.
+     */
+    @Param({"16384"})
+    private int inputBufferSize;
+
+    private ByteBufferAllocator allocator;
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        allocator = "POOLED".equals(allocatorType) ? ByteBufferAllocator.pooled() : ByteBufferAllocator.heap();
+        payload = new byte[payloadSize];
+    }
+
+    @Benchmark
+    public void chunkRequestBody(Blackhole blackhole) {
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder()
+                                             .bufferSize(CHUNK_SIZE)
+                                             .totalBytes(payloadSize)
+                                             .allocator(allocator)
+                                             .build();
+
+        for (int offset = 0; offset < payloadSize; offset += inputBufferSize) {
+            int length = Math.min(inputBufferSize, payloadSize - offset);
+            for (ByteBuffer chunk : chunkBuffer.split(ByteBuffer.wrap(payload, offset, length))) {
+                blackhole.consume(chunk);
+            }
+        }
+        chunkBuffer.getBufferedData().ifPresent(blackhole::consume);
+    }
+}
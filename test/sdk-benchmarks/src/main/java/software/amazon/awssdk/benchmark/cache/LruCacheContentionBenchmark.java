@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.utils.cache.ConcurrentLruCache;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+/**
+ * Measures lookups in a cache shared by many threads, as done for the per-scope token buckets of the retry strategies on every
+ * request, with {@link LruCache} and {@link ConcurrentLruCache}.
+ *
+ * <p>The benchmark runs with 64 threads; use {@code -t} to measure how throughput scales with fewer threads. A key space
+ * smaller than the cache size measures hits only, a larger one adds misses and evictions.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(64)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LruCacheContentionBenchmark {
+
+    @Param({"LRU", "CONCURRENT_LRU"})
+    private String cacheType;
+
+    @Param({"16", "128", "1024"})
+    private int keySpace;
+
+    @Param({"128"})
+    private int cacheSize;
+
+    private String[] keys;
+    private Function<String, Object> cache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        keys = new String[keySpace];
+        for (int i = 0; i < keySpace; i++) {
+            keys[i] = "scope-" + i;
+        }
+
+        if ("LRU".equals(cacheType)) {
+            LruCache<String, Object> lruCache = LruCache.<String, Object>builder(k -> new Object())
+                                                        .maxSize(cacheSize)
+                                                        .build();
+            cache = lruCache::get;
+        } else {
+            ConcurrentLruCache<String, Object> concurrentCache = ConcurrentLruCache.<String, Object>builder(k -> new Object())
+                                                                                   .maxSize(cacheSize)
+                                                                                   .build();
+            cache = concurrentCache::get;
+        }
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        blackhole.consume(cache.apply(keys[ThreadLocalRandom.current().nextInt(keySpace)]));
+    }
+}
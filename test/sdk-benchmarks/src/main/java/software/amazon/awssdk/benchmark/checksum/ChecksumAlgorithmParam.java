@@ -18,6 +18,7 @@ package software.amazon.awssdk.benchmark.checksum;
 import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.checksums.internal.CrcCloneOnMarkChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc64NvmeChecksum;
 import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
 import software.amazon.awssdk.crt.checksums.CRC32C;
 
@@ -31,6 +32,12 @@ public enum ChecksumAlgorithmParam {
         }
     },
     CRC64NVME(DefaultChecksumAlgorithm.CRC64NVME),
+    CRC64NVME_SDK(DefaultChecksumAlgorithm.CRC64NVME) {
+        @Override
+        public SdkChecksum createChecksum() {
+            return new CrcCloneOnMarkChecksum(SdkCrc64NvmeChecksum.create());
+        }
+    },
     SHA1(DefaultChecksumAlgorithm.SHA1),
     SHA256(DefaultChecksumAlgorithm.SHA256),
     SHA512(DefaultChecksumAlgorithm.SHA512),
@@ -49,7 +49,7 @@ public class CrtChecksumBenchmark {
                 "SZ_256_MB"})
         private BenchmarkSize chunkSize;
 
-        @Param({"CRC64NVME", "CRC32C_CRT"})
+        @Param({"CRC64NVME", "CRC64NVME_SDK", "CRC32C_CRT", "CRC32C"})
         private ChecksumAlgorithmParam algorithm;
 
         @Setup
@@ -72,7 +72,7 @@ public class CrtChecksumBenchmark {
         @Param({"SZ_512_KB", "SZ_1_MB", "SZ_2_MB"})
         private BenchmarkSize chunkSize;
 
-        @Param({"CRC64NVME", "CRC32C_CRT", "XXHASH64", "XXHASH3", "XXHASH128"})
+        @Param({"CRC64NVME", "CRC64NVME_SDK", "CRC32C_CRT", "CRC32C", "XXHASH64", "XXHASH3", "XXHASH128"})
         private ChecksumAlgorithmParam algorithm;
 
         private byte[] buffer;
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.benchmark.checksum;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -44,6 +45,8 @@ public class SdkChecksumBenchmark {
 
         private byte[] chunkData;
 
+        private ByteBuffer directChunkData;
+
         /**
          * The size of each chunk. 128KB is the chunk size used in AWS chunked encoding stream. Add other sizes as needed for
          * experiment.
@@ -58,13 +61,15 @@ public class SdkChecksumBenchmark {
         @Param({"SZ_8_MB", "SZ_32_MB"})
         private BenchmarkSize payloadSize;
 
-        @Param({"XXHASH64", "XXHASH3", "XXHASH128", "SHA512", "CRC32C", "CRC32", "CRC64NVME", "SHA1", "SHA256"})
+        @Param({"XXHASH64", "XXHASH3", "XXHASH128", "SHA512", "CRC32C", "CRC32", "CRC64NVME", "CRC64NVME_SDK", "SHA1",
+                 "SHA256"})
         private ChecksumAlgorithmParam checksumAlgorithmParam;
 
         @Setup
         public void setup() {
             checksum = checksumAlgorithmParam.createChecksum();
             chunkData = new byte[chunkSize.getBytes()];
+            directChunkData = ByteBuffer.allocateDirect(chunkSize.getBytes());
         }
     }
 
@@ -80,4 +85,20 @@ public class SdkChecksumBenchmark {
         }
         bh.consume(s.checksum.getChecksumBytes());
     }
+
+    /**
+     * Same as {@link #chunked}, with the chunks in direct buffers as they are received from the Netty and CRT HTTP clients.
+     */
+    @Benchmark
+    public void chunkedDirectBuffer(ChunkedState s, Blackhole bh) {
+        int chunkSize = s.chunkSize.getBytes();
+
+        int nChunks = s.payloadSize.getBytes() / chunkSize;
+
+        s.checksum = s.checksumAlgorithmParam.createChecksum();
+        for (int i = 0; i < nChunks; ++i) {
+            s.checksum.update(s.directChunkData.duplicate());
+        }
+        bh.consume(s.checksum.getChecksumBytes());
+    }
 }
\ No newline at end of file
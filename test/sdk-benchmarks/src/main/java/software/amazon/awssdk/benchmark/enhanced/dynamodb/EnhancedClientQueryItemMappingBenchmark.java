@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+/**
+ * Measures the cost of mapping a page of query results to items with the enhanced client, separately from the cost of
+ * unmarshalling the response.
+ *
+ * <p>Run with {@code -prof gc} and divide {@code gc.alloc.rate.norm} by {@code pageSize} to get the bytes allocated per
+ * item. {@code lowLevelQuery} is the baseline, the cost of returning the same page without mapping it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EnhancedClientQueryItemMappingBenchmark {
+    private static final V2ItemFactory ITEM_FACTORY = new V2ItemFactory();
+
+    @Benchmark
+    public void lowLevelQuery(TestState s, Blackhole bh) {
+        for (Map<String, AttributeValue> item : s.queryResponse.items()) {
+            bh.consume(item);
+        }
+    }
+
+    @Benchmark
+    public void enhancedQuery(TestState s, Blackhole bh) {
+        Page<?> page = s.table.query(QueryConditional.keyEqualTo(s.key)).iterator().next();
+        for (Object item : page.items()) {
+            bh.consume(item);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TestState {
+        @Param({"SMALL", "HUGE", "HUGE_FLAT"})
+        private TestItem testItem;
+
+        @Param({"100", "1000"})
+        private int pageSize;
+
+        /**
+         * The default extensions do not transform read items, and should cost no more per item than no extensions.
+         */
+        @Param({"DEFAULT", "NONE"})
+        private String extensions;
+
+        private final Key key = Key.builder().partitionValue("key").build();
+
+        private QueryResponse queryResponse;
+        private DynamoDbTable<?> table;
+
+        @Setup
+        public void setup(Blackhole bh) {
+            List<Map<String, AttributeValue>> items = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                items.add(testItem.itemSupplier.get());
+            }
+            queryResponse = QueryResponse.builder().items(items).count(pageSize).build();
+
+            DynamoDbEnhancedClient.Builder enhancedClientBuilder =
+                DynamoDbEnhancedClient.builder().dynamoDbClient(new V2TestDynamoDbQueryClient(bh, queryResponse));
+            if ("NONE".equals(extensions)) {
+                enhancedClientBuilder.extensions(Collections.emptyList());
+            }
+
+            table = enhancedClientBuilder.build().table(testItem.name(), testItem.tableSchema);
+        }
+    }
+
+    public enum TestItem {
+        SMALL(ITEM_FACTORY::small, V2ItemFactory.SMALL_BEAN_TABLE_SCHEMA),
+        HUGE(ITEM_FACTORY::huge, V2ItemFactory.HUGE_BEAN_TABLE_SCHEMA),
+        HUGE_FLAT(ITEM_FACTORY::hugeFlat, V2ItemFactory.HUGE_BEAN_FLAT_TABLE_SCHEMA);
+
+        private final Supplier<Map<String, AttributeValue>> itemSupplier;
+        private final TableSchema<?> tableSchema;
+
+        TestItem(Supplier<Map<String, AttributeValue>> itemSupplier, TableSchema<?> tableSchema) {
+            this.itemSupplier = itemSupplier;
+            this.tableSchema = tableSchema;
+        }
+    }
+}
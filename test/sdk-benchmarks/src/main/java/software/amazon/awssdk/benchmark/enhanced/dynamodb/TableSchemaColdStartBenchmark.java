@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Measures the time to create the table schema of a bean and convert a first item with it, in a fresh JVM, with the schema
+ * created through reflection at runtime and with the schema generated at compile time by the
+ * {@code dynamodb-enhanced-processor} annotation processor.
+ *
+ * <p>Each fork measures a single invocation, which is what a short-lived application, such as a Lambda function, pays on its
+ * first request.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1, batchSize = 1)
+@Fork(20)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableSchemaColdStartBenchmark {
+
+    @Benchmark
+    public Map<String, AttributeValue> reflectiveSchema() {
+        return firstItem(TableSchema.fromBean(ColdStartItem.class));
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> generatedSchema() {
+        return firstItem(TableSchemaColdStartBenchmark_ColdStartItemTableSchema.create());
+    }
+
+    private static Map<String, AttributeValue> firstItem(TableSchema<ColdStartItem> schema) {
+        ColdStartItem item = new ColdStartItem();
+        item.setId("id");
+        item.setSort(1L);
+        item.setName("name");
+        item.setCount(2);
+        item.setEnabled(true);
+        item.setTags(Arrays.asList("a", "b"));
+        return schema.itemToMap(item, true);
+    }
+
+    @DynamoDbBean
+    public static class ColdStartItem {
+        private String id;
+        private Long sort;
+        private String name;
+        private int count;
+        private boolean enabled;
+        private List<String> tags;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @DynamoDbSortKey
+        public Long getSort() {
+            return sort;
+        }
+
+        public void setSort(Long sort) {
+            this.sort = sort;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.retries;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.retries.internal.ratelimiter.RateLimiterTokenBucketStore;
+
+/**
+ * Measures the client-side rate limiter of the adaptive retry strategy when many threads send requests after the service
+ * started throttling, so that every request acquires a token from a rate limiter that is enabled.
+ *
+ * <p>With one scope, all threads share a rate limiter as with the default retry scope. With more scopes, requests are spread
+ * over rate limiters, as when the retry scope is set per table or bucket.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(64)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdaptiveRateLimiterBenchmark {
+
+    @Param({"1", "16"})
+    private int scopes;
+
+    private String[] scopeNames;
+    private RateLimiterTokenBucketStore store;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        store = RateLimiterTokenBucketStore.builder().build();
+        scopeNames = new String[scopes];
+        for (int i = 0; i < scopes; i++) {
+            scopeNames[i] = "scope-" + i;
+            store.tokenBucketForScope(scopeNames[i]).updateRateAfterThrottling();
+        }
+    }
+
+    @Benchmark
+    public void acquire(Blackhole blackhole) {
+        blackhole.consume(store.tokenBucketForScope(randomScope()).tryAcquire());
+    }
+
+    @Benchmark
+    public void acquireAndRecordSuccess(Blackhole blackhole) {
+        String scope = randomScope();
+        blackhole.consume(store.tokenBucketForScope(scope).tryAcquire());
+        blackhole.consume(store.tokenBucketForScope(scope).updateRateAfterSuccess());
+    }
+
+    private String randomScope() {
+        return scopeNames[ThreadLocalRandom.current().nextInt(scopes)];
+    }
+}
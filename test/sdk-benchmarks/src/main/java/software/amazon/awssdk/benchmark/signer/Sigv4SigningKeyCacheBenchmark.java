@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SigningKeyCache;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Measures signing key derivation when many tenants (distinct credentials) sign requests concurrently through a shared
+ * {@link SigningKeyCache}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(64)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Sigv4SigningKeyCacheBenchmark {
+
+    @Param({"10", "300", "1000"})
+    private int tenants;
+
+    @Param({"1024"})
+    private int cacheSize;
+
+    private AwsCredentialsIdentity[] credentials;
+    private CredentialScope[] scopes;
+    private SigningKeyCache cache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Instant now = Instant.now();
+        String[] regions = {"us-east-1", "us-west-2", "eu-west-1", "ap-southeast-2"};
+        credentials = new AwsCredentialsIdentity[tenants];
+        scopes = new CredentialScope[tenants];
+        for (int i = 0; i < tenants; i++) {
+            credentials[i] = AwsCredentialsIdentity.create("access" + i, "secret" + i);
+            scopes[i] = new CredentialScope(regions[i % regions.length], "dynamodb", now);
+        }
+        cache = SigningKeyCache.create(cacheSize);
+    }
+
+    @Benchmark
+    public void deriveSigningKey(Blackhole blackhole) {
+        int tenant = ThreadLocalRandom.current().nextInt(tenants);
+        blackhole.consume(SignerUtils.deriveSigningKey(credentials[tenant], scopes[tenant], cache));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A snapshot of the statistics of a cache, such as a {@link ConcurrentLruCache}.
+ */
+@SdkProtectedApi
+@Immutable
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long refreshCount;
+    private final Duration totalRefreshTime;
+
+    private CacheStats(Builder builder) {
+        this.hitCount = builder.hitCount;
+        this.missCount = builder.missCount;
+        this.evictionCount = builder.evictionCount;
+        this.refreshCount = builder.refreshCount;
+        this.totalRefreshTime = builder.totalRefreshTime;
+    }
+
+    /**
+     * The number of values returned from the cache without being loaded.
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * The number of values that were loaded because they were not in the cache.
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * The number of entries removed to keep the cache within its maximum size.
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * The number of values replaced by a background refresh.
+     */
+    public long refreshCount() {
+        return refreshCount;
+    }
+
+    /**
+     * The total time spent loading the values counted by {@link #refreshCount()}.
+     */
+    public Duration totalRefreshTime() {
+        return totalRefreshTime;
+    }
+
+    /**
+     * The average time spent loading a refreshed value, or zero if there were no refreshes.
+     */
+    public Duration averageRefreshTime() {
+        return refreshCount == 0 ? Duration.ZERO : totalRefreshTime.dividedBy(refreshCount);
+    }
+
+    /**
+     * The ratio of hits to requests, or 1.0 if there were no requests.
+     */
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("CacheStats")
+                       .add("hitCount", hitCount)
+                       .add("missCount", missCount)
+                       .add("evictionCount", evictionCount)
+                       .add("refreshCount", refreshCount)
+                       .add("totalRefreshTime", totalRefreshTime)
+                       .build();
+    }
+
+    public static final class Builder {
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+        private long refreshCount;
+        private Duration totalRefreshTime = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        public Builder hitCount(long hitCount) {
+            this.hitCount = hitCount;
+            return this;
+        }
+
+        public Builder missCount(long missCount) {
+            this.missCount = missCount;
+            return this;
+        }
+
+        public Builder evictionCount(long evictionCount) {
+            this.evictionCount = evictionCount;
+            return this;
+        }
+
+        public Builder refreshCount(long refreshCount) {
+            this.refreshCount = refreshCount;
+            return this;
+        }
+
+        public Builder totalRefreshTime(Duration totalRefreshTime) {
+            this.totalRefreshTime = Validate.paramNotNull(totalRefreshTime, "totalRefreshTime");
+            return this;
+        }
+
+        public CacheStats build() {
+            return new CacheStats(this);
+        }
+    }
+}
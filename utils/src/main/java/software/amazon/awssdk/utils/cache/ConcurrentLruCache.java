@@ -0,0 +1,344 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A thread-safe, bounded cache that returns the value for a specified key, retrieving it by either getting the stored value
+ * from the cache or using a supplied function to calculate that value and add it to the cache.
+ * <p>
+ * Unlike {@link software.amazon.awssdk.utils.cache.lru.LruCache}, a cache hit does not take any lock: it reads the entry from a
+ * {@link ConcurrentHashMap} and records the access in the entry itself. When the cache grows beyond its maximum size, one
+ * thread evicts entries by sampling a few of them and removing the least recently used of the sample. This approximates LRU
+ * eviction, and is exact when the cache holds no more entries than the sample size.
+ * <p>
+ * A value can optionally be refreshed in the background once it is older than {@link Builder#refreshAfter(Duration)}. The
+ * current value keeps being returned until the refreshed one replaces it.
+ * <p>
+ * Evicted values are not closed, because a value may still be in use by a thread that retrieved it just before it was
+ * evicted. Null values are accepted. Keys must not be null.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class ConcurrentLruCache<K, V> {
+
+    private static final Logger log = Logger.loggerFor(ConcurrentLruCache.class);
+
+    private static final int DEFAULT_SIZE = 100;
+    private static final int DEFAULT_SAMPLE_SIZE = 8;
+
+    private final ConcurrentHashMap<K, Node<V>> cache;
+    private final Function<K, V> valueSupplier;
+    private final int maxCacheSize;
+    private final int sampleSize;
+    private final Long refreshAfterNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+    private final boolean recordStats;
+
+    /**
+     * A logical clock that only advances when an entry is added, so that a cache hit only reads it. Hits between two misses
+     * share a tick, which does not matter for eviction: only the entries accessed since the last miss share it.
+     */
+    private final AtomicLong accessTick = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshNanos = new LongAdder();
+
+    /**
+     * The position of the eviction sampling in the cache, guarded by {@link #evictionLock}. Sampling continues where the
+     * previous eviction stopped so that all entries are eventually considered.
+     */
+    private Iterator<Map.Entry<K, Node<V>>> evictionCursor;
+
+    private ConcurrentLruCache(Builder<K, V> b) {
+        this.valueSupplier = Validate.paramNotNull(b.supplier, "supplier");
+        Integer customSize = Validate.isPositiveOrNull(b.maxSize, "maxSize");
+        this.maxCacheSize = customSize != null ? customSize : DEFAULT_SIZE;
+        Integer customSampleSize = Validate.isPositiveOrNull(b.sampleSize, "sampleSize");
+        this.sampleSize = customSampleSize != null ? customSampleSize : DEFAULT_SAMPLE_SIZE;
+        if (b.refreshAfter != null) {
+            Validate.isPositive(b.refreshAfter, "refreshAfter");
+            this.refreshAfterNanos = b.refreshAfter.toNanos();
+            this.refreshExecutor = Validate.paramNotNull(b.refreshExecutor, "refreshExecutor");
+        } else {
+            this.refreshAfterNanos = null;
+            this.refreshExecutor = null;
+        }
+        this.nanoClock = b.nanoClock != null ? b.nanoClock : System::nanoTime;
+        this.recordStats = Boolean.TRUE.equals(b.recordStats);
+        this.cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get a value based on the key. If the value exists in the cache, it's returned and its last access is updated.
+     * Otherwise, the value is calculated based on the supplied function {@link #builder(Function)}.
+     */
+    public V get(K key) {
+        Validate.paramNotNull(key, "key");
+        Node<V> node = cache.get(key);
+        if (node != null) {
+            if (recordStats) {
+                hits.increment();
+            }
+            node.recordAccess(accessTick.get());
+            refreshIfStale(key, node);
+            return node.value;
+        }
+        return getOrLoad(key);
+    }
+
+    private V getOrLoad(K key) {
+        boolean[] loaded = new boolean[1];
+        Node<V> node = cache.computeIfAbsent(key, k -> {
+            loaded[0] = true;
+            return newNode(k);
+        });
+        if (loaded[0]) {
+            if (recordStats) {
+                misses.increment();
+            }
+            evictIfNeeded();
+        } else {
+            if (recordStats) {
+                hits.increment();
+            }
+            node.recordAccess(accessTick.get());
+        }
+        return node.value;
+    }
+
+    private Node<V> newNode(K key) {
+        V value = valueSupplier.apply(key);
+        return new Node<>(value, accessTick.incrementAndGet(), nanoClock.getAsLong());
+    }
+
+    private void refreshIfStale(K key, Node<V> node) {
+        if (refreshAfterNanos == null
+            || nanoClock.getAsLong() - node.loadTimeNanos < refreshAfterNanos
+            || !node.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> refresh(key, node));
+        } catch (RuntimeException e) {
+            node.refreshing.set(false);
+            log.debug(() -> "Failed to schedule the refresh of a cached value.", e);
+        }
+    }
+
+    private void refresh(K key, Node<V> node) {
+        try {
+            long startNanos = nanoClock.getAsLong();
+            V value = valueSupplier.apply(key);
+            long loadTimeNanos = nanoClock.getAsLong();
+            Node<V> refreshed = new Node<>(value, node.lastAccess, loadTimeNanos);
+            if (cache.replace(key, node, refreshed) && recordStats) {
+                refreshes.increment();
+                refreshNanos.add(loadTimeNanos - startNanos);
+            }
+        } catch (RuntimeException e) {
+            log.debug(() -> "Failed to refresh a cached value, the current value will be kept.", e);
+        } finally {
+            node.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Evicts entries until the cache is back to its maximum size. Only one thread evicts at a time; other threads that find
+     * the cache too large while eviction is in progress leave the work to that thread, and check again once it is done in case
+     * their entry was added after it stopped.
+     */
+    private void evictIfNeeded() {
+        while (cache.size() > maxCacheSize && evictionLock.tryLock()) {
+            try {
+                while (cache.size() > maxCacheSize) {
+                    evictOne();
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evictOne() {
+        Map.Entry<K, Node<V>> victim = null;
+        int candidates = Math.min(sampleSize, cache.size());
+        for (int i = 0; i < candidates; i++) {
+            Map.Entry<K, Node<V>> candidate = nextEvictionCandidate();
+            if (candidate == null) {
+                break;
+            }
+            if (victim == null || candidate.getValue().lastAccess < victim.getValue().lastAccess) {
+                victim = candidate;
+            }
+        }
+        if (victim != null && cache.remove(victim.getKey(), victim.getValue()) && recordStats) {
+            evictions.increment();
+        }
+    }
+
+    private Map.Entry<K, Node<V>> nextEvictionCandidate() {
+        if (evictionCursor == null || !evictionCursor.hasNext()) {
+            evictionCursor = cache.entrySet().iterator();
+            if (!evictionCursor.hasNext()) {
+                return null;
+            }
+        }
+        return evictionCursor.next();
+    }
+
+    /**
+     * Removes the value for the given key from the cache, if present.
+     */
+    public void invalidate(K key) {
+        Validate.paramNotNull(key, "key");
+        cache.remove(key);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache. All counters are zero unless the cache was built with
+     * {@link Builder#recordStats(Boolean)} enabled.
+     */
+    public CacheStats stats() {
+        return CacheStats.builder()
+                         .hitCount(hits.sum())
+                         .missCount(misses.sum())
+                         .evictionCount(evictions.sum())
+                         .refreshCount(refreshes.sum())
+                         .totalRefreshTime(Duration.ofNanos(refreshNanos.sum()))
+                         .build();
+    }
+
+    public static <K, V> ConcurrentLruCache.Builder<K, V> builder(Function<K, V> supplier) {
+        return new Builder<>(supplier);
+    }
+
+    public static final class Builder<K, V> {
+
+        private final Function<K, V> supplier;
+        private Integer maxSize;
+        private Integer sampleSize;
+        private Duration refreshAfter;
+        private Executor refreshExecutor;
+        private Boolean recordStats;
+        private LongSupplier nanoClock;
+
+        private Builder(Function<K, V> supplier) {
+            this.supplier = supplier;
+        }
+
+        /**
+         * The maximum number of entries of the cache. Defaults to 100.
+         */
+        public Builder<K, V> maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * The number of entries compared to select the one to evict. Larger samples approximate LRU more closely at the cost
+         * of slower evictions. Defaults to 8.
+         */
+        public Builder<K, V> sampleSize(Integer sampleSize) {
+            this.sampleSize = sampleSize;
+            return this;
+        }
+
+        /**
+         * The age after which a value is reloaded in the background the next time it is retrieved. By default, values are
+         * never refreshed. When set, {@link #refreshExecutor(Executor)} must also be set.
+         */
+        public Builder<K, V> refreshAfter(Duration refreshAfter) {
+            this.refreshAfter = refreshAfter;
+            return this;
+        }
+
+        /**
+         * The executor used to reload values in the background.
+         */
+        public Builder<K, V> refreshExecutor(Executor refreshExecutor) {
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        /**
+         * Whether hits, misses, evictions and refreshes are counted and reported by {@link ConcurrentLruCache#stats()}.
+         * Defaults to false.
+         */
+        public Builder<K, V> recordStats(Boolean recordStats) {
+            this.recordStats = recordStats;
+            return this;
+        }
+
+        @SdkTestInternalApi
+        Builder<K, V> nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public ConcurrentLruCache<K, V> build() {
+            return new ConcurrentLruCache<>(this);
+        }
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        private final long loadTimeNanos;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long lastAccess;
+
+        private Node(V value, long lastAccess, long loadTimeNanos) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+            this.loadTimeNanos = loadTimeNanos;
+        }
+
+        /**
+         * Records an access, only writing to the entry when the tick changed so that repeated hits on a hot entry do not keep
+         * invalidating the cache line it is on.
+         */
+        void recordAccess(long tick) {
+            if (lastAccess != tick) {
+                lastAccess = tick;
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentLruCacheTest {
+
+    @Test
+    void get_cacheMiss_valueIsCalculatedAndCached() {
+        CountingSupplier supplier = new CountingSupplier();
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(supplier).maxSize(3).build();
+
+        assertThat(cache.get(1)).isEqualTo("1");
+        assertThat(cache.get(1)).isEqualTo("1");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(supplier.calls(1)).isEqualTo(1);
+    }
+
+    @Test
+    void get_cacheFull_leastRecentlyUsedValueIsEvicted() {
+        CountingSupplier supplier = new CountingSupplier();
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(supplier).maxSize(3).build();
+        cache.get(0);
+        cache.get(1);
+        cache.get(2);
+
+        // 0 becomes the most recently used, so 1 is evicted
+        cache.get(0);
+        cache.get(3);
+
+        assertThat(cache.size()).isEqualTo(3);
+        cache.get(0);
+        cache.get(2);
+        cache.get(3);
+        assertThat(supplier.calls(0)).isEqualTo(1);
+        assertThat(supplier.calls(2)).isEqualTo(1);
+        cache.get(1);
+        assertThat(supplier.calls(1)).isEqualTo(2);
+    }
+
+    @Test
+    void get_cacheLargerThanSample_staysWithinMaxSize() {
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(new CountingSupplier())
+                                                                      .maxSize(100)
+                                                                      .sampleSize(4)
+                                                                      .build();
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.get(i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+    }
+
+    @Test
+    void get_hotKeyWithMoreKeysThanMaxSize_hotKeyIsNotEvicted() {
+        CountingSupplier supplier = new CountingSupplier();
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(supplier).maxSize(16).build();
+
+        for (int i = 1; i < 1_000; i++) {
+            cache.get(0);
+            cache.get(i);
+        }
+
+        assertThat(supplier.calls(0)).isEqualTo(1);
+    }
+
+    @Test
+    void get_nullValue_isCached() {
+        AtomicInteger calls = new AtomicInteger();
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.<Integer, String>builder(k -> {
+            calls.incrementAndGet();
+            return null;
+        }).build();
+
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(1)).isNull();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void get_nullKey_throws() {
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(new CountingSupplier()).build();
+
+        assertThatThrownBy(() -> cache.get(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void invalidate_removesValue() {
+        CountingSupplier supplier = new CountingSupplier();
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(supplier).build();
+        cache.get(1);
+
+        cache.invalidate(1);
+        cache.get(1);
+
+        assertThat(supplier.calls(1)).isEqualTo(2);
+    }
+
+    @Test
+    void stats_recordStatsEnabled_countsHitsMissesAndEvictions() {
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(new CountingSupplier())
+                                                                      .maxSize(2)
+                                                                      .recordStats(true)
+                                                                      .build();
+        cache.get(1);
+        cache.get(1);
+        cache.get(2);
+        cache.get(3);
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(3);
+        assertThat(stats.evictionCount()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    void stats_recordStatsDisabled_isEmpty() {
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(new CountingSupplier()).build();
+        cache.get(1);
+        cache.get(1);
+
+        assertThat(cache.stats().hitCount()).isZero();
+        assertThat(cache.stats().missCount()).isZero();
+    }
+
+    @Test
+    void get_valueOlderThanRefreshAfter_isRefreshedInBackgroundAndStaleValueReturned() {
+        AtomicLong now = new AtomicLong();
+        AtomicInteger version = new AtomicInteger();
+        List<Runnable> scheduled = new ArrayList<>();
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.<Integer, String>builder(k -> k + "-v" + version.get())
+                                                                      .refreshAfter(Duration.ofSeconds(10))
+                                                                      .refreshExecutor(scheduled::add)
+                                                                      .nanoClock(now::get)
+                                                                      .recordStats(true)
+                                                                      .build();
+        assertThat(cache.get(1)).isEqualTo("1-v0");
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(cache.get(1)).isEqualTo("1-v0");
+        assertThat(scheduled).isEmpty();
+
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+        version.set(1);
+        assertThat(cache.get(1)).isEqualTo("1-v0");
+        assertThat(cache.get(1)).isEqualTo("1-v0");
+        assertThat(scheduled).hasSize(1);
+
+        scheduled.get(0).run();
+        assertThat(cache.get(1)).isEqualTo("1-v1");
+        assertThat(cache.stats().refreshCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_refreshFails_keepsCurrentValue() {
+        AtomicLong now = new AtomicLong();
+        AtomicInteger calls = new AtomicInteger();
+        List<Runnable> scheduled = new ArrayList<>();
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.<Integer, String>builder(k -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new IllegalStateException("refresh failed");
+            }
+            return "value";
+        }).refreshAfter(Duration.ofSeconds(1)).refreshExecutor(scheduled::add).nanoClock(now::get).build();
+        cache.get(1);
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        cache.get(1);
+        scheduled.get(0).run();
+
+        assertThat(cache.get(1)).isEqualTo("value");
+        assertThat(scheduled).hasSize(2);
+    }
+
+    @Test
+    void build_refreshAfterWithoutExecutor_throws() {
+        assertThatThrownBy(() -> ConcurrentLruCache.builder(new CountingSupplier())
+                                                   .refreshAfter(Duration.ofSeconds(1))
+                                                   .build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("refreshExecutor");
+    }
+
+    @Test
+    void get_concurrentAccess_staysWithinMaxSizeAndLoadsEachKeyOnceWhileCached() throws Exception {
+        int threads = 16;
+        CountingSupplier supplier = new CountingSupplier();
+        ConcurrentLruCache<Integer, String> cache = ConcurrentLruCache.builder(supplier).maxSize(64).build();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 10_000; i++) {
+                        int key = ThreadLocalRandom.current().nextInt(128);
+                        assertThat(cache.get(key)).isEqualTo(Integer.toString(key));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+    }
+
+    private static final class CountingSupplier implements Function<Integer, String> {
+        private final ConcurrentHashMap<Integer, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+        @Override
+        public String apply(Integer key) {
+            calls.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            return Integer.toString(key);
+        }
+
+        int calls(int key) {
+            AtomicInteger count = calls.get(key);
+            return count == null ? 0 : count.get();
+        }
+    }
+}